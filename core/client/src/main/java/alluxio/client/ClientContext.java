@@ -14,6 +14,7 @@ package alluxio.client;
 import alluxio.Configuration;
 import alluxio.PropertyKey;
 import alluxio.metrics.MetricsSystem;
+import alluxio.util.network.NettyBufferPool;
 
 import com.google.common.base.Preconditions;
 
@@ -47,6 +48,7 @@ public final class ClientContext {
     int masterPort = Configuration.getInt(PropertyKey.MASTER_RPC_PORT);
     sMasterAddress = new InetSocketAddress(masterHostname, masterPort);
 
+    NettyBufferPool.registerGauges(MetricsSystem.CLIENT_INSTANCE);
     MetricsSystem.startSinks();
   }
 
@@ -20,6 +20,7 @@ import com.google.common.base.Throwables;
 import java.io.Closeable;
 import java.io.IOException;
 import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
 
 /**
  * The interface to write a remote block to the data server.
@@ -68,4 +69,13 @@ public interface RemoteBlockWriter extends Closeable {
    * @throws IOException when the operation fails
    */
   void write(byte[] bytes, int offset, int length) throws IOException;
+
+  /**
+   * Writes data to the remote block. The data is read from the position to the limit of the
+   * buffer, and the buffer may be reused by the caller as soon as this method returns.
+   *
+   * @param buffer the buffer containing the source data
+   * @throws IOException when the operation fails
+   */
+  void write(ByteBuffer buffer) throws IOException;
 }
@@ -0,0 +1,85 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.client.block;
+
+import alluxio.wire.BlockInfo;
+import alluxio.wire.FileBlockInfo;
+import alluxio.wire.WorkerNetAddress;
+
+import com.google.common.base.Preconditions;
+import com.google.common.net.HostAndPort;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Plans which worker loads each block of a load operation, so that the blocks are read from the
+ * under file system by many workers in parallel.
+ *
+ * A block already stored by a worker is assigned to that worker. Other blocks are assigned to a
+ * worker on a host storing the block in the under file system if there is one, otherwise to any
+ * worker. Among the candidate workers, the one with the most available bytes, once the blocks
+ * already assigned to it are accounted for, is chosen.
+ */
+@NotThreadSafe
+public final class BlockLoadPlanner {
+  private final List<BlockWorkerInfo> mWorkers;
+  /** The available bytes of each worker, minus the bytes of the blocks assigned to it. */
+  private final long[] mAvailableBytes;
+
+  /**
+   * Creates a new instance of {@link BlockLoadPlanner}.
+   *
+   * @param workers the workers which can load blocks
+   */
+  public BlockLoadPlanner(List<BlockWorkerInfo> workers) {
+    Preconditions.checkArgument(!workers.isEmpty(), "There is no worker to load blocks");
+    mWorkers = new ArrayList<>(workers);
+    mAvailableBytes = new long[mWorkers.size()];
+    for (int i = 0; i < mWorkers.size(); i++) {
+      mAvailableBytes[i] = mWorkers.get(i).getCapacityBytes() - mWorkers.get(i).getUsedBytes();
+    }
+  }
+
+  /**
+   * Assigns a block to a worker.
+   *
+   * @param block the block to load
+   * @return the address of the worker which should load the block
+   */
+  public WorkerNetAddress assign(FileBlockInfo block) {
+    BlockInfo blockInfo = block.getBlockInfo();
+    if (!blockInfo.getLocations().isEmpty()) {
+      return blockInfo.getLocations().get(0).getWorkerAddress();
+    }
+    Set<String> ufsHosts = new HashSet<>();
+    for (String location : block.getUfsLocations()) {
+      ufsHosts.add(HostAndPort.fromString(location).getHostText());
+    }
+    int chosen = -1;
+    boolean chosenIsLocal = false;
+    for (int i = 0; i < mWorkers.size(); i++) {
+      boolean local = ufsHosts.contains(mWorkers.get(i).getNetAddress().getHost());
+      if (chosen == -1 || (local && !chosenIsLocal)
+          || (local == chosenIsLocal && mAvailableBytes[i] > mAvailableBytes[chosen])) {
+        chosen = i;
+        chosenIsLocal = local;
+      }
+    }
+    mAvailableBytes[chosen] -= blockInfo.getLength();
+    return mWorkers.get(chosen).getNetAddress();
+  }
+}
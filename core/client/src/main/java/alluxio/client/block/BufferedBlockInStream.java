@@ -15,8 +15,10 @@ import alluxio.Configuration;
 import alluxio.PropertyKey;
 import alluxio.exception.PreconditionMessage;
 import alluxio.util.io.BufferUtils;
+import alluxio.util.network.NettyBufferPool;
 
 import com.google.common.base.Preconditions;
+import io.netty.buffer.ByteBuf;
 
 import java.io.IOException;
 import java.io.InputStream;
@@ -28,6 +30,8 @@ import javax.annotation.concurrent.NotThreadSafe;
  * Provides a stream API to read a block from Alluxio. An instance extending this class can be
  * obtained by calling {@link AlluxioBlockStore#getInStream}. The buffer size of the stream can be
  * set through configuration. Multiple {@link BufferedBlockInStream}s can be opened for a block.
+ * The buffer is acquired from the {@link NettyBufferPool} and returned to it when the stream is
+ * closed, so implementations must call {@link #releaseBuffer()} if they override {@link #close()}.
  *
  * This class provides the same methods as a Java {@link InputStream} with additional methods from
  * Alluxio Stream interfaces.
@@ -44,6 +48,9 @@ public abstract class BufferedBlockInStream extends BlockInStream {
   /** The size in bytes of the block. */
   protected final long mBlockSize;
 
+  /** The pooled buffer backing {@link #mBuffer}, null once it is released. */
+  private ByteBuf mPooledBuffer;
+
   /** Internal buffer to improve small read performance. */
   protected ByteBuffer mBuffer;
   /** Flag indicating if the stream is closed, can only go from false to true. */
@@ -62,7 +69,8 @@ public abstract class BufferedBlockInStream extends BlockInStream {
   public BufferedBlockInStream(long blockId, long blockSize) {
     mBlockId = blockId;
     mBlockSize = blockSize;
-    mBuffer = allocateBuffer();
+    mPooledBuffer = allocateBuffer();
+    mBuffer = mPooledBuffer.nioBuffer(0, mPooledBuffer.capacity());
     mBufferIsValid = false; // No data in buffer
     mClosed = false;
     mBlockIsRead = false;
@@ -73,6 +81,7 @@ public abstract class BufferedBlockInStream extends BlockInStream {
     if (mClosed) {
       return;
     }
+    releaseBuffer();
     mClosed = true;
   }
 
@@ -168,6 +177,25 @@ public abstract class BufferedBlockInStream extends BlockInStream {
     return mPos;
   }
 
+  /**
+   * @return whether {@link #mBuffer} is the buffer acquired from the pool
+   */
+  protected boolean isBufferPooled() {
+    return mPooledBuffer != null;
+  }
+
+  /**
+   * Returns the pooled buffer backing {@link #mBuffer} to the pool. After this call,
+   * {@link #mBuffer} must not be accessed until it is replaced. Calling this method more than
+   * once has no effect.
+   */
+  protected void releaseBuffer() {
+    if (mPooledBuffer != null) {
+      NettyBufferPool.release(mPooledBuffer);
+      mPooledBuffer = null;
+    }
+  }
+
   /**
    * Reads from the data source into the buffer. The buffer should be at position 0 and have len
    * valid bytes available after this method is called. This method should not modify mBufferPos,
@@ -202,10 +230,10 @@ public abstract class BufferedBlockInStream extends BlockInStream {
    * Initializes the internal buffer based on the user's specified size. Any reads above half
    * this size will not be buffered.
    *
-   * @return a heap buffer of user configured size
+   * @return a pooled buffer of user configured size
    */
-  private ByteBuffer allocateBuffer() {
-    return ByteBuffer.allocate(
+  private ByteBuf allocateBuffer() {
+    return NettyBufferPool.acquire(
         (int) Configuration.getBytes(PropertyKey.USER_BLOCK_REMOTE_READ_BUFFER_SIZE_BYTES));
   }
 
@@ -16,8 +16,10 @@ import alluxio.PropertyKey;
 import alluxio.client.Cancelable;
 import alluxio.exception.PreconditionMessage;
 import alluxio.util.io.BufferUtils;
+import alluxio.util.network.NettyBufferPool;
 
 import com.google.common.base.Preconditions;
+import io.netty.buffer.ByteBuf;
 
 import java.io.IOException;
 import java.io.OutputStream;
@@ -36,6 +38,10 @@ import javax.annotation.concurrent.NotThreadSafe;
  * Alluxio worker and the user has enabled this optimization. Otherwise,
  * {@link RemoteBlockOutStream} will be returned which will write the data through an Alluxio
  * worker.
+ *
+ * <p>
+ * The buffer of the stream is acquired from the {@link NettyBufferPool}. Implementations must
+ * return it through {@link #releaseBuffer()} when the stream is closed or canceled.
  */
 @NotThreadSafe
 public abstract class BufferedBlockOutStream extends OutputStream implements Cancelable {
@@ -45,7 +51,9 @@ public abstract class BufferedBlockOutStream extends OutputStream implements Can
   protected final long mBlockSize;
   /** Block store context. */
   protected final BlockStoreContext mContext;
-  /** Java heap buffer to store writes before flushing them to the backing store. */
+  /** The pooled buffer backing {@link #mBuffer}, null once it is released. */
+  private ByteBuf mPooledBuffer;
+  /** Off-heap buffer to store writes before flushing them to the backing store. */
   protected final ByteBuffer mBuffer;
 
   /** If the stream is closed, this can only go from false to true. */
@@ -65,7 +73,8 @@ public abstract class BufferedBlockOutStream extends OutputStream implements Can
   public BufferedBlockOutStream(long blockId, long blockSize, BlockStoreContext blockStoreContext) {
     mBlockId = blockId;
     mBlockSize = blockSize;
-    mBuffer = allocateBuffer();
+    mPooledBuffer = allocateBuffer();
+    mBuffer = mPooledBuffer.nioBuffer(0, mPooledBuffer.capacity());
     mClosed = false;
     mContext = blockStoreContext;
   }
@@ -127,6 +136,17 @@ public abstract class BufferedBlockOutStream extends OutputStream implements Can
     Preconditions.checkState(!mClosed, PreconditionMessage.ERR_CLOSED_BLOCK_OUT_STREAM);
   }
 
+  /**
+   * Returns the pooled buffer backing {@link #mBuffer} to the pool. After this call,
+   * {@link #mBuffer} must not be accessed. Calling this method more than once has no effect.
+   */
+  protected void releaseBuffer() {
+    if (mPooledBuffer != null) {
+      NettyBufferPool.release(mPooledBuffer);
+      mPooledBuffer = null;
+    }
+  }
+
   /**
    * Writes the data in the byte array directly to the backing store. This should only be used for
    * writes which would not be able to be buffered.
@@ -139,9 +159,10 @@ public abstract class BufferedBlockOutStream extends OutputStream implements Can
   protected abstract void unBufferedWrite(byte[] b, int off, int len) throws IOException;
 
   /**
-   * @return a newly allocated byte buffer of the user defined default size
+   * @return a pooled buffer of the user defined default size
    */
-  private ByteBuffer allocateBuffer() {
-    return ByteBuffer.allocate((int) Configuration.getBytes(PropertyKey.USER_FILE_BUFFER_BYTES));
+  private ByteBuf allocateBuffer() {
+    return NettyBufferPool.acquire(
+        (int) Configuration.getBytes(PropertyKey.USER_FILE_BUFFER_BYTES));
   }
 }
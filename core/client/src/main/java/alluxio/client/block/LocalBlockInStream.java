@@ -67,6 +67,7 @@ public final class LocalBlockInStream extends BufferedBlockInStream {
       mCloser.register(mReader);
     } catch (IOException e) {
       mContext.releaseWorkerClient(mBlockWorkerClient);
+      releaseBuffer();
       throw e;
     }
   }
@@ -91,9 +92,7 @@ public final class LocalBlockInStream extends BufferedBlockInStream {
     } finally {
       mContext.releaseWorkerClient(mBlockWorkerClient);
       mCloser.close();
-      if (mBuffer != null && mBuffer.isDirect()) {
-        BufferUtils.cleanDirectBuffer(mBuffer);
-      }
+      cleanBuffer();
     }
 
     mClosed = true;
@@ -101,9 +100,7 @@ public final class LocalBlockInStream extends BufferedBlockInStream {
 
   @Override
   protected void bufferedRead(int len) throws IOException {
-    if (mBuffer.isDirect()) { // Buffer may not be direct on initialization
-      BufferUtils.cleanDirectBuffer(mBuffer);
-    }
+    cleanBuffer();
     mBuffer = mReader.read(getPosition(), len);
   }
 
@@ -120,6 +117,18 @@ public final class LocalBlockInStream extends BufferedBlockInStream {
     Metrics.BYTES_READ_LOCAL.inc(bytes);
   }
 
+  /**
+   * Releases the current buffer. The buffer is the pooled buffer on initialization, and a buffer
+   * mapped from the block file after the first buffered read.
+   */
+  private void cleanBuffer() {
+    if (isBufferPooled()) {
+      releaseBuffer();
+    } else if (mBuffer != null && mBuffer.isDirect()) {
+      BufferUtils.cleanDirectBuffer(mBuffer);
+    }
+  }
+
   /**
    * Class that contains metrics about LocalBlockInStream.
    */
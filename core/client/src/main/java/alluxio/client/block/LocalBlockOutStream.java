@@ -59,6 +59,7 @@ public final class LocalBlockOutStream extends BufferedBlockOutStream {
       BlockStoreContext blockStoreContext) throws IOException {
     super(blockId, blockSize, blockStoreContext);
     if (!NetworkAddressUtils.getLocalHostName().equals(workerNetAddress.getHost())) {
+      releaseBuffer();
       throw new IOException(ExceptionMessage.NO_LOCAL_WORKER.getMessage(workerNetAddress));
     }
 
@@ -73,6 +74,7 @@ public final class LocalBlockOutStream extends BufferedBlockOutStream {
       mCloser.register(mWriter);
     } catch (IOException e) {
       mContext.releaseWorkerClient(mBlockWorkerClient);
+      releaseBuffer();
       throw e;
     }
   }
@@ -147,10 +149,11 @@ public final class LocalBlockOutStream extends BufferedBlockOutStream {
   }
 
   /**
-   * Releases {@link #mBlockWorkerClient} and sets {@link #mClosed} to true.
+   * Releases {@link #mBlockWorkerClient} and the buffer, and sets {@link #mClosed} to true.
    */
   private void releaseAndClose() {
     mContext.releaseWorkerClient(mBlockWorkerClient);
+    releaseBuffer();
     mClosed = true;
   }
 
@@ -71,6 +71,7 @@ public final class RemoteBlockInStream extends BufferedBlockInStream {
       mLockId = result.getLockId();
     } catch (IOException e) {
       mContext.releaseWorkerClient(mBlockWorkerClient);
+      releaseBuffer();
       throw e;
     }
   }
@@ -94,6 +95,7 @@ public final class RemoteBlockInStream extends BufferedBlockInStream {
       mBlockWorkerClient.unlockBlock(mBlockId);
     } finally {
       mContext.releaseWorkerClient(mBlockWorkerClient);
+      releaseBuffer();
     }
     mClosed = true;
   }
@@ -101,13 +103,14 @@ public final class RemoteBlockInStream extends BufferedBlockInStream {
   @Override
   protected void bufferedRead(int len) throws IOException {
     mBuffer.clear();
-    int bytesRead = readFromRemote(mBuffer.array(), 0, len);
-    mBuffer.limit(bytesRead);
+    mBuffer.limit(len);
+    readFromRemote(mBuffer);
+    mBuffer.flip();
   }
 
   @Override
   protected int directRead(byte[] b, int off, int len) throws IOException {
-    return readFromRemote(b, off, len);
+    return readFromRemote(ByteBuffer.wrap(b, off, len));
   }
 
   /**
@@ -128,27 +131,26 @@ public final class RemoteBlockInStream extends BufferedBlockInStream {
   }
 
   /**
-   * Reads a portion of the block from the remote worker.
+   * Reads a portion of the block from the remote worker. The data is copied directly from the
+   * network buffer into the target buffer.
    *
-   * @param b the byte array to write the data to
-   * @param off the offset in the array to write to
-   * @param len the length of data to write into the array
+   * @param target the buffer to write the data to, from its position up to its limit
    * @return the number of bytes successfully read
    * @throws IOException if an error occurs reading the data
    */
-  private int readFromRemote(byte[] b, int off, int len) throws IOException {
-    // We read at most len bytes, but if mPos + len exceeds the length of the block, we only
-    // read up to the end of the block.
-    int toRead = (int) Math.min(len, remaining());
+  private int readFromRemote(ByteBuffer target) throws IOException {
+    // We read at most target.remaining() bytes, but if mPos + len exceeds the length of the block,
+    // we only read up to the end of the block.
+    int toRead = (int) Math.min(target.remaining(), remaining());
     int bytesLeft = toRead;
     while (bytesLeft > 0) {
       // TODO(calvin): Fix needing to recreate reader each time.
       try (RemoteBlockReader reader = RemoteBlockReader.Factory.create()) {
-        ByteBuffer data = reader.readRemoteBlock(mWorkerInetSocketAddress, mBlockId, getPosition(),
-            bytesLeft, mLockId, mBlockWorkerClient.getSessionId());
-        int bytesRead = data.remaining();
-        data.get(b, off, bytesRead);
-        bytesLeft -= bytesRead;
+        ByteBuffer data = reader.readRemoteBlock(mWorkerInetSocketAddress, mBlockId,
+            getPosition() + toRead - bytesLeft, bytesLeft, mLockId,
+            mBlockWorkerClient.getSessionId());
+        bytesLeft -= data.remaining();
+        target.put(data);
       }
     }
 
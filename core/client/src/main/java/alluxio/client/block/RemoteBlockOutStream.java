@@ -53,6 +53,7 @@ public final class RemoteBlockOutStream extends BufferedBlockOutStream {
           mBlockWorkerClient.getSessionId());
     } catch (IOException e) {
       mContext.releaseWorkerClient(mBlockWorkerClient);
+      releaseBuffer();
       throw e;
     }
   }
@@ -101,7 +102,13 @@ public final class RemoteBlockOutStream extends BufferedBlockOutStream {
 
   @Override
   public void flush() throws IOException {
-    writeToRemoteBlock(mBuffer.array(), 0, mBuffer.position());
+    int len = mBuffer.position();
+    if (len > 0) {
+      mBuffer.flip();
+      mRemoteWriter.write(mBuffer);
+      mFlushedBytes += len;
+      Metrics.BYTES_WRITTEN_REMOTE.inc(len);
+    }
     mBuffer.clear();
   }
 
@@ -117,10 +124,11 @@ public final class RemoteBlockOutStream extends BufferedBlockOutStream {
   }
 
   /**
-   * Releases {@link #mBlockWorkerClient} and sets {@link #mClosed} to true.
+   * Releases {@link #mBlockWorkerClient} and the buffer, and sets {@link #mClosed} to true.
    */
   private void releaseAndClose() {
     mContext.releaseWorkerClient(mBlockWorkerClient);
+    releaseBuffer();
     mClosed = true;
   }
 
@@ -33,12 +33,17 @@ import alluxio.exception.ExceptionMessage;
 import alluxio.exception.FileAlreadyExistsException;
 import alluxio.exception.FileDoesNotExistException;
 import alluxio.exception.InvalidPathException;
+import alluxio.wire.BatchResult;
+import alluxio.wire.ContentSummary;
+import alluxio.wire.LoadMetadataType;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import javax.annotation.concurrent.ThreadSafe;
@@ -103,6 +108,33 @@ public class BaseFileSystem implements FileSystem {
     return new FileOutStream(path, options.toOutStreamOptions());
   }
 
+  @Override
+  public List<BatchResult<FileOutStream>> createFileBatch(List<AlluxioURI> paths,
+      CreateFileOptions options) throws IOException, AlluxioException {
+    List<BatchResult<URIStatus>> created;
+    FileSystemMasterClient masterClient = mFileSystemContext.acquireMasterClient();
+    try {
+      created = masterClient.createFileBatch(paths, Collections.nCopies(paths.size(), options));
+      LOG.debug("Created a batch of {} files", paths.size());
+    } finally {
+      mFileSystemContext.releaseMasterClient(masterClient);
+    }
+    List<BatchResult<FileOutStream>> results = new ArrayList<>(paths.size());
+    for (int i = 0; i < paths.size(); i++) {
+      if (!created.get(i).isSuccess()) {
+        results.add(created.get(i).<FileOutStream>withValue(null));
+        continue;
+      }
+      try {
+        results.add(BatchResult.success(
+            new FileOutStream(paths.get(i), options.toOutStreamOptions())));
+      } catch (IOException e) {
+        results.add(BatchResult.<FileOutStream>failure(e));
+      }
+    }
+    return results;
+  }
+
   @Override
   public void delete(AlluxioURI path)
       throws DirectoryNotEmptyException, FileDoesNotExistException, IOException, AlluxioException {
@@ -121,6 +153,19 @@ public class BaseFileSystem implements FileSystem {
     }
   }
 
+  @Override
+  public List<BatchResult<Void>> deleteBatch(List<AlluxioURI> paths, DeleteOptions options)
+      throws IOException, AlluxioException {
+    FileSystemMasterClient masterClient = mFileSystemContext.acquireMasterClient();
+    try {
+      List<BatchResult<Void>> results = masterClient.deleteBatch(paths, options);
+      LOG.debug("Deleted a batch of {} paths", paths.size());
+      return results;
+    } finally {
+      mFileSystemContext.releaseMasterClient(masterClient);
+    }
+  }
+
   @Override
   public boolean exists(AlluxioURI path)
       throws InvalidPathException, IOException, AlluxioException {
@@ -130,6 +175,9 @@ public class BaseFileSystem implements FileSystem {
   @Override
   public boolean exists(AlluxioURI path, ExistsOptions options)
       throws InvalidPathException, IOException, AlluxioException {
+    if (callStandby(new GetStatusCall(path)) != null) {
+      return true;
+    }
     FileSystemMasterClient masterClient = mFileSystemContext.acquireMasterClient();
     try {
       // TODO(calvin): Make this more efficient
@@ -162,6 +210,19 @@ public class BaseFileSystem implements FileSystem {
     }
   }
 
+  @Override
+  public ContentSummary getContentSummary(AlluxioURI path)
+      throws FileDoesNotExistException, IOException, AlluxioException {
+    FileSystemMasterClient masterClient = mFileSystemContext.acquireMasterClient();
+    try {
+      return masterClient.getContentSummary(path);
+    } catch (FileDoesNotExistException | InvalidPathException e) {
+      throw new FileDoesNotExistException(ExceptionMessage.PATH_DOES_NOT_EXIST.getMessage(path));
+    } finally {
+      mFileSystemContext.releaseMasterClient(masterClient);
+    }
+  }
+
   @Override
   public URIStatus getStatus(AlluxioURI path)
       throws FileDoesNotExistException, IOException, AlluxioException {
@@ -171,6 +232,10 @@ public class BaseFileSystem implements FileSystem {
   @Override
   public URIStatus getStatus(AlluxioURI path, GetStatusOptions options)
       throws FileDoesNotExistException, IOException, AlluxioException {
+    URIStatus status = callStandby(new GetStatusCall(path));
+    if (status != null) {
+      return status;
+    }
     FileSystemMasterClient masterClient = mFileSystemContext.acquireMasterClient();
     try {
       return masterClient.getStatus(path);
@@ -181,6 +246,30 @@ public class BaseFileSystem implements FileSystem {
     }
   }
 
+  @Override
+  public List<BatchResult<URIStatus>> getStatusBatch(List<AlluxioURI> paths)
+      throws IOException, AlluxioException {
+    List<BatchResult<URIStatus>> statuses;
+    FileSystemMasterClient masterClient = mFileSystemContext.acquireMasterClient();
+    try {
+      statuses = masterClient.getStatusBatch(paths);
+    } finally {
+      mFileSystemContext.releaseMasterClient(masterClient);
+    }
+    // Report the paths which cannot be found like getStatus does.
+    List<BatchResult<URIStatus>> results = new ArrayList<>(paths.size());
+    for (int i = 0; i < paths.size(); i++) {
+      Exception e = statuses.get(i).getException();
+      if (e instanceof FileDoesNotExistException || e instanceof InvalidPathException) {
+        results.add(BatchResult.<URIStatus>failure(new FileDoesNotExistException(
+            ExceptionMessage.PATH_DOES_NOT_EXIST.getMessage(paths.get(i)))));
+      } else {
+        results.add(statuses.get(i));
+      }
+    }
+    return results;
+  }
+
   @Override
   public List<URIStatus> listStatus(AlluxioURI path)
       throws FileDoesNotExistException, IOException, AlluxioException {
@@ -188,8 +277,20 @@ public class BaseFileSystem implements FileSystem {
   }
 
   @Override
-  public List<URIStatus> listStatus(AlluxioURI path, ListStatusOptions options)
+  public List<URIStatus> listStatus(final AlluxioURI path, final ListStatusOptions options)
       throws FileDoesNotExistException, IOException, AlluxioException {
+    if (options.getLoadMetadataType() != LoadMetadataType.Always) {
+      List<URIStatus> statuses = callStandby(new StandbyCall<List<URIStatus>>() {
+        @Override
+        public List<URIStatus> call(FileSystemMasterClient client)
+            throws IOException, AlluxioException {
+          return client.listStatus(path, options);
+        }
+      });
+      if (statuses != null) {
+        return statuses;
+      }
+    }
     FileSystemMasterClient masterClient = mFileSystemContext.acquireMasterClient();
     // TODO(calvin): Fix the exception handling in the master
     try {
@@ -304,6 +405,20 @@ public class BaseFileSystem implements FileSystem {
     }
   }
 
+  @Override
+  public List<BatchResult<Void>> setAttributeBatch(List<AlluxioURI> paths,
+      SetAttributeOptions options) throws IOException, AlluxioException {
+    FileSystemMasterClient masterClient = mFileSystemContext.acquireMasterClient();
+    try {
+      List<BatchResult<Void>> results =
+          masterClient.setAttributeBatch(paths, Collections.nCopies(paths.size(), options));
+      LOG.debug("Set attributes for a batch of {} paths with options {}", paths.size(), options);
+      return results;
+    } finally {
+      mFileSystemContext.releaseMasterClient(masterClient);
+    }
+  }
+
   @Override
   public void unmount(AlluxioURI path) throws IOException, AlluxioException {
     unmount(path, UnmountOptions.defaults());
@@ -320,4 +435,66 @@ public class BaseFileSystem implements FileSystem {
       mFileSystemContext.releaseMasterClient(masterClient);
     }
   }
+
+  /**
+   * Runs a read-only call on a standby master, if one can serve it.
+   *
+   * @param call the call to run
+   * @param <T> the type of the result of the call
+   * @return the result, or null if the call must be served by the leader master instead
+   */
+  private <T> T callStandby(StandbyCall<T> call) {
+    FileSystemMasterClient standbyClient = mFileSystemContext.acquireStandbyMasterClient();
+    if (standbyClient == null) {
+      return null;
+    }
+    boolean failed = false;
+    try {
+      return call.call(standbyClient);
+    } catch (AlluxioException e) {
+      // The path may not have been loaded from the under file system, which the leader can do.
+      LOG.debug("Standby master cannot serve the call: {}", e.getMessage());
+      return null;
+    } catch (IOException e) {
+      LOG.debug("Standby master cannot be reached: {}", e.getMessage());
+      failed = true;
+      return null;
+    } finally {
+      mFileSystemContext.releaseStandbyMasterClient(standbyClient, failed);
+    }
+  }
+
+  /**
+   * A read-only call which a standby master can serve.
+   *
+   * @param <T> the type of the result of the call
+   */
+  private interface StandbyCall<T> {
+    /**
+     * @param client the client of the standby master
+     * @return the result of the call, not null
+     * @throws IOException if the standby master cannot be reached
+     * @throws AlluxioException if the standby master cannot serve the call
+     */
+    T call(FileSystemMasterClient client) throws IOException, AlluxioException;
+  }
+
+  /**
+   * Gets the status of a path from a standby master.
+   */
+  private static final class GetStatusCall implements StandbyCall<URIStatus> {
+    private final AlluxioURI mPath;
+
+    /**
+     * @param path the path to get the status of
+     */
+    GetStatusCall(AlluxioURI path) {
+      mPath = path;
+    }
+
+    @Override
+    public URIStatus call(FileSystemMasterClient client) throws IOException, AlluxioException {
+      return client.getStatus(mPath);
+    }
+  }
 }
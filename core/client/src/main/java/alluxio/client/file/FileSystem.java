@@ -35,6 +35,8 @@ import alluxio.exception.DirectoryNotEmptyException;
 import alluxio.exception.FileAlreadyExistsException;
 import alluxio.exception.FileDoesNotExistException;
 import alluxio.exception.InvalidPathException;
+import alluxio.wire.BatchResult;
+import alluxio.wire.ContentSummary;
 
 import java.io.IOException;
 import java.util.List;
@@ -116,6 +118,19 @@ public interface FileSystem {
   FileOutStream createFile(AlluxioURI path, CreateFileOptions options)
       throws FileAlreadyExistsException, InvalidPathException, IOException, AlluxioException;
 
+  /**
+   * Creates files with a single request to the master. Each file is created on its own, so the
+   * result of each path holds either the stream to write the file or the exception thrown for it.
+   *
+   * @param paths the paths of the files to create in Alluxio space
+   * @param options options to associate with this operation, for all the paths
+   * @return the result for each path, in the same order as the paths
+   * @throws IOException if a non-Alluxio exception occurs for the whole batch
+   * @throws AlluxioException if an unexpected Alluxio exception is thrown for the whole batch
+   */
+  List<BatchResult<FileOutStream>> createFileBatch(List<AlluxioURI> paths,
+      CreateFileOptions options) throws IOException, AlluxioException;
+
   /**
    * Convenience method for {@link #delete(AlluxioURI, DeleteOptions)} with default options.
    *
@@ -141,6 +156,19 @@ public interface FileSystem {
   void delete(AlluxioURI path, DeleteOptions options)
       throws DirectoryNotEmptyException, FileDoesNotExistException, IOException, AlluxioException;
 
+  /**
+   * Deletes files or directories with a single request to the master. Each path is deleted on its
+   * own, so the result of each path holds the exception thrown for it if there is any.
+   *
+   * @param paths the paths to delete in Alluxio space
+   * @param options options to associate with this operation, for all the paths
+   * @return the result for each path, in the same order as the paths
+   * @throws IOException if a non-Alluxio exception occurs for the whole batch
+   * @throws AlluxioException if an unexpected Alluxio exception is thrown for the whole batch
+   */
+  List<BatchResult<Void>> deleteBatch(List<AlluxioURI> paths, DeleteOptions options)
+      throws IOException, AlluxioException;
+
   /**
    * Convenience method for {@link #exists(AlluxioURI, ExistsOptions)} with default options.
    *
@@ -188,6 +216,20 @@ public interface FileSystem {
   void free(AlluxioURI path, FreeOptions options)
       throws FileDoesNotExistException, IOException, AlluxioException;
 
+  /**
+   * Gets the {@link ContentSummary} of an Alluxio path, which aggregates the sizes and counts of a
+   * directory and all its descendants. The master maintains the summaries of the directories, so
+   * the cost does not depend on the size of the subtree.
+   *
+   * @param path the path to obtain the summary of
+   * @return the {@link ContentSummary} of the path
+   * @throws IOException if a non-Alluxio exception occurs
+   * @throws FileDoesNotExistException if the path does not exist
+   * @throws AlluxioException if an unexpected Alluxio exception is thrown
+   */
+  ContentSummary getContentSummary(AlluxioURI path)
+      throws FileDoesNotExistException, IOException, AlluxioException;
+
   /**
    * Convenience method for {@link #getStatus(AlluxioURI, GetStatusOptions)} with default options.
    *
@@ -213,6 +255,19 @@ public interface FileSystem {
   URIStatus getStatus(AlluxioURI path, GetStatusOptions options)
       throws FileDoesNotExistException, IOException, AlluxioException;
 
+  /**
+   * Gets the statuses of files or directories with a single request to the master. The result of
+   * each path holds either its {@link URIStatus} or the exception thrown for it, such as a
+   * {@link FileDoesNotExistException} if the path does not exist.
+   *
+   * @param paths the paths to obtain information about
+   * @return the result for each path, in the same order as the paths
+   * @throws IOException if a non-Alluxio exception occurs for the whole batch
+   * @throws AlluxioException if an unexpected Alluxio exception is thrown for the whole batch
+   */
+  List<BatchResult<URIStatus>> getStatusBatch(List<AlluxioURI> paths)
+      throws IOException, AlluxioException;
+
   /**
    * Convenience method for {@link #listStatus(AlluxioURI, ListStatusOptions)} with default options.
    *
@@ -371,6 +426,20 @@ public interface FileSystem {
   void setAttribute(AlluxioURI path, SetAttributeOptions options)
       throws FileDoesNotExistException, IOException, AlluxioException;
 
+  /**
+   * Sets the attributes of files or directories with a single request to the master. Each path is
+   * updated on its own, so the result of each path holds the exception thrown for it if there is
+   * any.
+   *
+   * @param paths the paths to set attributes for
+   * @param options options to associate with this operation, for all the paths
+   * @return the result for each path, in the same order as the paths
+   * @throws IOException if a non-Alluxio exception occurs for the whole batch
+   * @throws AlluxioException if an unexpected Alluxio exception is thrown for the whole batch
+   */
+  List<BatchResult<Void>> setAttributeBatch(List<AlluxioURI> paths, SetAttributeOptions options)
+      throws IOException, AlluxioException;
+
   /**
    * Convenience method for {@link #unmount(AlluxioURI, UnmountOptions)} with default options.
    *
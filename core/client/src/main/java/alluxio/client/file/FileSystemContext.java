@@ -48,6 +48,8 @@ public enum FileSystemContext {
   private BlockStoreContext mBlockStoreContext;
 
   private FileSystemMasterClientPool mFileSystemMasterClientPool;
+  /** The clients of the standby masters serving read-only RPCs, or null if they are not used. */
+  private StandbyMasterClients mStandbyMasterClients;
   private AlluxioBlockStore mAlluxioBlockStore;
 
   /** A list of valid workers, if there is a local worker, only the local worker addresses. */
@@ -61,6 +63,7 @@ public enum FileSystemContext {
    */
   FileSystemContext() {
     mFileSystemMasterClientPool = new FileSystemMasterClientPool(ClientContext.getMasterAddress());
+    mStandbyMasterClients = StandbyMasterClients.isEnabled() ? new StandbyMasterClients() : null;
     mBlockStoreContext = BlockStoreContext.get();
     mAlluxioBlockStore = new AlluxioBlockStore(mBlockStoreContext);
   }
@@ -99,9 +102,43 @@ public enum FileSystemContext {
    * @param masterClient a block master client to release
    */
   public void releaseMasterClient(FileSystemMasterClient masterClient) {
+    StandbyMasterClients standbyMasterClients = mStandbyMasterClients;
+    if (standbyMasterClients != null && masterClient.checkMetadataUpdated()) {
+      standbyMasterClients.onLeaderUpdate();
+    }
     mFileSystemMasterClientPool.release(masterClient);
   }
 
+  /**
+   * Acquires a client of a standby master for the read-only RPCs, if standby reads are enabled and
+   * a standby master has applied the updates this client made through the leader master.
+   *
+   * @return the acquired client, or null if the leader master must be used
+   */
+  public FileSystemMasterClient acquireStandbyMasterClient() {
+    StandbyMasterClients standbyMasterClients = mStandbyMasterClients;
+    if (standbyMasterClients == null) {
+      return null;
+    }
+    return standbyMasterClients.acquire(mFileSystemMasterClientPool);
+  }
+
+  /**
+   * Releases a client acquired by {@link #acquireStandbyMasterClient()}.
+   *
+   * @param masterClient the standby master client to release
+   * @param failed whether the standby master could not be reached, so that it is avoided for a
+   *        while
+   */
+  public void releaseStandbyMasterClient(FileSystemMasterClient masterClient, boolean failed) {
+    StandbyMasterClients standbyMasterClients = mStandbyMasterClients;
+    if (standbyMasterClients == null) {
+      masterClient.close();
+      return;
+    }
+    standbyMasterClients.release(masterClient, failed);
+  }
+
   /**
    * @return the Alluxio block store
    */
@@ -126,6 +163,7 @@ public enum FileSystemContext {
 
     mFileSystemMasterClientPool.close();
     mFileSystemMasterClientPool = new FileSystemMasterClientPool(ClientContext.getMasterAddress());
+    mStandbyMasterClients = StandbyMasterClients.isEnabled() ? new StandbyMasterClients() : null;
     synchronized (mWorkerAddressesLock) {
       mWorkerAddresses = null;
     }
@@ -20,13 +20,22 @@ import alluxio.client.file.options.CreateFileOptions;
 import alluxio.client.file.options.DeleteOptions;
 import alluxio.client.file.options.FreeOptions;
 import alluxio.client.file.options.ListStatusOptions;
+import alluxio.client.file.options.LoadJobOptions;
 import alluxio.client.file.options.LoadMetadataOptions;
 import alluxio.client.file.options.MountOptions;
 import alluxio.client.file.options.SetAttributeOptions;
 import alluxio.exception.AlluxioException;
 import alluxio.thrift.AlluxioService;
 import alluxio.thrift.AlluxioTException;
+import alluxio.thrift.CompleteFileTOptions;
+import alluxio.thrift.CreateFileTOptions;
+import alluxio.thrift.FileSystemBatchTResult;
 import alluxio.thrift.FileSystemMasterClientService;
+import alluxio.thrift.SetAttributeTOptions;
+import alluxio.wire.BatchResult;
+import alluxio.wire.ContentSummary;
+import alluxio.wire.FileInfo;
+import alluxio.wire.LoadJobInfo;
 import alluxio.wire.ThriftUtils;
 
 import org.apache.thrift.TException;
@@ -36,6 +45,7 @@ import java.net.InetSocketAddress;
 import java.util.ArrayList;
 import java.util.List;
 
+import javax.annotation.concurrent.GuardedBy;
 import javax.annotation.concurrent.ThreadSafe;
 
 /**
@@ -48,6 +58,12 @@ import javax.annotation.concurrent.ThreadSafe;
 public final class FileSystemMasterClient extends AbstractMasterClient {
   private FileSystemMasterClientService.Client mClient = null;
 
+  /** True if this client talks to a standby master, see {@link #getMaxConnectRetries()}. */
+  private final boolean mStandby;
+  /** Whether an RPC which may update the metadata was made since the last check. */
+  @GuardedBy("this")
+  private boolean mMetadataUpdated;
+
   /**
    * Creates a new file system master client.
    *
@@ -55,6 +71,26 @@ public final class FileSystemMasterClient extends AbstractMasterClient {
    */
   public FileSystemMasterClient(InetSocketAddress masterAddress) {
     super(masterAddress);
+    mStandby = false;
+  }
+
+  /**
+   * @param masterAddress the master address
+   * @param standby whether the master is a standby master, in which case ZooKeeper is not used
+   */
+  private FileSystemMasterClient(InetSocketAddress masterAddress, boolean standby) {
+    super(masterAddress, false);
+    mStandby = standby;
+  }
+
+  /**
+   * Creates a new file system master client for the read-only RPCs served by a standby master.
+   *
+   * @param standbyAddress the address of the standby master
+   * @return the client
+   */
+  static FileSystemMasterClient createForStandby(InetSocketAddress standbyAddress) {
+    return new FileSystemMasterClient(standbyAddress, true);
   }
 
   @Override
@@ -77,6 +113,25 @@ public final class FileSystemMasterClient extends AbstractMasterClient {
     mClient = new FileSystemMasterClientService.Client(mProtocol);
   }
 
+  @Override
+  protected int getMaxConnectRetries() {
+    // An unreachable standby master is given up on quickly, since the leader can serve the RPCs.
+    return mStandby ? 1 : super.getMaxConnectRetries();
+  }
+
+  /**
+   * Checks whether an RPC which may update the metadata was made since the last check. Only the
+   * updates made through the leader master must be applied by a standby master before it serves
+   * this client, see {@link StandbyMasterClients}.
+   *
+   * @return true if the metadata may have been updated through this client since the last check
+   */
+  synchronized boolean checkMetadataUpdated() {
+    boolean updated = mMetadataUpdated;
+    mMetadataUpdated = false;
+    return updated;
+  }
+
   /**
    * Creates a new directory.
    *
@@ -87,6 +142,7 @@ public final class FileSystemMasterClient extends AbstractMasterClient {
    */
   public synchronized void createDirectory(final AlluxioURI path,
       final CreateDirectoryOptions options) throws IOException, AlluxioException {
+    mMetadataUpdated = true;
     retryRPC(new RpcCallableThrowsAlluxioTException<Void>() {
       @Override
       public Void call() throws AlluxioTException, TException {
@@ -106,6 +162,7 @@ public final class FileSystemMasterClient extends AbstractMasterClient {
    */
   public synchronized void createFile(final AlluxioURI path, final CreateFileOptions options)
       throws IOException, AlluxioException {
+    mMetadataUpdated = true;
     retryRPC(new RpcCallableThrowsAlluxioTException<Void>() {
       @Override
       public Void call() throws AlluxioTException, TException {
@@ -115,6 +172,49 @@ public final class FileSystemMasterClient extends AbstractMasterClient {
     });
   }
 
+  /**
+   * Creates new files in a single RPC. Each file is created on its own, so some files of the batch
+   * may be created while others fail.
+   *
+   * @param paths the file paths
+   * @param options method options, one per path
+   * @return the result for each path, in the same order as the paths, with the status of the
+   *         created file
+   * @throws IOException if an I/O error occurs
+   * @throws AlluxioException if an Alluxio error occurs
+   */
+  public synchronized List<BatchResult<URIStatus>> createFileBatch(final List<AlluxioURI> paths,
+      final List<CreateFileOptions> options) throws IOException, AlluxioException {
+    mMetadataUpdated = true;
+    return retryRPC(new RpcCallableThrowsAlluxioTException<List<BatchResult<URIStatus>>>() {
+      @Override
+      public List<BatchResult<URIStatus>> call() throws AlluxioTException, TException {
+        List<CreateFileTOptions> tOptions = new ArrayList<>(options.size());
+        for (CreateFileOptions pathOptions : options) {
+          tOptions.add(pathOptions.toThrift());
+        }
+        return toStatusResults(mClient.createFileBatch(toPaths(paths), tOptions));
+      }
+    });
+  }
+
+  /**
+   * Cancels a load job. The blocks being loaded are still loaded, but no other block is.
+   *
+   * @param id the id of the load job
+   * @throws IOException if an I/O error occurs
+   * @throws AlluxioException if an Alluxio error occurs
+   */
+  public synchronized void cancelLoadJob(final long id) throws IOException, AlluxioException {
+    retryRPC(new RpcCallableThrowsAlluxioTException<Void>() {
+      @Override
+      public Void call() throws AlluxioTException, TException {
+        mClient.cancelLoadJob(id);
+        return null;
+      }
+    });
+  }
+
   /**
    * Marks a file as completed.
    *
@@ -125,6 +225,7 @@ public final class FileSystemMasterClient extends AbstractMasterClient {
    */
   public synchronized void completeFile(final AlluxioURI path, final CompleteFileOptions options)
       throws IOException, AlluxioException {
+    mMetadataUpdated = true;
     retryRPC(new RpcCallableThrowsAlluxioTException<Void>() {
       @Override
       public Void call() throws AlluxioTException, TException {
@@ -134,6 +235,31 @@ public final class FileSystemMasterClient extends AbstractMasterClient {
     });
   }
 
+  /**
+   * Marks files as completed in a single RPC. Each file is completed on its own, so some files of
+   * the batch may be completed while others fail.
+   *
+   * @param paths the file paths
+   * @param options the method options, one per path
+   * @return the result for each path, in the same order as the paths
+   * @throws IOException if an I/O error occurs
+   * @throws AlluxioException if an Alluxio error occurs
+   */
+  public synchronized List<BatchResult<Void>> completeFileBatch(final List<AlluxioURI> paths,
+      final List<CompleteFileOptions> options) throws IOException, AlluxioException {
+    mMetadataUpdated = true;
+    return retryRPC(new RpcCallableThrowsAlluxioTException<List<BatchResult<Void>>>() {
+      @Override
+      public List<BatchResult<Void>> call() throws AlluxioTException, TException {
+        List<CompleteFileTOptions> tOptions = new ArrayList<>(options.size());
+        for (CompleteFileOptions pathOptions : options) {
+          tOptions.add(pathOptions.toThrift());
+        }
+        return toVoidResults(mClient.completeFileBatch(toPaths(paths), tOptions));
+      }
+    });
+  }
+
   /**
    * Deletes a file or a directory.
    *
@@ -144,6 +270,7 @@ public final class FileSystemMasterClient extends AbstractMasterClient {
    */
   public synchronized void delete(final AlluxioURI path, final DeleteOptions options)
       throws IOException, AlluxioException {
+    mMetadataUpdated = true;
     retryRPC(new RpcCallableThrowsAlluxioTException<Void>() {
       @Override
       public Void call() throws AlluxioTException, TException {
@@ -153,6 +280,27 @@ public final class FileSystemMasterClient extends AbstractMasterClient {
     });
   }
 
+  /**
+   * Deletes files or directories in a single RPC. Each path is deleted on its own, so some paths of
+   * the batch may be deleted while others fail.
+   *
+   * @param paths the paths to delete
+   * @param options method options, for all the paths
+   * @return the result for each path, in the same order as the paths
+   * @throws IOException if an I/O error occurs
+   * @throws AlluxioException if an Alluxio error occurs
+   */
+  public synchronized List<BatchResult<Void>> deleteBatch(final List<AlluxioURI> paths,
+      final DeleteOptions options) throws IOException, AlluxioException {
+    mMetadataUpdated = true;
+    return retryRPC(new RpcCallableThrowsAlluxioTException<List<BatchResult<Void>>>() {
+      @Override
+      public List<BatchResult<Void>> call() throws AlluxioTException, TException {
+        return toVoidResults(mClient.removeBatch(toPaths(paths), options.isRecursive()));
+      }
+    });
+  }
+
   /**
    * Frees a file.
    *
@@ -163,6 +311,7 @@ public final class FileSystemMasterClient extends AbstractMasterClient {
    */
   public synchronized void free(final AlluxioURI path, final FreeOptions options)
       throws IOException, AlluxioException {
+    mMetadataUpdated = true;
     retryRPC(new RpcCallableThrowsAlluxioTException<Void>() {
       @Override
       public Void call() throws AlluxioTException, TException {
@@ -172,6 +321,22 @@ public final class FileSystemMasterClient extends AbstractMasterClient {
     });
   }
 
+  /**
+   * @param path the file path
+   * @return the content summary of the given path
+   * @throws IOException if an I/O error occurs
+   * @throws AlluxioException if an Alluxio error occurs
+   */
+  public synchronized ContentSummary getContentSummary(final AlluxioURI path)
+      throws IOException, AlluxioException {
+    return retryRPC(new RpcCallableThrowsAlluxioTException<ContentSummary>() {
+      @Override
+      public ContentSummary call() throws AlluxioTException, TException {
+        return ThriftUtils.fromThrift(mClient.getContentSummary(path.getPath()));
+      }
+    });
+  }
+
   /**
    * @param path the file path
    * @return the file info for the given file id
@@ -188,6 +353,55 @@ public final class FileSystemMasterClient extends AbstractMasterClient {
     });
   }
 
+  /**
+   * Gets the statuses of files or directories in a single RPC.
+   *
+   * @param paths the file or directory paths
+   * @return the result for each path, in the same order as the paths, with the status of the path
+   * @throws IOException if an I/O error occurs
+   * @throws AlluxioException if an Alluxio error occurs
+   */
+  public synchronized List<BatchResult<URIStatus>> getStatusBatch(final List<AlluxioURI> paths)
+      throws IOException, AlluxioException {
+    return retryRPC(new RpcCallableThrowsAlluxioTException<List<BatchResult<URIStatus>>>() {
+      @Override
+      public List<BatchResult<URIStatus>> call() throws AlluxioTException, TException {
+        return toStatusResults(mClient.getStatusBatch(toPaths(paths)));
+      }
+    });
+  }
+
+  /**
+   * @return the sequence number of the latest journal entry flushed by the leader master, or
+   *         applied by the standby master
+   * @throws IOException if an I/O error occurs
+   * @throws AlluxioException if an Alluxio error occurs
+   */
+  public synchronized long getJournalSequenceNumber() throws IOException, AlluxioException {
+    return retryRPC(new RpcCallableThrowsAlluxioTException<Long>() {
+      @Override
+      public Long call() throws AlluxioTException, TException {
+        return mClient.getJournalSequenceNumber();
+      }
+    });
+  }
+
+  /**
+   * @param id the id of a load job
+   * @return the progress of the load job
+   * @throws IOException if an I/O error occurs
+   * @throws AlluxioException if an Alluxio error occurs
+   */
+  public synchronized LoadJobInfo getLoadJobInfo(final long id)
+      throws IOException, AlluxioException {
+    return retryRPC(new RpcCallableThrowsAlluxioTException<LoadJobInfo>() {
+      @Override
+      public LoadJobInfo call() throws AlluxioTException, TException {
+        return ThriftUtils.fromThrift(mClient.getLoadJobInfo(id));
+      }
+    });
+  }
+
   /**
    * @param path the file path
    * @return the next blockId for the file
@@ -196,6 +410,7 @@ public final class FileSystemMasterClient extends AbstractMasterClient {
    */
   public synchronized long getNewBlockIdForFile(final AlluxioURI path)
       throws IOException, AlluxioException {
+    mMetadataUpdated = true;
     return retryRPC(new RpcCallableThrowsAlluxioTException<Long>() {
       @Override
       public Long call() throws AlluxioTException, TException {
@@ -238,6 +453,7 @@ public final class FileSystemMasterClient extends AbstractMasterClient {
   @Deprecated
   public synchronized void loadMetadata(final AlluxioURI path,
       final LoadMetadataOptions options) throws IOException, AlluxioException {
+    mMetadataUpdated = true;
     retryRPC(new RpcCallableThrowsAlluxioTException<Long>() {
       @Override
       public Long call() throws AlluxioTException, TException {
@@ -258,6 +474,7 @@ public final class FileSystemMasterClient extends AbstractMasterClient {
   public synchronized void mount(final AlluxioURI alluxioPath, final AlluxioURI ufsPath,
       final MountOptions options)
       throws AlluxioException, IOException {
+    mMetadataUpdated = true;
     retryRPC(new RpcCallableThrowsAlluxioTException<Void>() {
       @Override
       public Void call() throws AlluxioTException, TException {
@@ -277,6 +494,7 @@ public final class FileSystemMasterClient extends AbstractMasterClient {
    */
   public synchronized void rename(final AlluxioURI src, final AlluxioURI dst)
       throws IOException, AlluxioException {
+    mMetadataUpdated = true;
     retryRPC(new RpcCallableThrowsAlluxioTException<Void>() {
       @Override
       public Void call() throws AlluxioTException, TException {
@@ -296,6 +514,7 @@ public final class FileSystemMasterClient extends AbstractMasterClient {
    */
   public synchronized void setAttribute(final AlluxioURI path, final SetAttributeOptions options)
       throws IOException, AlluxioException {
+    mMetadataUpdated = true;
     retryRPC(new RpcCallableThrowsAlluxioTException<Void>() {
       @Override
       public Void call() throws AlluxioTException, TException {
@@ -305,6 +524,31 @@ public final class FileSystemMasterClient extends AbstractMasterClient {
     });
   }
 
+  /**
+   * Sets the attributes of files or directories in a single RPC. Each path is updated on its own,
+   * so some paths of the batch may be updated while others fail.
+   *
+   * @param paths the file or directory paths
+   * @param options the file or directory attribute options to be set, one per path
+   * @return the result for each path, in the same order as the paths
+   * @throws IOException if an I/O error occurs
+   * @throws AlluxioException if an Alluxio error occurs
+   */
+  public synchronized List<BatchResult<Void>> setAttributeBatch(final List<AlluxioURI> paths,
+      final List<SetAttributeOptions> options) throws IOException, AlluxioException {
+    mMetadataUpdated = true;
+    return retryRPC(new RpcCallableThrowsAlluxioTException<List<BatchResult<Void>>>() {
+      @Override
+      public List<BatchResult<Void>> call() throws AlluxioTException, TException {
+        List<SetAttributeTOptions> tOptions = new ArrayList<>(options.size());
+        for (SetAttributeOptions pathOptions : options) {
+          tOptions.add(pathOptions.toThrift());
+        }
+        return toVoidResults(mClient.setAttributeBatch(toPaths(paths), tOptions));
+      }
+    });
+  }
+
   /**
    * Schedules the async persistence of the given file.
    *
@@ -314,6 +558,7 @@ public final class FileSystemMasterClient extends AbstractMasterClient {
    */
   public synchronized void scheduleAsyncPersist(final AlluxioURI path)
       throws AlluxioException, IOException {
+    mMetadataUpdated = true;
     retryRPC(new RpcCallableThrowsAlluxioTException<Void>() {
       @Override
       public Void call() throws AlluxioTException, TException {
@@ -323,6 +568,26 @@ public final class FileSystemMasterClient extends AbstractMasterClient {
     });
   }
 
+  /**
+   * Submits a job having the workers load the blocks of a file or directory into Alluxio. The job
+   * runs on the master, and is polled with {@link #getLoadJobInfo(long)}.
+   *
+   * @param path the path of the file or directory
+   * @param options the method options
+   * @return the id of the load job
+   * @throws IOException if an I/O error occurs
+   * @throws AlluxioException if an Alluxio error occurs
+   */
+  public synchronized long submitLoadJob(final AlluxioURI path, final LoadJobOptions options)
+      throws IOException, AlluxioException {
+    return retryRPC(new RpcCallableThrowsAlluxioTException<Long>() {
+      @Override
+      public Long call() throws AlluxioTException, TException {
+        return mClient.submitLoadJob(path.getPath(), options.toThrift());
+      }
+    });
+  }
+
   /**
    * Unmounts the given Alluxio path.
    *
@@ -332,6 +597,7 @@ public final class FileSystemMasterClient extends AbstractMasterClient {
    */
   public synchronized void unmount(final AlluxioURI alluxioPath)
       throws AlluxioException, IOException {
+    mMetadataUpdated = true;
     retryRPC(new RpcCallableThrowsAlluxioTException<Void>() {
       @Override
       public Void call() throws AlluxioTException, TException {
@@ -340,4 +606,42 @@ public final class FileSystemMasterClient extends AbstractMasterClient {
       }
     });
   }
+
+  /**
+   * @param uris the paths of a batch
+   * @return the paths as strings
+   */
+  private static List<String> toPaths(List<AlluxioURI> uris) {
+    List<String> paths = new ArrayList<>(uris.size());
+    for (AlluxioURI uri : uris) {
+      paths.add(uri.getPath());
+    }
+    return paths;
+  }
+
+  /**
+   * @param tResults the thrift results of a batch returning file information
+   * @return the results, with the statuses of the paths
+   */
+  private static List<BatchResult<URIStatus>> toStatusResults(
+      List<FileSystemBatchTResult> tResults) {
+    List<BatchResult<URIStatus>> results = new ArrayList<>(tResults.size());
+    for (FileSystemBatchTResult tResult : tResults) {
+      BatchResult<FileInfo> result = ThriftUtils.fromThrift(tResult);
+      results.add(result.withValue(result.isSuccess() ? new URIStatus(result.getValue()) : null));
+    }
+    return results;
+  }
+
+  /**
+   * @param tResults the thrift results of a batch returning no value
+   * @return the results
+   */
+  private static List<BatchResult<Void>> toVoidResults(List<FileSystemBatchTResult> tResults) {
+    List<BatchResult<Void>> results = new ArrayList<>(tResults.size());
+    for (FileSystemBatchTResult tResult : tResults) {
+      results.add(ThriftUtils.fromThrift(tResult).<Void>withValue(null));
+    }
+    return results;
+  }
 }
@@ -0,0 +1,277 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.client.file;
+
+import alluxio.Configuration;
+import alluxio.Constants;
+import alluxio.PropertyKey;
+import alluxio.exception.AlluxioException;
+import alluxio.resource.ResourcePool;
+import alluxio.util.CommonUtils;
+import alluxio.util.network.NetworkAddressUtils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * The clients of the standby masters serving the read-only file system metadata RPCs. A standby
+ * master is only used once it has applied all the journal entries which the leader master had
+ * flushed when this client last updated the metadata through the leader, so that the updates of
+ * this client are always visible. Other updates are visible after at most
+ * {@link #REFRESH_INTERVAL_MS}. The read-only RPCs served by the leader do not require the journal
+ * sequence number of the leader to be fetched again.
+ */
+@ThreadSafe
+final class StandbyMasterClients {
+  private static final Logger LOG = LoggerFactory.getLogger(Constants.LOGGER_TYPE);
+
+  /** The interval for refreshing the standby masters and the journal sequence number to reach. */
+  private static final long REFRESH_INTERVAL_MS = 10 * Constants.SECOND_MS;
+
+  /** The number of times a client of the leader master was released after updating metadata. */
+  private final AtomicLong mLeaderUpdates = new AtomicLong();
+
+  /** The value of {@link #mLeaderUpdates} when the leader sequence number was last fetched. */
+  @GuardedBy("this")
+  private long mSyncedLeaderUpdates = -1;
+  /** The time (in ms) when the leader sequence number was last fetched. */
+  @GuardedBy("this")
+  private long mSyncedLeaderTimeMs;
+  /** The journal sequence number which a standby master must have reached to be used. */
+  @GuardedBy("this")
+  private long mRequiredSequenceNumber;
+  /** The time (in ms) when the standby masters were last fetched from ZooKeeper. */
+  @GuardedBy("this")
+  private long mStandbysRefreshTimeMs = -REFRESH_INTERVAL_MS;
+  /** The standby masters by their address. */
+  @GuardedBy("this")
+  private Map<InetSocketAddress, Standby> mStandbys = new HashMap<>();
+
+  /**
+   * Creates a new set of standby master clients.
+   */
+  StandbyMasterClients() {}
+
+  /**
+   * @return true if the read-only RPCs may be served by the standby masters
+   */
+  static boolean isEnabled() {
+    return Configuration.getBoolean(PropertyKey.USER_FILE_MASTER_STANDBY_READS_ENABLED)
+        && Configuration.getBoolean(PropertyKey.ZOOKEEPER_ENABLED);
+  }
+
+  /**
+   * Records that a client of the leader master updated the metadata, so the leader may have
+   * journaled updates which a standby master must apply before serving this client.
+   */
+  void onLeaderUpdate() {
+    mLeaderUpdates.incrementAndGet();
+  }
+
+  /**
+   * Acquires a client of a standby master which is up to date for this client.
+   *
+   * @param leaderClientPool the pool of the leader master clients
+   * @return the client, or null if no standby master can be used
+   */
+  FileSystemMasterClient acquire(FileSystemMasterClientPool leaderClientPool) {
+    refreshStandbys();
+    long requiredSequenceNumber = getRequiredSequenceNumber(leaderClientPool);
+    List<Standby> standbys;
+    synchronized (this) {
+      standbys = new ArrayList<>(mStandbys.values());
+    }
+    if (standbys.isEmpty()) {
+      return null;
+    }
+    int start = ThreadLocalRandom.current().nextInt(standbys.size());
+    for (int i = 0; i < standbys.size(); i++) {
+      Standby standby = standbys.get((start + i) % standbys.size());
+      if (standby.mUnavailableUntilMs > CommonUtils.getCurrentMs()) {
+        continue;
+      }
+      FileSystemMasterClient client = standby.mClientPool.acquire();
+      if (standby.mSequenceNumber < requiredSequenceNumber) {
+        try {
+          standby.mSequenceNumber = client.getJournalSequenceNumber();
+        } catch (IOException | AlluxioException e) {
+          LOG.debug("Standby master @ {} is unavailable: {}", standby.mAddress, e.getMessage());
+          standby.mUnavailableUntilMs = CommonUtils.getCurrentMs() + REFRESH_INTERVAL_MS;
+          standby.mClientPool.release(client);
+          continue;
+        }
+        if (standby.mSequenceNumber < requiredSequenceNumber) {
+          standby.mClientPool.release(client);
+          continue;
+        }
+      }
+      return client;
+    }
+    return null;
+  }
+
+  /**
+   * Releases a client acquired by {@link #acquire(FileSystemMasterClientPool)}.
+   *
+   * @param client the client to release
+   * @param failed whether an RPC of the client failed, in which case its standby master is not
+   *        used again until the next refresh
+   */
+  void release(FileSystemMasterClient client, boolean failed) {
+    Standby standby;
+    synchronized (this) {
+      standby = mStandbys.get(client.getAddress());
+    }
+    if (standby == null) {
+      // The standby master was removed by a refresh.
+      client.close();
+      return;
+    }
+    if (failed) {
+      standby.mUnavailableUntilMs = CommonUtils.getCurrentMs() + REFRESH_INTERVAL_MS;
+    }
+    standby.mClientPool.release(client);
+  }
+
+  /**
+   * Refreshes the standby masters from ZooKeeper if they were not refreshed recently. The lookup
+   * is made outside of the lock, other callers keep using the previous standby masters meanwhile.
+   */
+  private void refreshStandbys() {
+    synchronized (this) {
+      long nowMs = CommonUtils.getCurrentMs();
+      if (nowMs - mStandbysRefreshTimeMs < REFRESH_INTERVAL_MS) {
+        return;
+      }
+      mStandbysRefreshTimeMs = nowMs;
+    }
+    List<InetSocketAddress> addresses = NetworkAddressUtils.getMasterAddressesFromZK();
+    addresses.remove(NetworkAddressUtils.getMasterAddressFromZK());
+    List<Standby> removed = new ArrayList<>();
+    synchronized (this) {
+      Map<InetSocketAddress, Standby> standbys = new HashMap<>();
+      for (InetSocketAddress address : addresses) {
+        Standby standby = mStandbys.remove(address);
+        standbys.put(address, standby == null ? new Standby(address) : standby);
+      }
+      removed.addAll(mStandbys.values());
+      mStandbys = standbys;
+    }
+    for (Standby standby : removed) {
+      standby.mClientPool.close();
+    }
+  }
+
+  /**
+   * Gets the journal sequence number which a standby master must have reached to serve this
+   * client. The sequence number of the leader master is fetched outside of the lock when this
+   * client updated the metadata since it was last fetched, or when it was not fetched recently.
+   *
+   * @param leaderClientPool the pool of the leader master clients
+   * @return the journal sequence number to reach
+   */
+  private long getRequiredSequenceNumber(FileSystemMasterClientPool leaderClientPool) {
+    long leaderUpdates = mLeaderUpdates.get();
+    long nowMs;
+    synchronized (this) {
+      nowMs = CommonUtils.getCurrentMs();
+      if (leaderUpdates == mSyncedLeaderUpdates) {
+        if (nowMs - mSyncedLeaderTimeMs < REFRESH_INTERVAL_MS) {
+          return mRequiredSequenceNumber;
+        }
+        // The sequence number is only stale, not missing updates of this client: one caller
+        // fetches it while the others keep using the previous one.
+        mSyncedLeaderTimeMs = nowMs;
+      }
+    }
+    long sequenceNumber;
+    FileSystemMasterClient client = leaderClientPool.acquire();
+    try {
+      sequenceNumber = client.getJournalSequenceNumber();
+    } catch (IOException | AlluxioException e) {
+      // No standby master can be trusted to be up to date until the next refresh.
+      LOG.warn("Failed to get the journal sequence number of the leader master", e);
+      sequenceNumber = Long.MAX_VALUE;
+    } finally {
+      leaderClientPool.release(client);
+    }
+    synchronized (this) {
+      if (leaderUpdates >= mSyncedLeaderUpdates) {
+        mSyncedLeaderUpdates = leaderUpdates;
+        mSyncedLeaderTimeMs = nowMs;
+        mRequiredSequenceNumber = sequenceNumber;
+      }
+    }
+    return sequenceNumber;
+  }
+
+  /**
+   * A standby master, and the pool of its clients.
+   */
+  @ThreadSafe
+  private static final class Standby {
+    private final InetSocketAddress mAddress;
+    private final StandbyClientPool mClientPool;
+    /** The latest journal sequence number known to be reached by this standby master. */
+    private volatile long mSequenceNumber = -1;
+    /** The time (in ms) until which this standby master is not used. */
+    private volatile long mUnavailableUntilMs;
+
+    /**
+     * @param address the address of the standby master
+     */
+    Standby(InetSocketAddress address) {
+      mAddress = address;
+      mClientPool = new StandbyClientPool(address);
+    }
+  }
+
+  /**
+   * A pool of the clients of a standby master.
+   */
+  @ThreadSafe
+  private static final class StandbyClientPool extends ResourcePool<FileSystemMasterClient> {
+    private final InetSocketAddress mAddress;
+
+    /**
+     * @param address the address of the standby master
+     */
+    StandbyClientPool(InetSocketAddress address) {
+      super(Configuration.getInt(PropertyKey.USER_FILE_MASTER_CLIENT_THREADS));
+      mAddress = address;
+    }
+
+    @Override
+    public void close() {
+      for (FileSystemMasterClient client : mResources) {
+        client.close();
+      }
+    }
+
+    @Override
+    protected FileSystemMasterClient createNewResource() {
+      return FileSystemMasterClient.createForStandby(mAddress);
+    }
+  }
+}
@@ -0,0 +1,112 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.client.file.options;
+
+import alluxio.annotation.PublicApi;
+import alluxio.thrift.LoadJobTOptions;
+
+import com.google.common.base.Objects;
+import com.google.common.base.Preconditions;
+
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Method options for submitting a load job.
+ */
+@PublicApi
+@NotThreadSafe
+public final class LoadJobOptions {
+  private int mConcurrency;
+  private long mThroughput;
+
+  /**
+   * @return the default {@link LoadJobOptions}
+   */
+  public static LoadJobOptions defaults() {
+    return new LoadJobOptions();
+  }
+
+  private LoadJobOptions() {
+    mConcurrency = 16;
+    mThroughput = 0;
+  }
+
+  /**
+   * @return the maximum number of blocks the job loads at the same time
+   */
+  public int getConcurrency() {
+    return mConcurrency;
+  }
+
+  /**
+   * @return the maximum number of bytes the job loads per second, 0 for unlimited
+   */
+  public long getThroughput() {
+    return mThroughput;
+  }
+
+  /**
+   * @param concurrency the maximum number of blocks the job loads at the same time to use
+   * @return the updated options object
+   */
+  public LoadJobOptions setConcurrency(int concurrency) {
+    Preconditions.checkArgument(concurrency > 0, "The concurrency should be positive");
+    mConcurrency = concurrency;
+    return this;
+  }
+
+  /**
+   * @param throughput the maximum number of bytes the job loads per second to use, 0 for unlimited
+   * @return the updated options object
+   */
+  public LoadJobOptions setThroughput(long throughput) {
+    Preconditions.checkArgument(throughput >= 0, "The throughput should not be negative");
+    mThroughput = throughput;
+    return this;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof LoadJobOptions)) {
+      return false;
+    }
+    LoadJobOptions that = (LoadJobOptions) o;
+    return mConcurrency == that.mConcurrency
+        && mThroughput == that.mThroughput;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hashCode(mConcurrency, mThroughput);
+  }
+
+  @Override
+  public String toString() {
+    return Objects.toStringHelper(this)
+        .add("concurrency", mConcurrency)
+        .add("throughput", mThroughput)
+        .toString();
+  }
+
+  /**
+   * @return Thrift representation of the options
+   */
+  public LoadJobTOptions toThrift() {
+    LoadJobTOptions options = new LoadJobTOptions();
+    options.setConcurrency(mConcurrency);
+    options.setThroughput(mThroughput);
+    return options;
+  }
+}
@@ -20,8 +20,11 @@ import alluxio.client.file.options.CreateFileOptions;
 import alluxio.exception.AlluxioException;
 import alluxio.exception.FileDoesNotExistException;
 import alluxio.exception.LineageDoesNotExistException;
+import alluxio.wire.BatchResult;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 
 import javax.annotation.concurrent.ThreadSafe;
 
@@ -97,6 +100,30 @@ public final class LineageFileSystem extends BaseFileSystem {
     return new LineageFileOutStream(mFileSystemContext, path, options.toOutStreamOptions());
   }
 
+  /**
+   * Gets the output streams for a batch of files. The lineage of each file needs to be checked on
+   * its own, so the files are created one by one.
+   *
+   * @param paths the Alluxio paths of the files
+   * @param options the set of options specific to this operation, for all the paths
+   * @return the result for each path, in the same order as the paths
+   */
+  @Override
+  public List<BatchResult<FileOutStream>> createFileBatch(List<AlluxioURI> paths,
+      CreateFileOptions options) {
+    List<BatchResult<FileOutStream>> results = new ArrayList<>(paths.size());
+    for (AlluxioURI path : paths) {
+      try {
+        results.add(BatchResult.success(createFile(path, options)));
+      } catch (AlluxioException e) {
+        results.add(BatchResult.<FileOutStream>failure(e));
+      } catch (IOException e) {
+        results.add(BatchResult.<FileOutStream>failure(e));
+      }
+    }
+    return results;
+  }
+
   /**
    * Reports a file as lost.
    *
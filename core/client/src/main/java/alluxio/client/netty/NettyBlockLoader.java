@@ -0,0 +1,140 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.client.netty;
+
+import alluxio.Configuration;
+import alluxio.Constants;
+import alluxio.PropertyKey;
+import alluxio.client.block.BlockStoreContext;
+import alluxio.exception.ExceptionMessage;
+import alluxio.metrics.MetricsSystem;
+import alluxio.network.protocol.RPCBlockLoadRequest;
+import alluxio.network.protocol.RPCBlockLoadResponse;
+import alluxio.network.protocol.RPCErrorResponse;
+import alluxio.network.protocol.RPCMessage;
+import alluxio.network.protocol.RPCResponse;
+
+import com.codahale.metrics.Counter;
+import com.google.common.base.Throwables;
+import io.netty.bootstrap.Bootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Asks a remote data server to load a block from the under file system using Netty. The data is
+ * read by the worker directly from the under file system and never goes through the client.
+ */
+@ThreadSafe
+public final class NettyBlockLoader {
+  private static final Logger LOG = LoggerFactory.getLogger(Constants.LOGGER_TYPE);
+
+  private final Callable<Bootstrap> mClientBootstrap;
+  private final long mTimeoutMs;
+
+  /**
+   * Creates a new {@link NettyBlockLoader}.
+   */
+  public NettyBlockLoader() {
+    mClientBootstrap = NettyClient.bootstrapBuilder();
+    mTimeoutMs = Configuration.getLong(PropertyKey.USER_BLOCK_LOAD_TIMEOUT_MS);
+  }
+
+  /**
+   * Loads a block into the top tier of a worker and waits until the block is loaded. If the worker
+   * already stores the block in a lower tier, the block is moved to the top tier instead.
+   *
+   * @param address the data server address of the worker
+   * @param blockId the id of the block to load
+   * @param ufsPath the under file system path of the file containing the block
+   * @param offset the offset of the block in the file
+   * @param length the length of the block
+   * @throws IOException when the operation fails
+   */
+  public void load(InetSocketAddress address, long blockId, String ufsPath, long offset,
+      long length) throws IOException {
+    SingleResponseListener listener = null;
+    Channel channel = null;
+    Metrics.NETTY_BLOCK_LOAD_OPS.inc();
+    try {
+      channel = BlockStoreContext.acquireNettyChannel(address, mClientBootstrap);
+      listener = new SingleResponseListener();
+      channel.pipeline().get(ClientHandler.class).addListener(listener);
+      ChannelFuture channelFuture =
+          channel.writeAndFlush(new RPCBlockLoadRequest(blockId, ufsPath, offset, length)).sync();
+      if (channelFuture.isDone() && !channelFuture.isSuccess()) {
+        LOG.error("Failed to send load request to {} for block {} with error {}.", address,
+            blockId, channelFuture.cause());
+        throw new IOException(channelFuture.cause());
+      }
+
+      RPCResponse response = listener.get(mTimeoutMs, TimeUnit.MILLISECONDS);
+
+      switch (response.getType()) {
+        case RPC_BLOCK_LOAD_RESPONSE:
+          RPCBlockLoadResponse resp = (RPCBlockLoadResponse) response;
+          RPCResponse.Status status = resp.getStatus();
+          LOG.debug("status: {} from remote machine {} received", status, address);
+
+          if (status != RPCResponse.Status.SUCCESS) {
+            throw new IOException(ExceptionMessage.BLOCK_LOAD_ERROR.getMessage(blockId, address,
+                status.getMessage()));
+          }
+          break;
+        case RPC_ERROR_RESPONSE:
+          RPCErrorResponse error = (RPCErrorResponse) response;
+          throw new IOException(error.getStatus().getMessage());
+        default:
+          throw new IOException(ExceptionMessage.UNEXPECTED_RPC_RESPONSE
+              .getMessage(response.getType(), RPCMessage.Type.RPC_BLOCK_LOAD_RESPONSE));
+      }
+    } catch (Exception e) {
+      Metrics.NETTY_BLOCK_LOAD_FAILURES.inc();
+      try {
+        if (channel != null) {
+          channel.close().sync();
+        }
+      } catch (InterruptedException ee) {
+        Throwables.propagate(ee);
+      }
+      throw new IOException(e);
+    } finally {
+      if (channel != null && listener != null && channel.isActive()) {
+        channel.pipeline().get(ClientHandler.class).removeListener(listener);
+      }
+      if (channel != null) {
+        BlockStoreContext.releaseNettyChannel(address, channel);
+      }
+    }
+  }
+
+  /**
+   * Class that contains metrics about {@link NettyBlockLoader}.
+   */
+  @ThreadSafe
+  private static final class Metrics {
+    private static final Counter NETTY_BLOCK_LOAD_OPS =
+        MetricsSystem.clientCounter("NettyBlockLoadOps");
+    private static final Counter NETTY_BLOCK_LOAD_FAILURES =
+        MetricsSystem.clientCounter("NettyBlockLoadFailures");
+
+    private Metrics() {} // prevent instantiation
+  }
+}
@@ -17,10 +17,10 @@ import alluxio.network.ChannelType;
 import alluxio.network.protocol.RPCMessage;
 import alluxio.network.protocol.RPCMessageDecoder;
 import alluxio.network.protocol.RPCMessageEncoder;
+import alluxio.util.network.NettyBufferPool;
 import alluxio.util.network.NettyUtils;
 
 import io.netty.bootstrap.Bootstrap;
-import io.netty.buffer.PooledByteBufAllocator;
 import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelOption;
 import io.netty.channel.ChannelPipeline;
@@ -70,7 +70,7 @@ public final class NettyClient {
     boot.group(WORKER_GROUP).channel(CLIENT_CHANNEL_CLASS);
     boot.option(ChannelOption.SO_KEEPALIVE, true);
     boot.option(ChannelOption.TCP_NODELAY, true);
-    boot.option(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT);
+    boot.option(ChannelOption.ALLOCATOR, NettyBufferPool.ALLOCATOR);
 
     boot.handler(new ChannelInitializer<SocketChannel>() {
       @Override
@@ -21,7 +21,9 @@ import alluxio.network.protocol.RPCBlockWriteResponse;
 import alluxio.network.protocol.RPCErrorResponse;
 import alluxio.network.protocol.RPCMessage;
 import alluxio.network.protocol.RPCResponse;
+import alluxio.network.protocol.databuffer.DataBuffer;
 import alluxio.network.protocol.databuffer.DataByteArrayChannel;
+import alluxio.network.protocol.databuffer.DataByteBuffer;
 
 import com.codahale.metrics.Counter;
 import com.google.common.base.Throwables;
@@ -33,6 +35,7 @@ import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
 import java.util.concurrent.Callable;
 import java.util.concurrent.TimeUnit;
 
@@ -86,6 +89,23 @@ public final class NettyRemoteBlockWriter implements RemoteBlockWriter {
 
   @Override
   public void write(byte[] bytes, int offset, int length) throws IOException {
+    write(new DataByteArrayChannel(bytes, offset, length), length);
+  }
+
+  @Override
+  public void write(ByteBuffer buffer) throws IOException {
+    int length = buffer.remaining();
+    write(new DataByteBuffer(buffer, length), length);
+  }
+
+  /**
+   * Writes data to the remote block and waits for the response of the data server.
+   *
+   * @param data the data to write
+   * @param length the length of the data to write (in bytes)
+   * @throws IOException when the operation fails
+   */
+  private void write(DataBuffer data, long length) throws IOException {
     SingleResponseListener listener = null;
     Channel channel = null;
     Metrics.NETTY_BLOCK_WRITE_OPS.inc();
@@ -94,8 +114,7 @@ public final class NettyRemoteBlockWriter implements RemoteBlockWriter {
       listener = new SingleResponseListener();
       channel.pipeline().get(ClientHandler.class).addListener(listener);
       ChannelFuture channelFuture = channel.writeAndFlush(
-          new RPCBlockWriteRequest(mSessionId, mBlockId, mWrittenBytes, length,
-              new DataByteArrayChannel(bytes, offset, length))).sync();
+          new RPCBlockWriteRequest(mSessionId, mBlockId, mWrittenBytes, length, data)).sync();
       if (channelFuture.isDone() && !channelFuture.isSuccess()) {
         LOG.error("Failed to write to %s for block %d with error %s.", mAddress.toString(),
             mBlockId, channelFuture.cause());
@@ -32,6 +32,7 @@ import alluxio.exception.FileDoesNotExistException;
 import alluxio.exception.InvalidPathException;
 import alluxio.exception.PreconditionMessage;
 import alluxio.util.CommonUtils;
+import alluxio.wire.BatchResult;
 import alluxio.wire.FileBlockInfo;
 
 import com.google.common.base.Preconditions;
@@ -228,6 +229,47 @@ abstract class AbstractFileSystem extends org.apache.hadoop.fs.FileSystem {
     }
   }
 
+  /**
+   * Attempts to delete the files or directories with the specified paths, with a single request to
+   * the master.
+   *
+   * @param paths the paths to delete
+   * @param recursive if true, will attempt to delete all children of the paths
+   * @return for each path, true if it was deleted and false if it did not exist
+   * @throws IOException if any of the paths failed to be deleted due to some constraint, after all
+   *         the other paths were deleted
+   */
+  public boolean[] delete(Path[] paths, boolean recursive) throws IOException {
+    LOG.info("delete({} paths, {})", paths.length, recursive);
+    if (mStatistics != null) {
+      mStatistics.incrementWriteOps(paths.length);
+    }
+    List<BatchResult<Void>> results;
+    try {
+      results = sFileSystem.deleteBatch(toUris(paths),
+          DeleteOptions.defaults().setRecursive(recursive));
+    } catch (AlluxioException e) {
+      throw new IOException(e);
+    }
+    boolean[] deleted = new boolean[paths.length];
+    IOException failure = null;
+    for (int i = 0; i < paths.length; i++) {
+      Exception e = results.get(i).getException();
+      deleted[i] = e == null;
+      if (e instanceof InvalidPathException || e instanceof FileDoesNotExistException) {
+        LOG.info("delete failed: {}", e.getMessage());
+      } else if (e instanceof IOException && failure == null) {
+        failure = (IOException) e;
+      } else if (e != null && failure == null) {
+        failure = new IOException(e);
+      }
+    }
+    if (failure != null) {
+      throw failure;
+    }
+    return deleted;
+  }
+
   @Override
   public long getDefaultBlockSize() {
     return Configuration.getBytes(PropertyKey.USER_BLOCK_SIZE_BYTES_DEFAULT);
@@ -243,8 +285,14 @@ abstract class AbstractFileSystem extends org.apache.hadoop.fs.FileSystem {
       mStatistics.incrementReadOps(1);
     }
 
-    AlluxioURI path = new AlluxioURI(HadoopUtils.getPathWithoutScheme(file.getPath()));
-    List<FileBlockInfo> blocks = getFileBlocks(path);
+    List<FileBlockInfo> blocks;
+    if (file instanceof BlockInfoFileStatus) {
+      // The block information was returned together with the status, e.g. by listStatus.
+      blocks = ((BlockInfoFileStatus) file).getFileBlockInfos();
+    } else {
+      AlluxioURI path = new AlluxioURI(HadoopUtils.getPathWithoutScheme(file.getPath()));
+      blocks = getFileBlocks(path);
+    }
     List<BlockLocation> blockLocations = new ArrayList<>();
     for (FileBlockInfo fileBlockInfo : blocks) {
       long offset = fileBlockInfo.getOffset();
@@ -296,11 +344,64 @@ abstract class AbstractFileSystem extends org.apache.hadoop.fs.FileSystem {
     } catch (AlluxioException e) {
       throw new IOException(e);
     }
+    return toFileStatus(uri, fileStatus);
+  }
+
+  /**
+   * Returns the statuses of the specified paths, with a single request to the master.
+   *
+   * @param paths the paths to get the statuses of
+   * @return the status of each path, or null for the paths which do not exist
+   * @throws IOException if the status of any of the paths failed to be retrieved
+   */
+  public FileStatus[] getFileStatuses(Path[] paths) throws IOException {
+    LOG.info("getFileStatuses({} paths)", paths.length);
+    if (mStatistics != null) {
+      mStatistics.incrementReadOps(paths.length);
+    }
+    List<AlluxioURI> uris = toUris(paths);
+    List<BatchResult<URIStatus>> results;
+    try {
+      results = sFileSystem.getStatusBatch(uris);
+    } catch (AlluxioException e) {
+      throw new IOException(e);
+    }
+    FileStatus[] statuses = new FileStatus[paths.length];
+    for (int i = 0; i < paths.length; i++) {
+      try {
+        statuses[i] = toFileStatus(uris.get(i), results.get(i).get());
+      } catch (FileDoesNotExistException e) {
+        statuses[i] = null;
+      } catch (AlluxioException e) {
+        throw new IOException(e);
+      }
+    }
+    return statuses;
+  }
 
-    return new FileStatus(fileStatus.getLength(), fileStatus.isFolder(),
+  /**
+   * @param uri the Alluxio path of a file or directory
+   * @param fileStatus the Alluxio status of the path
+   * @return the Hadoop status of the path
+   */
+  private FileStatus toFileStatus(AlluxioURI uri, URIStatus fileStatus) {
+    return new BlockInfoFileStatus(fileStatus.getLength(), fileStatus.isFolder(),
         BLOCK_REPLICATION_CONSTANT, fileStatus.getBlockSizeBytes(), fileStatus.getCreationTimeMs(),
             fileStatus.getCreationTimeMs(), new FsPermission((short) fileStatus.getMode()),
-            fileStatus.getOwner(), fileStatus.getGroup(), new Path(mAlluxioHeader + uri));
+            fileStatus.getOwner(), fileStatus.getGroup(), new Path(mAlluxioHeader + uri),
+            fileStatus.getFileBlockInfos());
+  }
+
+  /**
+   * @param paths the Hadoop paths
+   * @return the Alluxio paths, without the scheme
+   */
+  private static List<AlluxioURI> toUris(Path[] paths) {
+    List<AlluxioURI> uris = new ArrayList<>(paths.length);
+    for (Path path : paths) {
+      uris.add(new AlluxioURI(HadoopUtils.getPathWithoutScheme(path)));
+    }
+    return uris;
   }
 
   /**
@@ -462,9 +563,9 @@ abstract class AbstractFileSystem extends org.apache.hadoop.fs.FileSystem {
     for (int k = 0; k < statuses.size(); k++) {
       URIStatus status = statuses.get(k);
       // TODO(hy): Replicate 3 with the number of disk replications.
-      ret[k] = new FileStatus(status.getLength(), status.isFolder(), 3, status.getBlockSizeBytes(),
-          status.getCreationTimeMs(), status.getCreationTimeMs(), null, null, null,
-          new Path(mAlluxioHeader + status.getPath()));
+      ret[k] = new BlockInfoFileStatus(status.getLength(), status.isFolder(), 3,
+          status.getBlockSizeBytes(), status.getCreationTimeMs(), status.getCreationTimeMs(), null,
+          null, null, new Path(mAlluxioHeader + status.getPath()), status.getFileBlockInfos());
     }
     return ret;
   }
@@ -577,4 +678,45 @@ abstract class AbstractFileSystem extends org.apache.hadoop.fs.FileSystem {
       FileSystemContext.INSTANCE.releaseMasterClient(master);
     }
   }
+
+  /**
+   * A {@link FileStatus} which also carries the block information of the file, as returned by the
+   * master together with the status. It lets {@link #getFileBlockLocations} skip the master RPC
+   * for statuses returned by {@link #listStatus} and {@link #getFileStatus}, so that planning the
+   * input splits of a directory takes a single RPC instead of one per file.
+   */
+  private static final class BlockInfoFileStatus extends FileStatus {
+    private final List<FileBlockInfo> mFileBlockInfos;
+
+    /**
+     * Creates a new instance of {@link BlockInfoFileStatus}.
+     *
+     * @param length the length of the file
+     * @param isDir whether the path is a directory
+     * @param blockReplication the replication of the blocks
+     * @param blockSize the block size
+     * @param modificationTime the modification time
+     * @param accessTime the access time
+     * @param permission the permission
+     * @param owner the owner
+     * @param group the group
+     * @param path the path
+     * @param fileBlockInfos the block information of the file
+     */
+    BlockInfoFileStatus(long length, boolean isDir, int blockReplication, long blockSize,
+        long modificationTime, long accessTime, FsPermission permission, String owner,
+        String group, Path path, List<FileBlockInfo> fileBlockInfos) {
+      super(length, isDir, blockReplication, blockSize, modificationTime, accessTime, permission,
+          owner, group, path);
+      mFileBlockInfos = fileBlockInfos;
+    }
+
+    /**
+     * @return the block information of the file
+     */
+    List<FileBlockInfo> getFileBlockInfos() {
+      return mFileBlockInfos;
+    }
+
+  }
 }
@@ -0,0 +1,78 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.client.block;
+
+import alluxio.Constants;
+import alluxio.wire.BlockInfo;
+import alluxio.wire.BlockLocation;
+import alluxio.wire.FileBlockInfo;
+import alluxio.wire.WorkerNetAddress;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Tests for {@link BlockLoadPlanner}.
+ */
+public final class BlockLoadPlannerTest {
+  private static final WorkerNetAddress WORKER1 = new WorkerNetAddress().setHost("host1");
+  private static final WorkerNetAddress WORKER2 = new WorkerNetAddress().setHost("host2");
+  private static final WorkerNetAddress WORKER3 = new WorkerNetAddress().setHost("host3");
+
+  private final BlockLoadPlanner mPlanner = new BlockLoadPlanner(Arrays.asList(
+      new BlockWorkerInfo(WORKER1, 100 * Constants.MB, 0),
+      new BlockWorkerInfo(WORKER2, 100 * Constants.MB, 0),
+      new BlockWorkerInfo(WORKER3, 100 * Constants.MB, 50 * Constants.MB)));
+
+  /**
+   * Tests that blocks already stored by a worker are assigned to that worker.
+   */
+  @Test
+  public void cachedBlock() {
+    FileBlockInfo block = block(10 * Constants.MB);
+    block.getBlockInfo().setLocations(
+        Arrays.asList(new BlockLocation().setWorkerAddress(WORKER3).setTierAlias("HDD")));
+    Assert.assertEquals(WORKER3, mPlanner.assign(block));
+  }
+
+  /**
+   * Tests that blocks are assigned to workers on the hosts storing them in the under file system.
+   */
+  @Test
+  public void ufsLocality() {
+    FileBlockInfo block = block(10 * Constants.MB).setUfsLocations(Arrays.asList("host3:50010"));
+    Assert.assertEquals(WORKER3, mPlanner.assign(block));
+    block = block(10 * Constants.MB).setUfsLocations(Arrays.asList("host2", "host3"));
+    Assert.assertEquals(WORKER2, mPlanner.assign(block));
+  }
+
+  /**
+   * Tests that blocks without locality are balanced across the workers by available bytes.
+   */
+  @Test
+  public void balance() {
+    List<WorkerNetAddress> assigned = new ArrayList<>();
+    for (int i = 0; i < 7; i++) {
+      assigned.add(mPlanner.assign(block(25 * Constants.MB)));
+    }
+    Assert.assertEquals(
+        Arrays.asList(WORKER1, WORKER2, WORKER1, WORKER2, WORKER1, WORKER2, WORKER3), assigned);
+  }
+
+  private static FileBlockInfo block(long length) {
+    return new FileBlockInfo().setBlockInfo(new BlockInfo().setLength(length));
+  }
+}
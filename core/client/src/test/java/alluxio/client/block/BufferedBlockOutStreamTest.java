@@ -20,8 +20,6 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
-import java.util.Arrays;
-
 /**
  * Tests for the {@link BufferedBlockOutStream} class.
  */
@@ -72,7 +70,7 @@ public class BufferedBlockOutStreamTest {
       Assert.assertEquals(i + 1, mTestStream.getWrittenBytes());
     }
     Assert.assertArrayEquals(INCREASING_BYTES,
-        Arrays.copyOfRange(mTestStream.getBuffer().array(), 0, (int) BLOCK_LENGTH));
+        mTestStream.getBufferedData((int) BLOCK_LENGTH));
   }
 
   /**
@@ -83,7 +81,7 @@ public class BufferedBlockOutStreamTest {
     mTestStream.write(INCREASING_BYTES);
     Assert.assertEquals(INCREASING_BYTES.length, mTestStream.getWrittenBytes());
     Assert.assertArrayEquals(INCREASING_BYTES,
-        Arrays.copyOfRange(mTestStream.getBuffer().array(), 0, (int) BLOCK_LENGTH));
+        mTestStream.getBufferedData((int) BLOCK_LENGTH));
   }
 
   /**
@@ -95,7 +93,7 @@ public class BufferedBlockOutStreamTest {
     mTestStream.write(INCREASING_BYTES, 25, 50);
     Assert.assertEquals(50, mTestStream.getWrittenBytes());
     Assert.assertArrayEquals(BufferUtils.getIncreasingByteArray(25, 50),
-        Arrays.copyOfRange(mTestStream.getBuffer().array(), 0, 50));
+        mTestStream.getBufferedData(50));
 
     Assert.assertFalse(mTestStream.mHasFlushed);
     int bytesToWrite = mTestStream.getBuffer().limit() / 2 + 1;
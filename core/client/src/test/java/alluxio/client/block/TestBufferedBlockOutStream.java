@@ -51,7 +51,9 @@ public class TestBufferedBlockOutStream extends BufferedBlockOutStream {
    *         {@link BufferedBlockOutStream#write(byte[])}
    */
   public byte[] getWrittenData() {
-    flush();
+    if (!mClosed) {
+      flush();
+    }
     return Arrays.copyOfRange(mDataWritten.array(), 0, (int) mWrittenBytes);
   }
 
@@ -85,6 +87,18 @@ public class TestBufferedBlockOutStream extends BufferedBlockOutStream {
     return mBuffer;
   }
 
+  /**
+   * @param length the number of bytes to return
+   * @return the first bytes in the internal buffer
+   */
+  public byte[] getBufferedData(int length) {
+    byte[] data = new byte[length];
+    ByteBuffer buffer = mBuffer.duplicate();
+    buffer.position(0);
+    buffer.get(data);
+    return data;
+  }
+
   /**
    * @return true if the stream is canceled, false otherwise
    */
@@ -107,13 +121,19 @@ public class TestBufferedBlockOutStream extends BufferedBlockOutStream {
 
   @Override
   public void close() {
+    if (mClosed) {
+      return;
+    }
+    flush();
+    releaseBuffer();
     mClosed = true;
   }
 
   @Override
   public void flush() {
     int bytesToWrite = mBuffer.position();
-    mDataWritten.put(mBuffer.array(), 0, bytesToWrite);
+    mBuffer.flip();
+    mDataWritten.put(mBuffer);
     mFlushedBytes += bytesToWrite;
     mBuffer.clear();
     mHasFlushed = true;
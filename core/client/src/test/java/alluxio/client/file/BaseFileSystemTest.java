@@ -25,6 +25,9 @@ import alluxio.client.file.options.OpenFileOptions;
 import alluxio.client.file.options.RenameOptions;
 import alluxio.client.file.options.SetAttributeOptions;
 import alluxio.client.file.options.UnmountOptions;
+import alluxio.exception.FileDoesNotExistException;
+import alluxio.exception.InvalidPathException;
+import alluxio.wire.BatchResult;
 import alluxio.wire.FileInfo;
 
 import org.junit.After;
@@ -38,6 +41,7 @@ import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.modules.junit4.PowerMockRunner;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -123,6 +127,20 @@ public final class BaseFileSystemTest {
     Mockito.verify(mFileSystemMasterClient).delete(file, deleteOptions);
   }
 
+  /**
+   * Tests for the {@link BaseFileSystem#deleteBatch(List, DeleteOptions)} method.
+   */
+  @Test
+  public void deleteBatch() throws Exception {
+    List<AlluxioURI> files = Arrays.asList(new AlluxioURI("/file1"), new AlluxioURI("/file2"));
+    DeleteOptions deleteOptions = DeleteOptions.defaults().setRecursive(true);
+    List<BatchResult<Void>> results = Arrays.asList(BatchResult.<Void>success(null),
+        BatchResult.<Void>failure(new FileDoesNotExistException("/file2")));
+    Mockito.when(mFileSystemMasterClient.deleteBatch(files, deleteOptions)).thenReturn(results);
+    Assert.assertEquals(results, mFileSystem.deleteBatch(files, deleteOptions));
+    Mockito.verify(mFileSystemMasterClient).deleteBatch(files, deleteOptions);
+  }
+
   /**
    * Ensures that an exception is propagated correctly when deleting a file.
    */
@@ -179,6 +197,28 @@ public final class BaseFileSystemTest {
     Mockito.verify(mFileSystemMasterClient).getStatus(file);
   }
 
+  /**
+   * Tests for the {@link BaseFileSystem#getStatusBatch(List)} method.
+   */
+  @Test
+  public void getStatusBatch() throws Exception {
+    AlluxioURI missing = new AlluxioURI("/missing");
+    List<AlluxioURI> files = Arrays.asList(new AlluxioURI("/file"), missing);
+    URIStatus status = new URIStatus(new FileInfo());
+    Mockito.when(mFileSystemMasterClient.getStatusBatch(files)).thenReturn(Arrays.asList(
+        BatchResult.success(status),
+        BatchResult.<URIStatus>failure(new InvalidPathException("invalid"))));
+    List<BatchResult<URIStatus>> results = mFileSystem.getStatusBatch(files);
+    Assert.assertSame(status, results.get(0).get());
+    // The missing path is reported like getStatus does.
+    try {
+      results.get(1).get();
+      Assert.fail("The status of a missing path should not be returned");
+    } catch (FileDoesNotExistException e) {
+      Assert.assertTrue(e.getMessage().contains(missing.getPath()));
+    }
+  }
+
   /**
    * Ensures that an exception is propagated correctly when retrieving information.
    */
@@ -0,0 +1,62 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.client.file.options;
+
+import alluxio.CommonTestUtils;
+import alluxio.thrift.LoadJobTOptions;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests for the {@link LoadJobOptions} class.
+ */
+public class LoadJobOptionsTest {
+  /**
+   * Tests that building a {@link LoadJobOptions} with the defaults works.
+   */
+  @Test
+  public void defaults() {
+    LoadJobOptions options = LoadJobOptions.defaults();
+
+    Assert.assertEquals(16, options.getConcurrency());
+    Assert.assertEquals(0, options.getThroughput());
+  }
+
+  /**
+   * Tests getting and setting fields.
+   */
+  @Test
+  public void fields() {
+    LoadJobOptions options = LoadJobOptions.defaults();
+    options.setConcurrency(4);
+    options.setThroughput(1024);
+    Assert.assertEquals(4, options.getConcurrency());
+    Assert.assertEquals(1024, options.getThroughput());
+  }
+
+  /**
+   * Tests conversion to thrift representation.
+   */
+  @Test
+  public void toThrift() {
+    LoadJobOptions options = LoadJobOptions.defaults().setConcurrency(4).setThroughput(1024);
+    LoadJobTOptions thriftOptions = options.toThrift();
+    Assert.assertEquals(4, thriftOptions.getConcurrency());
+    Assert.assertEquals(1024, thriftOptions.getThroughput());
+  }
+
+  @Test
+  public void equalsTest() throws Exception {
+    CommonTestUtils.testEquals(LoadJobOptions.class);
+  }
+}
@@ -15,6 +15,7 @@ import alluxio.exception.AlluxioException;
 import alluxio.exception.ConnectionFailedException;
 import alluxio.exception.ExceptionMessage;
 import alluxio.exception.PreconditionMessage;
+import alluxio.exception.ServerOverloadedException;
 import alluxio.retry.ExponentialBackoffRetry;
 import alluxio.retry.RetryPolicy;
 import alluxio.security.authentication.TransportProvider;
@@ -53,6 +54,9 @@ public abstract class AbstractClient implements Client {
   /** The number of times to retry a particular RPC. */
   protected static final int RPC_MAX_NUM_RETRY = 30;
 
+  /** The base sleep time when backing off from an overloaded server. */
+  private static final int OVERLOAD_BASE_SLEEP_MS = 50;
+
   protected final String mMode;
 
   protected InetSocketAddress mAddress = null;
@@ -160,7 +164,7 @@ public abstract class AbstractClient implements Client {
     disconnect();
     Preconditions.checkState(!mClosed, "Client is closed, will not try to connect.");
 
-    int maxConnectsTry = Configuration.getInt(PropertyKey.MASTER_RETRY);
+    int maxConnectsTry = getMaxConnectRetries();
     final int BASE_SLEEP_MS = 50;
     RetryPolicy retry =
         new ExponentialBackoffRetry(BASE_SLEEP_MS, Constants.SECOND_MS, maxConnectsTry);
@@ -211,6 +215,13 @@ public abstract class AbstractClient implements Client {
         + " @ " + mAddress + " after " + (retry.getRetryCount()) + " attempts");
   }
 
+  /**
+   * @return the number of times to retry connecting to the remote in {@link #connect()}
+   */
+  protected int getMaxConnectRetries() {
+    return Configuration.getInt(PropertyKey.MASTER_RETRY);
+  }
+
   /**
    * Closes the connection with the Alluxio remote and does the necessary cleanup. It should be used
    * if the client has not connected with the remote for a while, for example.
@@ -299,7 +310,8 @@ public abstract class AbstractClient implements Client {
    * Tries to execute an RPC defined as a {@link RpcCallable}.
    *
    * If a non-Alluxio thrift exception occurs, a reconnection will be tried through
-   * {@link #connect()} and the action will be re-executed.
+   * {@link #connect()} and the action will be re-executed. If the server rejects the call because
+   * it is overloaded, the action will be re-executed after an exponential backoff.
    *
    * @param rpc the RPC call to be executed
    * @param <V> type of return value of the RPC call
@@ -310,6 +322,7 @@ public abstract class AbstractClient implements Client {
    */
   protected synchronized <V> V retryRPC(RpcCallable<V> rpc) throws IOException,
       ConnectionFailedException {
+    RetryPolicy overloadRetry = newOverloadRetryPolicy();
     int retry = 0;
     while (!mClosed && (retry++) <= RPC_MAX_NUM_RETRY) {
       connect();
@@ -318,7 +331,9 @@ public abstract class AbstractClient implements Client {
       } catch (ThriftIOException e) {
         throw new IOException(e);
       } catch (AlluxioTException e) {
-        throw Throwables.propagate(AlluxioException.fromThrift(e));
+        if (!isServerOverloaded(e) || !overloadRetry.attemptRetry()) {
+          throw Throwables.propagate(AlluxioException.fromThrift(e));
+        }
       } catch (TException e) {
         LOG.error(e.getMessage(), e);
         mConnected = false;
@@ -341,13 +356,16 @@ public abstract class AbstractClient implements Client {
    */
   protected synchronized <V> V retryRPC(RpcCallableThrowsAlluxioTException<V> rpc)
       throws AlluxioException, IOException {
+    RetryPolicy overloadRetry = newOverloadRetryPolicy();
     int retry = 0;
     while (!mClosed && (retry++) <= RPC_MAX_NUM_RETRY) {
       connect();
       try {
         return rpc.call();
       } catch (AlluxioTException e) {
-        throw AlluxioException.fromThrift(e);
+        if (!isServerOverloaded(e) || !overloadRetry.attemptRetry()) {
+          throw AlluxioException.fromThrift(e);
+        }
       } catch (ThriftIOException e) {
         throw new IOException(e);
       } catch (TException e) {
@@ -357,4 +375,20 @@ public abstract class AbstractClient implements Client {
     }
     throw new IOException("Failed after " + retry + " retries.");
   }
+
+  /**
+   * @return the policy for backing off when the server rejects an RPC because it is overloaded
+   */
+  private static RetryPolicy newOverloadRetryPolicy() {
+    return new ExponentialBackoffRetry(OVERLOAD_BASE_SLEEP_MS, Constants.SECOND_MS,
+        RPC_MAX_NUM_RETRY);
+  }
+
+  /**
+   * @param e the exception thrown by an RPC
+   * @return whether the server rejected the RPC without executing it because it is overloaded
+   */
+  private static boolean isServerOverloaded(AlluxioTException e) {
+    return ServerOverloadedException.class.getName().equals(e.getClassName());
+  }
 }
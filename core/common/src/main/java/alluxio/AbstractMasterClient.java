@@ -38,8 +38,19 @@ public abstract class AbstractMasterClient extends AbstractClient {
    * @param masterAddress the master address
    */
   public AbstractMasterClient(InetSocketAddress masterAddress) {
+    this(masterAddress, Configuration.getBoolean(PropertyKey.ZOOKEEPER_ENABLED));
+  }
+
+  /**
+   * Creates a new master client base.
+   *
+   * @param masterAddress the master address
+   * @param useZookeeper whether to connect to the leader master found in ZooKeeper instead of the
+   *        given address
+   */
+  public AbstractMasterClient(InetSocketAddress masterAddress, boolean useZookeeper) {
     super(masterAddress, "master");
-    mUseZookeeper = Configuration.getBoolean(PropertyKey.ZOOKEEPER_ENABLED);
+    mUseZookeeper = useZookeeper;
   }
 
   /**
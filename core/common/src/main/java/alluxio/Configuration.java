@@ -25,11 +25,13 @@ import io.netty.util.internal.chmv8.ConcurrentHashMapV8;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -70,6 +72,20 @@ public final class Configuration {
   /** Map of properties. */
   private static final ConcurrentHashMapV8<String, String> PROPERTIES =
       new ConcurrentHashMapV8<>();
+  /**
+   * Values resolved from {@link #PROPERTIES}, indexed by {@link ValueType#ordinal()} and then by
+   * {@link PropertyKey#ordinal()}, so each key is substituted and parsed at most once per type.
+   * The whole table is replaced whenever a property changes, since a change to one property may
+   * change the substituted values of others. The values are set and read through the atomic
+   * arrays, so a value is published safely to the threads reading it.
+   */
+  private static volatile List<AtomicReferenceArray<Object>> sResolvedValues =
+      newResolvedValues();
+
+  /** The types a property value is resolved to by the accessor methods. */
+  private enum ValueType {
+    STRING, INT, LONG, DOUBLE, FLOAT, BOOLEAN, BYTES, CLASS,
+  }
 
   static {
     defaultInit();
@@ -174,6 +190,7 @@ public final class Configuration {
         }
       }
     }
+    invalidateResolvedValues();
     checkUserFileBufferBytes();
   }
 
@@ -191,6 +208,7 @@ public final class Configuration {
     Preconditions.checkArgument(key != null && value != null,
         String.format("the key value pair (%s, %s) cannot have null", key, value));
     PROPERTIES.put(key.toString(), value.toString());
+    invalidateResolvedValues();
     checkUserFileBufferBytes();
   }
 
@@ -202,6 +220,7 @@ public final class Configuration {
   public static void unset(PropertyKey key) {
     Preconditions.checkNotNull(key);
     PROPERTIES.remove(key.toString());
+    invalidateResolvedValues();
   }
 
   /**
@@ -212,12 +231,18 @@ public final class Configuration {
    * @return the value for the given key
    */
   public static String get(PropertyKey key) {
-    String rawValue = PROPERTIES.get(key.toString());
-    if (rawValue == null) {
-      // if key is not found among the default properties
-      throw new RuntimeException(ExceptionMessage.UNDEFINED_CONFIGURATION_KEY.getMessage(key));
+    AtomicReferenceArray<Object> resolved = resolvedValues(ValueType.STRING);
+    String value = (String) resolved.get(key.ordinal());
+    if (value == null) {
+      String rawValue = PROPERTIES.get(key.toString());
+      if (rawValue == null) {
+        // if key is not found among the default properties
+        throw new RuntimeException(ExceptionMessage.UNDEFINED_CONFIGURATION_KEY.getMessage(key));
+      }
+      value = lookup(rawValue);
+      resolved.set(key.ordinal(), value);
     }
-    return lookup(rawValue);
+    return value;
   }
 
   /**
@@ -237,13 +262,19 @@ public final class Configuration {
    * @return the value for the given key as an {@code int}
    */
   public static int getInt(PropertyKey key) {
-    String rawValue = get(key);
-
-    try {
-      return Integer.parseInt(lookup(rawValue));
-    } catch (NumberFormatException e) {
-      throw new RuntimeException(ExceptionMessage.KEY_NOT_INTEGER.getMessage(key));
+    AtomicReferenceArray<Object> resolved = resolvedValues(ValueType.INT);
+    Integer value = (Integer) resolved.get(key.ordinal());
+    if (value == null) {
+      String rawValue = get(key);
+
+      try {
+        value = Integer.parseInt(lookup(rawValue));
+      } catch (NumberFormatException e) {
+        throw new RuntimeException(ExceptionMessage.KEY_NOT_INTEGER.getMessage(key));
+      }
+      resolved.set(key.ordinal(), value);
     }
+    return value;
   }
 
   /**
@@ -253,13 +284,19 @@ public final class Configuration {
    * @return the value for the given key as a {@code long}
    */
   public static long getLong(PropertyKey key) {
-    String rawValue = get(key);
-
-    try {
-      return Long.parseLong(lookup(rawValue));
-    } catch (NumberFormatException e) {
-      throw new RuntimeException(ExceptionMessage.KEY_NOT_LONG.getMessage(key));
+    AtomicReferenceArray<Object> resolved = resolvedValues(ValueType.LONG);
+    Long value = (Long) resolved.get(key.ordinal());
+    if (value == null) {
+      String rawValue = get(key);
+
+      try {
+        value = Long.parseLong(lookup(rawValue));
+      } catch (NumberFormatException e) {
+        throw new RuntimeException(ExceptionMessage.KEY_NOT_LONG.getMessage(key));
+      }
+      resolved.set(key.ordinal(), value);
     }
+    return value;
   }
 
   /**
@@ -269,13 +306,19 @@ public final class Configuration {
    * @return the value for the given key as a {@code double}
    */
   public static double getDouble(PropertyKey key) {
-    String rawValue = get(key);
-
-    try {
-      return Double.parseDouble(lookup(rawValue));
-    } catch (NumberFormatException e) {
-      throw new RuntimeException(ExceptionMessage.KEY_NOT_DOUBLE.getMessage(key));
+    AtomicReferenceArray<Object> resolved = resolvedValues(ValueType.DOUBLE);
+    Double value = (Double) resolved.get(key.ordinal());
+    if (value == null) {
+      String rawValue = get(key);
+
+      try {
+        value = Double.parseDouble(lookup(rawValue));
+      } catch (NumberFormatException e) {
+        throw new RuntimeException(ExceptionMessage.KEY_NOT_DOUBLE.getMessage(key));
+      }
+      resolved.set(key.ordinal(), value);
     }
+    return value;
   }
 
   /**
@@ -285,13 +328,19 @@ public final class Configuration {
    * @return the value for the given key as a {@code float}
    */
   public static float getFloat(PropertyKey key) {
-    String rawValue = get(key);
-
-    try {
-      return Float.parseFloat(lookup(rawValue));
-    } catch (NumberFormatException e) {
-      throw new RuntimeException(ExceptionMessage.KEY_NOT_FLOAT.getMessage(key));
+    AtomicReferenceArray<Object> resolved = resolvedValues(ValueType.FLOAT);
+    Float value = (Float) resolved.get(key.ordinal());
+    if (value == null) {
+      String rawValue = get(key);
+
+      try {
+        value = Float.parseFloat(lookup(rawValue));
+      } catch (NumberFormatException e) {
+        throw new RuntimeException(ExceptionMessage.KEY_NOT_FLOAT.getMessage(key));
+      }
+      resolved.set(key.ordinal(), value);
     }
+    return value;
   }
 
   /**
@@ -301,15 +350,21 @@ public final class Configuration {
    * @return the value for the given key as a {@code boolean}
    */
   public static boolean getBoolean(PropertyKey key) {
-    String rawValue = get(key);
-
-    if (rawValue.equalsIgnoreCase("true")) {
-      return true;
-    } else if (rawValue.equalsIgnoreCase("false")) {
-      return false;
-    } else {
-      throw new RuntimeException(ExceptionMessage.KEY_NOT_BOOLEAN.getMessage(key));
+    AtomicReferenceArray<Object> resolved = resolvedValues(ValueType.BOOLEAN);
+    Boolean value = (Boolean) resolved.get(key.ordinal());
+    if (value == null) {
+      String rawValue = get(key);
+
+      if (rawValue.equalsIgnoreCase("true")) {
+        value = true;
+      } else if (rawValue.equalsIgnoreCase("false")) {
+        value = false;
+      } else {
+        throw new RuntimeException(ExceptionMessage.KEY_NOT_BOOLEAN.getMessage(key));
+      }
+      resolved.set(key.ordinal(), value);
     }
+    return value;
   }
 
   /**
@@ -349,13 +404,19 @@ public final class Configuration {
    * @return the bytes of the value for the given key
    */
   public static long getBytes(PropertyKey key) {
-    String rawValue = get(key);
-
-    try {
-      return FormatUtils.parseSpaceSize(rawValue);
-    } catch (Exception ex) {
-      throw new RuntimeException(ExceptionMessage.KEY_NOT_BYTES.getMessage(key));
+    AtomicReferenceArray<Object> resolved = resolvedValues(ValueType.BYTES);
+    Long value = (Long) resolved.get(key.ordinal());
+    if (value == null) {
+      String rawValue = get(key);
+
+      try {
+        value = FormatUtils.parseSpaceSize(rawValue);
+      } catch (Exception ex) {
+        throw new RuntimeException(ExceptionMessage.KEY_NOT_BYTES.getMessage(key));
+      }
+      resolved.set(key.ordinal(), value);
     }
+    return value;
   }
 
   /**
@@ -366,16 +427,22 @@ public final class Configuration {
    * @return the value for the given key as a class
    */
   public static <T> Class<T> getClass(PropertyKey key) {
-    String rawValue = get(key);
-
-    try {
-      @SuppressWarnings("unchecked")
-      Class<T> clazz = (Class<T>) Class.forName(rawValue);
-      return clazz;
-    } catch (Exception e) {
-      LOG.error("requested class could not be loaded: {}", rawValue, e);
-      throw Throwables.propagate(e);
+    AtomicReferenceArray<Object> resolved = resolvedValues(ValueType.CLASS);
+    Class<?> clazz = (Class<?>) resolved.get(key.ordinal());
+    if (clazz == null) {
+      String rawValue = get(key);
+
+      try {
+        clazz = Class.forName(rawValue);
+      } catch (Exception e) {
+        LOG.error("requested class could not be loaded: {}", rawValue, e);
+        throw Throwables.propagate(e);
+      }
+      resolved.set(key.ordinal(), clazz);
     }
+    @SuppressWarnings("unchecked")
+    Class<T> result = (Class<T>) clazz;
+    return result;
   }
 
   /**
@@ -385,6 +452,36 @@ public final class Configuration {
     return Collections.unmodifiableMap(PROPERTIES);
   }
 
+  /**
+   * Returns the table of resolved values of the given type. Callers must fill in values computed
+   * from {@link #PROPERTIES} only into a table obtained before reading {@link #PROPERTIES}, so
+   * that a value computed concurrently with a property change never outlives that change.
+   *
+   * @param type the type of the values
+   * @return the resolved values of the given type, indexed by {@link PropertyKey#ordinal()}
+   */
+  private static AtomicReferenceArray<Object> resolvedValues(ValueType type) {
+    return sResolvedValues.get(type.ordinal());
+  }
+
+  /**
+   * Drops all resolved values. Must be called after every change to {@link #PROPERTIES}.
+   */
+  private static void invalidateResolvedValues() {
+    sResolvedValues = newResolvedValues();
+  }
+
+  /**
+   * @return an empty table of resolved values
+   */
+  private static List<AtomicReferenceArray<Object>> newResolvedValues() {
+    List<AtomicReferenceArray<Object>> values = new ArrayList<>();
+    for (int i = 0; i < ValueType.values().length; i++) {
+      values.add(new AtomicReferenceArray<>(PropertyKey.values().length));
+    }
+    return Collections.unmodifiableList(values);
+  }
+
   /**
    * Lookup key names to handle ${key} stuff.
    *
@@ -21,6 +21,8 @@ import org.apache.zookeeper.data.Stat;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 
@@ -112,4 +114,30 @@ public final class LeaderInquireClient {
 
     return null;
   }
+
+  /**
+   * Gets the addresses of all the masters taking part in the leader election.
+   *
+   * @param electionPath the path of the leader election
+   * @return the addresses of the masters, or an empty list if they cannot be read
+   */
+  public synchronized List<String> getMasterAddresses(String electionPath) {
+    List<String> addresses = new ArrayList<>();
+    try {
+      if (mClient.checkExists().forPath(electionPath) != null) {
+        for (String participant : mClient.getChildren().forPath(electionPath)) {
+          // Each participant node holds the address of its master as its data.
+          byte[] address =
+              mClient.getData().forPath(PathUtils.concatPath(electionPath, participant));
+          if (address != null && address.length > 0) {
+            addresses.add(new String(address, StandardCharsets.UTF_8));
+          }
+        }
+      }
+    } catch (Exception e) {
+      LOG.error("Error getting the master addresses from zookeeper. Zookeeper address: {}",
+          mZookeeperAddress, e);
+    }
+    return addresses;
+  }
 }
@@ -113,6 +113,10 @@ public enum PropertyKey {
   MASTER_FORMAT_FILE_PREFIX(Name.MASTER_FORMAT_FILE_PREFIX, "_format_"),
   MASTER_HEARTBEAT_INTERVAL_MS(Name.MASTER_HEARTBEAT_INTERVAL_MS, 1000),
   MASTER_HOSTNAME(Name.MASTER_HOSTNAME, null),
+  MASTER_INODE_STORE_CACHE_SIZE(Name.MASTER_INODE_STORE_CACHE_SIZE, 1000000),
+  MASTER_INODE_STORE_CLASS(Name.MASTER_INODE_STORE_CLASS,
+      "alluxio.master.file.meta.HeapInodeStore"),
+  MASTER_INODE_STORE_DIR(Name.MASTER_INODE_STORE_DIR, "${alluxio.work.dir}/inodes"),
   MASTER_JOURNAL_FLUSH_BATCH_TIME_MS(Name.MASTER_JOURNAL_FLUSH_BATCH_TIME_MS, 5),
   MASTER_JOURNAL_FOLDER(Name.MASTER_JOURNAL_FOLDER, "${alluxio.work.dir}/journal"),
   MASTER_JOURNAL_FORMATTER_CLASS(Name.MASTER_JOURNAL_FORMATTER_CLASS,
@@ -125,17 +129,39 @@ public enum PropertyKey {
   MASTER_LINEAGE_CHECKPOINT_CLASS(Name.MASTER_LINEAGE_CHECKPOINT_CLASS,
       "alluxio.master.lineage.checkpoint.CheckpointLatestPlanner"),
   MASTER_LINEAGE_CHECKPOINT_INTERVAL_MS(Name.MASTER_LINEAGE_CHECKPOINT_INTERVAL_MS, 300000),
+  MASTER_LINEAGE_CHECKPOINT_RECOVERY_BOUND_MS(Name.MASTER_LINEAGE_CHECKPOINT_RECOVERY_BOUND_MS,
+      300000),
+  MASTER_LINEAGE_CHECKPOINT_UFS_THROUGHPUT_MAX(Name.MASTER_LINEAGE_CHECKPOINT_UFS_THROUGHPUT_MAX,
+      0),
   MASTER_LINEAGE_RECOMPUTE_INTERVAL_MS(Name.MASTER_LINEAGE_RECOMPUTE_INTERVAL_MS, 300000),
   MASTER_LINEAGE_RECOMPUTE_LOG_PATH(Name.MASTER_LINEAGE_RECOMPUTE_LOG_PATH,
       "${alluxio.logs.dir}/recompute.log"),
+  MASTER_LINEAGE_RECOMPUTE_THREADS(Name.MASTER_LINEAGE_RECOMPUTE_THREADS, 10),
+  MASTER_LOAD_JOB_CONCURRENCY_MAX(Name.MASTER_LOAD_JOB_CONCURRENCY_MAX, 64),
+  MASTER_LOAD_JOB_RETENTION_MS(Name.MASTER_LOAD_JOB_RETENTION_MS, 3600000),
+  MASTER_LOAD_JOBS_MAX(Name.MASTER_LOAD_JOBS_MAX, 16),
+  MASTER_METADATA_LOAD_BATCH_SIZE(Name.MASTER_METADATA_LOAD_BATCH_SIZE, 1000),
+  MASTER_METADATA_LOAD_DIRECTORY_THREADS(Name.MASTER_METADATA_LOAD_DIRECTORY_THREADS, 4),
+  MASTER_METADATA_LOAD_THREADS(Name.MASTER_METADATA_LOAD_THREADS, 16),
   MASTER_PRINCIPAL(Name.MASTER_PRINCIPAL, null),
   MASTER_RETRY(Name.MASTER_RETRY, 29),
+  MASTER_RPC_HANDSHAKE_THREADS(Name.MASTER_RPC_HANDSHAKE_THREADS, 16),
   MASTER_RPC_PORT(Name.MASTER_RPC_PORT, 19998),
+  MASTER_RPC_QUEUE_SIZE(Name.MASTER_RPC_QUEUE_SIZE, 4096),
+  MASTER_RPC_SELECTOR_THREADS(Name.MASTER_RPC_SELECTOR_THREADS, 4),
+  MASTER_STANDBY_READS_ENABLED(Name.MASTER_STANDBY_READS_ENABLED, false),
+  MASTER_SUBTREE_RECLAIM_BATCH_SIZE(Name.MASTER_SUBTREE_RECLAIM_BATCH_SIZE, 1000),
+  MASTER_SUBTREE_RECLAIM_THRESHOLD(Name.MASTER_SUBTREE_RECLAIM_THRESHOLD, 100000),
+  MASTER_SUBTREE_RECLAIM_UFS_THREADS(Name.MASTER_SUBTREE_RECLAIM_UFS_THREADS, 16),
   MASTER_TIERED_STORE_GLOBAL_LEVEL0_ALIAS(Name.MASTER_TIERED_STORE_GLOBAL_LEVEL0_ALIAS, "MEM"),
   MASTER_TIERED_STORE_GLOBAL_LEVEL1_ALIAS(Name.MASTER_TIERED_STORE_GLOBAL_LEVEL1_ALIAS, "SSD"),
   MASTER_TIERED_STORE_GLOBAL_LEVEL2_ALIAS(Name.MASTER_TIERED_STORE_GLOBAL_LEVEL2_ALIAS, "HDD"),
   MASTER_TIERED_STORE_GLOBAL_LEVELS(Name.MASTER_TIERED_STORE_GLOBAL_LEVELS, 3),
+  MASTER_TTL_CHECKER_BATCH_SIZE(Name.MASTER_TTL_CHECKER_BATCH_SIZE, 1000),
   MASTER_TTL_CHECKER_INTERVAL_MS(Name.MASTER_TTL_CHECKER_INTERVAL_MS, 3600000),
+  MASTER_TTL_CHECKER_THROUGHPUT_MAX(Name.MASTER_TTL_CHECKER_THROUGHPUT_MAX, 0),
+  MASTER_UFS_ABSENT_PATH_CACHE_CAPACITY(Name.MASTER_UFS_ABSENT_PATH_CACHE_CAPACITY, 100000),
+  MASTER_UFS_ABSENT_PATH_CACHE_TTL_MS(Name.MASTER_UFS_ABSENT_PATH_CACHE_TTL_MS, 0),
   MASTER_WEB_BIND_HOST(Name.MASTER_WEB_BIND_HOST, "0.0.0.0"),
   MASTER_WEB_HOSTNAME(Name.MASTER_WEB_HOSTNAME, null),
   MASTER_WEB_PORT(Name.MASTER_WEB_PORT, 19999),
@@ -149,9 +175,11 @@ public enum PropertyKey {
   //
   WORKER_ALLOCATOR_CLASS(Name.WORKER_ALLOCATOR_CLASS,
       "alluxio.worker.block.allocator.MaxFreeAllocator"),
+  WORKER_ALLOCATOR_LOAD_DECAY_MS(Name.WORKER_ALLOCATOR_LOAD_DECAY_MS, 10000),
   WORKER_BIND_HOST(Name.WORKER_BIND_HOST, "0.0.0.0"),
   WORKER_BLOCK_HEARTBEAT_INTERVAL_MS(Name.WORKER_BLOCK_HEARTBEAT_INTERVAL_MS, 1000),
   WORKER_BLOCK_HEARTBEAT_TIMEOUT_MS(Name.WORKER_BLOCK_HEARTBEAT_TIMEOUT_MS, 60000),
+  WORKER_BLOCK_LOAD_THROUGHPUT_MAX(Name.WORKER_BLOCK_LOAD_THROUGHPUT_MAX, 0),
   WORKER_BLOCK_THREADS_MAX(Name.WORKER_BLOCK_THREADS_MAX, 2048),
   WORKER_BLOCK_THREADS_MIN(Name.WORKER_BLOCK_THREADS_MIN, 256),
   WORKER_DATA_BIND_HOST(Name.WORKER_DATA_BIND_HOST, "0.0.0.0"),
@@ -176,7 +204,13 @@ public enum PropertyKey {
   WORKER_NETWORK_NETTY_BUFFER_RECEIVE(Name.WORKER_NETWORK_NETTY_BUFFER_RECEIVE, null),
   WORKER_NETWORK_NETTY_BUFFER_SEND(Name.WORKER_NETWORK_NETTY_BUFFER_SEND, null),
   WORKER_NETWORK_NETTY_CHANNEL(Name.WORKER_NETWORK_NETTY_CHANNEL, null),
-  WORKER_NETWORK_NETTY_FILE_TRANSFER_TYPE(Name.WORKER_NETWORK_NETTY_FILE_TRANSFER_TYPE, "MAPPED"),
+  WORKER_NETWORK_NETTY_FILE_TRANSFER_AUTO_THRESHOLD(
+      Name.WORKER_NETWORK_NETTY_FILE_TRANSFER_AUTO_THRESHOLD, "1MB"),
+  WORKER_NETWORK_NETTY_FILE_TRANSFER_TYPE(Name.WORKER_NETWORK_NETTY_FILE_TRANSFER_TYPE, "AUTO"),
+  WORKER_NETWORK_NETTY_IO_QUEUE_SIZE(Name.WORKER_NETWORK_NETTY_IO_QUEUE_SIZE, 1024),
+  WORKER_NETWORK_NETTY_IO_THREADS(Name.WORKER_NETWORK_NETTY_IO_THREADS, 16),
+  WORKER_NETWORK_NETTY_READER_IDLE_TIMEOUT_MS(Name.WORKER_NETWORK_NETTY_READER_IDLE_TIMEOUT_MS,
+      10000),
   WORKER_NETWORK_NETTY_SHUTDOWN_QUIET_PERIOD(Name.WORKER_NETWORK_NETTY_SHUTDOWN_QUIET_PERIOD, 2),
   WORKER_NETWORK_NETTY_SHUTDOWN_TIMEOUT(Name.WORKER_NETWORK_NETTY_SHUTDOWN_TIMEOUT, 15),
   WORKER_NETWORK_NETTY_WATERMARK_HIGH(Name.WORKER_NETWORK_NETTY_WATERMARK_HIGH, "32KB"),
@@ -209,6 +243,7 @@ public enum PropertyKey {
   //
   // User related properties
   //
+  USER_BLOCK_LOAD_TIMEOUT_MS(Name.USER_BLOCK_LOAD_TIMEOUT_MS, 600000),
   USER_BLOCK_MASTER_CLIENT_THREADS(Name.USER_BLOCK_MASTER_CLIENT_THREADS, 10),
   USER_BLOCK_REMOTE_READ_BUFFER_SIZE_BYTES(Name.USER_BLOCK_REMOTE_READ_BUFFER_SIZE_BYTES, "8MB"),
   USER_BLOCK_REMOTE_READER_CLASS(Name.USER_BLOCK_REMOTE_READER_CLASS,
@@ -225,6 +260,7 @@ public enum PropertyKey {
   USER_FILE_BUFFER_BYTES(Name.USER_FILE_BUFFER_BYTES, "1MB"),
   USER_FILE_CACHE_PARTIALLY_READ_BLOCK(Name.USER_FILE_CACHE_PARTIALLY_READ_BLOCK, true),
   USER_FILE_MASTER_CLIENT_THREADS(Name.USER_FILE_MASTER_CLIENT_THREADS, 10),
+  USER_FILE_MASTER_STANDBY_READS_ENABLED(Name.USER_FILE_MASTER_STANDBY_READS_ENABLED, false),
   USER_FILE_READ_TYPE_DEFAULT(Name.USER_FILE_READ_TYPE_DEFAULT, "CACHE_PROMOTE"),
   USER_FILE_SEEK_BUFFER_SIZE_BYTES(Name.USER_FILE_SEEK_BUFFER_SIZE_BYTES, "1MB"),
   USER_FILE_WAITCOMPLETED_POLL_MS(Name.USER_FILE_WAITCOMPLETED_POLL_MS, 1000),
@@ -258,6 +294,10 @@ public enum PropertyKey {
   //
   // FUSE integration related properties
   //
+  /** Time to live of the attributes and directory entries cached by FUSE, 0 to disable. */
+  FUSE_ATTRIBUTE_CACHE_TTL_MS(Name.FUSE_ATTRIBUTE_CACHE_TTL_MS, 1000),
+  /** Maximum number of attributes and directory entries cached by FUSE. */
+  FUSE_CACHED_ATTRIBUTES_MAX(Name.FUSE_CACHED_ATTRIBUTES_MAX, 100000),
   /** Maximum number of Alluxio paths to cache for fuse conversion. */
   FUSE_CACHED_PATHS_MAX(Name.FUSE_CACHED_PATHS_MAX, 500),
   /** Have the fuse process log every FS request. */
@@ -266,12 +306,21 @@ public enum PropertyKey {
   /** FUSE file system name. */
   FUSE_FS_NAME(Name.FUSE_FS_NAME, "alluxio-fuse"),
   FUSE_FS_ROOT(Name.FUSE_FS_ROOT, "/"),
+  /**
+   * Whether the kernel page cache keeps the data of files read through FUSE. When disabled, all
+   * reads and writes bypass the page cache (direct_io).
+   */
+  FUSE_KERNEL_CACHE_ENABLED(Name.FUSE_KERNEL_CACHE_ENABLED, false),
   /**
    * Passed to fuse-mount, maximum granularity of write operations:
    * Capped by the kernel to 128KB max (as of Linux 3.16.0),.
    */
   FUSE_MAXWRITE_BYTES(Name.FUSE_MAXWRITE_BYTES, 131072),
   FUSE_MOUNT_DEFAULT(Name.FUSE_MOUNT_DEFAULT, "/mnt/alluxio"),
+  /** Time to live of the non-existing paths cached by FUSE, 0 to disable. */
+  FUSE_NEGATIVE_CACHE_TTL_MS(Name.FUSE_NEGATIVE_CACHE_TTL_MS, 1000),
+  /** Number of bytes read ahead for sequential reads of each open file, 0 to disable. */
+  FUSE_READAHEAD_BYTES(Name.FUSE_READAHEAD_BYTES, "1MB"),
 
   //
   // Security related properties
@@ -453,6 +502,10 @@ public enum PropertyKey {
     public static final String MASTER_HEARTBEAT_INTERVAL_MS =
         "alluxio.master.heartbeat.interval.ms";
     public static final String MASTER_HOSTNAME = "alluxio.master.hostname";
+    public static final String MASTER_INODE_STORE_CACHE_SIZE =
+        "alluxio.master.inode.store.cache.size";
+    public static final String MASTER_INODE_STORE_CLASS = "alluxio.master.inode.store.class";
+    public static final String MASTER_INODE_STORE_DIR = "alluxio.master.inode.store.dir";
     public static final String MASTER_JOURNAL_FLUSH_BATCH_TIME_MS =
         "alluxio.master.journal.flush.batch.time.ms";
     public static final String MASTER_JOURNAL_FOLDER = "alluxio.master.journal.folder";
@@ -469,13 +522,43 @@ public enum PropertyKey {
         "alluxio.master.lineage.checkpoint.class";
     public static final String MASTER_LINEAGE_CHECKPOINT_INTERVAL_MS =
         "alluxio.master.lineage.checkpoint.interval.ms";
+    public static final String MASTER_LINEAGE_CHECKPOINT_RECOVERY_BOUND_MS =
+        "alluxio.master.lineage.checkpoint.recovery.bound.ms";
+    public static final String MASTER_LINEAGE_CHECKPOINT_UFS_THROUGHPUT_MAX =
+        "alluxio.master.lineage.checkpoint.ufs.throughput.max";
     public static final String MASTER_LINEAGE_RECOMPUTE_INTERVAL_MS =
         "alluxio.master.lineage.recompute.interval.ms";
     public static final String MASTER_LINEAGE_RECOMPUTE_LOG_PATH =
         "alluxio.master.lineage.recompute.log.path";
+    public static final String MASTER_LINEAGE_RECOMPUTE_THREADS =
+        "alluxio.master.lineage.recompute.threads";
+    public static final String MASTER_LOAD_JOB_CONCURRENCY_MAX =
+        "alluxio.master.load.job.concurrency.max";
+    public static final String MASTER_LOAD_JOB_RETENTION_MS =
+        "alluxio.master.load.job.retention.ms";
+    public static final String MASTER_LOAD_JOBS_MAX = "alluxio.master.load.jobs.max";
+    public static final String MASTER_METADATA_LOAD_BATCH_SIZE =
+        "alluxio.master.metadata.load.batch.size";
+    public static final String MASTER_METADATA_LOAD_DIRECTORY_THREADS =
+        "alluxio.master.metadata.load.directory.threads";
+    public static final String MASTER_METADATA_LOAD_THREADS =
+        "alluxio.master.metadata.load.threads";
     public static final String MASTER_PRINCIPAL = "alluxio.master.principal";
     public static final String MASTER_RETRY = "alluxio.master.retry";
+    public static final String MASTER_RPC_HANDSHAKE_THREADS =
+        "alluxio.master.rpc.handshake.threads";
     public static final String MASTER_RPC_PORT = "alluxio.master.port";
+    public static final String MASTER_RPC_QUEUE_SIZE = "alluxio.master.rpc.queue.size";
+    public static final String MASTER_RPC_SELECTOR_THREADS =
+        "alluxio.master.rpc.selector.threads";
+    public static final String MASTER_STANDBY_READS_ENABLED =
+        "alluxio.master.standby.reads.enabled";
+    public static final String MASTER_SUBTREE_RECLAIM_BATCH_SIZE =
+        "alluxio.master.subtree.reclaim.batch.size";
+    public static final String MASTER_SUBTREE_RECLAIM_THRESHOLD =
+        "alluxio.master.subtree.reclaim.threshold";
+    public static final String MASTER_SUBTREE_RECLAIM_UFS_THREADS =
+        "alluxio.master.subtree.reclaim.ufs.threads";
     public static final String MASTER_TIERED_STORE_GLOBAL_LEVEL0_ALIAS =
         "alluxio.master.tieredstore.global.level0.alias";
     public static final String MASTER_TIERED_STORE_GLOBAL_LEVEL1_ALIAS =
@@ -484,8 +567,16 @@ public enum PropertyKey {
         "alluxio.master.tieredstore.global.level2.alias";
     public static final String MASTER_TIERED_STORE_GLOBAL_LEVELS =
         "alluxio.master.tieredstore.global.levels";
+    public static final String MASTER_TTL_CHECKER_BATCH_SIZE =
+        "alluxio.master.ttl.checker.batch.size";
     public static final String MASTER_TTL_CHECKER_INTERVAL_MS =
         "alluxio.master.ttl.checker.interval.ms";
+    public static final String MASTER_TTL_CHECKER_THROUGHPUT_MAX =
+        "alluxio.master.ttl.checker.throughput.max";
+    public static final String MASTER_UFS_ABSENT_PATH_CACHE_CAPACITY =
+        "alluxio.master.ufs.absent.path.cache.capacity";
+    public static final String MASTER_UFS_ABSENT_PATH_CACHE_TTL_MS =
+        "alluxio.master.ufs.absent.path.cache.ttl.ms";
     public static final String MASTER_WEB_BIND_HOST = "alluxio.master.web.bind.host";
     public static final String MASTER_WEB_HOSTNAME = "alluxio.master.web.hostname";
     public static final String MASTER_WEB_PORT = "alluxio.master.web.port";
@@ -498,11 +589,15 @@ public enum PropertyKey {
     // Worker related properties
     //
     public static final String WORKER_ALLOCATOR_CLASS = "alluxio.worker.allocator.class";
+    public static final String WORKER_ALLOCATOR_LOAD_DECAY_MS =
+        "alluxio.worker.allocator.load.decay.ms";
     public static final String WORKER_BIND_HOST = "alluxio.worker.bind.host";
     public static final String WORKER_BLOCK_HEARTBEAT_INTERVAL_MS =
         "alluxio.worker.block.heartbeat.interval.ms";
     public static final String WORKER_BLOCK_HEARTBEAT_TIMEOUT_MS =
         "alluxio.worker.block.heartbeat.timeout.ms";
+    public static final String WORKER_BLOCK_LOAD_THROUGHPUT_MAX =
+        "alluxio.worker.block.load.throughput.max";
     public static final String WORKER_BLOCK_THREADS_MAX = "alluxio.worker.block.threads.max";
     public static final String WORKER_BLOCK_THREADS_MIN = "alluxio.worker.block.threads.min";
     public static final String WORKER_DATA_BIND_HOST = "alluxio.worker.data.bind.host";
@@ -538,8 +633,16 @@ public enum PropertyKey {
         "alluxio.worker.network.netty.buffer.send";
     public static final String WORKER_NETWORK_NETTY_CHANNEL =
         "alluxio.worker.network.netty.channel";
+    public static final String WORKER_NETWORK_NETTY_FILE_TRANSFER_AUTO_THRESHOLD =
+        "alluxio.worker.network.netty.file.transfer.auto.threshold";
     public static final String WORKER_NETWORK_NETTY_FILE_TRANSFER_TYPE =
         "alluxio.worker.network.netty.file.transfer";
+    public static final String WORKER_NETWORK_NETTY_IO_QUEUE_SIZE =
+        "alluxio.worker.network.netty.io.queue.size";
+    public static final String WORKER_NETWORK_NETTY_IO_THREADS =
+        "alluxio.worker.network.netty.io.threads";
+    public static final String WORKER_NETWORK_NETTY_READER_IDLE_TIMEOUT_MS =
+        "alluxio.worker.network.netty.reader.idle.timeout.ms";
     public static final String WORKER_NETWORK_NETTY_SHUTDOWN_QUIET_PERIOD =
         "alluxio.worker.network.netty.shutdown.quiet.period";
     public static final String WORKER_NETWORK_NETTY_SHUTDOWN_TIMEOUT =
@@ -591,6 +694,7 @@ public enum PropertyKey {
     //
     // User related properties
     //
+    public static final String USER_BLOCK_LOAD_TIMEOUT_MS = "alluxio.user.block.load.timeout.ms";
     public static final String USER_BLOCK_MASTER_CLIENT_THREADS =
         "alluxio.user.block.master.client.threads";
     public static final String USER_BLOCK_REMOTE_READER_CLASS =
@@ -614,6 +718,8 @@ public enum PropertyKey {
         "alluxio.user.file.cache.partially.read.block";
     public static final String USER_FILE_MASTER_CLIENT_THREADS =
         "alluxio.user.file.master.client.threads";
+    public static final String USER_FILE_MASTER_STANDBY_READS_ENABLED =
+        "alluxio.user.file.master.standby.reads.enabled";
     public static final String USER_FILE_READ_TYPE_DEFAULT = "alluxio.user.file.readtype.default";
     public static final String USER_FILE_SEEK_BUFFER_SIZE_BYTES =
         "alluxio.user.file.seek.buffer.size.bytes";
@@ -656,12 +762,18 @@ public enum PropertyKey {
     //
     // FUSE integration related properties
     //
+    public static final String FUSE_ATTRIBUTE_CACHE_TTL_MS =
+        "alluxio.fuse.attribute.cache.ttl.ms";
+    public static final String FUSE_CACHED_ATTRIBUTES_MAX = "alluxio.fuse.cached.attributes.max";
     public static final String FUSE_CACHED_PATHS_MAX = "alluxio.fuse.cached.paths.max";
     public static final String FUSE_DEBUG_ENABLED = "alluxio.fuse.debug.enabled";
     public static final String FUSE_FS_NAME = "alluxio.fuse.fs.name";
     public static final String FUSE_FS_ROOT = "alluxio.fuse.fs.root";
+    public static final String FUSE_KERNEL_CACHE_ENABLED = "alluxio.fuse.kernel.cache.enabled";
     public static final String FUSE_MAXWRITE_BYTES = "alluxio.fuse.maxwrite.bytes";
     public static final String FUSE_MOUNT_DEFAULT = "alluxio.fuse.mount.default";
+    public static final String FUSE_NEGATIVE_CACHE_TTL_MS = "alluxio.fuse.negative.cache.ttl.ms";
+    public static final String FUSE_READAHEAD_BYTES = "alluxio.fuse.readahead.bytes";
 
     //
     // Security related properties
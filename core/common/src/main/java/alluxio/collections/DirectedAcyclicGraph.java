@@ -25,7 +25,8 @@ import java.util.Set;
 import javax.annotation.concurrent.NotThreadSafe;
 
 /**
- * A Directed Acyclic Graph (DAG).
+ * A Directed Acyclic Graph (DAG). The methods which do not change the DAG may be called
+ * concurrently, as long as they are excluded from the methods which change it.
  *
  * @param <T> the payload of each node
  */
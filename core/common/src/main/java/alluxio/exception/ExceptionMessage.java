@@ -30,6 +30,7 @@ public enum ExceptionMessage {
   PATH_MUST_BE_FILE("Path {0} must be a file"),
   PATH_MUST_BE_DIRECTORY("Path {0} must be a directory"),
   PATH_INVALID("Path {0} is invalid"),
+  SERVER_OVERLOADED("The server request queue is full, {0} will be retried later"),
 
   // general block
   BLOCK_NOT_LOCALLY_AVAILABLE("blockId {0,number,#} is not available on local machine"),
@@ -65,6 +66,7 @@ public enum ExceptionMessage {
   SEEK_PAST_EOF("Seek position is past EOF: {0,number,#}, fileSize: {1,number,#}"),
 
   // netty
+  BLOCK_LOAD_ERROR("Error loading blockId: {0,number,#}, address: {1}, message: {2}"),
   BLOCK_WRITE_ERROR(
       "Error writing blockId: {0,number,#}, sessionId: {1,number,#}, address: {2}, message: {3}"),
   NO_RPC_HANDLER("No handler implementation for rpc message type: {0}"),
@@ -116,10 +118,16 @@ public enum ExceptionMessage {
   // file system master
   INODE_DOES_NOT_EXIST("inodeId {0,number,#} does not exist"),
   INODE_DOES_NOT_EXIST_RETRIES("inodeId {0,number,#} does not exist; too many retries"),
+  LOAD_JOB_BLOCK_LOST(
+      "Block {0,number,#} of {1} is lost and cannot be loaded since the file is not persisted"),
+  LOAD_JOB_DOES_NOT_EXIST("The load job {0,number,#} does not exist"),
+  LOAD_JOBS_LIMIT_REACHED("{0} load jobs are already running, {1} will be retried later"),
   NOT_MUTABLE_INODE_PATH("Not a MutableLockedInodePath: {0}"),
   PATH_COMPONENTS_INVALID("Parameter pathComponents is {0}"),
   PATH_COMPONENTS_INVALID_START("Path starts with {0}"),
   PATH_MUST_HAVE_VALID_PARENT("{0} does not have a valid parent"),
+  PATH_NOT_LOADED_ON_STANDBY("The metadata of {0} must be loaded by the leader master"),
+  PATH_PENDING_DELETION("{0} cannot be changed while {1} is being deleted in the background"),
   RENAME_CANNOT_BE_ACROSS_MOUNTS("Renaming {0} to {1} is a cross mount operation"),
   RENAME_CANNOT_BE_ONTO_MOUNT_POINT("{0} is a mount point and cannot be renamed onto"),
   RENAME_CANNOT_BE_TO_ROOT("Cannot rename a path to the root directory"),
@@ -0,0 +1,126 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.network.protocol;
+
+import com.google.common.base.Charsets;
+import com.google.common.base.Objects;
+import com.google.common.base.Preconditions;
+import com.google.common.primitives.Ints;
+import com.google.common.primitives.Longs;
+import io.netty.buffer.ByteBuf;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * This represents an RPC request asking an Alluxio worker to cache a block by reading it directly
+ * from the under file system. The worker responds once the block is committed.
+ */
+@ThreadSafe
+public final class RPCBlockLoadRequest extends RPCRequest {
+  private final long mBlockId;
+  private final String mUfsPath;
+  private final long mOffset;
+  private final long mLength;
+
+  /**
+   * Constructs a new RPC request to load a block from an under file system into an Alluxio
+   * worker.
+   *
+   * @param blockId the id of the block to load
+   * @param ufsPath the under file system path of the file containing the block
+   * @param offset the offset of the block in the file
+   * @param length the length of the block
+   */
+  public RPCBlockLoadRequest(long blockId, String ufsPath, long offset, long length) {
+    mBlockId = blockId;
+    mUfsPath = ufsPath;
+    mOffset = offset;
+    mLength = length;
+  }
+
+  @Override
+  public Type getType() {
+    return Type.RPC_BLOCK_LOAD_REQUEST;
+  }
+
+  /**
+   * Decodes the input {@link ByteBuf} into a {@link RPCBlockLoadRequest} object and returns it.
+   *
+   * @param in the input {@link ByteBuf}
+   * @return The decoded RPCBlockLoadRequest object
+   */
+  public static RPCBlockLoadRequest decode(ByteBuf in) {
+    long blockId = in.readLong();
+    byte[] ufsPath = new byte[in.readInt()];
+    in.readBytes(ufsPath);
+    long offset = in.readLong();
+    long length = in.readLong();
+    return new RPCBlockLoadRequest(blockId, new String(ufsPath, Charsets.UTF_8), offset, length);
+  }
+
+  @Override
+  public int getEncodedLength() {
+    // 3 longs (mBlockId, mOffset, mLength) + 1 int (length of mUfsPath) + mUfsPath bytes
+    return Longs.BYTES * 3 + Ints.BYTES + mUfsPath.getBytes(Charsets.UTF_8).length;
+  }
+
+  @Override
+  public void encode(ByteBuf out) {
+    byte[] ufsPath = mUfsPath.getBytes(Charsets.UTF_8);
+    out.writeLong(mBlockId);
+    out.writeInt(ufsPath.length);
+    out.writeBytes(ufsPath);
+    out.writeLong(mOffset);
+    out.writeLong(mLength);
+  }
+
+  @Override
+  public void validate() {
+    Preconditions.checkState(!mUfsPath.isEmpty(), "UFS path cannot be empty");
+    Preconditions.checkState(mOffset >= 0, "Offset cannot be negative: %s", mOffset);
+    Preconditions.checkState(mLength >= 0, "Length cannot be negative: %s", mLength);
+  }
+
+  @Override
+  public String toString() {
+    return Objects.toStringHelper(this).add("blockId", mBlockId).add("ufsPath", mUfsPath)
+        .add("offset", mOffset).add("length", mLength).toString();
+  }
+
+  /**
+   * @return the id of the block to load
+   */
+  public long getBlockId() {
+    return mBlockId;
+  }
+
+  /**
+   * @return the under file system path of the file containing the block
+   */
+  public String getUfsPath() {
+    return mUfsPath;
+  }
+
+  /**
+   * @return the offset of the block in the file
+   */
+  public long getOffset() {
+    return mOffset;
+  }
+
+  /**
+   * @return the length of the block
+   */
+  public long getLength() {
+    return mLength;
+  }
+}
@@ -0,0 +1,102 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.network.protocol;
+
+import com.google.common.base.Objects;
+import com.google.common.base.Preconditions;
+import com.google.common.primitives.Longs;
+import com.google.common.primitives.Shorts;
+import io.netty.buffer.ByteBuf;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * This represents the response to a {@link RPCBlockLoadRequest}.
+ */
+@ThreadSafe
+public final class RPCBlockLoadResponse extends RPCResponse {
+  private final long mBlockId;
+  private final Status mStatus;
+
+  /**
+   * Constructs a new response to a {@link RPCBlockLoadRequest}.
+   *
+   * @param blockId the id of the block loaded
+   * @param status the status
+   */
+  public RPCBlockLoadResponse(long blockId, Status status) {
+    mBlockId = blockId;
+    mStatus = status;
+  }
+
+  /**
+   * Creates a {@link RPCBlockLoadResponse} object that indicates an error for the given
+   * {@link RPCBlockLoadRequest}.
+   *
+   * @param request the {@link RPCBlockLoadRequest} to generated the {@link RPCBlockLoadResponse}
+   *        for
+   * @param status the {@link alluxio.network.protocol.RPCResponse.Status} for the response
+   * @return The generated {@link RPCBlockLoadResponse} object
+   */
+  public static RPCBlockLoadResponse createErrorResponse(final RPCBlockLoadRequest request,
+      final Status status) {
+    Preconditions.checkArgument(status != Status.SUCCESS);
+    return new RPCBlockLoadResponse(request.getBlockId(), status);
+  }
+
+  @Override
+  public Type getType() {
+    return Type.RPC_BLOCK_LOAD_RESPONSE;
+  }
+
+  /**
+   * Decodes the input {@link ByteBuf} into a {@link RPCBlockLoadResponse} object and returns it.
+   *
+   * @param in the input {@link ByteBuf}
+   * @return the decoded RPCBlockLoadResponse object
+   */
+  public static RPCBlockLoadResponse decode(ByteBuf in) {
+    long blockId = in.readLong();
+    short status = in.readShort();
+    return new RPCBlockLoadResponse(blockId, Status.fromShort(status));
+  }
+
+  @Override
+  public int getEncodedLength() {
+    // 1 long (mBlockId) + 1 short (mStatus)
+    return Longs.BYTES + Shorts.BYTES;
+  }
+
+  @Override
+  public void encode(ByteBuf out) {
+    out.writeLong(mBlockId);
+    out.writeShort(mStatus.getId());
+  }
+
+  @Override
+  public String toString() {
+    return Objects.toStringHelper(this).add("blockId", mBlockId).add("status", mStatus)
+        .toString();
+  }
+
+  /**
+   * @return the id of the block loaded
+   */
+  public long getBlockId() {
+    return mBlockId;
+  }
+
+  @Override
+  public Status getStatus() {
+    return mStatus;
+  }
+}
@@ -41,6 +41,8 @@ public abstract class RPCMessage implements EncodedMessage {
     RPC_FILE_READ_RESPONSE(6),
     RPC_FILE_WRITE_REQUEST(7),
     RPC_FILE_WRITE_RESPONSE(8),
+    RPC_BLOCK_LOAD_REQUEST(9),
+    RPC_BLOCK_LOAD_RESPONSE(10),
     ;
 
     private final int mId;
@@ -102,6 +104,10 @@ public abstract class RPCMessage implements EncodedMessage {
           return RPC_FILE_WRITE_REQUEST;
         case 8:
           return RPC_FILE_WRITE_RESPONSE;
+        case 9:
+          return RPC_BLOCK_LOAD_REQUEST;
+        case 10:
+          return RPC_BLOCK_LOAD_RESPONSE;
         default:
           throw new IllegalArgumentException("Unknown RPCMessage type id. id: " + id);
       }
@@ -183,6 +189,10 @@ public abstract class RPCMessage implements EncodedMessage {
         return RPCFileWriteRequest.decode(in);
       case RPC_FILE_WRITE_RESPONSE:
         return RPCFileWriteResponse.decode(in);
+      case RPC_BLOCK_LOAD_REQUEST:
+        return RPCBlockLoadRequest.decode(in);
+      case RPC_BLOCK_LOAD_RESPONSE:
+        return RPCBlockLoadResponse.decode(in);
       default:
         throw new IllegalArgumentException("Unknown RPCMessage type. type: " + type);
     }
@@ -40,6 +40,7 @@ public abstract class RPCResponse extends RPCMessage {
     WRITE_ERROR(102),
     UFS_READ_FAILED(103),
     UFS_WRITE_FAILED(104),
+    BLOCK_LOAD_REJECTED(105),
     ;
 
     private static final String DEFAULT_ERROR_STRING = "Unknown error.";
@@ -121,6 +122,8 @@ public abstract class RPCResponse extends RPCMessage {
           return "Failed to lock block.";
         case WRITE_ERROR:
           return "Failed to write block.";
+        case BLOCK_LOAD_REJECTED:
+          return "The block to load does not match the metadata of its file.";
         default:
           return DEFAULT_ERROR_STRING;
       }
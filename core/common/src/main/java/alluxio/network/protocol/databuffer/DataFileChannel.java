@@ -19,7 +19,9 @@ import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
 
 /**
- * A DataBuffer with the underlying data being a {@link FileChannel}.
+ * A DataBuffer with the underlying data being a {@link FileChannel}. The file channel is owned by
+ * the caller and is not closed when the data is transferred or released, so that it can be reused
+ * across requests.
  */
 public final class DataFileChannel implements DataBuffer {
   private final FileChannel mFileChannel;
@@ -40,7 +42,10 @@ public final class DataFileChannel implements DataBuffer {
 
   @Override
   public Object getNettyOutput() {
-    return new DefaultFileRegion(mFileChannel, mOffset, mLength);
+    // The region is retained once more, so that it is not deallocated when Netty releases it after
+    // the transfer. Deallocating a DefaultFileRegion closes its file channel, which is owned by
+    // the caller.
+    return new DefaultFileRegion(mFileChannel, mOffset, mLength).retain();
   }
 
   @Override
@@ -52,10 +57,11 @@ public final class DataFileChannel implements DataBuffer {
   public ByteBuffer getReadOnlyByteBuffer() {
     ByteBuffer buffer = ByteBuffer.allocate((int) mLength);
     try {
-      mFileChannel.position(mOffset);
+      // Use positional reads, since the channel may be shared.
       int bytesRead;
       long bytesRemaining = mLength;
-      while (bytesRemaining > 0 && (bytesRead = mFileChannel.read(buffer)) >= 0) {
+      while (bytesRemaining > 0
+          && (bytesRead = mFileChannel.read(buffer, mOffset + mLength - bytesRemaining)) >= 0) {
         bytesRemaining -= bytesRead;
       }
     } catch (IOException e) {
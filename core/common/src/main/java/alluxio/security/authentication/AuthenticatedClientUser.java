@@ -25,8 +25,9 @@ import javax.annotation.concurrent.ThreadSafe;
  * It is maintained in a {@link ThreadLocal} variable based on the Thrift RPC mechanism.
  * {@link org.apache.thrift.server.TThreadPoolServer} allocates a thread to serve a connection
  * from client side and take back it when connection is closed. During the thread alive cycle,
- * all the RPC happens in this thread. These RPC methods implemented in server side could
- * get the client user by this class.
+ * all the RPC happens in this thread. Servers which run the requests of a connection in a pool
+ * of threads set the user of the connection before running each request. These RPC methods
+ * implemented in server side could get the client user by this class.
  */
 @ThreadSafe
 public final class AuthenticatedClientUser {
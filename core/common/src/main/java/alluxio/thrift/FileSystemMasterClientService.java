@@ -42,6 +42,13 @@ public class FileSystemMasterClientService {
    */
   public interface Iface extends alluxio.thrift.AlluxioService.Iface {
 
+    /**
+     * Cancels a load job. The blocks being loaded are still loaded, but no other block is.
+     * 
+     * @param id the id of the load job
+     */
+    public void cancelLoadJob(long id) throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException;
+
     /**
      * Marks a file as completed.
      * 
@@ -51,6 +58,15 @@ public class FileSystemMasterClientService {
      */
     public void completeFile(String path, CompleteFileTOptions options) throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException;
 
+    /**
+     * Marks the given files as completed, and returns the results in the same order as the paths.
+     * 
+     * @param paths the paths of the files
+     * 
+     * @param options the method options, one per path
+     */
+    public List<FileSystemBatchTResult> completeFileBatch(List<String> paths, List<CompleteFileTOptions> options) throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException;
+
     /**
      * Creates a directory.
      * 
@@ -69,6 +85,15 @@ public class FileSystemMasterClientService {
      */
     public void createFile(String path, CreateFileTOptions options) throws alluxio.thrift.AlluxioTException, alluxio.thrift.ThriftIOException, org.apache.thrift.TException;
 
+    /**
+     * Creates the given files, and returns the results in the same order as the paths.
+     * 
+     * @param paths the paths of the files
+     * 
+     * @param options the options for creating the files, one per path
+     */
+    public List<FileSystemBatchTResult> createFileBatch(List<String> paths, List<CreateFileTOptions> options) throws alluxio.thrift.AlluxioTException, alluxio.thrift.ThriftIOException, org.apache.thrift.TException;
+
     /**
      * Frees the given file or directory from Alluxio.
      * 
@@ -78,6 +103,13 @@ public class FileSystemMasterClientService {
      */
     public void free(String path, boolean recursive) throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException;
 
+    /**
+     * Returns the content summary of the file or directory.
+     * 
+     * @param path the path of the file or directory
+     */
+    public ContentSummary getContentSummary(String path) throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException;
+
     /**
      * Returns the list of file blocks information for the given file.
      * 
@@ -94,6 +126,13 @@ public class FileSystemMasterClientService {
      */
     public FileInfo getStatus(String path) throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException;
 
+    /**
+     * Returns the status of the given files or directories, in the same order as the paths.
+     * 
+     * @param paths the paths of the files or directories
+     */
+    public List<FileSystemBatchTResult> getStatusBatch(List<String> paths) throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException;
+
     /**
      * Returns the status of the file or directory, only used internally by servers.
      * 
@@ -103,6 +142,18 @@ public class FileSystemMasterClientService {
      */
     public FileInfo getStatusInternal(long fileId) throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException;
 
+    /**
+     * Returns the sequence number of the latest journal entry applied by this master.
+     */
+    public long getJournalSequenceNumber() throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException;
+
+    /**
+     * Returns the progress of a load job.
+     * 
+     * @param id the id of the load job
+     */
+    public LoadJobInfo getLoadJobInfo(long id) throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException;
+
     /**
      * Generates a new block id for the given file.
      * 
@@ -161,6 +212,16 @@ public class FileSystemMasterClientService {
      */
     public void remove(String path, boolean recursive) throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException;
 
+    /**
+     * Deletes the given files or directories, and returns the results in the same order as the
+     * paths.
+     * 
+     * @param paths the paths of the files or directories
+     * 
+     * @param recursive whether to remove recursively
+     */
+    public List<FileSystemBatchTResult> removeBatch(List<String> paths, boolean recursive) throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException;
+
     /**
      * Renames a file or a directory.
      * 
@@ -179,6 +240,16 @@ public class FileSystemMasterClientService {
      */
     public void setAttribute(String path, SetAttributeTOptions options) throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException;
 
+    /**
+     * Sets the attributes of the given files or directories, and returns the results in the same
+     * order as the paths.
+     * 
+     * @param paths the paths of the files or directories
+     * 
+     * @param options the method options, one per path
+     */
+    public List<FileSystemBatchTResult> setAttributeBatch(List<String> paths, List<SetAttributeTOptions> options) throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException;
+
     /**
      * Schedules async persistence.
      * 
@@ -186,6 +257,15 @@ public class FileSystemMasterClientService {
      */
     public void scheduleAsyncPersist(String path) throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException;
 
+    /**
+     * Submits a job loading the blocks of a file or directory into Alluxio, and returns its id.
+     * 
+     * @param path the path of the file or directory
+     * 
+     * @param options the method options
+     */
+    public long submitLoadJob(String path, LoadJobTOptions options) throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException;
+
     /**
      * Deletes an existing "mount point", voiding the Alluxio namespace at the given path. The path
      * should correspond to an existing mount point. Any files in its subtree that are backed by UFS
@@ -199,20 +279,34 @@ public class FileSystemMasterClientService {
 
   public interface AsyncIface extends alluxio.thrift.AlluxioService .AsyncIface {
 
+    public void cancelLoadJob(long id, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
     public void completeFile(String path, CompleteFileTOptions options, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
+    public void completeFileBatch(List<String> paths, List<CompleteFileTOptions> options, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
     public void createDirectory(String path, CreateDirectoryTOptions options, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
     public void createFile(String path, CreateFileTOptions options, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
+    public void createFileBatch(List<String> paths, List<CreateFileTOptions> options, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
     public void free(String path, boolean recursive, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
+    public void getContentSummary(String path, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
     public void getFileBlockInfoList(String path, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
     public void getStatus(String path, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
+    public void getStatusBatch(List<String> paths, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
     public void getStatusInternal(long fileId, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
+    public void getJournalSequenceNumber(org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
+    public void getLoadJobInfo(long id, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
     public void getNewBlockIdForFile(String path, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
     public void getUfsAddress(org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
@@ -225,12 +319,18 @@ public class FileSystemMasterClientService {
 
     public void remove(String path, boolean recursive, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
+    public void removeBatch(List<String> paths, boolean recursive, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
     public void rename(String path, String dstPath, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
     public void setAttribute(String path, SetAttributeTOptions options, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
+    public void setAttributeBatch(List<String> paths, List<SetAttributeTOptions> options, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
     public void scheduleAsyncPersist(String path, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
+    public void submitLoadJob(String path, LoadJobTOptions options, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
     public void unmount(String alluxioPath, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
   }
@@ -255,6 +355,29 @@ public class FileSystemMasterClientService {
       super(iprot, oprot);
     }
 
+    public void cancelLoadJob(long id) throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException
+    {
+      send_cancelLoadJob(id);
+      recv_cancelLoadJob();
+    }
+
+    public void send_cancelLoadJob(long id) throws org.apache.thrift.TException
+    {
+      cancelLoadJob_args args = new cancelLoadJob_args();
+      args.setId(id);
+      sendBase("cancelLoadJob", args);
+    }
+
+    public void recv_cancelLoadJob() throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException
+    {
+      cancelLoadJob_result result = new cancelLoadJob_result();
+      receiveBase(result, "cancelLoadJob");
+      if (result.e != null) {
+        throw result.e;
+      }
+      return;
+    }
+
     public void completeFile(String path, CompleteFileTOptions options) throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException
     {
       send_completeFile(path, options);
@@ -279,6 +402,33 @@ public class FileSystemMasterClientService {
       return;
     }
 
+    public List<FileSystemBatchTResult> completeFileBatch(List<String> paths, List<CompleteFileTOptions> options) throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException
+    {
+      send_completeFileBatch(paths, options);
+      return recv_completeFileBatch();
+    }
+
+    public void send_completeFileBatch(List<String> paths, List<CompleteFileTOptions> options) throws org.apache.thrift.TException
+    {
+      completeFileBatch_args args = new completeFileBatch_args();
+      args.setPaths(paths);
+      args.setOptions(options);
+      sendBase("completeFileBatch", args);
+    }
+
+    public List<FileSystemBatchTResult> recv_completeFileBatch() throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException
+    {
+      completeFileBatch_result result = new completeFileBatch_result();
+      receiveBase(result, "completeFileBatch");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      if (result.e != null) {
+        throw result.e;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "completeFileBatch failed: unknown result");
+    }
+
     public void createDirectory(String path, CreateDirectoryTOptions options) throws alluxio.thrift.AlluxioTException, alluxio.thrift.ThriftIOException, org.apache.thrift.TException
     {
       send_createDirectory(path, options);
@@ -333,6 +483,36 @@ public class FileSystemMasterClientService {
       return;
     }
 
+    public List<FileSystemBatchTResult> createFileBatch(List<String> paths, List<CreateFileTOptions> options) throws alluxio.thrift.AlluxioTException, alluxio.thrift.ThriftIOException, org.apache.thrift.TException
+    {
+      send_createFileBatch(paths, options);
+      return recv_createFileBatch();
+    }
+
+    public void send_createFileBatch(List<String> paths, List<CreateFileTOptions> options) throws org.apache.thrift.TException
+    {
+      createFileBatch_args args = new createFileBatch_args();
+      args.setPaths(paths);
+      args.setOptions(options);
+      sendBase("createFileBatch", args);
+    }
+
+    public List<FileSystemBatchTResult> recv_createFileBatch() throws alluxio.thrift.AlluxioTException, alluxio.thrift.ThriftIOException, org.apache.thrift.TException
+    {
+      createFileBatch_result result = new createFileBatch_result();
+      receiveBase(result, "createFileBatch");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      if (result.e != null) {
+        throw result.e;
+      }
+      if (result.ioe != null) {
+        throw result.ioe;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "createFileBatch failed: unknown result");
+    }
+
     public void free(String path, boolean recursive) throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException
     {
       send_free(path, recursive);
@@ -357,6 +537,32 @@ public class FileSystemMasterClientService {
       return;
     }
 
+    public ContentSummary getContentSummary(String path) throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException
+    {
+      send_getContentSummary(path);
+      return recv_getContentSummary();
+    }
+
+    public void send_getContentSummary(String path) throws org.apache.thrift.TException
+    {
+      getContentSummary_args args = new getContentSummary_args();
+      args.setPath(path);
+      sendBase("getContentSummary", args);
+    }
+
+    public ContentSummary recv_getContentSummary() throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException
+    {
+      getContentSummary_result result = new getContentSummary_result();
+      receiveBase(result, "getContentSummary");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      if (result.e != null) {
+        throw result.e;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "getContentSummary failed: unknown result");
+    }
+
     public List<FileBlockInfo> getFileBlockInfoList(String path) throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException
     {
       send_getFileBlockInfoList(path);
@@ -409,6 +615,32 @@ public class FileSystemMasterClientService {
       throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "getStatus failed: unknown result");
     }
 
+    public List<FileSystemBatchTResult> getStatusBatch(List<String> paths) throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException
+    {
+      send_getStatusBatch(paths);
+      return recv_getStatusBatch();
+    }
+
+    public void send_getStatusBatch(List<String> paths) throws org.apache.thrift.TException
+    {
+      getStatusBatch_args args = new getStatusBatch_args();
+      args.setPaths(paths);
+      sendBase("getStatusBatch", args);
+    }
+
+    public List<FileSystemBatchTResult> recv_getStatusBatch() throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException
+    {
+      getStatusBatch_result result = new getStatusBatch_result();
+      receiveBase(result, "getStatusBatch");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      if (result.e != null) {
+        throw result.e;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "getStatusBatch failed: unknown result");
+    }
+
     public FileInfo getStatusInternal(long fileId) throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException
     {
       send_getStatusInternal(fileId);
@@ -435,6 +667,57 @@ public class FileSystemMasterClientService {
       throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "getStatusInternal failed: unknown result");
     }
 
+    public long getJournalSequenceNumber() throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException
+    {
+      send_getJournalSequenceNumber();
+      return recv_getJournalSequenceNumber();
+    }
+
+    public void send_getJournalSequenceNumber() throws org.apache.thrift.TException
+    {
+      getJournalSequenceNumber_args args = new getJournalSequenceNumber_args();
+      sendBase("getJournalSequenceNumber", args);
+    }
+
+    public long recv_getJournalSequenceNumber() throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException
+    {
+      getJournalSequenceNumber_result result = new getJournalSequenceNumber_result();
+      receiveBase(result, "getJournalSequenceNumber");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      if (result.e != null) {
+        throw result.e;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "getJournalSequenceNumber failed: unknown result");
+    }
+
+    public LoadJobInfo getLoadJobInfo(long id) throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException
+    {
+      send_getLoadJobInfo(id);
+      return recv_getLoadJobInfo();
+    }
+
+    public void send_getLoadJobInfo(long id) throws org.apache.thrift.TException
+    {
+      getLoadJobInfo_args args = new getLoadJobInfo_args();
+      args.setId(id);
+      sendBase("getLoadJobInfo", args);
+    }
+
+    public LoadJobInfo recv_getLoadJobInfo() throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException
+    {
+      getLoadJobInfo_result result = new getLoadJobInfo_result();
+      receiveBase(result, "getLoadJobInfo");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      if (result.e != null) {
+        throw result.e;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "getLoadJobInfo failed: unknown result");
+    }
+
     public long getNewBlockIdForFile(String path) throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException
     {
       send_getNewBlockIdForFile(path);
@@ -595,6 +878,33 @@ public class FileSystemMasterClientService {
       return;
     }
 
+    public List<FileSystemBatchTResult> removeBatch(List<String> paths, boolean recursive) throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException
+    {
+      send_removeBatch(paths, recursive);
+      return recv_removeBatch();
+    }
+
+    public void send_removeBatch(List<String> paths, boolean recursive) throws org.apache.thrift.TException
+    {
+      removeBatch_args args = new removeBatch_args();
+      args.setPaths(paths);
+      args.setRecursive(recursive);
+      sendBase("removeBatch", args);
+    }
+
+    public List<FileSystemBatchTResult> recv_removeBatch() throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException
+    {
+      removeBatch_result result = new removeBatch_result();
+      receiveBase(result, "removeBatch");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      if (result.e != null) {
+        throw result.e;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "removeBatch failed: unknown result");
+    }
+
     public void rename(String path, String dstPath) throws alluxio.thrift.AlluxioTException, alluxio.thrift.ThriftIOException, org.apache.thrift.TException
     {
       send_rename(path, dstPath);
@@ -646,6 +956,33 @@ public class FileSystemMasterClientService {
       return;
     }
 
+    public List<FileSystemBatchTResult> setAttributeBatch(List<String> paths, List<SetAttributeTOptions> options) throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException
+    {
+      send_setAttributeBatch(paths, options);
+      return recv_setAttributeBatch();
+    }
+
+    public void send_setAttributeBatch(List<String> paths, List<SetAttributeTOptions> options) throws org.apache.thrift.TException
+    {
+      setAttributeBatch_args args = new setAttributeBatch_args();
+      args.setPaths(paths);
+      args.setOptions(options);
+      sendBase("setAttributeBatch", args);
+    }
+
+    public List<FileSystemBatchTResult> recv_setAttributeBatch() throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException
+    {
+      setAttributeBatch_result result = new setAttributeBatch_result();
+      receiveBase(result, "setAttributeBatch");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      if (result.e != null) {
+        throw result.e;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "setAttributeBatch failed: unknown result");
+    }
+
     public void scheduleAsyncPersist(String path) throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException
     {
       send_scheduleAsyncPersist(path);
@@ -669,6 +1006,33 @@ public class FileSystemMasterClientService {
       return;
     }
 
+    public long submitLoadJob(String path, LoadJobTOptions options) throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException
+    {
+      send_submitLoadJob(path, options);
+      return recv_submitLoadJob();
+    }
+
+    public void send_submitLoadJob(String path, LoadJobTOptions options) throws org.apache.thrift.TException
+    {
+      submitLoadJob_args args = new submitLoadJob_args();
+      args.setPath(path);
+      args.setOptions(options);
+      sendBase("submitLoadJob", args);
+    }
+
+    public long recv_submitLoadJob() throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException
+    {
+      submitLoadJob_result result = new submitLoadJob_result();
+      receiveBase(result, "submitLoadJob");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      if (result.e != null) {
+        throw result.e;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "submitLoadJob failed: unknown result");
+    }
+
     public void unmount(String alluxioPath) throws alluxio.thrift.AlluxioTException, alluxio.thrift.ThriftIOException, org.apache.thrift.TException
     {
       send_unmount(alluxioPath);
@@ -713,6 +1077,38 @@ public class FileSystemMasterClientService {
       super(protocolFactory, clientManager, transport);
     }
 
+    public void cancelLoadJob(long id, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      cancelLoadJob_call method_call = new cancelLoadJob_call(id, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class cancelLoadJob_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private long id;
+      public cancelLoadJob_call(long id, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.id = id;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("cancelLoadJob", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        cancelLoadJob_args args = new cancelLoadJob_args();
+        args.setId(id);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public void getResult() throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        (new Client(prot)).recv_cancelLoadJob();
+      }
+    }
+
     public void completeFile(String path, CompleteFileTOptions options, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
       checkReady();
       completeFile_call method_call = new completeFile_call(path, options, resultHandler, this, ___protocolFactory, ___transport);
@@ -748,49 +1144,84 @@ public class FileSystemMasterClientService {
       }
     }
 
-    public void createDirectory(String path, CreateDirectoryTOptions options, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+    public void completeFileBatch(List<String> paths, List<CompleteFileTOptions> options, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
       checkReady();
-      createDirectory_call method_call = new createDirectory_call(path, options, resultHandler, this, ___protocolFactory, ___transport);
+      completeFileBatch_call method_call = new completeFileBatch_call(paths, options, resultHandler, this, ___protocolFactory, ___transport);
       this.___currentMethod = method_call;
       ___manager.call(method_call);
     }
 
-    public static class createDirectory_call extends org.apache.thrift.async.TAsyncMethodCall {
-      private String path;
-      private CreateDirectoryTOptions options;
-      public createDirectory_call(String path, CreateDirectoryTOptions options, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+    public static class completeFileBatch_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private List<String> paths;
+      private List<CompleteFileTOptions> options;
+      public completeFileBatch_call(List<String> paths, List<CompleteFileTOptions> options, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
         super(client, protocolFactory, transport, resultHandler, false);
-        this.path = path;
+        this.paths = paths;
         this.options = options;
       }
 
       public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
-        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("createDirectory", org.apache.thrift.protocol.TMessageType.CALL, 0));
-        createDirectory_args args = new createDirectory_args();
-        args.setPath(path);
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("completeFileBatch", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        completeFileBatch_args args = new completeFileBatch_args();
+        args.setPaths(paths);
         args.setOptions(options);
         args.write(prot);
         prot.writeMessageEnd();
       }
 
-      public void getResult() throws alluxio.thrift.AlluxioTException, alluxio.thrift.ThriftIOException, org.apache.thrift.TException {
+      public List<FileSystemBatchTResult> getResult() throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException {
         if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
           throw new IllegalStateException("Method call not finished!");
         }
         org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
         org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
-        (new Client(prot)).recv_createDirectory();
+        return (new Client(prot)).recv_completeFileBatch();
       }
     }
 
-    public void createFile(String path, CreateFileTOptions options, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+    public void createDirectory(String path, CreateDirectoryTOptions options, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
       checkReady();
-      createFile_call method_call = new createFile_call(path, options, resultHandler, this, ___protocolFactory, ___transport);
+      createDirectory_call method_call = new createDirectory_call(path, options, resultHandler, this, ___protocolFactory, ___transport);
       this.___currentMethod = method_call;
       ___manager.call(method_call);
     }
 
-    public static class createFile_call extends org.apache.thrift.async.TAsyncMethodCall {
+    public static class createDirectory_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private String path;
+      private CreateDirectoryTOptions options;
+      public createDirectory_call(String path, CreateDirectoryTOptions options, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.path = path;
+        this.options = options;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("createDirectory", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        createDirectory_args args = new createDirectory_args();
+        args.setPath(path);
+        args.setOptions(options);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public void getResult() throws alluxio.thrift.AlluxioTException, alluxio.thrift.ThriftIOException, org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        (new Client(prot)).recv_createDirectory();
+      }
+    }
+
+    public void createFile(String path, CreateFileTOptions options, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      createFile_call method_call = new createFile_call(path, options, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class createFile_call extends org.apache.thrift.async.TAsyncMethodCall {
       private String path;
       private CreateFileTOptions options;
       public createFile_call(String path, CreateFileTOptions options, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
@@ -818,6 +1249,41 @@ public class FileSystemMasterClientService {
       }
     }
 
+    public void createFileBatch(List<String> paths, List<CreateFileTOptions> options, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      createFileBatch_call method_call = new createFileBatch_call(paths, options, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class createFileBatch_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private List<String> paths;
+      private List<CreateFileTOptions> options;
+      public createFileBatch_call(List<String> paths, List<CreateFileTOptions> options, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.paths = paths;
+        this.options = options;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("createFileBatch", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        createFileBatch_args args = new createFileBatch_args();
+        args.setPaths(paths);
+        args.setOptions(options);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public List<FileSystemBatchTResult> getResult() throws alluxio.thrift.AlluxioTException, alluxio.thrift.ThriftIOException, org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_createFileBatch();
+      }
+    }
+
     public void free(String path, boolean recursive, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
       checkReady();
       free_call method_call = new free_call(path, recursive, resultHandler, this, ___protocolFactory, ___transport);
@@ -853,6 +1319,38 @@ public class FileSystemMasterClientService {
       }
     }
 
+    public void getContentSummary(String path, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      getContentSummary_call method_call = new getContentSummary_call(path, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class getContentSummary_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private String path;
+      public getContentSummary_call(String path, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.path = path;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("getContentSummary", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        getContentSummary_args args = new getContentSummary_args();
+        args.setPath(path);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public ContentSummary getResult() throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_getContentSummary();
+      }
+    }
+
     public void getFileBlockInfoList(String path, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
       checkReady();
       getFileBlockInfoList_call method_call = new getFileBlockInfoList_call(path, resultHandler, this, ___protocolFactory, ___transport);
@@ -917,6 +1415,38 @@ public class FileSystemMasterClientService {
       }
     }
 
+    public void getStatusBatch(List<String> paths, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      getStatusBatch_call method_call = new getStatusBatch_call(paths, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class getStatusBatch_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private List<String> paths;
+      public getStatusBatch_call(List<String> paths, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.paths = paths;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("getStatusBatch", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        getStatusBatch_args args = new getStatusBatch_args();
+        args.setPaths(paths);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public List<FileSystemBatchTResult> getResult() throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_getStatusBatch();
+      }
+    }
+
     public void getStatusInternal(long fileId, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
       checkReady();
       getStatusInternal_call method_call = new getStatusInternal_call(fileId, resultHandler, this, ___protocolFactory, ___transport);
@@ -949,6 +1479,67 @@ public class FileSystemMasterClientService {
       }
     }
 
+    public void getJournalSequenceNumber(org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      getJournalSequenceNumber_call method_call = new getJournalSequenceNumber_call(resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class getJournalSequenceNumber_call extends org.apache.thrift.async.TAsyncMethodCall {
+      public getJournalSequenceNumber_call(org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("getJournalSequenceNumber", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        getJournalSequenceNumber_args args = new getJournalSequenceNumber_args();
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public long getResult() throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_getJournalSequenceNumber();
+      }
+    }
+
+    public void getLoadJobInfo(long id, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      getLoadJobInfo_call method_call = new getLoadJobInfo_call(id, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class getLoadJobInfo_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private long id;
+      public getLoadJobInfo_call(long id, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.id = id;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("getLoadJobInfo", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        getLoadJobInfo_args args = new getLoadJobInfo_args();
+        args.setId(id);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public LoadJobInfo getResult() throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_getLoadJobInfo();
+      }
+    }
+
     public void getNewBlockIdForFile(String path, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
       checkReady();
       getNewBlockIdForFile_call method_call = new getNewBlockIdForFile_call(path, resultHandler, this, ___protocolFactory, ___transport);
@@ -1153,6 +1744,41 @@ public class FileSystemMasterClientService {
       }
     }
 
+    public void removeBatch(List<String> paths, boolean recursive, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      removeBatch_call method_call = new removeBatch_call(paths, recursive, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class removeBatch_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private List<String> paths;
+      private boolean recursive;
+      public removeBatch_call(List<String> paths, boolean recursive, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.paths = paths;
+        this.recursive = recursive;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("removeBatch", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        removeBatch_args args = new removeBatch_args();
+        args.setPaths(paths);
+        args.setRecursive(recursive);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public List<FileSystemBatchTResult> getResult() throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_removeBatch();
+      }
+    }
+
     public void rename(String path, String dstPath, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
       checkReady();
       rename_call method_call = new rename_call(path, dstPath, resultHandler, this, ___protocolFactory, ___transport);
@@ -1223,6 +1849,41 @@ public class FileSystemMasterClientService {
       }
     }
 
+    public void setAttributeBatch(List<String> paths, List<SetAttributeTOptions> options, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      setAttributeBatch_call method_call = new setAttributeBatch_call(paths, options, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class setAttributeBatch_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private List<String> paths;
+      private List<SetAttributeTOptions> options;
+      public setAttributeBatch_call(List<String> paths, List<SetAttributeTOptions> options, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.paths = paths;
+        this.options = options;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("setAttributeBatch", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        setAttributeBatch_args args = new setAttributeBatch_args();
+        args.setPaths(paths);
+        args.setOptions(options);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public List<FileSystemBatchTResult> getResult() throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_setAttributeBatch();
+      }
+    }
+
     public void scheduleAsyncPersist(String path, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
       checkReady();
       scheduleAsyncPersist_call method_call = new scheduleAsyncPersist_call(path, resultHandler, this, ___protocolFactory, ___transport);
@@ -1255,6 +1916,41 @@ public class FileSystemMasterClientService {
       }
     }
 
+    public void submitLoadJob(String path, LoadJobTOptions options, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      submitLoadJob_call method_call = new submitLoadJob_call(path, options, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class submitLoadJob_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private String path;
+      private LoadJobTOptions options;
+      public submitLoadJob_call(String path, LoadJobTOptions options, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.path = path;
+        this.options = options;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("submitLoadJob", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        submitLoadJob_args args = new submitLoadJob_args();
+        args.setPath(path);
+        args.setOptions(options);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public long getResult() throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_submitLoadJob();
+      }
+    }
+
     public void unmount(String alluxioPath, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
       checkReady();
       unmount_call method_call = new unmount_call(alluxioPath, resultHandler, this, ___protocolFactory, ___transport);
@@ -1300,26 +1996,60 @@ public class FileSystemMasterClientService {
     }
 
     private static <I extends Iface> Map<String,  org.apache.thrift.ProcessFunction<I, ? extends  org.apache.thrift.TBase>> getProcessMap(Map<String,  org.apache.thrift.ProcessFunction<I, ? extends  org.apache.thrift.TBase>> processMap) {
+      processMap.put("cancelLoadJob", new cancelLoadJob());
       processMap.put("completeFile", new completeFile());
+      processMap.put("completeFileBatch", new completeFileBatch());
       processMap.put("createDirectory", new createDirectory());
       processMap.put("createFile", new createFile());
+      processMap.put("createFileBatch", new createFileBatch());
       processMap.put("free", new free());
+      processMap.put("getContentSummary", new getContentSummary());
       processMap.put("getFileBlockInfoList", new getFileBlockInfoList());
       processMap.put("getStatus", new getStatus());
+      processMap.put("getStatusBatch", new getStatusBatch());
       processMap.put("getStatusInternal", new getStatusInternal());
+      processMap.put("getJournalSequenceNumber", new getJournalSequenceNumber());
+      processMap.put("getLoadJobInfo", new getLoadJobInfo());
       processMap.put("getNewBlockIdForFile", new getNewBlockIdForFile());
       processMap.put("getUfsAddress", new getUfsAddress());
       processMap.put("listStatus", new listStatus());
       processMap.put("loadMetadata", new loadMetadata());
       processMap.put("mount", new mount());
       processMap.put("remove", new remove());
+      processMap.put("removeBatch", new removeBatch());
       processMap.put("rename", new rename());
       processMap.put("setAttribute", new setAttribute());
+      processMap.put("setAttributeBatch", new setAttributeBatch());
       processMap.put("scheduleAsyncPersist", new scheduleAsyncPersist());
+      processMap.put("submitLoadJob", new submitLoadJob());
       processMap.put("unmount", new unmount());
       return processMap;
     }
 
+    public static class cancelLoadJob<I extends Iface> extends org.apache.thrift.ProcessFunction<I, cancelLoadJob_args> {
+      public cancelLoadJob() {
+        super("cancelLoadJob");
+      }
+
+      public cancelLoadJob_args getEmptyArgsInstance() {
+        return new cancelLoadJob_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public cancelLoadJob_result getResult(I iface, cancelLoadJob_args args) throws org.apache.thrift.TException {
+        cancelLoadJob_result result = new cancelLoadJob_result();
+        try {
+          iface.cancelLoadJob(args.id);
+        } catch (alluxio.thrift.AlluxioTException e) {
+          result.e = e;
+        }
+        return result;
+      }
+    }
+
     public static class completeFile<I extends Iface> extends org.apache.thrift.ProcessFunction<I, completeFile_args> {
       public completeFile() {
         super("completeFile");
@@ -1344,6 +2074,30 @@ public class FileSystemMasterClientService {
       }
     }
 
+    public static class completeFileBatch<I extends Iface> extends org.apache.thrift.ProcessFunction<I, completeFileBatch_args> {
+      public completeFileBatch() {
+        super("completeFileBatch");
+      }
+
+      public completeFileBatch_args getEmptyArgsInstance() {
+        return new completeFileBatch_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public completeFileBatch_result getResult(I iface, completeFileBatch_args args) throws org.apache.thrift.TException {
+        completeFileBatch_result result = new completeFileBatch_result();
+        try {
+          result.success = iface.completeFileBatch(args.paths, args.options);
+        } catch (alluxio.thrift.AlluxioTException e) {
+          result.e = e;
+        }
+        return result;
+      }
+    }
+
     public static class createDirectory<I extends Iface> extends org.apache.thrift.ProcessFunction<I, createDirectory_args> {
       public createDirectory() {
         super("createDirectory");
@@ -1396,12 +2150,38 @@ public class FileSystemMasterClientService {
       }
     }
 
-    public static class free<I extends Iface> extends org.apache.thrift.ProcessFunction<I, free_args> {
-      public free() {
-        super("free");
+    public static class createFileBatch<I extends Iface> extends org.apache.thrift.ProcessFunction<I, createFileBatch_args> {
+      public createFileBatch() {
+        super("createFileBatch");
       }
 
-      public free_args getEmptyArgsInstance() {
+      public createFileBatch_args getEmptyArgsInstance() {
+        return new createFileBatch_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public createFileBatch_result getResult(I iface, createFileBatch_args args) throws org.apache.thrift.TException {
+        createFileBatch_result result = new createFileBatch_result();
+        try {
+          result.success = iface.createFileBatch(args.paths, args.options);
+        } catch (alluxio.thrift.AlluxioTException e) {
+          result.e = e;
+        } catch (alluxio.thrift.ThriftIOException ioe) {
+          result.ioe = ioe;
+        }
+        return result;
+      }
+    }
+
+    public static class free<I extends Iface> extends org.apache.thrift.ProcessFunction<I, free_args> {
+      public free() {
+        super("free");
+      }
+
+      public free_args getEmptyArgsInstance() {
         return new free_args();
       }
 
@@ -1420,6 +2200,30 @@ public class FileSystemMasterClientService {
       }
     }
 
+    public static class getContentSummary<I extends Iface> extends org.apache.thrift.ProcessFunction<I, getContentSummary_args> {
+      public getContentSummary() {
+        super("getContentSummary");
+      }
+
+      public getContentSummary_args getEmptyArgsInstance() {
+        return new getContentSummary_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public getContentSummary_result getResult(I iface, getContentSummary_args args) throws org.apache.thrift.TException {
+        getContentSummary_result result = new getContentSummary_result();
+        try {
+          result.success = iface.getContentSummary(args.path);
+        } catch (alluxio.thrift.AlluxioTException e) {
+          result.e = e;
+        }
+        return result;
+      }
+    }
+
     public static class getFileBlockInfoList<I extends Iface> extends org.apache.thrift.ProcessFunction<I, getFileBlockInfoList_args> {
       public getFileBlockInfoList() {
         super("getFileBlockInfoList");
@@ -1468,6 +2272,30 @@ public class FileSystemMasterClientService {
       }
     }
 
+    public static class getStatusBatch<I extends Iface> extends org.apache.thrift.ProcessFunction<I, getStatusBatch_args> {
+      public getStatusBatch() {
+        super("getStatusBatch");
+      }
+
+      public getStatusBatch_args getEmptyArgsInstance() {
+        return new getStatusBatch_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public getStatusBatch_result getResult(I iface, getStatusBatch_args args) throws org.apache.thrift.TException {
+        getStatusBatch_result result = new getStatusBatch_result();
+        try {
+          result.success = iface.getStatusBatch(args.paths);
+        } catch (alluxio.thrift.AlluxioTException e) {
+          result.e = e;
+        }
+        return result;
+      }
+    }
+
     public static class getStatusInternal<I extends Iface> extends org.apache.thrift.ProcessFunction<I, getStatusInternal_args> {
       public getStatusInternal() {
         super("getStatusInternal");
@@ -1492,6 +2320,55 @@ public class FileSystemMasterClientService {
       }
     }
 
+    public static class getJournalSequenceNumber<I extends Iface> extends org.apache.thrift.ProcessFunction<I, getJournalSequenceNumber_args> {
+      public getJournalSequenceNumber() {
+        super("getJournalSequenceNumber");
+      }
+
+      public getJournalSequenceNumber_args getEmptyArgsInstance() {
+        return new getJournalSequenceNumber_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public getJournalSequenceNumber_result getResult(I iface, getJournalSequenceNumber_args args) throws org.apache.thrift.TException {
+        getJournalSequenceNumber_result result = new getJournalSequenceNumber_result();
+        try {
+          result.success = iface.getJournalSequenceNumber();
+          result.setSuccessIsSet(true);
+        } catch (alluxio.thrift.AlluxioTException e) {
+          result.e = e;
+        }
+        return result;
+      }
+    }
+
+    public static class getLoadJobInfo<I extends Iface> extends org.apache.thrift.ProcessFunction<I, getLoadJobInfo_args> {
+      public getLoadJobInfo() {
+        super("getLoadJobInfo");
+      }
+
+      public getLoadJobInfo_args getEmptyArgsInstance() {
+        return new getLoadJobInfo_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public getLoadJobInfo_result getResult(I iface, getLoadJobInfo_args args) throws org.apache.thrift.TException {
+        getLoadJobInfo_result result = new getLoadJobInfo_result();
+        try {
+          result.success = iface.getLoadJobInfo(args.id);
+        } catch (alluxio.thrift.AlluxioTException e) {
+          result.e = e;
+        }
+        return result;
+      }
+    }
+
     public static class getNewBlockIdForFile<I extends Iface> extends org.apache.thrift.ProcessFunction<I, getNewBlockIdForFile_args> {
       public getNewBlockIdForFile() {
         super("getNewBlockIdForFile");
@@ -1642,6 +2519,30 @@ public class FileSystemMasterClientService {
       }
     }
 
+    public static class removeBatch<I extends Iface> extends org.apache.thrift.ProcessFunction<I, removeBatch_args> {
+      public removeBatch() {
+        super("removeBatch");
+      }
+
+      public removeBatch_args getEmptyArgsInstance() {
+        return new removeBatch_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public removeBatch_result getResult(I iface, removeBatch_args args) throws org.apache.thrift.TException {
+        removeBatch_result result = new removeBatch_result();
+        try {
+          result.success = iface.removeBatch(args.paths, args.recursive);
+        } catch (alluxio.thrift.AlluxioTException e) {
+          result.e = e;
+        }
+        return result;
+      }
+    }
+
     public static class rename<I extends Iface> extends org.apache.thrift.ProcessFunction<I, rename_args> {
       public rename() {
         super("rename");
@@ -1692,6 +2593,30 @@ public class FileSystemMasterClientService {
       }
     }
 
+    public static class setAttributeBatch<I extends Iface> extends org.apache.thrift.ProcessFunction<I, setAttributeBatch_args> {
+      public setAttributeBatch() {
+        super("setAttributeBatch");
+      }
+
+      public setAttributeBatch_args getEmptyArgsInstance() {
+        return new setAttributeBatch_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public setAttributeBatch_result getResult(I iface, setAttributeBatch_args args) throws org.apache.thrift.TException {
+        setAttributeBatch_result result = new setAttributeBatch_result();
+        try {
+          result.success = iface.setAttributeBatch(args.paths, args.options);
+        } catch (alluxio.thrift.AlluxioTException e) {
+          result.e = e;
+        }
+        return result;
+      }
+    }
+
     public static class scheduleAsyncPersist<I extends Iface> extends org.apache.thrift.ProcessFunction<I, scheduleAsyncPersist_args> {
       public scheduleAsyncPersist() {
         super("scheduleAsyncPersist");
@@ -1716,6 +2641,31 @@ public class FileSystemMasterClientService {
       }
     }
 
+    public static class submitLoadJob<I extends Iface> extends org.apache.thrift.ProcessFunction<I, submitLoadJob_args> {
+      public submitLoadJob() {
+        super("submitLoadJob");
+      }
+
+      public submitLoadJob_args getEmptyArgsInstance() {
+        return new submitLoadJob_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public submitLoadJob_result getResult(I iface, submitLoadJob_args args) throws org.apache.thrift.TException {
+        submitLoadJob_result result = new submitLoadJob_result();
+        try {
+          result.success = iface.submitLoadJob(args.path, args.options);
+          result.setSuccessIsSet(true);
+        } catch (alluxio.thrift.AlluxioTException e) {
+          result.e = e;
+        }
+        return result;
+      }
+    }
+
     public static class unmount<I extends Iface> extends org.apache.thrift.ProcessFunction<I, unmount_args> {
       public unmount() {
         super("unmount");
@@ -1755,40 +2705,50 @@ public class FileSystemMasterClientService {
     }
 
     private static <I extends AsyncIface> Map<String,  org.apache.thrift.AsyncProcessFunction<I, ? extends  org.apache.thrift.TBase,?>> getProcessMap(Map<String,  org.apache.thrift.AsyncProcessFunction<I, ? extends  org.apache.thrift.TBase, ?>> processMap) {
+      processMap.put("cancelLoadJob", new cancelLoadJob());
       processMap.put("completeFile", new completeFile());
+      processMap.put("completeFileBatch", new completeFileBatch());
       processMap.put("createDirectory", new createDirectory());
       processMap.put("createFile", new createFile());
+      processMap.put("createFileBatch", new createFileBatch());
       processMap.put("free", new free());
+      processMap.put("getContentSummary", new getContentSummary());
       processMap.put("getFileBlockInfoList", new getFileBlockInfoList());
       processMap.put("getStatus", new getStatus());
+      processMap.put("getStatusBatch", new getStatusBatch());
       processMap.put("getStatusInternal", new getStatusInternal());
+      processMap.put("getJournalSequenceNumber", new getJournalSequenceNumber());
+      processMap.put("getLoadJobInfo", new getLoadJobInfo());
       processMap.put("getNewBlockIdForFile", new getNewBlockIdForFile());
       processMap.put("getUfsAddress", new getUfsAddress());
       processMap.put("listStatus", new listStatus());
       processMap.put("loadMetadata", new loadMetadata());
       processMap.put("mount", new mount());
       processMap.put("remove", new remove());
+      processMap.put("removeBatch", new removeBatch());
       processMap.put("rename", new rename());
       processMap.put("setAttribute", new setAttribute());
+      processMap.put("setAttributeBatch", new setAttributeBatch());
       processMap.put("scheduleAsyncPersist", new scheduleAsyncPersist());
+      processMap.put("submitLoadJob", new submitLoadJob());
       processMap.put("unmount", new unmount());
       return processMap;
     }
 
-    public static class completeFile<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, completeFile_args, Void> {
-      public completeFile() {
-        super("completeFile");
+    public static class cancelLoadJob<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, cancelLoadJob_args, Void> {
+      public cancelLoadJob() {
+        super("cancelLoadJob");
       }
 
-      public completeFile_args getEmptyArgsInstance() {
-        return new completeFile_args();
+      public cancelLoadJob_args getEmptyArgsInstance() {
+        return new cancelLoadJob_args();
       }
 
       public AsyncMethodCallback<Void> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
         final org.apache.thrift.AsyncProcessFunction fcall = this;
         return new AsyncMethodCallback<Void>() { 
           public void onComplete(Void o) {
-            completeFile_result result = new completeFile_result();
+            cancelLoadJob_result result = new cancelLoadJob_result();
             try {
               fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
               return;
@@ -1800,7 +2760,7 @@ public class FileSystemMasterClientService {
           public void onError(Exception e) {
             byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
             org.apache.thrift.TBase msg;
-            completeFile_result result = new completeFile_result();
+            cancelLoadJob_result result = new cancelLoadJob_result();
             if (e instanceof alluxio.thrift.AlluxioTException) {
                         result.e = (alluxio.thrift.AlluxioTException) e;
                         result.setEIsSet(true);
@@ -1826,25 +2786,25 @@ public class FileSystemMasterClientService {
         return false;
       }
 
-      public void start(I iface, completeFile_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws TException {
-        iface.completeFile(args.path, args.options,resultHandler);
+      public void start(I iface, cancelLoadJob_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws TException {
+        iface.cancelLoadJob(args.id,resultHandler);
       }
     }
 
-    public static class createDirectory<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, createDirectory_args, Void> {
-      public createDirectory() {
-        super("createDirectory");
+    public static class completeFile<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, completeFile_args, Void> {
+      public completeFile() {
+        super("completeFile");
       }
 
-      public createDirectory_args getEmptyArgsInstance() {
-        return new createDirectory_args();
+      public completeFile_args getEmptyArgsInstance() {
+        return new completeFile_args();
       }
 
       public AsyncMethodCallback<Void> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
         final org.apache.thrift.AsyncProcessFunction fcall = this;
         return new AsyncMethodCallback<Void>() { 
           public void onComplete(Void o) {
-            createDirectory_result result = new createDirectory_result();
+            completeFile_result result = new completeFile_result();
             try {
               fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
               return;
@@ -1856,16 +2816,11 @@ public class FileSystemMasterClientService {
           public void onError(Exception e) {
             byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
             org.apache.thrift.TBase msg;
-            createDirectory_result result = new createDirectory_result();
+            completeFile_result result = new completeFile_result();
             if (e instanceof alluxio.thrift.AlluxioTException) {
                         result.e = (alluxio.thrift.AlluxioTException) e;
                         result.setEIsSet(true);
                         msg = result;
-            }
-            else             if (e instanceof alluxio.thrift.ThriftIOException) {
-                        result.ioe = (alluxio.thrift.ThriftIOException) e;
-                        result.setIoeIsSet(true);
-                        msg = result;
             }
              else 
             {
@@ -1887,25 +2842,26 @@ public class FileSystemMasterClientService {
         return false;
       }
 
-      public void start(I iface, createDirectory_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws TException {
-        iface.createDirectory(args.path, args.options,resultHandler);
+      public void start(I iface, completeFile_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws TException {
+        iface.completeFile(args.path, args.options,resultHandler);
       }
     }
 
-    public static class createFile<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, createFile_args, Void> {
-      public createFile() {
-        super("createFile");
+    public static class completeFileBatch<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, completeFileBatch_args, List<FileSystemBatchTResult>> {
+      public completeFileBatch() {
+        super("completeFileBatch");
       }
 
-      public createFile_args getEmptyArgsInstance() {
-        return new createFile_args();
+      public completeFileBatch_args getEmptyArgsInstance() {
+        return new completeFileBatch_args();
       }
 
-      public AsyncMethodCallback<Void> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+      public AsyncMethodCallback<List<FileSystemBatchTResult>> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
         final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new AsyncMethodCallback<Void>() { 
-          public void onComplete(Void o) {
-            createFile_result result = new createFile_result();
+        return new AsyncMethodCallback<List<FileSystemBatchTResult>>() { 
+          public void onComplete(List<FileSystemBatchTResult> o) {
+            completeFileBatch_result result = new completeFileBatch_result();
+            result.success = o;
             try {
               fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
               return;
@@ -1917,16 +2873,11 @@ public class FileSystemMasterClientService {
           public void onError(Exception e) {
             byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
             org.apache.thrift.TBase msg;
-            createFile_result result = new createFile_result();
+            completeFileBatch_result result = new completeFileBatch_result();
             if (e instanceof alluxio.thrift.AlluxioTException) {
                         result.e = (alluxio.thrift.AlluxioTException) e;
                         result.setEIsSet(true);
                         msg = result;
-            }
-            else             if (e instanceof alluxio.thrift.ThriftIOException) {
-                        result.ioe = (alluxio.thrift.ThriftIOException) e;
-                        result.setIoeIsSet(true);
-                        msg = result;
             }
              else 
             {
@@ -1948,25 +2899,25 @@ public class FileSystemMasterClientService {
         return false;
       }
 
-      public void start(I iface, createFile_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws TException {
-        iface.createFile(args.path, args.options,resultHandler);
+      public void start(I iface, completeFileBatch_args args, org.apache.thrift.async.AsyncMethodCallback<List<FileSystemBatchTResult>> resultHandler) throws TException {
+        iface.completeFileBatch(args.paths, args.options,resultHandler);
       }
     }
 
-    public static class free<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, free_args, Void> {
-      public free() {
-        super("free");
+    public static class createDirectory<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, createDirectory_args, Void> {
+      public createDirectory() {
+        super("createDirectory");
       }
 
-      public free_args getEmptyArgsInstance() {
-        return new free_args();
+      public createDirectory_args getEmptyArgsInstance() {
+        return new createDirectory_args();
       }
 
       public AsyncMethodCallback<Void> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
         final org.apache.thrift.AsyncProcessFunction fcall = this;
         return new AsyncMethodCallback<Void>() { 
           public void onComplete(Void o) {
-            free_result result = new free_result();
+            createDirectory_result result = new createDirectory_result();
             try {
               fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
               return;
@@ -1978,11 +2929,16 @@ public class FileSystemMasterClientService {
           public void onError(Exception e) {
             byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
             org.apache.thrift.TBase msg;
-            free_result result = new free_result();
+            createDirectory_result result = new createDirectory_result();
             if (e instanceof alluxio.thrift.AlluxioTException) {
                         result.e = (alluxio.thrift.AlluxioTException) e;
                         result.setEIsSet(true);
                         msg = result;
+            }
+            else             if (e instanceof alluxio.thrift.ThriftIOException) {
+                        result.ioe = (alluxio.thrift.ThriftIOException) e;
+                        result.setIoeIsSet(true);
+                        msg = result;
             }
              else 
             {
@@ -2004,26 +2960,25 @@ public class FileSystemMasterClientService {
         return false;
       }
 
-      public void start(I iface, free_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws TException {
-        iface.free(args.path, args.recursive,resultHandler);
+      public void start(I iface, createDirectory_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws TException {
+        iface.createDirectory(args.path, args.options,resultHandler);
       }
     }
 
-    public static class getFileBlockInfoList<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, getFileBlockInfoList_args, List<FileBlockInfo>> {
-      public getFileBlockInfoList() {
-        super("getFileBlockInfoList");
+    public static class createFile<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, createFile_args, Void> {
+      public createFile() {
+        super("createFile");
       }
 
-      public getFileBlockInfoList_args getEmptyArgsInstance() {
-        return new getFileBlockInfoList_args();
+      public createFile_args getEmptyArgsInstance() {
+        return new createFile_args();
       }
 
-      public AsyncMethodCallback<List<FileBlockInfo>> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+      public AsyncMethodCallback<Void> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
         final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new AsyncMethodCallback<List<FileBlockInfo>>() { 
-          public void onComplete(List<FileBlockInfo> o) {
-            getFileBlockInfoList_result result = new getFileBlockInfoList_result();
-            result.success = o;
+        return new AsyncMethodCallback<Void>() { 
+          public void onComplete(Void o) {
+            createFile_result result = new createFile_result();
             try {
               fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
               return;
@@ -2035,11 +2990,16 @@ public class FileSystemMasterClientService {
           public void onError(Exception e) {
             byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
             org.apache.thrift.TBase msg;
-            getFileBlockInfoList_result result = new getFileBlockInfoList_result();
+            createFile_result result = new createFile_result();
             if (e instanceof alluxio.thrift.AlluxioTException) {
                         result.e = (alluxio.thrift.AlluxioTException) e;
                         result.setEIsSet(true);
                         msg = result;
+            }
+            else             if (e instanceof alluxio.thrift.ThriftIOException) {
+                        result.ioe = (alluxio.thrift.ThriftIOException) e;
+                        result.setIoeIsSet(true);
+                        msg = result;
             }
              else 
             {
@@ -2061,25 +3021,25 @@ public class FileSystemMasterClientService {
         return false;
       }
 
-      public void start(I iface, getFileBlockInfoList_args args, org.apache.thrift.async.AsyncMethodCallback<List<FileBlockInfo>> resultHandler) throws TException {
-        iface.getFileBlockInfoList(args.path,resultHandler);
+      public void start(I iface, createFile_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws TException {
+        iface.createFile(args.path, args.options,resultHandler);
       }
     }
 
-    public static class getStatus<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, getStatus_args, FileInfo> {
-      public getStatus() {
-        super("getStatus");
+    public static class createFileBatch<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, createFileBatch_args, List<FileSystemBatchTResult>> {
+      public createFileBatch() {
+        super("createFileBatch");
       }
 
-      public getStatus_args getEmptyArgsInstance() {
-        return new getStatus_args();
+      public createFileBatch_args getEmptyArgsInstance() {
+        return new createFileBatch_args();
       }
 
-      public AsyncMethodCallback<FileInfo> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+      public AsyncMethodCallback<List<FileSystemBatchTResult>> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
         final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new AsyncMethodCallback<FileInfo>() { 
-          public void onComplete(FileInfo o) {
-            getStatus_result result = new getStatus_result();
+        return new AsyncMethodCallback<List<FileSystemBatchTResult>>() { 
+          public void onComplete(List<FileSystemBatchTResult> o) {
+            createFileBatch_result result = new createFileBatch_result();
             result.success = o;
             try {
               fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
@@ -2092,11 +3052,16 @@ public class FileSystemMasterClientService {
           public void onError(Exception e) {
             byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
             org.apache.thrift.TBase msg;
-            getStatus_result result = new getStatus_result();
+            createFileBatch_result result = new createFileBatch_result();
             if (e instanceof alluxio.thrift.AlluxioTException) {
                         result.e = (alluxio.thrift.AlluxioTException) e;
                         result.setEIsSet(true);
                         msg = result;
+            }
+            else             if (e instanceof alluxio.thrift.ThriftIOException) {
+                        result.ioe = (alluxio.thrift.ThriftIOException) e;
+                        result.setIoeIsSet(true);
+                        msg = result;
             }
              else 
             {
@@ -2118,26 +3083,25 @@ public class FileSystemMasterClientService {
         return false;
       }
 
-      public void start(I iface, getStatus_args args, org.apache.thrift.async.AsyncMethodCallback<FileInfo> resultHandler) throws TException {
-        iface.getStatus(args.path,resultHandler);
+      public void start(I iface, createFileBatch_args args, org.apache.thrift.async.AsyncMethodCallback<List<FileSystemBatchTResult>> resultHandler) throws TException {
+        iface.createFileBatch(args.paths, args.options,resultHandler);
       }
     }
 
-    public static class getStatusInternal<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, getStatusInternal_args, FileInfo> {
-      public getStatusInternal() {
-        super("getStatusInternal");
+    public static class free<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, free_args, Void> {
+      public free() {
+        super("free");
       }
 
-      public getStatusInternal_args getEmptyArgsInstance() {
-        return new getStatusInternal_args();
+      public free_args getEmptyArgsInstance() {
+        return new free_args();
       }
 
-      public AsyncMethodCallback<FileInfo> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+      public AsyncMethodCallback<Void> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
         final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new AsyncMethodCallback<FileInfo>() { 
-          public void onComplete(FileInfo o) {
-            getStatusInternal_result result = new getStatusInternal_result();
-            result.success = o;
+        return new AsyncMethodCallback<Void>() { 
+          public void onComplete(Void o) {
+            free_result result = new free_result();
             try {
               fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
               return;
@@ -2149,7 +3113,7 @@ public class FileSystemMasterClientService {
           public void onError(Exception e) {
             byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
             org.apache.thrift.TBase msg;
-            getStatusInternal_result result = new getStatusInternal_result();
+            free_result result = new free_result();
             if (e instanceof alluxio.thrift.AlluxioTException) {
                         result.e = (alluxio.thrift.AlluxioTException) e;
                         result.setEIsSet(true);
@@ -2175,27 +3139,26 @@ public class FileSystemMasterClientService {
         return false;
       }
 
-      public void start(I iface, getStatusInternal_args args, org.apache.thrift.async.AsyncMethodCallback<FileInfo> resultHandler) throws TException {
-        iface.getStatusInternal(args.fileId,resultHandler);
+      public void start(I iface, free_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws TException {
+        iface.free(args.path, args.recursive,resultHandler);
       }
     }
 
-    public static class getNewBlockIdForFile<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, getNewBlockIdForFile_args, Long> {
-      public getNewBlockIdForFile() {
-        super("getNewBlockIdForFile");
+    public static class getContentSummary<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, getContentSummary_args, ContentSummary> {
+      public getContentSummary() {
+        super("getContentSummary");
       }
 
-      public getNewBlockIdForFile_args getEmptyArgsInstance() {
-        return new getNewBlockIdForFile_args();
+      public getContentSummary_args getEmptyArgsInstance() {
+        return new getContentSummary_args();
       }
 
-      public AsyncMethodCallback<Long> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+      public AsyncMethodCallback<ContentSummary> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
         final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new AsyncMethodCallback<Long>() { 
-          public void onComplete(Long o) {
-            getNewBlockIdForFile_result result = new getNewBlockIdForFile_result();
+        return new AsyncMethodCallback<ContentSummary>() { 
+          public void onComplete(ContentSummary o) {
+            getContentSummary_result result = new getContentSummary_result();
             result.success = o;
-            result.setSuccessIsSet(true);
             try {
               fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
               return;
@@ -2207,7 +3170,7 @@ public class FileSystemMasterClientService {
           public void onError(Exception e) {
             byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
             org.apache.thrift.TBase msg;
-            getNewBlockIdForFile_result result = new getNewBlockIdForFile_result();
+            getContentSummary_result result = new getContentSummary_result();
             if (e instanceof alluxio.thrift.AlluxioTException) {
                         result.e = (alluxio.thrift.AlluxioTException) e;
                         result.setEIsSet(true);
@@ -2233,25 +3196,25 @@ public class FileSystemMasterClientService {
         return false;
       }
 
-      public void start(I iface, getNewBlockIdForFile_args args, org.apache.thrift.async.AsyncMethodCallback<Long> resultHandler) throws TException {
-        iface.getNewBlockIdForFile(args.path,resultHandler);
+      public void start(I iface, getContentSummary_args args, org.apache.thrift.async.AsyncMethodCallback<ContentSummary> resultHandler) throws TException {
+        iface.getContentSummary(args.path,resultHandler);
       }
     }
 
-    public static class getUfsAddress<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, getUfsAddress_args, String> {
-      public getUfsAddress() {
-        super("getUfsAddress");
+    public static class getFileBlockInfoList<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, getFileBlockInfoList_args, List<FileBlockInfo>> {
+      public getFileBlockInfoList() {
+        super("getFileBlockInfoList");
       }
 
-      public getUfsAddress_args getEmptyArgsInstance() {
-        return new getUfsAddress_args();
+      public getFileBlockInfoList_args getEmptyArgsInstance() {
+        return new getFileBlockInfoList_args();
       }
 
-      public AsyncMethodCallback<String> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+      public AsyncMethodCallback<List<FileBlockInfo>> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
         final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new AsyncMethodCallback<String>() { 
-          public void onComplete(String o) {
-            getUfsAddress_result result = new getUfsAddress_result();
+        return new AsyncMethodCallback<List<FileBlockInfo>>() { 
+          public void onComplete(List<FileBlockInfo> o) {
+            getFileBlockInfoList_result result = new getFileBlockInfoList_result();
             result.success = o;
             try {
               fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
@@ -2264,7 +3227,7 @@ public class FileSystemMasterClientService {
           public void onError(Exception e) {
             byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
             org.apache.thrift.TBase msg;
-            getUfsAddress_result result = new getUfsAddress_result();
+            getFileBlockInfoList_result result = new getFileBlockInfoList_result();
             if (e instanceof alluxio.thrift.AlluxioTException) {
                         result.e = (alluxio.thrift.AlluxioTException) e;
                         result.setEIsSet(true);
@@ -2290,25 +3253,25 @@ public class FileSystemMasterClientService {
         return false;
       }
 
-      public void start(I iface, getUfsAddress_args args, org.apache.thrift.async.AsyncMethodCallback<String> resultHandler) throws TException {
-        iface.getUfsAddress(resultHandler);
+      public void start(I iface, getFileBlockInfoList_args args, org.apache.thrift.async.AsyncMethodCallback<List<FileBlockInfo>> resultHandler) throws TException {
+        iface.getFileBlockInfoList(args.path,resultHandler);
       }
     }
 
-    public static class listStatus<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, listStatus_args, List<FileInfo>> {
-      public listStatus() {
-        super("listStatus");
+    public static class getStatus<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, getStatus_args, FileInfo> {
+      public getStatus() {
+        super("getStatus");
       }
 
-      public listStatus_args getEmptyArgsInstance() {
-        return new listStatus_args();
+      public getStatus_args getEmptyArgsInstance() {
+        return new getStatus_args();
       }
 
-      public AsyncMethodCallback<List<FileInfo>> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+      public AsyncMethodCallback<FileInfo> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
         final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new AsyncMethodCallback<List<FileInfo>>() { 
-          public void onComplete(List<FileInfo> o) {
-            listStatus_result result = new listStatus_result();
+        return new AsyncMethodCallback<FileInfo>() { 
+          public void onComplete(FileInfo o) {
+            getStatus_result result = new getStatus_result();
             result.success = o;
             try {
               fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
@@ -2321,7 +3284,7 @@ public class FileSystemMasterClientService {
           public void onError(Exception e) {
             byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
             org.apache.thrift.TBase msg;
-            listStatus_result result = new listStatus_result();
+            getStatus_result result = new getStatus_result();
             if (e instanceof alluxio.thrift.AlluxioTException) {
                         result.e = (alluxio.thrift.AlluxioTException) e;
                         result.setEIsSet(true);
@@ -2347,27 +3310,26 @@ public class FileSystemMasterClientService {
         return false;
       }
 
-      public void start(I iface, listStatus_args args, org.apache.thrift.async.AsyncMethodCallback<List<FileInfo>> resultHandler) throws TException {
-        iface.listStatus(args.path, args.options,resultHandler);
+      public void start(I iface, getStatus_args args, org.apache.thrift.async.AsyncMethodCallback<FileInfo> resultHandler) throws TException {
+        iface.getStatus(args.path,resultHandler);
       }
     }
 
-    public static class loadMetadata<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, loadMetadata_args, Long> {
-      public loadMetadata() {
-        super("loadMetadata");
+    public static class getStatusBatch<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, getStatusBatch_args, List<FileSystemBatchTResult>> {
+      public getStatusBatch() {
+        super("getStatusBatch");
       }
 
-      public loadMetadata_args getEmptyArgsInstance() {
-        return new loadMetadata_args();
+      public getStatusBatch_args getEmptyArgsInstance() {
+        return new getStatusBatch_args();
       }
 
-      public AsyncMethodCallback<Long> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+      public AsyncMethodCallback<List<FileSystemBatchTResult>> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
         final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new AsyncMethodCallback<Long>() { 
-          public void onComplete(Long o) {
-            loadMetadata_result result = new loadMetadata_result();
+        return new AsyncMethodCallback<List<FileSystemBatchTResult>>() { 
+          public void onComplete(List<FileSystemBatchTResult> o) {
+            getStatusBatch_result result = new getStatusBatch_result();
             result.success = o;
-            result.setSuccessIsSet(true);
             try {
               fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
               return;
@@ -2379,16 +3341,11 @@ public class FileSystemMasterClientService {
           public void onError(Exception e) {
             byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
             org.apache.thrift.TBase msg;
-            loadMetadata_result result = new loadMetadata_result();
+            getStatusBatch_result result = new getStatusBatch_result();
             if (e instanceof alluxio.thrift.AlluxioTException) {
                         result.e = (alluxio.thrift.AlluxioTException) e;
                         result.setEIsSet(true);
                         msg = result;
-            }
-            else             if (e instanceof alluxio.thrift.ThriftIOException) {
-                        result.ioe = (alluxio.thrift.ThriftIOException) e;
-                        result.setIoeIsSet(true);
-                        msg = result;
             }
              else 
             {
@@ -2410,25 +3367,26 @@ public class FileSystemMasterClientService {
         return false;
       }
 
-      public void start(I iface, loadMetadata_args args, org.apache.thrift.async.AsyncMethodCallback<Long> resultHandler) throws TException {
-        iface.loadMetadata(args.ufsPath, args.recursive,resultHandler);
+      public void start(I iface, getStatusBatch_args args, org.apache.thrift.async.AsyncMethodCallback<List<FileSystemBatchTResult>> resultHandler) throws TException {
+        iface.getStatusBatch(args.paths,resultHandler);
       }
     }
 
-    public static class mount<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, mount_args, Void> {
-      public mount() {
-        super("mount");
+    public static class getStatusInternal<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, getStatusInternal_args, FileInfo> {
+      public getStatusInternal() {
+        super("getStatusInternal");
       }
 
-      public mount_args getEmptyArgsInstance() {
-        return new mount_args();
+      public getStatusInternal_args getEmptyArgsInstance() {
+        return new getStatusInternal_args();
       }
 
-      public AsyncMethodCallback<Void> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+      public AsyncMethodCallback<FileInfo> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
         final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new AsyncMethodCallback<Void>() { 
-          public void onComplete(Void o) {
-            mount_result result = new mount_result();
+        return new AsyncMethodCallback<FileInfo>() { 
+          public void onComplete(FileInfo o) {
+            getStatusInternal_result result = new getStatusInternal_result();
+            result.success = o;
             try {
               fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
               return;
@@ -2440,16 +3398,11 @@ public class FileSystemMasterClientService {
           public void onError(Exception e) {
             byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
             org.apache.thrift.TBase msg;
-            mount_result result = new mount_result();
+            getStatusInternal_result result = new getStatusInternal_result();
             if (e instanceof alluxio.thrift.AlluxioTException) {
                         result.e = (alluxio.thrift.AlluxioTException) e;
                         result.setEIsSet(true);
                         msg = result;
-            }
-            else             if (e instanceof alluxio.thrift.ThriftIOException) {
-                        result.ioe = (alluxio.thrift.ThriftIOException) e;
-                        result.setIoeIsSet(true);
-                        msg = result;
             }
              else 
             {
@@ -2471,25 +3424,27 @@ public class FileSystemMasterClientService {
         return false;
       }
 
-      public void start(I iface, mount_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws TException {
-        iface.mount(args.alluxioPath, args.ufsPath, args.options,resultHandler);
+      public void start(I iface, getStatusInternal_args args, org.apache.thrift.async.AsyncMethodCallback<FileInfo> resultHandler) throws TException {
+        iface.getStatusInternal(args.fileId,resultHandler);
       }
     }
 
-    public static class remove<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, remove_args, Void> {
-      public remove() {
-        super("remove");
+    public static class getJournalSequenceNumber<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, getJournalSequenceNumber_args, Long> {
+      public getJournalSequenceNumber() {
+        super("getJournalSequenceNumber");
       }
 
-      public remove_args getEmptyArgsInstance() {
-        return new remove_args();
+      public getJournalSequenceNumber_args getEmptyArgsInstance() {
+        return new getJournalSequenceNumber_args();
       }
 
-      public AsyncMethodCallback<Void> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+      public AsyncMethodCallback<Long> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
         final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new AsyncMethodCallback<Void>() { 
-          public void onComplete(Void o) {
-            remove_result result = new remove_result();
+        return new AsyncMethodCallback<Long>() { 
+          public void onComplete(Long o) {
+            getJournalSequenceNumber_result result = new getJournalSequenceNumber_result();
+            result.success = o;
+            result.setSuccessIsSet(true);
             try {
               fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
               return;
@@ -2501,7 +3456,7 @@ public class FileSystemMasterClientService {
           public void onError(Exception e) {
             byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
             org.apache.thrift.TBase msg;
-            remove_result result = new remove_result();
+            getJournalSequenceNumber_result result = new getJournalSequenceNumber_result();
             if (e instanceof alluxio.thrift.AlluxioTException) {
                         result.e = (alluxio.thrift.AlluxioTException) e;
                         result.setEIsSet(true);
@@ -2527,25 +3482,26 @@ public class FileSystemMasterClientService {
         return false;
       }
 
-      public void start(I iface, remove_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws TException {
-        iface.remove(args.path, args.recursive,resultHandler);
+      public void start(I iface, getJournalSequenceNumber_args args, org.apache.thrift.async.AsyncMethodCallback<Long> resultHandler) throws TException {
+        iface.getJournalSequenceNumber(resultHandler);
       }
     }
 
-    public static class rename<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, rename_args, Void> {
-      public rename() {
-        super("rename");
+    public static class getLoadJobInfo<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, getLoadJobInfo_args, LoadJobInfo> {
+      public getLoadJobInfo() {
+        super("getLoadJobInfo");
       }
 
-      public rename_args getEmptyArgsInstance() {
-        return new rename_args();
+      public getLoadJobInfo_args getEmptyArgsInstance() {
+        return new getLoadJobInfo_args();
       }
 
-      public AsyncMethodCallback<Void> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+      public AsyncMethodCallback<LoadJobInfo> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
         final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new AsyncMethodCallback<Void>() { 
-          public void onComplete(Void o) {
-            rename_result result = new rename_result();
+        return new AsyncMethodCallback<LoadJobInfo>() { 
+          public void onComplete(LoadJobInfo o) {
+            getLoadJobInfo_result result = new getLoadJobInfo_result();
+            result.success = o;
             try {
               fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
               return;
@@ -2557,16 +3513,11 @@ public class FileSystemMasterClientService {
           public void onError(Exception e) {
             byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
             org.apache.thrift.TBase msg;
-            rename_result result = new rename_result();
+            getLoadJobInfo_result result = new getLoadJobInfo_result();
             if (e instanceof alluxio.thrift.AlluxioTException) {
                         result.e = (alluxio.thrift.AlluxioTException) e;
                         result.setEIsSet(true);
                         msg = result;
-            }
-            else             if (e instanceof alluxio.thrift.ThriftIOException) {
-                        result.ioe = (alluxio.thrift.ThriftIOException) e;
-                        result.setIoeIsSet(true);
-                        msg = result;
             }
              else 
             {
@@ -2588,25 +3539,27 @@ public class FileSystemMasterClientService {
         return false;
       }
 
-      public void start(I iface, rename_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws TException {
-        iface.rename(args.path, args.dstPath,resultHandler);
+      public void start(I iface, getLoadJobInfo_args args, org.apache.thrift.async.AsyncMethodCallback<LoadJobInfo> resultHandler) throws TException {
+        iface.getLoadJobInfo(args.id,resultHandler);
       }
     }
 
-    public static class setAttribute<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, setAttribute_args, Void> {
-      public setAttribute() {
-        super("setAttribute");
+    public static class getNewBlockIdForFile<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, getNewBlockIdForFile_args, Long> {
+      public getNewBlockIdForFile() {
+        super("getNewBlockIdForFile");
       }
 
-      public setAttribute_args getEmptyArgsInstance() {
-        return new setAttribute_args();
+      public getNewBlockIdForFile_args getEmptyArgsInstance() {
+        return new getNewBlockIdForFile_args();
       }
 
-      public AsyncMethodCallback<Void> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+      public AsyncMethodCallback<Long> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
         final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new AsyncMethodCallback<Void>() { 
-          public void onComplete(Void o) {
-            setAttribute_result result = new setAttribute_result();
+        return new AsyncMethodCallback<Long>() { 
+          public void onComplete(Long o) {
+            getNewBlockIdForFile_result result = new getNewBlockIdForFile_result();
+            result.success = o;
+            result.setSuccessIsSet(true);
             try {
               fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
               return;
@@ -2618,7 +3571,7 @@ public class FileSystemMasterClientService {
           public void onError(Exception e) {
             byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
             org.apache.thrift.TBase msg;
-            setAttribute_result result = new setAttribute_result();
+            getNewBlockIdForFile_result result = new getNewBlockIdForFile_result();
             if (e instanceof alluxio.thrift.AlluxioTException) {
                         result.e = (alluxio.thrift.AlluxioTException) e;
                         result.setEIsSet(true);
@@ -2644,25 +3597,26 @@ public class FileSystemMasterClientService {
         return false;
       }
 
-      public void start(I iface, setAttribute_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws TException {
-        iface.setAttribute(args.path, args.options,resultHandler);
+      public void start(I iface, getNewBlockIdForFile_args args, org.apache.thrift.async.AsyncMethodCallback<Long> resultHandler) throws TException {
+        iface.getNewBlockIdForFile(args.path,resultHandler);
       }
     }
 
-    public static class scheduleAsyncPersist<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, scheduleAsyncPersist_args, Void> {
-      public scheduleAsyncPersist() {
-        super("scheduleAsyncPersist");
+    public static class getUfsAddress<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, getUfsAddress_args, String> {
+      public getUfsAddress() {
+        super("getUfsAddress");
       }
 
-      public scheduleAsyncPersist_args getEmptyArgsInstance() {
-        return new scheduleAsyncPersist_args();
+      public getUfsAddress_args getEmptyArgsInstance() {
+        return new getUfsAddress_args();
       }
 
-      public AsyncMethodCallback<Void> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+      public AsyncMethodCallback<String> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
         final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new AsyncMethodCallback<Void>() { 
-          public void onComplete(Void o) {
-            scheduleAsyncPersist_result result = new scheduleAsyncPersist_result();
+        return new AsyncMethodCallback<String>() { 
+          public void onComplete(String o) {
+            getUfsAddress_result result = new getUfsAddress_result();
+            result.success = o;
             try {
               fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
               return;
@@ -2674,7 +3628,7 @@ public class FileSystemMasterClientService {
           public void onError(Exception e) {
             byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
             org.apache.thrift.TBase msg;
-            scheduleAsyncPersist_result result = new scheduleAsyncPersist_result();
+            getUfsAddress_result result = new getUfsAddress_result();
             if (e instanceof alluxio.thrift.AlluxioTException) {
                         result.e = (alluxio.thrift.AlluxioTException) e;
                         result.setEIsSet(true);
@@ -2700,25 +3654,26 @@ public class FileSystemMasterClientService {
         return false;
       }
 
-      public void start(I iface, scheduleAsyncPersist_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws TException {
-        iface.scheduleAsyncPersist(args.path,resultHandler);
+      public void start(I iface, getUfsAddress_args args, org.apache.thrift.async.AsyncMethodCallback<String> resultHandler) throws TException {
+        iface.getUfsAddress(resultHandler);
       }
     }
 
-    public static class unmount<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, unmount_args, Void> {
-      public unmount() {
-        super("unmount");
+    public static class listStatus<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, listStatus_args, List<FileInfo>> {
+      public listStatus() {
+        super("listStatus");
       }
 
-      public unmount_args getEmptyArgsInstance() {
-        return new unmount_args();
+      public listStatus_args getEmptyArgsInstance() {
+        return new listStatus_args();
       }
 
-      public AsyncMethodCallback<Void> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+      public AsyncMethodCallback<List<FileInfo>> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
         final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new AsyncMethodCallback<Void>() { 
-          public void onComplete(Void o) {
-            unmount_result result = new unmount_result();
+        return new AsyncMethodCallback<List<FileInfo>>() { 
+          public void onComplete(List<FileInfo> o) {
+            listStatus_result result = new listStatus_result();
+            result.success = o;
             try {
               fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
               return;
@@ -2730,16 +3685,11 @@ public class FileSystemMasterClientService {
           public void onError(Exception e) {
             byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
             org.apache.thrift.TBase msg;
-            unmount_result result = new unmount_result();
+            listStatus_result result = new listStatus_result();
             if (e instanceof alluxio.thrift.AlluxioTException) {
                         result.e = (alluxio.thrift.AlluxioTException) e;
                         result.setEIsSet(true);
                         msg = result;
-            }
-            else             if (e instanceof alluxio.thrift.ThriftIOException) {
-                        result.ioe = (alluxio.thrift.ThriftIOException) e;
-                        result.setIoeIsSet(true);
-                        msg = result;
             }
              else 
             {
@@ -2761,38 +3711,9828 @@ public class FileSystemMasterClientService {
         return false;
       }
 
-      public void start(I iface, unmount_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws TException {
-        iface.unmount(args.alluxioPath,resultHandler);
+      public void start(I iface, listStatus_args args, org.apache.thrift.async.AsyncMethodCallback<List<FileInfo>> resultHandler) throws TException {
+        iface.listStatus(args.path, args.options,resultHandler);
       }
     }
 
-  }
+    public static class loadMetadata<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, loadMetadata_args, Long> {
+      public loadMetadata() {
+        super("loadMetadata");
+      }
 
-  public static class completeFile_args implements org.apache.thrift.TBase<completeFile_args, completeFile_args._Fields>, java.io.Serializable, Cloneable, Comparable<completeFile_args>   {
+      public loadMetadata_args getEmptyArgsInstance() {
+        return new loadMetadata_args();
+      }
+
+      public AsyncMethodCallback<Long> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<Long>() { 
+          public void onComplete(Long o) {
+            loadMetadata_result result = new loadMetadata_result();
+            result.success = o;
+            result.setSuccessIsSet(true);
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            loadMetadata_result result = new loadMetadata_result();
+            if (e instanceof alluxio.thrift.AlluxioTException) {
+                        result.e = (alluxio.thrift.AlluxioTException) e;
+                        result.setEIsSet(true);
+                        msg = result;
+            }
+            else             if (e instanceof alluxio.thrift.ThriftIOException) {
+                        result.ioe = (alluxio.thrift.ThriftIOException) e;
+                        result.setIoeIsSet(true);
+                        msg = result;
+            }
+             else 
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, loadMetadata_args args, org.apache.thrift.async.AsyncMethodCallback<Long> resultHandler) throws TException {
+        iface.loadMetadata(args.ufsPath, args.recursive,resultHandler);
+      }
+    }
+
+    public static class mount<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, mount_args, Void> {
+      public mount() {
+        super("mount");
+      }
+
+      public mount_args getEmptyArgsInstance() {
+        return new mount_args();
+      }
+
+      public AsyncMethodCallback<Void> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<Void>() { 
+          public void onComplete(Void o) {
+            mount_result result = new mount_result();
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            mount_result result = new mount_result();
+            if (e instanceof alluxio.thrift.AlluxioTException) {
+                        result.e = (alluxio.thrift.AlluxioTException) e;
+                        result.setEIsSet(true);
+                        msg = result;
+            }
+            else             if (e instanceof alluxio.thrift.ThriftIOException) {
+                        result.ioe = (alluxio.thrift.ThriftIOException) e;
+                        result.setIoeIsSet(true);
+                        msg = result;
+            }
+             else 
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, mount_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws TException {
+        iface.mount(args.alluxioPath, args.ufsPath, args.options,resultHandler);
+      }
+    }
+
+    public static class remove<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, remove_args, Void> {
+      public remove() {
+        super("remove");
+      }
+
+      public remove_args getEmptyArgsInstance() {
+        return new remove_args();
+      }
+
+      public AsyncMethodCallback<Void> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<Void>() { 
+          public void onComplete(Void o) {
+            remove_result result = new remove_result();
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            remove_result result = new remove_result();
+            if (e instanceof alluxio.thrift.AlluxioTException) {
+                        result.e = (alluxio.thrift.AlluxioTException) e;
+                        result.setEIsSet(true);
+                        msg = result;
+            }
+             else 
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, remove_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws TException {
+        iface.remove(args.path, args.recursive,resultHandler);
+      }
+    }
+
+    public static class removeBatch<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, removeBatch_args, List<FileSystemBatchTResult>> {
+      public removeBatch() {
+        super("removeBatch");
+      }
+
+      public removeBatch_args getEmptyArgsInstance() {
+        return new removeBatch_args();
+      }
+
+      public AsyncMethodCallback<List<FileSystemBatchTResult>> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<List<FileSystemBatchTResult>>() { 
+          public void onComplete(List<FileSystemBatchTResult> o) {
+            removeBatch_result result = new removeBatch_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            removeBatch_result result = new removeBatch_result();
+            if (e instanceof alluxio.thrift.AlluxioTException) {
+                        result.e = (alluxio.thrift.AlluxioTException) e;
+                        result.setEIsSet(true);
+                        msg = result;
+            }
+             else 
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, removeBatch_args args, org.apache.thrift.async.AsyncMethodCallback<List<FileSystemBatchTResult>> resultHandler) throws TException {
+        iface.removeBatch(args.paths, args.recursive,resultHandler);
+      }
+    }
+
+    public static class rename<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, rename_args, Void> {
+      public rename() {
+        super("rename");
+      }
+
+      public rename_args getEmptyArgsInstance() {
+        return new rename_args();
+      }
+
+      public AsyncMethodCallback<Void> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<Void>() { 
+          public void onComplete(Void o) {
+            rename_result result = new rename_result();
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            rename_result result = new rename_result();
+            if (e instanceof alluxio.thrift.AlluxioTException) {
+                        result.e = (alluxio.thrift.AlluxioTException) e;
+                        result.setEIsSet(true);
+                        msg = result;
+            }
+            else             if (e instanceof alluxio.thrift.ThriftIOException) {
+                        result.ioe = (alluxio.thrift.ThriftIOException) e;
+                        result.setIoeIsSet(true);
+                        msg = result;
+            }
+             else 
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, rename_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws TException {
+        iface.rename(args.path, args.dstPath,resultHandler);
+      }
+    }
+
+    public static class setAttribute<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, setAttribute_args, Void> {
+      public setAttribute() {
+        super("setAttribute");
+      }
+
+      public setAttribute_args getEmptyArgsInstance() {
+        return new setAttribute_args();
+      }
+
+      public AsyncMethodCallback<Void> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<Void>() { 
+          public void onComplete(Void o) {
+            setAttribute_result result = new setAttribute_result();
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            setAttribute_result result = new setAttribute_result();
+            if (e instanceof alluxio.thrift.AlluxioTException) {
+                        result.e = (alluxio.thrift.AlluxioTException) e;
+                        result.setEIsSet(true);
+                        msg = result;
+            }
+             else 
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, setAttribute_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws TException {
+        iface.setAttribute(args.path, args.options,resultHandler);
+      }
+    }
+
+    public static class setAttributeBatch<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, setAttributeBatch_args, List<FileSystemBatchTResult>> {
+      public setAttributeBatch() {
+        super("setAttributeBatch");
+      }
+
+      public setAttributeBatch_args getEmptyArgsInstance() {
+        return new setAttributeBatch_args();
+      }
+
+      public AsyncMethodCallback<List<FileSystemBatchTResult>> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<List<FileSystemBatchTResult>>() { 
+          public void onComplete(List<FileSystemBatchTResult> o) {
+            setAttributeBatch_result result = new setAttributeBatch_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            setAttributeBatch_result result = new setAttributeBatch_result();
+            if (e instanceof alluxio.thrift.AlluxioTException) {
+                        result.e = (alluxio.thrift.AlluxioTException) e;
+                        result.setEIsSet(true);
+                        msg = result;
+            }
+             else 
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, setAttributeBatch_args args, org.apache.thrift.async.AsyncMethodCallback<List<FileSystemBatchTResult>> resultHandler) throws TException {
+        iface.setAttributeBatch(args.paths, args.options,resultHandler);
+      }
+    }
+
+    public static class scheduleAsyncPersist<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, scheduleAsyncPersist_args, Void> {
+      public scheduleAsyncPersist() {
+        super("scheduleAsyncPersist");
+      }
+
+      public scheduleAsyncPersist_args getEmptyArgsInstance() {
+        return new scheduleAsyncPersist_args();
+      }
+
+      public AsyncMethodCallback<Void> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<Void>() { 
+          public void onComplete(Void o) {
+            scheduleAsyncPersist_result result = new scheduleAsyncPersist_result();
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            scheduleAsyncPersist_result result = new scheduleAsyncPersist_result();
+            if (e instanceof alluxio.thrift.AlluxioTException) {
+                        result.e = (alluxio.thrift.AlluxioTException) e;
+                        result.setEIsSet(true);
+                        msg = result;
+            }
+             else 
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, scheduleAsyncPersist_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws TException {
+        iface.scheduleAsyncPersist(args.path,resultHandler);
+      }
+    }
+
+    public static class submitLoadJob<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, submitLoadJob_args, Long> {
+      public submitLoadJob() {
+        super("submitLoadJob");
+      }
+
+      public submitLoadJob_args getEmptyArgsInstance() {
+        return new submitLoadJob_args();
+      }
+
+      public AsyncMethodCallback<Long> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<Long>() { 
+          public void onComplete(Long o) {
+            submitLoadJob_result result = new submitLoadJob_result();
+            result.success = o;
+            result.setSuccessIsSet(true);
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            submitLoadJob_result result = new submitLoadJob_result();
+            if (e instanceof alluxio.thrift.AlluxioTException) {
+                        result.e = (alluxio.thrift.AlluxioTException) e;
+                        result.setEIsSet(true);
+                        msg = result;
+            }
+             else 
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, submitLoadJob_args args, org.apache.thrift.async.AsyncMethodCallback<Long> resultHandler) throws TException {
+        iface.submitLoadJob(args.path, args.options,resultHandler);
+      }
+    }
+
+    public static class unmount<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, unmount_args, Void> {
+      public unmount() {
+        super("unmount");
+      }
+
+      public unmount_args getEmptyArgsInstance() {
+        return new unmount_args();
+      }
+
+      public AsyncMethodCallback<Void> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<Void>() { 
+          public void onComplete(Void o) {
+            unmount_result result = new unmount_result();
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            unmount_result result = new unmount_result();
+            if (e instanceof alluxio.thrift.AlluxioTException) {
+                        result.e = (alluxio.thrift.AlluxioTException) e;
+                        result.setEIsSet(true);
+                        msg = result;
+            }
+            else             if (e instanceof alluxio.thrift.ThriftIOException) {
+                        result.ioe = (alluxio.thrift.ThriftIOException) e;
+                        result.setIoeIsSet(true);
+                        msg = result;
+            }
+             else 
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, unmount_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws TException {
+        iface.unmount(args.alluxioPath,resultHandler);
+      }
+    }
+
+  }
+
+  public static class cancelLoadJob_args implements org.apache.thrift.TBase<cancelLoadJob_args, cancelLoadJob_args._Fields>, java.io.Serializable, Cloneable, Comparable<cancelLoadJob_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("cancelLoadJob_args");
+
+    private static final org.apache.thrift.protocol.TField ID_FIELD_DESC = new org.apache.thrift.protocol.TField("id", org.apache.thrift.protocol.TType.I64, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new cancelLoadJob_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new cancelLoadJob_argsTupleSchemeFactory());
+    }
+
+    private long id; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      /**
+       * the id of the load job
+       */
+      ID((short)1, "id");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // ID
+            return ID;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    private static final int __ID_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.ID, new org.apache.thrift.meta_data.FieldMetaData("id", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(cancelLoadJob_args.class, metaDataMap);
+    }
+
+    public cancelLoadJob_args() {
+    }
+
+    public cancelLoadJob_args(
+      long id)
+    {
+      this();
+      this.id = id;
+      setIdIsSet(true);
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public cancelLoadJob_args(cancelLoadJob_args other) {
+      __isset_bitfield = other.__isset_bitfield;
+      this.id = other.id;
+    }
+
+    public cancelLoadJob_args deepCopy() {
+      return new cancelLoadJob_args(this);
+    }
+
+    @Override
+    public void clear() {
+      setIdIsSet(false);
+      this.id = 0;
+    }
+
+    /**
+     * the id of the load job
+     */
+    public long getId() {
+      return this.id;
+    }
+
+    /**
+     * the id of the load job
+     */
+    public cancelLoadJob_args setId(long id) {
+      this.id = id;
+      setIdIsSet(true);
+      return this;
+    }
+
+    public void unsetId() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __ID_ISSET_ID);
+    }
+
+    /** Returns true if field id is set (has been assigned a value) and false otherwise */
+    public boolean isSetId() {
+      return EncodingUtils.testBit(__isset_bitfield, __ID_ISSET_ID);
+    }
+
+    public void setIdIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __ID_ISSET_ID, value);
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case ID:
+        if (value == null) {
+          unsetId();
+        } else {
+          setId((Long)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case ID:
+        return getId();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case ID:
+        return isSetId();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof cancelLoadJob_args)
+        return this.equals((cancelLoadJob_args)that);
+      return false;
+    }
+
+    public boolean equals(cancelLoadJob_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_id = true;
+      boolean that_present_id = true;
+      if (this_present_id || that_present_id) {
+        if (!(this_present_id && that_present_id))
+          return false;
+        if (this.id != that.id)
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_id = true;
+      list.add(present_id);
+      if (present_id)
+        list.add(id);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(cancelLoadJob_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetId()).compareTo(other.isSetId());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.id, other.id);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("cancelLoadJob_args(");
+      boolean first = true;
+
+      sb.append("id:");
+      sb.append(this.id);
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class cancelLoadJob_argsStandardSchemeFactory implements SchemeFactory {
+      public cancelLoadJob_argsStandardScheme getScheme() {
+        return new cancelLoadJob_argsStandardScheme();
+      }
+    }
+
+    private static class cancelLoadJob_argsStandardScheme extends StandardScheme<cancelLoadJob_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, cancelLoadJob_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+                struct.id = iprot.readI64();
+                struct.setIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, cancelLoadJob_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldBegin(ID_FIELD_DESC);
+        oprot.writeI64(struct.id);
+        oprot.writeFieldEnd();
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class cancelLoadJob_argsTupleSchemeFactory implements SchemeFactory {
+      public cancelLoadJob_argsTupleScheme getScheme() {
+        return new cancelLoadJob_argsTupleScheme();
+      }
+    }
+
+    private static class cancelLoadJob_argsTupleScheme extends TupleScheme<cancelLoadJob_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, cancelLoadJob_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetId()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetId()) {
+          oprot.writeI64(struct.id);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, cancelLoadJob_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.id = iprot.readI64();
+          struct.setIdIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class cancelLoadJob_result implements org.apache.thrift.TBase<cancelLoadJob_result, cancelLoadJob_result._Fields>, java.io.Serializable, Cloneable, Comparable<cancelLoadJob_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("cancelLoadJob_result");
+
+    private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new cancelLoadJob_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new cancelLoadJob_resultTupleSchemeFactory());
+    }
+
+    private alluxio.thrift.AlluxioTException e; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      E((short)1, "e");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // E
+            return E;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.E, new org.apache.thrift.meta_data.FieldMetaData("e", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(cancelLoadJob_result.class, metaDataMap);
+    }
+
+    public cancelLoadJob_result() {
+    }
+
+    public cancelLoadJob_result(
+      alluxio.thrift.AlluxioTException e)
+    {
+      this();
+      this.e = e;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public cancelLoadJob_result(cancelLoadJob_result other) {
+      if (other.isSetE()) {
+        this.e = new alluxio.thrift.AlluxioTException(other.e);
+      }
+    }
+
+    public cancelLoadJob_result deepCopy() {
+      return new cancelLoadJob_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.e = null;
+    }
+
+    public alluxio.thrift.AlluxioTException getE() {
+      return this.e;
+    }
+
+    public cancelLoadJob_result setE(alluxio.thrift.AlluxioTException e) {
+      this.e = e;
+      return this;
+    }
+
+    public void unsetE() {
+      this.e = null;
+    }
+
+    /** Returns true if field e is set (has been assigned a value) and false otherwise */
+    public boolean isSetE() {
+      return this.e != null;
+    }
+
+    public void setEIsSet(boolean value) {
+      if (!value) {
+        this.e = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case E:
+        if (value == null) {
+          unsetE();
+        } else {
+          setE((alluxio.thrift.AlluxioTException)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case E:
+        return getE();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case E:
+        return isSetE();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof cancelLoadJob_result)
+        return this.equals((cancelLoadJob_result)that);
+      return false;
+    }
+
+    public boolean equals(cancelLoadJob_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_e = true && this.isSetE();
+      boolean that_present_e = true && that.isSetE();
+      if (this_present_e || that_present_e) {
+        if (!(this_present_e && that_present_e))
+          return false;
+        if (!this.e.equals(that.e))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_e = true && (isSetE());
+      list.add(present_e);
+      if (present_e)
+        list.add(e);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(cancelLoadJob_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetE()).compareTo(other.isSetE());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetE()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.e, other.e);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("cancelLoadJob_result(");
+      boolean first = true;
+
+      sb.append("e:");
+      if (this.e == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.e);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class cancelLoadJob_resultStandardSchemeFactory implements SchemeFactory {
+      public cancelLoadJob_resultStandardScheme getScheme() {
+        return new cancelLoadJob_resultStandardScheme();
+      }
+    }
+
+    private static class cancelLoadJob_resultStandardScheme extends StandardScheme<cancelLoadJob_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, cancelLoadJob_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // E
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.e = new alluxio.thrift.AlluxioTException();
+                struct.e.read(iprot);
+                struct.setEIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, cancelLoadJob_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.e != null) {
+          oprot.writeFieldBegin(E_FIELD_DESC);
+          struct.e.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class cancelLoadJob_resultTupleSchemeFactory implements SchemeFactory {
+      public cancelLoadJob_resultTupleScheme getScheme() {
+        return new cancelLoadJob_resultTupleScheme();
+      }
+    }
+
+    private static class cancelLoadJob_resultTupleScheme extends TupleScheme<cancelLoadJob_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, cancelLoadJob_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetE()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetE()) {
+          struct.e.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, cancelLoadJob_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.e = new alluxio.thrift.AlluxioTException();
+          struct.e.read(iprot);
+          struct.setEIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class completeFile_args implements org.apache.thrift.TBase<completeFile_args, completeFile_args._Fields>, java.io.Serializable, Cloneable, Comparable<completeFile_args>   {
     private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("completeFile_args");
 
-    private static final org.apache.thrift.protocol.TField PATH_FIELD_DESC = new org.apache.thrift.protocol.TField("path", org.apache.thrift.protocol.TType.STRING, (short)1);
-    private static final org.apache.thrift.protocol.TField OPTIONS_FIELD_DESC = new org.apache.thrift.protocol.TField("options", org.apache.thrift.protocol.TType.STRUCT, (short)2);
+    private static final org.apache.thrift.protocol.TField PATH_FIELD_DESC = new org.apache.thrift.protocol.TField("path", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField OPTIONS_FIELD_DESC = new org.apache.thrift.protocol.TField("options", org.apache.thrift.protocol.TType.STRUCT, (short)2);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new completeFile_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new completeFile_argsTupleSchemeFactory());
+    }
+
+    private String path; // required
+    private CompleteFileTOptions options; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      /**
+       * the path of the file
+       */
+      PATH((short)1, "path"),
+      /**
+       * the method options
+       */
+      OPTIONS((short)2, "options");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // PATH
+            return PATH;
+          case 2: // OPTIONS
+            return OPTIONS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.PATH, new org.apache.thrift.meta_data.FieldMetaData("path", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.OPTIONS, new org.apache.thrift.meta_data.FieldMetaData("options", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, CompleteFileTOptions.class)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(completeFile_args.class, metaDataMap);
+    }
+
+    public completeFile_args() {
+    }
+
+    public completeFile_args(
+      String path,
+      CompleteFileTOptions options)
+    {
+      this();
+      this.path = path;
+      this.options = options;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public completeFile_args(completeFile_args other) {
+      if (other.isSetPath()) {
+        this.path = other.path;
+      }
+      if (other.isSetOptions()) {
+        this.options = new CompleteFileTOptions(other.options);
+      }
+    }
+
+    public completeFile_args deepCopy() {
+      return new completeFile_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.path = null;
+      this.options = null;
+    }
+
+    /**
+     * the path of the file
+     */
+    public String getPath() {
+      return this.path;
+    }
+
+    /**
+     * the path of the file
+     */
+    public completeFile_args setPath(String path) {
+      this.path = path;
+      return this;
+    }
+
+    public void unsetPath() {
+      this.path = null;
+    }
+
+    /** Returns true if field path is set (has been assigned a value) and false otherwise */
+    public boolean isSetPath() {
+      return this.path != null;
+    }
+
+    public void setPathIsSet(boolean value) {
+      if (!value) {
+        this.path = null;
+      }
+    }
+
+    /**
+     * the method options
+     */
+    public CompleteFileTOptions getOptions() {
+      return this.options;
+    }
+
+    /**
+     * the method options
+     */
+    public completeFile_args setOptions(CompleteFileTOptions options) {
+      this.options = options;
+      return this;
+    }
+
+    public void unsetOptions() {
+      this.options = null;
+    }
+
+    /** Returns true if field options is set (has been assigned a value) and false otherwise */
+    public boolean isSetOptions() {
+      return this.options != null;
+    }
+
+    public void setOptionsIsSet(boolean value) {
+      if (!value) {
+        this.options = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case PATH:
+        if (value == null) {
+          unsetPath();
+        } else {
+          setPath((String)value);
+        }
+        break;
+
+      case OPTIONS:
+        if (value == null) {
+          unsetOptions();
+        } else {
+          setOptions((CompleteFileTOptions)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case PATH:
+        return getPath();
+
+      case OPTIONS:
+        return getOptions();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case PATH:
+        return isSetPath();
+      case OPTIONS:
+        return isSetOptions();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof completeFile_args)
+        return this.equals((completeFile_args)that);
+      return false;
+    }
+
+    public boolean equals(completeFile_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_path = true && this.isSetPath();
+      boolean that_present_path = true && that.isSetPath();
+      if (this_present_path || that_present_path) {
+        if (!(this_present_path && that_present_path))
+          return false;
+        if (!this.path.equals(that.path))
+          return false;
+      }
+
+      boolean this_present_options = true && this.isSetOptions();
+      boolean that_present_options = true && that.isSetOptions();
+      if (this_present_options || that_present_options) {
+        if (!(this_present_options && that_present_options))
+          return false;
+        if (!this.options.equals(that.options))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_path = true && (isSetPath());
+      list.add(present_path);
+      if (present_path)
+        list.add(path);
+
+      boolean present_options = true && (isSetOptions());
+      list.add(present_options);
+      if (present_options)
+        list.add(options);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(completeFile_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetPath()).compareTo(other.isSetPath());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetPath()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.path, other.path);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetOptions()).compareTo(other.isSetOptions());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetOptions()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.options, other.options);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("completeFile_args(");
+      boolean first = true;
+
+      sb.append("path:");
+      if (this.path == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.path);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("options:");
+      if (this.options == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.options);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (options != null) {
+        options.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class completeFile_argsStandardSchemeFactory implements SchemeFactory {
+      public completeFile_argsStandardScheme getScheme() {
+        return new completeFile_argsStandardScheme();
+      }
+    }
+
+    private static class completeFile_argsStandardScheme extends StandardScheme<completeFile_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, completeFile_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // PATH
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.path = iprot.readString();
+                struct.setPathIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // OPTIONS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.options = new CompleteFileTOptions();
+                struct.options.read(iprot);
+                struct.setOptionsIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, completeFile_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.path != null) {
+          oprot.writeFieldBegin(PATH_FIELD_DESC);
+          oprot.writeString(struct.path);
+          oprot.writeFieldEnd();
+        }
+        if (struct.options != null) {
+          oprot.writeFieldBegin(OPTIONS_FIELD_DESC);
+          struct.options.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class completeFile_argsTupleSchemeFactory implements SchemeFactory {
+      public completeFile_argsTupleScheme getScheme() {
+        return new completeFile_argsTupleScheme();
+      }
+    }
+
+    private static class completeFile_argsTupleScheme extends TupleScheme<completeFile_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, completeFile_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetPath()) {
+          optionals.set(0);
+        }
+        if (struct.isSetOptions()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetPath()) {
+          oprot.writeString(struct.path);
+        }
+        if (struct.isSetOptions()) {
+          struct.options.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, completeFile_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.path = iprot.readString();
+          struct.setPathIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.options = new CompleteFileTOptions();
+          struct.options.read(iprot);
+          struct.setOptionsIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class completeFile_result implements org.apache.thrift.TBase<completeFile_result, completeFile_result._Fields>, java.io.Serializable, Cloneable, Comparable<completeFile_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("completeFile_result");
+
+    private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new completeFile_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new completeFile_resultTupleSchemeFactory());
+    }
+
+    private alluxio.thrift.AlluxioTException e; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      E((short)1, "e");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // E
+            return E;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.E, new org.apache.thrift.meta_data.FieldMetaData("e", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(completeFile_result.class, metaDataMap);
+    }
+
+    public completeFile_result() {
+    }
+
+    public completeFile_result(
+      alluxio.thrift.AlluxioTException e)
+    {
+      this();
+      this.e = e;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public completeFile_result(completeFile_result other) {
+      if (other.isSetE()) {
+        this.e = new alluxio.thrift.AlluxioTException(other.e);
+      }
+    }
+
+    public completeFile_result deepCopy() {
+      return new completeFile_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.e = null;
+    }
+
+    public alluxio.thrift.AlluxioTException getE() {
+      return this.e;
+    }
+
+    public completeFile_result setE(alluxio.thrift.AlluxioTException e) {
+      this.e = e;
+      return this;
+    }
+
+    public void unsetE() {
+      this.e = null;
+    }
+
+    /** Returns true if field e is set (has been assigned a value) and false otherwise */
+    public boolean isSetE() {
+      return this.e != null;
+    }
+
+    public void setEIsSet(boolean value) {
+      if (!value) {
+        this.e = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case E:
+        if (value == null) {
+          unsetE();
+        } else {
+          setE((alluxio.thrift.AlluxioTException)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case E:
+        return getE();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case E:
+        return isSetE();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof completeFile_result)
+        return this.equals((completeFile_result)that);
+      return false;
+    }
+
+    public boolean equals(completeFile_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_e = true && this.isSetE();
+      boolean that_present_e = true && that.isSetE();
+      if (this_present_e || that_present_e) {
+        if (!(this_present_e && that_present_e))
+          return false;
+        if (!this.e.equals(that.e))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_e = true && (isSetE());
+      list.add(present_e);
+      if (present_e)
+        list.add(e);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(completeFile_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetE()).compareTo(other.isSetE());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetE()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.e, other.e);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("completeFile_result(");
+      boolean first = true;
+
+      sb.append("e:");
+      if (this.e == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.e);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class completeFile_resultStandardSchemeFactory implements SchemeFactory {
+      public completeFile_resultStandardScheme getScheme() {
+        return new completeFile_resultStandardScheme();
+      }
+    }
+
+    private static class completeFile_resultStandardScheme extends StandardScheme<completeFile_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, completeFile_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // E
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.e = new alluxio.thrift.AlluxioTException();
+                struct.e.read(iprot);
+                struct.setEIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, completeFile_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.e != null) {
+          oprot.writeFieldBegin(E_FIELD_DESC);
+          struct.e.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class completeFile_resultTupleSchemeFactory implements SchemeFactory {
+      public completeFile_resultTupleScheme getScheme() {
+        return new completeFile_resultTupleScheme();
+      }
+    }
+
+    private static class completeFile_resultTupleScheme extends TupleScheme<completeFile_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, completeFile_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetE()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetE()) {
+          struct.e.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, completeFile_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.e = new alluxio.thrift.AlluxioTException();
+          struct.e.read(iprot);
+          struct.setEIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class completeFileBatch_args implements org.apache.thrift.TBase<completeFileBatch_args, completeFileBatch_args._Fields>, java.io.Serializable, Cloneable, Comparable<completeFileBatch_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("completeFileBatch_args");
+
+    private static final org.apache.thrift.protocol.TField PATHS_FIELD_DESC = new org.apache.thrift.protocol.TField("paths", org.apache.thrift.protocol.TType.LIST, (short)1);
+    private static final org.apache.thrift.protocol.TField OPTIONS_FIELD_DESC = new org.apache.thrift.protocol.TField("options", org.apache.thrift.protocol.TType.LIST, (short)2);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new completeFileBatch_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new completeFileBatch_argsTupleSchemeFactory());
+    }
+
+    private List<String> paths; // required
+    private List<CompleteFileTOptions> options; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      PATHS((short)1, "paths"),
+      OPTIONS((short)2, "options");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // PATHS
+            return PATHS;
+          case 2: // OPTIONS
+            return OPTIONS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.PATHS, new org.apache.thrift.meta_data.FieldMetaData("paths", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING))));
+      tmpMap.put(_Fields.OPTIONS, new org.apache.thrift.meta_data.FieldMetaData("options", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, CompleteFileTOptions.class))));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(completeFileBatch_args.class, metaDataMap);
+    }
+
+    public completeFileBatch_args() {
+    }
+
+    public completeFileBatch_args(
+      List<String> paths,
+      List<CompleteFileTOptions> options)
+    {
+      this();
+      this.paths = paths;
+      this.options = options;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public completeFileBatch_args(completeFileBatch_args other) {
+      if (other.isSetPaths()) {
+        List<String> __this__paths = new ArrayList<String>(other.paths);
+        this.paths = __this__paths;
+      }
+      if (other.isSetOptions()) {
+        List<CompleteFileTOptions> __this__options = new ArrayList<CompleteFileTOptions>(other.options.size());
+        for (CompleteFileTOptions other_element : other.options) {
+          __this__options.add(new CompleteFileTOptions(other_element));
+        }
+        this.options = __this__options;
+      }
+    }
+
+    public completeFileBatch_args deepCopy() {
+      return new completeFileBatch_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.paths = null;
+      this.options = null;
+    }
+
+    public int getPathsSize() {
+      return (this.paths == null) ? 0 : this.paths.size();
+    }
+
+    public java.util.Iterator<String> getPathsIterator() {
+      return (this.paths == null) ? null : this.paths.iterator();
+    }
+
+    public void addToPaths(String elem) {
+      if (this.paths == null) {
+        this.paths = new ArrayList<String>();
+      }
+      this.paths.add(elem);
+    }
+
+    public List<String> getPaths() {
+      return this.paths;
+    }
+
+    public completeFileBatch_args setPaths(List<String> paths) {
+      this.paths = paths;
+      return this;
+    }
+
+    public void unsetPaths() {
+      this.paths = null;
+    }
+
+    /** Returns true if field paths is set (has been assigned a value) and false otherwise */
+    public boolean isSetPaths() {
+      return this.paths != null;
+    }
+
+    public void setPathsIsSet(boolean value) {
+      if (!value) {
+        this.paths = null;
+      }
+    }
+
+    public int getOptionsSize() {
+      return (this.options == null) ? 0 : this.options.size();
+    }
+
+    public java.util.Iterator<CompleteFileTOptions> getOptionsIterator() {
+      return (this.options == null) ? null : this.options.iterator();
+    }
+
+    public void addToOptions(CompleteFileTOptions elem) {
+      if (this.options == null) {
+        this.options = new ArrayList<CompleteFileTOptions>();
+      }
+      this.options.add(elem);
+    }
+
+    public List<CompleteFileTOptions> getOptions() {
+      return this.options;
+    }
+
+    public completeFileBatch_args setOptions(List<CompleteFileTOptions> options) {
+      this.options = options;
+      return this;
+    }
+
+    public void unsetOptions() {
+      this.options = null;
+    }
+
+    /** Returns true if field options is set (has been assigned a value) and false otherwise */
+    public boolean isSetOptions() {
+      return this.options != null;
+    }
+
+    public void setOptionsIsSet(boolean value) {
+      if (!value) {
+        this.options = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case PATHS:
+        if (value == null) {
+          unsetPaths();
+        } else {
+          setPaths((List<String>)value);
+        }
+        break;
+
+      case OPTIONS:
+        if (value == null) {
+          unsetOptions();
+        } else {
+          setOptions((List<CompleteFileTOptions>)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case PATHS:
+        return getPaths();
+
+      case OPTIONS:
+        return getOptions();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case PATHS:
+        return isSetPaths();
+      case OPTIONS:
+        return isSetOptions();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof completeFileBatch_args)
+        return this.equals((completeFileBatch_args)that);
+      return false;
+    }
+
+    public boolean equals(completeFileBatch_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_paths = true && this.isSetPaths();
+      boolean that_present_paths = true && that.isSetPaths();
+      if (this_present_paths || that_present_paths) {
+        if (!(this_present_paths && that_present_paths))
+          return false;
+        if (!this.paths.equals(that.paths))
+          return false;
+      }
+
+      boolean this_present_options = true && this.isSetOptions();
+      boolean that_present_options = true && that.isSetOptions();
+      if (this_present_options || that_present_options) {
+        if (!(this_present_options && that_present_options))
+          return false;
+        if (!this.options.equals(that.options))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_paths = true && (isSetPaths());
+      list.add(present_paths);
+      if (present_paths)
+        list.add(paths);
+
+      boolean present_options = true && (isSetOptions());
+      list.add(present_options);
+      if (present_options)
+        list.add(options);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(completeFileBatch_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetPaths()).compareTo(other.isSetPaths());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetPaths()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.paths, other.paths);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetOptions()).compareTo(other.isSetOptions());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetOptions()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.options, other.options);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("completeFileBatch_args(");
+      boolean first = true;
+
+      sb.append("paths:");
+      if (this.paths == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.paths);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("options:");
+      if (this.options == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.options);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class completeFileBatch_argsStandardSchemeFactory implements SchemeFactory {
+      public completeFileBatch_argsStandardScheme getScheme() {
+        return new completeFileBatch_argsStandardScheme();
+      }
+    }
+
+    private static class completeFileBatch_argsStandardScheme extends StandardScheme<completeFileBatch_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, completeFileBatch_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // PATHS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list101 = iprot.readListBegin();
+                  struct.paths = new ArrayList<String>(_list101.size);
+                  String _elem102;
+                  for (int _i103 = 0; _i103 < _list101.size; ++_i103)
+                  {
+                    _elem102 = iprot.readString();
+                    struct.paths.add(_elem102);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setPathsIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // OPTIONS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list104 = iprot.readListBegin();
+                  struct.options = new ArrayList<CompleteFileTOptions>(_list104.size);
+                  CompleteFileTOptions _elem105;
+                  for (int _i106 = 0; _i106 < _list104.size; ++_i106)
+                  {
+                    _elem105 = new CompleteFileTOptions();
+                    _elem105.read(iprot);
+                    struct.options.add(_elem105);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setOptionsIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, completeFileBatch_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.paths != null) {
+          oprot.writeFieldBegin(PATHS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, struct.paths.size()));
+            for (String _iter107 : struct.paths)
+            {
+              oprot.writeString(_iter107);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+        if (struct.options != null) {
+          oprot.writeFieldBegin(OPTIONS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.options.size()));
+            for (CompleteFileTOptions _iter108 : struct.options)
+            {
+              _iter108.write(oprot);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class completeFileBatch_argsTupleSchemeFactory implements SchemeFactory {
+      public completeFileBatch_argsTupleScheme getScheme() {
+        return new completeFileBatch_argsTupleScheme();
+      }
+    }
+
+    private static class completeFileBatch_argsTupleScheme extends TupleScheme<completeFileBatch_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, completeFileBatch_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetPaths()) {
+          optionals.set(0);
+        }
+        if (struct.isSetOptions()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetPaths()) {
+          {
+            oprot.writeI32(struct.paths.size());
+            for (String _iter109 : struct.paths)
+            {
+              oprot.writeString(_iter109);
+            }
+          }
+        }
+        if (struct.isSetOptions()) {
+          {
+            oprot.writeI32(struct.options.size());
+            for (CompleteFileTOptions _iter110 : struct.options)
+            {
+              _iter110.write(oprot);
+            }
+          }
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, completeFileBatch_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          {
+            org.apache.thrift.protocol.TList _list111 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
+            struct.paths = new ArrayList<String>(_list111.size);
+            String _elem112;
+            for (int _i113 = 0; _i113 < _list111.size; ++_i113)
+            {
+              _elem112 = iprot.readString();
+              struct.paths.add(_elem112);
+            }
+          }
+          struct.setPathsIsSet(true);
+        }
+        if (incoming.get(1)) {
+          {
+            org.apache.thrift.protocol.TList _list114 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.options = new ArrayList<CompleteFileTOptions>(_list114.size);
+            CompleteFileTOptions _elem115;
+            for (int _i116 = 0; _i116 < _list114.size; ++_i116)
+            {
+              _elem115 = new CompleteFileTOptions();
+              _elem115.read(iprot);
+              struct.options.add(_elem115);
+            }
+          }
+          struct.setOptionsIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class completeFileBatch_result implements org.apache.thrift.TBase<completeFileBatch_result, completeFileBatch_result._Fields>, java.io.Serializable, Cloneable, Comparable<completeFileBatch_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("completeFileBatch_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.LIST, (short)0);
+    private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new completeFileBatch_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new completeFileBatch_resultTupleSchemeFactory());
+    }
+
+    private List<FileSystemBatchTResult> success; // required
+    private alluxio.thrift.AlluxioTException e; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success"),
+      E((short)1, "e");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          case 1: // E
+            return E;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, FileSystemBatchTResult.class))));
+      tmpMap.put(_Fields.E, new org.apache.thrift.meta_data.FieldMetaData("e", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(completeFileBatch_result.class, metaDataMap);
+    }
+
+    public completeFileBatch_result() {
+    }
+
+    public completeFileBatch_result(
+      List<FileSystemBatchTResult> success,
+      alluxio.thrift.AlluxioTException e)
+    {
+      this();
+      this.success = success;
+      this.e = e;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public completeFileBatch_result(completeFileBatch_result other) {
+      if (other.isSetSuccess()) {
+        List<FileSystemBatchTResult> __this__success = new ArrayList<FileSystemBatchTResult>(other.success.size());
+        for (FileSystemBatchTResult other_element : other.success) {
+          __this__success.add(new FileSystemBatchTResult(other_element));
+        }
+        this.success = __this__success;
+      }
+      if (other.isSetE()) {
+        this.e = new alluxio.thrift.AlluxioTException(other.e);
+      }
+    }
+
+    public completeFileBatch_result deepCopy() {
+      return new completeFileBatch_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+      this.e = null;
+    }
+
+    public int getSuccessSize() {
+      return (this.success == null) ? 0 : this.success.size();
+    }
+
+    public java.util.Iterator<FileSystemBatchTResult> getSuccessIterator() {
+      return (this.success == null) ? null : this.success.iterator();
+    }
+
+    public void addToSuccess(FileSystemBatchTResult elem) {
+      if (this.success == null) {
+        this.success = new ArrayList<FileSystemBatchTResult>();
+      }
+      this.success.add(elem);
+    }
+
+    public List<FileSystemBatchTResult> getSuccess() {
+      return this.success;
+    }
+
+    public completeFileBatch_result setSuccess(List<FileSystemBatchTResult> success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public alluxio.thrift.AlluxioTException getE() {
+      return this.e;
+    }
+
+    public completeFileBatch_result setE(alluxio.thrift.AlluxioTException e) {
+      this.e = e;
+      return this;
+    }
+
+    public void unsetE() {
+      this.e = null;
+    }
+
+    /** Returns true if field e is set (has been assigned a value) and false otherwise */
+    public boolean isSetE() {
+      return this.e != null;
+    }
+
+    public void setEIsSet(boolean value) {
+      if (!value) {
+        this.e = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((List<FileSystemBatchTResult>)value);
+        }
+        break;
+
+      case E:
+        if (value == null) {
+          unsetE();
+        } else {
+          setE((alluxio.thrift.AlluxioTException)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      case E:
+        return getE();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      case E:
+        return isSetE();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof completeFileBatch_result)
+        return this.equals((completeFileBatch_result)that);
+      return false;
+    }
+
+    public boolean equals(completeFileBatch_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      boolean this_present_e = true && this.isSetE();
+      boolean that_present_e = true && that.isSetE();
+      if (this_present_e || that_present_e) {
+        if (!(this_present_e && that_present_e))
+          return false;
+        if (!this.e.equals(that.e))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_success = true && (isSetSuccess());
+      list.add(present_success);
+      if (present_success)
+        list.add(success);
+
+      boolean present_e = true && (isSetE());
+      list.add(present_e);
+      if (present_e)
+        list.add(e);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(completeFileBatch_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetE()).compareTo(other.isSetE());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetE()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.e, other.e);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("completeFileBatch_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("e:");
+      if (this.e == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.e);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class completeFileBatch_resultStandardSchemeFactory implements SchemeFactory {
+      public completeFileBatch_resultStandardScheme getScheme() {
+        return new completeFileBatch_resultStandardScheme();
+      }
+    }
+
+    private static class completeFileBatch_resultStandardScheme extends StandardScheme<completeFileBatch_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, completeFileBatch_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list121 = iprot.readListBegin();
+                  struct.success = new ArrayList<FileSystemBatchTResult>(_list121.size);
+                  FileSystemBatchTResult _elem122;
+                  for (int _i123 = 0; _i123 < _list121.size; ++_i123)
+                  {
+                    _elem122 = new FileSystemBatchTResult();
+                    _elem122.read(iprot);
+                    struct.success.add(_elem122);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 1: // E
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.e = new alluxio.thrift.AlluxioTException();
+                struct.e.read(iprot);
+                struct.setEIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, completeFileBatch_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.success.size()));
+            for (FileSystemBatchTResult _iter124 : struct.success)
+            {
+              _iter124.write(oprot);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+        if (struct.e != null) {
+          oprot.writeFieldBegin(E_FIELD_DESC);
+          struct.e.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class completeFileBatch_resultTupleSchemeFactory implements SchemeFactory {
+      public completeFileBatch_resultTupleScheme getScheme() {
+        return new completeFileBatch_resultTupleScheme();
+      }
+    }
+
+    private static class completeFileBatch_resultTupleScheme extends TupleScheme<completeFileBatch_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, completeFileBatch_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        if (struct.isSetE()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetSuccess()) {
+          {
+            oprot.writeI32(struct.success.size());
+            for (FileSystemBatchTResult _iter125 : struct.success)
+            {
+              _iter125.write(oprot);
+            }
+          }
+        }
+        if (struct.isSetE()) {
+          struct.e.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, completeFileBatch_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          {
+            org.apache.thrift.protocol.TList _list126 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.success = new ArrayList<FileSystemBatchTResult>(_list126.size);
+            FileSystemBatchTResult _elem127;
+            for (int _i128 = 0; _i128 < _list126.size; ++_i128)
+            {
+              _elem127 = new FileSystemBatchTResult();
+              _elem127.read(iprot);
+              struct.success.add(_elem127);
+            }
+          }
+          struct.setSuccessIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.e = new alluxio.thrift.AlluxioTException();
+          struct.e.read(iprot);
+          struct.setEIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class createDirectory_args implements org.apache.thrift.TBase<createDirectory_args, createDirectory_args._Fields>, java.io.Serializable, Cloneable, Comparable<createDirectory_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("createDirectory_args");
+
+    private static final org.apache.thrift.protocol.TField PATH_FIELD_DESC = new org.apache.thrift.protocol.TField("path", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField OPTIONS_FIELD_DESC = new org.apache.thrift.protocol.TField("options", org.apache.thrift.protocol.TType.STRUCT, (short)2);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new createDirectory_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new createDirectory_argsTupleSchemeFactory());
+    }
+
+    private String path; // required
+    private CreateDirectoryTOptions options; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      /**
+       * the path of the directory
+       */
+      PATH((short)1, "path"),
+      /**
+       * the method options
+       */
+      OPTIONS((short)2, "options");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // PATH
+            return PATH;
+          case 2: // OPTIONS
+            return OPTIONS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.PATH, new org.apache.thrift.meta_data.FieldMetaData("path", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.OPTIONS, new org.apache.thrift.meta_data.FieldMetaData("options", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, CreateDirectoryTOptions.class)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(createDirectory_args.class, metaDataMap);
+    }
+
+    public createDirectory_args() {
+    }
+
+    public createDirectory_args(
+      String path,
+      CreateDirectoryTOptions options)
+    {
+      this();
+      this.path = path;
+      this.options = options;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public createDirectory_args(createDirectory_args other) {
+      if (other.isSetPath()) {
+        this.path = other.path;
+      }
+      if (other.isSetOptions()) {
+        this.options = new CreateDirectoryTOptions(other.options);
+      }
+    }
+
+    public createDirectory_args deepCopy() {
+      return new createDirectory_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.path = null;
+      this.options = null;
+    }
+
+    /**
+     * the path of the directory
+     */
+    public String getPath() {
+      return this.path;
+    }
+
+    /**
+     * the path of the directory
+     */
+    public createDirectory_args setPath(String path) {
+      this.path = path;
+      return this;
+    }
+
+    public void unsetPath() {
+      this.path = null;
+    }
+
+    /** Returns true if field path is set (has been assigned a value) and false otherwise */
+    public boolean isSetPath() {
+      return this.path != null;
+    }
+
+    public void setPathIsSet(boolean value) {
+      if (!value) {
+        this.path = null;
+      }
+    }
+
+    /**
+     * the method options
+     */
+    public CreateDirectoryTOptions getOptions() {
+      return this.options;
+    }
+
+    /**
+     * the method options
+     */
+    public createDirectory_args setOptions(CreateDirectoryTOptions options) {
+      this.options = options;
+      return this;
+    }
+
+    public void unsetOptions() {
+      this.options = null;
+    }
+
+    /** Returns true if field options is set (has been assigned a value) and false otherwise */
+    public boolean isSetOptions() {
+      return this.options != null;
+    }
+
+    public void setOptionsIsSet(boolean value) {
+      if (!value) {
+        this.options = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case PATH:
+        if (value == null) {
+          unsetPath();
+        } else {
+          setPath((String)value);
+        }
+        break;
+
+      case OPTIONS:
+        if (value == null) {
+          unsetOptions();
+        } else {
+          setOptions((CreateDirectoryTOptions)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case PATH:
+        return getPath();
+
+      case OPTIONS:
+        return getOptions();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case PATH:
+        return isSetPath();
+      case OPTIONS:
+        return isSetOptions();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof createDirectory_args)
+        return this.equals((createDirectory_args)that);
+      return false;
+    }
+
+    public boolean equals(createDirectory_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_path = true && this.isSetPath();
+      boolean that_present_path = true && that.isSetPath();
+      if (this_present_path || that_present_path) {
+        if (!(this_present_path && that_present_path))
+          return false;
+        if (!this.path.equals(that.path))
+          return false;
+      }
+
+      boolean this_present_options = true && this.isSetOptions();
+      boolean that_present_options = true && that.isSetOptions();
+      if (this_present_options || that_present_options) {
+        if (!(this_present_options && that_present_options))
+          return false;
+        if (!this.options.equals(that.options))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_path = true && (isSetPath());
+      list.add(present_path);
+      if (present_path)
+        list.add(path);
+
+      boolean present_options = true && (isSetOptions());
+      list.add(present_options);
+      if (present_options)
+        list.add(options);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(createDirectory_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetPath()).compareTo(other.isSetPath());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetPath()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.path, other.path);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetOptions()).compareTo(other.isSetOptions());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetOptions()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.options, other.options);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("createDirectory_args(");
+      boolean first = true;
+
+      sb.append("path:");
+      if (this.path == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.path);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("options:");
+      if (this.options == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.options);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (options != null) {
+        options.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class createDirectory_argsStandardSchemeFactory implements SchemeFactory {
+      public createDirectory_argsStandardScheme getScheme() {
+        return new createDirectory_argsStandardScheme();
+      }
+    }
+
+    private static class createDirectory_argsStandardScheme extends StandardScheme<createDirectory_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, createDirectory_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // PATH
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.path = iprot.readString();
+                struct.setPathIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // OPTIONS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.options = new CreateDirectoryTOptions();
+                struct.options.read(iprot);
+                struct.setOptionsIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, createDirectory_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.path != null) {
+          oprot.writeFieldBegin(PATH_FIELD_DESC);
+          oprot.writeString(struct.path);
+          oprot.writeFieldEnd();
+        }
+        if (struct.options != null) {
+          oprot.writeFieldBegin(OPTIONS_FIELD_DESC);
+          struct.options.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class createDirectory_argsTupleSchemeFactory implements SchemeFactory {
+      public createDirectory_argsTupleScheme getScheme() {
+        return new createDirectory_argsTupleScheme();
+      }
+    }
+
+    private static class createDirectory_argsTupleScheme extends TupleScheme<createDirectory_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, createDirectory_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetPath()) {
+          optionals.set(0);
+        }
+        if (struct.isSetOptions()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetPath()) {
+          oprot.writeString(struct.path);
+        }
+        if (struct.isSetOptions()) {
+          struct.options.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, createDirectory_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.path = iprot.readString();
+          struct.setPathIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.options = new CreateDirectoryTOptions();
+          struct.options.read(iprot);
+          struct.setOptionsIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class createDirectory_result implements org.apache.thrift.TBase<createDirectory_result, createDirectory_result._Fields>, java.io.Serializable, Cloneable, Comparable<createDirectory_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("createDirectory_result");
+
+    private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+    private static final org.apache.thrift.protocol.TField IOE_FIELD_DESC = new org.apache.thrift.protocol.TField("ioe", org.apache.thrift.protocol.TType.STRUCT, (short)2);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new createDirectory_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new createDirectory_resultTupleSchemeFactory());
+    }
+
+    private alluxio.thrift.AlluxioTException e; // required
+    private alluxio.thrift.ThriftIOException ioe; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      E((short)1, "e"),
+      IOE((short)2, "ioe");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // E
+            return E;
+          case 2: // IOE
+            return IOE;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.E, new org.apache.thrift.meta_data.FieldMetaData("e", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      tmpMap.put(_Fields.IOE, new org.apache.thrift.meta_data.FieldMetaData("ioe", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(createDirectory_result.class, metaDataMap);
+    }
+
+    public createDirectory_result() {
+    }
+
+    public createDirectory_result(
+      alluxio.thrift.AlluxioTException e,
+      alluxio.thrift.ThriftIOException ioe)
+    {
+      this();
+      this.e = e;
+      this.ioe = ioe;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public createDirectory_result(createDirectory_result other) {
+      if (other.isSetE()) {
+        this.e = new alluxio.thrift.AlluxioTException(other.e);
+      }
+      if (other.isSetIoe()) {
+        this.ioe = new alluxio.thrift.ThriftIOException(other.ioe);
+      }
+    }
+
+    public createDirectory_result deepCopy() {
+      return new createDirectory_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.e = null;
+      this.ioe = null;
+    }
+
+    public alluxio.thrift.AlluxioTException getE() {
+      return this.e;
+    }
+
+    public createDirectory_result setE(alluxio.thrift.AlluxioTException e) {
+      this.e = e;
+      return this;
+    }
+
+    public void unsetE() {
+      this.e = null;
+    }
+
+    /** Returns true if field e is set (has been assigned a value) and false otherwise */
+    public boolean isSetE() {
+      return this.e != null;
+    }
+
+    public void setEIsSet(boolean value) {
+      if (!value) {
+        this.e = null;
+      }
+    }
+
+    public alluxio.thrift.ThriftIOException getIoe() {
+      return this.ioe;
+    }
+
+    public createDirectory_result setIoe(alluxio.thrift.ThriftIOException ioe) {
+      this.ioe = ioe;
+      return this;
+    }
+
+    public void unsetIoe() {
+      this.ioe = null;
+    }
+
+    /** Returns true if field ioe is set (has been assigned a value) and false otherwise */
+    public boolean isSetIoe() {
+      return this.ioe != null;
+    }
+
+    public void setIoeIsSet(boolean value) {
+      if (!value) {
+        this.ioe = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case E:
+        if (value == null) {
+          unsetE();
+        } else {
+          setE((alluxio.thrift.AlluxioTException)value);
+        }
+        break;
+
+      case IOE:
+        if (value == null) {
+          unsetIoe();
+        } else {
+          setIoe((alluxio.thrift.ThriftIOException)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case E:
+        return getE();
+
+      case IOE:
+        return getIoe();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case E:
+        return isSetE();
+      case IOE:
+        return isSetIoe();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof createDirectory_result)
+        return this.equals((createDirectory_result)that);
+      return false;
+    }
+
+    public boolean equals(createDirectory_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_e = true && this.isSetE();
+      boolean that_present_e = true && that.isSetE();
+      if (this_present_e || that_present_e) {
+        if (!(this_present_e && that_present_e))
+          return false;
+        if (!this.e.equals(that.e))
+          return false;
+      }
+
+      boolean this_present_ioe = true && this.isSetIoe();
+      boolean that_present_ioe = true && that.isSetIoe();
+      if (this_present_ioe || that_present_ioe) {
+        if (!(this_present_ioe && that_present_ioe))
+          return false;
+        if (!this.ioe.equals(that.ioe))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_e = true && (isSetE());
+      list.add(present_e);
+      if (present_e)
+        list.add(e);
+
+      boolean present_ioe = true && (isSetIoe());
+      list.add(present_ioe);
+      if (present_ioe)
+        list.add(ioe);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(createDirectory_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetE()).compareTo(other.isSetE());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetE()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.e, other.e);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetIoe()).compareTo(other.isSetIoe());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetIoe()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.ioe, other.ioe);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("createDirectory_result(");
+      boolean first = true;
+
+      sb.append("e:");
+      if (this.e == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.e);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("ioe:");
+      if (this.ioe == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.ioe);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class createDirectory_resultStandardSchemeFactory implements SchemeFactory {
+      public createDirectory_resultStandardScheme getScheme() {
+        return new createDirectory_resultStandardScheme();
+      }
+    }
+
+    private static class createDirectory_resultStandardScheme extends StandardScheme<createDirectory_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, createDirectory_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // E
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.e = new alluxio.thrift.AlluxioTException();
+                struct.e.read(iprot);
+                struct.setEIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // IOE
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.ioe = new alluxio.thrift.ThriftIOException();
+                struct.ioe.read(iprot);
+                struct.setIoeIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, createDirectory_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.e != null) {
+          oprot.writeFieldBegin(E_FIELD_DESC);
+          struct.e.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.ioe != null) {
+          oprot.writeFieldBegin(IOE_FIELD_DESC);
+          struct.ioe.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class createDirectory_resultTupleSchemeFactory implements SchemeFactory {
+      public createDirectory_resultTupleScheme getScheme() {
+        return new createDirectory_resultTupleScheme();
+      }
+    }
+
+    private static class createDirectory_resultTupleScheme extends TupleScheme<createDirectory_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, createDirectory_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetE()) {
+          optionals.set(0);
+        }
+        if (struct.isSetIoe()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetE()) {
+          struct.e.write(oprot);
+        }
+        if (struct.isSetIoe()) {
+          struct.ioe.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, createDirectory_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.e = new alluxio.thrift.AlluxioTException();
+          struct.e.read(iprot);
+          struct.setEIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.ioe = new alluxio.thrift.ThriftIOException();
+          struct.ioe.read(iprot);
+          struct.setIoeIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class createFile_args implements org.apache.thrift.TBase<createFile_args, createFile_args._Fields>, java.io.Serializable, Cloneable, Comparable<createFile_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("createFile_args");
+
+    private static final org.apache.thrift.protocol.TField PATH_FIELD_DESC = new org.apache.thrift.protocol.TField("path", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField OPTIONS_FIELD_DESC = new org.apache.thrift.protocol.TField("options", org.apache.thrift.protocol.TType.STRUCT, (short)2);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new createFile_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new createFile_argsTupleSchemeFactory());
+    }
+
+    private String path; // required
+    private CreateFileTOptions options; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      /**
+       * the path of the file
+       */
+      PATH((short)1, "path"),
+      /**
+       * the options for creating the file
+       */
+      OPTIONS((short)2, "options");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // PATH
+            return PATH;
+          case 2: // OPTIONS
+            return OPTIONS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.PATH, new org.apache.thrift.meta_data.FieldMetaData("path", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.OPTIONS, new org.apache.thrift.meta_data.FieldMetaData("options", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, CreateFileTOptions.class)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(createFile_args.class, metaDataMap);
+    }
+
+    public createFile_args() {
+    }
+
+    public createFile_args(
+      String path,
+      CreateFileTOptions options)
+    {
+      this();
+      this.path = path;
+      this.options = options;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public createFile_args(createFile_args other) {
+      if (other.isSetPath()) {
+        this.path = other.path;
+      }
+      if (other.isSetOptions()) {
+        this.options = new CreateFileTOptions(other.options);
+      }
+    }
+
+    public createFile_args deepCopy() {
+      return new createFile_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.path = null;
+      this.options = null;
+    }
+
+    /**
+     * the path of the file
+     */
+    public String getPath() {
+      return this.path;
+    }
+
+    /**
+     * the path of the file
+     */
+    public createFile_args setPath(String path) {
+      this.path = path;
+      return this;
+    }
+
+    public void unsetPath() {
+      this.path = null;
+    }
+
+    /** Returns true if field path is set (has been assigned a value) and false otherwise */
+    public boolean isSetPath() {
+      return this.path != null;
+    }
+
+    public void setPathIsSet(boolean value) {
+      if (!value) {
+        this.path = null;
+      }
+    }
+
+    /**
+     * the options for creating the file
+     */
+    public CreateFileTOptions getOptions() {
+      return this.options;
+    }
+
+    /**
+     * the options for creating the file
+     */
+    public createFile_args setOptions(CreateFileTOptions options) {
+      this.options = options;
+      return this;
+    }
+
+    public void unsetOptions() {
+      this.options = null;
+    }
+
+    /** Returns true if field options is set (has been assigned a value) and false otherwise */
+    public boolean isSetOptions() {
+      return this.options != null;
+    }
+
+    public void setOptionsIsSet(boolean value) {
+      if (!value) {
+        this.options = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case PATH:
+        if (value == null) {
+          unsetPath();
+        } else {
+          setPath((String)value);
+        }
+        break;
+
+      case OPTIONS:
+        if (value == null) {
+          unsetOptions();
+        } else {
+          setOptions((CreateFileTOptions)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case PATH:
+        return getPath();
+
+      case OPTIONS:
+        return getOptions();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case PATH:
+        return isSetPath();
+      case OPTIONS:
+        return isSetOptions();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof createFile_args)
+        return this.equals((createFile_args)that);
+      return false;
+    }
+
+    public boolean equals(createFile_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_path = true && this.isSetPath();
+      boolean that_present_path = true && that.isSetPath();
+      if (this_present_path || that_present_path) {
+        if (!(this_present_path && that_present_path))
+          return false;
+        if (!this.path.equals(that.path))
+          return false;
+      }
+
+      boolean this_present_options = true && this.isSetOptions();
+      boolean that_present_options = true && that.isSetOptions();
+      if (this_present_options || that_present_options) {
+        if (!(this_present_options && that_present_options))
+          return false;
+        if (!this.options.equals(that.options))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_path = true && (isSetPath());
+      list.add(present_path);
+      if (present_path)
+        list.add(path);
+
+      boolean present_options = true && (isSetOptions());
+      list.add(present_options);
+      if (present_options)
+        list.add(options);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(createFile_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetPath()).compareTo(other.isSetPath());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetPath()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.path, other.path);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetOptions()).compareTo(other.isSetOptions());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetOptions()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.options, other.options);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("createFile_args(");
+      boolean first = true;
+
+      sb.append("path:");
+      if (this.path == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.path);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("options:");
+      if (this.options == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.options);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (options != null) {
+        options.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class createFile_argsStandardSchemeFactory implements SchemeFactory {
+      public createFile_argsStandardScheme getScheme() {
+        return new createFile_argsStandardScheme();
+      }
+    }
+
+    private static class createFile_argsStandardScheme extends StandardScheme<createFile_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, createFile_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // PATH
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.path = iprot.readString();
+                struct.setPathIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // OPTIONS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.options = new CreateFileTOptions();
+                struct.options.read(iprot);
+                struct.setOptionsIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, createFile_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.path != null) {
+          oprot.writeFieldBegin(PATH_FIELD_DESC);
+          oprot.writeString(struct.path);
+          oprot.writeFieldEnd();
+        }
+        if (struct.options != null) {
+          oprot.writeFieldBegin(OPTIONS_FIELD_DESC);
+          struct.options.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class createFile_argsTupleSchemeFactory implements SchemeFactory {
+      public createFile_argsTupleScheme getScheme() {
+        return new createFile_argsTupleScheme();
+      }
+    }
+
+    private static class createFile_argsTupleScheme extends TupleScheme<createFile_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, createFile_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetPath()) {
+          optionals.set(0);
+        }
+        if (struct.isSetOptions()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetPath()) {
+          oprot.writeString(struct.path);
+        }
+        if (struct.isSetOptions()) {
+          struct.options.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, createFile_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.path = iprot.readString();
+          struct.setPathIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.options = new CreateFileTOptions();
+          struct.options.read(iprot);
+          struct.setOptionsIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class createFile_result implements org.apache.thrift.TBase<createFile_result, createFile_result._Fields>, java.io.Serializable, Cloneable, Comparable<createFile_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("createFile_result");
+
+    private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+    private static final org.apache.thrift.protocol.TField IOE_FIELD_DESC = new org.apache.thrift.protocol.TField("ioe", org.apache.thrift.protocol.TType.STRUCT, (short)2);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new createFile_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new createFile_resultTupleSchemeFactory());
+    }
+
+    private alluxio.thrift.AlluxioTException e; // required
+    private alluxio.thrift.ThriftIOException ioe; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      E((short)1, "e"),
+      IOE((short)2, "ioe");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // E
+            return E;
+          case 2: // IOE
+            return IOE;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.E, new org.apache.thrift.meta_data.FieldMetaData("e", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      tmpMap.put(_Fields.IOE, new org.apache.thrift.meta_data.FieldMetaData("ioe", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(createFile_result.class, metaDataMap);
+    }
+
+    public createFile_result() {
+    }
+
+    public createFile_result(
+      alluxio.thrift.AlluxioTException e,
+      alluxio.thrift.ThriftIOException ioe)
+    {
+      this();
+      this.e = e;
+      this.ioe = ioe;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public createFile_result(createFile_result other) {
+      if (other.isSetE()) {
+        this.e = new alluxio.thrift.AlluxioTException(other.e);
+      }
+      if (other.isSetIoe()) {
+        this.ioe = new alluxio.thrift.ThriftIOException(other.ioe);
+      }
+    }
+
+    public createFile_result deepCopy() {
+      return new createFile_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.e = null;
+      this.ioe = null;
+    }
+
+    public alluxio.thrift.AlluxioTException getE() {
+      return this.e;
+    }
+
+    public createFile_result setE(alluxio.thrift.AlluxioTException e) {
+      this.e = e;
+      return this;
+    }
+
+    public void unsetE() {
+      this.e = null;
+    }
+
+    /** Returns true if field e is set (has been assigned a value) and false otherwise */
+    public boolean isSetE() {
+      return this.e != null;
+    }
+
+    public void setEIsSet(boolean value) {
+      if (!value) {
+        this.e = null;
+      }
+    }
+
+    public alluxio.thrift.ThriftIOException getIoe() {
+      return this.ioe;
+    }
+
+    public createFile_result setIoe(alluxio.thrift.ThriftIOException ioe) {
+      this.ioe = ioe;
+      return this;
+    }
+
+    public void unsetIoe() {
+      this.ioe = null;
+    }
+
+    /** Returns true if field ioe is set (has been assigned a value) and false otherwise */
+    public boolean isSetIoe() {
+      return this.ioe != null;
+    }
+
+    public void setIoeIsSet(boolean value) {
+      if (!value) {
+        this.ioe = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case E:
+        if (value == null) {
+          unsetE();
+        } else {
+          setE((alluxio.thrift.AlluxioTException)value);
+        }
+        break;
+
+      case IOE:
+        if (value == null) {
+          unsetIoe();
+        } else {
+          setIoe((alluxio.thrift.ThriftIOException)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case E:
+        return getE();
+
+      case IOE:
+        return getIoe();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case E:
+        return isSetE();
+      case IOE:
+        return isSetIoe();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof createFile_result)
+        return this.equals((createFile_result)that);
+      return false;
+    }
+
+    public boolean equals(createFile_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_e = true && this.isSetE();
+      boolean that_present_e = true && that.isSetE();
+      if (this_present_e || that_present_e) {
+        if (!(this_present_e && that_present_e))
+          return false;
+        if (!this.e.equals(that.e))
+          return false;
+      }
+
+      boolean this_present_ioe = true && this.isSetIoe();
+      boolean that_present_ioe = true && that.isSetIoe();
+      if (this_present_ioe || that_present_ioe) {
+        if (!(this_present_ioe && that_present_ioe))
+          return false;
+        if (!this.ioe.equals(that.ioe))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_e = true && (isSetE());
+      list.add(present_e);
+      if (present_e)
+        list.add(e);
+
+      boolean present_ioe = true && (isSetIoe());
+      list.add(present_ioe);
+      if (present_ioe)
+        list.add(ioe);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(createFile_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetE()).compareTo(other.isSetE());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetE()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.e, other.e);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetIoe()).compareTo(other.isSetIoe());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetIoe()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.ioe, other.ioe);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("createFile_result(");
+      boolean first = true;
+
+      sb.append("e:");
+      if (this.e == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.e);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("ioe:");
+      if (this.ioe == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.ioe);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class createFile_resultStandardSchemeFactory implements SchemeFactory {
+      public createFile_resultStandardScheme getScheme() {
+        return new createFile_resultStandardScheme();
+      }
+    }
+
+    private static class createFile_resultStandardScheme extends StandardScheme<createFile_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, createFile_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // E
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.e = new alluxio.thrift.AlluxioTException();
+                struct.e.read(iprot);
+                struct.setEIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // IOE
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.ioe = new alluxio.thrift.ThriftIOException();
+                struct.ioe.read(iprot);
+                struct.setIoeIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, createFile_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.e != null) {
+          oprot.writeFieldBegin(E_FIELD_DESC);
+          struct.e.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.ioe != null) {
+          oprot.writeFieldBegin(IOE_FIELD_DESC);
+          struct.ioe.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class createFile_resultTupleSchemeFactory implements SchemeFactory {
+      public createFile_resultTupleScheme getScheme() {
+        return new createFile_resultTupleScheme();
+      }
+    }
+
+    private static class createFile_resultTupleScheme extends TupleScheme<createFile_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, createFile_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetE()) {
+          optionals.set(0);
+        }
+        if (struct.isSetIoe()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetE()) {
+          struct.e.write(oprot);
+        }
+        if (struct.isSetIoe()) {
+          struct.ioe.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, createFile_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.e = new alluxio.thrift.AlluxioTException();
+          struct.e.read(iprot);
+          struct.setEIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.ioe = new alluxio.thrift.ThriftIOException();
+          struct.ioe.read(iprot);
+          struct.setIoeIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class createFileBatch_args implements org.apache.thrift.TBase<createFileBatch_args, createFileBatch_args._Fields>, java.io.Serializable, Cloneable, Comparable<createFileBatch_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("createFileBatch_args");
+
+    private static final org.apache.thrift.protocol.TField PATHS_FIELD_DESC = new org.apache.thrift.protocol.TField("paths", org.apache.thrift.protocol.TType.LIST, (short)1);
+    private static final org.apache.thrift.protocol.TField OPTIONS_FIELD_DESC = new org.apache.thrift.protocol.TField("options", org.apache.thrift.protocol.TType.LIST, (short)2);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new createFileBatch_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new createFileBatch_argsTupleSchemeFactory());
+    }
+
+    private List<String> paths; // required
+    private List<CreateFileTOptions> options; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      PATHS((short)1, "paths"),
+      OPTIONS((short)2, "options");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // PATHS
+            return PATHS;
+          case 2: // OPTIONS
+            return OPTIONS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.PATHS, new org.apache.thrift.meta_data.FieldMetaData("paths", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING))));
+      tmpMap.put(_Fields.OPTIONS, new org.apache.thrift.meta_data.FieldMetaData("options", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, CreateFileTOptions.class))));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(createFileBatch_args.class, metaDataMap);
+    }
+
+    public createFileBatch_args() {
+    }
+
+    public createFileBatch_args(
+      List<String> paths,
+      List<CreateFileTOptions> options)
+    {
+      this();
+      this.paths = paths;
+      this.options = options;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public createFileBatch_args(createFileBatch_args other) {
+      if (other.isSetPaths()) {
+        List<String> __this__paths = new ArrayList<String>(other.paths);
+        this.paths = __this__paths;
+      }
+      if (other.isSetOptions()) {
+        List<CreateFileTOptions> __this__options = new ArrayList<CreateFileTOptions>(other.options.size());
+        for (CreateFileTOptions other_element : other.options) {
+          __this__options.add(new CreateFileTOptions(other_element));
+        }
+        this.options = __this__options;
+      }
+    }
+
+    public createFileBatch_args deepCopy() {
+      return new createFileBatch_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.paths = null;
+      this.options = null;
+    }
+
+    public int getPathsSize() {
+      return (this.paths == null) ? 0 : this.paths.size();
+    }
+
+    public java.util.Iterator<String> getPathsIterator() {
+      return (this.paths == null) ? null : this.paths.iterator();
+    }
+
+    public void addToPaths(String elem) {
+      if (this.paths == null) {
+        this.paths = new ArrayList<String>();
+      }
+      this.paths.add(elem);
+    }
+
+    public List<String> getPaths() {
+      return this.paths;
+    }
+
+    public createFileBatch_args setPaths(List<String> paths) {
+      this.paths = paths;
+      return this;
+    }
+
+    public void unsetPaths() {
+      this.paths = null;
+    }
+
+    /** Returns true if field paths is set (has been assigned a value) and false otherwise */
+    public boolean isSetPaths() {
+      return this.paths != null;
+    }
+
+    public void setPathsIsSet(boolean value) {
+      if (!value) {
+        this.paths = null;
+      }
+    }
+
+    public int getOptionsSize() {
+      return (this.options == null) ? 0 : this.options.size();
+    }
+
+    public java.util.Iterator<CreateFileTOptions> getOptionsIterator() {
+      return (this.options == null) ? null : this.options.iterator();
+    }
+
+    public void addToOptions(CreateFileTOptions elem) {
+      if (this.options == null) {
+        this.options = new ArrayList<CreateFileTOptions>();
+      }
+      this.options.add(elem);
+    }
+
+    public List<CreateFileTOptions> getOptions() {
+      return this.options;
+    }
+
+    public createFileBatch_args setOptions(List<CreateFileTOptions> options) {
+      this.options = options;
+      return this;
+    }
+
+    public void unsetOptions() {
+      this.options = null;
+    }
+
+    /** Returns true if field options is set (has been assigned a value) and false otherwise */
+    public boolean isSetOptions() {
+      return this.options != null;
+    }
+
+    public void setOptionsIsSet(boolean value) {
+      if (!value) {
+        this.options = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case PATHS:
+        if (value == null) {
+          unsetPaths();
+        } else {
+          setPaths((List<String>)value);
+        }
+        break;
+
+      case OPTIONS:
+        if (value == null) {
+          unsetOptions();
+        } else {
+          setOptions((List<CreateFileTOptions>)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case PATHS:
+        return getPaths();
+
+      case OPTIONS:
+        return getOptions();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case PATHS:
+        return isSetPaths();
+      case OPTIONS:
+        return isSetOptions();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof createFileBatch_args)
+        return this.equals((createFileBatch_args)that);
+      return false;
+    }
+
+    public boolean equals(createFileBatch_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_paths = true && this.isSetPaths();
+      boolean that_present_paths = true && that.isSetPaths();
+      if (this_present_paths || that_present_paths) {
+        if (!(this_present_paths && that_present_paths))
+          return false;
+        if (!this.paths.equals(that.paths))
+          return false;
+      }
+
+      boolean this_present_options = true && this.isSetOptions();
+      boolean that_present_options = true && that.isSetOptions();
+      if (this_present_options || that_present_options) {
+        if (!(this_present_options && that_present_options))
+          return false;
+        if (!this.options.equals(that.options))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_paths = true && (isSetPaths());
+      list.add(present_paths);
+      if (present_paths)
+        list.add(paths);
+
+      boolean present_options = true && (isSetOptions());
+      list.add(present_options);
+      if (present_options)
+        list.add(options);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(createFileBatch_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetPaths()).compareTo(other.isSetPaths());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetPaths()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.paths, other.paths);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetOptions()).compareTo(other.isSetOptions());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetOptions()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.options, other.options);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("createFileBatch_args(");
+      boolean first = true;
+
+      sb.append("paths:");
+      if (this.paths == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.paths);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("options:");
+      if (this.options == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.options);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class createFileBatch_argsStandardSchemeFactory implements SchemeFactory {
+      public createFileBatch_argsStandardScheme getScheme() {
+        return new createFileBatch_argsStandardScheme();
+      }
+    }
+
+    private static class createFileBatch_argsStandardScheme extends StandardScheme<createFileBatch_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, createFileBatch_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // PATHS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list141 = iprot.readListBegin();
+                  struct.paths = new ArrayList<String>(_list141.size);
+                  String _elem142;
+                  for (int _i143 = 0; _i143 < _list141.size; ++_i143)
+                  {
+                    _elem142 = iprot.readString();
+                    struct.paths.add(_elem142);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setPathsIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // OPTIONS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list144 = iprot.readListBegin();
+                  struct.options = new ArrayList<CreateFileTOptions>(_list144.size);
+                  CreateFileTOptions _elem145;
+                  for (int _i146 = 0; _i146 < _list144.size; ++_i146)
+                  {
+                    _elem145 = new CreateFileTOptions();
+                    _elem145.read(iprot);
+                    struct.options.add(_elem145);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setOptionsIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, createFileBatch_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.paths != null) {
+          oprot.writeFieldBegin(PATHS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, struct.paths.size()));
+            for (String _iter147 : struct.paths)
+            {
+              oprot.writeString(_iter147);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+        if (struct.options != null) {
+          oprot.writeFieldBegin(OPTIONS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.options.size()));
+            for (CreateFileTOptions _iter148 : struct.options)
+            {
+              _iter148.write(oprot);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class createFileBatch_argsTupleSchemeFactory implements SchemeFactory {
+      public createFileBatch_argsTupleScheme getScheme() {
+        return new createFileBatch_argsTupleScheme();
+      }
+    }
+
+    private static class createFileBatch_argsTupleScheme extends TupleScheme<createFileBatch_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, createFileBatch_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetPaths()) {
+          optionals.set(0);
+        }
+        if (struct.isSetOptions()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetPaths()) {
+          {
+            oprot.writeI32(struct.paths.size());
+            for (String _iter149 : struct.paths)
+            {
+              oprot.writeString(_iter149);
+            }
+          }
+        }
+        if (struct.isSetOptions()) {
+          {
+            oprot.writeI32(struct.options.size());
+            for (CreateFileTOptions _iter150 : struct.options)
+            {
+              _iter150.write(oprot);
+            }
+          }
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, createFileBatch_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          {
+            org.apache.thrift.protocol.TList _list151 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
+            struct.paths = new ArrayList<String>(_list151.size);
+            String _elem152;
+            for (int _i153 = 0; _i153 < _list151.size; ++_i153)
+            {
+              _elem152 = iprot.readString();
+              struct.paths.add(_elem152);
+            }
+          }
+          struct.setPathsIsSet(true);
+        }
+        if (incoming.get(1)) {
+          {
+            org.apache.thrift.protocol.TList _list154 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.options = new ArrayList<CreateFileTOptions>(_list154.size);
+            CreateFileTOptions _elem155;
+            for (int _i156 = 0; _i156 < _list154.size; ++_i156)
+            {
+              _elem155 = new CreateFileTOptions();
+              _elem155.read(iprot);
+              struct.options.add(_elem155);
+            }
+          }
+          struct.setOptionsIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class createFileBatch_result implements org.apache.thrift.TBase<createFileBatch_result, createFileBatch_result._Fields>, java.io.Serializable, Cloneable, Comparable<createFileBatch_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("createFileBatch_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.LIST, (short)0);
+    private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+    private static final org.apache.thrift.protocol.TField IOE_FIELD_DESC = new org.apache.thrift.protocol.TField("ioe", org.apache.thrift.protocol.TType.STRUCT, (short)2);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new createFileBatch_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new createFileBatch_resultTupleSchemeFactory());
+    }
+
+    private List<FileSystemBatchTResult> success; // required
+    private alluxio.thrift.AlluxioTException e; // required
+    private alluxio.thrift.ThriftIOException ioe; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success"),
+      E((short)1, "e"),
+      IOE((short)2, "ioe");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          case 1: // E
+            return E;
+          case 2: // IOE
+            return IOE;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, FileSystemBatchTResult.class))));
+      tmpMap.put(_Fields.E, new org.apache.thrift.meta_data.FieldMetaData("e", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      tmpMap.put(_Fields.IOE, new org.apache.thrift.meta_data.FieldMetaData("ioe", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(createFileBatch_result.class, metaDataMap);
+    }
+
+    public createFileBatch_result() {
+    }
+
+    public createFileBatch_result(
+      List<FileSystemBatchTResult> success,
+      alluxio.thrift.AlluxioTException e,
+      alluxio.thrift.ThriftIOException ioe)
+    {
+      this();
+      this.success = success;
+      this.e = e;
+      this.ioe = ioe;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public createFileBatch_result(createFileBatch_result other) {
+      if (other.isSetSuccess()) {
+        List<FileSystemBatchTResult> __this__success = new ArrayList<FileSystemBatchTResult>(other.success.size());
+        for (FileSystemBatchTResult other_element : other.success) {
+          __this__success.add(new FileSystemBatchTResult(other_element));
+        }
+        this.success = __this__success;
+      }
+      if (other.isSetE()) {
+        this.e = new alluxio.thrift.AlluxioTException(other.e);
+      }
+      if (other.isSetIoe()) {
+        this.ioe = new alluxio.thrift.ThriftIOException(other.ioe);
+      }
+    }
+
+    public createFileBatch_result deepCopy() {
+      return new createFileBatch_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+      this.e = null;
+      this.ioe = null;
+    }
+
+    public int getSuccessSize() {
+      return (this.success == null) ? 0 : this.success.size();
+    }
+
+    public java.util.Iterator<FileSystemBatchTResult> getSuccessIterator() {
+      return (this.success == null) ? null : this.success.iterator();
+    }
+
+    public void addToSuccess(FileSystemBatchTResult elem) {
+      if (this.success == null) {
+        this.success = new ArrayList<FileSystemBatchTResult>();
+      }
+      this.success.add(elem);
+    }
+
+    public List<FileSystemBatchTResult> getSuccess() {
+      return this.success;
+    }
+
+    public createFileBatch_result setSuccess(List<FileSystemBatchTResult> success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public alluxio.thrift.AlluxioTException getE() {
+      return this.e;
+    }
+
+    public createFileBatch_result setE(alluxio.thrift.AlluxioTException e) {
+      this.e = e;
+      return this;
+    }
+
+    public void unsetE() {
+      this.e = null;
+    }
+
+    /** Returns true if field e is set (has been assigned a value) and false otherwise */
+    public boolean isSetE() {
+      return this.e != null;
+    }
+
+    public void setEIsSet(boolean value) {
+      if (!value) {
+        this.e = null;
+      }
+    }
+
+    public alluxio.thrift.ThriftIOException getIoe() {
+      return this.ioe;
+    }
+
+    public createFileBatch_result setIoe(alluxio.thrift.ThriftIOException ioe) {
+      this.ioe = ioe;
+      return this;
+    }
+
+    public void unsetIoe() {
+      this.ioe = null;
+    }
+
+    /** Returns true if field ioe is set (has been assigned a value) and false otherwise */
+    public boolean isSetIoe() {
+      return this.ioe != null;
+    }
+
+    public void setIoeIsSet(boolean value) {
+      if (!value) {
+        this.ioe = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((List<FileSystemBatchTResult>)value);
+        }
+        break;
+
+      case E:
+        if (value == null) {
+          unsetE();
+        } else {
+          setE((alluxio.thrift.AlluxioTException)value);
+        }
+        break;
+
+      case IOE:
+        if (value == null) {
+          unsetIoe();
+        } else {
+          setIoe((alluxio.thrift.ThriftIOException)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      case E:
+        return getE();
+
+      case IOE:
+        return getIoe();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      case E:
+        return isSetE();
+      case IOE:
+        return isSetIoe();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof createFileBatch_result)
+        return this.equals((createFileBatch_result)that);
+      return false;
+    }
+
+    public boolean equals(createFileBatch_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      boolean this_present_e = true && this.isSetE();
+      boolean that_present_e = true && that.isSetE();
+      if (this_present_e || that_present_e) {
+        if (!(this_present_e && that_present_e))
+          return false;
+        if (!this.e.equals(that.e))
+          return false;
+      }
+
+      boolean this_present_ioe = true && this.isSetIoe();
+      boolean that_present_ioe = true && that.isSetIoe();
+      if (this_present_ioe || that_present_ioe) {
+        if (!(this_present_ioe && that_present_ioe))
+          return false;
+        if (!this.ioe.equals(that.ioe))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_success = true && (isSetSuccess());
+      list.add(present_success);
+      if (present_success)
+        list.add(success);
+
+      boolean present_e = true && (isSetE());
+      list.add(present_e);
+      if (present_e)
+        list.add(e);
+
+      boolean present_ioe = true && (isSetIoe());
+      list.add(present_ioe);
+      if (present_ioe)
+        list.add(ioe);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(createFileBatch_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetE()).compareTo(other.isSetE());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetE()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.e, other.e);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetIoe()).compareTo(other.isSetIoe());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetIoe()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.ioe, other.ioe);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("createFileBatch_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("e:");
+      if (this.e == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.e);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("ioe:");
+      if (this.ioe == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.ioe);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class createFileBatch_resultStandardSchemeFactory implements SchemeFactory {
+      public createFileBatch_resultStandardScheme getScheme() {
+        return new createFileBatch_resultStandardScheme();
+      }
+    }
+
+    private static class createFileBatch_resultStandardScheme extends StandardScheme<createFileBatch_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, createFileBatch_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list161 = iprot.readListBegin();
+                  struct.success = new ArrayList<FileSystemBatchTResult>(_list161.size);
+                  FileSystemBatchTResult _elem162;
+                  for (int _i163 = 0; _i163 < _list161.size; ++_i163)
+                  {
+                    _elem162 = new FileSystemBatchTResult();
+                    _elem162.read(iprot);
+                    struct.success.add(_elem162);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 1: // E
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.e = new alluxio.thrift.AlluxioTException();
+                struct.e.read(iprot);
+                struct.setEIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // IOE
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.ioe = new alluxio.thrift.ThriftIOException();
+                struct.ioe.read(iprot);
+                struct.setIoeIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, createFileBatch_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.success.size()));
+            for (FileSystemBatchTResult _iter164 : struct.success)
+            {
+              _iter164.write(oprot);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+        if (struct.e != null) {
+          oprot.writeFieldBegin(E_FIELD_DESC);
+          struct.e.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.ioe != null) {
+          oprot.writeFieldBegin(IOE_FIELD_DESC);
+          struct.ioe.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class createFileBatch_resultTupleSchemeFactory implements SchemeFactory {
+      public createFileBatch_resultTupleScheme getScheme() {
+        return new createFileBatch_resultTupleScheme();
+      }
+    }
+
+    private static class createFileBatch_resultTupleScheme extends TupleScheme<createFileBatch_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, createFileBatch_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        if (struct.isSetE()) {
+          optionals.set(1);
+        }
+        if (struct.isSetIoe()) {
+          optionals.set(2);
+        }
+        oprot.writeBitSet(optionals, 3);
+        if (struct.isSetSuccess()) {
+          {
+            oprot.writeI32(struct.success.size());
+            for (FileSystemBatchTResult _iter165 : struct.success)
+            {
+              _iter165.write(oprot);
+            }
+          }
+        }
+        if (struct.isSetE()) {
+          struct.e.write(oprot);
+        }
+        if (struct.isSetIoe()) {
+          struct.ioe.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, createFileBatch_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(3);
+        if (incoming.get(0)) {
+          {
+            org.apache.thrift.protocol.TList _list166 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.success = new ArrayList<FileSystemBatchTResult>(_list166.size);
+            FileSystemBatchTResult _elem167;
+            for (int _i168 = 0; _i168 < _list166.size; ++_i168)
+            {
+              _elem167 = new FileSystemBatchTResult();
+              _elem167.read(iprot);
+              struct.success.add(_elem167);
+            }
+          }
+          struct.setSuccessIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.e = new alluxio.thrift.AlluxioTException();
+          struct.e.read(iprot);
+          struct.setEIsSet(true);
+        }
+        if (incoming.get(2)) {
+          struct.ioe = new alluxio.thrift.ThriftIOException();
+          struct.ioe.read(iprot);
+          struct.setIoeIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class free_args implements org.apache.thrift.TBase<free_args, free_args._Fields>, java.io.Serializable, Cloneable, Comparable<free_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("free_args");
+
+    private static final org.apache.thrift.protocol.TField PATH_FIELD_DESC = new org.apache.thrift.protocol.TField("path", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField RECURSIVE_FIELD_DESC = new org.apache.thrift.protocol.TField("recursive", org.apache.thrift.protocol.TType.BOOL, (short)2);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new free_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new free_argsTupleSchemeFactory());
+    }
+
+    private String path; // required
+    private boolean recursive; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      /**
+       * the path of the file or directory
+       */
+      PATH((short)1, "path"),
+      /**
+       * whether to free recursively
+       */
+      RECURSIVE((short)2, "recursive");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // PATH
+            return PATH;
+          case 2: // RECURSIVE
+            return RECURSIVE;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    private static final int __RECURSIVE_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.PATH, new org.apache.thrift.meta_data.FieldMetaData("path", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.RECURSIVE, new org.apache.thrift.meta_data.FieldMetaData("recursive", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.BOOL)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(free_args.class, metaDataMap);
+    }
+
+    public free_args() {
+    }
+
+    public free_args(
+      String path,
+      boolean recursive)
+    {
+      this();
+      this.path = path;
+      this.recursive = recursive;
+      setRecursiveIsSet(true);
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public free_args(free_args other) {
+      __isset_bitfield = other.__isset_bitfield;
+      if (other.isSetPath()) {
+        this.path = other.path;
+      }
+      this.recursive = other.recursive;
+    }
+
+    public free_args deepCopy() {
+      return new free_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.path = null;
+      setRecursiveIsSet(false);
+      this.recursive = false;
+    }
+
+    /**
+     * the path of the file or directory
+     */
+    public String getPath() {
+      return this.path;
+    }
+
+    /**
+     * the path of the file or directory
+     */
+    public free_args setPath(String path) {
+      this.path = path;
+      return this;
+    }
+
+    public void unsetPath() {
+      this.path = null;
+    }
+
+    /** Returns true if field path is set (has been assigned a value) and false otherwise */
+    public boolean isSetPath() {
+      return this.path != null;
+    }
+
+    public void setPathIsSet(boolean value) {
+      if (!value) {
+        this.path = null;
+      }
+    }
+
+    /**
+     * whether to free recursively
+     */
+    public boolean isRecursive() {
+      return this.recursive;
+    }
+
+    /**
+     * whether to free recursively
+     */
+    public free_args setRecursive(boolean recursive) {
+      this.recursive = recursive;
+      setRecursiveIsSet(true);
+      return this;
+    }
+
+    public void unsetRecursive() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __RECURSIVE_ISSET_ID);
+    }
+
+    /** Returns true if field recursive is set (has been assigned a value) and false otherwise */
+    public boolean isSetRecursive() {
+      return EncodingUtils.testBit(__isset_bitfield, __RECURSIVE_ISSET_ID);
+    }
+
+    public void setRecursiveIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __RECURSIVE_ISSET_ID, value);
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case PATH:
+        if (value == null) {
+          unsetPath();
+        } else {
+          setPath((String)value);
+        }
+        break;
+
+      case RECURSIVE:
+        if (value == null) {
+          unsetRecursive();
+        } else {
+          setRecursive((Boolean)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case PATH:
+        return getPath();
+
+      case RECURSIVE:
+        return isRecursive();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case PATH:
+        return isSetPath();
+      case RECURSIVE:
+        return isSetRecursive();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof free_args)
+        return this.equals((free_args)that);
+      return false;
+    }
+
+    public boolean equals(free_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_path = true && this.isSetPath();
+      boolean that_present_path = true && that.isSetPath();
+      if (this_present_path || that_present_path) {
+        if (!(this_present_path && that_present_path))
+          return false;
+        if (!this.path.equals(that.path))
+          return false;
+      }
+
+      boolean this_present_recursive = true;
+      boolean that_present_recursive = true;
+      if (this_present_recursive || that_present_recursive) {
+        if (!(this_present_recursive && that_present_recursive))
+          return false;
+        if (this.recursive != that.recursive)
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_path = true && (isSetPath());
+      list.add(present_path);
+      if (present_path)
+        list.add(path);
+
+      boolean present_recursive = true;
+      list.add(present_recursive);
+      if (present_recursive)
+        list.add(recursive);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(free_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetPath()).compareTo(other.isSetPath());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetPath()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.path, other.path);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetRecursive()).compareTo(other.isSetRecursive());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetRecursive()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.recursive, other.recursive);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("free_args(");
+      boolean first = true;
+
+      sb.append("path:");
+      if (this.path == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.path);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("recursive:");
+      sb.append(this.recursive);
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class free_argsStandardSchemeFactory implements SchemeFactory {
+      public free_argsStandardScheme getScheme() {
+        return new free_argsStandardScheme();
+      }
+    }
+
+    private static class free_argsStandardScheme extends StandardScheme<free_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, free_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // PATH
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.path = iprot.readString();
+                struct.setPathIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // RECURSIVE
+              if (schemeField.type == org.apache.thrift.protocol.TType.BOOL) {
+                struct.recursive = iprot.readBool();
+                struct.setRecursiveIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, free_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.path != null) {
+          oprot.writeFieldBegin(PATH_FIELD_DESC);
+          oprot.writeString(struct.path);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldBegin(RECURSIVE_FIELD_DESC);
+        oprot.writeBool(struct.recursive);
+        oprot.writeFieldEnd();
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class free_argsTupleSchemeFactory implements SchemeFactory {
+      public free_argsTupleScheme getScheme() {
+        return new free_argsTupleScheme();
+      }
+    }
+
+    private static class free_argsTupleScheme extends TupleScheme<free_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, free_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetPath()) {
+          optionals.set(0);
+        }
+        if (struct.isSetRecursive()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetPath()) {
+          oprot.writeString(struct.path);
+        }
+        if (struct.isSetRecursive()) {
+          oprot.writeBool(struct.recursive);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, free_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.path = iprot.readString();
+          struct.setPathIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.recursive = iprot.readBool();
+          struct.setRecursiveIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class free_result implements org.apache.thrift.TBase<free_result, free_result._Fields>, java.io.Serializable, Cloneable, Comparable<free_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("free_result");
+
+    private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new free_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new free_resultTupleSchemeFactory());
+    }
+
+    private alluxio.thrift.AlluxioTException e; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      E((short)1, "e");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // E
+            return E;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.E, new org.apache.thrift.meta_data.FieldMetaData("e", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(free_result.class, metaDataMap);
+    }
+
+    public free_result() {
+    }
+
+    public free_result(
+      alluxio.thrift.AlluxioTException e)
+    {
+      this();
+      this.e = e;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public free_result(free_result other) {
+      if (other.isSetE()) {
+        this.e = new alluxio.thrift.AlluxioTException(other.e);
+      }
+    }
+
+    public free_result deepCopy() {
+      return new free_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.e = null;
+    }
+
+    public alluxio.thrift.AlluxioTException getE() {
+      return this.e;
+    }
+
+    public free_result setE(alluxio.thrift.AlluxioTException e) {
+      this.e = e;
+      return this;
+    }
+
+    public void unsetE() {
+      this.e = null;
+    }
+
+    /** Returns true if field e is set (has been assigned a value) and false otherwise */
+    public boolean isSetE() {
+      return this.e != null;
+    }
+
+    public void setEIsSet(boolean value) {
+      if (!value) {
+        this.e = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case E:
+        if (value == null) {
+          unsetE();
+        } else {
+          setE((alluxio.thrift.AlluxioTException)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case E:
+        return getE();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case E:
+        return isSetE();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof free_result)
+        return this.equals((free_result)that);
+      return false;
+    }
+
+    public boolean equals(free_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_e = true && this.isSetE();
+      boolean that_present_e = true && that.isSetE();
+      if (this_present_e || that_present_e) {
+        if (!(this_present_e && that_present_e))
+          return false;
+        if (!this.e.equals(that.e))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_e = true && (isSetE());
+      list.add(present_e);
+      if (present_e)
+        list.add(e);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(free_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetE()).compareTo(other.isSetE());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetE()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.e, other.e);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("free_result(");
+      boolean first = true;
+
+      sb.append("e:");
+      if (this.e == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.e);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class free_resultStandardSchemeFactory implements SchemeFactory {
+      public free_resultStandardScheme getScheme() {
+        return new free_resultStandardScheme();
+      }
+    }
+
+    private static class free_resultStandardScheme extends StandardScheme<free_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, free_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // E
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.e = new alluxio.thrift.AlluxioTException();
+                struct.e.read(iprot);
+                struct.setEIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, free_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.e != null) {
+          oprot.writeFieldBegin(E_FIELD_DESC);
+          struct.e.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class free_resultTupleSchemeFactory implements SchemeFactory {
+      public free_resultTupleScheme getScheme() {
+        return new free_resultTupleScheme();
+      }
+    }
+
+    private static class free_resultTupleScheme extends TupleScheme<free_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, free_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetE()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetE()) {
+          struct.e.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, free_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.e = new alluxio.thrift.AlluxioTException();
+          struct.e.read(iprot);
+          struct.setEIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class getContentSummary_args implements org.apache.thrift.TBase<getContentSummary_args, getContentSummary_args._Fields>, java.io.Serializable, Cloneable, Comparable<getContentSummary_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getContentSummary_args");
+
+    private static final org.apache.thrift.protocol.TField PATH_FIELD_DESC = new org.apache.thrift.protocol.TField("path", org.apache.thrift.protocol.TType.STRING, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new getContentSummary_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getContentSummary_argsTupleSchemeFactory());
+    }
+
+    private String path; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      /**
+       * the path of the file or directory
+       */
+      PATH((short)1, "path");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // PATH
+            return PATH;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.PATH, new org.apache.thrift.meta_data.FieldMetaData("path", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getContentSummary_args.class, metaDataMap);
+    }
+
+    public getContentSummary_args() {
+    }
+
+    public getContentSummary_args(
+      String path)
+    {
+      this();
+      this.path = path;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public getContentSummary_args(getContentSummary_args other) {
+      if (other.isSetPath()) {
+        this.path = other.path;
+      }
+    }
+
+    public getContentSummary_args deepCopy() {
+      return new getContentSummary_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.path = null;
+    }
+
+    /**
+     * the path of the file or directory
+     */
+    public String getPath() {
+      return this.path;
+    }
+
+    /**
+     * the path of the file or directory
+     */
+    public getContentSummary_args setPath(String path) {
+      this.path = path;
+      return this;
+    }
+
+    public void unsetPath() {
+      this.path = null;
+    }
+
+    /** Returns true if field path is set (has been assigned a value) and false otherwise */
+    public boolean isSetPath() {
+      return this.path != null;
+    }
+
+    public void setPathIsSet(boolean value) {
+      if (!value) {
+        this.path = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case PATH:
+        if (value == null) {
+          unsetPath();
+        } else {
+          setPath((String)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case PATH:
+        return getPath();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case PATH:
+        return isSetPath();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof getContentSummary_args)
+        return this.equals((getContentSummary_args)that);
+      return false;
+    }
+
+    public boolean equals(getContentSummary_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_path = true && this.isSetPath();
+      boolean that_present_path = true && that.isSetPath();
+      if (this_present_path || that_present_path) {
+        if (!(this_present_path && that_present_path))
+          return false;
+        if (!this.path.equals(that.path))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_path = true && (isSetPath());
+      list.add(present_path);
+      if (present_path)
+        list.add(path);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(getContentSummary_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetPath()).compareTo(other.isSetPath());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetPath()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.path, other.path);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("getContentSummary_args(");
+      boolean first = true;
+
+      sb.append("path:");
+      if (this.path == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.path);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class getContentSummary_argsStandardSchemeFactory implements SchemeFactory {
+      public getContentSummary_argsStandardScheme getScheme() {
+        return new getContentSummary_argsStandardScheme();
+      }
+    }
+
+    private static class getContentSummary_argsStandardScheme extends StandardScheme<getContentSummary_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getContentSummary_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // PATH
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.path = iprot.readString();
+                struct.setPathIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getContentSummary_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.path != null) {
+          oprot.writeFieldBegin(PATH_FIELD_DESC);
+          oprot.writeString(struct.path);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class getContentSummary_argsTupleSchemeFactory implements SchemeFactory {
+      public getContentSummary_argsTupleScheme getScheme() {
+        return new getContentSummary_argsTupleScheme();
+      }
+    }
+
+    private static class getContentSummary_argsTupleScheme extends TupleScheme<getContentSummary_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, getContentSummary_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetPath()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetPath()) {
+          oprot.writeString(struct.path);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, getContentSummary_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.path = iprot.readString();
+          struct.setPathIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class getContentSummary_result implements org.apache.thrift.TBase<getContentSummary_result, getContentSummary_result._Fields>, java.io.Serializable, Cloneable, Comparable<getContentSummary_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getContentSummary_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
+    private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new getContentSummary_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getContentSummary_resultTupleSchemeFactory());
+    }
+
+    private ContentSummary success; // required
+    private alluxio.thrift.AlluxioTException e; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success"),
+      E((short)1, "e");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          case 1: // E
+            return E;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, ContentSummary.class)));
+      tmpMap.put(_Fields.E, new org.apache.thrift.meta_data.FieldMetaData("e", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getContentSummary_result.class, metaDataMap);
+    }
+
+    public getContentSummary_result() {
+    }
+
+    public getContentSummary_result(
+      ContentSummary success,
+      alluxio.thrift.AlluxioTException e)
+    {
+      this();
+      this.success = success;
+      this.e = e;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public getContentSummary_result(getContentSummary_result other) {
+      if (other.isSetSuccess()) {
+        this.success = new ContentSummary(other.success);
+      }
+      if (other.isSetE()) {
+        this.e = new alluxio.thrift.AlluxioTException(other.e);
+      }
+    }
+
+    public getContentSummary_result deepCopy() {
+      return new getContentSummary_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+      this.e = null;
+    }
+
+    public ContentSummary getSuccess() {
+      return this.success;
+    }
+
+    public getContentSummary_result setSuccess(ContentSummary success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public alluxio.thrift.AlluxioTException getE() {
+      return this.e;
+    }
+
+    public getContentSummary_result setE(alluxio.thrift.AlluxioTException e) {
+      this.e = e;
+      return this;
+    }
+
+    public void unsetE() {
+      this.e = null;
+    }
+
+    /** Returns true if field e is set (has been assigned a value) and false otherwise */
+    public boolean isSetE() {
+      return this.e != null;
+    }
+
+    public void setEIsSet(boolean value) {
+      if (!value) {
+        this.e = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((ContentSummary)value);
+        }
+        break;
+
+      case E:
+        if (value == null) {
+          unsetE();
+        } else {
+          setE((alluxio.thrift.AlluxioTException)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      case E:
+        return getE();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      case E:
+        return isSetE();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof getContentSummary_result)
+        return this.equals((getContentSummary_result)that);
+      return false;
+    }
+
+    public boolean equals(getContentSummary_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      boolean this_present_e = true && this.isSetE();
+      boolean that_present_e = true && that.isSetE();
+      if (this_present_e || that_present_e) {
+        if (!(this_present_e && that_present_e))
+          return false;
+        if (!this.e.equals(that.e))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_success = true && (isSetSuccess());
+      list.add(present_success);
+      if (present_success)
+        list.add(success);
+
+      boolean present_e = true && (isSetE());
+      list.add(present_e);
+      if (present_e)
+        list.add(e);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(getContentSummary_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetE()).compareTo(other.isSetE());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetE()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.e, other.e);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("getContentSummary_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("e:");
+      if (this.e == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.e);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (success != null) {
+        success.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class getContentSummary_resultStandardSchemeFactory implements SchemeFactory {
+      public getContentSummary_resultStandardScheme getScheme() {
+        return new getContentSummary_resultStandardScheme();
+      }
+    }
+
+    private static class getContentSummary_resultStandardScheme extends StandardScheme<getContentSummary_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getContentSummary_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.success = new ContentSummary();
+                struct.success.read(iprot);
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 1: // E
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.e = new alluxio.thrift.AlluxioTException();
+                struct.e.read(iprot);
+                struct.setEIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getContentSummary_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          struct.success.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.e != null) {
+          oprot.writeFieldBegin(E_FIELD_DESC);
+          struct.e.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class getContentSummary_resultTupleSchemeFactory implements SchemeFactory {
+      public getContentSummary_resultTupleScheme getScheme() {
+        return new getContentSummary_resultTupleScheme();
+      }
+    }
+
+    private static class getContentSummary_resultTupleScheme extends TupleScheme<getContentSummary_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, getContentSummary_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        if (struct.isSetE()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetSuccess()) {
+          struct.success.write(oprot);
+        }
+        if (struct.isSetE()) {
+          struct.e.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, getContentSummary_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.success = new ContentSummary();
+          struct.success.read(iprot);
+          struct.setSuccessIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.e = new alluxio.thrift.AlluxioTException();
+          struct.e.read(iprot);
+          struct.setEIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class getFileBlockInfoList_args implements org.apache.thrift.TBase<getFileBlockInfoList_args, getFileBlockInfoList_args._Fields>, java.io.Serializable, Cloneable, Comparable<getFileBlockInfoList_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getFileBlockInfoList_args");
+
+    private static final org.apache.thrift.protocol.TField PATH_FIELD_DESC = new org.apache.thrift.protocol.TField("path", org.apache.thrift.protocol.TType.STRING, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new getFileBlockInfoList_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getFileBlockInfoList_argsTupleSchemeFactory());
+    }
+
+    private String path; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      /**
+       * the path of the file
+       */
+      PATH((short)1, "path");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // PATH
+            return PATH;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.PATH, new org.apache.thrift.meta_data.FieldMetaData("path", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getFileBlockInfoList_args.class, metaDataMap);
+    }
+
+    public getFileBlockInfoList_args() {
+    }
+
+    public getFileBlockInfoList_args(
+      String path)
+    {
+      this();
+      this.path = path;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public getFileBlockInfoList_args(getFileBlockInfoList_args other) {
+      if (other.isSetPath()) {
+        this.path = other.path;
+      }
+    }
+
+    public getFileBlockInfoList_args deepCopy() {
+      return new getFileBlockInfoList_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.path = null;
+    }
+
+    /**
+     * the path of the file
+     */
+    public String getPath() {
+      return this.path;
+    }
+
+    /**
+     * the path of the file
+     */
+    public getFileBlockInfoList_args setPath(String path) {
+      this.path = path;
+      return this;
+    }
+
+    public void unsetPath() {
+      this.path = null;
+    }
+
+    /** Returns true if field path is set (has been assigned a value) and false otherwise */
+    public boolean isSetPath() {
+      return this.path != null;
+    }
+
+    public void setPathIsSet(boolean value) {
+      if (!value) {
+        this.path = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case PATH:
+        if (value == null) {
+          unsetPath();
+        } else {
+          setPath((String)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case PATH:
+        return getPath();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case PATH:
+        return isSetPath();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof getFileBlockInfoList_args)
+        return this.equals((getFileBlockInfoList_args)that);
+      return false;
+    }
+
+    public boolean equals(getFileBlockInfoList_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_path = true && this.isSetPath();
+      boolean that_present_path = true && that.isSetPath();
+      if (this_present_path || that_present_path) {
+        if (!(this_present_path && that_present_path))
+          return false;
+        if (!this.path.equals(that.path))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_path = true && (isSetPath());
+      list.add(present_path);
+      if (present_path)
+        list.add(path);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(getFileBlockInfoList_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetPath()).compareTo(other.isSetPath());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetPath()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.path, other.path);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("getFileBlockInfoList_args(");
+      boolean first = true;
+
+      sb.append("path:");
+      if (this.path == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.path);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class getFileBlockInfoList_argsStandardSchemeFactory implements SchemeFactory {
+      public getFileBlockInfoList_argsStandardScheme getScheme() {
+        return new getFileBlockInfoList_argsStandardScheme();
+      }
+    }
+
+    private static class getFileBlockInfoList_argsStandardScheme extends StandardScheme<getFileBlockInfoList_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getFileBlockInfoList_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // PATH
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.path = iprot.readString();
+                struct.setPathIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getFileBlockInfoList_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.path != null) {
+          oprot.writeFieldBegin(PATH_FIELD_DESC);
+          oprot.writeString(struct.path);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class getFileBlockInfoList_argsTupleSchemeFactory implements SchemeFactory {
+      public getFileBlockInfoList_argsTupleScheme getScheme() {
+        return new getFileBlockInfoList_argsTupleScheme();
+      }
+    }
+
+    private static class getFileBlockInfoList_argsTupleScheme extends TupleScheme<getFileBlockInfoList_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, getFileBlockInfoList_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetPath()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetPath()) {
+          oprot.writeString(struct.path);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, getFileBlockInfoList_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.path = iprot.readString();
+          struct.setPathIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class getFileBlockInfoList_result implements org.apache.thrift.TBase<getFileBlockInfoList_result, getFileBlockInfoList_result._Fields>, java.io.Serializable, Cloneable, Comparable<getFileBlockInfoList_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getFileBlockInfoList_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.LIST, (short)0);
+    private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new getFileBlockInfoList_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getFileBlockInfoList_resultTupleSchemeFactory());
+    }
+
+    private List<FileBlockInfo> success; // required
+    private alluxio.thrift.AlluxioTException e; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success"),
+      E((short)1, "e");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          case 1: // E
+            return E;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, FileBlockInfo.class))));
+      tmpMap.put(_Fields.E, new org.apache.thrift.meta_data.FieldMetaData("e", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getFileBlockInfoList_result.class, metaDataMap);
+    }
+
+    public getFileBlockInfoList_result() {
+    }
+
+    public getFileBlockInfoList_result(
+      List<FileBlockInfo> success,
+      alluxio.thrift.AlluxioTException e)
+    {
+      this();
+      this.success = success;
+      this.e = e;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public getFileBlockInfoList_result(getFileBlockInfoList_result other) {
+      if (other.isSetSuccess()) {
+        List<FileBlockInfo> __this__success = new ArrayList<FileBlockInfo>(other.success.size());
+        for (FileBlockInfo other_element : other.success) {
+          __this__success.add(new FileBlockInfo(other_element));
+        }
+        this.success = __this__success;
+      }
+      if (other.isSetE()) {
+        this.e = new alluxio.thrift.AlluxioTException(other.e);
+      }
+    }
+
+    public getFileBlockInfoList_result deepCopy() {
+      return new getFileBlockInfoList_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+      this.e = null;
+    }
+
+    public int getSuccessSize() {
+      return (this.success == null) ? 0 : this.success.size();
+    }
+
+    public java.util.Iterator<FileBlockInfo> getSuccessIterator() {
+      return (this.success == null) ? null : this.success.iterator();
+    }
+
+    public void addToSuccess(FileBlockInfo elem) {
+      if (this.success == null) {
+        this.success = new ArrayList<FileBlockInfo>();
+      }
+      this.success.add(elem);
+    }
+
+    public List<FileBlockInfo> getSuccess() {
+      return this.success;
+    }
+
+    public getFileBlockInfoList_result setSuccess(List<FileBlockInfo> success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public alluxio.thrift.AlluxioTException getE() {
+      return this.e;
+    }
+
+    public getFileBlockInfoList_result setE(alluxio.thrift.AlluxioTException e) {
+      this.e = e;
+      return this;
+    }
+
+    public void unsetE() {
+      this.e = null;
+    }
+
+    /** Returns true if field e is set (has been assigned a value) and false otherwise */
+    public boolean isSetE() {
+      return this.e != null;
+    }
+
+    public void setEIsSet(boolean value) {
+      if (!value) {
+        this.e = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((List<FileBlockInfo>)value);
+        }
+        break;
+
+      case E:
+        if (value == null) {
+          unsetE();
+        } else {
+          setE((alluxio.thrift.AlluxioTException)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      case E:
+        return getE();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      case E:
+        return isSetE();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof getFileBlockInfoList_result)
+        return this.equals((getFileBlockInfoList_result)that);
+      return false;
+    }
+
+    public boolean equals(getFileBlockInfoList_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      boolean this_present_e = true && this.isSetE();
+      boolean that_present_e = true && that.isSetE();
+      if (this_present_e || that_present_e) {
+        if (!(this_present_e && that_present_e))
+          return false;
+        if (!this.e.equals(that.e))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_success = true && (isSetSuccess());
+      list.add(present_success);
+      if (present_success)
+        list.add(success);
+
+      boolean present_e = true && (isSetE());
+      list.add(present_e);
+      if (present_e)
+        list.add(e);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(getFileBlockInfoList_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetE()).compareTo(other.isSetE());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetE()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.e, other.e);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("getFileBlockInfoList_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("e:");
+      if (this.e == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.e);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class getFileBlockInfoList_resultStandardSchemeFactory implements SchemeFactory {
+      public getFileBlockInfoList_resultStandardScheme getScheme() {
+        return new getFileBlockInfoList_resultStandardScheme();
+      }
+    }
+
+    private static class getFileBlockInfoList_resultStandardScheme extends StandardScheme<getFileBlockInfoList_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getFileBlockInfoList_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list58 = iprot.readListBegin();
+                  struct.success = new ArrayList<FileBlockInfo>(_list58.size);
+                  FileBlockInfo _elem59;
+                  for (int _i60 = 0; _i60 < _list58.size; ++_i60)
+                  {
+                    _elem59 = new FileBlockInfo();
+                    _elem59.read(iprot);
+                    struct.success.add(_elem59);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 1: // E
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.e = new alluxio.thrift.AlluxioTException();
+                struct.e.read(iprot);
+                struct.setEIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getFileBlockInfoList_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.success.size()));
+            for (FileBlockInfo _iter61 : struct.success)
+            {
+              _iter61.write(oprot);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+        if (struct.e != null) {
+          oprot.writeFieldBegin(E_FIELD_DESC);
+          struct.e.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class getFileBlockInfoList_resultTupleSchemeFactory implements SchemeFactory {
+      public getFileBlockInfoList_resultTupleScheme getScheme() {
+        return new getFileBlockInfoList_resultTupleScheme();
+      }
+    }
+
+    private static class getFileBlockInfoList_resultTupleScheme extends TupleScheme<getFileBlockInfoList_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, getFileBlockInfoList_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        if (struct.isSetE()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetSuccess()) {
+          {
+            oprot.writeI32(struct.success.size());
+            for (FileBlockInfo _iter62 : struct.success)
+            {
+              _iter62.write(oprot);
+            }
+          }
+        }
+        if (struct.isSetE()) {
+          struct.e.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, getFileBlockInfoList_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          {
+            org.apache.thrift.protocol.TList _list63 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.success = new ArrayList<FileBlockInfo>(_list63.size);
+            FileBlockInfo _elem64;
+            for (int _i65 = 0; _i65 < _list63.size; ++_i65)
+            {
+              _elem64 = new FileBlockInfo();
+              _elem64.read(iprot);
+              struct.success.add(_elem64);
+            }
+          }
+          struct.setSuccessIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.e = new alluxio.thrift.AlluxioTException();
+          struct.e.read(iprot);
+          struct.setEIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class getStatus_args implements org.apache.thrift.TBase<getStatus_args, getStatus_args._Fields>, java.io.Serializable, Cloneable, Comparable<getStatus_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getStatus_args");
+
+    private static final org.apache.thrift.protocol.TField PATH_FIELD_DESC = new org.apache.thrift.protocol.TField("path", org.apache.thrift.protocol.TType.STRING, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new getStatus_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getStatus_argsTupleSchemeFactory());
+    }
+
+    private String path; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      /**
+       * the path of the file or directory
+       */
+      PATH((short)1, "path");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // PATH
+            return PATH;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.PATH, new org.apache.thrift.meta_data.FieldMetaData("path", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getStatus_args.class, metaDataMap);
+    }
+
+    public getStatus_args() {
+    }
+
+    public getStatus_args(
+      String path)
+    {
+      this();
+      this.path = path;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public getStatus_args(getStatus_args other) {
+      if (other.isSetPath()) {
+        this.path = other.path;
+      }
+    }
+
+    public getStatus_args deepCopy() {
+      return new getStatus_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.path = null;
+    }
+
+    /**
+     * the path of the file or directory
+     */
+    public String getPath() {
+      return this.path;
+    }
+
+    /**
+     * the path of the file or directory
+     */
+    public getStatus_args setPath(String path) {
+      this.path = path;
+      return this;
+    }
+
+    public void unsetPath() {
+      this.path = null;
+    }
+
+    /** Returns true if field path is set (has been assigned a value) and false otherwise */
+    public boolean isSetPath() {
+      return this.path != null;
+    }
+
+    public void setPathIsSet(boolean value) {
+      if (!value) {
+        this.path = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case PATH:
+        if (value == null) {
+          unsetPath();
+        } else {
+          setPath((String)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case PATH:
+        return getPath();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case PATH:
+        return isSetPath();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof getStatus_args)
+        return this.equals((getStatus_args)that);
+      return false;
+    }
+
+    public boolean equals(getStatus_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_path = true && this.isSetPath();
+      boolean that_present_path = true && that.isSetPath();
+      if (this_present_path || that_present_path) {
+        if (!(this_present_path && that_present_path))
+          return false;
+        if (!this.path.equals(that.path))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_path = true && (isSetPath());
+      list.add(present_path);
+      if (present_path)
+        list.add(path);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(getStatus_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetPath()).compareTo(other.isSetPath());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetPath()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.path, other.path);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("getStatus_args(");
+      boolean first = true;
+
+      sb.append("path:");
+      if (this.path == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.path);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class getStatus_argsStandardSchemeFactory implements SchemeFactory {
+      public getStatus_argsStandardScheme getScheme() {
+        return new getStatus_argsStandardScheme();
+      }
+    }
+
+    private static class getStatus_argsStandardScheme extends StandardScheme<getStatus_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getStatus_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // PATH
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.path = iprot.readString();
+                struct.setPathIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getStatus_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.path != null) {
+          oprot.writeFieldBegin(PATH_FIELD_DESC);
+          oprot.writeString(struct.path);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class getStatus_argsTupleSchemeFactory implements SchemeFactory {
+      public getStatus_argsTupleScheme getScheme() {
+        return new getStatus_argsTupleScheme();
+      }
+    }
+
+    private static class getStatus_argsTupleScheme extends TupleScheme<getStatus_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, getStatus_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetPath()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetPath()) {
+          oprot.writeString(struct.path);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, getStatus_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.path = iprot.readString();
+          struct.setPathIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class getStatus_result implements org.apache.thrift.TBase<getStatus_result, getStatus_result._Fields>, java.io.Serializable, Cloneable, Comparable<getStatus_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getStatus_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
+    private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new getStatus_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getStatus_resultTupleSchemeFactory());
+    }
+
+    private FileInfo success; // required
+    private alluxio.thrift.AlluxioTException e; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success"),
+      E((short)1, "e");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          case 1: // E
+            return E;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, FileInfo.class)));
+      tmpMap.put(_Fields.E, new org.apache.thrift.meta_data.FieldMetaData("e", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getStatus_result.class, metaDataMap);
+    }
+
+    public getStatus_result() {
+    }
+
+    public getStatus_result(
+      FileInfo success,
+      alluxio.thrift.AlluxioTException e)
+    {
+      this();
+      this.success = success;
+      this.e = e;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public getStatus_result(getStatus_result other) {
+      if (other.isSetSuccess()) {
+        this.success = new FileInfo(other.success);
+      }
+      if (other.isSetE()) {
+        this.e = new alluxio.thrift.AlluxioTException(other.e);
+      }
+    }
+
+    public getStatus_result deepCopy() {
+      return new getStatus_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+      this.e = null;
+    }
+
+    public FileInfo getSuccess() {
+      return this.success;
+    }
+
+    public getStatus_result setSuccess(FileInfo success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public alluxio.thrift.AlluxioTException getE() {
+      return this.e;
+    }
+
+    public getStatus_result setE(alluxio.thrift.AlluxioTException e) {
+      this.e = e;
+      return this;
+    }
+
+    public void unsetE() {
+      this.e = null;
+    }
+
+    /** Returns true if field e is set (has been assigned a value) and false otherwise */
+    public boolean isSetE() {
+      return this.e != null;
+    }
+
+    public void setEIsSet(boolean value) {
+      if (!value) {
+        this.e = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((FileInfo)value);
+        }
+        break;
+
+      case E:
+        if (value == null) {
+          unsetE();
+        } else {
+          setE((alluxio.thrift.AlluxioTException)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      case E:
+        return getE();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      case E:
+        return isSetE();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof getStatus_result)
+        return this.equals((getStatus_result)that);
+      return false;
+    }
+
+    public boolean equals(getStatus_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      boolean this_present_e = true && this.isSetE();
+      boolean that_present_e = true && that.isSetE();
+      if (this_present_e || that_present_e) {
+        if (!(this_present_e && that_present_e))
+          return false;
+        if (!this.e.equals(that.e))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_success = true && (isSetSuccess());
+      list.add(present_success);
+      if (present_success)
+        list.add(success);
+
+      boolean present_e = true && (isSetE());
+      list.add(present_e);
+      if (present_e)
+        list.add(e);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(getStatus_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetE()).compareTo(other.isSetE());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetE()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.e, other.e);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("getStatus_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("e:");
+      if (this.e == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.e);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (success != null) {
+        success.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class getStatus_resultStandardSchemeFactory implements SchemeFactory {
+      public getStatus_resultStandardScheme getScheme() {
+        return new getStatus_resultStandardScheme();
+      }
+    }
+
+    private static class getStatus_resultStandardScheme extends StandardScheme<getStatus_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getStatus_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.success = new FileInfo();
+                struct.success.read(iprot);
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 1: // E
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.e = new alluxio.thrift.AlluxioTException();
+                struct.e.read(iprot);
+                struct.setEIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getStatus_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          struct.success.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.e != null) {
+          oprot.writeFieldBegin(E_FIELD_DESC);
+          struct.e.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class getStatus_resultTupleSchemeFactory implements SchemeFactory {
+      public getStatus_resultTupleScheme getScheme() {
+        return new getStatus_resultTupleScheme();
+      }
+    }
+
+    private static class getStatus_resultTupleScheme extends TupleScheme<getStatus_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, getStatus_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        if (struct.isSetE()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetSuccess()) {
+          struct.success.write(oprot);
+        }
+        if (struct.isSetE()) {
+          struct.e.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, getStatus_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.success = new FileInfo();
+          struct.success.read(iprot);
+          struct.setSuccessIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.e = new alluxio.thrift.AlluxioTException();
+          struct.e.read(iprot);
+          struct.setEIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class getStatusBatch_args implements org.apache.thrift.TBase<getStatusBatch_args, getStatusBatch_args._Fields>, java.io.Serializable, Cloneable, Comparable<getStatusBatch_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getStatusBatch_args");
+
+    private static final org.apache.thrift.protocol.TField PATHS_FIELD_DESC = new org.apache.thrift.protocol.TField("paths", org.apache.thrift.protocol.TType.LIST, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new completeFile_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new completeFile_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new getStatusBatch_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getStatusBatch_argsTupleSchemeFactory());
     }
 
-    private String path; // required
-    private CompleteFileTOptions options; // required
+    private List<String> paths; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      /**
-       * the path of the file
-       */
-      PATH((short)1, "path"),
-      /**
-       * the method options
-       */
-      OPTIONS((short)2, "options");
+      PATHS((short)1, "paths");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -2807,10 +13547,8 @@ public class FileSystemMasterClientService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // PATH
-            return PATH;
-          case 2: // OPTIONS
-            return OPTIONS;
+          case 1: // PATHS
+            return PATHS;
           default:
             return null;
         }
@@ -2854,123 +13592,88 @@ public class FileSystemMasterClientService {
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.PATH, new org.apache.thrift.meta_data.FieldMetaData("path", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
-      tmpMap.put(_Fields.OPTIONS, new org.apache.thrift.meta_data.FieldMetaData("options", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, CompleteFileTOptions.class)));
+      tmpMap.put(_Fields.PATHS, new org.apache.thrift.meta_data.FieldMetaData("paths", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING))));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(completeFile_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getStatusBatch_args.class, metaDataMap);
     }
 
-    public completeFile_args() {
+    public getStatusBatch_args() {
     }
 
-    public completeFile_args(
-      String path,
-      CompleteFileTOptions options)
+    public getStatusBatch_args(
+      List<String> paths)
     {
       this();
-      this.path = path;
-      this.options = options;
+      this.paths = paths;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public completeFile_args(completeFile_args other) {
-      if (other.isSetPath()) {
-        this.path = other.path;
-      }
-      if (other.isSetOptions()) {
-        this.options = new CompleteFileTOptions(other.options);
+    public getStatusBatch_args(getStatusBatch_args other) {
+      if (other.isSetPaths()) {
+        List<String> __this__paths = new ArrayList<String>(other.paths);
+        this.paths = __this__paths;
       }
     }
 
-    public completeFile_args deepCopy() {
-      return new completeFile_args(this);
+    public getStatusBatch_args deepCopy() {
+      return new getStatusBatch_args(this);
     }
 
     @Override
     public void clear() {
-      this.path = null;
-      this.options = null;
-    }
-
-    /**
-     * the path of the file
-     */
-    public String getPath() {
-      return this.path;
-    }
-
-    /**
-     * the path of the file
-     */
-    public completeFile_args setPath(String path) {
-      this.path = path;
-      return this;
+      this.paths = null;
     }
 
-    public void unsetPath() {
-      this.path = null;
+    public int getPathsSize() {
+      return (this.paths == null) ? 0 : this.paths.size();
     }
 
-    /** Returns true if field path is set (has been assigned a value) and false otherwise */
-    public boolean isSetPath() {
-      return this.path != null;
+    public java.util.Iterator<String> getPathsIterator() {
+      return (this.paths == null) ? null : this.paths.iterator();
     }
 
-    public void setPathIsSet(boolean value) {
-      if (!value) {
-        this.path = null;
+    public void addToPaths(String elem) {
+      if (this.paths == null) {
+        this.paths = new ArrayList<String>();
       }
-    }
-
-    /**
-     * the method options
-     */
-    public CompleteFileTOptions getOptions() {
-      return this.options;
-    }
-
-    /**
-     * the method options
-     */
-    public completeFile_args setOptions(CompleteFileTOptions options) {
-      this.options = options;
+      this.paths.add(elem);
+    }
+
+    public List<String> getPaths() {
+      return this.paths;
+    }
+
+    public getStatusBatch_args setPaths(List<String> paths) {
+      this.paths = paths;
       return this;
     }
 
-    public void unsetOptions() {
-      this.options = null;
+    public void unsetPaths() {
+      this.paths = null;
     }
 
-    /** Returns true if field options is set (has been assigned a value) and false otherwise */
-    public boolean isSetOptions() {
-      return this.options != null;
+    /** Returns true if field paths is set (has been assigned a value) and false otherwise */
+    public boolean isSetPaths() {
+      return this.paths != null;
     }
 
-    public void setOptionsIsSet(boolean value) {
+    public void setPathsIsSet(boolean value) {
       if (!value) {
-        this.options = null;
+        this.paths = null;
       }
     }
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
-      case PATH:
-        if (value == null) {
-          unsetPath();
-        } else {
-          setPath((String)value);
-        }
-        break;
-
-      case OPTIONS:
+      case PATHS:
         if (value == null) {
-          unsetOptions();
+          unsetPaths();
         } else {
-          setOptions((CompleteFileTOptions)value);
+          setPaths((List<String>)value);
         }
         break;
 
@@ -2979,11 +13682,8 @@ public class FileSystemMasterClientService {
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
-      case PATH:
-        return getPath();
-
-      case OPTIONS:
-        return getOptions();
+      case PATHS:
+        return getPaths();
 
       }
       throw new IllegalStateException();
@@ -2996,10 +13696,8 @@ public class FileSystemMasterClientService {
       }
 
       switch (field) {
-      case PATH:
-        return isSetPath();
-      case OPTIONS:
-        return isSetOptions();
+      case PATHS:
+        return isSetPaths();
       }
       throw new IllegalStateException();
     }
@@ -3008,30 +13706,21 @@ public class FileSystemMasterClientService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof completeFile_args)
-        return this.equals((completeFile_args)that);
+      if (that instanceof getStatusBatch_args)
+        return this.equals((getStatusBatch_args)that);
       return false;
     }
 
-    public boolean equals(completeFile_args that) {
+    public boolean equals(getStatusBatch_args that) {
       if (that == null)
         return false;
 
-      boolean this_present_path = true && this.isSetPath();
-      boolean that_present_path = true && that.isSetPath();
-      if (this_present_path || that_present_path) {
-        if (!(this_present_path && that_present_path))
-          return false;
-        if (!this.path.equals(that.path))
-          return false;
-      }
-
-      boolean this_present_options = true && this.isSetOptions();
-      boolean that_present_options = true && that.isSetOptions();
-      if (this_present_options || that_present_options) {
-        if (!(this_present_options && that_present_options))
+      boolean this_present_paths = true && this.isSetPaths();
+      boolean that_present_paths = true && that.isSetPaths();
+      if (this_present_paths || that_present_paths) {
+        if (!(this_present_paths && that_present_paths))
           return false;
-        if (!this.options.equals(that.options))
+        if (!this.paths.equals(that.paths))
           return false;
       }
 
@@ -3042,43 +13731,28 @@ public class FileSystemMasterClientService {
     public int hashCode() {
       List<Object> list = new ArrayList<Object>();
 
-      boolean present_path = true && (isSetPath());
-      list.add(present_path);
-      if (present_path)
-        list.add(path);
-
-      boolean present_options = true && (isSetOptions());
-      list.add(present_options);
-      if (present_options)
-        list.add(options);
+      boolean present_paths = true && (isSetPaths());
+      list.add(present_paths);
+      if (present_paths)
+        list.add(paths);
 
       return list.hashCode();
     }
 
     @Override
-    public int compareTo(completeFile_args other) {
+    public int compareTo(getStatusBatch_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = Boolean.valueOf(isSetPath()).compareTo(other.isSetPath());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetPath()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.path, other.path);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
-      lastComparison = Boolean.valueOf(isSetOptions()).compareTo(other.isSetOptions());
+      lastComparison = Boolean.valueOf(isSetPaths()).compareTo(other.isSetPaths());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetOptions()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.options, other.options);
+      if (isSetPaths()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.paths, other.paths);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -3100,22 +13774,14 @@ public class FileSystemMasterClientService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("completeFile_args(");
+      StringBuilder sb = new StringBuilder("getStatusBatch_args(");
       boolean first = true;
 
-      sb.append("path:");
-      if (this.path == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.path);
-      }
-      first = false;
-      if (!first) sb.append(", ");
-      sb.append("options:");
-      if (this.options == null) {
+      sb.append("paths:");
+      if (this.paths == null) {
         sb.append("null");
       } else {
-        sb.append(this.options);
+        sb.append(this.paths);
       }
       first = false;
       sb.append(")");
@@ -3125,9 +13791,6 @@ public class FileSystemMasterClientService {
     public void validate() throws org.apache.thrift.TException {
       // check for required fields
       // check for sub-struct validity
-      if (options != null) {
-        options.validate();
-      }
     }
 
     private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
@@ -3146,15 +13809,15 @@ public class FileSystemMasterClientService {
       }
     }
 
-    private static class completeFile_argsStandardSchemeFactory implements SchemeFactory {
-      public completeFile_argsStandardScheme getScheme() {
-        return new completeFile_argsStandardScheme();
+    private static class getStatusBatch_argsStandardSchemeFactory implements SchemeFactory {
+      public getStatusBatch_argsStandardScheme getScheme() {
+        return new getStatusBatch_argsStandardScheme();
       }
     }
 
-    private static class completeFile_argsStandardScheme extends StandardScheme<completeFile_args> {
+    private static class getStatusBatch_argsStandardScheme extends StandardScheme<getStatusBatch_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, completeFile_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getStatusBatch_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -3164,19 +13827,20 @@ public class FileSystemMasterClientService {
             break;
           }
           switch (schemeField.id) {
-            case 1: // PATH
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.path = iprot.readString();
-                struct.setPathIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
-            case 2: // OPTIONS
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.options = new CompleteFileTOptions();
-                struct.options.read(iprot);
-                struct.setOptionsIsSet(true);
+            case 1: // PATHS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list181 = iprot.readListBegin();
+                  struct.paths = new ArrayList<String>(_list181.size);
+                  String _elem182;
+                  for (int _i183 = 0; _i183 < _list181.size; ++_i183)
+                  {
+                    _elem182 = iprot.readString();
+                    struct.paths.add(_elem182);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setPathsIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -3192,18 +13856,20 @@ public class FileSystemMasterClientService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, completeFile_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getStatusBatch_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.path != null) {
-          oprot.writeFieldBegin(PATH_FIELD_DESC);
-          oprot.writeString(struct.path);
-          oprot.writeFieldEnd();
-        }
-        if (struct.options != null) {
-          oprot.writeFieldBegin(OPTIONS_FIELD_DESC);
-          struct.options.write(oprot);
+        if (struct.paths != null) {
+          oprot.writeFieldBegin(PATHS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, struct.paths.size()));
+            for (String _iter184 : struct.paths)
+            {
+              oprot.writeString(_iter184);
+            }
+            oprot.writeListEnd();
+          }
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -3212,66 +13878,73 @@ public class FileSystemMasterClientService {
 
     }
 
-    private static class completeFile_argsTupleSchemeFactory implements SchemeFactory {
-      public completeFile_argsTupleScheme getScheme() {
-        return new completeFile_argsTupleScheme();
+    private static class getStatusBatch_argsTupleSchemeFactory implements SchemeFactory {
+      public getStatusBatch_argsTupleScheme getScheme() {
+        return new getStatusBatch_argsTupleScheme();
       }
     }
 
-    private static class completeFile_argsTupleScheme extends TupleScheme<completeFile_args> {
+    private static class getStatusBatch_argsTupleScheme extends TupleScheme<getStatusBatch_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, completeFile_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getStatusBatch_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
-        if (struct.isSetPath()) {
+        if (struct.isSetPaths()) {
           optionals.set(0);
         }
-        if (struct.isSetOptions()) {
-          optionals.set(1);
-        }
-        oprot.writeBitSet(optionals, 2);
-        if (struct.isSetPath()) {
-          oprot.writeString(struct.path);
-        }
-        if (struct.isSetOptions()) {
-          struct.options.write(oprot);
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetPaths()) {
+          {
+            oprot.writeI32(struct.paths.size());
+            for (String _iter185 : struct.paths)
+            {
+              oprot.writeString(_iter185);
+            }
+          }
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, completeFile_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getStatusBatch_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(2);
+        BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
-          struct.path = iprot.readString();
-          struct.setPathIsSet(true);
-        }
-        if (incoming.get(1)) {
-          struct.options = new CompleteFileTOptions();
-          struct.options.read(iprot);
-          struct.setOptionsIsSet(true);
+          {
+            org.apache.thrift.protocol.TList _list186 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
+            struct.paths = new ArrayList<String>(_list186.size);
+            String _elem187;
+            for (int _i188 = 0; _i188 < _list186.size; ++_i188)
+            {
+              _elem187 = iprot.readString();
+              struct.paths.add(_elem187);
+            }
+          }
+          struct.setPathsIsSet(true);
         }
       }
     }
 
   }
 
-  public static class completeFile_result implements org.apache.thrift.TBase<completeFile_result, completeFile_result._Fields>, java.io.Serializable, Cloneable, Comparable<completeFile_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("completeFile_result");
+  public static class getStatusBatch_result implements org.apache.thrift.TBase<getStatusBatch_result, getStatusBatch_result._Fields>, java.io.Serializable, Cloneable, Comparable<getStatusBatch_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getStatusBatch_result");
 
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.LIST, (short)0);
     private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new completeFile_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new completeFile_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new getStatusBatch_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getStatusBatch_resultTupleSchemeFactory());
     }
 
+    private List<FileSystemBatchTResult> success; // required
     private alluxio.thrift.AlluxioTException e; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success"),
       E((short)1, "e");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
@@ -3287,6 +13960,8 @@ public class FileSystemMasterClientService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
           case 1: // E
             return E;
           default:
@@ -3332,45 +14007,97 @@ public class FileSystemMasterClientService {
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, FileSystemBatchTResult.class))));
       tmpMap.put(_Fields.E, new org.apache.thrift.meta_data.FieldMetaData("e", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(completeFile_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getStatusBatch_result.class, metaDataMap);
     }
 
-    public completeFile_result() {
+    public getStatusBatch_result() {
     }
 
-    public completeFile_result(
+    public getStatusBatch_result(
+      List<FileSystemBatchTResult> success,
       alluxio.thrift.AlluxioTException e)
     {
       this();
+      this.success = success;
       this.e = e;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public completeFile_result(completeFile_result other) {
+    public getStatusBatch_result(getStatusBatch_result other) {
+      if (other.isSetSuccess()) {
+        List<FileSystemBatchTResult> __this__success = new ArrayList<FileSystemBatchTResult>(other.success.size());
+        for (FileSystemBatchTResult other_element : other.success) {
+          __this__success.add(new FileSystemBatchTResult(other_element));
+        }
+        this.success = __this__success;
+      }
       if (other.isSetE()) {
         this.e = new alluxio.thrift.AlluxioTException(other.e);
       }
     }
 
-    public completeFile_result deepCopy() {
-      return new completeFile_result(this);
+    public getStatusBatch_result deepCopy() {
+      return new getStatusBatch_result(this);
     }
 
     @Override
     public void clear() {
+      this.success = null;
       this.e = null;
     }
 
+    public int getSuccessSize() {
+      return (this.success == null) ? 0 : this.success.size();
+    }
+
+    public java.util.Iterator<FileSystemBatchTResult> getSuccessIterator() {
+      return (this.success == null) ? null : this.success.iterator();
+    }
+
+    public void addToSuccess(FileSystemBatchTResult elem) {
+      if (this.success == null) {
+        this.success = new ArrayList<FileSystemBatchTResult>();
+      }
+      this.success.add(elem);
+    }
+
+    public List<FileSystemBatchTResult> getSuccess() {
+      return this.success;
+    }
+
+    public getStatusBatch_result setSuccess(List<FileSystemBatchTResult> success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
     public alluxio.thrift.AlluxioTException getE() {
       return this.e;
     }
 
-    public completeFile_result setE(alluxio.thrift.AlluxioTException e) {
+    public getStatusBatch_result setE(alluxio.thrift.AlluxioTException e) {
       this.e = e;
       return this;
     }
@@ -3392,6 +14119,14 @@ public class FileSystemMasterClientService {
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((List<FileSystemBatchTResult>)value);
+        }
+        break;
+
       case E:
         if (value == null) {
           unsetE();
@@ -3405,6 +14140,9 @@ public class FileSystemMasterClientService {
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
       case E:
         return getE();
 
@@ -3419,6 +14157,8 @@ public class FileSystemMasterClientService {
       }
 
       switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
       case E:
         return isSetE();
       }
@@ -3429,15 +14169,24 @@ public class FileSystemMasterClientService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof completeFile_result)
-        return this.equals((completeFile_result)that);
+      if (that instanceof getStatusBatch_result)
+        return this.equals((getStatusBatch_result)that);
       return false;
     }
 
-    public boolean equals(completeFile_result that) {
+    public boolean equals(getStatusBatch_result that) {
       if (that == null)
         return false;
 
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
       boolean this_present_e = true && this.isSetE();
       boolean that_present_e = true && that.isSetE();
       if (this_present_e || that_present_e) {
@@ -3454,6 +14203,11 @@ public class FileSystemMasterClientService {
     public int hashCode() {
       List<Object> list = new ArrayList<Object>();
 
+      boolean present_success = true && (isSetSuccess());
+      list.add(present_success);
+      if (present_success)
+        list.add(success);
+
       boolean present_e = true && (isSetE());
       list.add(present_e);
       if (present_e)
@@ -3463,13 +14217,23 @@ public class FileSystemMasterClientService {
     }
 
     @Override
-    public int compareTo(completeFile_result other) {
+    public int compareTo(getStatusBatch_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
       lastComparison = Boolean.valueOf(isSetE()).compareTo(other.isSetE());
       if (lastComparison != 0) {
         return lastComparison;
@@ -3493,13 +14257,21 @@ public class FileSystemMasterClientService {
 
     public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
       schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
-      }
+    }
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("completeFile_result(");
+      StringBuilder sb = new StringBuilder("getStatusBatch_result(");
       boolean first = true;
 
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      if (!first) sb.append(", ");
       sb.append("e:");
       if (this.e == null) {
         sb.append("null");
@@ -3532,15 +14304,15 @@ public class FileSystemMasterClientService {
       }
     }
 
-    private static class completeFile_resultStandardSchemeFactory implements SchemeFactory {
-      public completeFile_resultStandardScheme getScheme() {
-        return new completeFile_resultStandardScheme();
+    private static class getStatusBatch_resultStandardSchemeFactory implements SchemeFactory {
+      public getStatusBatch_resultStandardScheme getScheme() {
+        return new getStatusBatch_resultStandardScheme();
       }
     }
 
-    private static class completeFile_resultStandardScheme extends StandardScheme<completeFile_result> {
+    private static class getStatusBatch_resultStandardScheme extends StandardScheme<getStatusBatch_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, completeFile_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getStatusBatch_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -3550,6 +14322,25 @@ public class FileSystemMasterClientService {
             break;
           }
           switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list201 = iprot.readListBegin();
+                  struct.success = new ArrayList<FileSystemBatchTResult>(_list201.size);
+                  FileSystemBatchTResult _elem202;
+                  for (int _i203 = 0; _i203 < _list201.size; ++_i203)
+                  {
+                    _elem202 = new FileSystemBatchTResult();
+                    _elem202.read(iprot);
+                    struct.success.add(_elem202);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
             case 1: // E
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
                 struct.e = new alluxio.thrift.AlluxioTException();
@@ -3570,10 +14361,22 @@ public class FileSystemMasterClientService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, completeFile_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getStatusBatch_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.success.size()));
+            for (FileSystemBatchTResult _iter204 : struct.success)
+            {
+              _iter204.write(oprot);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
         if (struct.e != null) {
           oprot.writeFieldBegin(E_FIELD_DESC);
           struct.e.write(oprot);
@@ -3585,32 +14388,58 @@ public class FileSystemMasterClientService {
 
     }
 
-    private static class completeFile_resultTupleSchemeFactory implements SchemeFactory {
-      public completeFile_resultTupleScheme getScheme() {
-        return new completeFile_resultTupleScheme();
+    private static class getStatusBatch_resultTupleSchemeFactory implements SchemeFactory {
+      public getStatusBatch_resultTupleScheme getScheme() {
+        return new getStatusBatch_resultTupleScheme();
       }
     }
 
-    private static class completeFile_resultTupleScheme extends TupleScheme<completeFile_result> {
+    private static class getStatusBatch_resultTupleScheme extends TupleScheme<getStatusBatch_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, completeFile_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getStatusBatch_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
-        if (struct.isSetE()) {
+        if (struct.isSetSuccess()) {
           optionals.set(0);
         }
-        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetE()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetSuccess()) {
+          {
+            oprot.writeI32(struct.success.size());
+            for (FileSystemBatchTResult _iter205 : struct.success)
+            {
+              _iter205.write(oprot);
+            }
+          }
+        }
         if (struct.isSetE()) {
           struct.e.write(oprot);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, completeFile_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getStatusBatch_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(1);
+        BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
+          {
+            org.apache.thrift.protocol.TList _list206 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.success = new ArrayList<FileSystemBatchTResult>(_list206.size);
+            FileSystemBatchTResult _elem207;
+            for (int _i208 = 0; _i208 < _list206.size; ++_i208)
+            {
+              _elem207 = new FileSystemBatchTResult();
+              _elem207.read(iprot);
+              struct.success.add(_elem207);
+            }
+          }
+          struct.setSuccessIsSet(true);
+        }
+        if (incoming.get(1)) {
           struct.e = new alluxio.thrift.AlluxioTException();
           struct.e.read(iprot);
           struct.setEIsSet(true);
@@ -3620,31 +14449,25 @@ public class FileSystemMasterClientService {
 
   }
 
-  public static class createDirectory_args implements org.apache.thrift.TBase<createDirectory_args, createDirectory_args._Fields>, java.io.Serializable, Cloneable, Comparable<createDirectory_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("createDirectory_args");
+  public static class getStatusInternal_args implements org.apache.thrift.TBase<getStatusInternal_args, getStatusInternal_args._Fields>, java.io.Serializable, Cloneable, Comparable<getStatusInternal_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getStatusInternal_args");
 
-    private static final org.apache.thrift.protocol.TField PATH_FIELD_DESC = new org.apache.thrift.protocol.TField("path", org.apache.thrift.protocol.TType.STRING, (short)1);
-    private static final org.apache.thrift.protocol.TField OPTIONS_FIELD_DESC = new org.apache.thrift.protocol.TField("options", org.apache.thrift.protocol.TType.STRUCT, (short)2);
+    private static final org.apache.thrift.protocol.TField FILE_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("fileId", org.apache.thrift.protocol.TType.I64, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new createDirectory_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new createDirectory_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new getStatusInternal_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getStatusInternal_argsTupleSchemeFactory());
     }
 
-    private String path; // required
-    private CreateDirectoryTOptions options; // required
+    private long fileId; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
       /**
-       * the path of the directory
-       */
-      PATH((short)1, "path"),
-      /**
-       * the method options
+       * the id of the file or directory
        */
-      OPTIONS((short)2, "options");
+      FILE_ID((short)1, "fileId");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -3659,10 +14482,8 @@ public class FileSystemMasterClientService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // PATH
-            return PATH;
-          case 2: // OPTIONS
-            return OPTIONS;
+          case 1: // FILE_ID
+            return FILE_ID;
           default:
             return null;
         }
@@ -3703,126 +14524,82 @@ public class FileSystemMasterClientService {
     }
 
     // isset id assignments
+    private static final int __FILEID_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.PATH, new org.apache.thrift.meta_data.FieldMetaData("path", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
-      tmpMap.put(_Fields.OPTIONS, new org.apache.thrift.meta_data.FieldMetaData("options", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, CreateDirectoryTOptions.class)));
+      tmpMap.put(_Fields.FILE_ID, new org.apache.thrift.meta_data.FieldMetaData("fileId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(createDirectory_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getStatusInternal_args.class, metaDataMap);
     }
 
-    public createDirectory_args() {
+    public getStatusInternal_args() {
     }
 
-    public createDirectory_args(
-      String path,
-      CreateDirectoryTOptions options)
+    public getStatusInternal_args(
+      long fileId)
     {
       this();
-      this.path = path;
-      this.options = options;
+      this.fileId = fileId;
+      setFileIdIsSet(true);
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public createDirectory_args(createDirectory_args other) {
-      if (other.isSetPath()) {
-        this.path = other.path;
-      }
-      if (other.isSetOptions()) {
-        this.options = new CreateDirectoryTOptions(other.options);
-      }
+    public getStatusInternal_args(getStatusInternal_args other) {
+      __isset_bitfield = other.__isset_bitfield;
+      this.fileId = other.fileId;
     }
 
-    public createDirectory_args deepCopy() {
-      return new createDirectory_args(this);
+    public getStatusInternal_args deepCopy() {
+      return new getStatusInternal_args(this);
     }
 
     @Override
     public void clear() {
-      this.path = null;
-      this.options = null;
-    }
-
-    /**
-     * the path of the directory
-     */
-    public String getPath() {
-      return this.path;
-    }
-
-    /**
-     * the path of the directory
-     */
-    public createDirectory_args setPath(String path) {
-      this.path = path;
-      return this;
-    }
-
-    public void unsetPath() {
-      this.path = null;
-    }
-
-    /** Returns true if field path is set (has been assigned a value) and false otherwise */
-    public boolean isSetPath() {
-      return this.path != null;
-    }
-
-    public void setPathIsSet(boolean value) {
-      if (!value) {
-        this.path = null;
-      }
+      setFileIdIsSet(false);
+      this.fileId = 0;
     }
 
     /**
-     * the method options
+     * the id of the file or directory
      */
-    public CreateDirectoryTOptions getOptions() {
-      return this.options;
+    public long getFileId() {
+      return this.fileId;
     }
 
     /**
-     * the method options
+     * the id of the file or directory
      */
-    public createDirectory_args setOptions(CreateDirectoryTOptions options) {
-      this.options = options;
+    public getStatusInternal_args setFileId(long fileId) {
+      this.fileId = fileId;
+      setFileIdIsSet(true);
       return this;
     }
 
-    public void unsetOptions() {
-      this.options = null;
+    public void unsetFileId() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __FILEID_ISSET_ID);
     }
 
-    /** Returns true if field options is set (has been assigned a value) and false otherwise */
-    public boolean isSetOptions() {
-      return this.options != null;
+    /** Returns true if field fileId is set (has been assigned a value) and false otherwise */
+    public boolean isSetFileId() {
+      return EncodingUtils.testBit(__isset_bitfield, __FILEID_ISSET_ID);
     }
 
-    public void setOptionsIsSet(boolean value) {
-      if (!value) {
-        this.options = null;
-      }
+    public void setFileIdIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __FILEID_ISSET_ID, value);
     }
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
-      case PATH:
-        if (value == null) {
-          unsetPath();
-        } else {
-          setPath((String)value);
-        }
-        break;
-
-      case OPTIONS:
+      case FILE_ID:
         if (value == null) {
-          unsetOptions();
+          unsetFileId();
         } else {
-          setOptions((CreateDirectoryTOptions)value);
+          setFileId((Long)value);
         }
         break;
 
@@ -3831,11 +14608,8 @@ public class FileSystemMasterClientService {
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
-      case PATH:
-        return getPath();
-
-      case OPTIONS:
-        return getOptions();
+      case FILE_ID:
+        return getFileId();
 
       }
       throw new IllegalStateException();
@@ -3848,10 +14622,8 @@ public class FileSystemMasterClientService {
       }
 
       switch (field) {
-      case PATH:
-        return isSetPath();
-      case OPTIONS:
-        return isSetOptions();
+      case FILE_ID:
+        return isSetFileId();
       }
       throw new IllegalStateException();
     }
@@ -3860,30 +14632,21 @@ public class FileSystemMasterClientService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof createDirectory_args)
-        return this.equals((createDirectory_args)that);
+      if (that instanceof getStatusInternal_args)
+        return this.equals((getStatusInternal_args)that);
       return false;
     }
 
-    public boolean equals(createDirectory_args that) {
+    public boolean equals(getStatusInternal_args that) {
       if (that == null)
         return false;
 
-      boolean this_present_path = true && this.isSetPath();
-      boolean that_present_path = true && that.isSetPath();
-      if (this_present_path || that_present_path) {
-        if (!(this_present_path && that_present_path))
-          return false;
-        if (!this.path.equals(that.path))
-          return false;
-      }
-
-      boolean this_present_options = true && this.isSetOptions();
-      boolean that_present_options = true && that.isSetOptions();
-      if (this_present_options || that_present_options) {
-        if (!(this_present_options && that_present_options))
+      boolean this_present_fileId = true;
+      boolean that_present_fileId = true;
+      if (this_present_fileId || that_present_fileId) {
+        if (!(this_present_fileId && that_present_fileId))
           return false;
-        if (!this.options.equals(that.options))
+        if (this.fileId != that.fileId)
           return false;
       }
 
@@ -3892,45 +14655,30 @@ public class FileSystemMasterClientService {
 
     @Override
     public int hashCode() {
-      List<Object> list = new ArrayList<Object>();
-
-      boolean present_path = true && (isSetPath());
-      list.add(present_path);
-      if (present_path)
-        list.add(path);
-
-      boolean present_options = true && (isSetOptions());
-      list.add(present_options);
-      if (present_options)
-        list.add(options);
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_fileId = true;
+      list.add(present_fileId);
+      if (present_fileId)
+        list.add(fileId);
 
       return list.hashCode();
     }
 
     @Override
-    public int compareTo(createDirectory_args other) {
+    public int compareTo(getStatusInternal_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = Boolean.valueOf(isSetPath()).compareTo(other.isSetPath());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetPath()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.path, other.path);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
-      lastComparison = Boolean.valueOf(isSetOptions()).compareTo(other.isSetOptions());
+      lastComparison = Boolean.valueOf(isSetFileId()).compareTo(other.isSetFileId());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetOptions()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.options, other.options);
+      if (isSetFileId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.fileId, other.fileId);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -3952,23 +14700,11 @@ public class FileSystemMasterClientService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("createDirectory_args(");
+      StringBuilder sb = new StringBuilder("getStatusInternal_args(");
       boolean first = true;
 
-      sb.append("path:");
-      if (this.path == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.path);
-      }
-      first = false;
-      if (!first) sb.append(", ");
-      sb.append("options:");
-      if (this.options == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.options);
-      }
+      sb.append("fileId:");
+      sb.append(this.fileId);
       first = false;
       sb.append(")");
       return sb.toString();
@@ -3977,9 +14713,6 @@ public class FileSystemMasterClientService {
     public void validate() throws org.apache.thrift.TException {
       // check for required fields
       // check for sub-struct validity
-      if (options != null) {
-        options.validate();
-      }
     }
 
     private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
@@ -3992,21 +14725,23 @@ public class FileSystemMasterClientService {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
       try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class createDirectory_argsStandardSchemeFactory implements SchemeFactory {
-      public createDirectory_argsStandardScheme getScheme() {
-        return new createDirectory_argsStandardScheme();
+    private static class getStatusInternal_argsStandardSchemeFactory implements SchemeFactory {
+      public getStatusInternal_argsStandardScheme getScheme() {
+        return new getStatusInternal_argsStandardScheme();
       }
     }
 
-    private static class createDirectory_argsStandardScheme extends StandardScheme<createDirectory_args> {
+    private static class getStatusInternal_argsStandardScheme extends StandardScheme<getStatusInternal_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, createDirectory_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getStatusInternal_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -4016,19 +14751,10 @@ public class FileSystemMasterClientService {
             break;
           }
           switch (schemeField.id) {
-            case 1: // PATH
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.path = iprot.readString();
-                struct.setPathIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
-            case 2: // OPTIONS
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.options = new CreateDirectoryTOptions();
-                struct.options.read(iprot);
-                struct.setOptionsIsSet(true);
+            case 1: // FILE_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+                struct.fileId = iprot.readI64();
+                struct.setFileIdIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -4044,90 +14770,72 @@ public class FileSystemMasterClientService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, createDirectory_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getStatusInternal_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.path != null) {
-          oprot.writeFieldBegin(PATH_FIELD_DESC);
-          oprot.writeString(struct.path);
-          oprot.writeFieldEnd();
-        }
-        if (struct.options != null) {
-          oprot.writeFieldBegin(OPTIONS_FIELD_DESC);
-          struct.options.write(oprot);
-          oprot.writeFieldEnd();
-        }
+        oprot.writeFieldBegin(FILE_ID_FIELD_DESC);
+        oprot.writeI64(struct.fileId);
+        oprot.writeFieldEnd();
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class createDirectory_argsTupleSchemeFactory implements SchemeFactory {
-      public createDirectory_argsTupleScheme getScheme() {
-        return new createDirectory_argsTupleScheme();
+    private static class getStatusInternal_argsTupleSchemeFactory implements SchemeFactory {
+      public getStatusInternal_argsTupleScheme getScheme() {
+        return new getStatusInternal_argsTupleScheme();
       }
     }
 
-    private static class createDirectory_argsTupleScheme extends TupleScheme<createDirectory_args> {
+    private static class getStatusInternal_argsTupleScheme extends TupleScheme<getStatusInternal_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, createDirectory_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getStatusInternal_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
-        if (struct.isSetPath()) {
+        if (struct.isSetFileId()) {
           optionals.set(0);
         }
-        if (struct.isSetOptions()) {
-          optionals.set(1);
-        }
-        oprot.writeBitSet(optionals, 2);
-        if (struct.isSetPath()) {
-          oprot.writeString(struct.path);
-        }
-        if (struct.isSetOptions()) {
-          struct.options.write(oprot);
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetFileId()) {
+          oprot.writeI64(struct.fileId);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, createDirectory_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getStatusInternal_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(2);
+        BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
-          struct.path = iprot.readString();
-          struct.setPathIsSet(true);
-        }
-        if (incoming.get(1)) {
-          struct.options = new CreateDirectoryTOptions();
-          struct.options.read(iprot);
-          struct.setOptionsIsSet(true);
+          struct.fileId = iprot.readI64();
+          struct.setFileIdIsSet(true);
         }
       }
     }
 
   }
 
-  public static class createDirectory_result implements org.apache.thrift.TBase<createDirectory_result, createDirectory_result._Fields>, java.io.Serializable, Cloneable, Comparable<createDirectory_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("createDirectory_result");
+  public static class getStatusInternal_result implements org.apache.thrift.TBase<getStatusInternal_result, getStatusInternal_result._Fields>, java.io.Serializable, Cloneable, Comparable<getStatusInternal_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getStatusInternal_result");
 
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
     private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
-    private static final org.apache.thrift.protocol.TField IOE_FIELD_DESC = new org.apache.thrift.protocol.TField("ioe", org.apache.thrift.protocol.TType.STRUCT, (short)2);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new createDirectory_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new createDirectory_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new getStatusInternal_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getStatusInternal_resultTupleSchemeFactory());
     }
 
+    private FileInfo success; // required
     private alluxio.thrift.AlluxioTException e; // required
-    private alluxio.thrift.ThriftIOException ioe; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      E((short)1, "e"),
-      IOE((short)2, "ioe");
+      SUCCESS((short)0, "success"),
+      E((short)1, "e");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -4142,10 +14850,10 @@ public class FileSystemMasterClientService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
           case 1: // E
             return E;
-          case 2: // IOE
-            return IOE;
           default:
             return null;
         }
@@ -4189,111 +14897,111 @@ public class FileSystemMasterClientService {
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, FileInfo.class)));
       tmpMap.put(_Fields.E, new org.apache.thrift.meta_data.FieldMetaData("e", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
-      tmpMap.put(_Fields.IOE, new org.apache.thrift.meta_data.FieldMetaData("ioe", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(createDirectory_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getStatusInternal_result.class, metaDataMap);
     }
 
-    public createDirectory_result() {
+    public getStatusInternal_result() {
     }
 
-    public createDirectory_result(
-      alluxio.thrift.AlluxioTException e,
-      alluxio.thrift.ThriftIOException ioe)
+    public getStatusInternal_result(
+      FileInfo success,
+      alluxio.thrift.AlluxioTException e)
     {
       this();
+      this.success = success;
       this.e = e;
-      this.ioe = ioe;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public createDirectory_result(createDirectory_result other) {
+    public getStatusInternal_result(getStatusInternal_result other) {
+      if (other.isSetSuccess()) {
+        this.success = new FileInfo(other.success);
+      }
       if (other.isSetE()) {
         this.e = new alluxio.thrift.AlluxioTException(other.e);
       }
-      if (other.isSetIoe()) {
-        this.ioe = new alluxio.thrift.ThriftIOException(other.ioe);
-      }
     }
 
-    public createDirectory_result deepCopy() {
-      return new createDirectory_result(this);
+    public getStatusInternal_result deepCopy() {
+      return new getStatusInternal_result(this);
     }
 
     @Override
     public void clear() {
+      this.success = null;
       this.e = null;
-      this.ioe = null;
     }
 
-    public alluxio.thrift.AlluxioTException getE() {
-      return this.e;
+    public FileInfo getSuccess() {
+      return this.success;
     }
 
-    public createDirectory_result setE(alluxio.thrift.AlluxioTException e) {
-      this.e = e;
+    public getStatusInternal_result setSuccess(FileInfo success) {
+      this.success = success;
       return this;
     }
 
-    public void unsetE() {
-      this.e = null;
+    public void unsetSuccess() {
+      this.success = null;
     }
 
-    /** Returns true if field e is set (has been assigned a value) and false otherwise */
-    public boolean isSetE() {
-      return this.e != null;
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
     }
 
-    public void setEIsSet(boolean value) {
+    public void setSuccessIsSet(boolean value) {
       if (!value) {
-        this.e = null;
+        this.success = null;
       }
     }
 
-    public alluxio.thrift.ThriftIOException getIoe() {
-      return this.ioe;
+    public alluxio.thrift.AlluxioTException getE() {
+      return this.e;
     }
 
-    public createDirectory_result setIoe(alluxio.thrift.ThriftIOException ioe) {
-      this.ioe = ioe;
+    public getStatusInternal_result setE(alluxio.thrift.AlluxioTException e) {
+      this.e = e;
       return this;
     }
 
-    public void unsetIoe() {
-      this.ioe = null;
+    public void unsetE() {
+      this.e = null;
     }
 
-    /** Returns true if field ioe is set (has been assigned a value) and false otherwise */
-    public boolean isSetIoe() {
-      return this.ioe != null;
+    /** Returns true if field e is set (has been assigned a value) and false otherwise */
+    public boolean isSetE() {
+      return this.e != null;
     }
 
-    public void setIoeIsSet(boolean value) {
+    public void setEIsSet(boolean value) {
       if (!value) {
-        this.ioe = null;
+        this.e = null;
       }
     }
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
-      case E:
+      case SUCCESS:
         if (value == null) {
-          unsetE();
+          unsetSuccess();
         } else {
-          setE((alluxio.thrift.AlluxioTException)value);
+          setSuccess((FileInfo)value);
         }
         break;
 
-      case IOE:
+      case E:
         if (value == null) {
-          unsetIoe();
+          unsetE();
         } else {
-          setIoe((alluxio.thrift.ThriftIOException)value);
+          setE((alluxio.thrift.AlluxioTException)value);
         }
         break;
 
@@ -4302,12 +15010,12 @@ public class FileSystemMasterClientService {
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
       case E:
         return getE();
 
-      case IOE:
-        return getIoe();
-
       }
       throw new IllegalStateException();
     }
@@ -4319,10 +15027,10 @@ public class FileSystemMasterClientService {
       }
 
       switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
       case E:
         return isSetE();
-      case IOE:
-        return isSetIoe();
       }
       throw new IllegalStateException();
     }
@@ -4331,15 +15039,24 @@ public class FileSystemMasterClientService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof createDirectory_result)
-        return this.equals((createDirectory_result)that);
+      if (that instanceof getStatusInternal_result)
+        return this.equals((getStatusInternal_result)that);
       return false;
     }
 
-    public boolean equals(createDirectory_result that) {
+    public boolean equals(getStatusInternal_result that) {
       if (that == null)
         return false;
 
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
       boolean this_present_e = true && this.isSetE();
       boolean that_present_e = true && that.isSetE();
       if (this_present_e || that_present_e) {
@@ -4349,15 +15066,6 @@ public class FileSystemMasterClientService {
           return false;
       }
 
-      boolean this_present_ioe = true && this.isSetIoe();
-      boolean that_present_ioe = true && that.isSetIoe();
-      if (this_present_ioe || that_present_ioe) {
-        if (!(this_present_ioe && that_present_ioe))
-          return false;
-        if (!this.ioe.equals(that.ioe))
-          return false;
-      }
-
       return true;
     }
 
@@ -4365,43 +15073,43 @@ public class FileSystemMasterClientService {
     public int hashCode() {
       List<Object> list = new ArrayList<Object>();
 
+      boolean present_success = true && (isSetSuccess());
+      list.add(present_success);
+      if (present_success)
+        list.add(success);
+
       boolean present_e = true && (isSetE());
       list.add(present_e);
       if (present_e)
         list.add(e);
 
-      boolean present_ioe = true && (isSetIoe());
-      list.add(present_ioe);
-      if (present_ioe)
-        list.add(ioe);
-
       return list.hashCode();
     }
 
     @Override
-    public int compareTo(createDirectory_result other) {
+    public int compareTo(getStatusInternal_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = Boolean.valueOf(isSetE()).compareTo(other.isSetE());
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetE()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.e, other.e);
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
         if (lastComparison != 0) {
           return lastComparison;
         }
       }
-      lastComparison = Boolean.valueOf(isSetIoe()).compareTo(other.isSetIoe());
+      lastComparison = Boolean.valueOf(isSetE()).compareTo(other.isSetE());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetIoe()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.ioe, other.ioe);
+      if (isSetE()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.e, other.e);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -4423,22 +15131,22 @@ public class FileSystemMasterClientService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("createDirectory_result(");
+      StringBuilder sb = new StringBuilder("getStatusInternal_result(");
       boolean first = true;
 
-      sb.append("e:");
-      if (this.e == null) {
+      sb.append("success:");
+      if (this.success == null) {
         sb.append("null");
       } else {
-        sb.append(this.e);
+        sb.append(this.success);
       }
       first = false;
       if (!first) sb.append(", ");
-      sb.append("ioe:");
-      if (this.ioe == null) {
+      sb.append("e:");
+      if (this.e == null) {
         sb.append("null");
       } else {
-        sb.append(this.ioe);
+        sb.append(this.e);
       }
       first = false;
       sb.append(")");
@@ -4448,6 +15156,9 @@ public class FileSystemMasterClientService {
     public void validate() throws org.apache.thrift.TException {
       // check for required fields
       // check for sub-struct validity
+      if (success != null) {
+        success.validate();
+      }
     }
 
     private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
@@ -4466,15 +15177,15 @@ public class FileSystemMasterClientService {
       }
     }
 
-    private static class createDirectory_resultStandardSchemeFactory implements SchemeFactory {
-      public createDirectory_resultStandardScheme getScheme() {
-        return new createDirectory_resultStandardScheme();
+    private static class getStatusInternal_resultStandardSchemeFactory implements SchemeFactory {
+      public getStatusInternal_resultStandardScheme getScheme() {
+        return new getStatusInternal_resultStandardScheme();
       }
     }
 
-    private static class createDirectory_resultStandardScheme extends StandardScheme<createDirectory_result> {
+    private static class getStatusInternal_resultStandardScheme extends StandardScheme<getStatusInternal_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, createDirectory_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getStatusInternal_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -4484,20 +15195,20 @@ public class FileSystemMasterClientService {
             break;
           }
           switch (schemeField.id) {
-            case 1: // E
+            case 0: // SUCCESS
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.e = new alluxio.thrift.AlluxioTException();
-                struct.e.read(iprot);
-                struct.setEIsSet(true);
+                struct.success = new FileInfo();
+                struct.success.read(iprot);
+                struct.setSuccessIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 2: // IOE
+            case 1: // E
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.ioe = new alluxio.thrift.ThriftIOException();
-                struct.ioe.read(iprot);
-                struct.setIoeIsSet(true);
+                struct.e = new alluxio.thrift.AlluxioTException();
+                struct.e.read(iprot);
+                struct.setEIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -4513,97 +15224,86 @@ public class FileSystemMasterClientService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, createDirectory_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getStatusInternal_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          struct.success.write(oprot);
+          oprot.writeFieldEnd();
+        }
         if (struct.e != null) {
           oprot.writeFieldBegin(E_FIELD_DESC);
           struct.e.write(oprot);
           oprot.writeFieldEnd();
         }
-        if (struct.ioe != null) {
-          oprot.writeFieldBegin(IOE_FIELD_DESC);
-          struct.ioe.write(oprot);
-          oprot.writeFieldEnd();
-        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class createDirectory_resultTupleSchemeFactory implements SchemeFactory {
-      public createDirectory_resultTupleScheme getScheme() {
-        return new createDirectory_resultTupleScheme();
+    private static class getStatusInternal_resultTupleSchemeFactory implements SchemeFactory {
+      public getStatusInternal_resultTupleScheme getScheme() {
+        return new getStatusInternal_resultTupleScheme();
       }
     }
 
-    private static class createDirectory_resultTupleScheme extends TupleScheme<createDirectory_result> {
+    private static class getStatusInternal_resultTupleScheme extends TupleScheme<getStatusInternal_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, createDirectory_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getStatusInternal_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
-        if (struct.isSetE()) {
+        if (struct.isSetSuccess()) {
           optionals.set(0);
         }
-        if (struct.isSetIoe()) {
+        if (struct.isSetE()) {
           optionals.set(1);
         }
         oprot.writeBitSet(optionals, 2);
+        if (struct.isSetSuccess()) {
+          struct.success.write(oprot);
+        }
         if (struct.isSetE()) {
           struct.e.write(oprot);
         }
-        if (struct.isSetIoe()) {
-          struct.ioe.write(oprot);
-        }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, createDirectory_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getStatusInternal_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
+          struct.success = new FileInfo();
+          struct.success.read(iprot);
+          struct.setSuccessIsSet(true);
+        }
+        if (incoming.get(1)) {
           struct.e = new alluxio.thrift.AlluxioTException();
           struct.e.read(iprot);
           struct.setEIsSet(true);
         }
-        if (incoming.get(1)) {
-          struct.ioe = new alluxio.thrift.ThriftIOException();
-          struct.ioe.read(iprot);
-          struct.setIoeIsSet(true);
-        }
       }
     }
 
   }
 
-  public static class createFile_args implements org.apache.thrift.TBase<createFile_args, createFile_args._Fields>, java.io.Serializable, Cloneable, Comparable<createFile_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("createFile_args");
+  public static class getJournalSequenceNumber_args implements org.apache.thrift.TBase<getJournalSequenceNumber_args, getJournalSequenceNumber_args._Fields>, java.io.Serializable, Cloneable, Comparable<getJournalSequenceNumber_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getJournalSequenceNumber_args");
 
-    private static final org.apache.thrift.protocol.TField PATH_FIELD_DESC = new org.apache.thrift.protocol.TField("path", org.apache.thrift.protocol.TType.STRING, (short)1);
-    private static final org.apache.thrift.protocol.TField OPTIONS_FIELD_DESC = new org.apache.thrift.protocol.TField("options", org.apache.thrift.protocol.TType.STRUCT, (short)2);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new createFile_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new createFile_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new getJournalSequenceNumber_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getJournalSequenceNumber_argsTupleSchemeFactory());
     }
 
-    private String path; // required
-    private CreateFileTOptions options; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      /**
-       * the path of the file
-       */
-      PATH((short)1, "path"),
-      /**
-       * the options for creating the file
-       */
-      OPTIONS((short)2, "options");
+;
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -4618,10 +15318,6 @@ public class FileSystemMasterClientService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // PATH
-            return PATH;
-          case 2: // OPTIONS
-            return OPTIONS;
           default:
             return null;
         }
@@ -4660,142 +15356,37 @@ public class FileSystemMasterClientService {
         return _fieldName;
       }
     }
-
-    // isset id assignments
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.PATH, new org.apache.thrift.meta_data.FieldMetaData("path", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
-      tmpMap.put(_Fields.OPTIONS, new org.apache.thrift.meta_data.FieldMetaData("options", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, CreateFileTOptions.class)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(createFile_args.class, metaDataMap);
-    }
-
-    public createFile_args() {
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getJournalSequenceNumber_args.class, metaDataMap);
     }
 
-    public createFile_args(
-      String path,
-      CreateFileTOptions options)
-    {
-      this();
-      this.path = path;
-      this.options = options;
+    public getJournalSequenceNumber_args() {
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public createFile_args(createFile_args other) {
-      if (other.isSetPath()) {
-        this.path = other.path;
-      }
-      if (other.isSetOptions()) {
-        this.options = new CreateFileTOptions(other.options);
-      }
+    public getJournalSequenceNumber_args(getJournalSequenceNumber_args other) {
     }
 
-    public createFile_args deepCopy() {
-      return new createFile_args(this);
+    public getJournalSequenceNumber_args deepCopy() {
+      return new getJournalSequenceNumber_args(this);
     }
 
     @Override
     public void clear() {
-      this.path = null;
-      this.options = null;
-    }
-
-    /**
-     * the path of the file
-     */
-    public String getPath() {
-      return this.path;
-    }
-
-    /**
-     * the path of the file
-     */
-    public createFile_args setPath(String path) {
-      this.path = path;
-      return this;
-    }
-
-    public void unsetPath() {
-      this.path = null;
-    }
-
-    /** Returns true if field path is set (has been assigned a value) and false otherwise */
-    public boolean isSetPath() {
-      return this.path != null;
-    }
-
-    public void setPathIsSet(boolean value) {
-      if (!value) {
-        this.path = null;
-      }
-    }
-
-    /**
-     * the options for creating the file
-     */
-    public CreateFileTOptions getOptions() {
-      return this.options;
-    }
-
-    /**
-     * the options for creating the file
-     */
-    public createFile_args setOptions(CreateFileTOptions options) {
-      this.options = options;
-      return this;
-    }
-
-    public void unsetOptions() {
-      this.options = null;
-    }
-
-    /** Returns true if field options is set (has been assigned a value) and false otherwise */
-    public boolean isSetOptions() {
-      return this.options != null;
-    }
-
-    public void setOptionsIsSet(boolean value) {
-      if (!value) {
-        this.options = null;
-      }
     }
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
-      case PATH:
-        if (value == null) {
-          unsetPath();
-        } else {
-          setPath((String)value);
-        }
-        break;
-
-      case OPTIONS:
-        if (value == null) {
-          unsetOptions();
-        } else {
-          setOptions((CreateFileTOptions)value);
-        }
-        break;
-
       }
     }
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
-      case PATH:
-        return getPath();
-
-      case OPTIONS:
-        return getOptions();
-
       }
       throw new IllegalStateException();
     }
@@ -4807,10 +15398,6 @@ public class FileSystemMasterClientService {
       }
 
       switch (field) {
-      case PATH:
-        return isSetPath();
-      case OPTIONS:
-        return isSetOptions();
       }
       throw new IllegalStateException();
     }
@@ -4819,33 +15406,15 @@ public class FileSystemMasterClientService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof createFile_args)
-        return this.equals((createFile_args)that);
+      if (that instanceof getJournalSequenceNumber_args)
+        return this.equals((getJournalSequenceNumber_args)that);
       return false;
     }
 
-    public boolean equals(createFile_args that) {
+    public boolean equals(getJournalSequenceNumber_args that) {
       if (that == null)
         return false;
 
-      boolean this_present_path = true && this.isSetPath();
-      boolean that_present_path = true && that.isSetPath();
-      if (this_present_path || that_present_path) {
-        if (!(this_present_path && that_present_path))
-          return false;
-        if (!this.path.equals(that.path))
-          return false;
-      }
-
-      boolean this_present_options = true && this.isSetOptions();
-      boolean that_present_options = true && that.isSetOptions();
-      if (this_present_options || that_present_options) {
-        if (!(this_present_options && that_present_options))
-          return false;
-        if (!this.options.equals(that.options))
-          return false;
-      }
-
       return true;
     }
 
@@ -4853,47 +15422,17 @@ public class FileSystemMasterClientService {
     public int hashCode() {
       List<Object> list = new ArrayList<Object>();
 
-      boolean present_path = true && (isSetPath());
-      list.add(present_path);
-      if (present_path)
-        list.add(path);
-
-      boolean present_options = true && (isSetOptions());
-      list.add(present_options);
-      if (present_options)
-        list.add(options);
-
       return list.hashCode();
     }
 
     @Override
-    public int compareTo(createFile_args other) {
+    public int compareTo(getJournalSequenceNumber_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = Boolean.valueOf(isSetPath()).compareTo(other.isSetPath());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetPath()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.path, other.path);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
-      lastComparison = Boolean.valueOf(isSetOptions()).compareTo(other.isSetOptions());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetOptions()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.options, other.options);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
       return 0;
     }
 
@@ -4911,24 +15450,9 @@ public class FileSystemMasterClientService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("createFile_args(");
+      StringBuilder sb = new StringBuilder("getJournalSequenceNumber_args(");
       boolean first = true;
 
-      sb.append("path:");
-      if (this.path == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.path);
-      }
-      first = false;
-      if (!first) sb.append(", ");
-      sb.append("options:");
-      if (this.options == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.options);
-      }
-      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -4936,9 +15460,6 @@ public class FileSystemMasterClientService {
     public void validate() throws org.apache.thrift.TException {
       // check for required fields
       // check for sub-struct validity
-      if (options != null) {
-        options.validate();
-      }
     }
 
     private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
@@ -4957,15 +15478,15 @@ public class FileSystemMasterClientService {
       }
     }
 
-    private static class createFile_argsStandardSchemeFactory implements SchemeFactory {
-      public createFile_argsStandardScheme getScheme() {
-        return new createFile_argsStandardScheme();
+    private static class getJournalSequenceNumber_argsStandardSchemeFactory implements SchemeFactory {
+      public getJournalSequenceNumber_argsStandardScheme getScheme() {
+        return new getJournalSequenceNumber_argsStandardScheme();
       }
     }
 
-    private static class createFile_argsStandardScheme extends StandardScheme<createFile_args> {
+    private static class getJournalSequenceNumber_argsStandardScheme extends StandardScheme<getJournalSequenceNumber_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, createFile_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getJournalSequenceNumber_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -4975,23 +15496,6 @@ public class FileSystemMasterClientService {
             break;
           }
           switch (schemeField.id) {
-            case 1: // PATH
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.path = iprot.readString();
-                struct.setPathIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
-            case 2: // OPTIONS
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.options = new CreateFileTOptions();
-                struct.options.read(iprot);
-                struct.setOptionsIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -5003,90 +15507,56 @@ public class FileSystemMasterClientService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, createFile_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getJournalSequenceNumber_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.path != null) {
-          oprot.writeFieldBegin(PATH_FIELD_DESC);
-          oprot.writeString(struct.path);
-          oprot.writeFieldEnd();
-        }
-        if (struct.options != null) {
-          oprot.writeFieldBegin(OPTIONS_FIELD_DESC);
-          struct.options.write(oprot);
-          oprot.writeFieldEnd();
-        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class createFile_argsTupleSchemeFactory implements SchemeFactory {
-      public createFile_argsTupleScheme getScheme() {
-        return new createFile_argsTupleScheme();
+    private static class getJournalSequenceNumber_argsTupleSchemeFactory implements SchemeFactory {
+      public getJournalSequenceNumber_argsTupleScheme getScheme() {
+        return new getJournalSequenceNumber_argsTupleScheme();
       }
     }
 
-    private static class createFile_argsTupleScheme extends TupleScheme<createFile_args> {
+    private static class getJournalSequenceNumber_argsTupleScheme extends TupleScheme<getJournalSequenceNumber_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, createFile_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getJournalSequenceNumber_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
-        BitSet optionals = new BitSet();
-        if (struct.isSetPath()) {
-          optionals.set(0);
-        }
-        if (struct.isSetOptions()) {
-          optionals.set(1);
-        }
-        oprot.writeBitSet(optionals, 2);
-        if (struct.isSetPath()) {
-          oprot.writeString(struct.path);
-        }
-        if (struct.isSetOptions()) {
-          struct.options.write(oprot);
-        }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, createFile_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getJournalSequenceNumber_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(2);
-        if (incoming.get(0)) {
-          struct.path = iprot.readString();
-          struct.setPathIsSet(true);
-        }
-        if (incoming.get(1)) {
-          struct.options = new CreateFileTOptions();
-          struct.options.read(iprot);
-          struct.setOptionsIsSet(true);
-        }
       }
     }
 
   }
 
-  public static class createFile_result implements org.apache.thrift.TBase<createFile_result, createFile_result._Fields>, java.io.Serializable, Cloneable, Comparable<createFile_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("createFile_result");
+  public static class getJournalSequenceNumber_result implements org.apache.thrift.TBase<getJournalSequenceNumber_result, getJournalSequenceNumber_result._Fields>, java.io.Serializable, Cloneable, Comparable<getJournalSequenceNumber_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getJournalSequenceNumber_result");
 
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.I64, (short)0);
     private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
-    private static final org.apache.thrift.protocol.TField IOE_FIELD_DESC = new org.apache.thrift.protocol.TField("ioe", org.apache.thrift.protocol.TType.STRUCT, (short)2);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new createFile_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new createFile_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new getJournalSequenceNumber_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getJournalSequenceNumber_resultTupleSchemeFactory());
     }
 
+    private long success; // required
     private alluxio.thrift.AlluxioTException e; // required
-    private alluxio.thrift.ThriftIOException ioe; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      E((short)1, "e"),
-      IOE((short)2, "ioe");
+      SUCCESS((short)0, "success"),
+      E((short)1, "e");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -5101,10 +15571,10 @@ public class FileSystemMasterClientService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
           case 1: // E
             return E;
-          case 2: // IOE
-            return IOE;
           default:
             return null;
         }
@@ -5145,114 +15615,116 @@ public class FileSystemMasterClientService {
     }
 
     // isset id assignments
+    private static final int __SUCCESS_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
       tmpMap.put(_Fields.E, new org.apache.thrift.meta_data.FieldMetaData("e", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
-      tmpMap.put(_Fields.IOE, new org.apache.thrift.meta_data.FieldMetaData("ioe", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(createFile_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getJournalSequenceNumber_result.class, metaDataMap);
     }
 
-    public createFile_result() {
+    public getJournalSequenceNumber_result() {
     }
 
-    public createFile_result(
-      alluxio.thrift.AlluxioTException e,
-      alluxio.thrift.ThriftIOException ioe)
+    public getJournalSequenceNumber_result(
+      long success,
+      alluxio.thrift.AlluxioTException e)
     {
       this();
+      this.success = success;
+      setSuccessIsSet(true);
       this.e = e;
-      this.ioe = ioe;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public createFile_result(createFile_result other) {
+    public getJournalSequenceNumber_result(getJournalSequenceNumber_result other) {
+      __isset_bitfield = other.__isset_bitfield;
+      this.success = other.success;
       if (other.isSetE()) {
         this.e = new alluxio.thrift.AlluxioTException(other.e);
       }
-      if (other.isSetIoe()) {
-        this.ioe = new alluxio.thrift.ThriftIOException(other.ioe);
-      }
     }
 
-    public createFile_result deepCopy() {
-      return new createFile_result(this);
+    public getJournalSequenceNumber_result deepCopy() {
+      return new getJournalSequenceNumber_result(this);
     }
 
     @Override
     public void clear() {
+      setSuccessIsSet(false);
+      this.success = 0;
       this.e = null;
-      this.ioe = null;
     }
 
-    public alluxio.thrift.AlluxioTException getE() {
-      return this.e;
+    public long getSuccess() {
+      return this.success;
     }
 
-    public createFile_result setE(alluxio.thrift.AlluxioTException e) {
-      this.e = e;
+    public getJournalSequenceNumber_result setSuccess(long success) {
+      this.success = success;
+      setSuccessIsSet(true);
       return this;
     }
 
-    public void unsetE() {
-      this.e = null;
+    public void unsetSuccess() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __SUCCESS_ISSET_ID);
     }
 
-    /** Returns true if field e is set (has been assigned a value) and false otherwise */
-    public boolean isSetE() {
-      return this.e != null;
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return EncodingUtils.testBit(__isset_bitfield, __SUCCESS_ISSET_ID);
     }
 
-    public void setEIsSet(boolean value) {
-      if (!value) {
-        this.e = null;
-      }
+    public void setSuccessIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
     }
 
-    public alluxio.thrift.ThriftIOException getIoe() {
-      return this.ioe;
+    public alluxio.thrift.AlluxioTException getE() {
+      return this.e;
     }
 
-    public createFile_result setIoe(alluxio.thrift.ThriftIOException ioe) {
-      this.ioe = ioe;
+    public getJournalSequenceNumber_result setE(alluxio.thrift.AlluxioTException e) {
+      this.e = e;
       return this;
     }
 
-    public void unsetIoe() {
-      this.ioe = null;
+    public void unsetE() {
+      this.e = null;
     }
 
-    /** Returns true if field ioe is set (has been assigned a value) and false otherwise */
-    public boolean isSetIoe() {
-      return this.ioe != null;
+    /** Returns true if field e is set (has been assigned a value) and false otherwise */
+    public boolean isSetE() {
+      return this.e != null;
     }
 
-    public void setIoeIsSet(boolean value) {
+    public void setEIsSet(boolean value) {
       if (!value) {
-        this.ioe = null;
+        this.e = null;
       }
     }
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
-      case E:
+      case SUCCESS:
         if (value == null) {
-          unsetE();
+          unsetSuccess();
         } else {
-          setE((alluxio.thrift.AlluxioTException)value);
+          setSuccess((Long)value);
         }
         break;
 
-      case IOE:
+      case E:
         if (value == null) {
-          unsetIoe();
+          unsetE();
         } else {
-          setIoe((alluxio.thrift.ThriftIOException)value);
+          setE((alluxio.thrift.AlluxioTException)value);
         }
         break;
 
@@ -5261,12 +15733,12 @@ public class FileSystemMasterClientService {
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
       case E:
         return getE();
 
-      case IOE:
-        return getIoe();
-
       }
       throw new IllegalStateException();
     }
@@ -5278,10 +15750,10 @@ public class FileSystemMasterClientService {
       }
 
       switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
       case E:
         return isSetE();
-      case IOE:
-        return isSetIoe();
       }
       throw new IllegalStateException();
     }
@@ -5290,15 +15762,24 @@ public class FileSystemMasterClientService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof createFile_result)
-        return this.equals((createFile_result)that);
+      if (that instanceof getJournalSequenceNumber_result)
+        return this.equals((getJournalSequenceNumber_result)that);
       return false;
     }
 
-    public boolean equals(createFile_result that) {
+    public boolean equals(getJournalSequenceNumber_result that) {
       if (that == null)
         return false;
 
+      boolean this_present_success = true;
+      boolean that_present_success = true;
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (this.success != that.success)
+          return false;
+      }
+
       boolean this_present_e = true && this.isSetE();
       boolean that_present_e = true && that.isSetE();
       if (this_present_e || that_present_e) {
@@ -5308,15 +15789,6 @@ public class FileSystemMasterClientService {
           return false;
       }
 
-      boolean this_present_ioe = true && this.isSetIoe();
-      boolean that_present_ioe = true && that.isSetIoe();
-      if (this_present_ioe || that_present_ioe) {
-        if (!(this_present_ioe && that_present_ioe))
-          return false;
-        if (!this.ioe.equals(that.ioe))
-          return false;
-      }
-
       return true;
     }
 
@@ -5324,43 +15796,43 @@ public class FileSystemMasterClientService {
     public int hashCode() {
       List<Object> list = new ArrayList<Object>();
 
+      boolean present_success = true;
+      list.add(present_success);
+      if (present_success)
+        list.add(success);
+
       boolean present_e = true && (isSetE());
       list.add(present_e);
       if (present_e)
         list.add(e);
 
-      boolean present_ioe = true && (isSetIoe());
-      list.add(present_ioe);
-      if (present_ioe)
-        list.add(ioe);
-
       return list.hashCode();
     }
 
     @Override
-    public int compareTo(createFile_result other) {
+    public int compareTo(getJournalSequenceNumber_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = Boolean.valueOf(isSetE()).compareTo(other.isSetE());
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetE()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.e, other.e);
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
         if (lastComparison != 0) {
           return lastComparison;
         }
       }
-      lastComparison = Boolean.valueOf(isSetIoe()).compareTo(other.isSetIoe());
+      lastComparison = Boolean.valueOf(isSetE()).compareTo(other.isSetE());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetIoe()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.ioe, other.ioe);
+      if (isSetE()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.e, other.e);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -5382,9 +15854,13 @@ public class FileSystemMasterClientService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("createFile_result(");
+      StringBuilder sb = new StringBuilder("getJournalSequenceNumber_result(");
       boolean first = true;
 
+      sb.append("success:");
+      sb.append(this.success);
+      first = false;
+      if (!first) sb.append(", ");
       sb.append("e:");
       if (this.e == null) {
         sb.append("null");
@@ -5392,14 +15868,6 @@ public class FileSystemMasterClientService {
         sb.append(this.e);
       }
       first = false;
-      if (!first) sb.append(", ");
-      sb.append("ioe:");
-      if (this.ioe == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.ioe);
-      }
-      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -5419,21 +15887,23 @@ public class FileSystemMasterClientService {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
       try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class createFile_resultStandardSchemeFactory implements SchemeFactory {
-      public createFile_resultStandardScheme getScheme() {
-        return new createFile_resultStandardScheme();
+    private static class getJournalSequenceNumber_resultStandardSchemeFactory implements SchemeFactory {
+      public getJournalSequenceNumber_resultStandardScheme getScheme() {
+        return new getJournalSequenceNumber_resultStandardScheme();
       }
     }
 
-    private static class createFile_resultStandardScheme extends StandardScheme<createFile_result> {
+    private static class getJournalSequenceNumber_resultStandardScheme extends StandardScheme<getJournalSequenceNumber_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, createFile_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getJournalSequenceNumber_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -5443,20 +15913,19 @@ public class FileSystemMasterClientService {
             break;
           }
           switch (schemeField.id) {
-            case 1: // E
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.e = new alluxio.thrift.AlluxioTException();
-                struct.e.read(iprot);
-                struct.setEIsSet(true);
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+                struct.success = iprot.readI64();
+                struct.setSuccessIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 2: // IOE
+            case 1: // E
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.ioe = new alluxio.thrift.ThriftIOException();
-                struct.ioe.read(iprot);
-                struct.setIoeIsSet(true);
+                struct.e = new alluxio.thrift.AlluxioTException();
+                struct.e.read(iprot);
+                struct.setEIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -5472,97 +15941,90 @@ public class FileSystemMasterClientService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, createFile_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getJournalSequenceNumber_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.isSetSuccess()) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          oprot.writeI64(struct.success);
+          oprot.writeFieldEnd();
+        }
         if (struct.e != null) {
           oprot.writeFieldBegin(E_FIELD_DESC);
           struct.e.write(oprot);
           oprot.writeFieldEnd();
         }
-        if (struct.ioe != null) {
-          oprot.writeFieldBegin(IOE_FIELD_DESC);
-          struct.ioe.write(oprot);
-          oprot.writeFieldEnd();
-        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class createFile_resultTupleSchemeFactory implements SchemeFactory {
-      public createFile_resultTupleScheme getScheme() {
-        return new createFile_resultTupleScheme();
+    private static class getJournalSequenceNumber_resultTupleSchemeFactory implements SchemeFactory {
+      public getJournalSequenceNumber_resultTupleScheme getScheme() {
+        return new getJournalSequenceNumber_resultTupleScheme();
       }
     }
 
-    private static class createFile_resultTupleScheme extends TupleScheme<createFile_result> {
+    private static class getJournalSequenceNumber_resultTupleScheme extends TupleScheme<getJournalSequenceNumber_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, createFile_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getJournalSequenceNumber_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
-        if (struct.isSetE()) {
+        if (struct.isSetSuccess()) {
           optionals.set(0);
         }
-        if (struct.isSetIoe()) {
+        if (struct.isSetE()) {
           optionals.set(1);
         }
         oprot.writeBitSet(optionals, 2);
+        if (struct.isSetSuccess()) {
+          oprot.writeI64(struct.success);
+        }
         if (struct.isSetE()) {
           struct.e.write(oprot);
         }
-        if (struct.isSetIoe()) {
-          struct.ioe.write(oprot);
-        }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, createFile_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getJournalSequenceNumber_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
+          struct.success = iprot.readI64();
+          struct.setSuccessIsSet(true);
+        }
+        if (incoming.get(1)) {
           struct.e = new alluxio.thrift.AlluxioTException();
           struct.e.read(iprot);
           struct.setEIsSet(true);
         }
-        if (incoming.get(1)) {
-          struct.ioe = new alluxio.thrift.ThriftIOException();
-          struct.ioe.read(iprot);
-          struct.setIoeIsSet(true);
-        }
       }
     }
 
   }
 
-  public static class free_args implements org.apache.thrift.TBase<free_args, free_args._Fields>, java.io.Serializable, Cloneable, Comparable<free_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("free_args");
+  public static class getLoadJobInfo_args implements org.apache.thrift.TBase<getLoadJobInfo_args, getLoadJobInfo_args._Fields>, java.io.Serializable, Cloneable, Comparable<getLoadJobInfo_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getLoadJobInfo_args");
 
-    private static final org.apache.thrift.protocol.TField PATH_FIELD_DESC = new org.apache.thrift.protocol.TField("path", org.apache.thrift.protocol.TType.STRING, (short)1);
-    private static final org.apache.thrift.protocol.TField RECURSIVE_FIELD_DESC = new org.apache.thrift.protocol.TField("recursive", org.apache.thrift.protocol.TType.BOOL, (short)2);
+    private static final org.apache.thrift.protocol.TField ID_FIELD_DESC = new org.apache.thrift.protocol.TField("id", org.apache.thrift.protocol.TType.I64, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new free_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new free_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new getLoadJobInfo_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getLoadJobInfo_argsTupleSchemeFactory());
     }
 
-    private String path; // required
-    private boolean recursive; // required
+    private long id; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
       /**
-       * the path of the file or directory
-       */
-      PATH((short)1, "path"),
-      /**
-       * whether to free recursively
+       * the id of the load job
        */
-      RECURSIVE((short)2, "recursive");
+      ID((short)1, "id");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -5577,10 +16039,8 @@ public class FileSystemMasterClientService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // PATH
-            return PATH;
-          case 2: // RECURSIVE
-            return RECURSIVE;
+          case 1: // ID
+            return ID;
           default:
             return null;
         }
@@ -5621,128 +16081,82 @@ public class FileSystemMasterClientService {
     }
 
     // isset id assignments
-    private static final int __RECURSIVE_ISSET_ID = 0;
+    private static final int __ID_ISSET_ID = 0;
     private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.PATH, new org.apache.thrift.meta_data.FieldMetaData("path", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
-      tmpMap.put(_Fields.RECURSIVE, new org.apache.thrift.meta_data.FieldMetaData("recursive", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.BOOL)));
+      tmpMap.put(_Fields.ID, new org.apache.thrift.meta_data.FieldMetaData("id", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(free_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getLoadJobInfo_args.class, metaDataMap);
     }
 
-    public free_args() {
+    public getLoadJobInfo_args() {
     }
 
-    public free_args(
-      String path,
-      boolean recursive)
+    public getLoadJobInfo_args(
+      long id)
     {
       this();
-      this.path = path;
-      this.recursive = recursive;
-      setRecursiveIsSet(true);
+      this.id = id;
+      setIdIsSet(true);
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public free_args(free_args other) {
+    public getLoadJobInfo_args(getLoadJobInfo_args other) {
       __isset_bitfield = other.__isset_bitfield;
-      if (other.isSetPath()) {
-        this.path = other.path;
-      }
-      this.recursive = other.recursive;
+      this.id = other.id;
     }
 
-    public free_args deepCopy() {
-      return new free_args(this);
+    public getLoadJobInfo_args deepCopy() {
+      return new getLoadJobInfo_args(this);
     }
 
     @Override
     public void clear() {
-      this.path = null;
-      setRecursiveIsSet(false);
-      this.recursive = false;
-    }
-
-    /**
-     * the path of the file or directory
-     */
-    public String getPath() {
-      return this.path;
-    }
-
-    /**
-     * the path of the file or directory
-     */
-    public free_args setPath(String path) {
-      this.path = path;
-      return this;
-    }
-
-    public void unsetPath() {
-      this.path = null;
-    }
-
-    /** Returns true if field path is set (has been assigned a value) and false otherwise */
-    public boolean isSetPath() {
-      return this.path != null;
-    }
-
-    public void setPathIsSet(boolean value) {
-      if (!value) {
-        this.path = null;
-      }
+      setIdIsSet(false);
+      this.id = 0;
     }
 
     /**
-     * whether to free recursively
+     * the id of the load job
      */
-    public boolean isRecursive() {
-      return this.recursive;
+    public long getId() {
+      return this.id;
     }
 
     /**
-     * whether to free recursively
+     * the id of the load job
      */
-    public free_args setRecursive(boolean recursive) {
-      this.recursive = recursive;
-      setRecursiveIsSet(true);
+    public getLoadJobInfo_args setId(long id) {
+      this.id = id;
+      setIdIsSet(true);
       return this;
     }
 
-    public void unsetRecursive() {
-      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __RECURSIVE_ISSET_ID);
+    public void unsetId() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __ID_ISSET_ID);
     }
 
-    /** Returns true if field recursive is set (has been assigned a value) and false otherwise */
-    public boolean isSetRecursive() {
-      return EncodingUtils.testBit(__isset_bitfield, __RECURSIVE_ISSET_ID);
+    /** Returns true if field id is set (has been assigned a value) and false otherwise */
+    public boolean isSetId() {
+      return EncodingUtils.testBit(__isset_bitfield, __ID_ISSET_ID);
     }
 
-    public void setRecursiveIsSet(boolean value) {
-      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __RECURSIVE_ISSET_ID, value);
+    public void setIdIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __ID_ISSET_ID, value);
     }
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
-      case PATH:
+      case ID:
         if (value == null) {
-          unsetPath();
-        } else {
-          setPath((String)value);
-        }
-        break;
-
-      case RECURSIVE:
-        if (value == null) {
-          unsetRecursive();
+          unsetId();
         } else {
-          setRecursive((Boolean)value);
+          setId((Long)value);
         }
         break;
 
@@ -5751,11 +16165,8 @@ public class FileSystemMasterClientService {
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
-      case PATH:
-        return getPath();
-
-      case RECURSIVE:
-        return isRecursive();
+      case ID:
+        return getId();
 
       }
       throw new IllegalStateException();
@@ -5768,10 +16179,8 @@ public class FileSystemMasterClientService {
       }
 
       switch (field) {
-      case PATH:
-        return isSetPath();
-      case RECURSIVE:
-        return isSetRecursive();
+      case ID:
+        return isSetId();
       }
       throw new IllegalStateException();
     }
@@ -5780,30 +16189,21 @@ public class FileSystemMasterClientService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof free_args)
-        return this.equals((free_args)that);
+      if (that instanceof getLoadJobInfo_args)
+        return this.equals((getLoadJobInfo_args)that);
       return false;
     }
 
-    public boolean equals(free_args that) {
+    public boolean equals(getLoadJobInfo_args that) {
       if (that == null)
         return false;
 
-      boolean this_present_path = true && this.isSetPath();
-      boolean that_present_path = true && that.isSetPath();
-      if (this_present_path || that_present_path) {
-        if (!(this_present_path && that_present_path))
-          return false;
-        if (!this.path.equals(that.path))
-          return false;
-      }
-
-      boolean this_present_recursive = true;
-      boolean that_present_recursive = true;
-      if (this_present_recursive || that_present_recursive) {
-        if (!(this_present_recursive && that_present_recursive))
+      boolean this_present_id = true;
+      boolean that_present_id = true;
+      if (this_present_id || that_present_id) {
+        if (!(this_present_id && that_present_id))
           return false;
-        if (this.recursive != that.recursive)
+        if (this.id != that.id)
           return false;
       }
 
@@ -5814,43 +16214,28 @@ public class FileSystemMasterClientService {
     public int hashCode() {
       List<Object> list = new ArrayList<Object>();
 
-      boolean present_path = true && (isSetPath());
-      list.add(present_path);
-      if (present_path)
-        list.add(path);
-
-      boolean present_recursive = true;
-      list.add(present_recursive);
-      if (present_recursive)
-        list.add(recursive);
+      boolean present_id = true;
+      list.add(present_id);
+      if (present_id)
+        list.add(id);
 
       return list.hashCode();
-    }
-
-    @Override
-    public int compareTo(free_args other) {
-      if (!getClass().equals(other.getClass())) {
-        return getClass().getName().compareTo(other.getClass().getName());
-      }
-
-      int lastComparison = 0;
-
-      lastComparison = Boolean.valueOf(isSetPath()).compareTo(other.isSetPath());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetPath()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.path, other.path);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
+    }
+
+    @Override
+    public int compareTo(getLoadJobInfo_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
       }
-      lastComparison = Boolean.valueOf(isSetRecursive()).compareTo(other.isSetRecursive());
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetId()).compareTo(other.isSetId());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetRecursive()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.recursive, other.recursive);
+      if (isSetId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.id, other.id);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -5872,19 +16257,11 @@ public class FileSystemMasterClientService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("free_args(");
+      StringBuilder sb = new StringBuilder("getLoadJobInfo_args(");
       boolean first = true;
 
-      sb.append("path:");
-      if (this.path == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.path);
-      }
-      first = false;
-      if (!first) sb.append(", ");
-      sb.append("recursive:");
-      sb.append(this.recursive);
+      sb.append("id:");
+      sb.append(this.id);
       first = false;
       sb.append(")");
       return sb.toString();
@@ -5913,15 +16290,15 @@ public class FileSystemMasterClientService {
       }
     }
 
-    private static class free_argsStandardSchemeFactory implements SchemeFactory {
-      public free_argsStandardScheme getScheme() {
-        return new free_argsStandardScheme();
+    private static class getLoadJobInfo_argsStandardSchemeFactory implements SchemeFactory {
+      public getLoadJobInfo_argsStandardScheme getScheme() {
+        return new getLoadJobInfo_argsStandardScheme();
       }
     }
 
-    private static class free_argsStandardScheme extends StandardScheme<free_args> {
+    private static class getLoadJobInfo_argsStandardScheme extends StandardScheme<getLoadJobInfo_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, free_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getLoadJobInfo_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -5931,18 +16308,10 @@ public class FileSystemMasterClientService {
             break;
           }
           switch (schemeField.id) {
-            case 1: // PATH
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.path = iprot.readString();
-                struct.setPathIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
-            case 2: // RECURSIVE
-              if (schemeField.type == org.apache.thrift.protocol.TType.BOOL) {
-                struct.recursive = iprot.readBool();
-                struct.setRecursiveIsSet(true);
+            case 1: // ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+                struct.id = iprot.readI64();
+                struct.setIdIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -5958,17 +16327,12 @@ public class FileSystemMasterClientService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, free_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getLoadJobInfo_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.path != null) {
-          oprot.writeFieldBegin(PATH_FIELD_DESC);
-          oprot.writeString(struct.path);
-          oprot.writeFieldEnd();
-        }
-        oprot.writeFieldBegin(RECURSIVE_FIELD_DESC);
-        oprot.writeBool(struct.recursive);
+        oprot.writeFieldBegin(ID_FIELD_DESC);
+        oprot.writeI64(struct.id);
         oprot.writeFieldEnd();
         oprot.writeFieldStop();
         oprot.writeStructEnd();
@@ -5976,65 +16340,58 @@ public class FileSystemMasterClientService {
 
     }
 
-    private static class free_argsTupleSchemeFactory implements SchemeFactory {
-      public free_argsTupleScheme getScheme() {
-        return new free_argsTupleScheme();
+    private static class getLoadJobInfo_argsTupleSchemeFactory implements SchemeFactory {
+      public getLoadJobInfo_argsTupleScheme getScheme() {
+        return new getLoadJobInfo_argsTupleScheme();
       }
     }
 
-    private static class free_argsTupleScheme extends TupleScheme<free_args> {
+    private static class getLoadJobInfo_argsTupleScheme extends TupleScheme<getLoadJobInfo_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, free_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getLoadJobInfo_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
-        if (struct.isSetPath()) {
+        if (struct.isSetId()) {
           optionals.set(0);
         }
-        if (struct.isSetRecursive()) {
-          optionals.set(1);
-        }
-        oprot.writeBitSet(optionals, 2);
-        if (struct.isSetPath()) {
-          oprot.writeString(struct.path);
-        }
-        if (struct.isSetRecursive()) {
-          oprot.writeBool(struct.recursive);
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetId()) {
+          oprot.writeI64(struct.id);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, free_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getLoadJobInfo_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(2);
+        BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
-          struct.path = iprot.readString();
-          struct.setPathIsSet(true);
-        }
-        if (incoming.get(1)) {
-          struct.recursive = iprot.readBool();
-          struct.setRecursiveIsSet(true);
+          struct.id = iprot.readI64();
+          struct.setIdIsSet(true);
         }
       }
     }
 
   }
 
-  public static class free_result implements org.apache.thrift.TBase<free_result, free_result._Fields>, java.io.Serializable, Cloneable, Comparable<free_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("free_result");
+  public static class getLoadJobInfo_result implements org.apache.thrift.TBase<getLoadJobInfo_result, getLoadJobInfo_result._Fields>, java.io.Serializable, Cloneable, Comparable<getLoadJobInfo_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getLoadJobInfo_result");
 
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
     private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new free_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new free_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new getLoadJobInfo_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getLoadJobInfo_resultTupleSchemeFactory());
     }
 
+    private LoadJobInfo success; // required
     private alluxio.thrift.AlluxioTException e; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success"),
       E((short)1, "e");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
@@ -6050,6 +16407,8 @@ public class FileSystemMasterClientService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
           case 1: // E
             return E;
           default:
@@ -6095,45 +16454,77 @@ public class FileSystemMasterClientService {
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, LoadJobInfo.class)));
       tmpMap.put(_Fields.E, new org.apache.thrift.meta_data.FieldMetaData("e", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(free_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getLoadJobInfo_result.class, metaDataMap);
     }
 
-    public free_result() {
+    public getLoadJobInfo_result() {
     }
 
-    public free_result(
+    public getLoadJobInfo_result(
+      LoadJobInfo success,
       alluxio.thrift.AlluxioTException e)
     {
       this();
+      this.success = success;
       this.e = e;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public free_result(free_result other) {
+    public getLoadJobInfo_result(getLoadJobInfo_result other) {
+      if (other.isSetSuccess()) {
+        this.success = new LoadJobInfo(other.success);
+      }
       if (other.isSetE()) {
         this.e = new alluxio.thrift.AlluxioTException(other.e);
       }
     }
 
-    public free_result deepCopy() {
-      return new free_result(this);
+    public getLoadJobInfo_result deepCopy() {
+      return new getLoadJobInfo_result(this);
     }
 
     @Override
     public void clear() {
+      this.success = null;
       this.e = null;
     }
 
+    public LoadJobInfo getSuccess() {
+      return this.success;
+    }
+
+    public getLoadJobInfo_result setSuccess(LoadJobInfo success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
     public alluxio.thrift.AlluxioTException getE() {
       return this.e;
     }
 
-    public free_result setE(alluxio.thrift.AlluxioTException e) {
+    public getLoadJobInfo_result setE(alluxio.thrift.AlluxioTException e) {
       this.e = e;
       return this;
     }
@@ -6155,6 +16546,14 @@ public class FileSystemMasterClientService {
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((LoadJobInfo)value);
+        }
+        break;
+
       case E:
         if (value == null) {
           unsetE();
@@ -6168,6 +16567,9 @@ public class FileSystemMasterClientService {
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
       case E:
         return getE();
 
@@ -6182,6 +16584,8 @@ public class FileSystemMasterClientService {
       }
 
       switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
       case E:
         return isSetE();
       }
@@ -6192,15 +16596,24 @@ public class FileSystemMasterClientService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof free_result)
-        return this.equals((free_result)that);
+      if (that instanceof getLoadJobInfo_result)
+        return this.equals((getLoadJobInfo_result)that);
       return false;
     }
 
-    public boolean equals(free_result that) {
+    public boolean equals(getLoadJobInfo_result that) {
       if (that == null)
         return false;
 
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
       boolean this_present_e = true && this.isSetE();
       boolean that_present_e = true && that.isSetE();
       if (this_present_e || that_present_e) {
@@ -6217,6 +16630,11 @@ public class FileSystemMasterClientService {
     public int hashCode() {
       List<Object> list = new ArrayList<Object>();
 
+      boolean present_success = true && (isSetSuccess());
+      list.add(present_success);
+      if (present_success)
+        list.add(success);
+
       boolean present_e = true && (isSetE());
       list.add(present_e);
       if (present_e)
@@ -6226,13 +16644,23 @@ public class FileSystemMasterClientService {
     }
 
     @Override
-    public int compareTo(free_result other) {
+    public int compareTo(getLoadJobInfo_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
       lastComparison = Boolean.valueOf(isSetE()).compareTo(other.isSetE());
       if (lastComparison != 0) {
         return lastComparison;
@@ -6260,9 +16688,17 @@ public class FileSystemMasterClientService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("free_result(");
+      StringBuilder sb = new StringBuilder("getLoadJobInfo_result(");
       boolean first = true;
 
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      if (!first) sb.append(", ");
       sb.append("e:");
       if (this.e == null) {
         sb.append("null");
@@ -6277,6 +16713,9 @@ public class FileSystemMasterClientService {
     public void validate() throws org.apache.thrift.TException {
       // check for required fields
       // check for sub-struct validity
+      if (success != null) {
+        success.validate();
+      }
     }
 
     private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
@@ -6295,15 +16734,15 @@ public class FileSystemMasterClientService {
       }
     }
 
-    private static class free_resultStandardSchemeFactory implements SchemeFactory {
-      public free_resultStandardScheme getScheme() {
-        return new free_resultStandardScheme();
+    private static class getLoadJobInfo_resultStandardSchemeFactory implements SchemeFactory {
+      public getLoadJobInfo_resultStandardScheme getScheme() {
+        return new getLoadJobInfo_resultStandardScheme();
       }
     }
 
-    private static class free_resultStandardScheme extends StandardScheme<free_result> {
+    private static class getLoadJobInfo_resultStandardScheme extends StandardScheme<getLoadJobInfo_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, free_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getLoadJobInfo_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -6313,6 +16752,15 @@ public class FileSystemMasterClientService {
             break;
           }
           switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.success = new LoadJobInfo();
+                struct.success.read(iprot);
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
             case 1: // E
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
                 struct.e = new alluxio.thrift.AlluxioTException();
@@ -6333,10 +16781,15 @@ public class FileSystemMasterClientService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, free_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getLoadJobInfo_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          struct.success.write(oprot);
+          oprot.writeFieldEnd();
+        }
         if (struct.e != null) {
           oprot.writeFieldBegin(E_FIELD_DESC);
           struct.e.write(oprot);
@@ -6348,32 +16801,43 @@ public class FileSystemMasterClientService {
 
     }
 
-    private static class free_resultTupleSchemeFactory implements SchemeFactory {
-      public free_resultTupleScheme getScheme() {
-        return new free_resultTupleScheme();
+    private static class getLoadJobInfo_resultTupleSchemeFactory implements SchemeFactory {
+      public getLoadJobInfo_resultTupleScheme getScheme() {
+        return new getLoadJobInfo_resultTupleScheme();
       }
     }
 
-    private static class free_resultTupleScheme extends TupleScheme<free_result> {
+    private static class getLoadJobInfo_resultTupleScheme extends TupleScheme<getLoadJobInfo_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, free_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getLoadJobInfo_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
-        if (struct.isSetE()) {
+        if (struct.isSetSuccess()) {
           optionals.set(0);
         }
-        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetE()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetSuccess()) {
+          struct.success.write(oprot);
+        }
         if (struct.isSetE()) {
           struct.e.write(oprot);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, free_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getLoadJobInfo_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(1);
+        BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
+          struct.success = new LoadJobInfo();
+          struct.success.read(iprot);
+          struct.setSuccessIsSet(true);
+        }
+        if (incoming.get(1)) {
           struct.e = new alluxio.thrift.AlluxioTException();
           struct.e.read(iprot);
           struct.setEIsSet(true);
@@ -6383,15 +16847,15 @@ public class FileSystemMasterClientService {
 
   }
 
-  public static class getFileBlockInfoList_args implements org.apache.thrift.TBase<getFileBlockInfoList_args, getFileBlockInfoList_args._Fields>, java.io.Serializable, Cloneable, Comparable<getFileBlockInfoList_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getFileBlockInfoList_args");
+  public static class getNewBlockIdForFile_args implements org.apache.thrift.TBase<getNewBlockIdForFile_args, getNewBlockIdForFile_args._Fields>, java.io.Serializable, Cloneable, Comparable<getNewBlockIdForFile_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getNewBlockIdForFile_args");
 
     private static final org.apache.thrift.protocol.TField PATH_FIELD_DESC = new org.apache.thrift.protocol.TField("path", org.apache.thrift.protocol.TType.STRING, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new getFileBlockInfoList_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new getFileBlockInfoList_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new getNewBlockIdForFile_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getNewBlockIdForFile_argsTupleSchemeFactory());
     }
 
     private String path; // required
@@ -6464,13 +16928,13 @@ public class FileSystemMasterClientService {
       tmpMap.put(_Fields.PATH, new org.apache.thrift.meta_data.FieldMetaData("path", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getFileBlockInfoList_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getNewBlockIdForFile_args.class, metaDataMap);
     }
 
-    public getFileBlockInfoList_args() {
+    public getNewBlockIdForFile_args() {
     }
 
-    public getFileBlockInfoList_args(
+    public getNewBlockIdForFile_args(
       String path)
     {
       this();
@@ -6480,14 +16944,14 @@ public class FileSystemMasterClientService {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getFileBlockInfoList_args(getFileBlockInfoList_args other) {
+    public getNewBlockIdForFile_args(getNewBlockIdForFile_args other) {
       if (other.isSetPath()) {
         this.path = other.path;
       }
     }
 
-    public getFileBlockInfoList_args deepCopy() {
-      return new getFileBlockInfoList_args(this);
+    public getNewBlockIdForFile_args deepCopy() {
+      return new getNewBlockIdForFile_args(this);
     }
 
     @Override
@@ -6505,7 +16969,7 @@ public class FileSystemMasterClientService {
     /**
      * the path of the file
      */
-    public getFileBlockInfoList_args setPath(String path) {
+    public getNewBlockIdForFile_args setPath(String path) {
       this.path = path;
       return this;
     }
@@ -6564,12 +17028,12 @@ public class FileSystemMasterClientService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof getFileBlockInfoList_args)
-        return this.equals((getFileBlockInfoList_args)that);
+      if (that instanceof getNewBlockIdForFile_args)
+        return this.equals((getNewBlockIdForFile_args)that);
       return false;
     }
 
-    public boolean equals(getFileBlockInfoList_args that) {
+    public boolean equals(getNewBlockIdForFile_args that) {
       if (that == null)
         return false;
 
@@ -6598,7 +17062,7 @@ public class FileSystemMasterClientService {
     }
 
     @Override
-    public int compareTo(getFileBlockInfoList_args other) {
+    public int compareTo(getNewBlockIdForFile_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -6632,7 +17096,7 @@ public class FileSystemMasterClientService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("getFileBlockInfoList_args(");
+      StringBuilder sb = new StringBuilder("getNewBlockIdForFile_args(");
       boolean first = true;
 
       sb.append("path:");
@@ -6667,15 +17131,15 @@ public class FileSystemMasterClientService {
       }
     }
 
-    private static class getFileBlockInfoList_argsStandardSchemeFactory implements SchemeFactory {
-      public getFileBlockInfoList_argsStandardScheme getScheme() {
-        return new getFileBlockInfoList_argsStandardScheme();
+    private static class getNewBlockIdForFile_argsStandardSchemeFactory implements SchemeFactory {
+      public getNewBlockIdForFile_argsStandardScheme getScheme() {
+        return new getNewBlockIdForFile_argsStandardScheme();
       }
     }
 
-    private static class getFileBlockInfoList_argsStandardScheme extends StandardScheme<getFileBlockInfoList_args> {
+    private static class getNewBlockIdForFile_argsStandardScheme extends StandardScheme<getNewBlockIdForFile_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getFileBlockInfoList_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getNewBlockIdForFile_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -6704,7 +17168,7 @@ public class FileSystemMasterClientService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getFileBlockInfoList_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getNewBlockIdForFile_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -6719,16 +17183,16 @@ public class FileSystemMasterClientService {
 
     }
 
-    private static class getFileBlockInfoList_argsTupleSchemeFactory implements SchemeFactory {
-      public getFileBlockInfoList_argsTupleScheme getScheme() {
-        return new getFileBlockInfoList_argsTupleScheme();
+    private static class getNewBlockIdForFile_argsTupleSchemeFactory implements SchemeFactory {
+      public getNewBlockIdForFile_argsTupleScheme getScheme() {
+        return new getNewBlockIdForFile_argsTupleScheme();
       }
     }
 
-    private static class getFileBlockInfoList_argsTupleScheme extends TupleScheme<getFileBlockInfoList_args> {
+    private static class getNewBlockIdForFile_argsTupleScheme extends TupleScheme<getNewBlockIdForFile_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getFileBlockInfoList_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getNewBlockIdForFile_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetPath()) {
@@ -6741,7 +17205,7 @@ public class FileSystemMasterClientService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getFileBlockInfoList_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getNewBlockIdForFile_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
@@ -6753,19 +17217,19 @@ public class FileSystemMasterClientService {
 
   }
 
-  public static class getFileBlockInfoList_result implements org.apache.thrift.TBase<getFileBlockInfoList_result, getFileBlockInfoList_result._Fields>, java.io.Serializable, Cloneable, Comparable<getFileBlockInfoList_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getFileBlockInfoList_result");
+  public static class getNewBlockIdForFile_result implements org.apache.thrift.TBase<getNewBlockIdForFile_result, getNewBlockIdForFile_result._Fields>, java.io.Serializable, Cloneable, Comparable<getNewBlockIdForFile_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getNewBlockIdForFile_result");
 
-    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.LIST, (short)0);
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.I64, (short)0);
     private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new getFileBlockInfoList_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new getFileBlockInfoList_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new getNewBlockIdForFile_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getNewBlockIdForFile_resultTupleSchemeFactory());
     }
 
-    private List<FileBlockInfo> success; // required
+    private long success; // required
     private alluxio.thrift.AlluxioTException e; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
@@ -6830,100 +17294,82 @@ public class FileSystemMasterClientService {
     }
 
     // isset id assignments
+    private static final int __SUCCESS_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
-              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, FileBlockInfo.class))));
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
       tmpMap.put(_Fields.E, new org.apache.thrift.meta_data.FieldMetaData("e", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getFileBlockInfoList_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getNewBlockIdForFile_result.class, metaDataMap);
     }
 
-    public getFileBlockInfoList_result() {
+    public getNewBlockIdForFile_result() {
     }
 
-    public getFileBlockInfoList_result(
-      List<FileBlockInfo> success,
+    public getNewBlockIdForFile_result(
+      long success,
       alluxio.thrift.AlluxioTException e)
     {
       this();
       this.success = success;
+      setSuccessIsSet(true);
       this.e = e;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getFileBlockInfoList_result(getFileBlockInfoList_result other) {
-      if (other.isSetSuccess()) {
-        List<FileBlockInfo> __this__success = new ArrayList<FileBlockInfo>(other.success.size());
-        for (FileBlockInfo other_element : other.success) {
-          __this__success.add(new FileBlockInfo(other_element));
-        }
-        this.success = __this__success;
-      }
+    public getNewBlockIdForFile_result(getNewBlockIdForFile_result other) {
+      __isset_bitfield = other.__isset_bitfield;
+      this.success = other.success;
       if (other.isSetE()) {
         this.e = new alluxio.thrift.AlluxioTException(other.e);
       }
     }
 
-    public getFileBlockInfoList_result deepCopy() {
-      return new getFileBlockInfoList_result(this);
+    public getNewBlockIdForFile_result deepCopy() {
+      return new getNewBlockIdForFile_result(this);
     }
 
     @Override
     public void clear() {
-      this.success = null;
+      setSuccessIsSet(false);
+      this.success = 0;
       this.e = null;
     }
 
-    public int getSuccessSize() {
-      return (this.success == null) ? 0 : this.success.size();
-    }
-
-    public java.util.Iterator<FileBlockInfo> getSuccessIterator() {
-      return (this.success == null) ? null : this.success.iterator();
-    }
-
-    public void addToSuccess(FileBlockInfo elem) {
-      if (this.success == null) {
-        this.success = new ArrayList<FileBlockInfo>();
-      }
-      this.success.add(elem);
-    }
-
-    public List<FileBlockInfo> getSuccess() {
+    public long getSuccess() {
       return this.success;
     }
 
-    public getFileBlockInfoList_result setSuccess(List<FileBlockInfo> success) {
+    public getNewBlockIdForFile_result setSuccess(long success) {
       this.success = success;
+      setSuccessIsSet(true);
       return this;
     }
 
     public void unsetSuccess() {
-      this.success = null;
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __SUCCESS_ISSET_ID);
     }
 
     /** Returns true if field success is set (has been assigned a value) and false otherwise */
     public boolean isSetSuccess() {
-      return this.success != null;
+      return EncodingUtils.testBit(__isset_bitfield, __SUCCESS_ISSET_ID);
     }
 
     public void setSuccessIsSet(boolean value) {
-      if (!value) {
-        this.success = null;
-      }
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
     }
 
     public alluxio.thrift.AlluxioTException getE() {
       return this.e;
     }
 
-    public getFileBlockInfoList_result setE(alluxio.thrift.AlluxioTException e) {
+    public getNewBlockIdForFile_result setE(alluxio.thrift.AlluxioTException e) {
       this.e = e;
       return this;
     }
@@ -6949,7 +17395,7 @@ public class FileSystemMasterClientService {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((List<FileBlockInfo>)value);
+          setSuccess((Long)value);
         }
         break;
 
@@ -6995,21 +17441,21 @@ public class FileSystemMasterClientService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof getFileBlockInfoList_result)
-        return this.equals((getFileBlockInfoList_result)that);
+      if (that instanceof getNewBlockIdForFile_result)
+        return this.equals((getNewBlockIdForFile_result)that);
       return false;
     }
 
-    public boolean equals(getFileBlockInfoList_result that) {
+    public boolean equals(getNewBlockIdForFile_result that) {
       if (that == null)
         return false;
 
-      boolean this_present_success = true && this.isSetSuccess();
-      boolean that_present_success = true && that.isSetSuccess();
+      boolean this_present_success = true;
+      boolean that_present_success = true;
       if (this_present_success || that_present_success) {
         if (!(this_present_success && that_present_success))
           return false;
-        if (!this.success.equals(that.success))
+        if (this.success != that.success)
           return false;
       }
 
@@ -7029,7 +17475,7 @@ public class FileSystemMasterClientService {
     public int hashCode() {
       List<Object> list = new ArrayList<Object>();
 
-      boolean present_success = true && (isSetSuccess());
+      boolean present_success = true;
       list.add(present_success);
       if (present_success)
         list.add(success);
@@ -7043,7 +17489,7 @@ public class FileSystemMasterClientService {
     }
 
     @Override
-    public int compareTo(getFileBlockInfoList_result other) {
+    public int compareTo(getNewBlockIdForFile_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -7087,15 +17533,11 @@ public class FileSystemMasterClientService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("getFileBlockInfoList_result(");
+      StringBuilder sb = new StringBuilder("getNewBlockIdForFile_result(");
       boolean first = true;
 
       sb.append("success:");
-      if (this.success == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.success);
-      }
+      sb.append(this.success);
       first = false;
       if (!first) sb.append(", ");
       sb.append("e:");
@@ -7124,21 +17566,23 @@ public class FileSystemMasterClientService {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
       try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class getFileBlockInfoList_resultStandardSchemeFactory implements SchemeFactory {
-      public getFileBlockInfoList_resultStandardScheme getScheme() {
-        return new getFileBlockInfoList_resultStandardScheme();
+    private static class getNewBlockIdForFile_resultStandardSchemeFactory implements SchemeFactory {
+      public getNewBlockIdForFile_resultStandardScheme getScheme() {
+        return new getNewBlockIdForFile_resultStandardScheme();
       }
     }
 
-    private static class getFileBlockInfoList_resultStandardScheme extends StandardScheme<getFileBlockInfoList_result> {
+    private static class getNewBlockIdForFile_resultStandardScheme extends StandardScheme<getNewBlockIdForFile_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getFileBlockInfoList_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getNewBlockIdForFile_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -7149,19 +17593,8 @@ public class FileSystemMasterClientService {
           }
           switch (schemeField.id) {
             case 0: // SUCCESS
-              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
-                {
-                  org.apache.thrift.protocol.TList _list58 = iprot.readListBegin();
-                  struct.success = new ArrayList<FileBlockInfo>(_list58.size);
-                  FileBlockInfo _elem59;
-                  for (int _i60 = 0; _i60 < _list58.size; ++_i60)
-                  {
-                    _elem59 = new FileBlockInfo();
-                    _elem59.read(iprot);
-                    struct.success.add(_elem59);
-                  }
-                  iprot.readListEnd();
-                }
+              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+                struct.success = iprot.readI64();
                 struct.setSuccessIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
@@ -7187,20 +17620,13 @@ public class FileSystemMasterClientService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getFileBlockInfoList_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getNewBlockIdForFile_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.success != null) {
+        if (struct.isSetSuccess()) {
           oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-          {
-            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.success.size()));
-            for (FileBlockInfo _iter61 : struct.success)
-            {
-              _iter61.write(oprot);
-            }
-            oprot.writeListEnd();
-          }
+          oprot.writeI64(struct.success);
           oprot.writeFieldEnd();
         }
         if (struct.e != null) {
@@ -7214,16 +17640,16 @@ public class FileSystemMasterClientService {
 
     }
 
-    private static class getFileBlockInfoList_resultTupleSchemeFactory implements SchemeFactory {
-      public getFileBlockInfoList_resultTupleScheme getScheme() {
-        return new getFileBlockInfoList_resultTupleScheme();
+    private static class getNewBlockIdForFile_resultTupleSchemeFactory implements SchemeFactory {
+      public getNewBlockIdForFile_resultTupleScheme getScheme() {
+        return new getNewBlockIdForFile_resultTupleScheme();
       }
     }
 
-    private static class getFileBlockInfoList_resultTupleScheme extends TupleScheme<getFileBlockInfoList_result> {
+    private static class getNewBlockIdForFile_resultTupleScheme extends TupleScheme<getNewBlockIdForFile_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getFileBlockInfoList_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getNewBlockIdForFile_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSuccess()) {
@@ -7234,13 +17660,7 @@ public class FileSystemMasterClientService {
         }
         oprot.writeBitSet(optionals, 2);
         if (struct.isSetSuccess()) {
-          {
-            oprot.writeI32(struct.success.size());
-            for (FileBlockInfo _iter62 : struct.success)
-            {
-              _iter62.write(oprot);
-            }
-          }
+          oprot.writeI64(struct.success);
         }
         if (struct.isSetE()) {
           struct.e.write(oprot);
@@ -7248,21 +17668,11 @@ public class FileSystemMasterClientService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getFileBlockInfoList_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getNewBlockIdForFile_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          {
-            org.apache.thrift.protocol.TList _list63 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
-            struct.success = new ArrayList<FileBlockInfo>(_list63.size);
-            FileBlockInfo _elem64;
-            for (int _i65 = 0; _i65 < _list63.size; ++_i65)
-            {
-              _elem64 = new FileBlockInfo();
-              _elem64.read(iprot);
-              struct.success.add(_elem64);
-            }
-          }
+          struct.success = iprot.readI64();
           struct.setSuccessIsSet(true);
         }
         if (incoming.get(1)) {
@@ -7275,25 +17685,20 @@ public class FileSystemMasterClientService {
 
   }
 
-  public static class getStatus_args implements org.apache.thrift.TBase<getStatus_args, getStatus_args._Fields>, java.io.Serializable, Cloneable, Comparable<getStatus_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getStatus_args");
+  public static class getUfsAddress_args implements org.apache.thrift.TBase<getUfsAddress_args, getUfsAddress_args._Fields>, java.io.Serializable, Cloneable, Comparable<getUfsAddress_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getUfsAddress_args");
 
-    private static final org.apache.thrift.protocol.TField PATH_FIELD_DESC = new org.apache.thrift.protocol.TField("path", org.apache.thrift.protocol.TType.STRING, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new getStatus_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new getStatus_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new getUfsAddress_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getUfsAddress_argsTupleSchemeFactory());
     }
 
-    private String path; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      /**
-       * the path of the file or directory
-       */
-      PATH((short)1, "path");
+;
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -7308,8 +17713,6 @@ public class FileSystemMasterClientService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // PATH
-            return PATH;
           default:
             return null;
         }
@@ -7348,93 +17751,37 @@ public class FileSystemMasterClientService {
         return _fieldName;
       }
     }
-
-    // isset id assignments
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.PATH, new org.apache.thrift.meta_data.FieldMetaData("path", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getStatus_args.class, metaDataMap);
-    }
-
-    public getStatus_args() {
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getUfsAddress_args.class, metaDataMap);
     }
 
-    public getStatus_args(
-      String path)
-    {
-      this();
-      this.path = path;
+    public getUfsAddress_args() {
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getStatus_args(getStatus_args other) {
-      if (other.isSetPath()) {
-        this.path = other.path;
-      }
-    }
-
-    public getStatus_args deepCopy() {
-      return new getStatus_args(this);
-    }
-
-    @Override
-    public void clear() {
-      this.path = null;
-    }
-
-    /**
-     * the path of the file or directory
-     */
-    public String getPath() {
-      return this.path;
-    }
-
-    /**
-     * the path of the file or directory
-     */
-    public getStatus_args setPath(String path) {
-      this.path = path;
-      return this;
-    }
-
-    public void unsetPath() {
-      this.path = null;
-    }
-
-    /** Returns true if field path is set (has been assigned a value) and false otherwise */
-    public boolean isSetPath() {
-      return this.path != null;
+    public getUfsAddress_args(getUfsAddress_args other) {
     }
 
-    public void setPathIsSet(boolean value) {
-      if (!value) {
-        this.path = null;
-      }
+    public getUfsAddress_args deepCopy() {
+      return new getUfsAddress_args(this);
+    }
+
+    @Override
+    public void clear() {
     }
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
-      case PATH:
-        if (value == null) {
-          unsetPath();
-        } else {
-          setPath((String)value);
-        }
-        break;
-
       }
     }
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
-      case PATH:
-        return getPath();
-
       }
       throw new IllegalStateException();
     }
@@ -7446,8 +17793,6 @@ public class FileSystemMasterClientService {
       }
 
       switch (field) {
-      case PATH:
-        return isSetPath();
       }
       throw new IllegalStateException();
     }
@@ -7456,24 +17801,15 @@ public class FileSystemMasterClientService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof getStatus_args)
-        return this.equals((getStatus_args)that);
+      if (that instanceof getUfsAddress_args)
+        return this.equals((getUfsAddress_args)that);
       return false;
     }
 
-    public boolean equals(getStatus_args that) {
+    public boolean equals(getUfsAddress_args that) {
       if (that == null)
         return false;
 
-      boolean this_present_path = true && this.isSetPath();
-      boolean that_present_path = true && that.isSetPath();
-      if (this_present_path || that_present_path) {
-        if (!(this_present_path && that_present_path))
-          return false;
-        if (!this.path.equals(that.path))
-          return false;
-      }
-
       return true;
     }
 
@@ -7481,32 +17817,17 @@ public class FileSystemMasterClientService {
     public int hashCode() {
       List<Object> list = new ArrayList<Object>();
 
-      boolean present_path = true && (isSetPath());
-      list.add(present_path);
-      if (present_path)
-        list.add(path);
-
       return list.hashCode();
     }
 
     @Override
-    public int compareTo(getStatus_args other) {
+    public int compareTo(getUfsAddress_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = Boolean.valueOf(isSetPath()).compareTo(other.isSetPath());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetPath()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.path, other.path);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
       return 0;
     }
 
@@ -7524,16 +17845,9 @@ public class FileSystemMasterClientService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("getStatus_args(");
+      StringBuilder sb = new StringBuilder("getUfsAddress_args(");
       boolean first = true;
 
-      sb.append("path:");
-      if (this.path == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.path);
-      }
-      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -7559,15 +17873,15 @@ public class FileSystemMasterClientService {
       }
     }
 
-    private static class getStatus_argsStandardSchemeFactory implements SchemeFactory {
-      public getStatus_argsStandardScheme getScheme() {
-        return new getStatus_argsStandardScheme();
+    private static class getUfsAddress_argsStandardSchemeFactory implements SchemeFactory {
+      public getUfsAddress_argsStandardScheme getScheme() {
+        return new getUfsAddress_argsStandardScheme();
       }
     }
 
-    private static class getStatus_argsStandardScheme extends StandardScheme<getStatus_args> {
+    private static class getUfsAddress_argsStandardScheme extends StandardScheme<getUfsAddress_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getStatus_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getUfsAddress_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -7577,14 +17891,6 @@ public class FileSystemMasterClientService {
             break;
           }
           switch (schemeField.id) {
-            case 1: // PATH
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.path = iprot.readString();
-                struct.setPathIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -7596,68 +17902,50 @@ public class FileSystemMasterClientService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getStatus_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getUfsAddress_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.path != null) {
-          oprot.writeFieldBegin(PATH_FIELD_DESC);
-          oprot.writeString(struct.path);
-          oprot.writeFieldEnd();
-        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class getStatus_argsTupleSchemeFactory implements SchemeFactory {
-      public getStatus_argsTupleScheme getScheme() {
-        return new getStatus_argsTupleScheme();
+    private static class getUfsAddress_argsTupleSchemeFactory implements SchemeFactory {
+      public getUfsAddress_argsTupleScheme getScheme() {
+        return new getUfsAddress_argsTupleScheme();
       }
     }
 
-    private static class getStatus_argsTupleScheme extends TupleScheme<getStatus_args> {
+    private static class getUfsAddress_argsTupleScheme extends TupleScheme<getUfsAddress_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getStatus_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getUfsAddress_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
-        BitSet optionals = new BitSet();
-        if (struct.isSetPath()) {
-          optionals.set(0);
-        }
-        oprot.writeBitSet(optionals, 1);
-        if (struct.isSetPath()) {
-          oprot.writeString(struct.path);
-        }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getStatus_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getUfsAddress_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(1);
-        if (incoming.get(0)) {
-          struct.path = iprot.readString();
-          struct.setPathIsSet(true);
-        }
       }
     }
 
   }
 
-  public static class getStatus_result implements org.apache.thrift.TBase<getStatus_result, getStatus_result._Fields>, java.io.Serializable, Cloneable, Comparable<getStatus_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getStatus_result");
+  public static class getUfsAddress_result implements org.apache.thrift.TBase<getUfsAddress_result, getUfsAddress_result._Fields>, java.io.Serializable, Cloneable, Comparable<getUfsAddress_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getUfsAddress_result");
 
-    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRING, (short)0);
     private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new getStatus_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new getStatus_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new getUfsAddress_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getUfsAddress_resultTupleSchemeFactory());
     }
 
-    private FileInfo success; // required
+    private String success; // required
     private alluxio.thrift.AlluxioTException e; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
@@ -7726,18 +18014,18 @@ public class FileSystemMasterClientService {
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, FileInfo.class)));
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
       tmpMap.put(_Fields.E, new org.apache.thrift.meta_data.FieldMetaData("e", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getStatus_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getUfsAddress_result.class, metaDataMap);
     }
 
-    public getStatus_result() {
+    public getUfsAddress_result() {
     }
 
-    public getStatus_result(
-      FileInfo success,
+    public getUfsAddress_result(
+      String success,
       alluxio.thrift.AlluxioTException e)
     {
       this();
@@ -7748,17 +18036,17 @@ public class FileSystemMasterClientService {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getStatus_result(getStatus_result other) {
+    public getUfsAddress_result(getUfsAddress_result other) {
       if (other.isSetSuccess()) {
-        this.success = new FileInfo(other.success);
+        this.success = other.success;
       }
       if (other.isSetE()) {
         this.e = new alluxio.thrift.AlluxioTException(other.e);
       }
     }
 
-    public getStatus_result deepCopy() {
-      return new getStatus_result(this);
+    public getUfsAddress_result deepCopy() {
+      return new getUfsAddress_result(this);
     }
 
     @Override
@@ -7767,11 +18055,11 @@ public class FileSystemMasterClientService {
       this.e = null;
     }
 
-    public FileInfo getSuccess() {
+    public String getSuccess() {
       return this.success;
     }
 
-    public getStatus_result setSuccess(FileInfo success) {
+    public getUfsAddress_result setSuccess(String success) {
       this.success = success;
       return this;
     }
@@ -7795,7 +18083,7 @@ public class FileSystemMasterClientService {
       return this.e;
     }
 
-    public getStatus_result setE(alluxio.thrift.AlluxioTException e) {
+    public getUfsAddress_result setE(alluxio.thrift.AlluxioTException e) {
       this.e = e;
       return this;
     }
@@ -7821,7 +18109,7 @@ public class FileSystemMasterClientService {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((FileInfo)value);
+          setSuccess((String)value);
         }
         break;
 
@@ -7867,12 +18155,12 @@ public class FileSystemMasterClientService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof getStatus_result)
-        return this.equals((getStatus_result)that);
+      if (that instanceof getUfsAddress_result)
+        return this.equals((getUfsAddress_result)that);
       return false;
     }
 
-    public boolean equals(getStatus_result that) {
+    public boolean equals(getUfsAddress_result that) {
       if (that == null)
         return false;
 
@@ -7915,7 +18203,7 @@ public class FileSystemMasterClientService {
     }
 
     @Override
-    public int compareTo(getStatus_result other) {
+    public int compareTo(getUfsAddress_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -7959,7 +18247,7 @@ public class FileSystemMasterClientService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("getStatus_result(");
+      StringBuilder sb = new StringBuilder("getUfsAddress_result(");
       boolean first = true;
 
       sb.append("success:");
@@ -7984,9 +18272,6 @@ public class FileSystemMasterClientService {
     public void validate() throws org.apache.thrift.TException {
       // check for required fields
       // check for sub-struct validity
-      if (success != null) {
-        success.validate();
-      }
     }
 
     private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
@@ -8005,15 +18290,15 @@ public class FileSystemMasterClientService {
       }
     }
 
-    private static class getStatus_resultStandardSchemeFactory implements SchemeFactory {
-      public getStatus_resultStandardScheme getScheme() {
-        return new getStatus_resultStandardScheme();
+    private static class getUfsAddress_resultStandardSchemeFactory implements SchemeFactory {
+      public getUfsAddress_resultStandardScheme getScheme() {
+        return new getUfsAddress_resultStandardScheme();
       }
     }
 
-    private static class getStatus_resultStandardScheme extends StandardScheme<getStatus_result> {
+    private static class getUfsAddress_resultStandardScheme extends StandardScheme<getUfsAddress_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getStatus_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getUfsAddress_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -8024,9 +18309,8 @@ public class FileSystemMasterClientService {
           }
           switch (schemeField.id) {
             case 0: // SUCCESS
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.success = new FileInfo();
-                struct.success.read(iprot);
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.success = iprot.readString();
                 struct.setSuccessIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
@@ -8052,13 +18336,13 @@ public class FileSystemMasterClientService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getStatus_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getUfsAddress_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
         if (struct.success != null) {
           oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-          struct.success.write(oprot);
+          oprot.writeString(struct.success);
           oprot.writeFieldEnd();
         }
         if (struct.e != null) {
@@ -8072,16 +18356,16 @@ public class FileSystemMasterClientService {
 
     }
 
-    private static class getStatus_resultTupleSchemeFactory implements SchemeFactory {
-      public getStatus_resultTupleScheme getScheme() {
-        return new getStatus_resultTupleScheme();
+    private static class getUfsAddress_resultTupleSchemeFactory implements SchemeFactory {
+      public getUfsAddress_resultTupleScheme getScheme() {
+        return new getUfsAddress_resultTupleScheme();
       }
     }
 
-    private static class getStatus_resultTupleScheme extends TupleScheme<getStatus_result> {
+    private static class getUfsAddress_resultTupleScheme extends TupleScheme<getUfsAddress_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getStatus_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getUfsAddress_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSuccess()) {
@@ -8092,7 +18376,7 @@ public class FileSystemMasterClientService {
         }
         oprot.writeBitSet(optionals, 2);
         if (struct.isSetSuccess()) {
-          struct.success.write(oprot);
+          oprot.writeString(struct.success);
         }
         if (struct.isSetE()) {
           struct.e.write(oprot);
@@ -8100,12 +18384,11 @@ public class FileSystemMasterClientService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getStatus_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getUfsAddress_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.success = new FileInfo();
-          struct.success.read(iprot);
+          struct.success = iprot.readString();
           struct.setSuccessIsSet(true);
         }
         if (incoming.get(1)) {
@@ -8118,25 +18401,31 @@ public class FileSystemMasterClientService {
 
   }
 
-  public static class getStatusInternal_args implements org.apache.thrift.TBase<getStatusInternal_args, getStatusInternal_args._Fields>, java.io.Serializable, Cloneable, Comparable<getStatusInternal_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getStatusInternal_args");
+  public static class listStatus_args implements org.apache.thrift.TBase<listStatus_args, listStatus_args._Fields>, java.io.Serializable, Cloneable, Comparable<listStatus_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("listStatus_args");
 
-    private static final org.apache.thrift.protocol.TField FILE_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("fileId", org.apache.thrift.protocol.TType.I64, (short)1);
+    private static final org.apache.thrift.protocol.TField PATH_FIELD_DESC = new org.apache.thrift.protocol.TField("path", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField OPTIONS_FIELD_DESC = new org.apache.thrift.protocol.TField("options", org.apache.thrift.protocol.TType.STRUCT, (short)2);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new getStatusInternal_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new getStatusInternal_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new listStatus_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new listStatus_argsTupleSchemeFactory());
     }
 
-    private long fileId; // required
+    private String path; // required
+    private ListStatusTOptions options; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
       /**
-       * the id of the file or directory
+       * the path of the file or directory
        */
-      FILE_ID((short)1, "fileId");
+      PATH((short)1, "path"),
+      /**
+       * listStatus options
+       */
+      OPTIONS((short)2, "options");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -8151,8 +18440,10 @@ public class FileSystemMasterClientService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // FILE_ID
-            return FILE_ID;
+          case 1: // PATH
+            return PATH;
+          case 2: // OPTIONS
+            return OPTIONS;
           default:
             return null;
         }
@@ -8193,82 +18484,126 @@ public class FileSystemMasterClientService {
     }
 
     // isset id assignments
-    private static final int __FILEID_ISSET_ID = 0;
-    private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.FILE_ID, new org.apache.thrift.meta_data.FieldMetaData("fileId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+      tmpMap.put(_Fields.PATH, new org.apache.thrift.meta_data.FieldMetaData("path", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.OPTIONS, new org.apache.thrift.meta_data.FieldMetaData("options", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, ListStatusTOptions.class)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getStatusInternal_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(listStatus_args.class, metaDataMap);
+    }
+
+    public listStatus_args() {
+    }
+
+    public listStatus_args(
+      String path,
+      ListStatusTOptions options)
+    {
+      this();
+      this.path = path;
+      this.options = options;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public listStatus_args(listStatus_args other) {
+      if (other.isSetPath()) {
+        this.path = other.path;
+      }
+      if (other.isSetOptions()) {
+        this.options = new ListStatusTOptions(other.options);
+      }
     }
 
-    public getStatusInternal_args() {
+    public listStatus_args deepCopy() {
+      return new listStatus_args(this);
     }
 
-    public getStatusInternal_args(
-      long fileId)
-    {
-      this();
-      this.fileId = fileId;
-      setFileIdIsSet(true);
+    @Override
+    public void clear() {
+      this.path = null;
+      this.options = null;
     }
 
     /**
-     * Performs a deep copy on <i>other</i>.
+     * the path of the file or directory
      */
-    public getStatusInternal_args(getStatusInternal_args other) {
-      __isset_bitfield = other.__isset_bitfield;
-      this.fileId = other.fileId;
+    public String getPath() {
+      return this.path;
     }
 
-    public getStatusInternal_args deepCopy() {
-      return new getStatusInternal_args(this);
+    /**
+     * the path of the file or directory
+     */
+    public listStatus_args setPath(String path) {
+      this.path = path;
+      return this;
     }
 
-    @Override
-    public void clear() {
-      setFileIdIsSet(false);
-      this.fileId = 0;
+    public void unsetPath() {
+      this.path = null;
+    }
+
+    /** Returns true if field path is set (has been assigned a value) and false otherwise */
+    public boolean isSetPath() {
+      return this.path != null;
+    }
+
+    public void setPathIsSet(boolean value) {
+      if (!value) {
+        this.path = null;
+      }
     }
 
     /**
-     * the id of the file or directory
+     * listStatus options
      */
-    public long getFileId() {
-      return this.fileId;
+    public ListStatusTOptions getOptions() {
+      return this.options;
     }
 
     /**
-     * the id of the file or directory
+     * listStatus options
      */
-    public getStatusInternal_args setFileId(long fileId) {
-      this.fileId = fileId;
-      setFileIdIsSet(true);
+    public listStatus_args setOptions(ListStatusTOptions options) {
+      this.options = options;
       return this;
     }
 
-    public void unsetFileId() {
-      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __FILEID_ISSET_ID);
+    public void unsetOptions() {
+      this.options = null;
     }
 
-    /** Returns true if field fileId is set (has been assigned a value) and false otherwise */
-    public boolean isSetFileId() {
-      return EncodingUtils.testBit(__isset_bitfield, __FILEID_ISSET_ID);
+    /** Returns true if field options is set (has been assigned a value) and false otherwise */
+    public boolean isSetOptions() {
+      return this.options != null;
     }
 
-    public void setFileIdIsSet(boolean value) {
-      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __FILEID_ISSET_ID, value);
+    public void setOptionsIsSet(boolean value) {
+      if (!value) {
+        this.options = null;
+      }
     }
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
-      case FILE_ID:
+      case PATH:
         if (value == null) {
-          unsetFileId();
+          unsetPath();
         } else {
-          setFileId((Long)value);
+          setPath((String)value);
+        }
+        break;
+
+      case OPTIONS:
+        if (value == null) {
+          unsetOptions();
+        } else {
+          setOptions((ListStatusTOptions)value);
         }
         break;
 
@@ -8277,8 +18612,11 @@ public class FileSystemMasterClientService {
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
-      case FILE_ID:
-        return getFileId();
+      case PATH:
+        return getPath();
+
+      case OPTIONS:
+        return getOptions();
 
       }
       throw new IllegalStateException();
@@ -8291,8 +18629,10 @@ public class FileSystemMasterClientService {
       }
 
       switch (field) {
-      case FILE_ID:
-        return isSetFileId();
+      case PATH:
+        return isSetPath();
+      case OPTIONS:
+        return isSetOptions();
       }
       throw new IllegalStateException();
     }
@@ -8301,21 +18641,30 @@ public class FileSystemMasterClientService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof getStatusInternal_args)
-        return this.equals((getStatusInternal_args)that);
+      if (that instanceof listStatus_args)
+        return this.equals((listStatus_args)that);
       return false;
     }
 
-    public boolean equals(getStatusInternal_args that) {
+    public boolean equals(listStatus_args that) {
       if (that == null)
         return false;
 
-      boolean this_present_fileId = true;
-      boolean that_present_fileId = true;
-      if (this_present_fileId || that_present_fileId) {
-        if (!(this_present_fileId && that_present_fileId))
+      boolean this_present_path = true && this.isSetPath();
+      boolean that_present_path = true && that.isSetPath();
+      if (this_present_path || that_present_path) {
+        if (!(this_present_path && that_present_path))
           return false;
-        if (this.fileId != that.fileId)
+        if (!this.path.equals(that.path))
+          return false;
+      }
+
+      boolean this_present_options = true && this.isSetOptions();
+      boolean that_present_options = true && that.isSetOptions();
+      if (this_present_options || that_present_options) {
+        if (!(this_present_options && that_present_options))
+          return false;
+        if (!this.options.equals(that.options))
           return false;
       }
 
@@ -8326,28 +18675,43 @@ public class FileSystemMasterClientService {
     public int hashCode() {
       List<Object> list = new ArrayList<Object>();
 
-      boolean present_fileId = true;
-      list.add(present_fileId);
-      if (present_fileId)
-        list.add(fileId);
+      boolean present_path = true && (isSetPath());
+      list.add(present_path);
+      if (present_path)
+        list.add(path);
+
+      boolean present_options = true && (isSetOptions());
+      list.add(present_options);
+      if (present_options)
+        list.add(options);
 
       return list.hashCode();
     }
 
     @Override
-    public int compareTo(getStatusInternal_args other) {
+    public int compareTo(listStatus_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = Boolean.valueOf(isSetFileId()).compareTo(other.isSetFileId());
+      lastComparison = Boolean.valueOf(isSetPath()).compareTo(other.isSetPath());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetFileId()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.fileId, other.fileId);
+      if (isSetPath()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.path, other.path);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetOptions()).compareTo(other.isSetOptions());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetOptions()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.options, other.options);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -8369,11 +18733,23 @@ public class FileSystemMasterClientService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("getStatusInternal_args(");
+      StringBuilder sb = new StringBuilder("listStatus_args(");
       boolean first = true;
 
-      sb.append("fileId:");
-      sb.append(this.fileId);
+      sb.append("path:");
+      if (this.path == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.path);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("options:");
+      if (this.options == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.options);
+      }
       first = false;
       sb.append(")");
       return sb.toString();
@@ -8382,6 +18758,9 @@ public class FileSystemMasterClientService {
     public void validate() throws org.apache.thrift.TException {
       // check for required fields
       // check for sub-struct validity
+      if (options != null) {
+        options.validate();
+      }
     }
 
     private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
@@ -8394,23 +18773,21 @@ public class FileSystemMasterClientService {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
       try {
-        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
-        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class getStatusInternal_argsStandardSchemeFactory implements SchemeFactory {
-      public getStatusInternal_argsStandardScheme getScheme() {
-        return new getStatusInternal_argsStandardScheme();
+    private static class listStatus_argsStandardSchemeFactory implements SchemeFactory {
+      public listStatus_argsStandardScheme getScheme() {
+        return new listStatus_argsStandardScheme();
       }
     }
 
-    private static class getStatusInternal_argsStandardScheme extends StandardScheme<getStatusInternal_args> {
+    private static class listStatus_argsStandardScheme extends StandardScheme<listStatus_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getStatusInternal_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, listStatus_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -8420,10 +18797,19 @@ public class FileSystemMasterClientService {
             break;
           }
           switch (schemeField.id) {
-            case 1: // FILE_ID
-              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
-                struct.fileId = iprot.readI64();
-                struct.setFileIdIsSet(true);
+            case 1: // PATH
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.path = iprot.readString();
+                struct.setPathIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // OPTIONS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.options = new ListStatusTOptions();
+                struct.options.read(iprot);
+                struct.setOptionsIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -8439,66 +18825,84 @@ public class FileSystemMasterClientService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getStatusInternal_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, listStatus_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        oprot.writeFieldBegin(FILE_ID_FIELD_DESC);
-        oprot.writeI64(struct.fileId);
-        oprot.writeFieldEnd();
+        if (struct.path != null) {
+          oprot.writeFieldBegin(PATH_FIELD_DESC);
+          oprot.writeString(struct.path);
+          oprot.writeFieldEnd();
+        }
+        if (struct.options != null) {
+          oprot.writeFieldBegin(OPTIONS_FIELD_DESC);
+          struct.options.write(oprot);
+          oprot.writeFieldEnd();
+        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class getStatusInternal_argsTupleSchemeFactory implements SchemeFactory {
-      public getStatusInternal_argsTupleScheme getScheme() {
-        return new getStatusInternal_argsTupleScheme();
+    private static class listStatus_argsTupleSchemeFactory implements SchemeFactory {
+      public listStatus_argsTupleScheme getScheme() {
+        return new listStatus_argsTupleScheme();
       }
     }
 
-    private static class getStatusInternal_argsTupleScheme extends TupleScheme<getStatusInternal_args> {
+    private static class listStatus_argsTupleScheme extends TupleScheme<listStatus_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getStatusInternal_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, listStatus_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
-        if (struct.isSetFileId()) {
+        if (struct.isSetPath()) {
           optionals.set(0);
         }
-        oprot.writeBitSet(optionals, 1);
-        if (struct.isSetFileId()) {
-          oprot.writeI64(struct.fileId);
+        if (struct.isSetOptions()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetPath()) {
+          oprot.writeString(struct.path);
+        }
+        if (struct.isSetOptions()) {
+          struct.options.write(oprot);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getStatusInternal_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, listStatus_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(1);
+        BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.fileId = iprot.readI64();
-          struct.setFileIdIsSet(true);
+          struct.path = iprot.readString();
+          struct.setPathIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.options = new ListStatusTOptions();
+          struct.options.read(iprot);
+          struct.setOptionsIsSet(true);
         }
       }
     }
 
   }
 
-  public static class getStatusInternal_result implements org.apache.thrift.TBase<getStatusInternal_result, getStatusInternal_result._Fields>, java.io.Serializable, Cloneable, Comparable<getStatusInternal_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getStatusInternal_result");
+  public static class listStatus_result implements org.apache.thrift.TBase<listStatus_result, listStatus_result._Fields>, java.io.Serializable, Cloneable, Comparable<listStatus_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("listStatus_result");
 
-    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.LIST, (short)0);
     private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new getStatusInternal_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new getStatusInternal_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new listStatus_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new listStatus_resultTupleSchemeFactory());
     }
 
-    private FileInfo success; // required
+    private List<FileInfo> success; // required
     private alluxio.thrift.AlluxioTException e; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
@@ -8567,18 +18971,19 @@ public class FileSystemMasterClientService {
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, FileInfo.class)));
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, FileInfo.class))));
       tmpMap.put(_Fields.E, new org.apache.thrift.meta_data.FieldMetaData("e", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getStatusInternal_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(listStatus_result.class, metaDataMap);
     }
 
-    public getStatusInternal_result() {
+    public listStatus_result() {
     }
 
-    public getStatusInternal_result(
-      FileInfo success,
+    public listStatus_result(
+      List<FileInfo> success,
       alluxio.thrift.AlluxioTException e)
     {
       this();
@@ -8589,17 +18994,21 @@ public class FileSystemMasterClientService {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getStatusInternal_result(getStatusInternal_result other) {
+    public listStatus_result(listStatus_result other) {
       if (other.isSetSuccess()) {
-        this.success = new FileInfo(other.success);
+        List<FileInfo> __this__success = new ArrayList<FileInfo>(other.success.size());
+        for (FileInfo other_element : other.success) {
+          __this__success.add(new FileInfo(other_element));
+        }
+        this.success = __this__success;
       }
       if (other.isSetE()) {
         this.e = new alluxio.thrift.AlluxioTException(other.e);
       }
     }
 
-    public getStatusInternal_result deepCopy() {
-      return new getStatusInternal_result(this);
+    public listStatus_result deepCopy() {
+      return new listStatus_result(this);
     }
 
     @Override
@@ -8608,11 +19017,26 @@ public class FileSystemMasterClientService {
       this.e = null;
     }
 
-    public FileInfo getSuccess() {
+    public int getSuccessSize() {
+      return (this.success == null) ? 0 : this.success.size();
+    }
+
+    public java.util.Iterator<FileInfo> getSuccessIterator() {
+      return (this.success == null) ? null : this.success.iterator();
+    }
+
+    public void addToSuccess(FileInfo elem) {
+      if (this.success == null) {
+        this.success = new ArrayList<FileInfo>();
+      }
+      this.success.add(elem);
+    }
+
+    public List<FileInfo> getSuccess() {
       return this.success;
     }
 
-    public getStatusInternal_result setSuccess(FileInfo success) {
+    public listStatus_result setSuccess(List<FileInfo> success) {
       this.success = success;
       return this;
     }
@@ -8636,7 +19060,7 @@ public class FileSystemMasterClientService {
       return this.e;
     }
 
-    public getStatusInternal_result setE(alluxio.thrift.AlluxioTException e) {
+    public listStatus_result setE(alluxio.thrift.AlluxioTException e) {
       this.e = e;
       return this;
     }
@@ -8662,7 +19086,7 @@ public class FileSystemMasterClientService {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((FileInfo)value);
+          setSuccess((List<FileInfo>)value);
         }
         break;
 
@@ -8708,12 +19132,12 @@ public class FileSystemMasterClientService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof getStatusInternal_result)
-        return this.equals((getStatusInternal_result)that);
+      if (that instanceof listStatus_result)
+        return this.equals((listStatus_result)that);
       return false;
     }
 
-    public boolean equals(getStatusInternal_result that) {
+    public boolean equals(listStatus_result that) {
       if (that == null)
         return false;
 
@@ -8756,7 +19180,7 @@ public class FileSystemMasterClientService {
     }
 
     @Override
-    public int compareTo(getStatusInternal_result other) {
+    public int compareTo(listStatus_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -8800,7 +19224,7 @@ public class FileSystemMasterClientService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("getStatusInternal_result(");
+      StringBuilder sb = new StringBuilder("listStatus_result(");
       boolean first = true;
 
       sb.append("success:");
@@ -8825,9 +19249,6 @@ public class FileSystemMasterClientService {
     public void validate() throws org.apache.thrift.TException {
       // check for required fields
       // check for sub-struct validity
-      if (success != null) {
-        success.validate();
-      }
     }
 
     private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
@@ -8846,15 +19267,15 @@ public class FileSystemMasterClientService {
       }
     }
 
-    private static class getStatusInternal_resultStandardSchemeFactory implements SchemeFactory {
-      public getStatusInternal_resultStandardScheme getScheme() {
-        return new getStatusInternal_resultStandardScheme();
+    private static class listStatus_resultStandardSchemeFactory implements SchemeFactory {
+      public listStatus_resultStandardScheme getScheme() {
+        return new listStatus_resultStandardScheme();
       }
     }
 
-    private static class getStatusInternal_resultStandardScheme extends StandardScheme<getStatusInternal_result> {
+    private static class listStatus_resultStandardScheme extends StandardScheme<listStatus_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getStatusInternal_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, listStatus_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -8865,9 +19286,19 @@ public class FileSystemMasterClientService {
           }
           switch (schemeField.id) {
             case 0: // SUCCESS
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.success = new FileInfo();
-                struct.success.read(iprot);
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list66 = iprot.readListBegin();
+                  struct.success = new ArrayList<FileInfo>(_list66.size);
+                  FileInfo _elem67;
+                  for (int _i68 = 0; _i68 < _list66.size; ++_i68)
+                  {
+                    _elem67 = new FileInfo();
+                    _elem67.read(iprot);
+                    struct.success.add(_elem67);
+                  }
+                  iprot.readListEnd();
+                }
                 struct.setSuccessIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
@@ -8893,13 +19324,20 @@ public class FileSystemMasterClientService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getStatusInternal_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, listStatus_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
         if (struct.success != null) {
           oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-          struct.success.write(oprot);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.success.size()));
+            for (FileInfo _iter69 : struct.success)
+            {
+              _iter69.write(oprot);
+            }
+            oprot.writeListEnd();
+          }
           oprot.writeFieldEnd();
         }
         if (struct.e != null) {
@@ -8913,16 +19351,16 @@ public class FileSystemMasterClientService {
 
     }
 
-    private static class getStatusInternal_resultTupleSchemeFactory implements SchemeFactory {
-      public getStatusInternal_resultTupleScheme getScheme() {
-        return new getStatusInternal_resultTupleScheme();
+    private static class listStatus_resultTupleSchemeFactory implements SchemeFactory {
+      public listStatus_resultTupleScheme getScheme() {
+        return new listStatus_resultTupleScheme();
       }
     }
 
-    private static class getStatusInternal_resultTupleScheme extends TupleScheme<getStatusInternal_result> {
+    private static class listStatus_resultTupleScheme extends TupleScheme<listStatus_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getStatusInternal_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, listStatus_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSuccess()) {
@@ -8933,7 +19371,13 @@ public class FileSystemMasterClientService {
         }
         oprot.writeBitSet(optionals, 2);
         if (struct.isSetSuccess()) {
-          struct.success.write(oprot);
+          {
+            oprot.writeI32(struct.success.size());
+            for (FileInfo _iter70 : struct.success)
+            {
+              _iter70.write(oprot);
+            }
+          }
         }
         if (struct.isSetE()) {
           struct.e.write(oprot);
@@ -8941,12 +19385,21 @@ public class FileSystemMasterClientService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getStatusInternal_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, listStatus_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.success = new FileInfo();
-          struct.success.read(iprot);
+          {
+            org.apache.thrift.protocol.TList _list71 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.success = new ArrayList<FileInfo>(_list71.size);
+            FileInfo _elem72;
+            for (int _i73 = 0; _i73 < _list71.size; ++_i73)
+            {
+              _elem72 = new FileInfo();
+              _elem72.read(iprot);
+              struct.success.add(_elem72);
+            }
+          }
           struct.setSuccessIsSet(true);
         }
         if (incoming.get(1)) {
@@ -8959,25 +19412,31 @@ public class FileSystemMasterClientService {
 
   }
 
-  public static class getNewBlockIdForFile_args implements org.apache.thrift.TBase<getNewBlockIdForFile_args, getNewBlockIdForFile_args._Fields>, java.io.Serializable, Cloneable, Comparable<getNewBlockIdForFile_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getNewBlockIdForFile_args");
+  public static class loadMetadata_args implements org.apache.thrift.TBase<loadMetadata_args, loadMetadata_args._Fields>, java.io.Serializable, Cloneable, Comparable<loadMetadata_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("loadMetadata_args");
 
-    private static final org.apache.thrift.protocol.TField PATH_FIELD_DESC = new org.apache.thrift.protocol.TField("path", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField UFS_PATH_FIELD_DESC = new org.apache.thrift.protocol.TField("ufsPath", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField RECURSIVE_FIELD_DESC = new org.apache.thrift.protocol.TField("recursive", org.apache.thrift.protocol.TType.BOOL, (short)2);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new getNewBlockIdForFile_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new getNewBlockIdForFile_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new loadMetadata_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new loadMetadata_argsTupleSchemeFactory());
     }
 
-    private String path; // required
+    private String ufsPath; // required
+    private boolean recursive; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
       /**
-       * the path of the file
+       * the path of the under file system
        */
-      PATH((short)1, "path");
+      UFS_PATH((short)1, "ufsPath"),
+      /**
+       * whether to load meta data recursively
+       */
+      RECURSIVE((short)2, "recursive");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -8992,8 +19451,10 @@ public class FileSystemMasterClientService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // PATH
-            return PATH;
+          case 1: // UFS_PATH
+            return UFS_PATH;
+          case 2: // RECURSIVE
+            return RECURSIVE;
           default:
             return null;
         }
@@ -9034,80 +19495,128 @@ public class FileSystemMasterClientService {
     }
 
     // isset id assignments
+    private static final int __RECURSIVE_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.PATH, new org.apache.thrift.meta_data.FieldMetaData("path", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+      tmpMap.put(_Fields.UFS_PATH, new org.apache.thrift.meta_data.FieldMetaData("ufsPath", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.RECURSIVE, new org.apache.thrift.meta_data.FieldMetaData("recursive", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.BOOL)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getNewBlockIdForFile_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(loadMetadata_args.class, metaDataMap);
     }
 
-    public getNewBlockIdForFile_args() {
+    public loadMetadata_args() {
     }
 
-    public getNewBlockIdForFile_args(
-      String path)
+    public loadMetadata_args(
+      String ufsPath,
+      boolean recursive)
     {
       this();
-      this.path = path;
+      this.ufsPath = ufsPath;
+      this.recursive = recursive;
+      setRecursiveIsSet(true);
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getNewBlockIdForFile_args(getNewBlockIdForFile_args other) {
-      if (other.isSetPath()) {
-        this.path = other.path;
+    public loadMetadata_args(loadMetadata_args other) {
+      __isset_bitfield = other.__isset_bitfield;
+      if (other.isSetUfsPath()) {
+        this.ufsPath = other.ufsPath;
       }
+      this.recursive = other.recursive;
     }
 
-    public getNewBlockIdForFile_args deepCopy() {
-      return new getNewBlockIdForFile_args(this);
+    public loadMetadata_args deepCopy() {
+      return new loadMetadata_args(this);
     }
 
     @Override
     public void clear() {
-      this.path = null;
+      this.ufsPath = null;
+      setRecursiveIsSet(false);
+      this.recursive = false;
     }
 
     /**
-     * the path of the file
+     * the path of the under file system
      */
-    public String getPath() {
-      return this.path;
+    public String getUfsPath() {
+      return this.ufsPath;
     }
 
     /**
-     * the path of the file
+     * the path of the under file system
      */
-    public getNewBlockIdForFile_args setPath(String path) {
-      this.path = path;
+    public loadMetadata_args setUfsPath(String ufsPath) {
+      this.ufsPath = ufsPath;
       return this;
     }
 
-    public void unsetPath() {
-      this.path = null;
+    public void unsetUfsPath() {
+      this.ufsPath = null;
     }
 
-    /** Returns true if field path is set (has been assigned a value) and false otherwise */
-    public boolean isSetPath() {
-      return this.path != null;
+    /** Returns true if field ufsPath is set (has been assigned a value) and false otherwise */
+    public boolean isSetUfsPath() {
+      return this.ufsPath != null;
+    }
+
+    public void setUfsPathIsSet(boolean value) {
+      if (!value) {
+        this.ufsPath = null;
+      }
+    }
+
+    /**
+     * whether to load meta data recursively
+     */
+    public boolean isRecursive() {
+      return this.recursive;
+    }
+
+    /**
+     * whether to load meta data recursively
+     */
+    public loadMetadata_args setRecursive(boolean recursive) {
+      this.recursive = recursive;
+      setRecursiveIsSet(true);
+      return this;
+    }
+
+    public void unsetRecursive() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __RECURSIVE_ISSET_ID);
     }
 
-    public void setPathIsSet(boolean value) {
-      if (!value) {
-        this.path = null;
-      }
+    /** Returns true if field recursive is set (has been assigned a value) and false otherwise */
+    public boolean isSetRecursive() {
+      return EncodingUtils.testBit(__isset_bitfield, __RECURSIVE_ISSET_ID);
+    }
+
+    public void setRecursiveIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __RECURSIVE_ISSET_ID, value);
     }
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
-      case PATH:
+      case UFS_PATH:
         if (value == null) {
-          unsetPath();
+          unsetUfsPath();
         } else {
-          setPath((String)value);
+          setUfsPath((String)value);
+        }
+        break;
+
+      case RECURSIVE:
+        if (value == null) {
+          unsetRecursive();
+        } else {
+          setRecursive((Boolean)value);
         }
         break;
 
@@ -9116,8 +19625,11 @@ public class FileSystemMasterClientService {
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
-      case PATH:
-        return getPath();
+      case UFS_PATH:
+        return getUfsPath();
+
+      case RECURSIVE:
+        return isRecursive();
 
       }
       throw new IllegalStateException();
@@ -9130,8 +19642,10 @@ public class FileSystemMasterClientService {
       }
 
       switch (field) {
-      case PATH:
-        return isSetPath();
+      case UFS_PATH:
+        return isSetUfsPath();
+      case RECURSIVE:
+        return isSetRecursive();
       }
       throw new IllegalStateException();
     }
@@ -9140,21 +19654,30 @@ public class FileSystemMasterClientService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof getNewBlockIdForFile_args)
-        return this.equals((getNewBlockIdForFile_args)that);
+      if (that instanceof loadMetadata_args)
+        return this.equals((loadMetadata_args)that);
       return false;
     }
 
-    public boolean equals(getNewBlockIdForFile_args that) {
+    public boolean equals(loadMetadata_args that) {
       if (that == null)
         return false;
 
-      boolean this_present_path = true && this.isSetPath();
-      boolean that_present_path = true && that.isSetPath();
-      if (this_present_path || that_present_path) {
-        if (!(this_present_path && that_present_path))
+      boolean this_present_ufsPath = true && this.isSetUfsPath();
+      boolean that_present_ufsPath = true && that.isSetUfsPath();
+      if (this_present_ufsPath || that_present_ufsPath) {
+        if (!(this_present_ufsPath && that_present_ufsPath))
           return false;
-        if (!this.path.equals(that.path))
+        if (!this.ufsPath.equals(that.ufsPath))
+          return false;
+      }
+
+      boolean this_present_recursive = true;
+      boolean that_present_recursive = true;
+      if (this_present_recursive || that_present_recursive) {
+        if (!(this_present_recursive && that_present_recursive))
+          return false;
+        if (this.recursive != that.recursive)
           return false;
       }
 
@@ -9165,28 +19688,43 @@ public class FileSystemMasterClientService {
     public int hashCode() {
       List<Object> list = new ArrayList<Object>();
 
-      boolean present_path = true && (isSetPath());
-      list.add(present_path);
-      if (present_path)
-        list.add(path);
+      boolean present_ufsPath = true && (isSetUfsPath());
+      list.add(present_ufsPath);
+      if (present_ufsPath)
+        list.add(ufsPath);
+
+      boolean present_recursive = true;
+      list.add(present_recursive);
+      if (present_recursive)
+        list.add(recursive);
 
       return list.hashCode();
     }
 
     @Override
-    public int compareTo(getNewBlockIdForFile_args other) {
+    public int compareTo(loadMetadata_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = Boolean.valueOf(isSetPath()).compareTo(other.isSetPath());
+      lastComparison = Boolean.valueOf(isSetUfsPath()).compareTo(other.isSetUfsPath());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetPath()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.path, other.path);
+      if (isSetUfsPath()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.ufsPath, other.ufsPath);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetRecursive()).compareTo(other.isSetRecursive());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetRecursive()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.recursive, other.recursive);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -9208,16 +19746,20 @@ public class FileSystemMasterClientService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("getNewBlockIdForFile_args(");
+      StringBuilder sb = new StringBuilder("loadMetadata_args(");
       boolean first = true;
 
-      sb.append("path:");
-      if (this.path == null) {
+      sb.append("ufsPath:");
+      if (this.ufsPath == null) {
         sb.append("null");
       } else {
-        sb.append(this.path);
+        sb.append(this.ufsPath);
       }
       first = false;
+      if (!first) sb.append(", ");
+      sb.append("recursive:");
+      sb.append(this.recursive);
+      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -9237,21 +19779,23 @@ public class FileSystemMasterClientService {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
       try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class getNewBlockIdForFile_argsStandardSchemeFactory implements SchemeFactory {
-      public getNewBlockIdForFile_argsStandardScheme getScheme() {
-        return new getNewBlockIdForFile_argsStandardScheme();
+    private static class loadMetadata_argsStandardSchemeFactory implements SchemeFactory {
+      public loadMetadata_argsStandardScheme getScheme() {
+        return new loadMetadata_argsStandardScheme();
       }
     }
 
-    private static class getNewBlockIdForFile_argsStandardScheme extends StandardScheme<getNewBlockIdForFile_args> {
+    private static class loadMetadata_argsStandardScheme extends StandardScheme<loadMetadata_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getNewBlockIdForFile_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, loadMetadata_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -9261,10 +19805,18 @@ public class FileSystemMasterClientService {
             break;
           }
           switch (schemeField.id) {
-            case 1: // PATH
+            case 1: // UFS_PATH
               if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.path = iprot.readString();
-                struct.setPathIsSet(true);
+                struct.ufsPath = iprot.readString();
+                struct.setUfsPathIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // RECURSIVE
+              if (schemeField.type == org.apache.thrift.protocol.TType.BOOL) {
+                struct.recursive = iprot.readBool();
+                struct.setRecursiveIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -9280,74 +19832,90 @@ public class FileSystemMasterClientService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getNewBlockIdForFile_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, loadMetadata_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.path != null) {
-          oprot.writeFieldBegin(PATH_FIELD_DESC);
-          oprot.writeString(struct.path);
+        if (struct.ufsPath != null) {
+          oprot.writeFieldBegin(UFS_PATH_FIELD_DESC);
+          oprot.writeString(struct.ufsPath);
           oprot.writeFieldEnd();
         }
+        oprot.writeFieldBegin(RECURSIVE_FIELD_DESC);
+        oprot.writeBool(struct.recursive);
+        oprot.writeFieldEnd();
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class getNewBlockIdForFile_argsTupleSchemeFactory implements SchemeFactory {
-      public getNewBlockIdForFile_argsTupleScheme getScheme() {
-        return new getNewBlockIdForFile_argsTupleScheme();
+    private static class loadMetadata_argsTupleSchemeFactory implements SchemeFactory {
+      public loadMetadata_argsTupleScheme getScheme() {
+        return new loadMetadata_argsTupleScheme();
       }
     }
 
-    private static class getNewBlockIdForFile_argsTupleScheme extends TupleScheme<getNewBlockIdForFile_args> {
+    private static class loadMetadata_argsTupleScheme extends TupleScheme<loadMetadata_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getNewBlockIdForFile_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, loadMetadata_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
-        if (struct.isSetPath()) {
+        if (struct.isSetUfsPath()) {
           optionals.set(0);
         }
-        oprot.writeBitSet(optionals, 1);
-        if (struct.isSetPath()) {
-          oprot.writeString(struct.path);
+        if (struct.isSetRecursive()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetUfsPath()) {
+          oprot.writeString(struct.ufsPath);
+        }
+        if (struct.isSetRecursive()) {
+          oprot.writeBool(struct.recursive);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getNewBlockIdForFile_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, loadMetadata_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(1);
+        BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.path = iprot.readString();
-          struct.setPathIsSet(true);
+          struct.ufsPath = iprot.readString();
+          struct.setUfsPathIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.recursive = iprot.readBool();
+          struct.setRecursiveIsSet(true);
         }
       }
     }
 
   }
 
-  public static class getNewBlockIdForFile_result implements org.apache.thrift.TBase<getNewBlockIdForFile_result, getNewBlockIdForFile_result._Fields>, java.io.Serializable, Cloneable, Comparable<getNewBlockIdForFile_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getNewBlockIdForFile_result");
+  public static class loadMetadata_result implements org.apache.thrift.TBase<loadMetadata_result, loadMetadata_result._Fields>, java.io.Serializable, Cloneable, Comparable<loadMetadata_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("loadMetadata_result");
 
     private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.I64, (short)0);
     private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+    private static final org.apache.thrift.protocol.TField IOE_FIELD_DESC = new org.apache.thrift.protocol.TField("ioe", org.apache.thrift.protocol.TType.STRUCT, (short)2);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new getNewBlockIdForFile_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new getNewBlockIdForFile_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new loadMetadata_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new loadMetadata_resultTupleSchemeFactory());
     }
 
     private long success; // required
     private alluxio.thrift.AlluxioTException e; // required
+    private alluxio.thrift.ThriftIOException ioe; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
       SUCCESS((short)0, "success"),
-      E((short)1, "e");
+      E((short)1, "e"),
+      IOE((short)2, "ioe");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -9366,6 +19934,8 @@ public class FileSystemMasterClientService {
             return SUCCESS;
           case 1: // E
             return E;
+          case 2: // IOE
+            return IOE;
           default:
             return null;
         }
@@ -9415,36 +19985,43 @@ public class FileSystemMasterClientService {
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
       tmpMap.put(_Fields.E, new org.apache.thrift.meta_data.FieldMetaData("e", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      tmpMap.put(_Fields.IOE, new org.apache.thrift.meta_data.FieldMetaData("ioe", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getNewBlockIdForFile_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(loadMetadata_result.class, metaDataMap);
     }
 
-    public getNewBlockIdForFile_result() {
+    public loadMetadata_result() {
     }
 
-    public getNewBlockIdForFile_result(
+    public loadMetadata_result(
       long success,
-      alluxio.thrift.AlluxioTException e)
+      alluxio.thrift.AlluxioTException e,
+      alluxio.thrift.ThriftIOException ioe)
     {
       this();
       this.success = success;
       setSuccessIsSet(true);
       this.e = e;
+      this.ioe = ioe;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getNewBlockIdForFile_result(getNewBlockIdForFile_result other) {
+    public loadMetadata_result(loadMetadata_result other) {
       __isset_bitfield = other.__isset_bitfield;
       this.success = other.success;
       if (other.isSetE()) {
         this.e = new alluxio.thrift.AlluxioTException(other.e);
       }
+      if (other.isSetIoe()) {
+        this.ioe = new alluxio.thrift.ThriftIOException(other.ioe);
+      }
     }
 
-    public getNewBlockIdForFile_result deepCopy() {
-      return new getNewBlockIdForFile_result(this);
+    public loadMetadata_result deepCopy() {
+      return new loadMetadata_result(this);
     }
 
     @Override
@@ -9452,13 +20029,14 @@ public class FileSystemMasterClientService {
       setSuccessIsSet(false);
       this.success = 0;
       this.e = null;
+      this.ioe = null;
     }
 
     public long getSuccess() {
       return this.success;
     }
 
-    public getNewBlockIdForFile_result setSuccess(long success) {
+    public loadMetadata_result setSuccess(long success) {
       this.success = success;
       setSuccessIsSet(true);
       return this;
@@ -9481,7 +20059,7 @@ public class FileSystemMasterClientService {
       return this.e;
     }
 
-    public getNewBlockIdForFile_result setE(alluxio.thrift.AlluxioTException e) {
+    public loadMetadata_result setE(alluxio.thrift.AlluxioTException e) {
       this.e = e;
       return this;
     }
@@ -9501,6 +20079,30 @@ public class FileSystemMasterClientService {
       }
     }
 
+    public alluxio.thrift.ThriftIOException getIoe() {
+      return this.ioe;
+    }
+
+    public loadMetadata_result setIoe(alluxio.thrift.ThriftIOException ioe) {
+      this.ioe = ioe;
+      return this;
+    }
+
+    public void unsetIoe() {
+      this.ioe = null;
+    }
+
+    /** Returns true if field ioe is set (has been assigned a value) and false otherwise */
+    public boolean isSetIoe() {
+      return this.ioe != null;
+    }
+
+    public void setIoeIsSet(boolean value) {
+      if (!value) {
+        this.ioe = null;
+      }
+    }
+
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
       case SUCCESS:
@@ -9519,6 +20121,14 @@ public class FileSystemMasterClientService {
         }
         break;
 
+      case IOE:
+        if (value == null) {
+          unsetIoe();
+        } else {
+          setIoe((alluxio.thrift.ThriftIOException)value);
+        }
+        break;
+
       }
     }
 
@@ -9530,6 +20140,9 @@ public class FileSystemMasterClientService {
       case E:
         return getE();
 
+      case IOE:
+        return getIoe();
+
       }
       throw new IllegalStateException();
     }
@@ -9545,6 +20158,8 @@ public class FileSystemMasterClientService {
         return isSetSuccess();
       case E:
         return isSetE();
+      case IOE:
+        return isSetIoe();
       }
       throw new IllegalStateException();
     }
@@ -9553,12 +20168,12 @@ public class FileSystemMasterClientService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof getNewBlockIdForFile_result)
-        return this.equals((getNewBlockIdForFile_result)that);
+      if (that instanceof loadMetadata_result)
+        return this.equals((loadMetadata_result)that);
       return false;
     }
 
-    public boolean equals(getNewBlockIdForFile_result that) {
+    public boolean equals(loadMetadata_result that) {
       if (that == null)
         return false;
 
@@ -9580,6 +20195,15 @@ public class FileSystemMasterClientService {
           return false;
       }
 
+      boolean this_present_ioe = true && this.isSetIoe();
+      boolean that_present_ioe = true && that.isSetIoe();
+      if (this_present_ioe || that_present_ioe) {
+        if (!(this_present_ioe && that_present_ioe))
+          return false;
+        if (!this.ioe.equals(that.ioe))
+          return false;
+      }
+
       return true;
     }
 
@@ -9597,11 +20221,16 @@ public class FileSystemMasterClientService {
       if (present_e)
         list.add(e);
 
+      boolean present_ioe = true && (isSetIoe());
+      list.add(present_ioe);
+      if (present_ioe)
+        list.add(ioe);
+
       return list.hashCode();
     }
 
     @Override
-    public int compareTo(getNewBlockIdForFile_result other) {
+    public int compareTo(loadMetadata_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -9628,6 +20257,16 @@ public class FileSystemMasterClientService {
           return lastComparison;
         }
       }
+      lastComparison = Boolean.valueOf(isSetIoe()).compareTo(other.isSetIoe());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetIoe()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.ioe, other.ioe);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
       return 0;
     }
 
@@ -9645,7 +20284,7 @@ public class FileSystemMasterClientService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("getNewBlockIdForFile_result(");
+      StringBuilder sb = new StringBuilder("loadMetadata_result(");
       boolean first = true;
 
       sb.append("success:");
@@ -9659,6 +20298,14 @@ public class FileSystemMasterClientService {
         sb.append(this.e);
       }
       first = false;
+      if (!first) sb.append(", ");
+      sb.append("ioe:");
+      if (this.ioe == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.ioe);
+      }
+      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -9686,15 +20333,15 @@ public class FileSystemMasterClientService {
       }
     }
 
-    private static class getNewBlockIdForFile_resultStandardSchemeFactory implements SchemeFactory {
-      public getNewBlockIdForFile_resultStandardScheme getScheme() {
-        return new getNewBlockIdForFile_resultStandardScheme();
+    private static class loadMetadata_resultStandardSchemeFactory implements SchemeFactory {
+      public loadMetadata_resultStandardScheme getScheme() {
+        return new loadMetadata_resultStandardScheme();
       }
     }
 
-    private static class getNewBlockIdForFile_resultStandardScheme extends StandardScheme<getNewBlockIdForFile_result> {
+    private static class loadMetadata_resultStandardScheme extends StandardScheme<loadMetadata_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getNewBlockIdForFile_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, loadMetadata_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -9721,6 +20368,15 @@ public class FileSystemMasterClientService {
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
+            case 2: // IOE
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.ioe = new alluxio.thrift.ThriftIOException();
+                struct.ioe.read(iprot);
+                struct.setIoeIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -9732,7 +20388,7 @@ public class FileSystemMasterClientService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getNewBlockIdForFile_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, loadMetadata_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -9746,22 +20402,27 @@ public class FileSystemMasterClientService {
           struct.e.write(oprot);
           oprot.writeFieldEnd();
         }
+        if (struct.ioe != null) {
+          oprot.writeFieldBegin(IOE_FIELD_DESC);
+          struct.ioe.write(oprot);
+          oprot.writeFieldEnd();
+        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class getNewBlockIdForFile_resultTupleSchemeFactory implements SchemeFactory {
-      public getNewBlockIdForFile_resultTupleScheme getScheme() {
-        return new getNewBlockIdForFile_resultTupleScheme();
+    private static class loadMetadata_resultTupleSchemeFactory implements SchemeFactory {
+      public loadMetadata_resultTupleScheme getScheme() {
+        return new loadMetadata_resultTupleScheme();
       }
     }
 
-    private static class getNewBlockIdForFile_resultTupleScheme extends TupleScheme<getNewBlockIdForFile_result> {
+    private static class loadMetadata_resultTupleScheme extends TupleScheme<loadMetadata_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getNewBlockIdForFile_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, loadMetadata_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSuccess()) {
@@ -9770,19 +20431,25 @@ public class FileSystemMasterClientService {
         if (struct.isSetE()) {
           optionals.set(1);
         }
-        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetIoe()) {
+          optionals.set(2);
+        }
+        oprot.writeBitSet(optionals, 3);
         if (struct.isSetSuccess()) {
           oprot.writeI64(struct.success);
         }
         if (struct.isSetE()) {
           struct.e.write(oprot);
         }
+        if (struct.isSetIoe()) {
+          struct.ioe.write(oprot);
+        }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getNewBlockIdForFile_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, loadMetadata_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(2);
+        BitSet incoming = iprot.readBitSet(3);
         if (incoming.get(0)) {
           struct.success = iprot.readI64();
           struct.setSuccessIsSet(true);
@@ -9792,25 +20459,47 @@ public class FileSystemMasterClientService {
           struct.e.read(iprot);
           struct.setEIsSet(true);
         }
+        if (incoming.get(2)) {
+          struct.ioe = new alluxio.thrift.ThriftIOException();
+          struct.ioe.read(iprot);
+          struct.setIoeIsSet(true);
+        }
       }
     }
 
   }
 
-  public static class getUfsAddress_args implements org.apache.thrift.TBase<getUfsAddress_args, getUfsAddress_args._Fields>, java.io.Serializable, Cloneable, Comparable<getUfsAddress_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getUfsAddress_args");
+  public static class mount_args implements org.apache.thrift.TBase<mount_args, mount_args._Fields>, java.io.Serializable, Cloneable, Comparable<mount_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("mount_args");
 
+    private static final org.apache.thrift.protocol.TField ALLUXIO_PATH_FIELD_DESC = new org.apache.thrift.protocol.TField("alluxioPath", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField UFS_PATH_FIELD_DESC = new org.apache.thrift.protocol.TField("ufsPath", org.apache.thrift.protocol.TType.STRING, (short)2);
+    private static final org.apache.thrift.protocol.TField OPTIONS_FIELD_DESC = new org.apache.thrift.protocol.TField("options", org.apache.thrift.protocol.TType.STRUCT, (short)3);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new getUfsAddress_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new getUfsAddress_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new mount_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new mount_argsTupleSchemeFactory());
     }
 
+    private String alluxioPath; // required
+    private String ufsPath; // required
+    private MountTOptions options; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-;
+      /**
+       * the path of alluxio mount point
+       */
+      ALLUXIO_PATH((short)1, "alluxioPath"),
+      /**
+       * the path of the under file system
+       */
+      UFS_PATH((short)2, "ufsPath"),
+      /**
+       * the options for creating the mount point
+       */
+      OPTIONS((short)3, "options");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -9825,6 +20514,12 @@ public class FileSystemMasterClientService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
+          case 1: // ALLUXIO_PATH
+            return ALLUXIO_PATH;
+          case 2: // UFS_PATH
+            return UFS_PATH;
+          case 3: // OPTIONS
+            return OPTIONS;
           default:
             return null;
         }
@@ -9863,37 +20558,191 @@ public class FileSystemMasterClientService {
         return _fieldName;
       }
     }
+
+    // isset id assignments
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.ALLUXIO_PATH, new org.apache.thrift.meta_data.FieldMetaData("alluxioPath", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.UFS_PATH, new org.apache.thrift.meta_data.FieldMetaData("ufsPath", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.OPTIONS, new org.apache.thrift.meta_data.FieldMetaData("options", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, MountTOptions.class)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getUfsAddress_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(mount_args.class, metaDataMap);
     }
 
-    public getUfsAddress_args() {
+    public mount_args() {
+    }
+
+    public mount_args(
+      String alluxioPath,
+      String ufsPath,
+      MountTOptions options)
+    {
+      this();
+      this.alluxioPath = alluxioPath;
+      this.ufsPath = ufsPath;
+      this.options = options;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getUfsAddress_args(getUfsAddress_args other) {
+    public mount_args(mount_args other) {
+      if (other.isSetAlluxioPath()) {
+        this.alluxioPath = other.alluxioPath;
+      }
+      if (other.isSetUfsPath()) {
+        this.ufsPath = other.ufsPath;
+      }
+      if (other.isSetOptions()) {
+        this.options = new MountTOptions(other.options);
+      }
     }
 
-    public getUfsAddress_args deepCopy() {
-      return new getUfsAddress_args(this);
+    public mount_args deepCopy() {
+      return new mount_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.alluxioPath = null;
+      this.ufsPath = null;
+      this.options = null;
+    }
+
+    /**
+     * the path of alluxio mount point
+     */
+    public String getAlluxioPath() {
+      return this.alluxioPath;
+    }
+
+    /**
+     * the path of alluxio mount point
+     */
+    public mount_args setAlluxioPath(String alluxioPath) {
+      this.alluxioPath = alluxioPath;
+      return this;
+    }
+
+    public void unsetAlluxioPath() {
+      this.alluxioPath = null;
+    }
+
+    /** Returns true if field alluxioPath is set (has been assigned a value) and false otherwise */
+    public boolean isSetAlluxioPath() {
+      return this.alluxioPath != null;
+    }
+
+    public void setAlluxioPathIsSet(boolean value) {
+      if (!value) {
+        this.alluxioPath = null;
+      }
+    }
+
+    /**
+     * the path of the under file system
+     */
+    public String getUfsPath() {
+      return this.ufsPath;
+    }
+
+    /**
+     * the path of the under file system
+     */
+    public mount_args setUfsPath(String ufsPath) {
+      this.ufsPath = ufsPath;
+      return this;
+    }
+
+    public void unsetUfsPath() {
+      this.ufsPath = null;
+    }
+
+    /** Returns true if field ufsPath is set (has been assigned a value) and false otherwise */
+    public boolean isSetUfsPath() {
+      return this.ufsPath != null;
+    }
+
+    public void setUfsPathIsSet(boolean value) {
+      if (!value) {
+        this.ufsPath = null;
+      }
+    }
+
+    /**
+     * the options for creating the mount point
+     */
+    public MountTOptions getOptions() {
+      return this.options;
+    }
+
+    /**
+     * the options for creating the mount point
+     */
+    public mount_args setOptions(MountTOptions options) {
+      this.options = options;
+      return this;
+    }
+
+    public void unsetOptions() {
+      this.options = null;
+    }
+
+    /** Returns true if field options is set (has been assigned a value) and false otherwise */
+    public boolean isSetOptions() {
+      return this.options != null;
     }
 
-    @Override
-    public void clear() {
+    public void setOptionsIsSet(boolean value) {
+      if (!value) {
+        this.options = null;
+      }
     }
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
+      case ALLUXIO_PATH:
+        if (value == null) {
+          unsetAlluxioPath();
+        } else {
+          setAlluxioPath((String)value);
+        }
+        break;
+
+      case UFS_PATH:
+        if (value == null) {
+          unsetUfsPath();
+        } else {
+          setUfsPath((String)value);
+        }
+        break;
+
+      case OPTIONS:
+        if (value == null) {
+          unsetOptions();
+        } else {
+          setOptions((MountTOptions)value);
+        }
+        break;
+
       }
     }
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
+      case ALLUXIO_PATH:
+        return getAlluxioPath();
+
+      case UFS_PATH:
+        return getUfsPath();
+
+      case OPTIONS:
+        return getOptions();
+
       }
       throw new IllegalStateException();
     }
@@ -9905,6 +20754,12 @@ public class FileSystemMasterClientService {
       }
 
       switch (field) {
+      case ALLUXIO_PATH:
+        return isSetAlluxioPath();
+      case UFS_PATH:
+        return isSetUfsPath();
+      case OPTIONS:
+        return isSetOptions();
       }
       throw new IllegalStateException();
     }
@@ -9913,15 +20768,42 @@ public class FileSystemMasterClientService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof getUfsAddress_args)
-        return this.equals((getUfsAddress_args)that);
+      if (that instanceof mount_args)
+        return this.equals((mount_args)that);
       return false;
     }
 
-    public boolean equals(getUfsAddress_args that) {
+    public boolean equals(mount_args that) {
       if (that == null)
         return false;
 
+      boolean this_present_alluxioPath = true && this.isSetAlluxioPath();
+      boolean that_present_alluxioPath = true && that.isSetAlluxioPath();
+      if (this_present_alluxioPath || that_present_alluxioPath) {
+        if (!(this_present_alluxioPath && that_present_alluxioPath))
+          return false;
+        if (!this.alluxioPath.equals(that.alluxioPath))
+          return false;
+      }
+
+      boolean this_present_ufsPath = true && this.isSetUfsPath();
+      boolean that_present_ufsPath = true && that.isSetUfsPath();
+      if (this_present_ufsPath || that_present_ufsPath) {
+        if (!(this_present_ufsPath && that_present_ufsPath))
+          return false;
+        if (!this.ufsPath.equals(that.ufsPath))
+          return false;
+      }
+
+      boolean this_present_options = true && this.isSetOptions();
+      boolean that_present_options = true && that.isSetOptions();
+      if (this_present_options || that_present_options) {
+        if (!(this_present_options && that_present_options))
+          return false;
+        if (!this.options.equals(that.options))
+          return false;
+      }
+
       return true;
     }
 
@@ -9929,17 +20811,62 @@ public class FileSystemMasterClientService {
     public int hashCode() {
       List<Object> list = new ArrayList<Object>();
 
+      boolean present_alluxioPath = true && (isSetAlluxioPath());
+      list.add(present_alluxioPath);
+      if (present_alluxioPath)
+        list.add(alluxioPath);
+
+      boolean present_ufsPath = true && (isSetUfsPath());
+      list.add(present_ufsPath);
+      if (present_ufsPath)
+        list.add(ufsPath);
+
+      boolean present_options = true && (isSetOptions());
+      list.add(present_options);
+      if (present_options)
+        list.add(options);
+
       return list.hashCode();
     }
 
     @Override
-    public int compareTo(getUfsAddress_args other) {
+    public int compareTo(mount_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
+      lastComparison = Boolean.valueOf(isSetAlluxioPath()).compareTo(other.isSetAlluxioPath());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetAlluxioPath()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.alluxioPath, other.alluxioPath);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetUfsPath()).compareTo(other.isSetUfsPath());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetUfsPath()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.ufsPath, other.ufsPath);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetOptions()).compareTo(other.isSetOptions());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetOptions()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.options, other.options);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
       return 0;
     }
 
@@ -9957,9 +20884,32 @@ public class FileSystemMasterClientService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("getUfsAddress_args(");
+      StringBuilder sb = new StringBuilder("mount_args(");
       boolean first = true;
 
+      sb.append("alluxioPath:");
+      if (this.alluxioPath == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.alluxioPath);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("ufsPath:");
+      if (this.ufsPath == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.ufsPath);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("options:");
+      if (this.options == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.options);
+      }
+      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -9967,6 +20917,9 @@ public class FileSystemMasterClientService {
     public void validate() throws org.apache.thrift.TException {
       // check for required fields
       // check for sub-struct validity
+      if (options != null) {
+        options.validate();
+      }
     }
 
     private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
@@ -9985,15 +20938,15 @@ public class FileSystemMasterClientService {
       }
     }
 
-    private static class getUfsAddress_argsStandardSchemeFactory implements SchemeFactory {
-      public getUfsAddress_argsStandardScheme getScheme() {
-        return new getUfsAddress_argsStandardScheme();
+    private static class mount_argsStandardSchemeFactory implements SchemeFactory {
+      public mount_argsStandardScheme getScheme() {
+        return new mount_argsStandardScheme();
       }
     }
 
-    private static class getUfsAddress_argsStandardScheme extends StandardScheme<getUfsAddress_args> {
+    private static class mount_argsStandardScheme extends StandardScheme<mount_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getUfsAddress_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, mount_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -10003,6 +20956,31 @@ public class FileSystemMasterClientService {
             break;
           }
           switch (schemeField.id) {
+            case 1: // ALLUXIO_PATH
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.alluxioPath = iprot.readString();
+                struct.setAlluxioPathIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // UFS_PATH
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.ufsPath = iprot.readString();
+                struct.setUfsPathIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 3: // OPTIONS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.options = new MountTOptions();
+                struct.options.read(iprot);
+                struct.setOptionsIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -10014,56 +20992,105 @@ public class FileSystemMasterClientService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getUfsAddress_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, mount_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.alluxioPath != null) {
+          oprot.writeFieldBegin(ALLUXIO_PATH_FIELD_DESC);
+          oprot.writeString(struct.alluxioPath);
+          oprot.writeFieldEnd();
+        }
+        if (struct.ufsPath != null) {
+          oprot.writeFieldBegin(UFS_PATH_FIELD_DESC);
+          oprot.writeString(struct.ufsPath);
+          oprot.writeFieldEnd();
+        }
+        if (struct.options != null) {
+          oprot.writeFieldBegin(OPTIONS_FIELD_DESC);
+          struct.options.write(oprot);
+          oprot.writeFieldEnd();
+        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class getUfsAddress_argsTupleSchemeFactory implements SchemeFactory {
-      public getUfsAddress_argsTupleScheme getScheme() {
-        return new getUfsAddress_argsTupleScheme();
+    private static class mount_argsTupleSchemeFactory implements SchemeFactory {
+      public mount_argsTupleScheme getScheme() {
+        return new mount_argsTupleScheme();
       }
     }
 
-    private static class getUfsAddress_argsTupleScheme extends TupleScheme<getUfsAddress_args> {
+    private static class mount_argsTupleScheme extends TupleScheme<mount_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getUfsAddress_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, mount_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetAlluxioPath()) {
+          optionals.set(0);
+        }
+        if (struct.isSetUfsPath()) {
+          optionals.set(1);
+        }
+        if (struct.isSetOptions()) {
+          optionals.set(2);
+        }
+        oprot.writeBitSet(optionals, 3);
+        if (struct.isSetAlluxioPath()) {
+          oprot.writeString(struct.alluxioPath);
+        }
+        if (struct.isSetUfsPath()) {
+          oprot.writeString(struct.ufsPath);
+        }
+        if (struct.isSetOptions()) {
+          struct.options.write(oprot);
+        }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getUfsAddress_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, mount_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(3);
+        if (incoming.get(0)) {
+          struct.alluxioPath = iprot.readString();
+          struct.setAlluxioPathIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.ufsPath = iprot.readString();
+          struct.setUfsPathIsSet(true);
+        }
+        if (incoming.get(2)) {
+          struct.options = new MountTOptions();
+          struct.options.read(iprot);
+          struct.setOptionsIsSet(true);
+        }
       }
     }
 
   }
 
-  public static class getUfsAddress_result implements org.apache.thrift.TBase<getUfsAddress_result, getUfsAddress_result._Fields>, java.io.Serializable, Cloneable, Comparable<getUfsAddress_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getUfsAddress_result");
+  public static class mount_result implements org.apache.thrift.TBase<mount_result, mount_result._Fields>, java.io.Serializable, Cloneable, Comparable<mount_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("mount_result");
 
-    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRING, (short)0);
     private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+    private static final org.apache.thrift.protocol.TField IOE_FIELD_DESC = new org.apache.thrift.protocol.TField("ioe", org.apache.thrift.protocol.TType.STRUCT, (short)2);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new getUfsAddress_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new getUfsAddress_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new mount_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new mount_resultTupleSchemeFactory());
     }
 
-    private String success; // required
     private alluxio.thrift.AlluxioTException e; // required
+    private alluxio.thrift.ThriftIOException ioe; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      SUCCESS((short)0, "success"),
-      E((short)1, "e");
+      E((short)1, "e"),
+      IOE((short)2, "ioe");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -10078,10 +21105,10 @@ public class FileSystemMasterClientService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 0: // SUCCESS
-            return SUCCESS;
           case 1: // E
             return E;
+          case 2: // IOE
+            return IOE;
           default:
             return null;
         }
@@ -10125,111 +21152,111 @@ public class FileSystemMasterClientService {
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
       tmpMap.put(_Fields.E, new org.apache.thrift.meta_data.FieldMetaData("e", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      tmpMap.put(_Fields.IOE, new org.apache.thrift.meta_data.FieldMetaData("ioe", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getUfsAddress_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(mount_result.class, metaDataMap);
     }
 
-    public getUfsAddress_result() {
+    public mount_result() {
     }
 
-    public getUfsAddress_result(
-      String success,
-      alluxio.thrift.AlluxioTException e)
+    public mount_result(
+      alluxio.thrift.AlluxioTException e,
+      alluxio.thrift.ThriftIOException ioe)
     {
       this();
-      this.success = success;
       this.e = e;
+      this.ioe = ioe;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getUfsAddress_result(getUfsAddress_result other) {
-      if (other.isSetSuccess()) {
-        this.success = other.success;
-      }
+    public mount_result(mount_result other) {
       if (other.isSetE()) {
         this.e = new alluxio.thrift.AlluxioTException(other.e);
       }
+      if (other.isSetIoe()) {
+        this.ioe = new alluxio.thrift.ThriftIOException(other.ioe);
+      }
     }
 
-    public getUfsAddress_result deepCopy() {
-      return new getUfsAddress_result(this);
+    public mount_result deepCopy() {
+      return new mount_result(this);
     }
 
     @Override
     public void clear() {
-      this.success = null;
       this.e = null;
+      this.ioe = null;
     }
 
-    public String getSuccess() {
-      return this.success;
+    public alluxio.thrift.AlluxioTException getE() {
+      return this.e;
     }
 
-    public getUfsAddress_result setSuccess(String success) {
-      this.success = success;
+    public mount_result setE(alluxio.thrift.AlluxioTException e) {
+      this.e = e;
       return this;
     }
 
-    public void unsetSuccess() {
-      this.success = null;
+    public void unsetE() {
+      this.e = null;
     }
 
-    /** Returns true if field success is set (has been assigned a value) and false otherwise */
-    public boolean isSetSuccess() {
-      return this.success != null;
+    /** Returns true if field e is set (has been assigned a value) and false otherwise */
+    public boolean isSetE() {
+      return this.e != null;
     }
 
-    public void setSuccessIsSet(boolean value) {
+    public void setEIsSet(boolean value) {
       if (!value) {
-        this.success = null;
+        this.e = null;
       }
     }
 
-    public alluxio.thrift.AlluxioTException getE() {
-      return this.e;
+    public alluxio.thrift.ThriftIOException getIoe() {
+      return this.ioe;
     }
 
-    public getUfsAddress_result setE(alluxio.thrift.AlluxioTException e) {
-      this.e = e;
+    public mount_result setIoe(alluxio.thrift.ThriftIOException ioe) {
+      this.ioe = ioe;
       return this;
     }
 
-    public void unsetE() {
-      this.e = null;
+    public void unsetIoe() {
+      this.ioe = null;
     }
 
-    /** Returns true if field e is set (has been assigned a value) and false otherwise */
-    public boolean isSetE() {
-      return this.e != null;
+    /** Returns true if field ioe is set (has been assigned a value) and false otherwise */
+    public boolean isSetIoe() {
+      return this.ioe != null;
     }
 
-    public void setEIsSet(boolean value) {
+    public void setIoeIsSet(boolean value) {
       if (!value) {
-        this.e = null;
+        this.ioe = null;
       }
     }
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
-      case SUCCESS:
+      case E:
         if (value == null) {
-          unsetSuccess();
+          unsetE();
         } else {
-          setSuccess((String)value);
+          setE((alluxio.thrift.AlluxioTException)value);
         }
         break;
 
-      case E:
+      case IOE:
         if (value == null) {
-          unsetE();
+          unsetIoe();
         } else {
-          setE((alluxio.thrift.AlluxioTException)value);
+          setIoe((alluxio.thrift.ThriftIOException)value);
         }
         break;
 
@@ -10238,12 +21265,12 @@ public class FileSystemMasterClientService {
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
-      case SUCCESS:
-        return getSuccess();
-
       case E:
         return getE();
 
+      case IOE:
+        return getIoe();
+
       }
       throw new IllegalStateException();
     }
@@ -10255,10 +21282,10 @@ public class FileSystemMasterClientService {
       }
 
       switch (field) {
-      case SUCCESS:
-        return isSetSuccess();
       case E:
         return isSetE();
+      case IOE:
+        return isSetIoe();
       }
       throw new IllegalStateException();
     }
@@ -10267,24 +21294,15 @@ public class FileSystemMasterClientService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof getUfsAddress_result)
-        return this.equals((getUfsAddress_result)that);
+      if (that instanceof mount_result)
+        return this.equals((mount_result)that);
       return false;
     }
 
-    public boolean equals(getUfsAddress_result that) {
+    public boolean equals(mount_result that) {
       if (that == null)
         return false;
 
-      boolean this_present_success = true && this.isSetSuccess();
-      boolean that_present_success = true && that.isSetSuccess();
-      if (this_present_success || that_present_success) {
-        if (!(this_present_success && that_present_success))
-          return false;
-        if (!this.success.equals(that.success))
-          return false;
-      }
-
       boolean this_present_e = true && this.isSetE();
       boolean that_present_e = true && that.isSetE();
       if (this_present_e || that_present_e) {
@@ -10294,6 +21312,15 @@ public class FileSystemMasterClientService {
           return false;
       }
 
+      boolean this_present_ioe = true && this.isSetIoe();
+      boolean that_present_ioe = true && that.isSetIoe();
+      if (this_present_ioe || that_present_ioe) {
+        if (!(this_present_ioe && that_present_ioe))
+          return false;
+        if (!this.ioe.equals(that.ioe))
+          return false;
+      }
+
       return true;
     }
 
@@ -10301,43 +21328,43 @@ public class FileSystemMasterClientService {
     public int hashCode() {
       List<Object> list = new ArrayList<Object>();
 
-      boolean present_success = true && (isSetSuccess());
-      list.add(present_success);
-      if (present_success)
-        list.add(success);
-
       boolean present_e = true && (isSetE());
       list.add(present_e);
       if (present_e)
         list.add(e);
 
+      boolean present_ioe = true && (isSetIoe());
+      list.add(present_ioe);
+      if (present_ioe)
+        list.add(ioe);
+
       return list.hashCode();
     }
 
     @Override
-    public int compareTo(getUfsAddress_result other) {
+    public int compareTo(mount_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      lastComparison = Boolean.valueOf(isSetE()).compareTo(other.isSetE());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetSuccess()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+      if (isSetE()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.e, other.e);
         if (lastComparison != 0) {
           return lastComparison;
         }
       }
-      lastComparison = Boolean.valueOf(isSetE()).compareTo(other.isSetE());
+      lastComparison = Boolean.valueOf(isSetIoe()).compareTo(other.isSetIoe());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetE()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.e, other.e);
+      if (isSetIoe()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.ioe, other.ioe);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -10359,22 +21386,22 @@ public class FileSystemMasterClientService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("getUfsAddress_result(");
+      StringBuilder sb = new StringBuilder("mount_result(");
       boolean first = true;
 
-      sb.append("success:");
-      if (this.success == null) {
+      sb.append("e:");
+      if (this.e == null) {
         sb.append("null");
       } else {
-        sb.append(this.success);
+        sb.append(this.e);
       }
       first = false;
       if (!first) sb.append(", ");
-      sb.append("e:");
-      if (this.e == null) {
+      sb.append("ioe:");
+      if (this.ioe == null) {
         sb.append("null");
       } else {
-        sb.append(this.e);
+        sb.append(this.ioe);
       }
       first = false;
       sb.append(")");
@@ -10402,15 +21429,15 @@ public class FileSystemMasterClientService {
       }
     }
 
-    private static class getUfsAddress_resultStandardSchemeFactory implements SchemeFactory {
-      public getUfsAddress_resultStandardScheme getScheme() {
-        return new getUfsAddress_resultStandardScheme();
+    private static class mount_resultStandardSchemeFactory implements SchemeFactory {
+      public mount_resultStandardScheme getScheme() {
+        return new mount_resultStandardScheme();
       }
     }
 
-    private static class getUfsAddress_resultStandardScheme extends StandardScheme<getUfsAddress_result> {
+    private static class mount_resultStandardScheme extends StandardScheme<mount_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getUfsAddress_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, mount_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -10420,14 +21447,6 @@ public class FileSystemMasterClientService {
             break;
           }
           switch (schemeField.id) {
-            case 0: // SUCCESS
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.success = iprot.readString();
-                struct.setSuccessIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
             case 1: // E
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
                 struct.e = new alluxio.thrift.AlluxioTException();
@@ -10437,6 +21456,15 @@ public class FileSystemMasterClientService {
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
+            case 2: // IOE
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.ioe = new alluxio.thrift.ThriftIOException();
+                struct.ioe.read(iprot);
+                struct.setIoeIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -10448,85 +21476,86 @@ public class FileSystemMasterClientService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getUfsAddress_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, mount_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.success != null) {
-          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-          oprot.writeString(struct.success);
-          oprot.writeFieldEnd();
-        }
         if (struct.e != null) {
           oprot.writeFieldBegin(E_FIELD_DESC);
           struct.e.write(oprot);
           oprot.writeFieldEnd();
         }
+        if (struct.ioe != null) {
+          oprot.writeFieldBegin(IOE_FIELD_DESC);
+          struct.ioe.write(oprot);
+          oprot.writeFieldEnd();
+        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class getUfsAddress_resultTupleSchemeFactory implements SchemeFactory {
-      public getUfsAddress_resultTupleScheme getScheme() {
-        return new getUfsAddress_resultTupleScheme();
+    private static class mount_resultTupleSchemeFactory implements SchemeFactory {
+      public mount_resultTupleScheme getScheme() {
+        return new mount_resultTupleScheme();
       }
     }
 
-    private static class getUfsAddress_resultTupleScheme extends TupleScheme<getUfsAddress_result> {
+    private static class mount_resultTupleScheme extends TupleScheme<mount_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getUfsAddress_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, mount_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
-        if (struct.isSetSuccess()) {
+        if (struct.isSetE()) {
           optionals.set(0);
         }
-        if (struct.isSetE()) {
+        if (struct.isSetIoe()) {
           optionals.set(1);
         }
         oprot.writeBitSet(optionals, 2);
-        if (struct.isSetSuccess()) {
-          oprot.writeString(struct.success);
-        }
         if (struct.isSetE()) {
           struct.e.write(oprot);
         }
+        if (struct.isSetIoe()) {
+          struct.ioe.write(oprot);
+        }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getUfsAddress_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, mount_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.success = iprot.readString();
-          struct.setSuccessIsSet(true);
-        }
-        if (incoming.get(1)) {
           struct.e = new alluxio.thrift.AlluxioTException();
           struct.e.read(iprot);
           struct.setEIsSet(true);
         }
+        if (incoming.get(1)) {
+          struct.ioe = new alluxio.thrift.ThriftIOException();
+          struct.ioe.read(iprot);
+          struct.setIoeIsSet(true);
+        }
       }
     }
 
   }
 
-  public static class listStatus_args implements org.apache.thrift.TBase<listStatus_args, listStatus_args._Fields>, java.io.Serializable, Cloneable, Comparable<listStatus_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("listStatus_args");
+  public static class remove_args implements org.apache.thrift.TBase<remove_args, remove_args._Fields>, java.io.Serializable, Cloneable, Comparable<remove_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("remove_args");
 
     private static final org.apache.thrift.protocol.TField PATH_FIELD_DESC = new org.apache.thrift.protocol.TField("path", org.apache.thrift.protocol.TType.STRING, (short)1);
-    private static final org.apache.thrift.protocol.TField OPTIONS_FIELD_DESC = new org.apache.thrift.protocol.TField("options", org.apache.thrift.protocol.TType.STRUCT, (short)2);
+    private static final org.apache.thrift.protocol.TField RECURSIVE_FIELD_DESC = new org.apache.thrift.protocol.TField("recursive", org.apache.thrift.protocol.TType.BOOL, (short)2);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new listStatus_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new listStatus_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new remove_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new remove_argsTupleSchemeFactory());
     }
 
     private String path; // required
-    private ListStatusTOptions options; // required
+    private boolean recursive; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
@@ -10535,9 +21564,9 @@ public class FileSystemMasterClientService {
        */
       PATH((short)1, "path"),
       /**
-       * listStatus options
+       * whether to remove recursively
        */
-      OPTIONS((short)2, "options");
+      RECURSIVE((short)2, "recursive");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -10554,8 +21583,8 @@ public class FileSystemMasterClientService {
         switch(fieldId) {
           case 1: // PATH
             return PATH;
-          case 2: // OPTIONS
-            return OPTIONS;
+          case 2: // RECURSIVE
+            return RECURSIVE;
           default:
             return null;
         }
@@ -10596,49 +21625,52 @@ public class FileSystemMasterClientService {
     }
 
     // isset id assignments
+    private static final int __RECURSIVE_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.PATH, new org.apache.thrift.meta_data.FieldMetaData("path", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
-      tmpMap.put(_Fields.OPTIONS, new org.apache.thrift.meta_data.FieldMetaData("options", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, ListStatusTOptions.class)));
+      tmpMap.put(_Fields.RECURSIVE, new org.apache.thrift.meta_data.FieldMetaData("recursive", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.BOOL)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(listStatus_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(remove_args.class, metaDataMap);
     }
 
-    public listStatus_args() {
+    public remove_args() {
     }
 
-    public listStatus_args(
+    public remove_args(
       String path,
-      ListStatusTOptions options)
+      boolean recursive)
     {
       this();
       this.path = path;
-      this.options = options;
+      this.recursive = recursive;
+      setRecursiveIsSet(true);
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public listStatus_args(listStatus_args other) {
+    public remove_args(remove_args other) {
+      __isset_bitfield = other.__isset_bitfield;
       if (other.isSetPath()) {
         this.path = other.path;
       }
-      if (other.isSetOptions()) {
-        this.options = new ListStatusTOptions(other.options);
-      }
+      this.recursive = other.recursive;
     }
 
-    public listStatus_args deepCopy() {
-      return new listStatus_args(this);
+    public remove_args deepCopy() {
+      return new remove_args(this);
     }
 
     @Override
     public void clear() {
       this.path = null;
-      this.options = null;
+      setRecursiveIsSet(false);
+      this.recursive = false;
     }
 
     /**
@@ -10651,7 +21683,7 @@ public class FileSystemMasterClientService {
     /**
      * the path of the file or directory
      */
-    public listStatus_args setPath(String path) {
+    public remove_args setPath(String path) {
       this.path = path;
       return this;
     }
@@ -10672,33 +21704,32 @@ public class FileSystemMasterClientService {
     }
 
     /**
-     * listStatus options
+     * whether to remove recursively
      */
-    public ListStatusTOptions getOptions() {
-      return this.options;
+    public boolean isRecursive() {
+      return this.recursive;
     }
 
     /**
-     * listStatus options
+     * whether to remove recursively
      */
-    public listStatus_args setOptions(ListStatusTOptions options) {
-      this.options = options;
+    public remove_args setRecursive(boolean recursive) {
+      this.recursive = recursive;
+      setRecursiveIsSet(true);
       return this;
     }
 
-    public void unsetOptions() {
-      this.options = null;
+    public void unsetRecursive() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __RECURSIVE_ISSET_ID);
     }
 
-    /** Returns true if field options is set (has been assigned a value) and false otherwise */
-    public boolean isSetOptions() {
-      return this.options != null;
+    /** Returns true if field recursive is set (has been assigned a value) and false otherwise */
+    public boolean isSetRecursive() {
+      return EncodingUtils.testBit(__isset_bitfield, __RECURSIVE_ISSET_ID);
     }
 
-    public void setOptionsIsSet(boolean value) {
-      if (!value) {
-        this.options = null;
-      }
+    public void setRecursiveIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __RECURSIVE_ISSET_ID, value);
     }
 
     public void setFieldValue(_Fields field, Object value) {
@@ -10711,11 +21742,11 @@ public class FileSystemMasterClientService {
         }
         break;
 
-      case OPTIONS:
+      case RECURSIVE:
         if (value == null) {
-          unsetOptions();
+          unsetRecursive();
         } else {
-          setOptions((ListStatusTOptions)value);
+          setRecursive((Boolean)value);
         }
         break;
 
@@ -10727,8 +21758,8 @@ public class FileSystemMasterClientService {
       case PATH:
         return getPath();
 
-      case OPTIONS:
-        return getOptions();
+      case RECURSIVE:
+        return isRecursive();
 
       }
       throw new IllegalStateException();
@@ -10743,8 +21774,8 @@ public class FileSystemMasterClientService {
       switch (field) {
       case PATH:
         return isSetPath();
-      case OPTIONS:
-        return isSetOptions();
+      case RECURSIVE:
+        return isSetRecursive();
       }
       throw new IllegalStateException();
     }
@@ -10753,12 +21784,12 @@ public class FileSystemMasterClientService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof listStatus_args)
-        return this.equals((listStatus_args)that);
+      if (that instanceof remove_args)
+        return this.equals((remove_args)that);
       return false;
     }
 
-    public boolean equals(listStatus_args that) {
+    public boolean equals(remove_args that) {
       if (that == null)
         return false;
 
@@ -10771,12 +21802,12 @@ public class FileSystemMasterClientService {
           return false;
       }
 
-      boolean this_present_options = true && this.isSetOptions();
-      boolean that_present_options = true && that.isSetOptions();
-      if (this_present_options || that_present_options) {
-        if (!(this_present_options && that_present_options))
+      boolean this_present_recursive = true;
+      boolean that_present_recursive = true;
+      if (this_present_recursive || that_present_recursive) {
+        if (!(this_present_recursive && that_present_recursive))
           return false;
-        if (!this.options.equals(that.options))
+        if (this.recursive != that.recursive)
           return false;
       }
 
@@ -10792,16 +21823,16 @@ public class FileSystemMasterClientService {
       if (present_path)
         list.add(path);
 
-      boolean present_options = true && (isSetOptions());
-      list.add(present_options);
-      if (present_options)
-        list.add(options);
+      boolean present_recursive = true;
+      list.add(present_recursive);
+      if (present_recursive)
+        list.add(recursive);
 
       return list.hashCode();
     }
 
     @Override
-    public int compareTo(listStatus_args other) {
+    public int compareTo(remove_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -10818,12 +21849,12 @@ public class FileSystemMasterClientService {
           return lastComparison;
         }
       }
-      lastComparison = Boolean.valueOf(isSetOptions()).compareTo(other.isSetOptions());
+      lastComparison = Boolean.valueOf(isSetRecursive()).compareTo(other.isSetRecursive());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetOptions()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.options, other.options);
+      if (isSetRecursive()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.recursive, other.recursive);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -10845,7 +21876,7 @@ public class FileSystemMasterClientService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("listStatus_args(");
+      StringBuilder sb = new StringBuilder("remove_args(");
       boolean first = true;
 
       sb.append("path:");
@@ -10856,12 +21887,8 @@ public class FileSystemMasterClientService {
       }
       first = false;
       if (!first) sb.append(", ");
-      sb.append("options:");
-      if (this.options == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.options);
-      }
+      sb.append("recursive:");
+      sb.append(this.recursive);
       first = false;
       sb.append(")");
       return sb.toString();
@@ -10870,9 +21897,6 @@ public class FileSystemMasterClientService {
     public void validate() throws org.apache.thrift.TException {
       // check for required fields
       // check for sub-struct validity
-      if (options != null) {
-        options.validate();
-      }
     }
 
     private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
@@ -10885,21 +21909,23 @@ public class FileSystemMasterClientService {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
       try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class listStatus_argsStandardSchemeFactory implements SchemeFactory {
-      public listStatus_argsStandardScheme getScheme() {
-        return new listStatus_argsStandardScheme();
+    private static class remove_argsStandardSchemeFactory implements SchemeFactory {
+      public remove_argsStandardScheme getScheme() {
+        return new remove_argsStandardScheme();
       }
     }
 
-    private static class listStatus_argsStandardScheme extends StandardScheme<listStatus_args> {
+    private static class remove_argsStandardScheme extends StandardScheme<remove_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, listStatus_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, remove_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -10917,11 +21943,10 @@ public class FileSystemMasterClientService {
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 2: // OPTIONS
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.options = new ListStatusTOptions();
-                struct.options.read(iprot);
-                struct.setOptionsIsSet(true);
+            case 2: // RECURSIVE
+              if (schemeField.type == org.apache.thrift.protocol.TType.BOOL) {
+                struct.recursive = iprot.readBool();
+                struct.setRecursiveIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -10937,7 +21962,7 @@ public class FileSystemMasterClientService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, listStatus_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, remove_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -10946,46 +21971,44 @@ public class FileSystemMasterClientService {
           oprot.writeString(struct.path);
           oprot.writeFieldEnd();
         }
-        if (struct.options != null) {
-          oprot.writeFieldBegin(OPTIONS_FIELD_DESC);
-          struct.options.write(oprot);
-          oprot.writeFieldEnd();
-        }
+        oprot.writeFieldBegin(RECURSIVE_FIELD_DESC);
+        oprot.writeBool(struct.recursive);
+        oprot.writeFieldEnd();
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class listStatus_argsTupleSchemeFactory implements SchemeFactory {
-      public listStatus_argsTupleScheme getScheme() {
-        return new listStatus_argsTupleScheme();
+    private static class remove_argsTupleSchemeFactory implements SchemeFactory {
+      public remove_argsTupleScheme getScheme() {
+        return new remove_argsTupleScheme();
       }
     }
 
-    private static class listStatus_argsTupleScheme extends TupleScheme<listStatus_args> {
+    private static class remove_argsTupleScheme extends TupleScheme<remove_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, listStatus_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, remove_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetPath()) {
           optionals.set(0);
         }
-        if (struct.isSetOptions()) {
+        if (struct.isSetRecursive()) {
           optionals.set(1);
         }
         oprot.writeBitSet(optionals, 2);
         if (struct.isSetPath()) {
           oprot.writeString(struct.path);
         }
-        if (struct.isSetOptions()) {
-          struct.options.write(oprot);
+        if (struct.isSetRecursive()) {
+          oprot.writeBool(struct.recursive);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, listStatus_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, remove_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
@@ -10993,33 +22016,29 @@ public class FileSystemMasterClientService {
           struct.setPathIsSet(true);
         }
         if (incoming.get(1)) {
-          struct.options = new ListStatusTOptions();
-          struct.options.read(iprot);
-          struct.setOptionsIsSet(true);
+          struct.recursive = iprot.readBool();
+          struct.setRecursiveIsSet(true);
         }
       }
     }
 
   }
 
-  public static class listStatus_result implements org.apache.thrift.TBase<listStatus_result, listStatus_result._Fields>, java.io.Serializable, Cloneable, Comparable<listStatus_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("listStatus_result");
+  public static class remove_result implements org.apache.thrift.TBase<remove_result, remove_result._Fields>, java.io.Serializable, Cloneable, Comparable<remove_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("remove_result");
 
-    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.LIST, (short)0);
     private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new listStatus_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new listStatus_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new remove_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new remove_resultTupleSchemeFactory());
     }
 
-    private List<FileInfo> success; // required
     private alluxio.thrift.AlluxioTException e; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      SUCCESS((short)0, "success"),
       E((short)1, "e");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
@@ -11035,8 +22054,6 @@ public class FileSystemMasterClientService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 0: // SUCCESS
-            return SUCCESS;
           case 1: // E
             return E;
           default:
@@ -11082,97 +22099,45 @@ public class FileSystemMasterClientService {
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
-              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, FileInfo.class))));
       tmpMap.put(_Fields.E, new org.apache.thrift.meta_data.FieldMetaData("e", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(listStatus_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(remove_result.class, metaDataMap);
     }
 
-    public listStatus_result() {
+    public remove_result() {
     }
 
-    public listStatus_result(
-      List<FileInfo> success,
+    public remove_result(
       alluxio.thrift.AlluxioTException e)
     {
       this();
-      this.success = success;
       this.e = e;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public listStatus_result(listStatus_result other) {
-      if (other.isSetSuccess()) {
-        List<FileInfo> __this__success = new ArrayList<FileInfo>(other.success.size());
-        for (FileInfo other_element : other.success) {
-          __this__success.add(new FileInfo(other_element));
-        }
-        this.success = __this__success;
-      }
+    public remove_result(remove_result other) {
       if (other.isSetE()) {
         this.e = new alluxio.thrift.AlluxioTException(other.e);
-      }
-    }
-
-    public listStatus_result deepCopy() {
-      return new listStatus_result(this);
-    }
-
-    @Override
-    public void clear() {
-      this.success = null;
-      this.e = null;
-    }
-
-    public int getSuccessSize() {
-      return (this.success == null) ? 0 : this.success.size();
-    }
-
-    public java.util.Iterator<FileInfo> getSuccessIterator() {
-      return (this.success == null) ? null : this.success.iterator();
-    }
-
-    public void addToSuccess(FileInfo elem) {
-      if (this.success == null) {
-        this.success = new ArrayList<FileInfo>();
-      }
-      this.success.add(elem);
-    }
-
-    public List<FileInfo> getSuccess() {
-      return this.success;
-    }
-
-    public listStatus_result setSuccess(List<FileInfo> success) {
-      this.success = success;
-      return this;
-    }
-
-    public void unsetSuccess() {
-      this.success = null;
+      }
     }
 
-    /** Returns true if field success is set (has been assigned a value) and false otherwise */
-    public boolean isSetSuccess() {
-      return this.success != null;
+    public remove_result deepCopy() {
+      return new remove_result(this);
     }
 
-    public void setSuccessIsSet(boolean value) {
-      if (!value) {
-        this.success = null;
-      }
+    @Override
+    public void clear() {
+      this.e = null;
     }
 
     public alluxio.thrift.AlluxioTException getE() {
       return this.e;
     }
 
-    public listStatus_result setE(alluxio.thrift.AlluxioTException e) {
+    public remove_result setE(alluxio.thrift.AlluxioTException e) {
       this.e = e;
       return this;
     }
@@ -11194,14 +22159,6 @@ public class FileSystemMasterClientService {
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
-      case SUCCESS:
-        if (value == null) {
-          unsetSuccess();
-        } else {
-          setSuccess((List<FileInfo>)value);
-        }
-        break;
-
       case E:
         if (value == null) {
           unsetE();
@@ -11215,9 +22172,6 @@ public class FileSystemMasterClientService {
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
-      case SUCCESS:
-        return getSuccess();
-
       case E:
         return getE();
 
@@ -11232,8 +22186,6 @@ public class FileSystemMasterClientService {
       }
 
       switch (field) {
-      case SUCCESS:
-        return isSetSuccess();
       case E:
         return isSetE();
       }
@@ -11244,24 +22196,15 @@ public class FileSystemMasterClientService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof listStatus_result)
-        return this.equals((listStatus_result)that);
+      if (that instanceof remove_result)
+        return this.equals((remove_result)that);
       return false;
     }
 
-    public boolean equals(listStatus_result that) {
+    public boolean equals(remove_result that) {
       if (that == null)
         return false;
 
-      boolean this_present_success = true && this.isSetSuccess();
-      boolean that_present_success = true && that.isSetSuccess();
-      if (this_present_success || that_present_success) {
-        if (!(this_present_success && that_present_success))
-          return false;
-        if (!this.success.equals(that.success))
-          return false;
-      }
-
       boolean this_present_e = true && this.isSetE();
       boolean that_present_e = true && that.isSetE();
       if (this_present_e || that_present_e) {
@@ -11278,11 +22221,6 @@ public class FileSystemMasterClientService {
     public int hashCode() {
       List<Object> list = new ArrayList<Object>();
 
-      boolean present_success = true && (isSetSuccess());
-      list.add(present_success);
-      if (present_success)
-        list.add(success);
-
       boolean present_e = true && (isSetE());
       list.add(present_e);
       if (present_e)
@@ -11292,23 +22230,13 @@ public class FileSystemMasterClientService {
     }
 
     @Override
-    public int compareTo(listStatus_result other) {
+    public int compareTo(remove_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetSuccess()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
       lastComparison = Boolean.valueOf(isSetE()).compareTo(other.isSetE());
       if (lastComparison != 0) {
         return lastComparison;
@@ -11336,17 +22264,9 @@ public class FileSystemMasterClientService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("listStatus_result(");
+      StringBuilder sb = new StringBuilder("remove_result(");
       boolean first = true;
 
-      sb.append("success:");
-      if (this.success == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.success);
-      }
-      first = false;
-      if (!first) sb.append(", ");
       sb.append("e:");
       if (this.e == null) {
         sb.append("null");
@@ -11379,15 +22299,15 @@ public class FileSystemMasterClientService {
       }
     }
 
-    private static class listStatus_resultStandardSchemeFactory implements SchemeFactory {
-      public listStatus_resultStandardScheme getScheme() {
-        return new listStatus_resultStandardScheme();
+    private static class remove_resultStandardSchemeFactory implements SchemeFactory {
+      public remove_resultStandardScheme getScheme() {
+        return new remove_resultStandardScheme();
       }
     }
 
-    private static class listStatus_resultStandardScheme extends StandardScheme<listStatus_result> {
+    private static class remove_resultStandardScheme extends StandardScheme<remove_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, listStatus_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, remove_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -11397,25 +22317,6 @@ public class FileSystemMasterClientService {
             break;
           }
           switch (schemeField.id) {
-            case 0: // SUCCESS
-              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
-                {
-                  org.apache.thrift.protocol.TList _list66 = iprot.readListBegin();
-                  struct.success = new ArrayList<FileInfo>(_list66.size);
-                  FileInfo _elem67;
-                  for (int _i68 = 0; _i68 < _list66.size; ++_i68)
-                  {
-                    _elem67 = new FileInfo();
-                    _elem67.read(iprot);
-                    struct.success.add(_elem67);
-                  }
-                  iprot.readListEnd();
-                }
-                struct.setSuccessIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
             case 1: // E
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
                 struct.e = new alluxio.thrift.AlluxioTException();
@@ -11436,22 +22337,10 @@ public class FileSystemMasterClientService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, listStatus_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, remove_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.success != null) {
-          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-          {
-            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.success.size()));
-            for (FileInfo _iter69 : struct.success)
-            {
-              _iter69.write(oprot);
-            }
-            oprot.writeListEnd();
-          }
-          oprot.writeFieldEnd();
-        }
         if (struct.e != null) {
           oprot.writeFieldBegin(E_FIELD_DESC);
           struct.e.write(oprot);
@@ -11463,58 +22352,32 @@ public class FileSystemMasterClientService {
 
     }
 
-    private static class listStatus_resultTupleSchemeFactory implements SchemeFactory {
-      public listStatus_resultTupleScheme getScheme() {
-        return new listStatus_resultTupleScheme();
+    private static class remove_resultTupleSchemeFactory implements SchemeFactory {
+      public remove_resultTupleScheme getScheme() {
+        return new remove_resultTupleScheme();
       }
     }
 
-    private static class listStatus_resultTupleScheme extends TupleScheme<listStatus_result> {
+    private static class remove_resultTupleScheme extends TupleScheme<remove_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, listStatus_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, remove_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
-        if (struct.isSetSuccess()) {
-          optionals.set(0);
-        }
         if (struct.isSetE()) {
-          optionals.set(1);
-        }
-        oprot.writeBitSet(optionals, 2);
-        if (struct.isSetSuccess()) {
-          {
-            oprot.writeI32(struct.success.size());
-            for (FileInfo _iter70 : struct.success)
-            {
-              _iter70.write(oprot);
-            }
-          }
+          optionals.set(0);
         }
+        oprot.writeBitSet(optionals, 1);
         if (struct.isSetE()) {
           struct.e.write(oprot);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, listStatus_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, remove_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(2);
+        BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
-          {
-            org.apache.thrift.protocol.TList _list71 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
-            struct.success = new ArrayList<FileInfo>(_list71.size);
-            FileInfo _elem72;
-            for (int _i73 = 0; _i73 < _list71.size; ++_i73)
-            {
-              _elem72 = new FileInfo();
-              _elem72.read(iprot);
-              struct.success.add(_elem72);
-            }
-          }
-          struct.setSuccessIsSet(true);
-        }
-        if (incoming.get(1)) {
           struct.e = new alluxio.thrift.AlluxioTException();
           struct.e.read(iprot);
           struct.setEIsSet(true);
@@ -11524,30 +22387,24 @@ public class FileSystemMasterClientService {
 
   }
 
-  public static class loadMetadata_args implements org.apache.thrift.TBase<loadMetadata_args, loadMetadata_args._Fields>, java.io.Serializable, Cloneable, Comparable<loadMetadata_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("loadMetadata_args");
+  public static class removeBatch_args implements org.apache.thrift.TBase<removeBatch_args, removeBatch_args._Fields>, java.io.Serializable, Cloneable, Comparable<removeBatch_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("removeBatch_args");
 
-    private static final org.apache.thrift.protocol.TField UFS_PATH_FIELD_DESC = new org.apache.thrift.protocol.TField("ufsPath", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField PATHS_FIELD_DESC = new org.apache.thrift.protocol.TField("paths", org.apache.thrift.protocol.TType.LIST, (short)1);
     private static final org.apache.thrift.protocol.TField RECURSIVE_FIELD_DESC = new org.apache.thrift.protocol.TField("recursive", org.apache.thrift.protocol.TType.BOOL, (short)2);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new loadMetadata_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new loadMetadata_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new removeBatch_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new removeBatch_argsTupleSchemeFactory());
     }
 
-    private String ufsPath; // required
+    private List<String> paths; // required
     private boolean recursive; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      /**
-       * the path of the under file system
-       */
-      UFS_PATH((short)1, "ufsPath"),
-      /**
-       * whether to load meta data recursively
-       */
+      PATHS((short)1, "paths"),
       RECURSIVE((short)2, "recursive");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
@@ -11563,8 +22420,8 @@ public class FileSystemMasterClientService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // UFS_PATH
-            return UFS_PATH;
+          case 1: // PATHS
+            return PATHS;
           case 2: // RECURSIVE
             return RECURSIVE;
           default:
@@ -11612,23 +22469,24 @@ public class FileSystemMasterClientService {
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.UFS_PATH, new org.apache.thrift.meta_data.FieldMetaData("ufsPath", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.PATHS, new org.apache.thrift.meta_data.FieldMetaData("paths", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING))));
       tmpMap.put(_Fields.RECURSIVE, new org.apache.thrift.meta_data.FieldMetaData("recursive", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.BOOL)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(loadMetadata_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(removeBatch_args.class, metaDataMap);
     }
 
-    public loadMetadata_args() {
+    public removeBatch_args() {
     }
 
-    public loadMetadata_args(
-      String ufsPath,
+    public removeBatch_args(
+      List<String> paths,
       boolean recursive)
     {
       this();
-      this.ufsPath = ufsPath;
+      this.paths = paths;
       this.recursive = recursive;
       setRecursiveIsSet(true);
     }
@@ -11636,66 +22494,70 @@ public class FileSystemMasterClientService {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public loadMetadata_args(loadMetadata_args other) {
+    public removeBatch_args(removeBatch_args other) {
       __isset_bitfield = other.__isset_bitfield;
-      if (other.isSetUfsPath()) {
-        this.ufsPath = other.ufsPath;
+      if (other.isSetPaths()) {
+        List<String> __this__paths = new ArrayList<String>(other.paths);
+        this.paths = __this__paths;
       }
       this.recursive = other.recursive;
     }
 
-    public loadMetadata_args deepCopy() {
-      return new loadMetadata_args(this);
+    public removeBatch_args deepCopy() {
+      return new removeBatch_args(this);
     }
 
     @Override
     public void clear() {
-      this.ufsPath = null;
+      this.paths = null;
       setRecursiveIsSet(false);
       this.recursive = false;
     }
 
-    /**
-     * the path of the under file system
-     */
-    public String getUfsPath() {
-      return this.ufsPath;
+    public int getPathsSize() {
+      return (this.paths == null) ? 0 : this.paths.size();
     }
 
-    /**
-     * the path of the under file system
-     */
-    public loadMetadata_args setUfsPath(String ufsPath) {
-      this.ufsPath = ufsPath;
+    public java.util.Iterator<String> getPathsIterator() {
+      return (this.paths == null) ? null : this.paths.iterator();
+    }
+
+    public void addToPaths(String elem) {
+      if (this.paths == null) {
+        this.paths = new ArrayList<String>();
+      }
+      this.paths.add(elem);
+    }
+
+    public List<String> getPaths() {
+      return this.paths;
+    }
+
+    public removeBatch_args setPaths(List<String> paths) {
+      this.paths = paths;
       return this;
     }
 
-    public void unsetUfsPath() {
-      this.ufsPath = null;
+    public void unsetPaths() {
+      this.paths = null;
     }
 
-    /** Returns true if field ufsPath is set (has been assigned a value) and false otherwise */
-    public boolean isSetUfsPath() {
-      return this.ufsPath != null;
+    /** Returns true if field paths is set (has been assigned a value) and false otherwise */
+    public boolean isSetPaths() {
+      return this.paths != null;
     }
 
-    public void setUfsPathIsSet(boolean value) {
+    public void setPathsIsSet(boolean value) {
       if (!value) {
-        this.ufsPath = null;
+        this.paths = null;
       }
     }
 
-    /**
-     * whether to load meta data recursively
-     */
     public boolean isRecursive() {
       return this.recursive;
     }
 
-    /**
-     * whether to load meta data recursively
-     */
-    public loadMetadata_args setRecursive(boolean recursive) {
+    public removeBatch_args setRecursive(boolean recursive) {
       this.recursive = recursive;
       setRecursiveIsSet(true);
       return this;
@@ -11716,11 +22578,11 @@ public class FileSystemMasterClientService {
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
-      case UFS_PATH:
+      case PATHS:
         if (value == null) {
-          unsetUfsPath();
+          unsetPaths();
         } else {
-          setUfsPath((String)value);
+          setPaths((List<String>)value);
         }
         break;
 
@@ -11737,8 +22599,8 @@ public class FileSystemMasterClientService {
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
-      case UFS_PATH:
-        return getUfsPath();
+      case PATHS:
+        return getPaths();
 
       case RECURSIVE:
         return isRecursive();
@@ -11754,8 +22616,8 @@ public class FileSystemMasterClientService {
       }
 
       switch (field) {
-      case UFS_PATH:
-        return isSetUfsPath();
+      case PATHS:
+        return isSetPaths();
       case RECURSIVE:
         return isSetRecursive();
       }
@@ -11766,21 +22628,21 @@ public class FileSystemMasterClientService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof loadMetadata_args)
-        return this.equals((loadMetadata_args)that);
+      if (that instanceof removeBatch_args)
+        return this.equals((removeBatch_args)that);
       return false;
     }
 
-    public boolean equals(loadMetadata_args that) {
+    public boolean equals(removeBatch_args that) {
       if (that == null)
         return false;
 
-      boolean this_present_ufsPath = true && this.isSetUfsPath();
-      boolean that_present_ufsPath = true && that.isSetUfsPath();
-      if (this_present_ufsPath || that_present_ufsPath) {
-        if (!(this_present_ufsPath && that_present_ufsPath))
+      boolean this_present_paths = true && this.isSetPaths();
+      boolean that_present_paths = true && that.isSetPaths();
+      if (this_present_paths || that_present_paths) {
+        if (!(this_present_paths && that_present_paths))
           return false;
-        if (!this.ufsPath.equals(that.ufsPath))
+        if (!this.paths.equals(that.paths))
           return false;
       }
 
@@ -11800,10 +22662,10 @@ public class FileSystemMasterClientService {
     public int hashCode() {
       List<Object> list = new ArrayList<Object>();
 
-      boolean present_ufsPath = true && (isSetUfsPath());
-      list.add(present_ufsPath);
-      if (present_ufsPath)
-        list.add(ufsPath);
+      boolean present_paths = true && (isSetPaths());
+      list.add(present_paths);
+      if (present_paths)
+        list.add(paths);
 
       boolean present_recursive = true;
       list.add(present_recursive);
@@ -11814,19 +22676,19 @@ public class FileSystemMasterClientService {
     }
 
     @Override
-    public int compareTo(loadMetadata_args other) {
+    public int compareTo(removeBatch_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = Boolean.valueOf(isSetUfsPath()).compareTo(other.isSetUfsPath());
+      lastComparison = Boolean.valueOf(isSetPaths()).compareTo(other.isSetPaths());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetUfsPath()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.ufsPath, other.ufsPath);
+      if (isSetPaths()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.paths, other.paths);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -11858,14 +22720,14 @@ public class FileSystemMasterClientService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("loadMetadata_args(");
+      StringBuilder sb = new StringBuilder("removeBatch_args(");
       boolean first = true;
 
-      sb.append("ufsPath:");
-      if (this.ufsPath == null) {
+      sb.append("paths:");
+      if (this.paths == null) {
         sb.append("null");
       } else {
-        sb.append(this.ufsPath);
+        sb.append(this.paths);
       }
       first = false;
       if (!first) sb.append(", ");
@@ -11899,15 +22761,15 @@ public class FileSystemMasterClientService {
       }
     }
 
-    private static class loadMetadata_argsStandardSchemeFactory implements SchemeFactory {
-      public loadMetadata_argsStandardScheme getScheme() {
-        return new loadMetadata_argsStandardScheme();
+    private static class removeBatch_argsStandardSchemeFactory implements SchemeFactory {
+      public removeBatch_argsStandardScheme getScheme() {
+        return new removeBatch_argsStandardScheme();
       }
     }
 
-    private static class loadMetadata_argsStandardScheme extends StandardScheme<loadMetadata_args> {
+    private static class removeBatch_argsStandardScheme extends StandardScheme<removeBatch_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, loadMetadata_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, removeBatch_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -11917,10 +22779,20 @@ public class FileSystemMasterClientService {
             break;
           }
           switch (schemeField.id) {
-            case 1: // UFS_PATH
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.ufsPath = iprot.readString();
-                struct.setUfsPathIsSet(true);
+            case 1: // PATHS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list221 = iprot.readListBegin();
+                  struct.paths = new ArrayList<String>(_list221.size);
+                  String _elem222;
+                  for (int _i223 = 0; _i223 < _list221.size; ++_i223)
+                  {
+                    _elem222 = iprot.readString();
+                    struct.paths.add(_elem222);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setPathsIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -11944,13 +22816,20 @@ public class FileSystemMasterClientService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, loadMetadata_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, removeBatch_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.ufsPath != null) {
-          oprot.writeFieldBegin(UFS_PATH_FIELD_DESC);
-          oprot.writeString(struct.ufsPath);
+        if (struct.paths != null) {
+          oprot.writeFieldBegin(PATHS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, struct.paths.size()));
+            for (String _iter224 : struct.paths)
+            {
+              oprot.writeString(_iter224);
+            }
+            oprot.writeListEnd();
+          }
           oprot.writeFieldEnd();
         }
         oprot.writeFieldBegin(RECURSIVE_FIELD_DESC);
@@ -11962,27 +22841,33 @@ public class FileSystemMasterClientService {
 
     }
 
-    private static class loadMetadata_argsTupleSchemeFactory implements SchemeFactory {
-      public loadMetadata_argsTupleScheme getScheme() {
-        return new loadMetadata_argsTupleScheme();
+    private static class removeBatch_argsTupleSchemeFactory implements SchemeFactory {
+      public removeBatch_argsTupleScheme getScheme() {
+        return new removeBatch_argsTupleScheme();
       }
     }
 
-    private static class loadMetadata_argsTupleScheme extends TupleScheme<loadMetadata_args> {
+    private static class removeBatch_argsTupleScheme extends TupleScheme<removeBatch_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, loadMetadata_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, removeBatch_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
-        if (struct.isSetUfsPath()) {
+        if (struct.isSetPaths()) {
           optionals.set(0);
         }
         if (struct.isSetRecursive()) {
           optionals.set(1);
         }
         oprot.writeBitSet(optionals, 2);
-        if (struct.isSetUfsPath()) {
-          oprot.writeString(struct.ufsPath);
+        if (struct.isSetPaths()) {
+          {
+            oprot.writeI32(struct.paths.size());
+            for (String _iter225 : struct.paths)
+            {
+              oprot.writeString(_iter225);
+            }
+          }
         }
         if (struct.isSetRecursive()) {
           oprot.writeBool(struct.recursive);
@@ -11990,12 +22875,21 @@ public class FileSystemMasterClientService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, loadMetadata_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, removeBatch_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.ufsPath = iprot.readString();
-          struct.setUfsPathIsSet(true);
+          {
+            org.apache.thrift.protocol.TList _list226 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
+            struct.paths = new ArrayList<String>(_list226.size);
+            String _elem227;
+            for (int _i228 = 0; _i228 < _list226.size; ++_i228)
+            {
+              _elem227 = iprot.readString();
+              struct.paths.add(_elem227);
+            }
+          }
+          struct.setPathsIsSet(true);
         }
         if (incoming.get(1)) {
           struct.recursive = iprot.readBool();
@@ -12006,28 +22900,25 @@ public class FileSystemMasterClientService {
 
   }
 
-  public static class loadMetadata_result implements org.apache.thrift.TBase<loadMetadata_result, loadMetadata_result._Fields>, java.io.Serializable, Cloneable, Comparable<loadMetadata_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("loadMetadata_result");
+  public static class removeBatch_result implements org.apache.thrift.TBase<removeBatch_result, removeBatch_result._Fields>, java.io.Serializable, Cloneable, Comparable<removeBatch_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("removeBatch_result");
 
-    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.I64, (short)0);
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.LIST, (short)0);
     private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
-    private static final org.apache.thrift.protocol.TField IOE_FIELD_DESC = new org.apache.thrift.protocol.TField("ioe", org.apache.thrift.protocol.TType.STRUCT, (short)2);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new loadMetadata_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new loadMetadata_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new removeBatch_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new removeBatch_resultTupleSchemeFactory());
     }
 
-    private long success; // required
+    private List<FileSystemBatchTResult> success; // required
     private alluxio.thrift.AlluxioTException e; // required
-    private alluxio.thrift.ThriftIOException ioe; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
       SUCCESS((short)0, "success"),
-      E((short)1, "e"),
-      IOE((short)2, "ioe");
+      E((short)1, "e");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -12046,8 +22937,6 @@ public class FileSystemMasterClientService {
             return SUCCESS;
           case 1: // E
             return E;
-          case 2: // IOE
-            return IOE;
           default:
             return null;
         }
@@ -12088,90 +22977,100 @@ public class FileSystemMasterClientService {
     }
 
     // isset id assignments
-    private static final int __SUCCESS_ISSET_ID = 0;
-    private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, FileSystemBatchTResult.class))));
       tmpMap.put(_Fields.E, new org.apache.thrift.meta_data.FieldMetaData("e", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
-      tmpMap.put(_Fields.IOE, new org.apache.thrift.meta_data.FieldMetaData("ioe", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(loadMetadata_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(removeBatch_result.class, metaDataMap);
     }
 
-    public loadMetadata_result() {
+    public removeBatch_result() {
     }
 
-    public loadMetadata_result(
-      long success,
-      alluxio.thrift.AlluxioTException e,
-      alluxio.thrift.ThriftIOException ioe)
+    public removeBatch_result(
+      List<FileSystemBatchTResult> success,
+      alluxio.thrift.AlluxioTException e)
     {
       this();
       this.success = success;
-      setSuccessIsSet(true);
       this.e = e;
-      this.ioe = ioe;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public loadMetadata_result(loadMetadata_result other) {
-      __isset_bitfield = other.__isset_bitfield;
-      this.success = other.success;
+    public removeBatch_result(removeBatch_result other) {
+      if (other.isSetSuccess()) {
+        List<FileSystemBatchTResult> __this__success = new ArrayList<FileSystemBatchTResult>(other.success.size());
+        for (FileSystemBatchTResult other_element : other.success) {
+          __this__success.add(new FileSystemBatchTResult(other_element));
+        }
+        this.success = __this__success;
+      }
       if (other.isSetE()) {
         this.e = new alluxio.thrift.AlluxioTException(other.e);
       }
-      if (other.isSetIoe()) {
-        this.ioe = new alluxio.thrift.ThriftIOException(other.ioe);
-      }
     }
 
-    public loadMetadata_result deepCopy() {
-      return new loadMetadata_result(this);
+    public removeBatch_result deepCopy() {
+      return new removeBatch_result(this);
     }
 
     @Override
     public void clear() {
-      setSuccessIsSet(false);
-      this.success = 0;
+      this.success = null;
       this.e = null;
-      this.ioe = null;
     }
 
-    public long getSuccess() {
+    public int getSuccessSize() {
+      return (this.success == null) ? 0 : this.success.size();
+    }
+
+    public java.util.Iterator<FileSystemBatchTResult> getSuccessIterator() {
+      return (this.success == null) ? null : this.success.iterator();
+    }
+
+    public void addToSuccess(FileSystemBatchTResult elem) {
+      if (this.success == null) {
+        this.success = new ArrayList<FileSystemBatchTResult>();
+      }
+      this.success.add(elem);
+    }
+
+    public List<FileSystemBatchTResult> getSuccess() {
       return this.success;
     }
 
-    public loadMetadata_result setSuccess(long success) {
+    public removeBatch_result setSuccess(List<FileSystemBatchTResult> success) {
       this.success = success;
-      setSuccessIsSet(true);
       return this;
     }
 
     public void unsetSuccess() {
-      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __SUCCESS_ISSET_ID);
+      this.success = null;
     }
 
     /** Returns true if field success is set (has been assigned a value) and false otherwise */
     public boolean isSetSuccess() {
-      return EncodingUtils.testBit(__isset_bitfield, __SUCCESS_ISSET_ID);
+      return this.success != null;
     }
 
     public void setSuccessIsSet(boolean value) {
-      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
+      if (!value) {
+        this.success = null;
+      }
     }
 
     public alluxio.thrift.AlluxioTException getE() {
       return this.e;
     }
 
-    public loadMetadata_result setE(alluxio.thrift.AlluxioTException e) {
+    public removeBatch_result setE(alluxio.thrift.AlluxioTException e) {
       this.e = e;
       return this;
     }
@@ -12191,37 +23090,13 @@ public class FileSystemMasterClientService {
       }
     }
 
-    public alluxio.thrift.ThriftIOException getIoe() {
-      return this.ioe;
-    }
-
-    public loadMetadata_result setIoe(alluxio.thrift.ThriftIOException ioe) {
-      this.ioe = ioe;
-      return this;
-    }
-
-    public void unsetIoe() {
-      this.ioe = null;
-    }
-
-    /** Returns true if field ioe is set (has been assigned a value) and false otherwise */
-    public boolean isSetIoe() {
-      return this.ioe != null;
-    }
-
-    public void setIoeIsSet(boolean value) {
-      if (!value) {
-        this.ioe = null;
-      }
-    }
-
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
       case SUCCESS:
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((Long)value);
+          setSuccess((List<FileSystemBatchTResult>)value);
         }
         break;
 
@@ -12233,14 +23108,6 @@ public class FileSystemMasterClientService {
         }
         break;
 
-      case IOE:
-        if (value == null) {
-          unsetIoe();
-        } else {
-          setIoe((alluxio.thrift.ThriftIOException)value);
-        }
-        break;
-
       }
     }
 
@@ -12252,9 +23119,6 @@ public class FileSystemMasterClientService {
       case E:
         return getE();
 
-      case IOE:
-        return getIoe();
-
       }
       throw new IllegalStateException();
     }
@@ -12270,8 +23134,6 @@ public class FileSystemMasterClientService {
         return isSetSuccess();
       case E:
         return isSetE();
-      case IOE:
-        return isSetIoe();
       }
       throw new IllegalStateException();
     }
@@ -12280,21 +23142,21 @@ public class FileSystemMasterClientService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof loadMetadata_result)
-        return this.equals((loadMetadata_result)that);
+      if (that instanceof removeBatch_result)
+        return this.equals((removeBatch_result)that);
       return false;
     }
 
-    public boolean equals(loadMetadata_result that) {
+    public boolean equals(removeBatch_result that) {
       if (that == null)
         return false;
 
-      boolean this_present_success = true;
-      boolean that_present_success = true;
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
       if (this_present_success || that_present_success) {
         if (!(this_present_success && that_present_success))
           return false;
-        if (this.success != that.success)
+        if (!this.success.equals(that.success))
           return false;
       }
 
@@ -12307,15 +23169,6 @@ public class FileSystemMasterClientService {
           return false;
       }
 
-      boolean this_present_ioe = true && this.isSetIoe();
-      boolean that_present_ioe = true && that.isSetIoe();
-      if (this_present_ioe || that_present_ioe) {
-        if (!(this_present_ioe && that_present_ioe))
-          return false;
-        if (!this.ioe.equals(that.ioe))
-          return false;
-      }
-
       return true;
     }
 
@@ -12323,7 +23176,7 @@ public class FileSystemMasterClientService {
     public int hashCode() {
       List<Object> list = new ArrayList<Object>();
 
-      boolean present_success = true;
+      boolean present_success = true && (isSetSuccess());
       list.add(present_success);
       if (present_success)
         list.add(success);
@@ -12333,16 +23186,11 @@ public class FileSystemMasterClientService {
       if (present_e)
         list.add(e);
 
-      boolean present_ioe = true && (isSetIoe());
-      list.add(present_ioe);
-      if (present_ioe)
-        list.add(ioe);
-
       return list.hashCode();
     }
 
     @Override
-    public int compareTo(loadMetadata_result other) {
+    public int compareTo(removeBatch_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -12369,16 +23217,6 @@ public class FileSystemMasterClientService {
           return lastComparison;
         }
       }
-      lastComparison = Boolean.valueOf(isSetIoe()).compareTo(other.isSetIoe());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetIoe()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.ioe, other.ioe);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
       return 0;
     }
 
@@ -12392,30 +23230,26 @@ public class FileSystemMasterClientService {
 
     public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
       schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
-      }
+    }
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("loadMetadata_result(");
+      StringBuilder sb = new StringBuilder("removeBatch_result(");
       boolean first = true;
 
       sb.append("success:");
-      sb.append(this.success);
-      first = false;
-      if (!first) sb.append(", ");
-      sb.append("e:");
-      if (this.e == null) {
+      if (this.success == null) {
         sb.append("null");
       } else {
-        sb.append(this.e);
+        sb.append(this.success);
       }
       first = false;
       if (!first) sb.append(", ");
-      sb.append("ioe:");
-      if (this.ioe == null) {
+      sb.append("e:");
+      if (this.e == null) {
         sb.append("null");
       } else {
-        sb.append(this.ioe);
+        sb.append(this.e);
       }
       first = false;
       sb.append(")");
@@ -12437,23 +23271,21 @@ public class FileSystemMasterClientService {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
       try {
-        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
-        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class loadMetadata_resultStandardSchemeFactory implements SchemeFactory {
-      public loadMetadata_resultStandardScheme getScheme() {
-        return new loadMetadata_resultStandardScheme();
+    private static class removeBatch_resultStandardSchemeFactory implements SchemeFactory {
+      public removeBatch_resultStandardScheme getScheme() {
+        return new removeBatch_resultStandardScheme();
       }
     }
 
-    private static class loadMetadata_resultStandardScheme extends StandardScheme<loadMetadata_result> {
+    private static class removeBatch_resultStandardScheme extends StandardScheme<removeBatch_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, loadMetadata_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, removeBatch_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -12464,8 +23296,19 @@ public class FileSystemMasterClientService {
           }
           switch (schemeField.id) {
             case 0: // SUCCESS
-              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
-                struct.success = iprot.readI64();
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list241 = iprot.readListBegin();
+                  struct.success = new ArrayList<FileSystemBatchTResult>(_list241.size);
+                  FileSystemBatchTResult _elem242;
+                  for (int _i243 = 0; _i243 < _list241.size; ++_i243)
+                  {
+                    _elem242 = new FileSystemBatchTResult();
+                    _elem242.read(iprot);
+                    struct.success.add(_elem242);
+                  }
+                  iprot.readListEnd();
+                }
                 struct.setSuccessIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
@@ -12480,15 +23323,6 @@ public class FileSystemMasterClientService {
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 2: // IOE
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.ioe = new alluxio.thrift.ThriftIOException();
-                struct.ioe.read(iprot);
-                struct.setIoeIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -12500,13 +23334,20 @@ public class FileSystemMasterClientService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, loadMetadata_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, removeBatch_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.isSetSuccess()) {
+        if (struct.success != null) {
           oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-          oprot.writeI64(struct.success);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.success.size()));
+            for (FileSystemBatchTResult _iter244 : struct.success)
+            {
+              _iter244.write(oprot);
+            }
+            oprot.writeListEnd();
+          }
           oprot.writeFieldEnd();
         }
         if (struct.e != null) {
@@ -12514,27 +23355,22 @@ public class FileSystemMasterClientService {
           struct.e.write(oprot);
           oprot.writeFieldEnd();
         }
-        if (struct.ioe != null) {
-          oprot.writeFieldBegin(IOE_FIELD_DESC);
-          struct.ioe.write(oprot);
-          oprot.writeFieldEnd();
-        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class loadMetadata_resultTupleSchemeFactory implements SchemeFactory {
-      public loadMetadata_resultTupleScheme getScheme() {
-        return new loadMetadata_resultTupleScheme();
+    private static class removeBatch_resultTupleSchemeFactory implements SchemeFactory {
+      public removeBatch_resultTupleScheme getScheme() {
+        return new removeBatch_resultTupleScheme();
       }
     }
 
-    private static class loadMetadata_resultTupleScheme extends TupleScheme<loadMetadata_result> {
+    private static class removeBatch_resultTupleScheme extends TupleScheme<removeBatch_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, loadMetadata_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, removeBatch_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSuccess()) {
@@ -12543,27 +23379,37 @@ public class FileSystemMasterClientService {
         if (struct.isSetE()) {
           optionals.set(1);
         }
-        if (struct.isSetIoe()) {
-          optionals.set(2);
-        }
-        oprot.writeBitSet(optionals, 3);
+        oprot.writeBitSet(optionals, 2);
         if (struct.isSetSuccess()) {
-          oprot.writeI64(struct.success);
+          {
+            oprot.writeI32(struct.success.size());
+            for (FileSystemBatchTResult _iter245 : struct.success)
+            {
+              _iter245.write(oprot);
+            }
+          }
         }
         if (struct.isSetE()) {
           struct.e.write(oprot);
         }
-        if (struct.isSetIoe()) {
-          struct.ioe.write(oprot);
-        }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, loadMetadata_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, removeBatch_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(3);
+        BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.success = iprot.readI64();
+          {
+            org.apache.thrift.protocol.TList _list246 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.success = new ArrayList<FileSystemBatchTResult>(_list246.size);
+            FileSystemBatchTResult _elem247;
+            for (int _i248 = 0; _i248 < _list246.size; ++_i248)
+            {
+              _elem247 = new FileSystemBatchTResult();
+              _elem247.read(iprot);
+              struct.success.add(_elem247);
+            }
+          }
           struct.setSuccessIsSet(true);
         }
         if (incoming.get(1)) {
@@ -12571,47 +23417,36 @@ public class FileSystemMasterClientService {
           struct.e.read(iprot);
           struct.setEIsSet(true);
         }
-        if (incoming.get(2)) {
-          struct.ioe = new alluxio.thrift.ThriftIOException();
-          struct.ioe.read(iprot);
-          struct.setIoeIsSet(true);
-        }
       }
     }
 
   }
 
-  public static class mount_args implements org.apache.thrift.TBase<mount_args, mount_args._Fields>, java.io.Serializable, Cloneable, Comparable<mount_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("mount_args");
+  public static class rename_args implements org.apache.thrift.TBase<rename_args, rename_args._Fields>, java.io.Serializable, Cloneable, Comparable<rename_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("rename_args");
 
-    private static final org.apache.thrift.protocol.TField ALLUXIO_PATH_FIELD_DESC = new org.apache.thrift.protocol.TField("alluxioPath", org.apache.thrift.protocol.TType.STRING, (short)1);
-    private static final org.apache.thrift.protocol.TField UFS_PATH_FIELD_DESC = new org.apache.thrift.protocol.TField("ufsPath", org.apache.thrift.protocol.TType.STRING, (short)2);
-    private static final org.apache.thrift.protocol.TField OPTIONS_FIELD_DESC = new org.apache.thrift.protocol.TField("options", org.apache.thrift.protocol.TType.STRUCT, (short)3);
+    private static final org.apache.thrift.protocol.TField PATH_FIELD_DESC = new org.apache.thrift.protocol.TField("path", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField DST_PATH_FIELD_DESC = new org.apache.thrift.protocol.TField("dstPath", org.apache.thrift.protocol.TType.STRING, (short)2);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new mount_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new mount_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new rename_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new rename_argsTupleSchemeFactory());
     }
 
-    private String alluxioPath; // required
-    private String ufsPath; // required
-    private MountTOptions options; // required
+    private String path; // required
+    private String dstPath; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
       /**
-       * the path of alluxio mount point
-       */
-      ALLUXIO_PATH((short)1, "alluxioPath"),
-      /**
-       * the path of the under file system
+       * the path of the file or directory
        */
-      UFS_PATH((short)2, "ufsPath"),
+      PATH((short)1, "path"),
       /**
-       * the options for creating the mount point
+       * the desinationpath of the file
        */
-      OPTIONS((short)3, "options");
+      DST_PATH((short)2, "dstPath");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -12626,12 +23461,10 @@ public class FileSystemMasterClientService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // ALLUXIO_PATH
-            return ALLUXIO_PATH;
-          case 2: // UFS_PATH
-            return UFS_PATH;
-          case 3: // OPTIONS
-            return OPTIONS;
+          case 1: // PATH
+            return PATH;
+          case 2: // DST_PATH
+            return DST_PATH;
           default:
             return null;
         }
@@ -12675,169 +23508,123 @@ public class FileSystemMasterClientService {
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.ALLUXIO_PATH, new org.apache.thrift.meta_data.FieldMetaData("alluxioPath", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+      tmpMap.put(_Fields.PATH, new org.apache.thrift.meta_data.FieldMetaData("path", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
-      tmpMap.put(_Fields.UFS_PATH, new org.apache.thrift.meta_data.FieldMetaData("ufsPath", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+      tmpMap.put(_Fields.DST_PATH, new org.apache.thrift.meta_data.FieldMetaData("dstPath", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
-      tmpMap.put(_Fields.OPTIONS, new org.apache.thrift.meta_data.FieldMetaData("options", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, MountTOptions.class)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(mount_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(rename_args.class, metaDataMap);
     }
 
-    public mount_args() {
+    public rename_args() {
     }
 
-    public mount_args(
-      String alluxioPath,
-      String ufsPath,
-      MountTOptions options)
+    public rename_args(
+      String path,
+      String dstPath)
     {
       this();
-      this.alluxioPath = alluxioPath;
-      this.ufsPath = ufsPath;
-      this.options = options;
+      this.path = path;
+      this.dstPath = dstPath;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public mount_args(mount_args other) {
-      if (other.isSetAlluxioPath()) {
-        this.alluxioPath = other.alluxioPath;
-      }
-      if (other.isSetUfsPath()) {
-        this.ufsPath = other.ufsPath;
+    public rename_args(rename_args other) {
+      if (other.isSetPath()) {
+        this.path = other.path;
       }
-      if (other.isSetOptions()) {
-        this.options = new MountTOptions(other.options);
+      if (other.isSetDstPath()) {
+        this.dstPath = other.dstPath;
       }
     }
 
-    public mount_args deepCopy() {
-      return new mount_args(this);
+    public rename_args deepCopy() {
+      return new rename_args(this);
     }
 
     @Override
     public void clear() {
-      this.alluxioPath = null;
-      this.ufsPath = null;
-      this.options = null;
-    }
-
-    /**
-     * the path of alluxio mount point
-     */
-    public String getAlluxioPath() {
-      return this.alluxioPath;
-    }
-
-    /**
-     * the path of alluxio mount point
-     */
-    public mount_args setAlluxioPath(String alluxioPath) {
-      this.alluxioPath = alluxioPath;
-      return this;
-    }
-
-    public void unsetAlluxioPath() {
-      this.alluxioPath = null;
-    }
-
-    /** Returns true if field alluxioPath is set (has been assigned a value) and false otherwise */
-    public boolean isSetAlluxioPath() {
-      return this.alluxioPath != null;
-    }
-
-    public void setAlluxioPathIsSet(boolean value) {
-      if (!value) {
-        this.alluxioPath = null;
-      }
+      this.path = null;
+      this.dstPath = null;
     }
 
     /**
-     * the path of the under file system
+     * the path of the file or directory
      */
-    public String getUfsPath() {
-      return this.ufsPath;
+    public String getPath() {
+      return this.path;
     }
 
     /**
-     * the path of the under file system
+     * the path of the file or directory
      */
-    public mount_args setUfsPath(String ufsPath) {
-      this.ufsPath = ufsPath;
+    public rename_args setPath(String path) {
+      this.path = path;
       return this;
     }
 
-    public void unsetUfsPath() {
-      this.ufsPath = null;
+    public void unsetPath() {
+      this.path = null;
     }
 
-    /** Returns true if field ufsPath is set (has been assigned a value) and false otherwise */
-    public boolean isSetUfsPath() {
-      return this.ufsPath != null;
+    /** Returns true if field path is set (has been assigned a value) and false otherwise */
+    public boolean isSetPath() {
+      return this.path != null;
     }
 
-    public void setUfsPathIsSet(boolean value) {
+    public void setPathIsSet(boolean value) {
       if (!value) {
-        this.ufsPath = null;
+        this.path = null;
       }
     }
 
     /**
-     * the options for creating the mount point
+     * the desinationpath of the file
      */
-    public MountTOptions getOptions() {
-      return this.options;
+    public String getDstPath() {
+      return this.dstPath;
     }
 
     /**
-     * the options for creating the mount point
+     * the desinationpath of the file
      */
-    public mount_args setOptions(MountTOptions options) {
-      this.options = options;
+    public rename_args setDstPath(String dstPath) {
+      this.dstPath = dstPath;
       return this;
     }
 
-    public void unsetOptions() {
-      this.options = null;
+    public void unsetDstPath() {
+      this.dstPath = null;
     }
 
-    /** Returns true if field options is set (has been assigned a value) and false otherwise */
-    public boolean isSetOptions() {
-      return this.options != null;
+    /** Returns true if field dstPath is set (has been assigned a value) and false otherwise */
+    public boolean isSetDstPath() {
+      return this.dstPath != null;
     }
 
-    public void setOptionsIsSet(boolean value) {
+    public void setDstPathIsSet(boolean value) {
       if (!value) {
-        this.options = null;
+        this.dstPath = null;
       }
     }
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
-      case ALLUXIO_PATH:
-        if (value == null) {
-          unsetAlluxioPath();
-        } else {
-          setAlluxioPath((String)value);
-        }
-        break;
-
-      case UFS_PATH:
+      case PATH:
         if (value == null) {
-          unsetUfsPath();
+          unsetPath();
         } else {
-          setUfsPath((String)value);
+          setPath((String)value);
         }
         break;
 
-      case OPTIONS:
+      case DST_PATH:
         if (value == null) {
-          unsetOptions();
+          unsetDstPath();
         } else {
-          setOptions((MountTOptions)value);
+          setDstPath((String)value);
         }
         break;
 
@@ -12846,14 +23633,11 @@ public class FileSystemMasterClientService {
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
-      case ALLUXIO_PATH:
-        return getAlluxioPath();
-
-      case UFS_PATH:
-        return getUfsPath();
+      case PATH:
+        return getPath();
 
-      case OPTIONS:
-        return getOptions();
+      case DST_PATH:
+        return getDstPath();
 
       }
       throw new IllegalStateException();
@@ -12866,12 +23650,10 @@ public class FileSystemMasterClientService {
       }
 
       switch (field) {
-      case ALLUXIO_PATH:
-        return isSetAlluxioPath();
-      case UFS_PATH:
-        return isSetUfsPath();
-      case OPTIONS:
-        return isSetOptions();
+      case PATH:
+        return isSetPath();
+      case DST_PATH:
+        return isSetDstPath();
       }
       throw new IllegalStateException();
     }
@@ -12880,101 +23662,77 @@ public class FileSystemMasterClientService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof mount_args)
-        return this.equals((mount_args)that);
+      if (that instanceof rename_args)
+        return this.equals((rename_args)that);
       return false;
     }
 
-    public boolean equals(mount_args that) {
+    public boolean equals(rename_args that) {
       if (that == null)
         return false;
 
-      boolean this_present_alluxioPath = true && this.isSetAlluxioPath();
-      boolean that_present_alluxioPath = true && that.isSetAlluxioPath();
-      if (this_present_alluxioPath || that_present_alluxioPath) {
-        if (!(this_present_alluxioPath && that_present_alluxioPath))
-          return false;
-        if (!this.alluxioPath.equals(that.alluxioPath))
-          return false;
-      }
-
-      boolean this_present_ufsPath = true && this.isSetUfsPath();
-      boolean that_present_ufsPath = true && that.isSetUfsPath();
-      if (this_present_ufsPath || that_present_ufsPath) {
-        if (!(this_present_ufsPath && that_present_ufsPath))
+      boolean this_present_path = true && this.isSetPath();
+      boolean that_present_path = true && that.isSetPath();
+      if (this_present_path || that_present_path) {
+        if (!(this_present_path && that_present_path))
           return false;
-        if (!this.ufsPath.equals(that.ufsPath))
+        if (!this.path.equals(that.path))
           return false;
       }
 
-      boolean this_present_options = true && this.isSetOptions();
-      boolean that_present_options = true && that.isSetOptions();
-      if (this_present_options || that_present_options) {
-        if (!(this_present_options && that_present_options))
+      boolean this_present_dstPath = true && this.isSetDstPath();
+      boolean that_present_dstPath = true && that.isSetDstPath();
+      if (this_present_dstPath || that_present_dstPath) {
+        if (!(this_present_dstPath && that_present_dstPath))
           return false;
-        if (!this.options.equals(that.options))
+        if (!this.dstPath.equals(that.dstPath))
           return false;
       }
 
       return true;
     }
 
-    @Override
-    public int hashCode() {
-      List<Object> list = new ArrayList<Object>();
-
-      boolean present_alluxioPath = true && (isSetAlluxioPath());
-      list.add(present_alluxioPath);
-      if (present_alluxioPath)
-        list.add(alluxioPath);
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
 
-      boolean present_ufsPath = true && (isSetUfsPath());
-      list.add(present_ufsPath);
-      if (present_ufsPath)
-        list.add(ufsPath);
+      boolean present_path = true && (isSetPath());
+      list.add(present_path);
+      if (present_path)
+        list.add(path);
 
-      boolean present_options = true && (isSetOptions());
-      list.add(present_options);
-      if (present_options)
-        list.add(options);
+      boolean present_dstPath = true && (isSetDstPath());
+      list.add(present_dstPath);
+      if (present_dstPath)
+        list.add(dstPath);
 
       return list.hashCode();
     }
 
     @Override
-    public int compareTo(mount_args other) {
+    public int compareTo(rename_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = Boolean.valueOf(isSetAlluxioPath()).compareTo(other.isSetAlluxioPath());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetAlluxioPath()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.alluxioPath, other.alluxioPath);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
-      lastComparison = Boolean.valueOf(isSetUfsPath()).compareTo(other.isSetUfsPath());
+      lastComparison = Boolean.valueOf(isSetPath()).compareTo(other.isSetPath());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetUfsPath()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.ufsPath, other.ufsPath);
+      if (isSetPath()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.path, other.path);
         if (lastComparison != 0) {
           return lastComparison;
         }
       }
-      lastComparison = Boolean.valueOf(isSetOptions()).compareTo(other.isSetOptions());
+      lastComparison = Boolean.valueOf(isSetDstPath()).compareTo(other.isSetDstPath());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetOptions()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.options, other.options);
+      if (isSetDstPath()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.dstPath, other.dstPath);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -12996,30 +23754,22 @@ public class FileSystemMasterClientService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("mount_args(");
+      StringBuilder sb = new StringBuilder("rename_args(");
       boolean first = true;
 
-      sb.append("alluxioPath:");
-      if (this.alluxioPath == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.alluxioPath);
-      }
-      first = false;
-      if (!first) sb.append(", ");
-      sb.append("ufsPath:");
-      if (this.ufsPath == null) {
+      sb.append("path:");
+      if (this.path == null) {
         sb.append("null");
       } else {
-        sb.append(this.ufsPath);
+        sb.append(this.path);
       }
       first = false;
       if (!first) sb.append(", ");
-      sb.append("options:");
-      if (this.options == null) {
+      sb.append("dstPath:");
+      if (this.dstPath == null) {
         sb.append("null");
       } else {
-        sb.append(this.options);
+        sb.append(this.dstPath);
       }
       first = false;
       sb.append(")");
@@ -13029,9 +23779,6 @@ public class FileSystemMasterClientService {
     public void validate() throws org.apache.thrift.TException {
       // check for required fields
       // check for sub-struct validity
-      if (options != null) {
-        options.validate();
-      }
     }
 
     private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
@@ -13050,15 +23797,15 @@ public class FileSystemMasterClientService {
       }
     }
 
-    private static class mount_argsStandardSchemeFactory implements SchemeFactory {
-      public mount_argsStandardScheme getScheme() {
-        return new mount_argsStandardScheme();
+    private static class rename_argsStandardSchemeFactory implements SchemeFactory {
+      public rename_argsStandardScheme getScheme() {
+        return new rename_argsStandardScheme();
       }
     }
 
-    private static class mount_argsStandardScheme extends StandardScheme<mount_args> {
+    private static class rename_argsStandardScheme extends StandardScheme<rename_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, mount_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, rename_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -13068,27 +23815,18 @@ public class FileSystemMasterClientService {
             break;
           }
           switch (schemeField.id) {
-            case 1: // ALLUXIO_PATH
+            case 1: // PATH
               if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.alluxioPath = iprot.readString();
-                struct.setAlluxioPathIsSet(true);
+                struct.path = iprot.readString();
+                struct.setPathIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 2: // UFS_PATH
+            case 2: // DST_PATH
               if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.ufsPath = iprot.readString();
-                struct.setUfsPathIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
-            case 3: // OPTIONS
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.options = new MountTOptions();
-                struct.options.read(iprot);
-                struct.setOptionsIsSet(true);
+                struct.dstPath = iprot.readString();
+                struct.setDstPathIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -13104,23 +23842,18 @@ public class FileSystemMasterClientService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, mount_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, rename_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.alluxioPath != null) {
-          oprot.writeFieldBegin(ALLUXIO_PATH_FIELD_DESC);
-          oprot.writeString(struct.alluxioPath);
-          oprot.writeFieldEnd();
-        }
-        if (struct.ufsPath != null) {
-          oprot.writeFieldBegin(UFS_PATH_FIELD_DESC);
-          oprot.writeString(struct.ufsPath);
+        if (struct.path != null) {
+          oprot.writeFieldBegin(PATH_FIELD_DESC);
+          oprot.writeString(struct.path);
           oprot.writeFieldEnd();
         }
-        if (struct.options != null) {
-          oprot.writeFieldBegin(OPTIONS_FIELD_DESC);
-          struct.options.write(oprot);
+        if (struct.dstPath != null) {
+          oprot.writeFieldBegin(DST_PATH_FIELD_DESC);
+          oprot.writeString(struct.dstPath);
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -13129,71 +23862,60 @@ public class FileSystemMasterClientService {
 
     }
 
-    private static class mount_argsTupleSchemeFactory implements SchemeFactory {
-      public mount_argsTupleScheme getScheme() {
-        return new mount_argsTupleScheme();
+    private static class rename_argsTupleSchemeFactory implements SchemeFactory {
+      public rename_argsTupleScheme getScheme() {
+        return new rename_argsTupleScheme();
       }
     }
 
-    private static class mount_argsTupleScheme extends TupleScheme<mount_args> {
+    private static class rename_argsTupleScheme extends TupleScheme<rename_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, mount_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, rename_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
-        if (struct.isSetAlluxioPath()) {
+        if (struct.isSetPath()) {
           optionals.set(0);
         }
-        if (struct.isSetUfsPath()) {
+        if (struct.isSetDstPath()) {
           optionals.set(1);
         }
-        if (struct.isSetOptions()) {
-          optionals.set(2);
-        }
-        oprot.writeBitSet(optionals, 3);
-        if (struct.isSetAlluxioPath()) {
-          oprot.writeString(struct.alluxioPath);
-        }
-        if (struct.isSetUfsPath()) {
-          oprot.writeString(struct.ufsPath);
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetPath()) {
+          oprot.writeString(struct.path);
         }
-        if (struct.isSetOptions()) {
-          struct.options.write(oprot);
+        if (struct.isSetDstPath()) {
+          oprot.writeString(struct.dstPath);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, mount_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, rename_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(3);
+        BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.alluxioPath = iprot.readString();
-          struct.setAlluxioPathIsSet(true);
+          struct.path = iprot.readString();
+          struct.setPathIsSet(true);
         }
         if (incoming.get(1)) {
-          struct.ufsPath = iprot.readString();
-          struct.setUfsPathIsSet(true);
-        }
-        if (incoming.get(2)) {
-          struct.options = new MountTOptions();
-          struct.options.read(iprot);
-          struct.setOptionsIsSet(true);
+          struct.dstPath = iprot.readString();
+          struct.setDstPathIsSet(true);
         }
       }
     }
 
   }
 
-  public static class mount_result implements org.apache.thrift.TBase<mount_result, mount_result._Fields>, java.io.Serializable, Cloneable, Comparable<mount_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("mount_result");
+  public static class rename_result implements org.apache.thrift.TBase<rename_result, rename_result._Fields>, java.io.Serializable, Cloneable, Comparable<rename_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("rename_result");
 
     private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
     private static final org.apache.thrift.protocol.TField IOE_FIELD_DESC = new org.apache.thrift.protocol.TField("ioe", org.apache.thrift.protocol.TType.STRUCT, (short)2);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new mount_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new mount_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new rename_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new rename_resultTupleSchemeFactory());
     }
 
     private alluxio.thrift.AlluxioTException e; // required
@@ -13269,13 +23991,13 @@ public class FileSystemMasterClientService {
       tmpMap.put(_Fields.IOE, new org.apache.thrift.meta_data.FieldMetaData("ioe", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(mount_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(rename_result.class, metaDataMap);
     }
 
-    public mount_result() {
+    public rename_result() {
     }
 
-    public mount_result(
+    public rename_result(
       alluxio.thrift.AlluxioTException e,
       alluxio.thrift.ThriftIOException ioe)
     {
@@ -13287,7 +24009,7 @@ public class FileSystemMasterClientService {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public mount_result(mount_result other) {
+    public rename_result(rename_result other) {
       if (other.isSetE()) {
         this.e = new alluxio.thrift.AlluxioTException(other.e);
       }
@@ -13296,8 +24018,8 @@ public class FileSystemMasterClientService {
       }
     }
 
-    public mount_result deepCopy() {
-      return new mount_result(this);
+    public rename_result deepCopy() {
+      return new rename_result(this);
     }
 
     @Override
@@ -13310,7 +24032,7 @@ public class FileSystemMasterClientService {
       return this.e;
     }
 
-    public mount_result setE(alluxio.thrift.AlluxioTException e) {
+    public rename_result setE(alluxio.thrift.AlluxioTException e) {
       this.e = e;
       return this;
     }
@@ -13334,7 +24056,7 @@ public class FileSystemMasterClientService {
       return this.ioe;
     }
 
-    public mount_result setIoe(alluxio.thrift.ThriftIOException ioe) {
+    public rename_result setIoe(alluxio.thrift.ThriftIOException ioe) {
       this.ioe = ioe;
       return this;
     }
@@ -13406,12 +24128,12 @@ public class FileSystemMasterClientService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof mount_result)
-        return this.equals((mount_result)that);
+      if (that instanceof rename_result)
+        return this.equals((rename_result)that);
       return false;
     }
 
-    public boolean equals(mount_result that) {
+    public boolean equals(rename_result that) {
       if (that == null)
         return false;
 
@@ -13454,7 +24176,7 @@ public class FileSystemMasterClientService {
     }
 
     @Override
-    public int compareTo(mount_result other) {
+    public int compareTo(rename_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -13498,7 +24220,7 @@ public class FileSystemMasterClientService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("mount_result(");
+      StringBuilder sb = new StringBuilder("rename_result(");
       boolean first = true;
 
       sb.append("e:");
@@ -13541,15 +24263,15 @@ public class FileSystemMasterClientService {
       }
     }
 
-    private static class mount_resultStandardSchemeFactory implements SchemeFactory {
-      public mount_resultStandardScheme getScheme() {
-        return new mount_resultStandardScheme();
+    private static class rename_resultStandardSchemeFactory implements SchemeFactory {
+      public rename_resultStandardScheme getScheme() {
+        return new rename_resultStandardScheme();
       }
     }
 
-    private static class mount_resultStandardScheme extends StandardScheme<mount_result> {
+    private static class rename_resultStandardScheme extends StandardScheme<rename_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, mount_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, rename_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -13588,7 +24310,7 @@ public class FileSystemMasterClientService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, mount_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, rename_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -13608,16 +24330,16 @@ public class FileSystemMasterClientService {
 
     }
 
-    private static class mount_resultTupleSchemeFactory implements SchemeFactory {
-      public mount_resultTupleScheme getScheme() {
-        return new mount_resultTupleScheme();
+    private static class rename_resultTupleSchemeFactory implements SchemeFactory {
+      public rename_resultTupleScheme getScheme() {
+        return new rename_resultTupleScheme();
       }
     }
 
-    private static class mount_resultTupleScheme extends TupleScheme<mount_result> {
+    private static class rename_resultTupleScheme extends TupleScheme<rename_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, mount_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, rename_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetE()) {
@@ -13636,7 +24358,7 @@ public class FileSystemMasterClientService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, mount_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, rename_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
@@ -13654,20 +24376,20 @@ public class FileSystemMasterClientService {
 
   }
 
-  public static class remove_args implements org.apache.thrift.TBase<remove_args, remove_args._Fields>, java.io.Serializable, Cloneable, Comparable<remove_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("remove_args");
+  public static class setAttribute_args implements org.apache.thrift.TBase<setAttribute_args, setAttribute_args._Fields>, java.io.Serializable, Cloneable, Comparable<setAttribute_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("setAttribute_args");
 
     private static final org.apache.thrift.protocol.TField PATH_FIELD_DESC = new org.apache.thrift.protocol.TField("path", org.apache.thrift.protocol.TType.STRING, (short)1);
-    private static final org.apache.thrift.protocol.TField RECURSIVE_FIELD_DESC = new org.apache.thrift.protocol.TField("recursive", org.apache.thrift.protocol.TType.BOOL, (short)2);
+    private static final org.apache.thrift.protocol.TField OPTIONS_FIELD_DESC = new org.apache.thrift.protocol.TField("options", org.apache.thrift.protocol.TType.STRUCT, (short)2);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new remove_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new remove_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new setAttribute_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new setAttribute_argsTupleSchemeFactory());
     }
 
     private String path; // required
-    private boolean recursive; // required
+    private SetAttributeTOptions options; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
@@ -13676,9 +24398,9 @@ public class FileSystemMasterClientService {
        */
       PATH((short)1, "path"),
       /**
-       * whether to remove recursively
+       * the method options
        */
-      RECURSIVE((short)2, "recursive");
+      OPTIONS((short)2, "options");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -13695,8 +24417,8 @@ public class FileSystemMasterClientService {
         switch(fieldId) {
           case 1: // PATH
             return PATH;
-          case 2: // RECURSIVE
-            return RECURSIVE;
+          case 2: // OPTIONS
+            return OPTIONS;
           default:
             return null;
         }
@@ -13737,52 +24459,49 @@ public class FileSystemMasterClientService {
     }
 
     // isset id assignments
-    private static final int __RECURSIVE_ISSET_ID = 0;
-    private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.PATH, new org.apache.thrift.meta_data.FieldMetaData("path", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
-      tmpMap.put(_Fields.RECURSIVE, new org.apache.thrift.meta_data.FieldMetaData("recursive", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.BOOL)));
+      tmpMap.put(_Fields.OPTIONS, new org.apache.thrift.meta_data.FieldMetaData("options", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, SetAttributeTOptions.class)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(remove_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(setAttribute_args.class, metaDataMap);
     }
 
-    public remove_args() {
+    public setAttribute_args() {
     }
 
-    public remove_args(
+    public setAttribute_args(
       String path,
-      boolean recursive)
+      SetAttributeTOptions options)
     {
       this();
       this.path = path;
-      this.recursive = recursive;
-      setRecursiveIsSet(true);
+      this.options = options;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public remove_args(remove_args other) {
-      __isset_bitfield = other.__isset_bitfield;
+    public setAttribute_args(setAttribute_args other) {
       if (other.isSetPath()) {
         this.path = other.path;
       }
-      this.recursive = other.recursive;
+      if (other.isSetOptions()) {
+        this.options = new SetAttributeTOptions(other.options);
+      }
     }
 
-    public remove_args deepCopy() {
-      return new remove_args(this);
+    public setAttribute_args deepCopy() {
+      return new setAttribute_args(this);
     }
 
     @Override
     public void clear() {
       this.path = null;
-      setRecursiveIsSet(false);
-      this.recursive = false;
+      this.options = null;
     }
 
     /**
@@ -13795,7 +24514,7 @@ public class FileSystemMasterClientService {
     /**
      * the path of the file or directory
      */
-    public remove_args setPath(String path) {
+    public setAttribute_args setPath(String path) {
       this.path = path;
       return this;
     }
@@ -13816,32 +24535,33 @@ public class FileSystemMasterClientService {
     }
 
     /**
-     * whether to remove recursively
+     * the method options
      */
-    public boolean isRecursive() {
-      return this.recursive;
+    public SetAttributeTOptions getOptions() {
+      return this.options;
     }
 
     /**
-     * whether to remove recursively
+     * the method options
      */
-    public remove_args setRecursive(boolean recursive) {
-      this.recursive = recursive;
-      setRecursiveIsSet(true);
+    public setAttribute_args setOptions(SetAttributeTOptions options) {
+      this.options = options;
       return this;
     }
 
-    public void unsetRecursive() {
-      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __RECURSIVE_ISSET_ID);
+    public void unsetOptions() {
+      this.options = null;
     }
 
-    /** Returns true if field recursive is set (has been assigned a value) and false otherwise */
-    public boolean isSetRecursive() {
-      return EncodingUtils.testBit(__isset_bitfield, __RECURSIVE_ISSET_ID);
+    /** Returns true if field options is set (has been assigned a value) and false otherwise */
+    public boolean isSetOptions() {
+      return this.options != null;
     }
 
-    public void setRecursiveIsSet(boolean value) {
-      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __RECURSIVE_ISSET_ID, value);
+    public void setOptionsIsSet(boolean value) {
+      if (!value) {
+        this.options = null;
+      }
     }
 
     public void setFieldValue(_Fields field, Object value) {
@@ -13854,11 +24574,11 @@ public class FileSystemMasterClientService {
         }
         break;
 
-      case RECURSIVE:
+      case OPTIONS:
         if (value == null) {
-          unsetRecursive();
+          unsetOptions();
         } else {
-          setRecursive((Boolean)value);
+          setOptions((SetAttributeTOptions)value);
         }
         break;
 
@@ -13870,8 +24590,8 @@ public class FileSystemMasterClientService {
       case PATH:
         return getPath();
 
-      case RECURSIVE:
-        return isRecursive();
+      case OPTIONS:
+        return getOptions();
 
       }
       throw new IllegalStateException();
@@ -13886,8 +24606,8 @@ public class FileSystemMasterClientService {
       switch (field) {
       case PATH:
         return isSetPath();
-      case RECURSIVE:
-        return isSetRecursive();
+      case OPTIONS:
+        return isSetOptions();
       }
       throw new IllegalStateException();
     }
@@ -13896,12 +24616,12 @@ public class FileSystemMasterClientService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof remove_args)
-        return this.equals((remove_args)that);
+      if (that instanceof setAttribute_args)
+        return this.equals((setAttribute_args)that);
       return false;
     }
 
-    public boolean equals(remove_args that) {
+    public boolean equals(setAttribute_args that) {
       if (that == null)
         return false;
 
@@ -13914,12 +24634,12 @@ public class FileSystemMasterClientService {
           return false;
       }
 
-      boolean this_present_recursive = true;
-      boolean that_present_recursive = true;
-      if (this_present_recursive || that_present_recursive) {
-        if (!(this_present_recursive && that_present_recursive))
+      boolean this_present_options = true && this.isSetOptions();
+      boolean that_present_options = true && that.isSetOptions();
+      if (this_present_options || that_present_options) {
+        if (!(this_present_options && that_present_options))
           return false;
-        if (this.recursive != that.recursive)
+        if (!this.options.equals(that.options))
           return false;
       }
 
@@ -13935,16 +24655,16 @@ public class FileSystemMasterClientService {
       if (present_path)
         list.add(path);
 
-      boolean present_recursive = true;
-      list.add(present_recursive);
-      if (present_recursive)
-        list.add(recursive);
+      boolean present_options = true && (isSetOptions());
+      list.add(present_options);
+      if (present_options)
+        list.add(options);
 
       return list.hashCode();
     }
 
     @Override
-    public int compareTo(remove_args other) {
+    public int compareTo(setAttribute_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -13961,12 +24681,12 @@ public class FileSystemMasterClientService {
           return lastComparison;
         }
       }
-      lastComparison = Boolean.valueOf(isSetRecursive()).compareTo(other.isSetRecursive());
+      lastComparison = Boolean.valueOf(isSetOptions()).compareTo(other.isSetOptions());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetRecursive()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.recursive, other.recursive);
+      if (isSetOptions()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.options, other.options);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -13988,7 +24708,7 @@ public class FileSystemMasterClientService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("remove_args(");
+      StringBuilder sb = new StringBuilder("setAttribute_args(");
       boolean first = true;
 
       sb.append("path:");
@@ -13999,8 +24719,12 @@ public class FileSystemMasterClientService {
       }
       first = false;
       if (!first) sb.append(", ");
-      sb.append("recursive:");
-      sb.append(this.recursive);
+      sb.append("options:");
+      if (this.options == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.options);
+      }
       first = false;
       sb.append(")");
       return sb.toString();
@@ -14009,6 +24733,9 @@ public class FileSystemMasterClientService {
     public void validate() throws org.apache.thrift.TException {
       // check for required fields
       // check for sub-struct validity
+      if (options != null) {
+        options.validate();
+      }
     }
 
     private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
@@ -14021,23 +24748,21 @@ public class FileSystemMasterClientService {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
       try {
-        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
-        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class remove_argsStandardSchemeFactory implements SchemeFactory {
-      public remove_argsStandardScheme getScheme() {
-        return new remove_argsStandardScheme();
+    private static class setAttribute_argsStandardSchemeFactory implements SchemeFactory {
+      public setAttribute_argsStandardScheme getScheme() {
+        return new setAttribute_argsStandardScheme();
       }
     }
 
-    private static class remove_argsStandardScheme extends StandardScheme<remove_args> {
+    private static class setAttribute_argsStandardScheme extends StandardScheme<setAttribute_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, remove_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, setAttribute_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -14055,10 +24780,11 @@ public class FileSystemMasterClientService {
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 2: // RECURSIVE
-              if (schemeField.type == org.apache.thrift.protocol.TType.BOOL) {
-                struct.recursive = iprot.readBool();
-                struct.setRecursiveIsSet(true);
+            case 2: // OPTIONS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.options = new SetAttributeTOptions();
+                struct.options.read(iprot);
+                struct.setOptionsIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -14074,7 +24800,7 @@ public class FileSystemMasterClientService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, remove_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, setAttribute_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -14083,44 +24809,46 @@ public class FileSystemMasterClientService {
           oprot.writeString(struct.path);
           oprot.writeFieldEnd();
         }
-        oprot.writeFieldBegin(RECURSIVE_FIELD_DESC);
-        oprot.writeBool(struct.recursive);
-        oprot.writeFieldEnd();
+        if (struct.options != null) {
+          oprot.writeFieldBegin(OPTIONS_FIELD_DESC);
+          struct.options.write(oprot);
+          oprot.writeFieldEnd();
+        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class remove_argsTupleSchemeFactory implements SchemeFactory {
-      public remove_argsTupleScheme getScheme() {
-        return new remove_argsTupleScheme();
+    private static class setAttribute_argsTupleSchemeFactory implements SchemeFactory {
+      public setAttribute_argsTupleScheme getScheme() {
+        return new setAttribute_argsTupleScheme();
       }
     }
 
-    private static class remove_argsTupleScheme extends TupleScheme<remove_args> {
+    private static class setAttribute_argsTupleScheme extends TupleScheme<setAttribute_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, remove_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, setAttribute_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetPath()) {
           optionals.set(0);
         }
-        if (struct.isSetRecursive()) {
+        if (struct.isSetOptions()) {
           optionals.set(1);
         }
         oprot.writeBitSet(optionals, 2);
         if (struct.isSetPath()) {
           oprot.writeString(struct.path);
         }
-        if (struct.isSetRecursive()) {
-          oprot.writeBool(struct.recursive);
+        if (struct.isSetOptions()) {
+          struct.options.write(oprot);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, remove_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, setAttribute_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
@@ -14128,23 +24856,24 @@ public class FileSystemMasterClientService {
           struct.setPathIsSet(true);
         }
         if (incoming.get(1)) {
-          struct.recursive = iprot.readBool();
-          struct.setRecursiveIsSet(true);
+          struct.options = new SetAttributeTOptions();
+          struct.options.read(iprot);
+          struct.setOptionsIsSet(true);
         }
       }
     }
 
   }
 
-  public static class remove_result implements org.apache.thrift.TBase<remove_result, remove_result._Fields>, java.io.Serializable, Cloneable, Comparable<remove_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("remove_result");
+  public static class setAttribute_result implements org.apache.thrift.TBase<setAttribute_result, setAttribute_result._Fields>, java.io.Serializable, Cloneable, Comparable<setAttribute_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("setAttribute_result");
 
     private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new remove_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new remove_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new setAttribute_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new setAttribute_resultTupleSchemeFactory());
     }
 
     private alluxio.thrift.AlluxioTException e; // required
@@ -14214,13 +24943,13 @@ public class FileSystemMasterClientService {
       tmpMap.put(_Fields.E, new org.apache.thrift.meta_data.FieldMetaData("e", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(remove_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(setAttribute_result.class, metaDataMap);
     }
 
-    public remove_result() {
+    public setAttribute_result() {
     }
 
-    public remove_result(
+    public setAttribute_result(
       alluxio.thrift.AlluxioTException e)
     {
       this();
@@ -14230,14 +24959,14 @@ public class FileSystemMasterClientService {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public remove_result(remove_result other) {
+    public setAttribute_result(setAttribute_result other) {
       if (other.isSetE()) {
         this.e = new alluxio.thrift.AlluxioTException(other.e);
       }
     }
 
-    public remove_result deepCopy() {
-      return new remove_result(this);
+    public setAttribute_result deepCopy() {
+      return new setAttribute_result(this);
     }
 
     @Override
@@ -14249,7 +24978,7 @@ public class FileSystemMasterClientService {
       return this.e;
     }
 
-    public remove_result setE(alluxio.thrift.AlluxioTException e) {
+    public setAttribute_result setE(alluxio.thrift.AlluxioTException e) {
       this.e = e;
       return this;
     }
@@ -14308,12 +25037,12 @@ public class FileSystemMasterClientService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof remove_result)
-        return this.equals((remove_result)that);
+      if (that instanceof setAttribute_result)
+        return this.equals((setAttribute_result)that);
       return false;
     }
 
-    public boolean equals(remove_result that) {
+    public boolean equals(setAttribute_result that) {
       if (that == null)
         return false;
 
@@ -14342,7 +25071,7 @@ public class FileSystemMasterClientService {
     }
 
     @Override
-    public int compareTo(remove_result other) {
+    public int compareTo(setAttribute_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -14376,7 +25105,7 @@ public class FileSystemMasterClientService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("remove_result(");
+      StringBuilder sb = new StringBuilder("setAttribute_result(");
       boolean first = true;
 
       sb.append("e:");
@@ -14411,15 +25140,15 @@ public class FileSystemMasterClientService {
       }
     }
 
-    private static class remove_resultStandardSchemeFactory implements SchemeFactory {
-      public remove_resultStandardScheme getScheme() {
-        return new remove_resultStandardScheme();
+    private static class setAttribute_resultStandardSchemeFactory implements SchemeFactory {
+      public setAttribute_resultStandardScheme getScheme() {
+        return new setAttribute_resultStandardScheme();
       }
     }
 
-    private static class remove_resultStandardScheme extends StandardScheme<remove_result> {
+    private static class setAttribute_resultStandardScheme extends StandardScheme<setAttribute_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, remove_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, setAttribute_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -14449,7 +25178,7 @@ public class FileSystemMasterClientService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, remove_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, setAttribute_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -14464,16 +25193,16 @@ public class FileSystemMasterClientService {
 
     }
 
-    private static class remove_resultTupleSchemeFactory implements SchemeFactory {
-      public remove_resultTupleScheme getScheme() {
-        return new remove_resultTupleScheme();
+    private static class setAttribute_resultTupleSchemeFactory implements SchemeFactory {
+      public setAttribute_resultTupleScheme getScheme() {
+        return new setAttribute_resultTupleScheme();
       }
     }
 
-    private static class remove_resultTupleScheme extends TupleScheme<remove_result> {
+    private static class setAttribute_resultTupleScheme extends TupleScheme<setAttribute_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, remove_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, setAttribute_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetE()) {
@@ -14486,7 +25215,7 @@ public class FileSystemMasterClientService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, remove_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, setAttribute_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
@@ -14499,31 +25228,25 @@ public class FileSystemMasterClientService {
 
   }
 
-  public static class rename_args implements org.apache.thrift.TBase<rename_args, rename_args._Fields>, java.io.Serializable, Cloneable, Comparable<rename_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("rename_args");
+  public static class setAttributeBatch_args implements org.apache.thrift.TBase<setAttributeBatch_args, setAttributeBatch_args._Fields>, java.io.Serializable, Cloneable, Comparable<setAttributeBatch_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("setAttributeBatch_args");
 
-    private static final org.apache.thrift.protocol.TField PATH_FIELD_DESC = new org.apache.thrift.protocol.TField("path", org.apache.thrift.protocol.TType.STRING, (short)1);
-    private static final org.apache.thrift.protocol.TField DST_PATH_FIELD_DESC = new org.apache.thrift.protocol.TField("dstPath", org.apache.thrift.protocol.TType.STRING, (short)2);
+    private static final org.apache.thrift.protocol.TField PATHS_FIELD_DESC = new org.apache.thrift.protocol.TField("paths", org.apache.thrift.protocol.TType.LIST, (short)1);
+    private static final org.apache.thrift.protocol.TField OPTIONS_FIELD_DESC = new org.apache.thrift.protocol.TField("options", org.apache.thrift.protocol.TType.LIST, (short)2);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new rename_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new rename_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new setAttributeBatch_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new setAttributeBatch_argsTupleSchemeFactory());
     }
 
-    private String path; // required
-    private String dstPath; // required
+    private List<String> paths; // required
+    private List<SetAttributeTOptions> options; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      /**
-       * the path of the file or directory
-       */
-      PATH((short)1, "path"),
-      /**
-       * the desinationpath of the file
-       */
-      DST_PATH((short)2, "dstPath");
+      PATHS((short)1, "paths"),
+      OPTIONS((short)2, "options");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -14538,10 +25261,10 @@ public class FileSystemMasterClientService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // PATH
-            return PATH;
-          case 2: // DST_PATH
-            return DST_PATH;
+          case 1: // PATHS
+            return PATHS;
+          case 2: // OPTIONS
+            return OPTIONS;
           default:
             return null;
         }
@@ -14585,123 +25308,148 @@ public class FileSystemMasterClientService {
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.PATH, new org.apache.thrift.meta_data.FieldMetaData("path", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
-      tmpMap.put(_Fields.DST_PATH, new org.apache.thrift.meta_data.FieldMetaData("dstPath", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.PATHS, new org.apache.thrift.meta_data.FieldMetaData("paths", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING))));
+      tmpMap.put(_Fields.OPTIONS, new org.apache.thrift.meta_data.FieldMetaData("options", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, SetAttributeTOptions.class))));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(rename_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(setAttributeBatch_args.class, metaDataMap);
     }
 
-    public rename_args() {
+    public setAttributeBatch_args() {
     }
 
-    public rename_args(
-      String path,
-      String dstPath)
+    public setAttributeBatch_args(
+      List<String> paths,
+      List<SetAttributeTOptions> options)
     {
       this();
-      this.path = path;
-      this.dstPath = dstPath;
+      this.paths = paths;
+      this.options = options;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public rename_args(rename_args other) {
-      if (other.isSetPath()) {
-        this.path = other.path;
+    public setAttributeBatch_args(setAttributeBatch_args other) {
+      if (other.isSetPaths()) {
+        List<String> __this__paths = new ArrayList<String>(other.paths);
+        this.paths = __this__paths;
       }
-      if (other.isSetDstPath()) {
-        this.dstPath = other.dstPath;
+      if (other.isSetOptions()) {
+        List<SetAttributeTOptions> __this__options = new ArrayList<SetAttributeTOptions>(other.options.size());
+        for (SetAttributeTOptions other_element : other.options) {
+          __this__options.add(new SetAttributeTOptions(other_element));
+        }
+        this.options = __this__options;
       }
     }
 
-    public rename_args deepCopy() {
-      return new rename_args(this);
+    public setAttributeBatch_args deepCopy() {
+      return new setAttributeBatch_args(this);
     }
 
     @Override
     public void clear() {
-      this.path = null;
-      this.dstPath = null;
+      this.paths = null;
+      this.options = null;
     }
 
-    /**
-     * the path of the file or directory
-     */
-    public String getPath() {
-      return this.path;
+    public int getPathsSize() {
+      return (this.paths == null) ? 0 : this.paths.size();
     }
 
-    /**
-     * the path of the file or directory
-     */
-    public rename_args setPath(String path) {
-      this.path = path;
+    public java.util.Iterator<String> getPathsIterator() {
+      return (this.paths == null) ? null : this.paths.iterator();
+    }
+
+    public void addToPaths(String elem) {
+      if (this.paths == null) {
+        this.paths = new ArrayList<String>();
+      }
+      this.paths.add(elem);
+    }
+
+    public List<String> getPaths() {
+      return this.paths;
+    }
+
+    public setAttributeBatch_args setPaths(List<String> paths) {
+      this.paths = paths;
       return this;
     }
 
-    public void unsetPath() {
-      this.path = null;
+    public void unsetPaths() {
+      this.paths = null;
     }
 
-    /** Returns true if field path is set (has been assigned a value) and false otherwise */
-    public boolean isSetPath() {
-      return this.path != null;
+    /** Returns true if field paths is set (has been assigned a value) and false otherwise */
+    public boolean isSetPaths() {
+      return this.paths != null;
     }
 
-    public void setPathIsSet(boolean value) {
+    public void setPathsIsSet(boolean value) {
       if (!value) {
-        this.path = null;
+        this.paths = null;
       }
     }
 
-    /**
-     * the desinationpath of the file
-     */
-    public String getDstPath() {
-      return this.dstPath;
+    public int getOptionsSize() {
+      return (this.options == null) ? 0 : this.options.size();
     }
 
-    /**
-     * the desinationpath of the file
-     */
-    public rename_args setDstPath(String dstPath) {
-      this.dstPath = dstPath;
+    public java.util.Iterator<SetAttributeTOptions> getOptionsIterator() {
+      return (this.options == null) ? null : this.options.iterator();
+    }
+
+    public void addToOptions(SetAttributeTOptions elem) {
+      if (this.options == null) {
+        this.options = new ArrayList<SetAttributeTOptions>();
+      }
+      this.options.add(elem);
+    }
+
+    public List<SetAttributeTOptions> getOptions() {
+      return this.options;
+    }
+
+    public setAttributeBatch_args setOptions(List<SetAttributeTOptions> options) {
+      this.options = options;
       return this;
     }
 
-    public void unsetDstPath() {
-      this.dstPath = null;
+    public void unsetOptions() {
+      this.options = null;
     }
 
-    /** Returns true if field dstPath is set (has been assigned a value) and false otherwise */
-    public boolean isSetDstPath() {
-      return this.dstPath != null;
+    /** Returns true if field options is set (has been assigned a value) and false otherwise */
+    public boolean isSetOptions() {
+      return this.options != null;
     }
 
-    public void setDstPathIsSet(boolean value) {
+    public void setOptionsIsSet(boolean value) {
       if (!value) {
-        this.dstPath = null;
+        this.options = null;
       }
     }
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
-      case PATH:
+      case PATHS:
         if (value == null) {
-          unsetPath();
+          unsetPaths();
         } else {
-          setPath((String)value);
+          setPaths((List<String>)value);
         }
         break;
 
-      case DST_PATH:
+      case OPTIONS:
         if (value == null) {
-          unsetDstPath();
+          unsetOptions();
         } else {
-          setDstPath((String)value);
+          setOptions((List<SetAttributeTOptions>)value);
         }
         break;
 
@@ -14710,11 +25458,11 @@ public class FileSystemMasterClientService {
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
-      case PATH:
-        return getPath();
+      case PATHS:
+        return getPaths();
 
-      case DST_PATH:
-        return getDstPath();
+      case OPTIONS:
+        return getOptions();
 
       }
       throw new IllegalStateException();
@@ -14727,10 +25475,10 @@ public class FileSystemMasterClientService {
       }
 
       switch (field) {
-      case PATH:
-        return isSetPath();
-      case DST_PATH:
-        return isSetDstPath();
+      case PATHS:
+        return isSetPaths();
+      case OPTIONS:
+        return isSetOptions();
       }
       throw new IllegalStateException();
     }
@@ -14739,30 +25487,30 @@ public class FileSystemMasterClientService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof rename_args)
-        return this.equals((rename_args)that);
+      if (that instanceof setAttributeBatch_args)
+        return this.equals((setAttributeBatch_args)that);
       return false;
     }
 
-    public boolean equals(rename_args that) {
+    public boolean equals(setAttributeBatch_args that) {
       if (that == null)
         return false;
 
-      boolean this_present_path = true && this.isSetPath();
-      boolean that_present_path = true && that.isSetPath();
-      if (this_present_path || that_present_path) {
-        if (!(this_present_path && that_present_path))
+      boolean this_present_paths = true && this.isSetPaths();
+      boolean that_present_paths = true && that.isSetPaths();
+      if (this_present_paths || that_present_paths) {
+        if (!(this_present_paths && that_present_paths))
           return false;
-        if (!this.path.equals(that.path))
+        if (!this.paths.equals(that.paths))
           return false;
       }
 
-      boolean this_present_dstPath = true && this.isSetDstPath();
-      boolean that_present_dstPath = true && that.isSetDstPath();
-      if (this_present_dstPath || that_present_dstPath) {
-        if (!(this_present_dstPath && that_present_dstPath))
+      boolean this_present_options = true && this.isSetOptions();
+      boolean that_present_options = true && that.isSetOptions();
+      if (this_present_options || that_present_options) {
+        if (!(this_present_options && that_present_options))
           return false;
-        if (!this.dstPath.equals(that.dstPath))
+        if (!this.options.equals(that.options))
           return false;
       }
 
@@ -14773,43 +25521,43 @@ public class FileSystemMasterClientService {
     public int hashCode() {
       List<Object> list = new ArrayList<Object>();
 
-      boolean present_path = true && (isSetPath());
-      list.add(present_path);
-      if (present_path)
-        list.add(path);
+      boolean present_paths = true && (isSetPaths());
+      list.add(present_paths);
+      if (present_paths)
+        list.add(paths);
 
-      boolean present_dstPath = true && (isSetDstPath());
-      list.add(present_dstPath);
-      if (present_dstPath)
-        list.add(dstPath);
+      boolean present_options = true && (isSetOptions());
+      list.add(present_options);
+      if (present_options)
+        list.add(options);
 
       return list.hashCode();
     }
 
     @Override
-    public int compareTo(rename_args other) {
+    public int compareTo(setAttributeBatch_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = Boolean.valueOf(isSetPath()).compareTo(other.isSetPath());
+      lastComparison = Boolean.valueOf(isSetPaths()).compareTo(other.isSetPaths());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetPath()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.path, other.path);
+      if (isSetPaths()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.paths, other.paths);
         if (lastComparison != 0) {
           return lastComparison;
         }
       }
-      lastComparison = Boolean.valueOf(isSetDstPath()).compareTo(other.isSetDstPath());
+      lastComparison = Boolean.valueOf(isSetOptions()).compareTo(other.isSetOptions());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetDstPath()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.dstPath, other.dstPath);
+      if (isSetOptions()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.options, other.options);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -14831,22 +25579,22 @@ public class FileSystemMasterClientService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("rename_args(");
+      StringBuilder sb = new StringBuilder("setAttributeBatch_args(");
       boolean first = true;
 
-      sb.append("path:");
-      if (this.path == null) {
+      sb.append("paths:");
+      if (this.paths == null) {
         sb.append("null");
       } else {
-        sb.append(this.path);
+        sb.append(this.paths);
       }
       first = false;
       if (!first) sb.append(", ");
-      sb.append("dstPath:");
-      if (this.dstPath == null) {
+      sb.append("options:");
+      if (this.options == null) {
         sb.append("null");
       } else {
-        sb.append(this.dstPath);
+        sb.append(this.options);
       }
       first = false;
       sb.append(")");
@@ -14874,15 +25622,15 @@ public class FileSystemMasterClientService {
       }
     }
 
-    private static class rename_argsStandardSchemeFactory implements SchemeFactory {
-      public rename_argsStandardScheme getScheme() {
-        return new rename_argsStandardScheme();
+    private static class setAttributeBatch_argsStandardSchemeFactory implements SchemeFactory {
+      public setAttributeBatch_argsStandardScheme getScheme() {
+        return new setAttributeBatch_argsStandardScheme();
       }
     }
 
-    private static class rename_argsStandardScheme extends StandardScheme<rename_args> {
+    private static class setAttributeBatch_argsStandardScheme extends StandardScheme<setAttributeBatch_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, rename_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, setAttributeBatch_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -14892,18 +25640,39 @@ public class FileSystemMasterClientService {
             break;
           }
           switch (schemeField.id) {
-            case 1: // PATH
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.path = iprot.readString();
-                struct.setPathIsSet(true);
+            case 1: // PATHS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list261 = iprot.readListBegin();
+                  struct.paths = new ArrayList<String>(_list261.size);
+                  String _elem262;
+                  for (int _i263 = 0; _i263 < _list261.size; ++_i263)
+                  {
+                    _elem262 = iprot.readString();
+                    struct.paths.add(_elem262);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setPathsIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 2: // DST_PATH
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.dstPath = iprot.readString();
-                struct.setDstPathIsSet(true);
+            case 2: // OPTIONS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list264 = iprot.readListBegin();
+                  struct.options = new ArrayList<SetAttributeTOptions>(_list264.size);
+                  SetAttributeTOptions _elem265;
+                  for (int _i266 = 0; _i266 < _list264.size; ++_i266)
+                  {
+                    _elem265 = new SetAttributeTOptions();
+                    _elem265.read(iprot);
+                    struct.options.add(_elem265);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setOptionsIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -14919,18 +25688,32 @@ public class FileSystemMasterClientService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, rename_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, setAttributeBatch_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.path != null) {
-          oprot.writeFieldBegin(PATH_FIELD_DESC);
-          oprot.writeString(struct.path);
+        if (struct.paths != null) {
+          oprot.writeFieldBegin(PATHS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, struct.paths.size()));
+            for (String _iter267 : struct.paths)
+            {
+              oprot.writeString(_iter267);
+            }
+            oprot.writeListEnd();
+          }
           oprot.writeFieldEnd();
         }
-        if (struct.dstPath != null) {
-          oprot.writeFieldBegin(DST_PATH_FIELD_DESC);
-          oprot.writeString(struct.dstPath);
+        if (struct.options != null) {
+          oprot.writeFieldBegin(OPTIONS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.options.size()));
+            for (SetAttributeTOptions _iter268 : struct.options)
+            {
+              _iter268.write(oprot);
+            }
+            oprot.writeListEnd();
+          }
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -14939,69 +25722,100 @@ public class FileSystemMasterClientService {
 
     }
 
-    private static class rename_argsTupleSchemeFactory implements SchemeFactory {
-      public rename_argsTupleScheme getScheme() {
-        return new rename_argsTupleScheme();
+    private static class setAttributeBatch_argsTupleSchemeFactory implements SchemeFactory {
+      public setAttributeBatch_argsTupleScheme getScheme() {
+        return new setAttributeBatch_argsTupleScheme();
       }
     }
 
-    private static class rename_argsTupleScheme extends TupleScheme<rename_args> {
+    private static class setAttributeBatch_argsTupleScheme extends TupleScheme<setAttributeBatch_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, rename_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, setAttributeBatch_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
-        if (struct.isSetPath()) {
+        if (struct.isSetPaths()) {
           optionals.set(0);
         }
-        if (struct.isSetDstPath()) {
+        if (struct.isSetOptions()) {
           optionals.set(1);
         }
         oprot.writeBitSet(optionals, 2);
-        if (struct.isSetPath()) {
-          oprot.writeString(struct.path);
+        if (struct.isSetPaths()) {
+          {
+            oprot.writeI32(struct.paths.size());
+            for (String _iter269 : struct.paths)
+            {
+              oprot.writeString(_iter269);
+            }
+          }
         }
-        if (struct.isSetDstPath()) {
-          oprot.writeString(struct.dstPath);
+        if (struct.isSetOptions()) {
+          {
+            oprot.writeI32(struct.options.size());
+            for (SetAttributeTOptions _iter270 : struct.options)
+            {
+              _iter270.write(oprot);
+            }
+          }
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, rename_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, setAttributeBatch_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.path = iprot.readString();
-          struct.setPathIsSet(true);
+          {
+            org.apache.thrift.protocol.TList _list271 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
+            struct.paths = new ArrayList<String>(_list271.size);
+            String _elem272;
+            for (int _i273 = 0; _i273 < _list271.size; ++_i273)
+            {
+              _elem272 = iprot.readString();
+              struct.paths.add(_elem272);
+            }
+          }
+          struct.setPathsIsSet(true);
         }
         if (incoming.get(1)) {
-          struct.dstPath = iprot.readString();
-          struct.setDstPathIsSet(true);
+          {
+            org.apache.thrift.protocol.TList _list274 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.options = new ArrayList<SetAttributeTOptions>(_list274.size);
+            SetAttributeTOptions _elem275;
+            for (int _i276 = 0; _i276 < _list274.size; ++_i276)
+            {
+              _elem275 = new SetAttributeTOptions();
+              _elem275.read(iprot);
+              struct.options.add(_elem275);
+            }
+          }
+          struct.setOptionsIsSet(true);
         }
       }
     }
 
   }
 
-  public static class rename_result implements org.apache.thrift.TBase<rename_result, rename_result._Fields>, java.io.Serializable, Cloneable, Comparable<rename_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("rename_result");
+  public static class setAttributeBatch_result implements org.apache.thrift.TBase<setAttributeBatch_result, setAttributeBatch_result._Fields>, java.io.Serializable, Cloneable, Comparable<setAttributeBatch_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("setAttributeBatch_result");
 
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.LIST, (short)0);
     private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
-    private static final org.apache.thrift.protocol.TField IOE_FIELD_DESC = new org.apache.thrift.protocol.TField("ioe", org.apache.thrift.protocol.TType.STRUCT, (short)2);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new rename_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new rename_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new setAttributeBatch_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new setAttributeBatch_resultTupleSchemeFactory());
     }
 
+    private List<FileSystemBatchTResult> success; // required
     private alluxio.thrift.AlluxioTException e; // required
-    private alluxio.thrift.ThriftIOException ioe; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      E((short)1, "e"),
-      IOE((short)2, "ioe");
+      SUCCESS((short)0, "success"),
+      E((short)1, "e");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -15016,10 +25830,10 @@ public class FileSystemMasterClientService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
           case 1: // E
             return E;
-          case 2: // IOE
-            return IOE;
           default:
             return null;
         }
@@ -15063,111 +25877,131 @@ public class FileSystemMasterClientService {
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, FileSystemBatchTResult.class))));
       tmpMap.put(_Fields.E, new org.apache.thrift.meta_data.FieldMetaData("e", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
-      tmpMap.put(_Fields.IOE, new org.apache.thrift.meta_data.FieldMetaData("ioe", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(rename_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(setAttributeBatch_result.class, metaDataMap);
     }
 
-    public rename_result() {
+    public setAttributeBatch_result() {
     }
 
-    public rename_result(
-      alluxio.thrift.AlluxioTException e,
-      alluxio.thrift.ThriftIOException ioe)
+    public setAttributeBatch_result(
+      List<FileSystemBatchTResult> success,
+      alluxio.thrift.AlluxioTException e)
     {
       this();
+      this.success = success;
       this.e = e;
-      this.ioe = ioe;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public rename_result(rename_result other) {
-      if (other.isSetE()) {
-        this.e = new alluxio.thrift.AlluxioTException(other.e);
+    public setAttributeBatch_result(setAttributeBatch_result other) {
+      if (other.isSetSuccess()) {
+        List<FileSystemBatchTResult> __this__success = new ArrayList<FileSystemBatchTResult>(other.success.size());
+        for (FileSystemBatchTResult other_element : other.success) {
+          __this__success.add(new FileSystemBatchTResult(other_element));
+        }
+        this.success = __this__success;
       }
-      if (other.isSetIoe()) {
-        this.ioe = new alluxio.thrift.ThriftIOException(other.ioe);
+      if (other.isSetE()) {
+        this.e = new alluxio.thrift.AlluxioTException(other.e);
       }
     }
 
-    public rename_result deepCopy() {
-      return new rename_result(this);
+    public setAttributeBatch_result deepCopy() {
+      return new setAttributeBatch_result(this);
     }
 
     @Override
     public void clear() {
+      this.success = null;
       this.e = null;
-      this.ioe = null;
     }
 
-    public alluxio.thrift.AlluxioTException getE() {
-      return this.e;
+    public int getSuccessSize() {
+      return (this.success == null) ? 0 : this.success.size();
     }
 
-    public rename_result setE(alluxio.thrift.AlluxioTException e) {
-      this.e = e;
+    public java.util.Iterator<FileSystemBatchTResult> getSuccessIterator() {
+      return (this.success == null) ? null : this.success.iterator();
+    }
+
+    public void addToSuccess(FileSystemBatchTResult elem) {
+      if (this.success == null) {
+        this.success = new ArrayList<FileSystemBatchTResult>();
+      }
+      this.success.add(elem);
+    }
+
+    public List<FileSystemBatchTResult> getSuccess() {
+      return this.success;
+    }
+
+    public setAttributeBatch_result setSuccess(List<FileSystemBatchTResult> success) {
+      this.success = success;
       return this;
     }
 
-    public void unsetE() {
-      this.e = null;
+    public void unsetSuccess() {
+      this.success = null;
     }
 
-    /** Returns true if field e is set (has been assigned a value) and false otherwise */
-    public boolean isSetE() {
-      return this.e != null;
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
     }
 
-    public void setEIsSet(boolean value) {
+    public void setSuccessIsSet(boolean value) {
       if (!value) {
-        this.e = null;
+        this.success = null;
       }
     }
 
-    public alluxio.thrift.ThriftIOException getIoe() {
-      return this.ioe;
+    public alluxio.thrift.AlluxioTException getE() {
+      return this.e;
     }
 
-    public rename_result setIoe(alluxio.thrift.ThriftIOException ioe) {
-      this.ioe = ioe;
+    public setAttributeBatch_result setE(alluxio.thrift.AlluxioTException e) {
+      this.e = e;
       return this;
     }
 
-    public void unsetIoe() {
-      this.ioe = null;
+    public void unsetE() {
+      this.e = null;
     }
 
-    /** Returns true if field ioe is set (has been assigned a value) and false otherwise */
-    public boolean isSetIoe() {
-      return this.ioe != null;
+    /** Returns true if field e is set (has been assigned a value) and false otherwise */
+    public boolean isSetE() {
+      return this.e != null;
     }
 
-    public void setIoeIsSet(boolean value) {
+    public void setEIsSet(boolean value) {
       if (!value) {
-        this.ioe = null;
+        this.e = null;
       }
     }
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
-      case E:
+      case SUCCESS:
         if (value == null) {
-          unsetE();
+          unsetSuccess();
         } else {
-          setE((alluxio.thrift.AlluxioTException)value);
+          setSuccess((List<FileSystemBatchTResult>)value);
         }
         break;
 
-      case IOE:
+      case E:
         if (value == null) {
-          unsetIoe();
+          unsetE();
         } else {
-          setIoe((alluxio.thrift.ThriftIOException)value);
+          setE((alluxio.thrift.AlluxioTException)value);
         }
         break;
 
@@ -15176,12 +26010,12 @@ public class FileSystemMasterClientService {
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
       case E:
         return getE();
 
-      case IOE:
-        return getIoe();
-
       }
       throw new IllegalStateException();
     }
@@ -15193,10 +26027,10 @@ public class FileSystemMasterClientService {
       }
 
       switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
       case E:
         return isSetE();
-      case IOE:
-        return isSetIoe();
       }
       throw new IllegalStateException();
     }
@@ -15205,15 +26039,24 @@ public class FileSystemMasterClientService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof rename_result)
-        return this.equals((rename_result)that);
+      if (that instanceof setAttributeBatch_result)
+        return this.equals((setAttributeBatch_result)that);
       return false;
     }
 
-    public boolean equals(rename_result that) {
+    public boolean equals(setAttributeBatch_result that) {
       if (that == null)
         return false;
 
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
       boolean this_present_e = true && this.isSetE();
       boolean that_present_e = true && that.isSetE();
       if (this_present_e || that_present_e) {
@@ -15223,15 +26066,6 @@ public class FileSystemMasterClientService {
           return false;
       }
 
-      boolean this_present_ioe = true && this.isSetIoe();
-      boolean that_present_ioe = true && that.isSetIoe();
-      if (this_present_ioe || that_present_ioe) {
-        if (!(this_present_ioe && that_present_ioe))
-          return false;
-        if (!this.ioe.equals(that.ioe))
-          return false;
-      }
-
       return true;
     }
 
@@ -15239,43 +26073,43 @@ public class FileSystemMasterClientService {
     public int hashCode() {
       List<Object> list = new ArrayList<Object>();
 
+      boolean present_success = true && (isSetSuccess());
+      list.add(present_success);
+      if (present_success)
+        list.add(success);
+
       boolean present_e = true && (isSetE());
       list.add(present_e);
       if (present_e)
         list.add(e);
 
-      boolean present_ioe = true && (isSetIoe());
-      list.add(present_ioe);
-      if (present_ioe)
-        list.add(ioe);
-
       return list.hashCode();
     }
 
     @Override
-    public int compareTo(rename_result other) {
+    public int compareTo(setAttributeBatch_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = Boolean.valueOf(isSetE()).compareTo(other.isSetE());
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetE()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.e, other.e);
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
         if (lastComparison != 0) {
           return lastComparison;
         }
       }
-      lastComparison = Boolean.valueOf(isSetIoe()).compareTo(other.isSetIoe());
+      lastComparison = Boolean.valueOf(isSetE()).compareTo(other.isSetE());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetIoe()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.ioe, other.ioe);
+      if (isSetE()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.e, other.e);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -15293,26 +26127,26 @@ public class FileSystemMasterClientService {
 
     public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
       schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
-      }
+    }
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("rename_result(");
+      StringBuilder sb = new StringBuilder("setAttributeBatch_result(");
       boolean first = true;
 
-      sb.append("e:");
-      if (this.e == null) {
+      sb.append("success:");
+      if (this.success == null) {
         sb.append("null");
       } else {
-        sb.append(this.e);
+        sb.append(this.success);
       }
       first = false;
       if (!first) sb.append(", ");
-      sb.append("ioe:");
-      if (this.ioe == null) {
+      sb.append("e:");
+      if (this.e == null) {
         sb.append("null");
       } else {
-        sb.append(this.ioe);
+        sb.append(this.e);
       }
       first = false;
       sb.append(")");
@@ -15340,15 +26174,15 @@ public class FileSystemMasterClientService {
       }
     }
 
-    private static class rename_resultStandardSchemeFactory implements SchemeFactory {
-      public rename_resultStandardScheme getScheme() {
-        return new rename_resultStandardScheme();
+    private static class setAttributeBatch_resultStandardSchemeFactory implements SchemeFactory {
+      public setAttributeBatch_resultStandardScheme getScheme() {
+        return new setAttributeBatch_resultStandardScheme();
       }
     }
 
-    private static class rename_resultStandardScheme extends StandardScheme<rename_result> {
+    private static class setAttributeBatch_resultStandardScheme extends StandardScheme<setAttributeBatch_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, rename_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, setAttributeBatch_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -15358,20 +26192,30 @@ public class FileSystemMasterClientService {
             break;
           }
           switch (schemeField.id) {
-            case 1: // E
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.e = new alluxio.thrift.AlluxioTException();
-                struct.e.read(iprot);
-                struct.setEIsSet(true);
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list281 = iprot.readListBegin();
+                  struct.success = new ArrayList<FileSystemBatchTResult>(_list281.size);
+                  FileSystemBatchTResult _elem282;
+                  for (int _i283 = 0; _i283 < _list281.size; ++_i283)
+                  {
+                    _elem282 = new FileSystemBatchTResult();
+                    _elem282.read(iprot);
+                    struct.success.add(_elem282);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setSuccessIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 2: // IOE
+            case 1: // E
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.ioe = new alluxio.thrift.ThriftIOException();
-                struct.ioe.read(iprot);
-                struct.setIoeIsSet(true);
+                struct.e = new alluxio.thrift.AlluxioTException();
+                struct.e.read(iprot);
+                struct.setEIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -15387,97 +26231,113 @@ public class FileSystemMasterClientService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, rename_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, setAttributeBatch_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.success.size()));
+            for (FileSystemBatchTResult _iter284 : struct.success)
+            {
+              _iter284.write(oprot);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
         if (struct.e != null) {
           oprot.writeFieldBegin(E_FIELD_DESC);
           struct.e.write(oprot);
           oprot.writeFieldEnd();
         }
-        if (struct.ioe != null) {
-          oprot.writeFieldBegin(IOE_FIELD_DESC);
-          struct.ioe.write(oprot);
-          oprot.writeFieldEnd();
-        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class rename_resultTupleSchemeFactory implements SchemeFactory {
-      public rename_resultTupleScheme getScheme() {
-        return new rename_resultTupleScheme();
+    private static class setAttributeBatch_resultTupleSchemeFactory implements SchemeFactory {
+      public setAttributeBatch_resultTupleScheme getScheme() {
+        return new setAttributeBatch_resultTupleScheme();
       }
     }
 
-    private static class rename_resultTupleScheme extends TupleScheme<rename_result> {
+    private static class setAttributeBatch_resultTupleScheme extends TupleScheme<setAttributeBatch_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, rename_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, setAttributeBatch_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
-        if (struct.isSetE()) {
+        if (struct.isSetSuccess()) {
           optionals.set(0);
         }
-        if (struct.isSetIoe()) {
+        if (struct.isSetE()) {
           optionals.set(1);
         }
         oprot.writeBitSet(optionals, 2);
+        if (struct.isSetSuccess()) {
+          {
+            oprot.writeI32(struct.success.size());
+            for (FileSystemBatchTResult _iter285 : struct.success)
+            {
+              _iter285.write(oprot);
+            }
+          }
+        }
         if (struct.isSetE()) {
           struct.e.write(oprot);
         }
-        if (struct.isSetIoe()) {
-          struct.ioe.write(oprot);
-        }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, rename_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, setAttributeBatch_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
+          {
+            org.apache.thrift.protocol.TList _list286 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.success = new ArrayList<FileSystemBatchTResult>(_list286.size);
+            FileSystemBatchTResult _elem287;
+            for (int _i288 = 0; _i288 < _list286.size; ++_i288)
+            {
+              _elem287 = new FileSystemBatchTResult();
+              _elem287.read(iprot);
+              struct.success.add(_elem287);
+            }
+          }
+          struct.setSuccessIsSet(true);
+        }
+        if (incoming.get(1)) {
           struct.e = new alluxio.thrift.AlluxioTException();
           struct.e.read(iprot);
           struct.setEIsSet(true);
         }
-        if (incoming.get(1)) {
-          struct.ioe = new alluxio.thrift.ThriftIOException();
-          struct.ioe.read(iprot);
-          struct.setIoeIsSet(true);
-        }
       }
     }
 
   }
 
-  public static class setAttribute_args implements org.apache.thrift.TBase<setAttribute_args, setAttribute_args._Fields>, java.io.Serializable, Cloneable, Comparable<setAttribute_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("setAttribute_args");
+  public static class scheduleAsyncPersist_args implements org.apache.thrift.TBase<scheduleAsyncPersist_args, scheduleAsyncPersist_args._Fields>, java.io.Serializable, Cloneable, Comparable<scheduleAsyncPersist_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("scheduleAsyncPersist_args");
 
     private static final org.apache.thrift.protocol.TField PATH_FIELD_DESC = new org.apache.thrift.protocol.TField("path", org.apache.thrift.protocol.TType.STRING, (short)1);
-    private static final org.apache.thrift.protocol.TField OPTIONS_FIELD_DESC = new org.apache.thrift.protocol.TField("options", org.apache.thrift.protocol.TType.STRUCT, (short)2);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new setAttribute_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new setAttribute_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new scheduleAsyncPersist_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new scheduleAsyncPersist_argsTupleSchemeFactory());
     }
 
     private String path; // required
-    private SetAttributeTOptions options; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
       /**
-       * the path of the file or directory
-       */
-      PATH((short)1, "path"),
-      /**
-       * the method options
+       * the path of the file
        */
-      OPTIONS((short)2, "options");
+      PATH((short)1, "path");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -15494,8 +26354,6 @@ public class FileSystemMasterClientService {
         switch(fieldId) {
           case 1: // PATH
             return PATH;
-          case 2: // OPTIONS
-            return OPTIONS;
           default:
             return null;
         }
@@ -15541,57 +26399,49 @@ public class FileSystemMasterClientService {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.PATH, new org.apache.thrift.meta_data.FieldMetaData("path", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
-      tmpMap.put(_Fields.OPTIONS, new org.apache.thrift.meta_data.FieldMetaData("options", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, SetAttributeTOptions.class)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(setAttribute_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(scheduleAsyncPersist_args.class, metaDataMap);
     }
 
-    public setAttribute_args() {
+    public scheduleAsyncPersist_args() {
     }
 
-    public setAttribute_args(
-      String path,
-      SetAttributeTOptions options)
+    public scheduleAsyncPersist_args(
+      String path)
     {
       this();
       this.path = path;
-      this.options = options;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public setAttribute_args(setAttribute_args other) {
+    public scheduleAsyncPersist_args(scheduleAsyncPersist_args other) {
       if (other.isSetPath()) {
         this.path = other.path;
       }
-      if (other.isSetOptions()) {
-        this.options = new SetAttributeTOptions(other.options);
-      }
     }
 
-    public setAttribute_args deepCopy() {
-      return new setAttribute_args(this);
+    public scheduleAsyncPersist_args deepCopy() {
+      return new scheduleAsyncPersist_args(this);
     }
 
     @Override
     public void clear() {
       this.path = null;
-      this.options = null;
     }
 
     /**
-     * the path of the file or directory
+     * the path of the file
      */
     public String getPath() {
       return this.path;
     }
 
     /**
-     * the path of the file or directory
+     * the path of the file
      */
-    public setAttribute_args setPath(String path) {
+    public scheduleAsyncPersist_args setPath(String path) {
       this.path = path;
       return this;
     }
@@ -15611,36 +26461,6 @@ public class FileSystemMasterClientService {
       }
     }
 
-    /**
-     * the method options
-     */
-    public SetAttributeTOptions getOptions() {
-      return this.options;
-    }
-
-    /**
-     * the method options
-     */
-    public setAttribute_args setOptions(SetAttributeTOptions options) {
-      this.options = options;
-      return this;
-    }
-
-    public void unsetOptions() {
-      this.options = null;
-    }
-
-    /** Returns true if field options is set (has been assigned a value) and false otherwise */
-    public boolean isSetOptions() {
-      return this.options != null;
-    }
-
-    public void setOptionsIsSet(boolean value) {
-      if (!value) {
-        this.options = null;
-      }
-    }
-
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
       case PATH:
@@ -15651,14 +26471,6 @@ public class FileSystemMasterClientService {
         }
         break;
 
-      case OPTIONS:
-        if (value == null) {
-          unsetOptions();
-        } else {
-          setOptions((SetAttributeTOptions)value);
-        }
-        break;
-
       }
     }
 
@@ -15667,9 +26479,6 @@ public class FileSystemMasterClientService {
       case PATH:
         return getPath();
 
-      case OPTIONS:
-        return getOptions();
-
       }
       throw new IllegalStateException();
     }
@@ -15683,8 +26492,6 @@ public class FileSystemMasterClientService {
       switch (field) {
       case PATH:
         return isSetPath();
-      case OPTIONS:
-        return isSetOptions();
       }
       throw new IllegalStateException();
     }
@@ -15693,12 +26500,12 @@ public class FileSystemMasterClientService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof setAttribute_args)
-        return this.equals((setAttribute_args)that);
+      if (that instanceof scheduleAsyncPersist_args)
+        return this.equals((scheduleAsyncPersist_args)that);
       return false;
     }
 
-    public boolean equals(setAttribute_args that) {
+    public boolean equals(scheduleAsyncPersist_args that) {
       if (that == null)
         return false;
 
@@ -15711,15 +26518,6 @@ public class FileSystemMasterClientService {
           return false;
       }
 
-      boolean this_present_options = true && this.isSetOptions();
-      boolean that_present_options = true && that.isSetOptions();
-      if (this_present_options || that_present_options) {
-        if (!(this_present_options && that_present_options))
-          return false;
-        if (!this.options.equals(that.options))
-          return false;
-      }
-
       return true;
     }
 
@@ -15732,16 +26530,11 @@ public class FileSystemMasterClientService {
       if (present_path)
         list.add(path);
 
-      boolean present_options = true && (isSetOptions());
-      list.add(present_options);
-      if (present_options)
-        list.add(options);
-
       return list.hashCode();
     }
 
     @Override
-    public int compareTo(setAttribute_args other) {
+    public int compareTo(scheduleAsyncPersist_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -15758,16 +26551,6 @@ public class FileSystemMasterClientService {
           return lastComparison;
         }
       }
-      lastComparison = Boolean.valueOf(isSetOptions()).compareTo(other.isSetOptions());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetOptions()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.options, other.options);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
       return 0;
     }
 
@@ -15785,7 +26568,7 @@ public class FileSystemMasterClientService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("setAttribute_args(");
+      StringBuilder sb = new StringBuilder("scheduleAsyncPersist_args(");
       boolean first = true;
 
       sb.append("path:");
@@ -15795,14 +26578,6 @@ public class FileSystemMasterClientService {
         sb.append(this.path);
       }
       first = false;
-      if (!first) sb.append(", ");
-      sb.append("options:");
-      if (this.options == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.options);
-      }
-      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -15810,9 +26585,6 @@ public class FileSystemMasterClientService {
     public void validate() throws org.apache.thrift.TException {
       // check for required fields
       // check for sub-struct validity
-      if (options != null) {
-        options.validate();
-      }
     }
 
     private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
@@ -15831,15 +26603,15 @@ public class FileSystemMasterClientService {
       }
     }
 
-    private static class setAttribute_argsStandardSchemeFactory implements SchemeFactory {
-      public setAttribute_argsStandardScheme getScheme() {
-        return new setAttribute_argsStandardScheme();
+    private static class scheduleAsyncPersist_argsStandardSchemeFactory implements SchemeFactory {
+      public scheduleAsyncPersist_argsStandardScheme getScheme() {
+        return new scheduleAsyncPersist_argsStandardScheme();
       }
     }
 
-    private static class setAttribute_argsStandardScheme extends StandardScheme<setAttribute_args> {
+    private static class scheduleAsyncPersist_argsStandardScheme extends StandardScheme<scheduleAsyncPersist_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, setAttribute_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, scheduleAsyncPersist_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -15857,15 +26629,6 @@ public class FileSystemMasterClientService {
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 2: // OPTIONS
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.options = new SetAttributeTOptions();
-                struct.options.read(iprot);
-                struct.setOptionsIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -15877,7 +26640,7 @@ public class FileSystemMasterClientService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, setAttribute_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, scheduleAsyncPersist_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -15886,71 +26649,55 @@ public class FileSystemMasterClientService {
           oprot.writeString(struct.path);
           oprot.writeFieldEnd();
         }
-        if (struct.options != null) {
-          oprot.writeFieldBegin(OPTIONS_FIELD_DESC);
-          struct.options.write(oprot);
-          oprot.writeFieldEnd();
-        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class setAttribute_argsTupleSchemeFactory implements SchemeFactory {
-      public setAttribute_argsTupleScheme getScheme() {
-        return new setAttribute_argsTupleScheme();
+    private static class scheduleAsyncPersist_argsTupleSchemeFactory implements SchemeFactory {
+      public scheduleAsyncPersist_argsTupleScheme getScheme() {
+        return new scheduleAsyncPersist_argsTupleScheme();
       }
     }
 
-    private static class setAttribute_argsTupleScheme extends TupleScheme<setAttribute_args> {
+    private static class scheduleAsyncPersist_argsTupleScheme extends TupleScheme<scheduleAsyncPersist_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, setAttribute_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, scheduleAsyncPersist_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetPath()) {
           optionals.set(0);
         }
-        if (struct.isSetOptions()) {
-          optionals.set(1);
-        }
-        oprot.writeBitSet(optionals, 2);
+        oprot.writeBitSet(optionals, 1);
         if (struct.isSetPath()) {
           oprot.writeString(struct.path);
         }
-        if (struct.isSetOptions()) {
-          struct.options.write(oprot);
-        }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, setAttribute_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, scheduleAsyncPersist_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(2);
+        BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
           struct.path = iprot.readString();
           struct.setPathIsSet(true);
         }
-        if (incoming.get(1)) {
-          struct.options = new SetAttributeTOptions();
-          struct.options.read(iprot);
-          struct.setOptionsIsSet(true);
-        }
       }
     }
 
   }
 
-  public static class setAttribute_result implements org.apache.thrift.TBase<setAttribute_result, setAttribute_result._Fields>, java.io.Serializable, Cloneable, Comparable<setAttribute_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("setAttribute_result");
+  public static class scheduleAsyncPersist_result implements org.apache.thrift.TBase<scheduleAsyncPersist_result, scheduleAsyncPersist_result._Fields>, java.io.Serializable, Cloneable, Comparable<scheduleAsyncPersist_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("scheduleAsyncPersist_result");
 
     private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new setAttribute_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new setAttribute_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new scheduleAsyncPersist_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new scheduleAsyncPersist_resultTupleSchemeFactory());
     }
 
     private alluxio.thrift.AlluxioTException e; // required
@@ -16020,13 +26767,13 @@ public class FileSystemMasterClientService {
       tmpMap.put(_Fields.E, new org.apache.thrift.meta_data.FieldMetaData("e", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(setAttribute_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(scheduleAsyncPersist_result.class, metaDataMap);
     }
 
-    public setAttribute_result() {
+    public scheduleAsyncPersist_result() {
     }
 
-    public setAttribute_result(
+    public scheduleAsyncPersist_result(
       alluxio.thrift.AlluxioTException e)
     {
       this();
@@ -16036,14 +26783,14 @@ public class FileSystemMasterClientService {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public setAttribute_result(setAttribute_result other) {
+    public scheduleAsyncPersist_result(scheduleAsyncPersist_result other) {
       if (other.isSetE()) {
         this.e = new alluxio.thrift.AlluxioTException(other.e);
       }
     }
 
-    public setAttribute_result deepCopy() {
-      return new setAttribute_result(this);
+    public scheduleAsyncPersist_result deepCopy() {
+      return new scheduleAsyncPersist_result(this);
     }
 
     @Override
@@ -16055,7 +26802,7 @@ public class FileSystemMasterClientService {
       return this.e;
     }
 
-    public setAttribute_result setE(alluxio.thrift.AlluxioTException e) {
+    public scheduleAsyncPersist_result setE(alluxio.thrift.AlluxioTException e) {
       this.e = e;
       return this;
     }
@@ -16114,12 +26861,12 @@ public class FileSystemMasterClientService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof setAttribute_result)
-        return this.equals((setAttribute_result)that);
+      if (that instanceof scheduleAsyncPersist_result)
+        return this.equals((scheduleAsyncPersist_result)that);
       return false;
     }
 
-    public boolean equals(setAttribute_result that) {
+    public boolean equals(scheduleAsyncPersist_result that) {
       if (that == null)
         return false;
 
@@ -16148,7 +26895,7 @@ public class FileSystemMasterClientService {
     }
 
     @Override
-    public int compareTo(setAttribute_result other) {
+    public int compareTo(scheduleAsyncPersist_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -16182,7 +26929,7 @@ public class FileSystemMasterClientService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("setAttribute_result(");
+      StringBuilder sb = new StringBuilder("scheduleAsyncPersist_result(");
       boolean first = true;
 
       sb.append("e:");
@@ -16217,15 +26964,15 @@ public class FileSystemMasterClientService {
       }
     }
 
-    private static class setAttribute_resultStandardSchemeFactory implements SchemeFactory {
-      public setAttribute_resultStandardScheme getScheme() {
-        return new setAttribute_resultStandardScheme();
+    private static class scheduleAsyncPersist_resultStandardSchemeFactory implements SchemeFactory {
+      public scheduleAsyncPersist_resultStandardScheme getScheme() {
+        return new scheduleAsyncPersist_resultStandardScheme();
       }
     }
 
-    private static class setAttribute_resultStandardScheme extends StandardScheme<setAttribute_result> {
+    private static class scheduleAsyncPersist_resultStandardScheme extends StandardScheme<scheduleAsyncPersist_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, setAttribute_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, scheduleAsyncPersist_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -16255,7 +27002,7 @@ public class FileSystemMasterClientService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, setAttribute_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, scheduleAsyncPersist_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -16270,16 +27017,16 @@ public class FileSystemMasterClientService {
 
     }
 
-    private static class setAttribute_resultTupleSchemeFactory implements SchemeFactory {
-      public setAttribute_resultTupleScheme getScheme() {
-        return new setAttribute_resultTupleScheme();
+    private static class scheduleAsyncPersist_resultTupleSchemeFactory implements SchemeFactory {
+      public scheduleAsyncPersist_resultTupleScheme getScheme() {
+        return new scheduleAsyncPersist_resultTupleScheme();
       }
     }
 
-    private static class setAttribute_resultTupleScheme extends TupleScheme<setAttribute_result> {
+    private static class scheduleAsyncPersist_resultTupleScheme extends TupleScheme<scheduleAsyncPersist_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, setAttribute_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, scheduleAsyncPersist_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetE()) {
@@ -16292,7 +27039,7 @@ public class FileSystemMasterClientService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, setAttribute_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, scheduleAsyncPersist_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
@@ -16305,25 +27052,31 @@ public class FileSystemMasterClientService {
 
   }
 
-  public static class scheduleAsyncPersist_args implements org.apache.thrift.TBase<scheduleAsyncPersist_args, scheduleAsyncPersist_args._Fields>, java.io.Serializable, Cloneable, Comparable<scheduleAsyncPersist_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("scheduleAsyncPersist_args");
+  public static class submitLoadJob_args implements org.apache.thrift.TBase<submitLoadJob_args, submitLoadJob_args._Fields>, java.io.Serializable, Cloneable, Comparable<submitLoadJob_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("submitLoadJob_args");
 
     private static final org.apache.thrift.protocol.TField PATH_FIELD_DESC = new org.apache.thrift.protocol.TField("path", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField OPTIONS_FIELD_DESC = new org.apache.thrift.protocol.TField("options", org.apache.thrift.protocol.TType.STRUCT, (short)2);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new scheduleAsyncPersist_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new scheduleAsyncPersist_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new submitLoadJob_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new submitLoadJob_argsTupleSchemeFactory());
     }
 
     private String path; // required
+    private LoadJobTOptions options; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
       /**
-       * the path of the file
+       * the path of the file or directory
        */
-      PATH((short)1, "path");
+      PATH((short)1, "path"),
+      /**
+       * the method options
+       */
+      OPTIONS((short)2, "options");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -16340,6 +27093,8 @@ public class FileSystemMasterClientService {
         switch(fieldId) {
           case 1: // PATH
             return PATH;
+          case 2: // OPTIONS
+            return OPTIONS;
           default:
             return null;
         }
@@ -16385,65 +27140,103 @@ public class FileSystemMasterClientService {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.PATH, new org.apache.thrift.meta_data.FieldMetaData("path", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.OPTIONS, new org.apache.thrift.meta_data.FieldMetaData("options", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, LoadJobTOptions.class)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(scheduleAsyncPersist_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(submitLoadJob_args.class, metaDataMap);
     }
 
-    public scheduleAsyncPersist_args() {
+    public submitLoadJob_args() {
     }
 
-    public scheduleAsyncPersist_args(
-      String path)
+    public submitLoadJob_args(
+      String path,
+      LoadJobTOptions options)
     {
       this();
       this.path = path;
+      this.options = options;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public scheduleAsyncPersist_args(scheduleAsyncPersist_args other) {
+    public submitLoadJob_args(submitLoadJob_args other) {
       if (other.isSetPath()) {
         this.path = other.path;
       }
+      if (other.isSetOptions()) {
+        this.options = new LoadJobTOptions(other.options);
+      }
     }
 
-    public scheduleAsyncPersist_args deepCopy() {
-      return new scheduleAsyncPersist_args(this);
+    public submitLoadJob_args deepCopy() {
+      return new submitLoadJob_args(this);
     }
 
     @Override
     public void clear() {
       this.path = null;
+      this.options = null;
+    }
+
+    /**
+     * the path of the file or directory
+     */
+    public String getPath() {
+      return this.path;
+    }
+
+    /**
+     * the path of the file or directory
+     */
+    public submitLoadJob_args setPath(String path) {
+      this.path = path;
+      return this;
+    }
+
+    public void unsetPath() {
+      this.path = null;
+    }
+
+    /** Returns true if field path is set (has been assigned a value) and false otherwise */
+    public boolean isSetPath() {
+      return this.path != null;
+    }
+
+    public void setPathIsSet(boolean value) {
+      if (!value) {
+        this.path = null;
+      }
     }
 
     /**
-     * the path of the file
+     * the method options
      */
-    public String getPath() {
-      return this.path;
+    public LoadJobTOptions getOptions() {
+      return this.options;
     }
 
     /**
-     * the path of the file
+     * the method options
      */
-    public scheduleAsyncPersist_args setPath(String path) {
-      this.path = path;
+    public submitLoadJob_args setOptions(LoadJobTOptions options) {
+      this.options = options;
       return this;
     }
 
-    public void unsetPath() {
-      this.path = null;
+    public void unsetOptions() {
+      this.options = null;
     }
 
-    /** Returns true if field path is set (has been assigned a value) and false otherwise */
-    public boolean isSetPath() {
-      return this.path != null;
+    /** Returns true if field options is set (has been assigned a value) and false otherwise */
+    public boolean isSetOptions() {
+      return this.options != null;
     }
 
-    public void setPathIsSet(boolean value) {
+    public void setOptionsIsSet(boolean value) {
       if (!value) {
-        this.path = null;
+        this.options = null;
       }
     }
 
@@ -16457,6 +27250,14 @@ public class FileSystemMasterClientService {
         }
         break;
 
+      case OPTIONS:
+        if (value == null) {
+          unsetOptions();
+        } else {
+          setOptions((LoadJobTOptions)value);
+        }
+        break;
+
       }
     }
 
@@ -16465,6 +27266,9 @@ public class FileSystemMasterClientService {
       case PATH:
         return getPath();
 
+      case OPTIONS:
+        return getOptions();
+
       }
       throw new IllegalStateException();
     }
@@ -16478,6 +27282,8 @@ public class FileSystemMasterClientService {
       switch (field) {
       case PATH:
         return isSetPath();
+      case OPTIONS:
+        return isSetOptions();
       }
       throw new IllegalStateException();
     }
@@ -16486,12 +27292,12 @@ public class FileSystemMasterClientService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof scheduleAsyncPersist_args)
-        return this.equals((scheduleAsyncPersist_args)that);
+      if (that instanceof submitLoadJob_args)
+        return this.equals((submitLoadJob_args)that);
       return false;
     }
 
-    public boolean equals(scheduleAsyncPersist_args that) {
+    public boolean equals(submitLoadJob_args that) {
       if (that == null)
         return false;
 
@@ -16504,6 +27310,15 @@ public class FileSystemMasterClientService {
           return false;
       }
 
+      boolean this_present_options = true && this.isSetOptions();
+      boolean that_present_options = true && that.isSetOptions();
+      if (this_present_options || that_present_options) {
+        if (!(this_present_options && that_present_options))
+          return false;
+        if (!this.options.equals(that.options))
+          return false;
+      }
+
       return true;
     }
 
@@ -16516,11 +27331,16 @@ public class FileSystemMasterClientService {
       if (present_path)
         list.add(path);
 
+      boolean present_options = true && (isSetOptions());
+      list.add(present_options);
+      if (present_options)
+        list.add(options);
+
       return list.hashCode();
     }
 
     @Override
-    public int compareTo(scheduleAsyncPersist_args other) {
+    public int compareTo(submitLoadJob_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -16537,6 +27357,16 @@ public class FileSystemMasterClientService {
           return lastComparison;
         }
       }
+      lastComparison = Boolean.valueOf(isSetOptions()).compareTo(other.isSetOptions());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetOptions()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.options, other.options);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
       return 0;
     }
 
@@ -16554,7 +27384,7 @@ public class FileSystemMasterClientService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("scheduleAsyncPersist_args(");
+      StringBuilder sb = new StringBuilder("submitLoadJob_args(");
       boolean first = true;
 
       sb.append("path:");
@@ -16564,6 +27394,14 @@ public class FileSystemMasterClientService {
         sb.append(this.path);
       }
       first = false;
+      if (!first) sb.append(", ");
+      sb.append("options:");
+      if (this.options == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.options);
+      }
+      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -16571,6 +27409,9 @@ public class FileSystemMasterClientService {
     public void validate() throws org.apache.thrift.TException {
       // check for required fields
       // check for sub-struct validity
+      if (options != null) {
+        options.validate();
+      }
     }
 
     private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
@@ -16589,15 +27430,15 @@ public class FileSystemMasterClientService {
       }
     }
 
-    private static class scheduleAsyncPersist_argsStandardSchemeFactory implements SchemeFactory {
-      public scheduleAsyncPersist_argsStandardScheme getScheme() {
-        return new scheduleAsyncPersist_argsStandardScheme();
+    private static class submitLoadJob_argsStandardSchemeFactory implements SchemeFactory {
+      public submitLoadJob_argsStandardScheme getScheme() {
+        return new submitLoadJob_argsStandardScheme();
       }
     }
 
-    private static class scheduleAsyncPersist_argsStandardScheme extends StandardScheme<scheduleAsyncPersist_args> {
+    private static class submitLoadJob_argsStandardScheme extends StandardScheme<submitLoadJob_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, scheduleAsyncPersist_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, submitLoadJob_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -16615,6 +27456,15 @@ public class FileSystemMasterClientService {
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
+            case 2: // OPTIONS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.options = new LoadJobTOptions();
+                struct.options.read(iprot);
+                struct.setOptionsIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -16626,7 +27476,7 @@ public class FileSystemMasterClientService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, scheduleAsyncPersist_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, submitLoadJob_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -16635,61 +27485,80 @@ public class FileSystemMasterClientService {
           oprot.writeString(struct.path);
           oprot.writeFieldEnd();
         }
+        if (struct.options != null) {
+          oprot.writeFieldBegin(OPTIONS_FIELD_DESC);
+          struct.options.write(oprot);
+          oprot.writeFieldEnd();
+        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class scheduleAsyncPersist_argsTupleSchemeFactory implements SchemeFactory {
-      public scheduleAsyncPersist_argsTupleScheme getScheme() {
-        return new scheduleAsyncPersist_argsTupleScheme();
+    private static class submitLoadJob_argsTupleSchemeFactory implements SchemeFactory {
+      public submitLoadJob_argsTupleScheme getScheme() {
+        return new submitLoadJob_argsTupleScheme();
       }
     }
 
-    private static class scheduleAsyncPersist_argsTupleScheme extends TupleScheme<scheduleAsyncPersist_args> {
+    private static class submitLoadJob_argsTupleScheme extends TupleScheme<submitLoadJob_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, scheduleAsyncPersist_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, submitLoadJob_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetPath()) {
           optionals.set(0);
         }
-        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetOptions()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
         if (struct.isSetPath()) {
           oprot.writeString(struct.path);
         }
+        if (struct.isSetOptions()) {
+          struct.options.write(oprot);
+        }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, scheduleAsyncPersist_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, submitLoadJob_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(1);
+        BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
           struct.path = iprot.readString();
           struct.setPathIsSet(true);
         }
+        if (incoming.get(1)) {
+          struct.options = new LoadJobTOptions();
+          struct.options.read(iprot);
+          struct.setOptionsIsSet(true);
+        }
       }
     }
 
   }
 
-  public static class scheduleAsyncPersist_result implements org.apache.thrift.TBase<scheduleAsyncPersist_result, scheduleAsyncPersist_result._Fields>, java.io.Serializable, Cloneable, Comparable<scheduleAsyncPersist_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("scheduleAsyncPersist_result");
+  public static class submitLoadJob_result implements org.apache.thrift.TBase<submitLoadJob_result, submitLoadJob_result._Fields>, java.io.Serializable, Cloneable, Comparable<submitLoadJob_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("submitLoadJob_result");
 
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.I64, (short)0);
     private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new scheduleAsyncPersist_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new scheduleAsyncPersist_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new submitLoadJob_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new submitLoadJob_resultTupleSchemeFactory());
     }
 
+    private long success; // required
     private alluxio.thrift.AlluxioTException e; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success"),
       E((short)1, "e");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
@@ -16705,6 +27574,8 @@ public class FileSystemMasterClientService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
           case 1: // E
             return E;
           default:
@@ -16747,48 +27618,82 @@ public class FileSystemMasterClientService {
     }
 
     // isset id assignments
+    private static final int __SUCCESS_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
       tmpMap.put(_Fields.E, new org.apache.thrift.meta_data.FieldMetaData("e", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(scheduleAsyncPersist_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(submitLoadJob_result.class, metaDataMap);
     }
 
-    public scheduleAsyncPersist_result() {
+    public submitLoadJob_result() {
     }
 
-    public scheduleAsyncPersist_result(
+    public submitLoadJob_result(
+      long success,
       alluxio.thrift.AlluxioTException e)
     {
       this();
+      this.success = success;
+      setSuccessIsSet(true);
       this.e = e;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public scheduleAsyncPersist_result(scheduleAsyncPersist_result other) {
+    public submitLoadJob_result(submitLoadJob_result other) {
+      __isset_bitfield = other.__isset_bitfield;
+      this.success = other.success;
       if (other.isSetE()) {
         this.e = new alluxio.thrift.AlluxioTException(other.e);
       }
     }
 
-    public scheduleAsyncPersist_result deepCopy() {
-      return new scheduleAsyncPersist_result(this);
+    public submitLoadJob_result deepCopy() {
+      return new submitLoadJob_result(this);
     }
 
     @Override
     public void clear() {
+      setSuccessIsSet(false);
+      this.success = 0;
       this.e = null;
     }
 
+    public long getSuccess() {
+      return this.success;
+    }
+
+    public submitLoadJob_result setSuccess(long success) {
+      this.success = success;
+      setSuccessIsSet(true);
+      return this;
+    }
+
+    public void unsetSuccess() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __SUCCESS_ISSET_ID);
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return EncodingUtils.testBit(__isset_bitfield, __SUCCESS_ISSET_ID);
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
+    }
+
     public alluxio.thrift.AlluxioTException getE() {
       return this.e;
     }
 
-    public scheduleAsyncPersist_result setE(alluxio.thrift.AlluxioTException e) {
+    public submitLoadJob_result setE(alluxio.thrift.AlluxioTException e) {
       this.e = e;
       return this;
     }
@@ -16810,6 +27715,14 @@ public class FileSystemMasterClientService {
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((Long)value);
+        }
+        break;
+
       case E:
         if (value == null) {
           unsetE();
@@ -16823,6 +27736,9 @@ public class FileSystemMasterClientService {
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
       case E:
         return getE();
 
@@ -16837,6 +27753,8 @@ public class FileSystemMasterClientService {
       }
 
       switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
       case E:
         return isSetE();
       }
@@ -16847,15 +27765,24 @@ public class FileSystemMasterClientService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof scheduleAsyncPersist_result)
-        return this.equals((scheduleAsyncPersist_result)that);
+      if (that instanceof submitLoadJob_result)
+        return this.equals((submitLoadJob_result)that);
       return false;
     }
 
-    public boolean equals(scheduleAsyncPersist_result that) {
+    public boolean equals(submitLoadJob_result that) {
       if (that == null)
         return false;
 
+      boolean this_present_success = true;
+      boolean that_present_success = true;
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (this.success != that.success)
+          return false;
+      }
+
       boolean this_present_e = true && this.isSetE();
       boolean that_present_e = true && that.isSetE();
       if (this_present_e || that_present_e) {
@@ -16872,6 +27799,11 @@ public class FileSystemMasterClientService {
     public int hashCode() {
       List<Object> list = new ArrayList<Object>();
 
+      boolean present_success = true;
+      list.add(present_success);
+      if (present_success)
+        list.add(success);
+
       boolean present_e = true && (isSetE());
       list.add(present_e);
       if (present_e)
@@ -16881,13 +27813,23 @@ public class FileSystemMasterClientService {
     }
 
     @Override
-    public int compareTo(scheduleAsyncPersist_result other) {
+    public int compareTo(submitLoadJob_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
       lastComparison = Boolean.valueOf(isSetE()).compareTo(other.isSetE());
       if (lastComparison != 0) {
         return lastComparison;
@@ -16915,9 +27857,13 @@ public class FileSystemMasterClientService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("scheduleAsyncPersist_result(");
+      StringBuilder sb = new StringBuilder("submitLoadJob_result(");
       boolean first = true;
 
+      sb.append("success:");
+      sb.append(this.success);
+      first = false;
+      if (!first) sb.append(", ");
       sb.append("e:");
       if (this.e == null) {
         sb.append("null");
@@ -16944,21 +27890,23 @@ public class FileSystemMasterClientService {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
       try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class scheduleAsyncPersist_resultStandardSchemeFactory implements SchemeFactory {
-      public scheduleAsyncPersist_resultStandardScheme getScheme() {
-        return new scheduleAsyncPersist_resultStandardScheme();
+    private static class submitLoadJob_resultStandardSchemeFactory implements SchemeFactory {
+      public submitLoadJob_resultStandardScheme getScheme() {
+        return new submitLoadJob_resultStandardScheme();
       }
     }
 
-    private static class scheduleAsyncPersist_resultStandardScheme extends StandardScheme<scheduleAsyncPersist_result> {
+    private static class submitLoadJob_resultStandardScheme extends StandardScheme<submitLoadJob_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, scheduleAsyncPersist_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, submitLoadJob_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -16968,6 +27916,14 @@ public class FileSystemMasterClientService {
             break;
           }
           switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+                struct.success = iprot.readI64();
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
             case 1: // E
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
                 struct.e = new alluxio.thrift.AlluxioTException();
@@ -16988,10 +27944,15 @@ public class FileSystemMasterClientService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, scheduleAsyncPersist_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, submitLoadJob_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.isSetSuccess()) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          oprot.writeI64(struct.success);
+          oprot.writeFieldEnd();
+        }
         if (struct.e != null) {
           oprot.writeFieldBegin(E_FIELD_DESC);
           struct.e.write(oprot);
@@ -17003,32 +27964,42 @@ public class FileSystemMasterClientService {
 
     }
 
-    private static class scheduleAsyncPersist_resultTupleSchemeFactory implements SchemeFactory {
-      public scheduleAsyncPersist_resultTupleScheme getScheme() {
-        return new scheduleAsyncPersist_resultTupleScheme();
+    private static class submitLoadJob_resultTupleSchemeFactory implements SchemeFactory {
+      public submitLoadJob_resultTupleScheme getScheme() {
+        return new submitLoadJob_resultTupleScheme();
       }
     }
 
-    private static class scheduleAsyncPersist_resultTupleScheme extends TupleScheme<scheduleAsyncPersist_result> {
+    private static class submitLoadJob_resultTupleScheme extends TupleScheme<submitLoadJob_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, scheduleAsyncPersist_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, submitLoadJob_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
-        if (struct.isSetE()) {
+        if (struct.isSetSuccess()) {
           optionals.set(0);
         }
-        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetE()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetSuccess()) {
+          oprot.writeI64(struct.success);
+        }
         if (struct.isSetE()) {
           struct.e.write(oprot);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, scheduleAsyncPersist_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, submitLoadJob_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(1);
+        BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
+          struct.success = iprot.readI64();
+          struct.setSuccessIsSet(true);
+        }
+        if (incoming.get(1)) {
           struct.e = new alluxio.thrift.AlluxioTException();
           struct.e.read(iprot);
           struct.setEIsSet(true);
@@ -0,0 +1,112 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.util.network;
+
+import alluxio.metrics.MetricsSystem;
+
+import com.codahale.metrics.Gauge;
+import com.google.common.base.Preconditions;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.PooledByteBufAllocator;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * A pool of reference counted off-heap buffers, backed by the {@link PooledByteBufAllocator} which
+ * is shared by the Netty client, the Netty data server and the block streams. Every buffer
+ * acquired from the pool must be released through {@link #release(ByteBuf)} once it is no longer
+ * used. The number of buffers and bytes which are acquired but not yet released is tracked, so a
+ * leak shows up as a steadily growing value of the metrics registered by
+ * {@link #registerGauges(String)}.
+ */
+@ThreadSafe
+public final class NettyBufferPool {
+  /** The allocator shared by all Netty channels and block streams. */
+  public static final ByteBufAllocator ALLOCATOR = PooledByteBufAllocator.DEFAULT;
+
+  public static final String BUFFERS_OUTSTANDING = "PooledBuffersOutstanding";
+  public static final String BYTES_OUTSTANDING = "PooledBytesOutstanding";
+
+  private static final AtomicLong OUTSTANDING_BUFFERS = new AtomicLong(0);
+  private static final AtomicLong OUTSTANDING_BYTES = new AtomicLong(0);
+
+  private NettyBufferPool() {} // prevent instantiation
+
+  /**
+   * Acquires an off-heap buffer of fixed capacity from the pool. The returned buffer has a
+   * reference count of 1.
+   *
+   * @param capacity the capacity of the buffer in bytes
+   * @return the buffer
+   */
+  public static ByteBuf acquire(int capacity) {
+    ByteBuf buf = ALLOCATOR.directBuffer(capacity, capacity);
+    OUTSTANDING_BUFFERS.incrementAndGet();
+    OUTSTANDING_BYTES.addAndGet(buf.capacity());
+    return buf;
+  }
+
+  /**
+   * Releases a buffer acquired by {@link #acquire(int)}, returning it to the pool.
+   *
+   * @param buf the buffer to release
+   */
+  public static void release(ByteBuf buf) {
+    Preconditions.checkNotNull(buf);
+    int capacity = buf.capacity();
+    Preconditions.checkState(buf.release(),
+        "Reference count of the pooled buffer is %s after release (0 expected).", buf.refCnt());
+    OUTSTANDING_BUFFERS.decrementAndGet();
+    OUTSTANDING_BYTES.addAndGet(-capacity);
+  }
+
+  /**
+   * @return the number of buffers acquired from the pool but not yet released
+   */
+  public static long getOutstandingBuffers() {
+    return OUTSTANDING_BUFFERS.get();
+  }
+
+  /**
+   * @return the number of bytes acquired from the pool but not yet released
+   */
+  public static long getOutstandingBytes() {
+    return OUTSTANDING_BYTES.get();
+  }
+
+  /**
+   * Registers the metric gauges of the pool.
+   *
+   * @param instance the instance name, e.g. {@link MetricsSystem#CLIENT_INSTANCE}
+   */
+  public static void registerGauges(String instance) {
+    MetricsSystem.registerGaugeIfAbsent(
+        MetricsSystem.getMetricNameWithUniqueId(instance, BUFFERS_OUTSTANDING),
+        new Gauge<Long>() {
+          @Override
+          public Long getValue() {
+            return getOutstandingBuffers();
+          }
+        });
+    MetricsSystem.registerGaugeIfAbsent(
+        MetricsSystem.getMetricNameWithUniqueId(instance, BYTES_OUTSTANDING),
+        new Gauge<Long>() {
+          @Override
+          public Long getValue() {
+            return getOutstandingBytes();
+          }
+        });
+  }
+}
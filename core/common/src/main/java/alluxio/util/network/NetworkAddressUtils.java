@@ -34,6 +34,7 @@ import java.net.NetworkInterface;
 import java.net.ServerSocket;
 import java.net.Socket;
 import java.net.UnknownHostException;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Enumeration;
 import java.util.List;
@@ -601,4 +602,28 @@ public final class NetworkAddressUtils {
       throw Throwables.propagate(e);
     }
   }
+
+  /**
+   * Gets the addresses of all the masters, including the leader, from Zookeeper.
+   *
+   * @return the addresses of the masters taking part in the leader election
+   */
+  public static List<InetSocketAddress> getMasterAddressesFromZK() {
+    Preconditions.checkState(Configuration.containsKey(PropertyKey.ZOOKEEPER_ADDRESS));
+    Preconditions.checkState(Configuration.containsKey(PropertyKey.ZOOKEEPER_LEADER_PATH));
+    LeaderInquireClient leaderInquireClient = LeaderInquireClient
+        .getClient(Configuration.get(PropertyKey.ZOOKEEPER_ADDRESS),
+            Configuration.get(PropertyKey.ZOOKEEPER_LEADER_PATH));
+    List<InetSocketAddress> addresses = new ArrayList<>();
+    try {
+      for (String address : leaderInquireClient
+          .getMasterAddresses(Configuration.get(PropertyKey.ZOOKEEPER_ELECTION_PATH))) {
+        addresses.add(NetworkAddressUtils.parseInetSocketAddress(address));
+      }
+    } catch (IOException e) {
+      LOG.error(e.getMessage(), e);
+      throw Throwables.propagate(e);
+    }
+    return addresses;
+  }
 }
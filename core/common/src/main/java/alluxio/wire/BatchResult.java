@@ -0,0 +1,135 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.wire;
+
+import alluxio.exception.AlluxioException;
+
+import com.google.common.base.Objects;
+import com.google.common.base.Preconditions;
+
+import java.io.IOException;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * The result of the operation on one path of a batch. Each path of a batch succeeds or fails on
+ * its own, so the result holds either the value returned for the path or the exception thrown for
+ * it.
+ *
+ * @param <T> the type of the value returned by the operation, {@link Void} if there is none
+ */
+@ThreadSafe
+public final class BatchResult<T> {
+  private final T mValue;
+  private final Exception mException;
+
+  /**
+   * @param value the value returned by the operation, null if there is none
+   * @param <T> the type of the value
+   * @return a successful result
+   */
+  public static <T> BatchResult<T> success(T value) {
+    return new BatchResult<>(value, null);
+  }
+
+  /**
+   * @param exception the exception thrown by the operation
+   * @param <T> the type of the value
+   * @return a failed result
+   */
+  public static <T> BatchResult<T> failure(AlluxioException exception) {
+    return new BatchResult<>(null, Preconditions.checkNotNull(exception));
+  }
+
+  /**
+   * @param exception the exception thrown by the operation
+   * @param <T> the type of the value
+   * @return a failed result
+   */
+  public static <T> BatchResult<T> failure(IOException exception) {
+    return new BatchResult<>(null, Preconditions.checkNotNull(exception));
+  }
+
+  private BatchResult(T value, Exception exception) {
+    mValue = value;
+    mException = exception;
+  }
+
+  /**
+   * @return true if the operation succeeded, false otherwise
+   */
+  public boolean isSuccess() {
+    return mException == null;
+  }
+
+  /**
+   * @return the exception thrown by the operation, either an {@link AlluxioException} or an
+   *         {@link IOException}, or null if the operation succeeded
+   */
+  public Exception getException() {
+    return mException;
+  }
+
+  /**
+   * @return the value returned by the operation, or null if the operation failed
+   */
+  public T getValue() {
+    return mValue;
+  }
+
+  /**
+   * @return the value returned by the operation
+   * @throws AlluxioException if the operation threw an Alluxio exception
+   * @throws IOException if the operation threw an I/O exception
+   */
+  public T get() throws AlluxioException, IOException {
+    if (mException instanceof AlluxioException) {
+      throw (AlluxioException) mException;
+    }
+    if (mException instanceof IOException) {
+      throw (IOException) mException;
+    }
+    return mValue;
+  }
+
+  /**
+   * @param value the value to use, ignored if the operation failed
+   * @param <U> the type of the value
+   * @return a result of the same operation, with the given value or with the same exception
+   */
+  public <U> BatchResult<U> withValue(U value) {
+    return new BatchResult<>(mException == null ? value : null, mException);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof BatchResult)) {
+      return false;
+    }
+    BatchResult<?> that = (BatchResult<?>) o;
+    return Objects.equal(mValue, that.mValue) && Objects.equal(mException, that.mException);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hashCode(mValue, mException);
+  }
+
+  @Override
+  public String toString() {
+    return Objects.toStringHelper(this).add("value", mValue).add("exception", mException)
+        .toString();
+  }
+}
@@ -0,0 +1,166 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.wire;
+
+import com.google.common.base.Objects;
+
+import java.io.Serializable;
+
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * The content summary of a file, or of a directory and all its descendants. The directory count
+ * includes the directory itself.
+ */
+@NotThreadSafe
+public final class ContentSummary implements Serializable {
+  private static final long serialVersionUID = 4265398327614281352L;
+
+  private long mLength;
+  private long mFileCount;
+  private long mDirectoryCount;
+  private long mInAlluxioLength;
+  private long mPinnedLength;
+
+  /**
+   * Creates a new instance of {@link ContentSummary}.
+   */
+  public ContentSummary() {}
+
+  /**
+   * Creates a new instance of {@link ContentSummary} from a thrift representation.
+   *
+   * @param contentSummary the thrift representation of a content summary
+   */
+  protected ContentSummary(alluxio.thrift.ContentSummary contentSummary) {
+    mLength = contentSummary.getLength();
+    mFileCount = contentSummary.getFileCount();
+    mDirectoryCount = contentSummary.getDirectoryCount();
+    mInAlluxioLength = contentSummary.getInAlluxioLength();
+    mPinnedLength = contentSummary.getPinnedLength();
+  }
+
+  /**
+   * @return the total length of the files in bytes
+   */
+  public long getLength() {
+    return mLength;
+  }
+
+  /**
+   * @return the number of files
+   */
+  public long getFileCount() {
+    return mFileCount;
+  }
+
+  /**
+   * @return the number of directories
+   */
+  public long getDirectoryCount() {
+    return mDirectoryCount;
+  }
+
+  /**
+   * @return the number of bytes of the files which are stored in Alluxio
+   */
+  public long getInAlluxioLength() {
+    return mInAlluxioLength;
+  }
+
+  /**
+   * @return the total length of the pinned files in bytes
+   */
+  public long getPinnedLength() {
+    return mPinnedLength;
+  }
+
+  /**
+   * @param length the total length of the files to use
+   * @return the content summary
+   */
+  public ContentSummary setLength(long length) {
+    mLength = length;
+    return this;
+  }
+
+  /**
+   * @param fileCount the number of files to use
+   * @return the content summary
+   */
+  public ContentSummary setFileCount(long fileCount) {
+    mFileCount = fileCount;
+    return this;
+  }
+
+  /**
+   * @param directoryCount the number of directories to use
+   * @return the content summary
+   */
+  public ContentSummary setDirectoryCount(long directoryCount) {
+    mDirectoryCount = directoryCount;
+    return this;
+  }
+
+  /**
+   * @param inAlluxioLength the number of bytes stored in Alluxio to use
+   * @return the content summary
+   */
+  public ContentSummary setInAlluxioLength(long inAlluxioLength) {
+    mInAlluxioLength = inAlluxioLength;
+    return this;
+  }
+
+  /**
+   * @param pinnedLength the total length of the pinned files to use
+   * @return the content summary
+   */
+  public ContentSummary setPinnedLength(long pinnedLength) {
+    mPinnedLength = pinnedLength;
+    return this;
+  }
+
+  /**
+   * @return thrift representation of the content summary
+   */
+  protected alluxio.thrift.ContentSummary toThrift() {
+    return new alluxio.thrift.ContentSummary(mLength, mFileCount, mDirectoryCount,
+        mInAlluxioLength, mPinnedLength);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof ContentSummary)) {
+      return false;
+    }
+    ContentSummary that = (ContentSummary) o;
+    return mLength == that.mLength && mFileCount == that.mFileCount
+        && mDirectoryCount == that.mDirectoryCount && mInAlluxioLength == that.mInAlluxioLength
+        && mPinnedLength == that.mPinnedLength;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hashCode(mLength, mFileCount, mDirectoryCount, mInAlluxioLength,
+        mPinnedLength);
+  }
+
+  @Override
+  public String toString() {
+    return Objects.toStringHelper(this).add("length", mLength).add("fileCount", mFileCount)
+        .add("directoryCount", mDirectoryCount).add("inAlluxioLength", mInAlluxioLength)
+        .add("pinnedLength", mPinnedLength).toString();
+  }
+}
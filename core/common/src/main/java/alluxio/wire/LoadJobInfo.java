@@ -0,0 +1,282 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.wire;
+
+import com.google.common.base.Objects;
+import com.google.common.base.Preconditions;
+
+import java.io.Serializable;
+
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * The progress of a job loading the blocks of a file or directory into Alluxio.
+ */
+@NotThreadSafe
+public final class LoadJobInfo implements Serializable {
+  private static final long serialVersionUID = -3496393213683451634L;
+
+  private long mId;
+  private String mPath = "";
+  private LoadJobStatus mStatus = LoadJobStatus.Running;
+  private long mTotalBlocks;
+  private long mLoadedBlocks;
+  private long mFailedBlocks;
+  private long mTotalBytes;
+  private long mLoadedBytes;
+  private long mStartTimeMs;
+  private long mEndTimeMs;
+  private String mErrorMessage = "";
+
+  /**
+   * Creates a new instance of {@link LoadJobInfo}.
+   */
+  public LoadJobInfo() {}
+
+  /**
+   * Creates a new instance of {@link LoadJobInfo} from a thrift representation.
+   *
+   * @param loadJobInfo the thrift representation of a load job
+   */
+  protected LoadJobInfo(alluxio.thrift.LoadJobInfo loadJobInfo) {
+    mId = loadJobInfo.getId();
+    mPath = loadJobInfo.getPath();
+    mStatus = LoadJobStatus.fromThrift(loadJobInfo.getStatus());
+    mTotalBlocks = loadJobInfo.getTotalBlocks();
+    mLoadedBlocks = loadJobInfo.getLoadedBlocks();
+    mFailedBlocks = loadJobInfo.getFailedBlocks();
+    mTotalBytes = loadJobInfo.getTotalBytes();
+    mLoadedBytes = loadJobInfo.getLoadedBytes();
+    mStartTimeMs = loadJobInfo.getStartTimeMs();
+    mEndTimeMs = loadJobInfo.getEndTimeMs();
+    mErrorMessage = loadJobInfo.getErrorMessage();
+  }
+
+  /**
+   * @return the id of the job
+   */
+  public long getId() {
+    return mId;
+  }
+
+  /**
+   * @return the path of the file or directory loaded by the job
+   */
+  public String getPath() {
+    return mPath;
+  }
+
+  /**
+   * @return the status of the job
+   */
+  public LoadJobStatus getStatus() {
+    return mStatus;
+  }
+
+  /**
+   * @return the number of blocks to load, known once the job has listed them
+   */
+  public long getTotalBlocks() {
+    return mTotalBlocks;
+  }
+
+  /**
+   * @return the number of blocks loaded
+   */
+  public long getLoadedBlocks() {
+    return mLoadedBlocks;
+  }
+
+  /**
+   * @return the number of blocks which could not be loaded
+   */
+  public long getFailedBlocks() {
+    return mFailedBlocks;
+  }
+
+  /**
+   * @return the number of bytes to load, known once the job has listed the blocks
+   */
+  public long getTotalBytes() {
+    return mTotalBytes;
+  }
+
+  /**
+   * @return the number of bytes loaded
+   */
+  public long getLoadedBytes() {
+    return mLoadedBytes;
+  }
+
+  /**
+   * @return the time the job was submitted, in milliseconds
+   */
+  public long getStartTimeMs() {
+    return mStartTimeMs;
+  }
+
+  /**
+   * @return the time the job finished, in milliseconds, or 0 if it is running
+   */
+  public long getEndTimeMs() {
+    return mEndTimeMs;
+  }
+
+  /**
+   * @return the errors of the blocks which could not be loaded, or of the job, if any
+   */
+  public String getErrorMessage() {
+    return mErrorMessage;
+  }
+
+  /**
+   * @param id the id of the job to use
+   * @return the load job information
+   */
+  public LoadJobInfo setId(long id) {
+    mId = id;
+    return this;
+  }
+
+  /**
+   * @param path the path loaded by the job to use
+   * @return the load job information
+   */
+  public LoadJobInfo setPath(String path) {
+    Preconditions.checkNotNull(path);
+    mPath = path;
+    return this;
+  }
+
+  /**
+   * @param status the status of the job to use
+   * @return the load job information
+   */
+  public LoadJobInfo setStatus(LoadJobStatus status) {
+    Preconditions.checkNotNull(status);
+    mStatus = status;
+    return this;
+  }
+
+  /**
+   * @param totalBlocks the number of blocks to load to use
+   * @return the load job information
+   */
+  public LoadJobInfo setTotalBlocks(long totalBlocks) {
+    mTotalBlocks = totalBlocks;
+    return this;
+  }
+
+  /**
+   * @param loadedBlocks the number of blocks loaded to use
+   * @return the load job information
+   */
+  public LoadJobInfo setLoadedBlocks(long loadedBlocks) {
+    mLoadedBlocks = loadedBlocks;
+    return this;
+  }
+
+  /**
+   * @param failedBlocks the number of blocks which could not be loaded to use
+   * @return the load job information
+   */
+  public LoadJobInfo setFailedBlocks(long failedBlocks) {
+    mFailedBlocks = failedBlocks;
+    return this;
+  }
+
+  /**
+   * @param totalBytes the number of bytes to load to use
+   * @return the load job information
+   */
+  public LoadJobInfo setTotalBytes(long totalBytes) {
+    mTotalBytes = totalBytes;
+    return this;
+  }
+
+  /**
+   * @param loadedBytes the number of bytes loaded to use
+   * @return the load job information
+   */
+  public LoadJobInfo setLoadedBytes(long loadedBytes) {
+    mLoadedBytes = loadedBytes;
+    return this;
+  }
+
+  /**
+   * @param startTimeMs the submission time of the job to use
+   * @return the load job information
+   */
+  public LoadJobInfo setStartTimeMs(long startTimeMs) {
+    mStartTimeMs = startTimeMs;
+    return this;
+  }
+
+  /**
+   * @param endTimeMs the end time of the job to use
+   * @return the load job information
+   */
+  public LoadJobInfo setEndTimeMs(long endTimeMs) {
+    mEndTimeMs = endTimeMs;
+    return this;
+  }
+
+  /**
+   * @param errorMessage the error message to use
+   * @return the load job information
+   */
+  public LoadJobInfo setErrorMessage(String errorMessage) {
+    Preconditions.checkNotNull(errorMessage);
+    mErrorMessage = errorMessage;
+    return this;
+  }
+
+  /**
+   * @return thrift representation of the load job information
+   */
+  protected alluxio.thrift.LoadJobInfo toThrift() {
+    return new alluxio.thrift.LoadJobInfo(mId, mPath, LoadJobStatus.toThrift(mStatus),
+        mTotalBlocks, mLoadedBlocks, mFailedBlocks, mTotalBytes, mLoadedBytes, mStartTimeMs,
+        mEndTimeMs, mErrorMessage);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof LoadJobInfo)) {
+      return false;
+    }
+    LoadJobInfo that = (LoadJobInfo) o;
+    return mId == that.mId && mPath.equals(that.mPath) && mStatus == that.mStatus
+        && mTotalBlocks == that.mTotalBlocks && mLoadedBlocks == that.mLoadedBlocks
+        && mFailedBlocks == that.mFailedBlocks && mTotalBytes == that.mTotalBytes
+        && mLoadedBytes == that.mLoadedBytes && mStartTimeMs == that.mStartTimeMs
+        && mEndTimeMs == that.mEndTimeMs && mErrorMessage.equals(that.mErrorMessage);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hashCode(mId, mPath, mStatus, mTotalBlocks, mLoadedBlocks, mFailedBlocks,
+        mTotalBytes, mLoadedBytes, mStartTimeMs, mEndTimeMs, mErrorMessage);
+  }
+
+  @Override
+  public String toString() {
+    return Objects.toStringHelper(this).add("id", mId).add("path", mPath).add("status", mStatus)
+        .add("totalBlocks", mTotalBlocks).add("loadedBlocks", mLoadedBlocks)
+        .add("failedBlocks", mFailedBlocks).add("totalBytes", mTotalBytes)
+        .add("loadedBytes", mLoadedBytes).add("startTimeMs", mStartTimeMs)
+        .add("endTimeMs", mEndTimeMs).add("errorMessage", mErrorMessage).toString();
+  }
+}
@@ -0,0 +1,87 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.wire;
+
+import alluxio.thrift.LoadJobTStatus;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * The statuses of a job loading the blocks of a file or directory into Alluxio.
+ */
+@ThreadSafe
+public enum LoadJobStatus {
+  /**
+   * The blocks are being loaded.
+   */
+  Running(0),
+  /**
+   * All the blocks were loaded.
+   */
+  Completed(1),
+  /**
+   * Some blocks could not be loaded.
+   */
+  Failed(2),
+  /**
+   * The job was canceled.
+   */
+  Canceled(3),
+  ;
+
+  private final int mValue;
+
+  LoadJobStatus(int value) {
+    mValue = value;
+  }
+
+  /**
+   * @return the integer value of the LoadJobStatus
+   */
+  public int getValue() {
+    return mValue;
+  }
+
+  /**
+   * @return whether a job with this status is done loading blocks
+   */
+  public boolean isFinished() {
+    return this != Running;
+  }
+
+  /**
+   * @param loadJobStatus the {@link LoadJobStatus}
+   * @return the thrift representation of this enum
+   */
+  public static LoadJobTStatus toThrift(LoadJobStatus loadJobStatus) {
+    return LoadJobTStatus.findByValue(loadJobStatus.getValue());
+  }
+
+  /**
+   * @param loadJobTStatus the thrift representation of loadJobStatus
+   * @return the {@link LoadJobStatus}
+   */
+  public static LoadJobStatus fromThrift(LoadJobTStatus loadJobTStatus) {
+    switch (loadJobTStatus.getValue()) {
+      case 0:
+        return Running;
+      case 1:
+        return Completed;
+      case 2:
+        return Failed;
+      case 3:
+        return Canceled;
+      default:
+        return null;
+    }
+  }
+}
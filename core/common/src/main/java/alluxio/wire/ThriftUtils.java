@@ -11,6 +11,10 @@
 
 package alluxio.wire;
 
+import alluxio.exception.AlluxioException;
+
+import java.io.IOException;
+
 import javax.annotation.concurrent.ThreadSafe;
 
 /**
@@ -21,6 +25,22 @@ public final class ThriftUtils {
 
   private ThriftUtils() {} // prevent instantiation
 
+  /**
+   * Converts a thrift type to a wire type.
+   *
+   * @param result the thrift representation of the result of a batch operation on one path
+   * @return wire representation of the result, with the file information if there is any
+   */
+  public static BatchResult<FileInfo> fromThrift(alluxio.thrift.FileSystemBatchTResult result) {
+    if (result.isSetAlluxioException()) {
+      return BatchResult.failure(AlluxioException.fromThrift(result.getAlluxioException()));
+    }
+    if (result.isSetIoException()) {
+      return BatchResult.failure(new IOException(result.getIoException().getMessage()));
+    }
+    return BatchResult.success(result.isSetFileInfo() ? fromThrift(result.getFileInfo()) : null);
+  }
+
   /**
    * Converts a thrift type to a wire type.
    *
@@ -51,6 +71,26 @@ public final class ThriftUtils {
     return new CommandLineJobInfo(jobInfo);
   }
 
+  /**
+   * Converts a thrift type to a wire type.
+   *
+   * @param contentSummary the thrift representation of a content summary
+   * @return wire representation of the content summary
+   */
+  public static ContentSummary fromThrift(alluxio.thrift.ContentSummary contentSummary) {
+    return new ContentSummary(contentSummary);
+  }
+
+  /**
+   * Converts a thrift type to a wire type.
+   *
+   * @param loadJobInfo the thrift representation of a load job
+   * @return wire representation of the load job
+   */
+  public static LoadJobInfo fromThrift(alluxio.thrift.LoadJobInfo loadJobInfo) {
+    return new LoadJobInfo(loadJobInfo);
+  }
+
   /**
    * Converts a thrift type to a wire type.
    *
@@ -121,6 +161,25 @@ public final class ThriftUtils {
     return new WorkerNetAddress(workerNetAddress);
   }
 
+  /**
+   * Converts a wire type to a thrift type.
+   *
+   * @param result the wire representation of the result of a batch operation on one path
+   * @return thrift representation of the result, with the file information if there is any
+   */
+  public static alluxio.thrift.FileSystemBatchTResult toThrift(BatchResult<?> result) {
+    alluxio.thrift.FileSystemBatchTResult tResult = new alluxio.thrift.FileSystemBatchTResult();
+    Exception exception = result.getException();
+    if (exception instanceof AlluxioException) {
+      tResult.setAlluxioException(((AlluxioException) exception).toThrift());
+    } else if (exception instanceof IOException) {
+      tResult.setIoException(new alluxio.thrift.ThriftIOException(exception.getMessage()));
+    } else if (result.getValue() instanceof FileInfo) {
+      tResult.setFileInfo(((FileInfo) result.getValue()).toThrift());
+    }
+    return tResult;
+  }
+
   /**
    * Converts a wire type to a thrift type.
    *
@@ -151,6 +210,26 @@ public final class ThriftUtils {
     return jobInfo.toThrift();
   }
 
+  /**
+   * Converts a wire type to a thrift type.
+   *
+   * @param contentSummary the wire representation of a content summary
+   * @return thrift representation of the content summary
+   */
+  public static alluxio.thrift.ContentSummary toThrift(ContentSummary contentSummary) {
+    return contentSummary.toThrift();
+  }
+
+  /**
+   * Converts a wire type to a thrift type.
+   *
+   * @param loadJobInfo the wire representation of a load job
+   * @return thrift representation of the load job
+   */
+  public static alluxio.thrift.LoadJobInfo toThrift(LoadJobInfo loadJobInfo) {
+    return loadJobInfo.toThrift();
+  }
+
   /**
    * Converts a wire type to a thrift type.
    *
@@ -261,6 +261,41 @@ public class ConfigurationTest {
     Assert.assertEquals("value/logs/conf", substitution2);
   }
 
+  @Test
+  public void variableSubstitutionAfterChange() {
+    Configuration.merge(ImmutableMap.of(
+        PropertyKey.WORK_DIR, "value",
+        PropertyKey.LOGS_DIR, "${alluxio.work.dir}/logs"));
+    Assert.assertEquals("value/logs", Configuration.get(PropertyKey.LOGS_DIR));
+    Configuration.set(PropertyKey.WORK_DIR, "changed");
+    Assert.assertEquals("changed/logs", Configuration.get(PropertyKey.LOGS_DIR));
+  }
+
+  @Test
+  public void getIntAfterChange() {
+    Configuration.set(PropertyKey.WEB_THREADS, "1");
+    Assert.assertEquals(1, Configuration.getInt(PropertyKey.WEB_THREADS));
+    Configuration.set(PropertyKey.WEB_THREADS, "2");
+    Assert.assertEquals(2, Configuration.getInt(PropertyKey.WEB_THREADS));
+  }
+
+  @Test
+  public void getLongAfterGetBytes() {
+    Configuration.set(PropertyKey.USER_BLOCK_SIZE_BYTES_DEFAULT, "1KB");
+    Assert.assertEquals(1024, Configuration.getBytes(PropertyKey.USER_BLOCK_SIZE_BYTES_DEFAULT));
+    mThrown.expect(RuntimeException.class);
+    Configuration.getLong(PropertyKey.USER_BLOCK_SIZE_BYTES_DEFAULT);
+  }
+
+  @Test
+  public void getAfterUnset() {
+    Configuration.set(PropertyKey.SECURITY_LOGIN_USERNAME, "test");
+    Assert.assertEquals("test", Configuration.get(PropertyKey.SECURITY_LOGIN_USERNAME));
+    Configuration.unset(PropertyKey.SECURITY_LOGIN_USERNAME);
+    mThrown.expect(RuntimeException.class);
+    Configuration.get(PropertyKey.SECURITY_LOGIN_USERNAME);
+  }
+
   @Test
   public void systemVariableSubstitution() throws Exception {
     try (SetAndRestoreSystemProperty c =
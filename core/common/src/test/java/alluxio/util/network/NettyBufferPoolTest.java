@@ -0,0 +1,62 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.util.network;
+
+import io.netty.buffer.ByteBuf;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests for the {@link NettyBufferPool} class.
+ */
+public final class NettyBufferPoolTest {
+
+  /**
+   * Tests that acquired buffers are off-heap, have a fixed capacity and are tracked until they are
+   * released.
+   */
+  @Test
+  public void acquireAndRelease() {
+    long buffers = NettyBufferPool.getOutstandingBuffers();
+    long bytes = NettyBufferPool.getOutstandingBytes();
+
+    ByteBuf buf = NettyBufferPool.acquire(1024);
+    Assert.assertTrue(buf.isDirect());
+    Assert.assertEquals(1024, buf.capacity());
+    Assert.assertEquals(1024, buf.maxCapacity());
+    Assert.assertEquals(1, buf.refCnt());
+    Assert.assertEquals(buffers + 1, NettyBufferPool.getOutstandingBuffers());
+    Assert.assertEquals(bytes + 1024, NettyBufferPool.getOutstandingBytes());
+
+    NettyBufferPool.release(buf);
+    Assert.assertEquals(0, buf.refCnt());
+    Assert.assertEquals(buffers, NettyBufferPool.getOutstandingBuffers());
+    Assert.assertEquals(bytes, NettyBufferPool.getOutstandingBytes());
+  }
+
+  /**
+   * Tests that releasing a buffer which is still referenced elsewhere fails.
+   */
+  @Test
+  public void releaseRetainedBuffer() {
+    ByteBuf buf = NettyBufferPool.acquire(16);
+    buf.retain();
+    try {
+      NettyBufferPool.release(buf);
+      Assert.fail("Releasing a retained buffer should fail");
+    } catch (IllegalStateException e) {
+      // expected
+    } finally {
+      buf.release();
+    }
+  }
+}
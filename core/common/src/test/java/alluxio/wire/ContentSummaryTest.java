@@ -0,0 +1,59 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.wire;
+
+import org.codehaus.jackson.map.ObjectMapper;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Random;
+
+public class ContentSummaryTest {
+
+  @Test
+  public void json() throws Exception {
+    ContentSummary contentSummary = createRandom();
+    ObjectMapper mapper = new ObjectMapper();
+    ContentSummary other =
+        mapper.readValue(mapper.writeValueAsBytes(contentSummary), ContentSummary.class);
+    checkEquality(contentSummary, other);
+  }
+
+  @Test
+  public void thrift() {
+    ContentSummary contentSummary = createRandom();
+    ContentSummary other = ThriftUtils.fromThrift(ThriftUtils.toThrift(contentSummary));
+    checkEquality(contentSummary, other);
+  }
+
+  public void checkEquality(ContentSummary a, ContentSummary b) {
+    Assert.assertEquals(a.getLength(), b.getLength());
+    Assert.assertEquals(a.getFileCount(), b.getFileCount());
+    Assert.assertEquals(a.getDirectoryCount(), b.getDirectoryCount());
+    Assert.assertEquals(a.getInAlluxioLength(), b.getInAlluxioLength());
+    Assert.assertEquals(a.getPinnedLength(), b.getPinnedLength());
+    Assert.assertEquals(a, b);
+  }
+
+  public static ContentSummary createRandom() {
+    ContentSummary result = new ContentSummary();
+    Random random = new Random();
+
+    result.setLength(random.nextLong());
+    result.setFileCount(random.nextLong());
+    result.setDirectoryCount(random.nextLong());
+    result.setInAlluxioLength(random.nextLong());
+    result.setPinnedLength(random.nextLong());
+
+    return result;
+  }
+}
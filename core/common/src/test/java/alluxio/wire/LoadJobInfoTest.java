@@ -0,0 +1,72 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.wire;
+
+import alluxio.util.CommonUtils;
+
+import org.codehaus.jackson.map.ObjectMapper;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Random;
+
+public class LoadJobInfoTest {
+
+  @Test
+  public void json() throws Exception {
+    LoadJobInfo loadJobInfo = createRandom();
+    ObjectMapper mapper = new ObjectMapper();
+    LoadJobInfo other = mapper.readValue(mapper.writeValueAsBytes(loadJobInfo), LoadJobInfo.class);
+    checkEquality(loadJobInfo, other);
+  }
+
+  @Test
+  public void thrift() {
+    LoadJobInfo loadJobInfo = createRandom();
+    LoadJobInfo other = ThriftUtils.fromThrift(ThriftUtils.toThrift(loadJobInfo));
+    checkEquality(loadJobInfo, other);
+  }
+
+  public void checkEquality(LoadJobInfo a, LoadJobInfo b) {
+    Assert.assertEquals(a.getId(), b.getId());
+    Assert.assertEquals(a.getPath(), b.getPath());
+    Assert.assertEquals(a.getStatus(), b.getStatus());
+    Assert.assertEquals(a.getTotalBlocks(), b.getTotalBlocks());
+    Assert.assertEquals(a.getLoadedBlocks(), b.getLoadedBlocks());
+    Assert.assertEquals(a.getFailedBlocks(), b.getFailedBlocks());
+    Assert.assertEquals(a.getTotalBytes(), b.getTotalBytes());
+    Assert.assertEquals(a.getLoadedBytes(), b.getLoadedBytes());
+    Assert.assertEquals(a.getStartTimeMs(), b.getStartTimeMs());
+    Assert.assertEquals(a.getEndTimeMs(), b.getEndTimeMs());
+    Assert.assertEquals(a.getErrorMessage(), b.getErrorMessage());
+    Assert.assertEquals(a, b);
+  }
+
+  public static LoadJobInfo createRandom() {
+    LoadJobInfo result = new LoadJobInfo();
+    Random random = new Random();
+
+    result.setId(random.nextLong());
+    result.setPath(CommonUtils.randomString(random.nextInt(10)));
+    result.setStatus(LoadJobStatus.values()[random.nextInt(LoadJobStatus.values().length)]);
+    result.setTotalBlocks(random.nextLong());
+    result.setLoadedBlocks(random.nextLong());
+    result.setFailedBlocks(random.nextLong());
+    result.setTotalBytes(random.nextLong());
+    result.setLoadedBytes(random.nextLong());
+    result.setStartTimeMs(random.nextLong());
+    result.setEndTimeMs(random.nextLong());
+    result.setErrorMessage(CommonUtils.randomString(random.nextInt(10)));
+
+    return result;
+  }
+}
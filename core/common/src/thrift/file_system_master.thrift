@@ -38,6 +38,46 @@ struct ListStatusTOptions {
   2: optional LoadMetadataTType loadMetadataType
 }
 
+struct LoadJobTOptions {
+  1: optional i32 concurrency
+  2: optional i64 throughput
+}
+
+enum LoadJobTStatus {
+  Running = 0,  // The blocks are being loaded.
+  Completed = 1,  // All the blocks were loaded.
+  Failed = 2,  // Some blocks could not be loaded.
+  Canceled = 3,  // The job was canceled.
+}
+
+/**
+* Contains the progress of a job loading the blocks of a file or directory into Alluxio.
+*/
+struct LoadJobInfo {
+  1: i64 id
+  2: string path
+  3: LoadJobTStatus status
+  4: i64 totalBlocks
+  5: i64 loadedBlocks
+  6: i64 failedBlocks
+  7: i64 totalBytes
+  8: i64 loadedBytes
+  9: i64 startTimeMs
+  10: i64 endTimeMs
+  11: string errorMessage
+}
+
+/**
+* Contains the aggregated sizes and counts of a file, or of a directory and all its descendants.
+*/
+struct ContentSummary {
+  1: i64 length
+  2: i64 fileCount
+  3: i64 directoryCount
+  4: i64 inAlluxioLength
+  5: i64 pinnedLength
+}
+
 /**
 * Contains the information of a block in a file. In addition to the BlockInfo, it includes the
 * offset in the file, and the under file system locations of the block replicas.
@@ -83,6 +123,16 @@ struct PersistCommandOptions {
   1: list<PersistFile> persistFiles
 }
 
+/**
+ * The result of the operation on one path of a batch, either the exception thrown for the path or
+ * the file information if the operation returns any.
+ */
+struct FileSystemBatchTResult {
+  1: optional exception.AlluxioTException alluxioException
+  2: optional exception.ThriftIOException ioException
+  3: optional FileInfo fileInfo
+}
+
 struct PersistFile {
   1: i64 fileId
   2: list<i64> blockIds
@@ -107,6 +157,12 @@ union FileSystemCommandOptions {
  */
 service FileSystemMasterClientService extends common.AlluxioService {
 
+  /**
+   * Cancels a load job. The blocks being loaded are still loaded, but no other block is.
+   */
+  void cancelLoadJob( /** the id of the load job */ 1: i64 id)
+    throws (1: exception.AlluxioTException e)
+
   /**
    * Marks a file as completed.
    */
@@ -114,6 +170,14 @@ service FileSystemMasterClientService extends common.AlluxioService {
       /** the method options */ 2: CompleteFileTOptions options)
     throws (1: exception.AlluxioTException e)
 
+  /**
+   * Marks the given files as completed, and returns the results in the same order as the paths.
+   */
+  list<FileSystemBatchTResult> completeFileBatch(
+      /** the paths of the files */ 1: list<string> paths,
+      /** the method options, one per path */ 2: list<CompleteFileTOptions> options)
+    throws (1: exception.AlluxioTException e)
+
   /**
    * Creates a directory.
    */
@@ -128,6 +192,14 @@ service FileSystemMasterClientService extends common.AlluxioService {
       /** the options for creating the file */ 2: CreateFileTOptions options)
     throws (1: exception.AlluxioTException e, 2: exception.ThriftIOException ioe)
 
+  /**
+   * Creates the given files, and returns the results in the same order as the paths.
+   */
+  list<FileSystemBatchTResult> createFileBatch(
+      /** the paths of the files */ 1: list<string> paths,
+      /** the options for creating the files, one per path */ 2: list<CreateFileTOptions> options)
+    throws (1: exception.AlluxioTException e, 2: exception.ThriftIOException ioe)
+
   /**
    * Frees the given file or directory from Alluxio.
    */
@@ -135,6 +207,12 @@ service FileSystemMasterClientService extends common.AlluxioService {
       /** whether to free recursively */ 2: bool recursive)
     throws (1: exception.AlluxioTException e)
 
+  /**
+   * Returns the content summary of the file or directory.
+   */
+  ContentSummary getContentSummary( /** the path of the file or directory */ 1: string path)
+    throws (1: exception.AlluxioTException e)
+
   /**
    * Returns the list of file blocks information for the given file.
    *
@@ -149,6 +227,13 @@ service FileSystemMasterClientService extends common.AlluxioService {
   FileInfo getStatus( /** the path of the file or directory */ 1: string path)
     throws (1: exception.AlluxioTException e)
 
+  /**
+   * Returns the status of the given files or directories, in the same order as the paths.
+   */
+  list<FileSystemBatchTResult> getStatusBatch(
+      /** the paths of the files or directories */ 1: list<string> paths)
+    throws (1: exception.AlluxioTException e)
+
   /**
    * Returns the status of the file or directory, only used internally by servers.
    *
@@ -157,6 +242,17 @@ service FileSystemMasterClientService extends common.AlluxioService {
   FileInfo getStatusInternal( /** the id of the file or directory */ 1: i64 fileId)
     throws (1: exception.AlluxioTException e)
 
+  /**
+   * Returns the sequence number of the latest journal entry applied by this master.
+   */
+  i64 getJournalSequenceNumber() throws (1: exception.AlluxioTException e)
+
+  /**
+   * Returns the progress of a load job.
+   */
+  LoadJobInfo getLoadJobInfo( /** the id of the load job */ 1: i64 id)
+    throws (1: exception.AlluxioTException e)
+
   /**
    * Generates a new block id for the given file.
    */
@@ -205,6 +301,15 @@ service FileSystemMasterClientService extends common.AlluxioService {
       /** whether to remove recursively */ 2: bool recursive)
     throws (1: exception.AlluxioTException e)
 
+  /**
+   * Deletes the given files or directories, and returns the results in the same order as the
+   * paths.
+   */
+  list<FileSystemBatchTResult> removeBatch(
+      /** the paths of the files or directories */ 1: list<string> paths,
+      /** whether to remove recursively */ 2: bool recursive)
+    throws (1: exception.AlluxioTException e)
+
   /**
    * Renames a file or a directory.
    */
@@ -219,12 +324,28 @@ service FileSystemMasterClientService extends common.AlluxioService {
        /** the method options */ 2: SetAttributeTOptions options)
     throws (1: exception.AlluxioTException e)
 
+  /**
+   * Sets the attributes of the given files or directories, and returns the results in the same
+   * order as the paths.
+   */
+  list<FileSystemBatchTResult> setAttributeBatch(
+      /** the paths of the files or directories */ 1: list<string> paths,
+      /** the method options, one per path */ 2: list<SetAttributeTOptions> options)
+    throws (1: exception.AlluxioTException e)
+
   /**
    * Schedules async persistence.
    */
   void scheduleAsyncPersist( /** the path of the file */ 1: string path)
     throws (1: exception.AlluxioTException e)
 
+  /**
+   * Submits a job loading the blocks of a file or directory into Alluxio, and returns its id.
+   */
+  i64 submitLoadJob( /** the path of the file or directory */ 1: string path,
+      /** the method options */ 2: LoadJobTOptions options)
+    throws (1: exception.AlluxioTException e)
+
   /**
    * Deletes an existing "mount point", voiding the Alluxio namespace at the given path. The path
    * should correspond to an existing mount point. Any files in its subtree that are backed by UFS
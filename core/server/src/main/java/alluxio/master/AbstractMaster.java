@@ -155,9 +155,10 @@ public abstract class AbstractMaster implements Master {
 
       mAsyncJournalWriter = new AsyncJournalWriter(mJournalWriter);
     } else {
-      // This master is in standby mode. Start the journal tailer thread. Since the master is in
-      // standby mode, its RPC server is NOT serving. Therefore, the only thread modifying the
-      // master is this journal tailer thread (no concurrent access).
+      // This master is in standby mode. Start the journal tailer thread. The journal tailer thread
+      // is the only thread modifying the master. Unless standby reads are enabled, the RPC server
+      // of a standby master is NOT serving, so there is no concurrent access. Otherwise, masters
+      // serving read-only RPCs must guard their state against the journal tailer thread.
       mStandbyJournalTailer = new JournalTailerThread(this, mJournal);
       mStandbyJournalTailer.start();
     }
@@ -202,6 +203,32 @@ public abstract class AbstractMaster implements Master {
     mJournal = Preconditions.checkNotNull(journal);
   }
 
+  /**
+   * @return true if this master is in leader mode, false if it is in standby mode
+   */
+  protected boolean isLeader() {
+    return mIsLeader;
+  }
+
+  /**
+   * @return the sequence number of the latest journal entry flushed by this master when it is the
+   *         leader, or applied by this master when it is a standby
+   */
+  public long getJournalSequenceNumber() {
+    if (mIsLeader) {
+      return mJournalWriter == null ? 0 : mJournalWriter.getFlushedSequenceNumber();
+    }
+    return mStandbyJournalTailer == null ? 0 : mStandbyJournalTailer.getLatestSequenceNumber();
+  }
+
+  /**
+   * @return true if this master is the leader, or if it is a standby which has applied all the
+   *         journal entries available when it started
+   */
+  public boolean isJournalCaughtUp() {
+    return mIsLeader || (mStandbyJournalTailer != null && mStandbyJournalTailer.isCaughtUp());
+  }
+
   /**
    * Writes a {@link JournalEntry} to the journal. Does NOT flush the journal.
    *
@@ -23,6 +23,7 @@ import alluxio.master.journal.ReadWriteJournal;
 import alluxio.master.lineage.LineageMaster;
 import alluxio.metrics.MetricsSystem;
 import alluxio.metrics.sink.MetricsServlet;
+import alluxio.security.authentication.AuthType;
 import alluxio.security.authentication.TransportProvider;
 import alluxio.underfs.UnderFileSystem;
 import alluxio.util.CommonUtils;
@@ -36,21 +37,23 @@ import alluxio.web.UIWebServer;
 import com.google.common.base.Preconditions;
 import com.google.common.base.Throwables;
 import com.google.common.collect.Lists;
-import org.apache.thrift.TMultiplexedProcessor;
 import org.apache.thrift.TProcessor;
 import org.apache.thrift.protocol.TBinaryProtocol;
 import org.apache.thrift.server.TServer;
-import org.apache.thrift.server.TThreadPoolServer;
-import org.apache.thrift.server.TThreadPoolServer.Args;
+import org.apache.thrift.server.TThreadedSelectorServer;
+import org.apache.thrift.transport.TNonblockingServerSocket;
+import org.apache.thrift.transport.TNonblockingServerTransport;
 import org.apache.thrift.transport.TServerSocket;
-import org.apache.thrift.transport.TTransportFactory;
+import org.apache.thrift.transport.TTransportException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.net.InetSocketAddress;
+import java.net.ServerSocket;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.ServiceLoader;
@@ -145,6 +148,12 @@ public class AlluxioMaster implements Server {
   /** The RPC server. */
   private TServer mMasterServiceServer = null;
 
+  /** The RPC server serving read-only requests while this master is a standby. */
+  private TServer mStandbyServiceServer = null;
+
+  /** The thread running {@link #mStandbyServiceServer}. */
+  private Thread mStandbyServingThread = null;
+
   /** is true if the master is serving the RPC server. */
   private boolean mIsServing = false;
 
@@ -372,6 +381,7 @@ public class AlluxioMaster implements Server {
 
   @Override
   public void stop() throws Exception {
+    stopServingStandbyRPCServer();
     if (mIsServing) {
       LOG.info("Stopping RPC server on Alluxio master @ {}", mMasterAddress);
       stopServing();
@@ -445,51 +455,131 @@ public class AlluxioMaster implements Server {
     mWebServer.startWebServer();
   }
 
-  private void registerServices(TMultiplexedProcessor processor, Map<String, TProcessor> services) {
-    for (Map.Entry<String, TProcessor> service : services.entrySet()) {
-      processor.registerProcessor(service.getKey(), service.getValue());
-    }
-  }
-
   protected void startServingRPCServer() {
-    // set up multiplexed thrift processors
-    TMultiplexedProcessor processor = new TMultiplexedProcessor();
-    registerServices(processor, mBlockMaster.getServices());
-    registerServices(processor, mFileSystemMaster.getServices());
+    // set up the processor multiplexing the thrift services
+    Map<String, TProcessor> services = new HashMap<>();
+    services.putAll(mBlockMaster.getServices());
+    services.putAll(mFileSystemMaster.getServices());
     if (LineageUtils.isLineageEnabled()) {
-      registerServices(processor, mLineageMaster.getServices());
+      services.putAll(mLineageMaster.getServices());
     }
     // register additional masters for RPC service
     for (Master master : mAdditionalMasters) {
-      registerServices(processor, master.getServices());
+      services.putAll(master.getServices());
+    }
+    mMasterServiceServer = createRPCServer(new RpcProcessor(services));
+
+    // start thrift rpc server
+    mIsServing = true;
+    mStartTimeMs = System.currentTimeMillis();
+    mMasterServiceServer.serve();
+  }
+
+  /**
+   * Starts serving the read-only file system metadata RPCs while this master is a standby. The
+   * server runs in its own thread, and only starts accepting connections once the journal entries
+   * available at startup have been replayed.
+   */
+  protected void startServingStandbyRPCServer() {
+    final FileSystemMaster fileSystemMaster = mFileSystemMaster;
+    final TServer server =
+        createRPCServer(new RpcProcessor(fileSystemMaster.getStandbyServices()));
+    mStandbyServiceServer = server;
+    mStandbyServingThread = new Thread(new Runnable() {
+      @Override
+      public void run() {
+        while (!fileSystemMaster.isJournalCaughtUp()) {
+          CommonUtils.sleepMs(100);
+          if (Thread.interrupted()) {
+            return;
+          }
+        }
+        LOG.info("Serving read-only RPCs on standby Alluxio master @ {}", mMasterAddress);
+        server.serve();
+      }
+    }, "StandbyRPCServer");
+    mStandbyServingThread.setDaemon(true);
+    mStandbyServingThread.start();
+  }
+
+  /**
+   * Stops serving the read-only RPCs started by {@link #startServingStandbyRPCServer()}, if any.
+   *
+   * @throws InterruptedException if interrupted while waiting for the server to stop
+   */
+  protected void stopServingStandbyRPCServer() throws InterruptedException {
+    if (mStandbyServingThread == null) {
+      return;
+    }
+    mStandbyServingThread.interrupt();
+    while (mStandbyServingThread.isAlive()) {
+      // The server may still be about to serve, so it is stopped until its thread exits.
+      mStandbyServiceServer.stop();
+      mStandbyServingThread.join(100);
     }
+    mStandbyServiceServer = null;
+    mStandbyServingThread = null;
+  }
 
-    // Return a TTransportFactory based on the authentication type
-    TTransportFactory transportFactory;
+  /**
+   * Creates an RPC server whose selector threads read the requests of all connections, and queue
+   * them for a bounded pool of threads. Connections authenticated by SASL complete their
+   * handshake in the threads of a {@link SaslSelectorServer.SaslServerSocket} before being read
+   * by the selector threads.
+   *
+   * @param processor the processor of the requests
+   * @return the RPC server for the configured authentication type
+   */
+  private TServer createRPCServer(TProcessor processor) {
+    boolean sasl = Configuration.getEnum(PropertyKey.SECURITY_AUTHENTICATION_TYPE, AuthType.class)
+        != AuthType.NOSASL;
+    TNonblockingServerTransport serverSocket;
     try {
-      transportFactory = mTransportProvider.getServerTransportFactory();
-    } catch (IOException e) {
+      // The server closes its socket when stopped, so a new one is bound each time, since the
+      // standby and the leader servers of this master take turns on the same port.
+      InetSocketAddress bindAddress = releaseRPCBindAddress();
+      if (sasl) {
+        serverSocket = new SaslSelectorServer.SaslServerSocket(bindAddress,
+            mTransportProvider.getServerTransportFactory(),
+            Configuration.getInt(PropertyKey.MASTER_RPC_HANDSHAKE_THREADS),
+            Configuration.getInt(PropertyKey.MASTER_RPC_QUEUE_SIZE),
+            Configuration.getInt(PropertyKey.SECURITY_AUTHENTICATION_SOCKET_TIMEOUT_MS));
+      } else {
+        serverSocket = new TNonblockingServerSocket(bindAddress);
+      }
+    } catch (IOException | TTransportException e) {
       throw Throwables.propagate(e);
     }
-
-    // create master thrift service with the multiplexed processor.
-    Args args = new TThreadPoolServer.Args(mTServerSocket).maxWorkerThreads(mMaxWorkerThreads)
-        .minWorkerThreads(mMinWorkerThreads).processor(processor).transportFactory(transportFactory)
+    TThreadedSelectorServer.Args args = new TThreadedSelectorServer.Args(serverSocket)
+        .selectorThreads(Configuration.getInt(PropertyKey.MASTER_RPC_SELECTOR_THREADS))
+        .executorService(new RpcExecutor(mMinWorkerThreads, mMaxWorkerThreads,
+            Configuration.getInt(PropertyKey.MASTER_RPC_QUEUE_SIZE)))
+        .stopTimeoutVal(Configuration.getBoolean(PropertyKey.TEST_MODE) ? 0
+            : Constants.THRIFT_STOP_TIMEOUT_SECONDS)
+        .processor(processor)
         .protocolFactory(new TBinaryProtocol.Factory(true, true));
-    if (Configuration.getBoolean(PropertyKey.TEST_MODE)) {
-      args.stopTimeoutVal = 0;
-    } else {
-      args.stopTimeoutVal = Constants.THRIFT_STOP_TIMEOUT_SECONDS;
-    }
-    mMasterServiceServer = new TThreadPoolServer(args);
+    args.maxReadBufferBytes =
+        Configuration.getBytes(PropertyKey.NETWORK_THRIFT_FRAME_SIZE_BYTES_MAX);
+    return sasl ? new SaslSelectorServer(args) : new TThreadedSelectorServer(args);
+  }
 
-    // start thrift rpc server
-    mIsServing = true;
-    mStartTimeMs = System.currentTimeMillis();
-    mMasterServiceServer.serve();
+  /**
+   * Closes the blocking socket reserving the RPC port, which is kept to report the bind address,
+   * so that a server can bind a new socket to the port.
+   *
+   * @return the address the RPC server should bind to
+   * @throws IOException if the reserving socket fails to close
+   */
+  private InetSocketAddress releaseRPCBindAddress() throws IOException {
+    ServerSocket socket = NetworkAddressUtils.getThriftSocket(mTServerSocket);
+    socket.close();
+    // The port is read from this master rather than the configuration, which other masters in
+    // the same process may have updated.
+    return new InetSocketAddress(socket.getInetAddress(), mPort);
   }
 
   protected void stopServing() throws Exception {
+    stopServingStandbyRPCServer();
     if (mMasterServiceServer != null) {
       mMasterServiceServer.stop();
       mMasterServiceServer = null;
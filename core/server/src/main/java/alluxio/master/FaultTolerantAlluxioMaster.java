@@ -102,6 +102,9 @@ final class FaultTolerantAlluxioMaster extends AlluxioMaster {
           mLineageMaster = new LineageMaster(
               mFileSystemMaster, new ReadOnlyJournal(mLineageMasterJournal.getDirectory()));
           startMasters(false);
+          if (Configuration.getBoolean(PropertyKey.MASTER_STANDBY_READS_ENABLED)) {
+            startServingStandbyRPCServer();
+          }
           started = true;
         }
         // This master is already in standby mode. No further actions needed.
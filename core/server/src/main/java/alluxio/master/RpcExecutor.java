@@ -0,0 +1,151 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.master;
+
+import alluxio.Constants;
+import alluxio.metrics.MetricsSystem;
+import alluxio.util.ThreadFactoryUtils;
+
+import com.codahale.metrics.Gauge;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * The executor of the master RPC requests read by the selector threads of the RPC server.
+ * <p>
+ * The requests wait for a thread in a bounded queue. When the queue is full, a request is not
+ * queued, but is marked as rejected and run by the selector thread which read it, so that
+ * {@link RpcProcessor} responds with a retryable error without executing it. This sheds load
+ * while keeping the connection of the client open.
+ */
+@ThreadSafe
+final class RpcExecutor extends ThreadPoolExecutor {
+  private static final long KEEP_ALIVE_MS = 60 * Constants.SECOND_MS;
+  private static final ThreadLocal<Request> CURRENT = new ThreadLocal<>();
+  /** The number of requests of all executors which were submitted but not started yet. */
+  private static final AtomicInteger NUM_WAITING = new AtomicInteger();
+
+  static {
+    MetricsSystem.registerGaugeIfAbsent(MetricsSystem.getMasterMetricName("RpcQueueSize"),
+        new Gauge<Integer>() {
+          @Override
+          public Integer getValue() {
+            return NUM_WAITING.get();
+          }
+        });
+  }
+
+  /**
+   * @param minThreads the number of threads kept when idle
+   * @param maxThreads the maximum number of threads
+   * @param queueSize the maximum number of requests waiting for a thread
+   */
+  RpcExecutor(int minThreads, int maxThreads, int queueSize) {
+    super(minThreads, maxThreads, KEEP_ALIVE_MS, TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<Runnable>(queueSize),
+        ThreadFactoryUtils.build("master-rpc-%d", true), new RejectHandler());
+  }
+
+  /**
+   * @return the request run by the current thread, or null if the thread is not running a
+   *         request of an {@link RpcExecutor}
+   */
+  @Nullable
+  static Request getCurrentRequest() {
+    return CURRENT.get();
+  }
+
+  @Override
+  public void execute(Runnable command) {
+    NUM_WAITING.incrementAndGet();
+    try {
+      super.execute(new Request(command));
+    } catch (RejectedExecutionException e) {
+      NUM_WAITING.decrementAndGet();
+      throw e;
+    }
+  }
+
+  /**
+   * An RPC request, which records when it was submitted and whether it was rejected.
+   */
+  static final class Request implements Runnable {
+    private final Runnable mCommand;
+    private final long mSubmitTimeNs;
+    private boolean mRejected;
+
+    /**
+     * @param command the command reading, executing and responding to the request
+     */
+    private Request(Runnable command) {
+      mCommand = command;
+      mSubmitTimeNs = System.nanoTime();
+    }
+
+    /**
+     * @return the time in nanoseconds from the submission of the request until now
+     */
+    long getQueueWaitNs() {
+      return System.nanoTime() - mSubmitTimeNs;
+    }
+
+    /**
+     * @return whether the request was rejected because the queue was full
+     */
+    boolean isRejected() {
+      return mRejected;
+    }
+
+    @Override
+    public void run() {
+      NUM_WAITING.decrementAndGet();
+      CURRENT.set(this);
+      try {
+        mCommand.run();
+      } finally {
+        CURRENT.remove();
+      }
+    }
+  }
+
+  /**
+   * Runs the requests rejected because the queue is full in the submitting thread, marked as
+   * rejected.
+   */
+  private static final class RejectHandler implements RejectedExecutionHandler {
+    /**
+     * Creates a new instance of {@link RejectHandler}.
+     */
+    RejectHandler() {}
+
+    @Override
+    public void rejectedExecution(Runnable r, ThreadPoolExecutor executor) {
+      if (executor.isShutdown()) {
+        throw new RejectedExecutionException("The RPC executor is shut down");
+      }
+      if (!(r instanceof Request)) {
+        throw new RejectedExecutionException("The RPC executor queue is full");
+      }
+      Request request = (Request) r;
+      request.mRejected = true;
+      request.run();
+    }
+  }
+}
@@ -0,0 +1,162 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.master;
+
+import alluxio.exception.ExceptionMessage;
+import alluxio.exception.ServerOverloadedException;
+import alluxio.metrics.MetricsSystem;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Timer;
+import com.google.common.collect.ImmutableMap;
+import org.apache.thrift.TBaseProcessor;
+import org.apache.thrift.TException;
+import org.apache.thrift.TMultiplexedProcessor;
+import org.apache.thrift.TProcessor;
+import org.apache.thrift.protocol.TField;
+import org.apache.thrift.protocol.TMessage;
+import org.apache.thrift.protocol.TMessageType;
+import org.apache.thrift.protocol.TMultiplexedProtocol;
+import org.apache.thrift.protocol.TProtocol;
+import org.apache.thrift.protocol.TProtocolDecorator;
+import org.apache.thrift.protocol.TProtocolUtil;
+import org.apache.thrift.protocol.TStruct;
+import org.apache.thrift.protocol.TType;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * The processor of the master RPC server, which dispatches the requests to the processors of the
+ * master services, and measures the latency of each RPC method and the time the requests waited
+ * in the queue of the {@link RpcExecutor}.
+ * <p>
+ * Requests rejected by the {@link RpcExecutor} are not executed. Instead, their arguments are
+ * skipped and the RPC responds with a {@link ServerOverloadedException}, which clients retry
+ * after backing off.
+ */
+@ThreadSafe
+final class RpcProcessor implements TProcessor {
+  /** The method which is always executed, since it declares no exception to respond with. */
+  private static final String GET_SERVICE_VERSION = "getServiceVersion";
+  /** The field of the RPC results which holds the {@link alluxio.thrift.AlluxioTException}. */
+  private static final TField EXCEPTION_FIELD = new TField("e", TType.STRUCT, (short) 1);
+  private static final Timer QUEUE_WAIT = MetricsSystem.masterTimer("RpcQueueWait");
+  private static final Counter RPCS_REJECTED = MetricsSystem.masterCounter("RpcsRejected");
+
+  private final TMultiplexedProcessor mProcessor;
+  /** The latency of each method, by the name of the method prefixed with its service. */
+  private final Map<String, Timer> mTimers;
+
+  /**
+   * @param services the processors of the services served by the master, by service name
+   */
+  RpcProcessor(Map<String, TProcessor> services) {
+    mProcessor = new TMultiplexedProcessor();
+    ImmutableMap.Builder<String, Timer> timers = ImmutableMap.builder();
+    for (Map.Entry<String, TProcessor> service : services.entrySet()) {
+      mProcessor.registerProcessor(service.getKey(), service.getValue());
+      if (service.getValue() instanceof TBaseProcessor) {
+        for (String method : ((TBaseProcessor<?>) service.getValue()).getProcessMapView()
+            .keySet()) {
+          timers.put(service.getKey() + TMultiplexedProtocol.SEPARATOR + method,
+              MetricsSystem.masterTimer("Rpc." + service.getKey() + "." + method));
+        }
+      }
+    }
+    mTimers = timers.build();
+  }
+
+  @Override
+  public boolean process(TProtocol in, TProtocol out) throws TException {
+    TMessage message = in.readMessageBegin();
+    RpcExecutor.Request request = RpcExecutor.getCurrentRequest();
+    if (request != null) {
+      QUEUE_WAIT.update(request.getQueueWaitNs(), TimeUnit.NANOSECONDS);
+      String method = getMethod(message);
+      if (request.isRejected() && !method.equals(GET_SERVICE_VERSION)) {
+        RPCS_REJECTED.inc();
+        reject(message, method, in, out);
+        return true;
+      }
+    }
+    Timer timer = mTimers.get(message.name);
+    Timer.Context context = timer == null ? null : timer.time();
+    try {
+      return mProcessor.process(new StoredMessageProtocol(in, message), out);
+    } finally {
+      if (context != null) {
+        context.stop();
+      }
+    }
+  }
+
+  /**
+   * @param message the message of a request
+   * @return the name of the method called by the request, without the service name
+   */
+  private static String getMethod(TMessage message) {
+    return message.name.substring(message.name.indexOf(TMultiplexedProtocol.SEPARATOR) + 1);
+  }
+
+  /**
+   * Responds to a request with a {@link ServerOverloadedException} without executing it.
+   *
+   * @param message the message of the request
+   * @param method the name of the method called by the request
+   * @param in the protocol to read the arguments of the request from
+   * @param out the protocol to write the response to
+   * @throws TException if reading the request or writing the response fails
+   */
+  private static void reject(TMessage message, String method, TProtocol in, TProtocol out)
+      throws TException {
+    TProtocolUtil.skip(in, TType.STRUCT);
+    in.readMessageEnd();
+    if (message.type == TMessageType.ONEWAY) {
+      return;
+    }
+    out.writeMessageBegin(new TMessage(method, TMessageType.REPLY, message.seqid));
+    out.writeStructBegin(new TStruct(method + "_result"));
+    out.writeFieldBegin(EXCEPTION_FIELD);
+    new ServerOverloadedException(ExceptionMessage.SERVER_OVERLOADED, method).toThrift()
+        .write(out);
+    out.writeFieldEnd();
+    out.writeFieldStop();
+    out.writeStructEnd();
+    out.writeMessageEnd();
+    out.getTransport().flush();
+  }
+
+  /**
+   * A protocol which returns the already read message of a request before delegating to the
+   * protocol the request is read from.
+   */
+  private static final class StoredMessageProtocol extends TProtocolDecorator {
+    private final TMessage mMessage;
+
+    /**
+     * @param protocol the protocol the request is read from
+     * @param message the message of the request
+     */
+    StoredMessageProtocol(TProtocol protocol, TMessage message) {
+      super(protocol);
+      mMessage = message;
+    }
+
+    @Override
+    public TMessage readMessageBegin() {
+      return mMessage;
+    }
+  }
+}
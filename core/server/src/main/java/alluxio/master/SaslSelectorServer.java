@@ -0,0 +1,348 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.master;
+
+import alluxio.Constants;
+import alluxio.security.User;
+import alluxio.security.authentication.AuthenticatedClientUser;
+import alluxio.util.ThreadFactoryUtils;
+
+import com.google.common.base.Preconditions;
+import org.apache.thrift.protocol.TProtocol;
+import org.apache.thrift.server.ServerContext;
+import org.apache.thrift.server.TServerEventHandler;
+import org.apache.thrift.server.TThreadedSelectorServer;
+import org.apache.thrift.transport.TNonblockingServerTransport;
+import org.apache.thrift.transport.TNonblockingSocket;
+import org.apache.thrift.transport.TSocket;
+import org.apache.thrift.transport.TTransport;
+import org.apache.thrift.transport.TTransportException;
+import org.apache.thrift.transport.TTransportFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.Collection;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * An RPC server whose selector threads read the requests of SASL authenticated connections, and
+ * queue them for the threads of an {@link RpcExecutor} like for unauthenticated connections.
+ * <p>
+ * The connections are accepted and authenticated by the {@link SaslServerSocket} of the server,
+ * with a bounded pool of threads running the blocking SASL handshakes. The PLAIN mechanism
+ * negotiates no integrity or privacy protection, so once authenticated, the SASL transports of the
+ * clients send each message as a frame prefixed by its length, which the selector threads read as
+ * they do for framed connections. The user authenticated for a connection is set for the thread
+ * running each of its requests.
+ */
+@ThreadSafe
+final class SaslSelectorServer extends TThreadedSelectorServer {
+  private final Object mSelectorThreadsLock = new Object();
+  @GuardedBy("mSelectorThreadsLock")
+  private SelectorThreadLoadBalancer mSelectorThreads;
+
+  /**
+   * @param args the arguments of the server, whose server transport is a {@link SaslServerSocket}
+   */
+  SaslSelectorServer(Args args) {
+    super(args);
+    Preconditions.checkArgument(serverTransport_ instanceof SaslServerSocket,
+        "The server transport must authenticate the connections");
+    ((SaslServerSocket) serverTransport_).mServer = this;
+    setServerEventHandler(new UserEventHandler());
+  }
+
+  @Override
+  protected SelectorThreadLoadBalancer createSelectorThreadLoadBalancer(
+      Collection<? extends SelectorThread> threads) {
+    synchronized (mSelectorThreadsLock) {
+      mSelectorThreads = super.createSelectorThreadLoadBalancer(threads);
+      return mSelectorThreads;
+    }
+  }
+
+  /**
+   * Hands an authenticated connection over to a selector thread.
+   *
+   * @param socket the connection
+   * @return whether the connection was accepted by a selector thread
+   */
+  private boolean addAuthenticatedConnection(AuthenticatedSocket socket) {
+    SelectorThread thread;
+    synchronized (mSelectorThreadsLock) {
+      if (mSelectorThreads == null) {
+        return false;
+      }
+      thread = mSelectorThreads.nextThread();
+    }
+    return thread.addAcceptedConnection(socket);
+  }
+
+  /**
+   * The server socket of a {@link SaslSelectorServer}. Its own thread accepts the connections,
+   * and hands them to the server once their SASL handshake completed. No connection is accepted by
+   * the accept thread of the server, which only waits until the server stops.
+   */
+  @ThreadSafe
+  static final class SaslServerSocket extends TNonblockingServerTransport {
+    private static final Logger LOG = LoggerFactory.getLogger(Constants.LOGGER_TYPE);
+
+    private final ServerSocketChannel mChannel;
+    private final TTransportFactory mTransportFactory;
+    private final int mHandshakeThreads;
+    private final int mHandshakeQueueSize;
+    private final int mHandshakeTimeoutMs;
+    private volatile SaslSelectorServer mServer;
+    private volatile ThreadPoolExecutor mHandshakeExecutor;
+
+    /**
+     * @param bindAddress the address to bind to
+     * @param transportFactory the factory of the SASL server transports authenticating the
+     *        connections
+     * @param handshakeThreads the maximum number of threads running SASL handshakes
+     * @param handshakeQueueSize the maximum number of connections waiting for their handshake,
+     *        beyond which new connections are closed
+     * @param handshakeTimeoutMs the timeout of the reads of a handshake
+     * @throws TTransportException if the socket cannot be bound
+     */
+    SaslServerSocket(InetSocketAddress bindAddress, TTransportFactory transportFactory,
+        int handshakeThreads, int handshakeQueueSize, int handshakeTimeoutMs)
+        throws TTransportException {
+      try {
+        mChannel = ServerSocketChannel.open();
+      } catch (IOException e) {
+        throw new TTransportException("Could not create a server socket", e);
+      }
+      try {
+        mChannel.socket().setReuseAddress(true);
+        mChannel.socket().bind(bindAddress);
+      } catch (IOException e) {
+        close();
+        throw new TTransportException("Could not bind to " + bindAddress, e);
+      }
+      mTransportFactory = transportFactory;
+      mHandshakeThreads = handshakeThreads;
+      mHandshakeQueueSize = handshakeQueueSize;
+      mHandshakeTimeoutMs = handshakeTimeoutMs;
+    }
+
+    @Override
+    public void listen() {
+      mHandshakeExecutor = new ThreadPoolExecutor(mHandshakeThreads, mHandshakeThreads,
+          Constants.MINUTE_MS, TimeUnit.MILLISECONDS,
+          new ArrayBlockingQueue<Runnable>(mHandshakeQueueSize),
+          ThreadFactoryUtils.build("master-rpc-handshake-%d", true));
+      mHandshakeExecutor.allowCoreThreadTimeOut(true);
+      Thread acceptThread = new Thread(new Runnable() {
+        @Override
+        public void run() {
+          acceptConnections();
+        }
+      }, "master-rpc-accept");
+      acceptThread.setDaemon(true);
+      acceptThread.start();
+    }
+
+    /**
+     * Accepts connections until the socket is closed, and submits their handshakes.
+     */
+    private void acceptConnections() {
+      ServerSocketChannel channel = mChannel;
+      ThreadPoolExecutor handshakeExecutor = mHandshakeExecutor;
+      while (channel.isOpen()) {
+        final SocketChannel connection;
+        try {
+          connection = channel.accept();
+        } catch (IOException e) {
+          if (channel.isOpen()) {
+            LOG.warn("Failed to accept an RPC connection", e);
+            continue;
+          }
+          return;
+        }
+        try {
+          handshakeExecutor.execute(new Runnable() {
+            @Override
+            public void run() {
+              authenticate(connection);
+            }
+          });
+        } catch (RejectedExecutionException e) {
+          // Too many connections wait for their handshake, so this one is shed.
+          closeQuietly(connection);
+        }
+      }
+    }
+
+    /**
+     * Runs the SASL handshake of a connection, and hands it to the server if it succeeds.
+     *
+     * @param connection the connection
+     */
+    private void authenticate(SocketChannel connection) {
+      String user;
+      try {
+        connection.socket().setSoTimeout(mHandshakeTimeoutMs);
+        // The transport is only used for the handshake. The client sends no request before the
+        // handshake completes, so no request is left in the buffers of the socket.
+        mTransportFactory.getTransport(new TSocket(connection.socket()));
+        User authenticatedUser = AuthenticatedClientUser.get();
+        user = authenticatedUser == null ? null : authenticatedUser.getName();
+        connection.socket().setSoTimeout(0);
+      } catch (IOException | TTransportException | RuntimeException e) {
+        LOG.debug("SASL handshake with {} failed", connection.socket().getRemoteSocketAddress(),
+            e);
+        closeQuietly(connection);
+        return;
+      } finally {
+        AuthenticatedClientUser.remove();
+      }
+      SaslSelectorServer server = mServer;
+      try {
+        if (server != null && server.addAuthenticatedConnection(
+            new AuthenticatedSocket(connection, user))) {
+          return;
+        }
+      } catch (IOException e) {
+        LOG.warn("Failed to serve the RPC connection from {}",
+            connection.socket().getRemoteSocketAddress(), e);
+      }
+      closeQuietly(connection);
+    }
+
+    @Override
+    public void registerSelector(Selector selector) {
+      // The connections are accepted by the thread of this socket.
+    }
+
+    @Override
+    protected TTransport acceptImpl() throws TTransportException {
+      throw new TTransportException("Connections are accepted once authenticated");
+    }
+
+    @Override
+    public void close() {
+      try {
+        // Closing the channel also stops the accept thread.
+        mChannel.close();
+      } catch (IOException e) {
+        LOG.warn("Failed to close the RPC server socket", e);
+      }
+      ThreadPoolExecutor handshakeExecutor = mHandshakeExecutor;
+      if (handshakeExecutor != null) {
+        handshakeExecutor.shutdownNow();
+      }
+    }
+
+    @Override
+    public void interrupt() {
+      close();
+    }
+
+    /**
+     * @param connection the connection to close
+     */
+    private static void closeQuietly(SocketChannel connection) {
+      try {
+        connection.close();
+      } catch (IOException e) {
+        LOG.debug("Failed to close an RPC connection", e);
+      }
+    }
+  }
+
+  /**
+   * A connection, with the user authenticated by its SASL handshake. The selector thread
+   * registering the connection records it for the {@link UserEventHandler}, which creates the
+   * context of the connection right afterwards in the same thread.
+   */
+  private static final class AuthenticatedSocket extends TNonblockingSocket {
+    private static final ThreadLocal<AuthenticatedSocket> REGISTERING = new ThreadLocal<>();
+
+    private final String mUser;
+
+    /**
+     * @param channel the channel of the connection
+     * @param user the authenticated user, or null if none was authorized
+     * @throws IOException if the channel cannot be made nonblocking
+     */
+    AuthenticatedSocket(SocketChannel channel, String user) throws IOException {
+      super(channel);
+      mUser = user;
+    }
+
+    @Override
+    public SelectionKey registerSelector(Selector selector, int interests) throws IOException {
+      REGISTERING.set(this);
+      return super.registerSelector(selector, interests);
+    }
+  }
+
+  /**
+   * The context of a connection served by the server.
+   */
+  private static final class UserContext implements ServerContext {
+    private final String mUser;
+
+    /**
+     * @param user the authenticated user of the connection, or null if none was authorized
+     */
+    UserContext(String user) {
+      mUser = user;
+    }
+  }
+
+  /**
+   * Sets the authenticated user of a connection for the threads running its requests.
+   */
+  private static final class UserEventHandler implements TServerEventHandler {
+    /**
+     * Creates a new instance of {@link UserEventHandler}.
+     */
+    UserEventHandler() {}
+
+    @Override
+    public void preServe() {}
+
+    @Override
+    public ServerContext createContext(TProtocol input, TProtocol output) {
+      AuthenticatedSocket socket = AuthenticatedSocket.REGISTERING.get();
+      AuthenticatedSocket.REGISTERING.remove();
+      return new UserContext(socket == null ? null : socket.mUser);
+    }
+
+    @Override
+    public void deleteContext(ServerContext context, TProtocol input, TProtocol output) {}
+
+    @Override
+    public void processContext(ServerContext context, TTransport input, TTransport output) {
+      String user = ((UserContext) context).mUser;
+      if (user == null) {
+        AuthenticatedClientUser.remove();
+      } else {
+        AuthenticatedClientUser.set(user);
+      }
+    }
+  }
+}
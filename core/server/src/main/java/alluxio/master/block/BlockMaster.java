@@ -53,7 +53,9 @@ import alluxio.wire.WorkerInfo;
 import alluxio.wire.WorkerNetAddress;
 
 import com.codahale.metrics.Gauge;
+import com.google.common.collect.ConcurrentHashMultiset;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.util.concurrent.AtomicLongMap;
 import com.google.protobuf.Message;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import io.netty.util.internal.chmv8.ConcurrentHashMapV8;
@@ -131,6 +133,19 @@ public final class BlockMaster extends AbstractMaster implements ContainerIdGene
       new ConcurrentHashMapV8<>(8192, 0.90f, 64);
   /** Keeps track of blocks which are no longer in Alluxio storage. */
   private final ConcurrentHashSet<Long> mLostBlocks = new ConcurrentHashSet<>(64, 0.90f, 64);
+  /**
+   * The number of blocks of each block container which have a location in the top storage tier.
+   * It is updated with the block locations, so that the containers which may be fully in memory
+   * are known without scanning all the blocks.
+   */
+  private final ConcurrentHashMultiset<Long> mTopTierContainerIds =
+      ConcurrentHashMultiset.create();
+  /**
+   * The changes of the number of bytes stored in Alluxio of each block container, which have not
+   * been polled yet. They are recorded with the block locations, and applied to the file system
+   * metadata outside of the block locks.
+   */
+  private final AtomicLongMap<Long> mInAlluxioLengthChanges = AtomicLongMap.create();
 
   /** This state must be journaled. */
   @GuardedBy("itself")
@@ -360,6 +375,13 @@ public final class BlockMaster extends AbstractMaster implements ContainerIdGene
           // Otherwise blockId in mLostBlock can be dangling index if the metadata is gone.
           mLostBlocks.remove(blockId);
           mBlocks.remove(blockId);
+          if (isInTopTier(block)) {
+            mTopTierContainerIds.remove(BlockId.getContainerId(blockId));
+          }
+          if (block.getNumLocations() > 0) {
+            mInAlluxioLengthChanges.addAndGet(BlockId.getContainerId(blockId),
+                -block.getLength());
+          }
         }
       }
 
@@ -479,7 +501,10 @@ public final class BlockMaster extends AbstractMaster implements ContainerIdGene
           // At this point, both the worker and the block metadata are locked.
 
           // Update the block metadata with the new worker location.
+          boolean wasInTopTier = isInTopTier(block);
+          boolean wasInAlluxio = block.getNumLocations() > 0;
           block.addWorker(workerId, tierAlias);
+          updateContainerIndexes(block, wasInTopTier, wasInAlluxio);
           // This worker has this block, so it is no longer lost.
           mLostBlocks.remove(blockId);
 
@@ -728,7 +753,10 @@ public final class BlockMaster extends AbstractMaster implements ContainerIdGene
       synchronized (block) {
         LOG.info("Block {} is removed on worker {}.", removedBlockId, workerInfo.getId());
         workerInfo.removeBlock(block.getBlockId());
+        boolean wasInTopTier = isInTopTier(block);
+        boolean wasInAlluxio = block.getNumLocations() > 0;
         block.removeWorker(workerInfo.getId());
+        updateContainerIndexes(block, wasInTopTier, wasInAlluxio);
         if (block.getNumLocations() == 0) {
           mLostBlocks.add(removedBlockId);
         }
@@ -751,7 +779,10 @@ public final class BlockMaster extends AbstractMaster implements ContainerIdGene
         if (block != null) {
           synchronized (block) {
             workerInfo.addBlock(blockId);
+            boolean wasInTopTier = isInTopTier(block);
+            boolean wasInAlluxio = block.getNumLocations() > 0;
             block.addWorker(workerInfo.getId(), entry.getKey());
+            updateContainerIndexes(block, wasInTopTier, wasInAlluxio);
             mLostBlocks.remove(blockId);
           }
         } else {
@@ -761,6 +792,65 @@ public final class BlockMaster extends AbstractMaster implements ContainerIdGene
     }
   }
 
+  /**
+   * @param block the block metadata
+   * @return true if the block has a location in the top storage tier, false otherwise
+   */
+  @GuardedBy("block")
+  private boolean isInTopTier(MasterBlockInfo block) {
+    return block.isInTier(mGlobalStorageTierAssoc.getAlias(0));
+  }
+
+  /**
+   * Updates the number of blocks in the top storage tier and the number of bytes stored in Alluxio
+   * of the container of a block whose locations changed.
+   *
+   * @param block the block metadata
+   * @param wasInTopTier whether the block had a location in the top storage tier before the change
+   * @param wasInAlluxio whether the block had a location before the change
+   */
+  @GuardedBy("block")
+  private void updateContainerIndexes(MasterBlockInfo block, boolean wasInTopTier,
+      boolean wasInAlluxio) {
+    long containerId = BlockId.getContainerId(block.getBlockId());
+    boolean inTopTier = isInTopTier(block);
+    if (inTopTier && !wasInTopTier) {
+      mTopTierContainerIds.add(containerId);
+    } else if (!inTopTier && wasInTopTier) {
+      mTopTierContainerIds.remove(containerId);
+    }
+    boolean inAlluxio = block.getNumLocations() > 0;
+    if (inAlluxio && !wasInAlluxio) {
+      mInAlluxioLengthChanges.addAndGet(containerId, block.getLength());
+    } else if (!inAlluxio && wasInAlluxio) {
+      mInAlluxioLengthChanges.addAndGet(containerId, -block.getLength());
+    }
+  }
+
+  /**
+   * @return the ids of the block containers with at least one block in the top storage tier
+   */
+  public Set<Long> getTopTierContainerIds() {
+    return ImmutableSet.copyOf(mTopTierContainerIds.elementSet());
+  }
+
+  /**
+   * Removes and returns the changes of the number of bytes stored in Alluxio of the block
+   * containers, which happened since the previous call.
+   *
+   * @return a map from block container id to the change of its number of bytes stored in Alluxio
+   */
+  public Map<Long, Long> pollInAlluxioLengthChanges() {
+    Map<Long, Long> changes = new HashMap<>();
+    for (long containerId : mInAlluxioLengthChanges.asMap().keySet()) {
+      long change = mInAlluxioLengthChanges.remove(containerId);
+      if (change != 0) {
+        changes.put(containerId, change);
+      }
+    }
+    return changes;
+  }
+
   /**
    * @return the lost blocks in Alluxio Storage
    */
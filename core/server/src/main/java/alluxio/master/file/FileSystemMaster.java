@@ -15,6 +15,8 @@ import alluxio.AlluxioURI;
 import alluxio.Configuration;
 import alluxio.Constants;
 import alluxio.PropertyKey;
+import alluxio.client.block.BlockWorkerInfo;
+import alluxio.client.netty.NettyBlockLoader;
 import alluxio.clock.SystemClock;
 import alluxio.collections.PrefixList;
 import alluxio.exception.AccessControlException;
@@ -27,7 +29,10 @@ import alluxio.exception.FileAlreadyExistsException;
 import alluxio.exception.FileDoesNotExistException;
 import alluxio.exception.InvalidFileSizeException;
 import alluxio.exception.InvalidPathException;
+import alluxio.exception.LoadJobDoesNotExistException;
+import alluxio.exception.NoWorkerException;
 import alluxio.exception.PreconditionMessage;
+import alluxio.exception.ServerOverloadedException;
 import alluxio.heartbeat.HeartbeatContext;
 import alluxio.heartbeat.HeartbeatExecutor;
 import alluxio.heartbeat.HeartbeatThread;
@@ -41,26 +46,29 @@ import alluxio.master.file.meta.InodeDirectory;
 import alluxio.master.file.meta.InodeDirectoryIdGenerator;
 import alluxio.master.file.meta.InodeFile;
 import alluxio.master.file.meta.InodeLockList;
+import alluxio.master.file.meta.InodeLockManager;
 import alluxio.master.file.meta.InodePathPair;
 import alluxio.master.file.meta.InodeTree;
 import alluxio.master.file.meta.LockedInodePath;
 import alluxio.master.file.meta.MountTable;
 import alluxio.master.file.meta.PersistenceState;
+import alluxio.master.file.meta.SubtreeSummary;
 import alluxio.master.file.meta.TempInodePathForChild;
 import alluxio.master.file.meta.TempInodePathForDescendant;
-import alluxio.master.file.meta.TtlBucket;
-import alluxio.master.file.meta.TtlBucketList;
+import alluxio.master.file.meta.TtlTimingWheel;
 import alluxio.master.file.meta.options.MountInfo;
 import alluxio.master.file.options.CompleteFileOptions;
 import alluxio.master.file.options.CreateDirectoryOptions;
 import alluxio.master.file.options.CreateFileOptions;
 import alluxio.master.file.options.CreatePathOptions;
 import alluxio.master.file.options.ListStatusOptions;
+import alluxio.master.file.options.LoadJobOptions;
 import alluxio.master.file.options.LoadMetadataOptions;
 import alluxio.master.file.options.MountOptions;
 import alluxio.master.file.options.SetAttributeOptions;
 import alluxio.master.journal.AsyncJournalWriter;
 import alluxio.master.journal.Journal;
+import alluxio.master.journal.JournalInputStream;
 import alluxio.master.journal.JournalOutputStream;
 import alluxio.master.journal.JournalProtoUtils;
 import alluxio.metrics.MetricsSystem;
@@ -78,6 +86,7 @@ import alluxio.proto.journal.File.ReinitializeFileEntry;
 import alluxio.proto.journal.File.RenameEntry;
 import alluxio.proto.journal.File.SetAttributeEntry;
 import alluxio.proto.journal.File.StringPairEntry;
+import alluxio.proto.journal.File.UfsDeleteEntry;
 import alluxio.proto.journal.Journal.JournalEntry;
 import alluxio.security.authorization.Mode;
 import alluxio.security.authorization.Permission;
@@ -95,34 +104,49 @@ import alluxio.util.IdUtils;
 import alluxio.util.executor.ExecutorServiceFactories;
 import alluxio.util.executor.ExecutorServiceFactory;
 import alluxio.util.io.PathUtils;
+import alluxio.wire.BatchResult;
 import alluxio.wire.BlockInfo;
 import alluxio.wire.BlockLocation;
+import alluxio.wire.ContentSummary;
 import alluxio.wire.FileBlockInfo;
 import alluxio.wire.FileInfo;
+import alluxio.wire.LoadJobInfo;
 import alluxio.wire.LoadMetadataType;
 import alluxio.wire.WorkerInfo;
+import alluxio.wire.WorkerNetAddress;
 
 import com.codahale.metrics.Counter;
 import com.codahale.metrics.Gauge;
 import com.google.common.base.Preconditions;
 import com.google.common.base.Throwables;
+import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.RateLimiter;
 import com.google.protobuf.Message;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import org.apache.commons.lang.exception.ExceptionUtils;
+import org.apache.thrift.ProcessFunction;
+import org.apache.thrift.TBase;
+import org.apache.thrift.TBaseProcessor;
 import org.apache.thrift.TProcessor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.net.InetSocketAddress;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Future;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.NotThreadSafe;
 
 /**
@@ -132,6 +156,15 @@ import javax.annotation.concurrent.NotThreadSafe;
 public final class FileSystemMaster extends AbstractMaster {
   private static final Logger LOG = LoggerFactory.getLogger(Constants.LOGGER_TYPE);
 
+  /**
+   * The client RPCs served by a standby master. They only read metadata which the standby master
+   * replays from the journal. There is no separate exists RPC, clients answer exists with
+   * getStatus, so exists is served by the standby masters as well.
+   */
+  private static final List<String> STANDBY_METHODS = Collections.unmodifiableList(
+      Arrays.asList("getServiceVersion", "getStatus", "getStatusBatch", "listStatus",
+          "getJournalSequenceNumber"));
+
   /**
    * Locking in the FileSystemMaster
    *
@@ -201,8 +234,8 @@ public final class FileSystemMaster extends AbstractMaster {
   /** This manages the file system mount points. */
   private final MountTable mMountTable;
 
-  /** This maintains inodes with ttl set, for the for the ttl checker service to use. */
-  private final TtlBucketList mTtlBuckets = new TtlBucketList();
+  /** This indexes the ids of the files with ttl set, for the ttl checker service to use. */
+  private final TtlTimingWheel mTtlWheel = new TtlTimingWheel();
 
   /** This generates unique directory ids. This must be journaled. */
   private final InodeDirectoryIdGenerator mDirectoryIdGenerator;
@@ -216,6 +249,39 @@ public final class FileSystemMaster extends AbstractMaster {
   /** The handler for async persistence. */
   private final AsyncPersistHandler mAsyncPersistHandler;
 
+  /** This fetches the statuses of UFS paths when loading metadata. */
+  private final UfsStatusFetcher mUfsStatusFetcher;
+
+  /** This remembers the UFS paths which were found not to exist when loading metadata. */
+  private final UfsAbsentPathCache mUfsAbsentPathCache;
+
+  /** The maximum number of direct children of a directory to load metadata for at once. */
+  private final int mMetadataLoadBatchSize;
+
+  /** This loads the metadata of the descendants of directories for the recursive loads. */
+  private final RecursiveMetadataLoader mRecursiveMetadataLoader;
+
+  /** This deletes and frees large subtrees in the background. */
+  private final SubtreeReclaimer mSubtreeReclaimer;
+
+  /** The number of inodes from which a subtree is deleted or freed in the background. */
+  private final long mSubtreeReclaimThreshold;
+
+  /** This runs the jobs having the workers load the blocks of files and directories. */
+  private final LoadJobManager mLoadJobManager;
+
+  /**
+   * The journaled deletes of the under file system objects of the subtrees deleted in the
+   * background, which are not completed yet, by the id of the root of the subtree.
+   */
+  private final Map<Long, UfsDeleteEntry> mPendingUfsDeletes = new ConcurrentHashMap<>();
+
+  /**
+   * On a standby master serving reads, this keeps the read RPCs from observing a journal entry
+   * which is only partially applied.
+   */
+  private final ReadWriteLock mStandbyLock = new ReentrantReadWriteLock();
+
   /**
    * The service that checks for inode files with ttl set. We store it here so that it can be
    * accessed from tests.
@@ -270,6 +336,61 @@ public final class FileSystemMaster extends AbstractMaster {
 
     mAsyncPersistHandler = AsyncPersistHandler.Factory.create(new FileSystemMasterView(this));
     mPermissionChecker = new PermissionChecker(mInodeTree);
+    mUfsStatusFetcher =
+        new UfsStatusFetcher(Configuration.getInt(PropertyKey.MASTER_METADATA_LOAD_THREADS));
+    mUfsAbsentPathCache = new UfsAbsentPathCache(
+        Configuration.getInt(PropertyKey.MASTER_UFS_ABSENT_PATH_CACHE_CAPACITY), mClock);
+    mMetadataLoadBatchSize = Configuration.getInt(PropertyKey.MASTER_METADATA_LOAD_BATCH_SIZE);
+    mRecursiveMetadataLoader = new RecursiveMetadataLoader(
+        Configuration.getInt(PropertyKey.MASTER_METADATA_LOAD_DIRECTORY_THREADS),
+        mMetadataLoadBatchSize, new RecursiveMetadataLoader.DirectoryLoader() {
+          @Override
+          public List<AlluxioURI> loadDirectChildren(AlluxioURI directory)
+              throws AlluxioException, IOException {
+            return loadDirectChildrenOfDescendant(directory);
+          }
+        });
+    mSubtreeReclaimer = new SubtreeReclaimer(mInodeTree, mBlockMaster, mTtlWheel,
+        Configuration.getInt(PropertyKey.MASTER_SUBTREE_RECLAIM_BATCH_SIZE),
+        Configuration.getInt(PropertyKey.MASTER_SUBTREE_RECLAIM_UFS_THREADS),
+        new SubtreeReclaimer.UfsDeleteJournal() {
+          @Override
+          public void journalCompleted(UfsDeleteEntry ufsDelete) {
+            journalUfsDeleteCompleted(ufsDelete);
+          }
+        });
+    mSubtreeReclaimThreshold = Configuration.getLong(PropertyKey.MASTER_SUBTREE_RECLAIM_THRESHOLD);
+    final NettyBlockLoader blockLoader = new NettyBlockLoader();
+    mLoadJobManager = new LoadJobManager(Configuration.getInt(PropertyKey.MASTER_LOAD_JOBS_MAX),
+        Configuration.getInt(PropertyKey.MASTER_LOAD_JOB_CONCURRENCY_MAX),
+        Configuration.getLong(PropertyKey.MASTER_LOAD_JOB_RETENTION_MS), mClock,
+        new LoadJobManager.BlockSource() {
+          @Override
+          public List<LoadJobManager.BlockLoad> listBlocksToLoad(AlluxioURI path)
+              throws AlluxioException {
+            return listBlocksToLoadInternal(path);
+          }
+
+          @Override
+          public List<BlockWorkerInfo> getWorkers() {
+            List<BlockWorkerInfo> workers = new ArrayList<>();
+            for (WorkerInfo worker : mBlockMaster.getWorkerInfoList()) {
+              workers.add(new BlockWorkerInfo(worker.getAddress(), worker.getCapacityBytes(),
+                  worker.getUsedBytes()));
+            }
+            return workers;
+          }
+        },
+        new LoadJobManager.BlockLoader() {
+          @Override
+          public void load(WorkerNetAddress worker, LoadJobManager.BlockLoad load)
+              throws IOException {
+            FileBlockInfo block = load.getBlock();
+            blockLoader.load(new InetSocketAddress(worker.getHost(), worker.getDataPort()),
+                block.getBlockInfo().getBlockId(), load.getUfsPath(), block.getOffset(),
+                block.getBlockInfo().getLength());
+          }
+        });
 
     Metrics.registerGauges(this);
   }
@@ -286,13 +407,58 @@ public final class FileSystemMaster extends AbstractMaster {
     return services;
   }
 
+  /**
+   * @return a map from service names to {@link TProcessor}s serving the read-only RPCs which a
+   *         standby master can answer
+   */
+  public Map<String, TProcessor> getStandbyServices() {
+    FileSystemMasterClientService.Iface handler = new FileSystemMasterClientServiceHandler(this);
+    Map<String, ProcessFunction<FileSystemMasterClientService.Iface, ? extends TBase>> processMap =
+        new FileSystemMasterClientService.Processor<>(handler).getProcessMapView();
+    Map<String, ProcessFunction<FileSystemMasterClientService.Iface, ? extends TBase>>
+        readOnlyProcessMap = new HashMap<>();
+    for (String method : STANDBY_METHODS) {
+      readOnlyProcessMap.put(method, processMap.get(method));
+    }
+    Map<String, TProcessor> services = new HashMap<>();
+    services.put(Constants.FILE_SYSTEM_MASTER_CLIENT_SERVICE_NAME,
+        new TBaseProcessor<FileSystemMasterClientService.Iface>(handler, readOnlyProcessMap) {});
+    return services;
+  }
+
   @Override
   public String getName() {
     return Constants.FILE_SYSTEM_MASTER_NAME;
   }
 
+  @Override
+  public void processJournalCheckpoint(JournalInputStream inputStream) throws IOException {
+    // The inode tree is cleared when the checkpoint starts to be applied, so the read RPCs of a
+    // standby master must not observe it until the whole checkpoint is applied.
+    mStandbyLock.writeLock().lock();
+    try {
+      mPendingUfsDeletes.clear();
+      super.processJournalCheckpoint(inputStream);
+    } finally {
+      mStandbyLock.writeLock().unlock();
+    }
+  }
+
   @Override
   public void processJournalEntry(JournalEntry entry) throws IOException {
+    mStandbyLock.writeLock().lock();
+    try {
+      processJournalEntryInternal(entry);
+    } finally {
+      mStandbyLock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * @param entry the journal entry to apply to the master state
+   * @throws IOException if the entry is not expected by this master
+   */
+  private void processJournalEntryInternal(JournalEntry entry) throws IOException {
     Message innerEntry = JournalProtoUtils.unwrap(entry);
     if (innerEntry instanceof InodeFileEntry || innerEntry instanceof InodeDirectoryEntry) {
       try {
@@ -300,6 +466,12 @@ public final class FileSystemMaster extends AbstractMaster {
       } catch (AccessControlException e) {
         throw new RuntimeException(e);
       }
+      if (innerEntry instanceof InodeFileEntry) {
+        InodeFileEntry fileEntry = (InodeFileEntry) innerEntry;
+        if (fileEntry.getTtl() != Constants.NO_TTL) {
+          mTtlWheel.insert(fileEntry.getId(), fileEntry.getCreationTimeMs() + fileEntry.getTtl());
+        }
+      }
     } else if (innerEntry instanceof InodeLastModificationTimeEntry) {
       InodeLastModificationTimeEntry modTimeEntry = (InodeLastModificationTimeEntry) innerEntry;
       try (LockedInodePath inodePath = mInodeTree.lockFullInodePath(modTimeEntry.getId(),
@@ -348,6 +520,13 @@ public final class FileSystemMaster extends AbstractMaster {
       } catch (InvalidPathException e) {
         throw new RuntimeException(e);
       }
+    } else if (innerEntry instanceof UfsDeleteEntry) {
+      UfsDeleteEntry ufsDelete = (UfsDeleteEntry) innerEntry;
+      if (ufsDelete.getCompleted()) {
+        mPendingUfsDeletes.remove(ufsDelete.getId());
+      } else {
+        mPendingUfsDeletes.put(ufsDelete.getId(), ufsDelete);
+      }
     } else if (innerEntry instanceof AsyncPersistRequestEntry) {
       try {
         long fileId = ((AsyncPersistRequestEntry) innerEntry).getFileId();
@@ -375,6 +554,9 @@ public final class FileSystemMaster extends AbstractMaster {
     // when replaying the checkpoint, the inodes exist before mount entries. Replaying a mount
     // entry traverses the inode tree.
     mMountTable.streamToJournalCheckpoint(outputStream);
+    for (UfsDeleteEntry ufsDelete : mPendingUfsDeletes.values()) {
+      outputStream.writeEntry(JournalEntry.newBuilder().setUfsDelete(ufsDelete).build());
+    }
   }
 
   @Override
@@ -385,9 +567,15 @@ public final class FileSystemMaster extends AbstractMaster {
       // If it is standby, it should be able to load the inode tree from leader's checkpoint.
       mInodeTree
           .initializeRoot(Permission.defaults().applyDirectoryUMask().setOwnerFromLoginModule());
+    }
+    // The root mount point is not journaled. A standby serving reads needs it to resolve UFS
+    // paths, and keeps it if it becomes the leader.
+    AlluxioURI rootUri = new AlluxioURI(MountTable.ROOT);
+    if ((isLeader || Configuration.getBoolean(PropertyKey.MASTER_STANDBY_READS_ENABLED))
+        && !mMountTable.isMountPoint(rootUri)) {
       String defaultUFS = Configuration.get(PropertyKey.UNDERFS_ADDRESS);
       try {
-        mMountTable.add(new AlluxioURI(MountTable.ROOT), new AlluxioURI(defaultUFS),
+        mMountTable.add(rootUri, new AlluxioURI(defaultUFS),
             MountOptions.defaults().setShared(CommonUtils.isUfsObjectStorage(defaultUFS)
                 && Configuration.getBoolean(
                     PropertyKey.UNDERFS_OBJECT_STORE_MOUNT_SHARED_PUBLICLY)));
@@ -400,6 +588,7 @@ public final class FileSystemMaster extends AbstractMaster {
     // getExecutorService() because the super.start initializes the executor service.
     super.start(isLeader);
     if (isLeader) {
+      resumeUfsDeletes();
       mTtlCheckerService = getExecutorService().submit(
           new HeartbeatThread(HeartbeatContext.MASTER_TTL_CHECK, new MasterInodeTtlCheckExecutor(),
               Configuration.getInt(PropertyKey.MASTER_TTL_CHECKER_INTERVAL_MS)));
@@ -409,6 +598,52 @@ public final class FileSystemMaster extends AbstractMaster {
     }
   }
 
+  @Override
+  public void stop() throws IOException {
+    super.stop();
+    mRecursiveMetadataLoader.close();
+    mUfsStatusFetcher.close();
+    mLoadJobManager.close();
+  }
+
+  /**
+   * Resumes the deletes of under file system objects which were journaled by a previous leader,
+   * but not completed.
+   */
+  private void resumeUfsDeletes() {
+    for (UfsDeleteEntry ufsDelete : mPendingUfsDeletes.values()) {
+      UnderFileSystem ufs;
+      try {
+        MountTable.Resolution resolution = mMountTable.resolve(new AlluxioURI(ufsDelete.getPath()));
+        ufs = resolution.getUri().toString().equals(ufsDelete.getUfsPath())
+            ? resolution.getUfs() : UnderFileSystem.get(ufsDelete.getUfsPath());
+      } catch (InvalidPathException e) {
+        // The path is not mounted anymore.
+        ufs = UnderFileSystem.get(ufsDelete.getUfsPath());
+      }
+      mSubtreeReclaimer.resumeUfsDelete(ufsDelete, ufs);
+    }
+  }
+
+  /**
+   * Journals the completion of a pending delete of under file system objects.
+   *
+   * @param ufsDelete the pending delete
+   */
+  private void journalUfsDeleteCompleted(UfsDeleteEntry ufsDelete) {
+    UfsDeleteEntry completed = ufsDelete.toBuilder().setCompleted(true).build();
+    try {
+      waitForJournalFlush(
+          appendJournalEntry(JournalEntry.newBuilder().setUfsDelete(completed).build()));
+    } catch (RuntimeException e) {
+      // The master lost leadership, the next leader resumes the delete.
+      LOG.warn("Failed to journal the completed delete of {}: {}", ufsDelete.getUfsPath(),
+          e.getMessage());
+      return;
+    }
+    mPendingUfsDeletes.remove(ufsDelete.getId());
+  }
+
   /**
    * Returns the file id for a given path. If the given path does not exist in Alluxio, the method
    * attempts to load it from UFS.
@@ -470,6 +705,7 @@ public final class FileSystemMaster extends AbstractMaster {
       throws FileDoesNotExistException, InvalidPathException, AccessControlException {
     Metrics.GET_FILE_INFO_OPS.inc();
     long flushCounter = AsyncJournalWriter.INVALID_FLUSH_COUNTER;
+    boolean standbyLocked = lockStandbyRead();
     try (LockedInodePath inodePath = mInodeTree.lockInodePath(path, InodeTree.LockMode.WRITE)) {
       // This is WRITE locked, since loading metadata is possible.
       mPermissionChecker.checkPermission(Mode.Bits.READ, inodePath);
@@ -478,11 +714,45 @@ public final class FileSystemMaster extends AbstractMaster {
       mInodeTree.ensureFullInodePath(inodePath, InodeTree.LockMode.READ);
       return getFileInfoInternal(inodePath);
     } finally {
+      unlockStandbyRead(standbyLocked);
       // finally runs after resources are closed (unlocked).
       waitForJournalFlush(flushCounter);
     }
   }
 
+  /**
+   * Returns the {@link FileInfo} for each of the given paths. Each path is locked and checked like
+   * in {@link #getFileInfo(AlluxioURI)}, but the batch waits only once for the loaded metadata to
+   * be journaled.
+   *
+   * @param paths the paths to get the {@link FileInfo} for
+   * @return the result for each path, in the same order as the paths
+   */
+  public List<BatchResult<FileInfo>> getFileInfoBatch(List<AlluxioURI> paths) {
+    List<BatchResult<FileInfo>> results = new ArrayList<>(paths.size());
+    long flushCounter = AsyncJournalWriter.INVALID_FLUSH_COUNTER;
+    boolean standbyLocked = lockStandbyRead();
+    try {
+      for (AlluxioURI path : paths) {
+        Metrics.GET_FILE_INFO_OPS.inc();
+        try (LockedInodePath inodePath = mInodeTree.lockInodePath(path, InodeTree.LockMode.WRITE)) {
+          mPermissionChecker.checkPermission(Mode.Bits.READ, inodePath);
+          flushCounter = Math.max(flushCounter, loadMetadataIfNotExistAndJournal(inodePath,
+              LoadMetadataOptions.defaults().setCreateAncestors(true)));
+          mInodeTree.ensureFullInodePath(inodePath, InodeTree.LockMode.READ);
+          results.add(BatchResult.success(getFileInfoInternal(inodePath)));
+        } catch (AlluxioException e) {
+          results.add(BatchResult.<FileInfo>failure(e));
+        }
+      }
+    } finally {
+      unlockStandbyRead(standbyLocked);
+      // The flush counters increase, so waiting for the largest one waits for all the paths.
+      waitForJournalFlush(flushCounter);
+    }
+    return results;
+  }
+
   /**
    * @param inodePath the {@link LockedInodePath} to get the {@link FileInfo} for
    * @return the {@link FileInfo} for the given inode
@@ -532,7 +802,7 @@ public final class FileSystemMaster extends AbstractMaster {
   /**
    * Returns a list of {@link FileInfo} for a given path. If the given path is a file, the list only
    * contains a single object. If it is a directory, the resulting list contains all direct children
-   * of the directory.
+   * of the directory, or the page of them sorted by name which the options select.
    * <p>
    * This operation requires users to have
    * {@link Mode.Bits#READ} permission on the path, and also
@@ -549,6 +819,7 @@ public final class FileSystemMaster extends AbstractMaster {
       throws AccessControlException, FileDoesNotExistException, InvalidPathException {
     Metrics.GET_FILE_INFO_OPS.inc();
     long flushCounter = AsyncJournalWriter.INVALID_FLUSH_COUNTER;
+    boolean standbyLocked = lockStandbyRead();
     try (LockedInodePath inodePath = mInodeTree.lockInodePath(path, InodeTree.LockMode.WRITE)) {
       // This is WRITE locked, since loading metadata is possible.
       mPermissionChecker.checkPermission(Mode.Bits.READ, inodePath);
@@ -574,14 +845,15 @@ public final class FileSystemMaster extends AbstractMaster {
       if (inode.isDirectory()) {
         TempInodePathForDescendant tempInodePath = new TempInodePathForDescendant(inodePath);
         mPermissionChecker.checkPermission(Mode.Bits.EXECUTE, inodePath);
-        for (Inode<?> child : ((InodeDirectory) inode).getChildren()) {
-          child.lockRead();
+        InodeLockManager lockManager = mInodeTree.getLockManager();
+        for (Inode<?> child : selectChildren((InodeDirectory) inode, listStatusOptions)) {
+          lockManager.lockRead(child);
           try {
             // the path to child for getPath should already be locked.
             tempInodePath.setDescendant(child, mInodeTree.getPath(child));
             ret.add(getFileInfoInternal(tempInodePath));
           } finally {
-            child.unlockRead();
+            lockManager.unlockRead(child);
           }
         }
       } else {
@@ -590,11 +862,30 @@ public final class FileSystemMaster extends AbstractMaster {
       Metrics.FILE_INFOS_GOT.inc();
       return ret;
     } finally {
+      unlockStandbyRead(standbyLocked);
       // finally runs after resources are closed (unlocked).
       waitForJournalFlush(flushCounter);
     }
   }
 
+  /**
+   * Selects the children of a directory to list. The children are looked up as they are listed,
+   * and for a paged listing, the page is selected by comparing the names of the children only, so
+   * that only the children in the page are looked up.
+   *
+   * @param directory the read locked directory
+   * @param listStatusOptions the list status options
+   * @return the children to list, sorted by name for a paged listing
+   */
+  private Iterable<Inode<?>> selectChildren(InodeDirectory directory,
+      ListStatusOptions listStatusOptions) {
+    if (!listStatusOptions.isPaged()) {
+      return mInodeTree.iterateChildren(directory);
+    }
+    return mInodeTree.iterateChildren(directory, listStatusOptions.getStartAfter(),
+        listStatusOptions.getOffset(), listStatusOptions.getLimit());
+  }
+
   /**
    * @return a read-only view of the file system master
    */
@@ -631,6 +922,41 @@ public final class FileSystemMaster extends AbstractMaster {
     }
   }
 
+  /**
+   * Completes the given files. Each file is locked and checked like in
+   * {@link #completeFile(AlluxioURI, CompleteFileOptions)}, but the batch waits only once for the
+   * completions to be journaled.
+   *
+   * @param paths the file paths to complete
+   * @param options the method options, one per path
+   * @return the result for each path, in the same order as the paths
+   */
+  public List<BatchResult<Void>> completeFileBatch(List<AlluxioURI> paths,
+      List<CompleteFileOptions> options) {
+    Preconditions.checkArgument(paths.size() == options.size(),
+        PreconditionMessage.BATCH_OPTIONS_SIZE_MISMATCH.toString(), paths.size(), options.size());
+    List<BatchResult<Void>> results = new ArrayList<>(paths.size());
+    long flushCounter = AsyncJournalWriter.INVALID_FLUSH_COUNTER;
+    try {
+      for (int i = 0; i < paths.size(); i++) {
+        Metrics.COMPLETE_FILE_OPS.inc();
+        try (LockedInodePath inodePath =
+            mInodeTree.lockFullInodePath(paths.get(i), InodeTree.LockMode.WRITE)) {
+          mPermissionChecker.checkPermission(Mode.Bits.WRITE, inodePath);
+          flushCounter =
+              Math.max(flushCounter, completeFileAndJournal(inodePath, options.get(i)));
+          results.add(BatchResult.<Void>success(null));
+        } catch (AlluxioException e) {
+          results.add(BatchResult.<Void>failure(e));
+        }
+      }
+    } finally {
+      // The flush counters increase, so waiting for the largest one waits for all the paths.
+      waitForJournalFlush(flushCounter);
+    }
+    return results;
+  }
+
   /**
    * Completes a file. After a file is completed, it cannot be written to.
    * <p>
@@ -705,9 +1031,12 @@ public final class FileSystemMaster extends AbstractMaster {
       throws FileDoesNotExistException, InvalidPathException, InvalidFileSizeException,
       FileAlreadyCompletedException {
     InodeFile inode = inodePath.getInodeFile();
+    SubtreeSummary previousSummary = inode.getSubtreeSummary();
     inode.setBlockIds(blockIds);
     inode.setLastModificationTimeMs(opTimeMs);
     inode.complete(length);
+    mInodeTree.updateAncestorSummaries(inode.getParentId(),
+        inode.getSubtreeSummary().subtract(previousSummary));
 
     if (inode.isPersisted()) {
       // Commit all the file blocks (without locations) so the metadata for the block exists.
@@ -770,6 +1099,45 @@ public final class FileSystemMaster extends AbstractMaster {
     }
   }
 
+  /**
+   * Creates the given files. Each file is locked and checked like in
+   * {@link #createFile(AlluxioURI, CreateFileOptions)}, but the batch waits only once for the
+   * creations to be journaled.
+   *
+   * @param paths the files to create
+   * @param options method options, one per path
+   * @return the result for each path, in the same order as the paths, with the {@link FileInfo} of
+   *         the created file
+   */
+  public List<BatchResult<FileInfo>> createFileBatch(List<AlluxioURI> paths,
+      List<CreateFileOptions> options) {
+    Preconditions.checkArgument(paths.size() == options.size(),
+        PreconditionMessage.BATCH_OPTIONS_SIZE_MISMATCH.toString(), paths.size(), options.size());
+    List<BatchResult<FileInfo>> results = new ArrayList<>(paths.size());
+    long flushCounter = AsyncJournalWriter.INVALID_FLUSH_COUNTER;
+    try {
+      for (int i = 0; i < paths.size(); i++) {
+        Metrics.CREATE_FILES_OPS.inc();
+        AlluxioURI path = paths.get(i);
+        try (LockedInodePath inodePath =
+            mInodeTree.lockInodePath(path, InodeTree.LockMode.WRITE)) {
+          mPermissionChecker.checkParentPermission(Mode.Bits.WRITE, inodePath);
+          mMountTable.checkUnderWritableMountPoint(path);
+          flushCounter = Math.max(flushCounter, createFileAndJournal(inodePath, options.get(i)));
+          results.add(BatchResult.success(getFileInfoInternal(inodePath)));
+        } catch (AlluxioException e) {
+          results.add(BatchResult.<FileInfo>failure(e));
+        } catch (IOException e) {
+          results.add(BatchResult.<FileInfo>failure(e));
+        }
+      }
+    } finally {
+      // The flush counters increase, so waiting for the largest one waits for all the paths.
+      waitForJournalFlush(flushCounter);
+    }
+    return results;
+  }
+
   /**
    * Creates a file (not a directory) for a given path.
    * <p>
@@ -808,7 +1176,9 @@ public final class FileSystemMaster extends AbstractMaster {
       CreateFileOptions options)
       throws InvalidPathException, FileAlreadyExistsException, BlockInfoException, IOException,
       FileDoesNotExistException {
+    checkNotPendingUfsDelete(inodePath.getUri());
     InodeTree.CreatePathResult createResult = mInodeTree.createPath(inodePath, options);
+    invalidateAbsentUfsPath(inodePath.getUri(), false);
     // If the create succeeded, the list of created inodes will not be empty.
     List<Inode<?>> created = createResult.getCreated();
     InodeFile inode = (InodeFile) created.get(created.size() - 1);
@@ -816,7 +1186,9 @@ public final class FileSystemMaster extends AbstractMaster {
       inode.setCacheable(true);
     }
 
-    mTtlBuckets.insert(inode);
+    if (inode.getTtl() != Constants.NO_TTL) {
+      mTtlWheel.insert(inode);
+    }
 
     Metrics.FILES_CREATED.inc();
     Metrics.DIRECTORIES_CREATED.inc();
@@ -839,6 +1211,7 @@ public final class FileSystemMaster extends AbstractMaster {
     long flushCounter = AsyncJournalWriter.INVALID_FLUSH_COUNTER;
     try (LockedInodePath inodePath = mInodeTree.lockFullInodePath(path, InodeTree.LockMode.WRITE)) {
       long id = mInodeTree.reinitializeFile(inodePath, blockSizeBytes, ttl);
+      mTtlWheel.insert(inodePath.getInodeFile());
       ReinitializeFileEntry reinitializeFile = ReinitializeFileEntry.newBuilder()
           .setPath(path.getPath())
           .setBlockSizeBytes(blockSizeBytes)
@@ -860,6 +1233,7 @@ public final class FileSystemMaster extends AbstractMaster {
     try (LockedInodePath inodePath = mInodeTree
         .lockFullInodePath(new AlluxioURI(entry.getPath()), InodeTree.LockMode.WRITE)) {
       mInodeTree.reinitializeFile(inodePath, entry.getBlockSizeBytes(), entry.getTtl());
+      mTtlWheel.insert(inodePath.getInodeFile());
     } catch (InvalidPathException | FileDoesNotExistException e) {
       throw new RuntimeException(e);
     }
@@ -908,6 +1282,14 @@ public final class FileSystemMaster extends AbstractMaster {
     return mInodeTree.getPinnedSize();
   }
 
+  /**
+   * @return the recursive deletes and frees of large subtrees which are still being completed in
+   *         the background, in the order they were started
+   */
+  public List<SubtreeReclamation> getSubtreeReclamations() {
+    return mSubtreeReclaimer.getReclamations();
+  }
+
   /**
    * Deletes a given path.
    * <p>
@@ -937,6 +1319,40 @@ public final class FileSystemMaster extends AbstractMaster {
     }
   }
 
+  /**
+   * Deletes the given paths. Each path is locked and checked like in
+   * {@link #delete(AlluxioURI, boolean)}, but the batch waits only once for the deletions to be
+   * journaled.
+   *
+   * @param paths the paths to delete
+   * @param recursive if true, will delete all the children of the paths
+   * @return the result for each path, in the same order as the paths
+   */
+  public List<BatchResult<Void>> deleteBatch(List<AlluxioURI> paths, boolean recursive) {
+    List<BatchResult<Void>> results = new ArrayList<>(paths.size());
+    long flushCounter = AsyncJournalWriter.INVALID_FLUSH_COUNTER;
+    try {
+      for (AlluxioURI path : paths) {
+        Metrics.DELETE_PATHS_OPS.inc();
+        try (LockedInodePath inodePath =
+            mInodeTree.lockFullInodePath(path, InodeTree.LockMode.WRITE)) {
+          mPermissionChecker.checkParentPermission(Mode.Bits.WRITE, inodePath);
+          mMountTable.checkUnderWritableMountPoint(path);
+          flushCounter = Math.max(flushCounter, deleteAndJournal(inodePath, recursive));
+          results.add(BatchResult.<Void>success(null));
+        } catch (AlluxioException e) {
+          results.add(BatchResult.<Void>failure(e));
+        } catch (IOException e) {
+          results.add(BatchResult.<Void>failure(e));
+        }
+      }
+    } finally {
+      // The flush counters increase, so waiting for the largest one waits for all the paths.
+      waitForJournalFlush(flushCounter);
+    }
+    return results;
+  }
+
   /**
    * Deletes a given path.
    * <p>
@@ -956,7 +1372,20 @@ public final class FileSystemMaster extends AbstractMaster {
     Inode<?> inode = inodePath.getInode();
     long fileId = inode.getId();
     long opTimeMs = System.currentTimeMillis();
+    if (recursive && isDeletedInBackground(inodePath)) {
+      return deleteInBackgroundAndJournal(inodePath, opTimeMs);
+    }
     deleteInternal(inodePath, recursive, false, opTimeMs);
+    return journalDelete(fileId, recursive, opTimeMs);
+  }
+
+  /**
+   * @param fileId the id of the deleted file
+   * @param recursive whether the delete is recursive
+   * @param opTimeMs the time of the operation
+   * @return the flush counter for journaling
+   */
+  private long journalDelete(long fileId, boolean recursive, long opTimeMs) {
     DeleteFileEntry deleteFile = DeleteFileEntry.newBuilder()
         .setId(fileId)
         .setRecursive(recursive)
@@ -999,6 +1428,110 @@ public final class FileSystemMaster extends AbstractMaster {
     }
   }
 
+  /**
+   * @param inodePath the locked path to delete recursively
+   * @return true if the path is a large directory which does not contain mount points, and should
+   *         be deleted in the background
+   * @throws FileDoesNotExistException if the path does not exist
+   * @throws InvalidPathException if the path is invalid
+   */
+  private boolean isDeletedInBackground(LockedInodePath inodePath)
+      throws FileDoesNotExistException, InvalidPathException {
+    if (!inodePath.fullPathExists() || !isLargeSubtree(inodePath.getInode())) {
+      return false;
+    }
+    // Deleting a mount point unmounts it, which is only done by a synchronous delete.
+    for (String mountPath : mMountTable.getMountTable().keySet()) {
+      if (PathUtils.hasPrefix(mountPath, inodePath.getUri().getPath())) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * @param inode the root of a subtree
+   * @return true if the subtree has enough inodes to be deleted or freed in the background
+   */
+  private boolean isLargeSubtree(Inode<?> inode) {
+    if (!inode.isDirectory() || mInodeTree.isRootId(inode.getId())) {
+      return false;
+    }
+    SubtreeSummary summary = inode.getSubtreeSummary();
+    return summary.getFileCount() + summary.getDirectoryCount() >= mSubtreeReclaimThreshold;
+  }
+
+  /**
+   * Detaches a large directory from its parent, and deletes the detached subtree in the background
+   * with {@link #mSubtreeReclaimer}. Unlike
+   * {@link #deleteInternal(LockedInodePath, boolean, boolean, long)}, this neither locks the
+   * descendants nor accesses the under file system. The delete is journaled like a synchronous
+   * delete, so replaying it deletes the whole subtree. If the directory is persisted, the delete of
+   * its under file system objects is journaled as pending right after it, and is resumed by the
+   * next leader unless its completion is journaled. Until then, no path is created at or loaded
+   * from the location of the objects.
+   *
+   * @param inodePath the directory {@link LockedInodePath}
+   * @param opTimeMs the time of the operation
+   * @return the flush counter for journaling
+   * @throws FileDoesNotExistException if the directory does not exist
+   * @throws InvalidPathException if the path of the directory cannot be resolved
+   */
+  private long deleteInBackgroundAndJournal(LockedInodePath inodePath, long opTimeMs)
+      throws FileDoesNotExistException, InvalidPathException {
+    InodeDirectory inode = (InodeDirectory) inodePath.getInode();
+    MountTable.Resolution resolution = null;
+    UfsDeleteEntry ufsDelete = null;
+    if (inode.isPersisted()) {
+      resolution = mMountTable.resolve(inodePath.getUri());
+      ufsDelete = UfsDeleteEntry.newBuilder()
+          .setId(inode.getId())
+          .setPath(inodePath.getUri().getPath())
+          .setUfsPath(resolution.getUri().toString())
+          .build();
+    }
+    SubtreeSummary summary = inode.getSubtreeSummary();
+    mInodeTree.detachInode(inodePath, opTimeMs);
+    long counter = journalDelete(inode.getId(), true, opTimeMs);
+    if (ufsDelete != null) {
+      counter = appendJournalEntry(JournalEntry.newBuilder().setUfsDelete(ufsDelete).build());
+      mPendingUfsDeletes.put(ufsDelete.getId(), ufsDelete);
+    }
+    mSubtreeReclaimer.delete(inode, inodePath.getUri(), ufsDelete, resolution);
+    Metrics.PATHS_DELETED.inc(summary.getFileCount() + summary.getDirectoryCount());
+    return counter;
+  }
+
+  /**
+   * Checks that the under file system objects at a path are not being deleted in the background.
+   *
+   * @param path the path to create, load or rename
+   * @throws InvalidPathException if the path is at or under a pending delete
+   */
+  private void checkNotPendingUfsDelete(AlluxioURI path) throws InvalidPathException {
+    String pendingPath = getPendingUfsDelete(path);
+    if (pendingPath != null) {
+      throw new InvalidPathException(
+          ExceptionMessage.PATH_PENDING_DELETION.getMessage(path, pendingPath));
+    }
+  }
+
+  /**
+   * @param path a path
+   * @return the path of the pending delete of under file system objects which the path is at or
+   *         under, or null if there is none
+   * @throws InvalidPathException if the path is invalid
+   */
+  @Nullable
+  private String getPendingUfsDelete(AlluxioURI path) throws InvalidPathException {
+    for (UfsDeleteEntry ufsDelete : mPendingUfsDeletes.values()) {
+      if (PathUtils.hasPrefix(path.getPath(), ufsDelete.getPath())) {
+        return ufsDelete.getPath();
+      }
+    }
+    return null;
+  }
+
   /**
    * Implements file deletion.
    *
@@ -1079,6 +1612,9 @@ public final class FileSystemMaster extends AbstractMaster {
         if (delInode.isFile()) {
           // Remove corresponding blocks from workers and delete metadata in master.
           mBlockMaster.removeBlocks(((InodeFile) delInode).getBlockIds(), true /* delete */);
+          if (((InodeFile) delInode).getTtl() != Constants.NO_TTL) {
+            mTtlWheel.remove(delInode.getId());
+          }
         }
 
         mInodeTree.deleteInode(tempInodePath, opTimeMs);
@@ -1181,32 +1717,71 @@ public final class FileSystemMaster extends AbstractMaster {
   }
 
   /**
+   * Gets the absolute paths of all in memory files. Only the files with blocks in the top storage
+   * tier, which the block master keeps track of as the block locations change, are checked, so
+   * that the inode tree is not traversed.
+   *
    * @return absolute paths of all in memory files
    */
   public List<AlluxioURI> getInMemoryFiles() {
     List<AlluxioURI> ret = new ArrayList<>();
-    getInMemoryFilesInternal(mInodeTree.getRoot(), new AlluxioURI(AlluxioURI.SEPARATOR), ret);
+    for (long containerId : mBlockMaster.getTopTierContainerIds()) {
+      try (LockedInodePath inodePath = mInodeTree
+          .lockFullInodePath(IdUtils.createFileId(containerId), InodeTree.LockMode.READ)) {
+        Inode<?> inode = inodePath.getInode();
+        if (inode.isFile() && isFullyInMemory((InodeFile) inode)) {
+          ret.add(inodePath.getUri());
+        }
+      } catch (FileDoesNotExistException e) {
+        // The file has been deleted since its blocks were listed.
+      }
+    }
     return ret;
   }
 
-  private void getInMemoryFilesInternal(Inode<?> inode, AlluxioURI uri,
-      List<AlluxioURI> inMemoryFiles) {
-    inode.lockRead();
-    try {
-      AlluxioURI newUri = uri.join(inode.getName());
-      if (inode.isFile()) {
-        if (isFullyInMemory((InodeFile) inode)) {
-          inMemoryFiles.add(newUri);
-        }
-      } else {
-        // This inode is a directory.
-        Set<Inode<?>> children = ((InodeDirectory) inode).getChildren();
-        for (Inode<?> child : children) {
-          getInMemoryFilesInternal(child, newUri, inMemoryFiles);
-        }
+  /**
+   * Gets the {@link ContentSummary} of a path, which aggregates the sizes and counts of a
+   * directory and all its descendants. The summaries of the directories are maintained as the
+   * inodes and the block locations change, so the subtree of the path is not traversed. The
+   * changes of the block locations are applied by the worker heartbeats, so the number of bytes
+   * stored in Alluxio is the one as of the latest heartbeat.
+   * <p>
+   * This operation requires users to have {@link Mode.Bits#READ} permission on the path.
+   *
+   * @param path the path to get the {@link ContentSummary} for
+   * @return the {@link ContentSummary} of the path
+   * @throws FileDoesNotExistException if the path does not exist
+   * @throws InvalidPathException if the path is not valid
+   * @throws AccessControlException if permission checking fails
+   */
+  public ContentSummary getContentSummary(AlluxioURI path)
+      throws FileDoesNotExistException, InvalidPathException, AccessControlException {
+    Metrics.GET_CONTENT_SUMMARY_OPS.inc();
+    try (LockedInodePath inodePath = mInodeTree.lockFullInodePath(path, InodeTree.LockMode.READ)) {
+      mPermissionChecker.checkPermission(Mode.Bits.READ, inodePath);
+      return inodePath.getInode().getSubtreeSummary().toContentSummary();
+    }
+  }
+
+  /**
+   * Applies the changes of the number of bytes stored in Alluxio of the files, which the block
+   * master records as the block locations change, to the files and the summaries of their
+   * ancestors. The changes are applied under the inode locks, which cannot be acquired while the
+   * block master holds its locks, so they are only applied by the worker heartbeats rather than by
+   * the RPCs reading the summaries.
+   */
+  private void updateInAlluxioLengths() {
+    for (Map.Entry<Long, Long> change : mBlockMaster.pollInAlluxioLengthChanges().entrySet()) {
+      try (LockedInodePath inodePath = mInodeTree.lockFullInodePath(
+          IdUtils.createFileId(change.getKey()), InodeTree.LockMode.WRITE)) {
+        InodeFile inode = inodePath.getInodeFile();
+        inode.setInAlluxioLength(inode.getInAlluxioLength() + change.getValue());
+        mInodeTree.updateAncestorSummaries(inode.getParentId(),
+            new SubtreeSummary(0, 0, 0, change.getValue(), 0));
+      } catch (FileDoesNotExistException e) {
+        // The file has been deleted, and its summary removed from its ancestors, since its blocks
+        // changed.
       }
-    } finally {
-      inode.unlockRead();
     }
   }
 
@@ -1249,6 +1824,106 @@ public final class FileSystemMaster extends AbstractMaster {
     return false;
   }
 
+  /**
+   * Submits a job having the workers load the blocks of a file or directory into their top tier.
+   * The workers read the blocks directly from the under file system, and the job runs in the
+   * background while the clients poll it with {@link #getLoadJobInfo(long)}. The jobs are not
+   * journaled, so they are lost when the leader master changes.
+   * <p>
+   * This operation requires users to have {@link Mode.Bits#READ} permission on the path.
+   *
+   * @param path the path of the file or directory to load
+   * @param options method options
+   * @return the id of the job
+   * @throws FileDoesNotExistException if the path does not exist
+   * @throws InvalidPathException if the path is not valid
+   * @throws AccessControlException if permission checking fails
+   * @throws ServerOverloadedException if the maximum number of load jobs are already running
+   * @throws NoWorkerException if there is no worker to load the blocks
+   */
+  public long submitLoadJob(AlluxioURI path, LoadJobOptions options)
+      throws FileDoesNotExistException, InvalidPathException, AccessControlException,
+      ServerOverloadedException, NoWorkerException {
+    Metrics.SUBMIT_LOAD_JOB_OPS.inc();
+    try (LockedInodePath inodePath = mInodeTree.lockFullInodePath(path, InodeTree.LockMode.READ)) {
+      mPermissionChecker.checkPermission(Mode.Bits.READ, inodePath);
+    }
+    return mLoadJobManager.submit(path, options);
+  }
+
+  /**
+   * @param id the id of a load job
+   * @return the progress of the load job
+   * @throws LoadJobDoesNotExistException if the job does not exist, or was forgotten after it
+   *         finished
+   */
+  public LoadJobInfo getLoadJobInfo(long id) throws LoadJobDoesNotExistException {
+    Metrics.GET_LOAD_JOB_INFO_OPS.inc();
+    return mLoadJobManager.getInfo(id);
+  }
+
+  /**
+   * Cancels a load job. The blocks being loaded are still loaded, but no other block is.
+   *
+   * @param id the id of the load job
+   * @throws LoadJobDoesNotExistException if the job does not exist, or was forgotten after it
+   *         finished
+   */
+  public void cancelLoadJob(long id) throws LoadJobDoesNotExistException {
+    Metrics.CANCEL_LOAD_JOB_OPS.inc();
+    mLoadJobManager.cancel(id);
+  }
+
+  /**
+   * Lists the blocks of a file or directory which are not in the top tier of a worker. The subtree
+   * is locked to list the files which are not fully in memory, and each of these files is then
+   * locked on its own to list its blocks, so that the subtree is not locked while the blocks of
+   * many files are listed.
+   *
+   * @param path the path of the file or directory
+   * @return the blocks to load
+   * @throws AlluxioException if the path does not exist, or a block is lost and its file is not
+   *         persisted
+   */
+  private List<LoadJobManager.BlockLoad> listBlocksToLoadInternal(AlluxioURI path)
+      throws AlluxioException {
+    List<Long> fileIds = new ArrayList<>();
+    try (LockedInodePath inodePath = mInodeTree.lockFullInodePath(path, InodeTree.LockMode.READ)) {
+      List<Inode<?>> inodes = new ArrayList<>();
+      inodes.add(inodePath.getInode());
+      try (InodeLockList lockList = mInodeTree.lockDescendants(inodePath,
+          InodeTree.LockMode.READ)) {
+        inodes.addAll(lockList.getInodes());
+        for (Inode<?> inode : inodes) {
+          if (inode.isFile() && !isFullyInMemory((InodeFile) inode)) {
+            fileIds.add(inode.getId());
+          }
+        }
+      }
+    }
+    List<LoadJobManager.BlockLoad> loads = new ArrayList<>();
+    for (long fileId : fileIds) {
+      try (LockedInodePath inodePath = mInodeTree.lockFullInodePath(fileId,
+          InodeTree.LockMode.READ)) {
+        InodeFile file = inodePath.getInodeFile();
+        String ufsPath = mMountTable.resolve(inodePath.getUri()).getUri().toString();
+        for (FileBlockInfo block : getFileBlockInfoListInternal(inodePath)) {
+          if (isInTopStorageTier(block.getBlockInfo())) {
+            continue;
+          }
+          if (block.getBlockInfo().getLocations().isEmpty() && !file.isPersisted()) {
+            throw new BlockInfoException(ExceptionMessage.LOAD_JOB_BLOCK_LOST,
+                block.getBlockInfo().getBlockId(), inodePath.getUri());
+          }
+          loads.add(new LoadJobManager.BlockLoad(block, ufsPath));
+        }
+      } catch (FileDoesNotExistException e) {
+        // The file has been deleted since the subtree was listed.
+      }
+    }
+    return loads;
+  }
+
   /**
    * Creates a directory for a given path.
    * <p>
@@ -1322,8 +1997,11 @@ public final class FileSystemMaster extends AbstractMaster {
   private InodeTree.CreatePathResult createDirectoryInternal(LockedInodePath inodePath,
       CreateDirectoryOptions options) throws InvalidPathException, FileAlreadyExistsException,
       IOException, AccessControlException, FileDoesNotExistException {
+    checkNotPendingUfsDelete(inodePath.getUri());
     try {
-      return mInodeTree.createPath(inodePath, options);
+      InodeTree.CreatePathResult createResult = mInodeTree.createPath(inodePath, options);
+      invalidateAbsentUfsPath(inodePath.getUri(), false);
+      return createResult;
     } catch (BlockInfoException e) {
       // Since we are creating a directory, the block size is ignored, no such exception should
       // happen.
@@ -1441,6 +2119,14 @@ public final class FileSystemMaster extends AbstractMaster {
     if (dstInodePath.getUri().isRoot()) {
       throw new InvalidPathException(ExceptionMessage.RENAME_CANNOT_BE_TO_ROOT.getMessage());
     }
+    checkNotPendingUfsDelete(dstInodePath.getUri());
+    // The objects being deleted in the background would be moved with the source.
+    for (UfsDeleteEntry ufsDelete : mPendingUfsDeletes.values()) {
+      if (PathUtils.hasPrefix(ufsDelete.getPath(), srcInodePath.getUri().getPath())) {
+        throw new InvalidPathException(ExceptionMessage.PATH_PENDING_DELETION
+            .getMessage(srcInodePath.getUri(), ufsDelete.getPath()));
+      }
+    }
     // Renaming across mount points is not allowed.
     String srcMount = mMountTable.getMountPoint(srcInodePath.getUri());
     String dstMount = mMountTable.getMountPoint(dstInodePath.getUri());
@@ -1482,6 +2168,7 @@ public final class FileSystemMaster extends AbstractMaster {
     // Now we remove srcInode from its parent and insert it into dstPath's parent
     long opTimeMs = System.currentTimeMillis();
     renameInternal(srcInodePath, dstInodePath, false, opTimeMs);
+    invalidateAbsentUfsPath(dstInodePath.getUri(), srcInode.isDirectory());
     List<Inode<?>> persistedInodes = propagatePersistedInternal(srcInodePath, false);
     journalPersistedInodes(persistedInodes);
 
@@ -1538,12 +2225,16 @@ public final class FileSystemMaster extends AbstractMaster {
     // TODO(jiri): A crash between now and the time the rename operation is journaled will result in
     // an inconsistency between Alluxio and UFS.
     InodeDirectory dstParentInode = dstInodePath.getParentInodeDirectory();
+    SubtreeSummary summary = srcInode.getSubtreeSummary();
+    mInodeTree.updateAncestorSummaries(srcParentInode.getId(),
+        new SubtreeSummary().subtract(summary));
     srcParentInode.removeChild(srcInode);
     srcParentInode.setLastModificationTimeMs(opTimeMs);
     srcInode.setParentId(dstParentInode.getId());
-    srcInode.setName(dstPath.getName());
+    mInodeTree.rename(srcInode, dstPath.getName());
     dstParentInode.addChild(srcInode);
     dstParentInode.setLastModificationTimeMs(opTimeMs);
+    mInodeTree.updateAncestorSummaries(dstParentInode.getId(), summary);
     Metrics.PATHS_RENAMED.inc();
   }
 
@@ -1635,7 +2326,8 @@ public final class FileSystemMaster extends AbstractMaster {
 
   /**
    * Frees or evicts all of the blocks of the file from alluxio storage. If the given file is a
-   * directory, and the 'recursive' flag is enabled, all descendant files will also be freed.
+   * directory, and the 'recursive' flag is enabled, all descendant files will also be freed. The
+   * descendants of a large directory are freed in the background.
    * <p>
    * This operation requires users to have {@link Mode.Bits#READ} permission on the path.
    *
@@ -1670,6 +2362,12 @@ public final class FileSystemMaster extends AbstractMaster {
       // true
       return false;
     }
+    if (recursive && isLargeSubtree(inode)) {
+      SubtreeSummary summary = inode.getSubtreeSummary();
+      mSubtreeReclaimer.free((InodeDirectory) inode, inodePath.getUri());
+      Metrics.FILES_FREED.inc(summary.getFileCount() + summary.getDirectoryCount());
+      return true;
+    }
 
     List<Inode<?>> freeInodes = new ArrayList<>();
     freeInodes.add(inode);
@@ -1780,6 +2478,11 @@ public final class FileSystemMaster extends AbstractMaster {
    * This operation requires users to have {@link Mode.Bits#WRITE} permission on the path
    * and its parent path if path is a file, or {@link Mode.Bits#WRITE} permission on the
    * parent path if path is a directory.
+   * <p>
+   * If the recursive option is set, the descendants of a directory are then loaded by
+   * {@link #mRecursiveMetadataLoader}, which lists many directories concurrently and locks each
+   * of them only while loading its direct children. This requires {@link Mode.Bits#READ}
+   * permission on each of the descendant directories, like listing them would.
    *
    * @param path the path for which metadata should be loaded
    * @param options the load metadata options
@@ -1796,14 +2499,72 @@ public final class FileSystemMaster extends AbstractMaster {
       throws BlockInfoException, FileDoesNotExistException, InvalidPathException,
       InvalidFileSizeException, FileAlreadyCompletedException, IOException, AccessControlException {
     long flushCounter = AsyncJournalWriter.INVALID_FLUSH_COUNTER;
+    long fileId;
+    List<AlluxioURI> childDirectories = Collections.emptyList();
     try (LockedInodePath inodePath = mInodeTree.lockInodePath(path, InodeTree.LockMode.WRITE)) {
       mPermissionChecker.checkParentPermission(Mode.Bits.WRITE, inodePath);
       flushCounter = loadMetadataAndJournal(inodePath, options);
-      return inodePath.getInode().getId();
+      Inode<?> inode = inodePath.getInode();
+      fileId = inode.getId();
+      if (options.isRecursive() && inode.isDirectory()) {
+        childDirectories = getChildDirectories(inodePath);
+      }
     } finally {
       // finally runs after resources are closed (unlocked).
       waitForJournalFlush(flushCounter);
     }
+    // The descendants are loaded after the path is unlocked, locking one directory at a time.
+    mRecursiveMetadataLoader.loadDescendants(childDirectories);
+    return fileId;
+  }
+
+  /**
+   * Loads the direct children of a descendant directory for a recursive load, unless they were
+   * already loaded.
+   *
+   * @param path the path of the directory
+   * @return the paths of the child directories
+   * @throws AlluxioException if the directory does not exist, or permission checking or loading
+   *         its children fails
+   * @throws IOException if an error occurs accessing the under file system
+   */
+  private List<AlluxioURI> loadDirectChildrenOfDescendant(AlluxioURI path)
+      throws AlluxioException, IOException {
+    long flushCounter = AsyncJournalWriter.INVALID_FLUSH_COUNTER;
+    try (LockedInodePath inodePath =
+        mInodeTree.lockFullInodePath(path, InodeTree.LockMode.WRITE)) {
+      mPermissionChecker.checkPermission(Mode.Bits.READ, inodePath);
+      Inode<?> inode = inodePath.getInode();
+      if (!inode.isDirectory()) {
+        // The directory was replaced by a file since its parent was loaded.
+        return Collections.emptyList();
+      }
+      if (!((InodeDirectory) inode).isDirectChildrenLoaded()) {
+        flushCounter = loadMetadataAndJournal(inodePath,
+            LoadMetadataOptions.defaults().setLoadDirectChildren(true));
+      }
+      return getChildDirectories(inodePath);
+    } finally {
+      // finally runs after resources are closed (unlocked).
+      waitForJournalFlush(flushCounter);
+    }
+  }
+
+  /**
+   * @param inodePath the write locked path of a directory
+   * @return the paths of the child directories of the directory
+   * @throws FileDoesNotExistException if the directory does not exist
+   */
+  private List<AlluxioURI> getChildDirectories(LockedInodePath inodePath)
+      throws FileDoesNotExistException {
+    List<AlluxioURI> childDirectories = new ArrayList<>();
+    for (Inode<?> child : mInodeTree.getChildren((InodeDirectory) inodePath.getInode())) {
+      // The names of the children cannot change while the directory is write locked.
+      if (child.isDirectory()) {
+        childDirectories.add(inodePath.getUri().join(child.getName()));
+      }
+    }
+    return childDirectories;
   }
 
   /**
@@ -1826,49 +2587,116 @@ public final class FileSystemMaster extends AbstractMaster {
       throws InvalidPathException, FileDoesNotExistException, BlockInfoException,
       FileAlreadyCompletedException, InvalidFileSizeException,
       AccessControlException, IOException {
-    AlluxioURI path = inodePath.getUri();
-    MountTable.Resolution resolution = mMountTable.resolve(path);
-    AlluxioURI ufsUri = resolution.getUri();
-    UnderFileSystem ufs = resolution.getUfs();
+    MountTable.Resolution resolution = mMountTable.resolve(inodePath.getUri());
     try {
-      if (!ufs.exists(ufsUri.toString())) {
-        InodeDirectory inode = (InodeDirectory) inodePath.getInode();
-        inode.setDirectChildrenLoaded(true);
-        return AsyncJournalWriter.INVALID_FLUSH_COUNTER;
-      }
-      if (ufs.isFile(ufsUri.toString())) {
-        return loadFileMetadataAndJournal(inodePath, resolution, options);
+      UfsStatus status;
+      boolean cacheAbsent = resolution.getAbsentPathCacheTtlMs() > 0;
+      if (cacheAbsent && mUfsAbsentPathCache.isAbsent(resolution.getUri())) {
+        status = UfsStatus.NOT_FOUND;
       } else {
-        long counter = loadDirectoryMetadataAndJournal(inodePath, options);
-        InodeDirectory inode = (InodeDirectory) inodePath.getInode();
-
-        if (options.isLoadDirectChildren()) {
-          String[] files = ufs.list(ufsUri.getPath());
-          LoadMetadataOptions loadMetadataOptions = LoadMetadataOptions.defaults();
-          loadMetadataOptions.setLoadDirectChildren(false).setCreateAncestors(false);
-
-          for (String file : files) {
-            if (PathUtils.isTemporaryFileName(file) || inode.getChild(file) != null) {
-              continue;
-            }
-            TempInodePathForChild tempInodePath = new TempInodePathForChild(inodePath, file);
-            counter = loadMetadataAndJournal(tempInodePath, loadMetadataOptions);
-          }
-          inode.setDirectChildrenLoaded(true);
+        status = mUfsStatusFetcher.fetchType(resolution.getUfs(), resolution.getUri().toString());
+        if (cacheAbsent && !status.exists()) {
+          mUfsAbsentPathCache.addAbsent(resolution.getUri(), resolution.getAbsentPathCacheTtlMs());
         }
-        return counter;
       }
+      return loadMetadataAndJournal(inodePath, resolution, status, options);
     } catch (IOException e) {
       LOG.error(ExceptionUtils.getStackTrace(e));
       throw e;
     }
   }
 
+  /**
+   * Loads metadata for the object identified by the given path from UFS into Alluxio, given the
+   * status of its UFS path.
+   * <p>
+   * The direct children of a directory are loaded in batches. The statuses of the children of a
+   * batch are fetched from the UFS concurrently by {@link #mUfsStatusFetcher}, and their inodes
+   * are then created sequentially.
+   * <p>
+   * Writes to the journal.
+   *
+   * @param inodePath the path for which metadata should be loaded
+   * @param resolution the UFS resolution of path
+   * @param status the status of the UFS path, with or without attributes
+   * @param options the load metadata options
+   * @return the flush counter for journaling
+   * @throws InvalidPathException if invalid path is encountered
+   * @throws FileDoesNotExistException if there is no UFS path
+   * @throws BlockInfoException if an invalid block size is encountered
+   * @throws FileAlreadyCompletedException if the file is already completed
+   * @throws InvalidFileSizeException if invalid file size is encountered
+   * @throws AccessControlException if permission checking fails
+   * @throws IOException if an I/O error occurs
+   */
+  private long loadMetadataAndJournal(LockedInodePath inodePath,
+      MountTable.Resolution resolution, UfsStatus status, LoadMetadataOptions options)
+      throws InvalidPathException, FileDoesNotExistException, BlockInfoException,
+      FileAlreadyCompletedException, InvalidFileSizeException,
+      AccessControlException, IOException {
+    if (getPendingUfsDelete(inodePath.getUri()) != null) {
+      // The under file system objects being deleted in the background are not loaded.
+      return AsyncJournalWriter.INVALID_FLUSH_COUNTER;
+    }
+    if (!status.exists()) {
+      InodeDirectory inode = (InodeDirectory) inodePath.getInode();
+      inode.setDirectChildrenLoaded(true);
+      return AsyncJournalWriter.INVALID_FLUSH_COUNTER;
+    }
+    if (status.isFile()) {
+      return loadFileMetadataAndJournal(inodePath, resolution, status, options);
+    }
+    long counter = loadDirectoryMetadataAndJournal(inodePath, resolution, status, options);
+    InodeDirectory inode = (InodeDirectory) inodePath.getInode();
+
+    if (options.isLoadDirectChildren()) {
+      UnderFileSystem ufs = resolution.getUfs();
+      String[] files = ufs.list(resolution.getUri().getPath());
+      LoadMetadataOptions loadMetadataOptions = LoadMetadataOptions.defaults();
+      loadMetadataOptions.setLoadDirectChildren(false).setCreateAncestors(false);
+
+      List<String> toLoad = new ArrayList<>();
+      if (files != null) {
+        for (String file : files) {
+          if (!PathUtils.isTemporaryFileName(file) && inode.getChildId(file) == null
+              && getPendingUfsDelete(inodePath.getUri().join(file)) == null) {
+            toLoad.add(file);
+          }
+        }
+      }
+      for (List<String> batch : Lists.partition(toLoad, mMetadataLoadBatchSize)) {
+        List<TempInodePathForChild> childPaths = new ArrayList<>(batch.size());
+        List<MountTable.Resolution> childResolutions = new ArrayList<>(batch.size());
+        List<String> childUfsPaths = new ArrayList<>(batch.size());
+        for (String file : batch) {
+          TempInodePathForChild childPath = new TempInodePathForChild(inodePath, file);
+          MountTable.Resolution childResolution = mMountTable.resolve(childPath.getUri());
+          childPaths.add(childPath);
+          childResolutions.add(childResolution);
+          childUfsPaths.add(childResolution.getUri().toString());
+        }
+        List<UfsStatus> childStatuses = mUfsStatusFetcher.fetchAll(ufs, childUfsPaths);
+        for (int i = 0; i < childPaths.size(); i++) {
+          counter = AsyncJournalWriter.getFlushCounter(counter,
+              loadMetadataAndJournal(childPaths.get(i), childResolutions.get(i),
+                  childStatuses.get(i), loadMetadataOptions));
+        }
+        // Flushes the journal once per batch, so that the entries of a large directory are
+        // flushed in groups of bounded size instead of all at once when the load completes.
+        waitForJournalFlush(counter);
+        counter = AsyncJournalWriter.INVALID_FLUSH_COUNTER;
+      }
+      inode.setDirectChildrenLoaded(true);
+    }
+    return counter;
+  }
+
   /**
    * Loads metadata for the file identified by the given path from UFS into Alluxio.
    *
    * @param inodePath the path for which metadata should be loaded
    * @param resolution the UFS resolution of path
+   * @param status the status of the UFS path, with or without attributes
    * @param options the load metadata options
    * @return the file id of the loaded file
    * @throws BlockInfoException if an invalid block size is encountered
@@ -1880,25 +2708,22 @@ public final class FileSystemMaster extends AbstractMaster {
    * @throws IOException if an I/O error occurs
    */
   private long loadFileMetadataAndJournal(LockedInodePath inodePath,
-      MountTable.Resolution resolution, LoadMetadataOptions options)
+      MountTable.Resolution resolution, UfsStatus status, LoadMetadataOptions options)
       throws IOException, BlockInfoException, FileDoesNotExistException, InvalidPathException,
       AccessControlException, FileAlreadyCompletedException, InvalidFileSizeException, IOException {
     if (inodePath.fullPathExists()) {
       return AsyncJournalWriter.INVALID_FLUSH_COUNTER;
     }
-    AlluxioURI ufsUri = resolution.getUri();
-    UnderFileSystem ufs = resolution.getUfs();
+    status = mUfsStatusFetcher.fetchAttributes(resolution.getUfs(),
+        resolution.getUri().toString(), status);
 
-    long ufsBlockSizeByte = ufs.getBlockSizeByte(ufsUri.toString());
-    long ufsLength = ufs.getFileSize(ufsUri.toString());
+    long ufsLength = status.getLength();
     // Metadata loaded from UFS has no TTL set.
     CreateFileOptions createFileOptions =
-        CreateFileOptions.defaults().setBlockSizeBytes(ufsBlockSizeByte)
+        CreateFileOptions.defaults().setBlockSizeBytes(status.getBlockSizeBytes())
             .setRecursive(options.isCreateAncestors()).setMetadataLoad(true).setPersisted(true);
-    String ufsOwner = ufs.getOwner(ufsUri.toString());
-    String ufsGroup = ufs.getGroup(ufsUri.toString());
-    short ufsMode = ufs.getMode(ufsUri.toString());
-    Permission permission = new Permission(ufsOwner, ufsGroup, ufsMode);
+    Permission permission =
+        new Permission(status.getOwner(), status.getGroup(), status.getMode());
     if (resolution.getShared()) {
       Mode mode = permission.getMode();
       mode.setOtherBits(mode.getOtherBits().or(mode.getOwnerBits()));
@@ -1930,10 +2755,32 @@ public final class FileSystemMaster extends AbstractMaster {
    * @throws AccessControlException if permission checking fails
    * @throws FileDoesNotExistException if the path does not exist
    */
-
   private long loadDirectoryMetadataAndJournal(LockedInodePath inodePath,
       LoadMetadataOptions options)
       throws FileDoesNotExistException, InvalidPathException, AccessControlException, IOException {
+    return loadDirectoryMetadataAndJournal(inodePath, mMountTable.resolve(inodePath.getUri()),
+        new UfsStatus(true, false), options);
+  }
+
+  /**
+   * Loads metadata for the directory identified by the given path from UFS into Alluxio, given the
+   * status of its UFS path. The attributes of the UFS path are only fetched if they are missing
+   * from the status and the directory has to be created.
+   * It is a no-op if the directory exists and is persisted.
+   *
+   * @param inodePath the path for which metadata should be loaded
+   * @param resolution the UFS resolution of path
+   * @param status the status of the UFS path, with or without attributes
+   * @param options the load metadata options
+   * @return the flush counter for journaling
+   * @throws InvalidPathException if invalid path is encountered
+   * @throws IOException if an I/O error occurs
+   * @throws AccessControlException if permission checking fails
+   * @throws FileDoesNotExistException if the path does not exist
+   */
+  private long loadDirectoryMetadataAndJournal(LockedInodePath inodePath,
+      MountTable.Resolution resolution, UfsStatus status, LoadMetadataOptions options)
+      throws FileDoesNotExistException, InvalidPathException, AccessControlException, IOException {
     if (inodePath.fullPathExists()) {
       if (inodePath.getInode().isPersisted()) {
         return AsyncJournalWriter.INVALID_FLUSH_COUNTER;
@@ -1943,13 +2790,10 @@ public final class FileSystemMaster extends AbstractMaster {
             .setMountPoint(mMountTable.isMountPoint(inodePath.getUri()))
             .setPersisted(true).setRecursive(options.isCreateAncestors()).setMetadataLoad(true)
             .setAllowExists(true);
-    MountTable.Resolution resolution = mMountTable.resolve(inodePath.getUri());
-    AlluxioURI ufsUri = resolution.getUri();
-    UnderFileSystem ufs = resolution.getUfs();
-    String ufsOwner = ufs.getOwner(ufsUri.toString());
-    String ufsGroup = ufs.getGroup(ufsUri.toString());
-    short ufsMode = ufs.getMode(ufsUri.toString());
-    Permission permission = new Permission(ufsOwner, ufsGroup, ufsMode);
+    status = mUfsStatusFetcher.fetchAttributes(resolution.getUfs(),
+        resolution.getUri().toString(), status);
+    Permission permission =
+        new Permission(status.getOwner(), status.getGroup(), status.getMode());
     if (resolution.getShared()) {
       Mode mode = permission.getMode();
       mode.setOtherBits(mode.getOtherBits().or(mode.getOwnerBits()));
@@ -1964,14 +2808,38 @@ public final class FileSystemMaster extends AbstractMaster {
     }
   }
 
+  /**
+   * Acquires the read lock guarding against the journal tailer if this master is a standby.
+   *
+   * @return true if the lock was acquired, and must be released by {@link #unlockStandbyRead}
+   */
+  private boolean lockStandbyRead() {
+    if (isLeader()) {
+      return false;
+    }
+    mStandbyLock.readLock().lock();
+    return true;
+  }
+
+  /**
+   * @param locked the result of the matching {@link #lockStandbyRead()} call
+   */
+  private void unlockStandbyRead(boolean locked) {
+    if (locked) {
+      mStandbyLock.readLock().unlock();
+    }
+  }
+
   /**
    * Loads metadata for the path if it is (non-existing || load direct children is set).
    *
    * @param inodePath the {@link LockedInodePath} to load the metadata for
    * @param options the load metadata options
+   * @return the flush counter for journaling
+   * @throws FileDoesNotExistException if the metadata must be loaded but this master is a standby
    */
   private long loadMetadataIfNotExistAndJournal(LockedInodePath inodePath,
-      LoadMetadataOptions options) {
+      LoadMetadataOptions options) throws FileDoesNotExistException {
     boolean inodeExists = inodePath.fullPathExists();
     boolean loadDirectChildren = false;
     if (inodeExists) {
@@ -1984,6 +2852,11 @@ public final class FileSystemMaster extends AbstractMaster {
       }
     }
     if (!inodeExists || loadDirectChildren) {
+      if (!isLeader()) {
+        // A standby master cannot journal the loaded metadata, so the leader must load it.
+        throw new FileDoesNotExistException(
+            ExceptionMessage.PATH_NOT_LOADED_ON_STANDBY.getMessage(inodePath.getUri()));
+      }
       try {
         return loadMetadataAndJournal(inodePath, options);
       } catch (Exception e) {
@@ -2134,6 +3007,13 @@ public final class FileSystemMaster extends AbstractMaster {
         throw new IOException(
             ExceptionMessage.MOUNT_PATH_SHADOWS_DEFAULT_UFS.getMessage(alluxioPath));
       }
+      try {
+        MountTable.getAbsentPathCacheTtlMs(options);
+      } catch (NumberFormatException e) {
+        throw new IOException(ExceptionMessage.INVALID_CONFIGURATION_VALUE.getMessage(
+            options.getProperties().get(PropertyKey.Name.MASTER_UFS_ABSENT_PATH_CACHE_TTL_MS),
+            PropertyKey.Name.MASTER_UFS_ABSENT_PATH_CACHE_TTL_MS), e);
+      }
 
       // Configure the ufs properties, and update the mount options with the configured properties.
       ufs.configureProperties();
@@ -2143,6 +3023,8 @@ public final class FileSystemMaster extends AbstractMaster {
     // Add the mount point. This will only succeed if we are not mounting a prefix of an existing
     // mount and no existing mount is a prefix of this mount.
     mMountTable.add(alluxioPath, ufsPath, options);
+    // The paths which were absent may now be found in the mounted under file system.
+    mUfsAbsentPathCache.invalidateAll();
   }
 
   /**
@@ -2227,7 +3109,28 @@ public final class FileSystemMaster extends AbstractMaster {
    * @throws InvalidPathException if an invalid path is encountered
    */
   private boolean unmountInternal(AlluxioURI uri) throws InvalidPathException {
-    return mMountTable.delete(uri);
+    boolean unmounted = mMountTable.delete(uri);
+    mUfsAbsentPathCache.invalidateAll();
+    return unmounted;
+  }
+
+  /**
+   * Forgets that the UFS path of a created or renamed Alluxio path does not exist.
+   *
+   * @param uri the Alluxio path
+   * @param tree whether to also forget the UFS paths under it, when a directory is renamed to it
+   * @throws InvalidPathException if an invalid path is encountered
+   */
+  private void invalidateAbsentUfsPath(AlluxioURI uri, boolean tree) throws InvalidPathException {
+    if (mUfsAbsentPathCache.isEmpty()) {
+      return;
+    }
+    AlluxioURI ufsUri = mMountTable.resolve(uri).getUri();
+    if (tree) {
+      mUfsAbsentPathCache.invalidateTree(ufsUri);
+    } else {
+      mUfsAbsentPathCache.invalidate(ufsUri);
+    }
   }
 
   /**
@@ -2248,7 +3151,10 @@ public final class FileSystemMaster extends AbstractMaster {
       // free the file first
       InodeFile inodeFile = inodePath.getInodeFile();
       freeInternal(inodePath, false);
+      SubtreeSummary previousSummary = inodeFile.getSubtreeSummary();
       inodeFile.reset();
+      mInodeTree.updateAncestorSummaries(inodeFile.getParentId(),
+          inodeFile.getSubtreeSummary().subtract(previousSummary));
     }
   }
 
@@ -2283,6 +3189,45 @@ public final class FileSystemMaster extends AbstractMaster {
     }
   }
 
+  /**
+   * Sets the attributes of the given paths. Each path is locked and checked like in
+   * {@link #setAttribute(AlluxioURI, SetAttributeOptions)}, but the batch waits only once for the
+   * changes to be journaled.
+   *
+   * @param paths the paths to set attributes for
+   * @param options attributes to be set, one per path
+   * @return the result for each path, in the same order as the paths
+   */
+  public List<BatchResult<Void>> setAttributeBatch(List<AlluxioURI> paths,
+      List<SetAttributeOptions> options) {
+    Preconditions.checkArgument(paths.size() == options.size(),
+        PreconditionMessage.BATCH_OPTIONS_SIZE_MISMATCH.toString(), paths.size(), options.size());
+    List<BatchResult<Void>> results = new ArrayList<>(paths.size());
+    long flushCounter = AsyncJournalWriter.INVALID_FLUSH_COUNTER;
+    try {
+      for (int i = 0; i < paths.size(); i++) {
+        Metrics.SET_ATTRIBUTE_OPS.inc();
+        SetAttributeOptions pathOptions = options.get(i);
+        boolean rootRequired = pathOptions.getOwner() != null;
+        boolean ownerRequired = (pathOptions.getGroup() != null)
+            || (pathOptions.getMode() != Constants.INVALID_MODE);
+        try (LockedInodePath inodePath =
+            mInodeTree.lockFullInodePath(paths.get(i), InodeTree.LockMode.WRITE)) {
+          mPermissionChecker.checkSetAttributePermission(inodePath, rootRequired, ownerRequired);
+          flushCounter = Math.max(flushCounter,
+              setAttributeAndJournal(inodePath, pathOptions, rootRequired, ownerRequired));
+          results.add(BatchResult.<Void>success(null));
+        } catch (AlluxioException e) {
+          results.add(BatchResult.<Void>failure(e));
+        }
+      }
+    } finally {
+      // The flush counters increase, so waiting for the largest one waits for all the paths.
+      waitForJournalFlush(flushCounter);
+    }
+    return results;
+  }
+
   /**
    * Sets the file attribute.
    * <p>
@@ -2423,6 +3368,9 @@ public final class FileSystemMaster extends AbstractMaster {
    */
   public FileSystemCommand workerHeartbeat(long workerId, List<Long> persistedFiles)
       throws FileDoesNotExistException, InvalidPathException, AccessControlException {
+    // Apply the block location changes reported by the workers since the previous heartbeat, so
+    // that they do not accumulate in the block master.
+    updateInAlluxioLengths();
     for (long fileId : persistedFiles) {
       try {
         // Permission checking for each file is performed inside setAttribute
@@ -2466,9 +3414,8 @@ public final class FileSystemMaster extends AbstractMaster {
       long ttl = options.getTtl();
       InodeFile file = (InodeFile) inode;
       if (file.getTtl() != ttl) {
-        mTtlBuckets.remove(file);
         file.setTtl(ttl);
-        mTtlBuckets.insert(file);
+        mTtlWheel.insert(file);
         file.setLastModificationTimeMs(opTimeMs);
       }
     }
@@ -2576,40 +3523,67 @@ public final class FileSystemMaster extends AbstractMaster {
 
   /**
    * This class represents the executor for periodic inode ttl check.
+   *
+   * At each check, the files whose ttl has expired are deleted in batches: the deletions of a
+   * batch are journaled together, and the number of files deleted per second can be limited.
    */
   private final class MasterInodeTtlCheckExecutor implements HeartbeatExecutor {
+    private final int mBatchSize;
+    private final RateLimiter mRateLimiter;
 
     /**
      * Constructs a new {@link MasterInodeTtlCheckExecutor}.
      */
-    public MasterInodeTtlCheckExecutor() {}
+    public MasterInodeTtlCheckExecutor() {
+      mBatchSize = Configuration.getInt(PropertyKey.MASTER_TTL_CHECKER_BATCH_SIZE);
+      Preconditions.checkArgument(mBatchSize > 0, "The ttl checker batch size should be positive");
+      long throughput = Configuration.getLong(PropertyKey.MASTER_TTL_CHECKER_THROUGHPUT_MAX);
+      mRateLimiter = throughput > 0 ? RateLimiter.create(throughput) : null;
+    }
 
     @Override
     public void heartbeat() {
-      Set<TtlBucket> expiredBuckets = mTtlBuckets.getExpiredBuckets(System.currentTimeMillis());
-      for (TtlBucket bucket : expiredBuckets) {
-        for (InodeFile file : bucket.getFiles()) {
-          AlluxioURI path = null;
-          try (LockedInodePath inodePath = mInodeTree
-              .lockFullInodePath(file.getId(), InodeTree.LockMode.READ)) {
-            path = inodePath.getUri();
-          } catch (Exception e) {
-            LOG.error("Exception trying to clean up {} for ttl check: {}", file.toString(),
-                e.toString());
-          }
-          if (path != null) {
-            try {
-              // public delete method will lock the path, and check WRITE permission required at
-              // parent of file
-              delete(path, false);
-            } catch (Exception e) {
-              LOG.error("Exception trying to clean up {} for ttl check: {}", file.toString(),
-                  e.toString());
-            }
+      mTtlWheel.advance(System.currentTimeMillis());
+      List<Long> expired;
+      while (!Thread.currentThread().isInterrupted()
+          && !(expired = mTtlWheel.pollExpired(mBatchSize)).isEmpty()) {
+        if (mRateLimiter != null) {
+          mRateLimiter.acquire(expired.size());
+        }
+        deleteExpiredFiles(expired);
+      }
+    }
+
+    /**
+     * Deletes the files whose ttl has expired, and waits for the deletions to be journaled.
+     *
+     * @param fileIds the ids of the files
+     */
+    private void deleteExpiredFiles(List<Long> fileIds) {
+      long flushCounter = AsyncJournalWriter.INVALID_FLUSH_COUNTER;
+      long timeMs = System.currentTimeMillis();
+      for (long fileId : fileIds) {
+        try (LockedInodePath inodePath = mInodeTree
+            .lockFullInodePath(fileId, InodeTree.LockMode.WRITE)) {
+          Inode<?> inode = inodePath.getInode();
+          if (!inode.isFile() || ((InodeFile) inode).getTtl() == Constants.NO_TTL
+              || inode.getCreationTimeMs() + ((InodeFile) inode).getTtl() > timeMs) {
+            // The ttl of the file was changed after it expired.
+            continue;
           }
+          // Same checks as the public delete method, which requires WRITE permission at the
+          // parent of file
+          mPermissionChecker.checkParentPermission(Mode.Bits.WRITE, inodePath);
+          mMountTable.checkUnderWritableMountPoint(inodePath.getUri());
+          flushCounter = deleteAndJournal(inodePath, false);
+        } catch (FileDoesNotExistException e) {
+          // The file was deleted after it expired.
+        } catch (Exception e) {
+          LOG.error("Exception trying to clean up {} for ttl check: {}", fileId, e.toString());
         }
       }
-      mTtlBuckets.removeBuckets(expiredBuckets);
+      // The flush counters increase, so waiting for the last one waits for all the deletions.
+      waitForJournalFlush(flushCounter);
     }
 
     @Override
@@ -2678,6 +3652,14 @@ public final class FileSystemMaster extends AbstractMaster {
     private static final Counter CREATE_FILES_OPS = MetricsSystem.masterCounter("CreateFileOps");
     private static final Counter DELETE_PATHS_OPS = MetricsSystem.masterCounter("DeletePathOps");
     private static final Counter FREE_FILE_OPS = MetricsSystem.masterCounter("FreeFileOps");
+    private static final Counter GET_CONTENT_SUMMARY_OPS =
+        MetricsSystem.masterCounter("GetContentSummaryOps");
+    private static final Counter SUBMIT_LOAD_JOB_OPS =
+        MetricsSystem.masterCounter("SubmitLoadJobOps");
+    private static final Counter GET_LOAD_JOB_INFO_OPS =
+        MetricsSystem.masterCounter("GetLoadJobInfoOps");
+    private static final Counter CANCEL_LOAD_JOB_OPS =
+        MetricsSystem.masterCounter("CancelLoadJobOps");
     private static final Counter GET_FILE_BLOCK_INFO_OPS =
         MetricsSystem.masterCounter("GetFileBlockInfoOps");
     private static final Counter GET_FILE_INFO_OPS = MetricsSystem.masterCounter("GetFileInfoOps");
@@ -2687,10 +3669,20 @@ public final class FileSystemMaster extends AbstractMaster {
     private static final Counter SET_ATTRIBUTE_OPS = MetricsSystem.masterCounter("SetAttributeOps");
     private static final Counter UNMOUNT_OPS = MetricsSystem.masterCounter("UnmountOps");
 
+    public static final String BYTES_PER_INODE = "BytesPerInode";
     public static final String FILES_PINNED = "FilesPinned";
+    public static final String INODES_PENDING_RECLAMATION = "InodesPendingReclamation";
+    public static final String INODES_RECLAIMED = "InodesReclaimed";
+    public static final String INODES_TOTAL_RECLAMATION = "InodesTotalReclamation";
+    public static final String METADATA_DIRECTORIES_PENDING = "MetadataDirectoriesPending";
+    public static final String SUBTREE_RECLAMATIONS = "SubtreeReclamations";
+    public static final String TTL_BACKLOG = "TtlBacklog";
+    public static final String TTL_LAG_MS = "TtlLagMs";
     public static final String UFS_CAPACITY_TOTAL = "UfsCapacityTotal";
     public static final String UFS_CAPACITY_USED = "UfsCapacityUsed";
     public static final String UFS_CAPACITY_FREE = "UfsCapacityFree";
+    public static final String UFS_DELETES_PENDING = "UfsDeletesPending";
+    public static final String UFS_STATUS_FETCHES_PENDING = "UfsStatusFetchesPending";
 
     /**
      * Register some file system master related gauges.
@@ -2710,6 +3702,76 @@ public final class FileSystemMaster extends AbstractMaster {
               return master.getNumberOfPaths();
             }
           });
+      MetricsSystem.registerGaugeIfAbsent(MetricsSystem.getMasterMetricName(BYTES_PER_INODE),
+          new Gauge<Long>() {
+            @Override
+            public Long getValue() {
+              return master.mInodeTree.getEstimatedBytesPerInode();
+            }
+          });
+      MetricsSystem.registerGaugeIfAbsent(
+          MetricsSystem.getMasterMetricName(INODES_PENDING_RECLAMATION), new Gauge<Long>() {
+            @Override
+            public Long getValue() {
+              return master.mSubtreeReclaimer.getNumInodesPending();
+            }
+          });
+      MetricsSystem.registerGaugeIfAbsent(
+          MetricsSystem.getMasterMetricName(INODES_TOTAL_RECLAMATION), new Gauge<Long>() {
+            @Override
+            public Long getValue() {
+              return master.mSubtreeReclaimer.getNumInodesTotal();
+            }
+          });
+      MetricsSystem.registerGaugeIfAbsent(MetricsSystem.getMasterMetricName(INODES_RECLAIMED),
+          new Gauge<Long>() {
+            @Override
+            public Long getValue() {
+              return master.mSubtreeReclaimer.getNumInodesReclaimed();
+            }
+          });
+      MetricsSystem.registerGaugeIfAbsent(MetricsSystem.getMasterMetricName(SUBTREE_RECLAMATIONS),
+          new Gauge<Integer>() {
+            @Override
+            public Integer getValue() {
+              return master.mSubtreeReclaimer.getReclamations().size();
+            }
+          });
+      MetricsSystem.registerGaugeIfAbsent(MetricsSystem.getMasterMetricName(UFS_DELETES_PENDING),
+          new Gauge<Integer>() {
+            @Override
+            public Integer getValue() {
+              return master.mPendingUfsDeletes.size();
+            }
+          });
+      MetricsSystem.registerGaugeIfAbsent(
+          MetricsSystem.getMasterMetricName(METADATA_DIRECTORIES_PENDING), new Gauge<Integer>() {
+            @Override
+            public Integer getValue() {
+              return master.mRecursiveMetadataLoader.getNumPending();
+            }
+          });
+      MetricsSystem.registerGaugeIfAbsent(
+          MetricsSystem.getMasterMetricName(UFS_STATUS_FETCHES_PENDING), new Gauge<Integer>() {
+            @Override
+            public Integer getValue() {
+              return master.mUfsStatusFetcher.getNumPending();
+            }
+          });
+      MetricsSystem.registerGaugeIfAbsent(MetricsSystem.getMasterMetricName(TTL_BACKLOG),
+          new Gauge<Integer>() {
+            @Override
+            public Integer getValue() {
+              return master.mTtlWheel.getNumExpired();
+            }
+          });
+      MetricsSystem.registerGaugeIfAbsent(MetricsSystem.getMasterMetricName(TTL_LAG_MS),
+          new Gauge<Long>() {
+            @Override
+            public Long getValue() {
+              return master.mTtlWheel.getLagMs(System.currentTimeMillis());
+            }
+          });
 
       final String ufsDataFolder = Configuration.get(PropertyKey.UNDERFS_ADDRESS);
       final UnderFileSystem ufs = UnderFileSystem.get(ufsDataFolder);
@@ -279,6 +279,9 @@ public final class FileSystemMasterClientRestServiceHandler {
    * @param loadDirectChildren whether to load direct children of path
    * @param loadMetadataType the {@link LoadMetadataType}. It overrides loadDirectChildren if it
    *        is set.
+   * @param startAfter the name after which the children are listed, sorted by name, if it is set
+   * @param offset the number of children, sorted by name, to skip
+   * @param limit the maximum number of children, sorted by name, to list, 0 for no limit
    * @return the response object
    */
   @GET
@@ -286,7 +289,10 @@ public final class FileSystemMasterClientRestServiceHandler {
   @ReturnType("java.util.List<alluxio.wire.FileInfo>")
   public Response listStatus(@QueryParam("path") final String path,
       @Deprecated @QueryParam("loadDirectChildren") final boolean loadDirectChildren,
-      @DefaultValue("") @QueryParam("loadMetadataType") final String loadMetadataType) {
+      @DefaultValue("") @QueryParam("loadMetadataType") final String loadMetadataType,
+      @QueryParam("startAfter") final String startAfter,
+      @DefaultValue("0") @QueryParam("offset") final int offset,
+      @DefaultValue("0") @QueryParam("limit") final int limit) {
     return RestUtils.call(new RestUtils.RestCallable<List<FileInfo>>() {
       @Override
       public List<FileInfo> call() throws Exception {
@@ -299,6 +305,7 @@ public final class FileSystemMasterClientRestServiceHandler {
         if (!loadMetadataType.isEmpty()) {
           listStatusOptions.setLoadMetadataType(LoadMetadataType.valueOf(loadMetadataType));
         }
+        listStatusOptions.setStartAfter(startAfter).setOffset(offset).setLimit(limit);
         return mFileSystemMaster.listStatus(new AlluxioURI(path), listStatusOptions);
       }
     });
@@ -21,20 +21,26 @@ import alluxio.master.file.options.CompleteFileOptions;
 import alluxio.master.file.options.CreateDirectoryOptions;
 import alluxio.master.file.options.CreateFileOptions;
 import alluxio.master.file.options.ListStatusOptions;
+import alluxio.master.file.options.LoadJobOptions;
 import alluxio.master.file.options.LoadMetadataOptions;
 import alluxio.master.file.options.MountOptions;
 import alluxio.master.file.options.SetAttributeOptions;
 import alluxio.thrift.AlluxioTException;
 import alluxio.thrift.CompleteFileTOptions;
+import alluxio.thrift.ContentSummary;
 import alluxio.thrift.CreateDirectoryTOptions;
 import alluxio.thrift.CreateFileTOptions;
 import alluxio.thrift.FileBlockInfo;
 import alluxio.thrift.FileInfo;
+import alluxio.thrift.FileSystemBatchTResult;
 import alluxio.thrift.FileSystemMasterClientService;
 import alluxio.thrift.ListStatusTOptions;
+import alluxio.thrift.LoadJobInfo;
+import alluxio.thrift.LoadJobTOptions;
 import alluxio.thrift.MountTOptions;
 import alluxio.thrift.SetAttributeTOptions;
 import alluxio.thrift.ThriftIOException;
+import alluxio.wire.BatchResult;
 import alluxio.wire.ThriftUtils;
 
 import com.google.common.base.Preconditions;
@@ -68,6 +74,17 @@ public final class FileSystemMasterClientServiceHandler implements
     return Constants.FILE_SYSTEM_MASTER_CLIENT_SERVICE_VERSION;
   }
 
+  @Override
+  public void cancelLoadJob(final long id) throws AlluxioTException {
+    RpcUtils.call(new RpcCallable<Void>() {
+      @Override
+      public Void call() throws AlluxioException {
+        mFileSystemMaster.cancelLoadJob(id);
+        return null;
+      }
+    });
+  }
+
   @Override
   public void completeFile(final String path, final CompleteFileTOptions options)
       throws AlluxioTException {
@@ -80,6 +97,21 @@ public final class FileSystemMasterClientServiceHandler implements
     });
   }
 
+  @Override
+  public List<FileSystemBatchTResult> completeFileBatch(final List<String> paths,
+      final List<CompleteFileTOptions> options) throws AlluxioTException {
+    return RpcUtils.call(new RpcCallable<List<FileSystemBatchTResult>>() {
+      @Override
+      public List<FileSystemBatchTResult> call() throws AlluxioException {
+        List<CompleteFileOptions> batchOptions = new ArrayList<>(options.size());
+        for (CompleteFileTOptions pathOptions : options) {
+          batchOptions.add(new CompleteFileOptions(pathOptions));
+        }
+        return toThrift(mFileSystemMaster.completeFileBatch(toUris(paths), batchOptions));
+      }
+    });
+  }
+
   @Override
   public void createDirectory(final String path, final CreateDirectoryTOptions options)
       throws AlluxioTException, ThriftIOException {
@@ -105,6 +137,21 @@ public final class FileSystemMasterClientServiceHandler implements
     });
   }
 
+  @Override
+  public List<FileSystemBatchTResult> createFileBatch(final List<String> paths,
+      final List<CreateFileTOptions> options) throws AlluxioTException, ThriftIOException {
+    return RpcUtils.call(new RpcCallableThrowsIOException<List<FileSystemBatchTResult>>() {
+      @Override
+      public List<FileSystemBatchTResult> call() throws AlluxioException, IOException {
+        List<CreateFileOptions> batchOptions = new ArrayList<>(options.size());
+        for (CreateFileTOptions pathOptions : options) {
+          batchOptions.add(new CreateFileOptions(pathOptions));
+        }
+        return toThrift(mFileSystemMaster.createFileBatch(toUris(paths), batchOptions));
+      }
+    });
+  }
+
   @Override
   public void free(final String path, final boolean recursive) throws AlluxioTException {
     RpcUtils.call(new RpcCallable<Void>() {
@@ -116,6 +163,16 @@ public final class FileSystemMasterClientServiceHandler implements
     });
   }
 
+  @Override
+  public ContentSummary getContentSummary(final String path) throws AlluxioTException {
+    return RpcUtils.call(new RpcCallable<ContentSummary>() {
+      @Override
+      public ContentSummary call() throws AlluxioException {
+        return ThriftUtils.toThrift(mFileSystemMaster.getContentSummary(new AlluxioURI(path)));
+      }
+    });
+  }
+
   /**
    * {@inheritDoc}
    *
@@ -138,6 +195,26 @@ public final class FileSystemMasterClientServiceHandler implements
     });
   }
 
+  @Override
+  public long getJournalSequenceNumber() throws AlluxioTException {
+    return RpcUtils.call(new RpcCallable<Long>() {
+      @Override
+      public Long call() throws AlluxioException {
+        return mFileSystemMaster.getJournalSequenceNumber();
+      }
+    });
+  }
+
+  @Override
+  public LoadJobInfo getLoadJobInfo(final long id) throws AlluxioTException {
+    return RpcUtils.call(new RpcCallable<LoadJobInfo>() {
+      @Override
+      public LoadJobInfo call() throws AlluxioException {
+        return ThriftUtils.toThrift(mFileSystemMaster.getLoadJobInfo(id));
+      }
+    });
+  }
+
   @Override
   public long getNewBlockIdForFile(final String path) throws AlluxioTException {
     return RpcUtils.call(new RpcCallable<Long>() {
@@ -158,6 +235,17 @@ public final class FileSystemMasterClientServiceHandler implements
     });
   }
 
+  @Override
+  public List<FileSystemBatchTResult> getStatusBatch(final List<String> paths)
+      throws AlluxioTException {
+    return RpcUtils.call(new RpcCallable<List<FileSystemBatchTResult>>() {
+      @Override
+      public List<FileSystemBatchTResult> call() throws AlluxioException {
+        return toThrift(mFileSystemMaster.getFileInfoBatch(toUris(paths)));
+      }
+    });
+  }
+
   /**
    * {@inheritDoc}
    *
@@ -219,7 +307,8 @@ public final class FileSystemMasterClientServiceHandler implements
       @Override
       public Long call() throws AlluxioException, IOException {
         return mFileSystemMaster.loadMetadata(new AlluxioURI(alluxioPath),
-            LoadMetadataOptions.defaults().setCreateAncestors(true).setLoadDirectChildren(true));
+            LoadMetadataOptions.defaults().setCreateAncestors(true).setLoadDirectChildren(true)
+                .setRecursive(recursive));
       }
     });
   }
@@ -249,6 +338,17 @@ public final class FileSystemMasterClientServiceHandler implements
     });
   }
 
+  @Override
+  public List<FileSystemBatchTResult> removeBatch(final List<String> paths,
+      final boolean recursive) throws AlluxioTException {
+    return RpcUtils.call(new RpcCallable<List<FileSystemBatchTResult>>() {
+      @Override
+      public List<FileSystemBatchTResult> call() throws AlluxioException {
+        return toThrift(mFileSystemMaster.deleteBatch(toUris(paths), recursive));
+      }
+    });
+  }
+
   @Override
   public void rename(final String srcPath, final String dstPath)
       throws AlluxioTException, ThriftIOException {
@@ -285,6 +385,32 @@ public final class FileSystemMasterClientServiceHandler implements
     });
   }
 
+  @Override
+  public List<FileSystemBatchTResult> setAttributeBatch(final List<String> paths,
+      final List<SetAttributeTOptions> options) throws AlluxioTException {
+    return RpcUtils.call(new RpcCallable<List<FileSystemBatchTResult>>() {
+      @Override
+      public List<FileSystemBatchTResult> call() throws AlluxioException {
+        List<SetAttributeOptions> batchOptions = new ArrayList<>(options.size());
+        for (SetAttributeTOptions pathOptions : options) {
+          batchOptions.add(new SetAttributeOptions(pathOptions));
+        }
+        return toThrift(mFileSystemMaster.setAttributeBatch(toUris(paths), batchOptions));
+      }
+    });
+  }
+
+  @Override
+  public long submitLoadJob(final String path, final LoadJobTOptions options)
+      throws AlluxioTException {
+    return RpcUtils.call(new RpcCallable<Long>() {
+      @Override
+      public Long call() throws AlluxioException {
+        return mFileSystemMaster.submitLoadJob(new AlluxioURI(path), new LoadJobOptions(options));
+      }
+    });
+  }
+
   @Override
   public void unmount(final String alluxioPath) throws AlluxioTException, ThriftIOException {
     RpcUtils.call(new RpcCallableThrowsIOException<Void>() {
@@ -295,4 +421,28 @@ public final class FileSystemMasterClientServiceHandler implements
       }
     });
   }
+
+  /**
+   * @param paths the paths of a batch
+   * @return the {@link AlluxioURI}s of the paths
+   */
+  private static List<AlluxioURI> toUris(List<String> paths) {
+    List<AlluxioURI> uris = new ArrayList<>(paths.size());
+    for (String path : paths) {
+      uris.add(new AlluxioURI(path));
+    }
+    return uris;
+  }
+
+  /**
+   * @param results the results of a batch
+   * @return the thrift representation of the results
+   */
+  private static List<FileSystemBatchTResult> toThrift(List<? extends BatchResult<?>> results) {
+    List<FileSystemBatchTResult> tResults = new ArrayList<>(results.size());
+    for (BatchResult<?> result : results) {
+      tResults.add(ThriftUtils.toThrift(result));
+    }
+    return tResults;
+  }
 }
@@ -0,0 +1,490 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.master.file;
+
+import alluxio.AlluxioURI;
+import alluxio.Constants;
+import alluxio.clock.Clock;
+import alluxio.client.block.BlockLoadPlanner;
+import alluxio.client.block.BlockWorkerInfo;
+import alluxio.exception.AlluxioException;
+import alluxio.exception.ExceptionMessage;
+import alluxio.exception.LoadJobDoesNotExistException;
+import alluxio.exception.NoWorkerException;
+import alluxio.exception.ServerOverloadedException;
+import alluxio.master.file.options.LoadJobOptions;
+import alluxio.metrics.MetricsSystem;
+import alluxio.util.IdUtils;
+import alluxio.util.ThreadFactoryUtils;
+import alluxio.wire.FileBlockInfo;
+import alluxio.wire.LoadJobInfo;
+import alluxio.wire.LoadJobStatus;
+import alluxio.wire.WorkerNetAddress;
+
+import com.codahale.metrics.Counter;
+import com.google.common.base.Joiner;
+import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.RateLimiter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Runs the jobs loading the blocks of files and directories into Alluxio. The blocks of a job are
+ * assigned to the workers by a {@link BlockLoadPlanner}, and each worker reads the blocks assigned
+ * to it directly from the under file system, so that the data does not go through the master.
+ * <p>
+ * Each job loads at most its concurrency of blocks at the same time, and at most its throughput
+ * of bytes per second. The number of jobs running at the same time is bounded, and the jobs are
+ * submitted and polled by the clients until they finish. A finished job is kept for the retention
+ * time, so that the clients can read its result. The jobs are not journaled: they are lost when
+ * the master stops, and the clients polling them then see that they do not exist.
+ */
+@ThreadSafe
+final class LoadJobManager implements Closeable {
+  private static final Logger LOG = LoggerFactory.getLogger(Constants.LOGGER_TYPE);
+  /** The maximum number of block errors reported by the information of a job. */
+  private static final int MAX_ERROR_MESSAGES = 10;
+
+  private final int mMaxJobs;
+  private final int mMaxConcurrency;
+  private final long mRetentionMs;
+  private final Clock mClock;
+  private final BlockSource mBlockSource;
+  private final BlockLoader mBlockLoader;
+  private final Map<Long, LoadJob> mJobs = new ConcurrentHashMap<>();
+  @GuardedBy("this")
+  private ExecutorService mExecutor;
+
+  /**
+   * Creates a new instance of {@link LoadJobManager}.
+   *
+   * @param maxJobs the maximum number of jobs running at the same time
+   * @param maxConcurrency the maximum number of blocks a job loads at the same time
+   * @param retentionMs the time a finished job is kept for the clients to read its result
+   * @param clock the clock of the master
+   * @param blockSource lists the blocks to load and the workers to load them
+   * @param blockLoader has a worker load a block
+   */
+  LoadJobManager(int maxJobs, int maxConcurrency, long retentionMs, Clock clock,
+      BlockSource blockSource, BlockLoader blockLoader) {
+    Preconditions.checkArgument(maxJobs > 0, "The maximum number of jobs should be positive");
+    Preconditions.checkArgument(maxConcurrency > 0, "The maximum concurrency should be positive");
+    mMaxJobs = maxJobs;
+    mMaxConcurrency = maxConcurrency;
+    mRetentionMs = retentionMs;
+    mClock = Preconditions.checkNotNull(clock);
+    mBlockSource = Preconditions.checkNotNull(blockSource);
+    mBlockLoader = Preconditions.checkNotNull(blockLoader);
+  }
+
+  /**
+   * Submits a job loading the blocks of a file or directory. The blocks are listed and loaded in
+   * the background.
+   *
+   * @param path the path of the file or directory
+   * @param options the method options
+   * @return the id of the job
+   * @throws ServerOverloadedException if the maximum number of jobs are already running
+   * @throws NoWorkerException if there is no worker to load the blocks
+   */
+  synchronized long submit(AlluxioURI path, LoadJobOptions options)
+      throws ServerOverloadedException, NoWorkerException {
+    Preconditions.checkArgument(options.getConcurrency() > 0,
+        "The concurrency of a load job should be positive");
+    Preconditions.checkArgument(options.getThroughput() >= 0,
+        "The throughput of a load job should not be negative");
+    removeExpiredJobs();
+    if (getNumRunning() >= mMaxJobs) {
+      throw new ServerOverloadedException(ExceptionMessage.LOAD_JOBS_LIMIT_REACHED, mMaxJobs,
+          "the load of " + path);
+    }
+    List<BlockWorkerInfo> workers = mBlockSource.getWorkers();
+    if (workers.isEmpty()) {
+      throw new NoWorkerException(ExceptionMessage.NO_WORKER_AVAILABLE);
+    }
+    long id = IdUtils.getRandomNonNegativeLong();
+    while (mJobs.containsKey(id)) {
+      id = IdUtils.getRandomNonNegativeLong();
+    }
+    final LoadJob job = new LoadJob(id, path, Math.min(options.getConcurrency(), mMaxConcurrency),
+        options.getThroughput(), workers, mClock.millis());
+    mJobs.put(id, job);
+    if (mExecutor == null) {
+      mExecutor = Executors.newCachedThreadPool(ThreadFactoryUtils.build("load-job-%d", true));
+    }
+    job.mFuture = mExecutor.submit(new Runnable() {
+      @Override
+      public void run() {
+        job.run();
+      }
+    });
+    Metrics.LOAD_JOBS_SUBMITTED.inc();
+    return id;
+  }
+
+  /**
+   * @param id the id of a job
+   * @return the progress of the job
+   * @throws LoadJobDoesNotExistException if the job does not exist
+   */
+  LoadJobInfo getInfo(long id) throws LoadJobDoesNotExistException {
+    return getJob(id).toInfo();
+  }
+
+  /**
+   * Cancels a job. The blocks being loaded are still loaded by the workers, but no other block is.
+   *
+   * @param id the id of the job
+   * @throws LoadJobDoesNotExistException if the job does not exist
+   */
+  void cancel(long id) throws LoadJobDoesNotExistException {
+    getJob(id).cancel();
+  }
+
+  /**
+   * @return the number of jobs running
+   */
+  int getNumRunning() {
+    int running = 0;
+    for (LoadJob job : mJobs.values()) {
+      if (!job.getStatus().isFinished()) {
+        running++;
+      }
+    }
+    return running;
+  }
+
+  /**
+   * Cancels the running jobs, and forgets all the jobs.
+   */
+  @Override
+  public synchronized void close() {
+    for (LoadJob job : mJobs.values()) {
+      job.cancel();
+    }
+    mJobs.clear();
+    if (mExecutor != null) {
+      mExecutor.shutdownNow();
+      mExecutor = null;
+    }
+  }
+
+  /**
+   * @param id the id of a job
+   * @return the job
+   * @throws LoadJobDoesNotExistException if the job does not exist
+   */
+  private LoadJob getJob(long id) throws LoadJobDoesNotExistException {
+    removeExpiredJobs();
+    LoadJob job = mJobs.get(id);
+    if (job == null) {
+      throw new LoadJobDoesNotExistException(ExceptionMessage.LOAD_JOB_DOES_NOT_EXIST, id);
+    }
+    return job;
+  }
+
+  /**
+   * Forgets the jobs which finished more than the retention time ago.
+   */
+  private void removeExpiredJobs() {
+    long now = mClock.millis();
+    Iterator<LoadJob> it = mJobs.values().iterator();
+    while (it.hasNext()) {
+      LoadJob job = it.next();
+      long endTimeMs = job.getEndTimeMs();
+      if (endTimeMs != 0 && now - endTimeMs > mRetentionMs) {
+        it.remove();
+      }
+    }
+  }
+
+  /**
+   * A block to load, and the under file system path of the file containing it.
+   */
+  static final class BlockLoad {
+    private final FileBlockInfo mBlock;
+    private final String mUfsPath;
+
+    /**
+     * @param block the block to load
+     * @param ufsPath the under file system path of the file containing the block
+     */
+    BlockLoad(FileBlockInfo block, String ufsPath) {
+      mBlock = Preconditions.checkNotNull(block);
+      mUfsPath = Preconditions.checkNotNull(ufsPath);
+    }
+
+    /**
+     * @return the block to load
+     */
+    FileBlockInfo getBlock() {
+      return mBlock;
+    }
+
+    /**
+     * @return the under file system path of the file containing the block
+     */
+    String getUfsPath() {
+      return mUfsPath;
+    }
+  }
+
+  /**
+   * Lists the blocks to load and the workers to load them for a {@link LoadJobManager}.
+   */
+  interface BlockSource {
+    /**
+     * Lists the blocks of a file or directory which are not in the top tier of a worker.
+     *
+     * @param path the path of the file or directory
+     * @return the blocks to load
+     * @throws AlluxioException if the blocks cannot be listed, or a block cannot be loaded
+     */
+    List<BlockLoad> listBlocksToLoad(AlluxioURI path) throws AlluxioException;
+
+    /**
+     * @return the workers which can load blocks
+     */
+    List<BlockWorkerInfo> getWorkers();
+  }
+
+  /**
+   * Has the workers load blocks for a {@link LoadJobManager}.
+   */
+  interface BlockLoader {
+    /**
+     * Has a worker load a block into its top tier, and waits until the block is loaded.
+     *
+     * @param worker the worker
+     * @param load the block to load
+     * @throws IOException if the block could not be loaded
+     */
+    void load(WorkerNetAddress worker, BlockLoad load) throws IOException;
+  }
+
+  /**
+   * A job loading the blocks of a file or directory.
+   */
+  @ThreadSafe
+  private final class LoadJob {
+    private final long mId;
+    private final AlluxioURI mPath;
+    private final int mConcurrency;
+    private final long mThroughput;
+    private final List<BlockWorkerInfo> mWorkers;
+    private final long mStartTimeMs;
+    private final AtomicLong mLoadedBlocks = new AtomicLong();
+    private final AtomicLong mFailedBlocks = new AtomicLong();
+    private final AtomicLong mLoadedBytes = new AtomicLong();
+    @GuardedBy("this")
+    private LoadJobStatus mStatus = LoadJobStatus.Running;
+    @GuardedBy("this")
+    private long mTotalBlocks;
+    @GuardedBy("this")
+    private long mTotalBytes;
+    @GuardedBy("this")
+    private long mEndTimeMs;
+    @GuardedBy("this")
+    private final List<String> mErrorMessages = new ArrayList<>();
+    private volatile Future<?> mFuture;
+
+    /**
+     * @param id the id of the job
+     * @param path the path of the file or directory to load
+     * @param concurrency the maximum number of blocks loaded at the same time
+     * @param throughput the maximum number of bytes loaded per second, 0 for unlimited
+     * @param workers the workers which can load the blocks
+     * @param startTimeMs the time the job is submitted
+     */
+    LoadJob(long id, AlluxioURI path, int concurrency, long throughput,
+        List<BlockWorkerInfo> workers, long startTimeMs) {
+      mId = id;
+      mPath = path;
+      mConcurrency = concurrency;
+      mThroughput = throughput;
+      mWorkers = workers;
+      mStartTimeMs = startTimeMs;
+    }
+
+    /**
+     * Lists the blocks to load, and loads them.
+     */
+    void run() {
+      try {
+        load(mBlockSource.listBlocksToLoad(mPath));
+      } catch (AlluxioException | RuntimeException e) {
+        LOG.warn("Failed to load {}: {}", mPath, e.getMessage());
+        addErrorMessage(e.getMessage());
+      } catch (InterruptedException e) {
+        // The job is canceled.
+        Thread.currentThread().interrupt();
+      }
+      finish();
+    }
+
+    /**
+     * Has the workers load the blocks, and waits until all of them are loaded or failed.
+     *
+     * @param loads the blocks to load
+     * @throws InterruptedException if the job is canceled
+     */
+    private void load(List<BlockLoad> loads) throws InterruptedException {
+      BlockLoadPlanner planner = new BlockLoadPlanner(mWorkers);
+      List<WorkerNetAddress> assignments = new ArrayList<>(loads.size());
+      long totalBytes = 0;
+      for (BlockLoad load : loads) {
+        assignments.add(planner.assign(load.getBlock()));
+        totalBytes += load.getBlock().getBlockInfo().getLength();
+      }
+      synchronized (this) {
+        mTotalBlocks = loads.size();
+        mTotalBytes = totalBytes;
+      }
+      if (loads.isEmpty()) {
+        return;
+      }
+      final RateLimiter rateLimiter = mThroughput > 0 ? RateLimiter.create(mThroughput) : null;
+      ExecutorService executor = Executors.newFixedThreadPool(
+          Math.min(mConcurrency, loads.size()),
+          ThreadFactoryUtils.build("load-job-" + mId + "-%d", true));
+      CompletionService<Long> completionService = new ExecutorCompletionService<>(executor);
+      try {
+        for (int i = 0; i < loads.size(); i++) {
+          final BlockLoad load = loads.get(i);
+          final WorkerNetAddress worker = assignments.get(i);
+          completionService.submit(new Callable<Long>() {
+            @Override
+            public Long call() throws IOException {
+              long length = load.getBlock().getBlockInfo().getLength();
+              if (rateLimiter != null && length > 0) {
+                rateLimiter.acquire((int) Math.min(length, Integer.MAX_VALUE));
+              }
+              mBlockLoader.load(worker, load);
+              return length;
+            }
+          });
+        }
+        for (int i = 0; i < loads.size(); i++) {
+          Future<Long> future = completionService.take();
+          try {
+            mLoadedBytes.addAndGet(future.get());
+            mLoadedBlocks.incrementAndGet();
+            Metrics.LOAD_JOB_BLOCKS_LOADED.inc();
+          } catch (ExecutionException e) {
+            mFailedBlocks.incrementAndGet();
+            Metrics.LOAD_JOB_BLOCKS_FAILED.inc();
+            addErrorMessage(e.getCause().getMessage());
+          }
+        }
+      } finally {
+        executor.shutdownNow();
+      }
+    }
+
+    /**
+     * Cancels the job, if it is running.
+     */
+    void cancel() {
+      synchronized (this) {
+        if (mStatus.isFinished()) {
+          return;
+        }
+        mStatus = LoadJobStatus.Canceled;
+        mEndTimeMs = mClock.millis();
+      }
+      Future<?> future = mFuture;
+      if (future != null) {
+        future.cancel(true);
+      }
+    }
+
+    /**
+     * Records the end of the job, unless it was canceled.
+     */
+    private synchronized void finish() {
+      if (mStatus.isFinished()) {
+        return;
+      }
+      mStatus = mErrorMessages.isEmpty() ? LoadJobStatus.Completed : LoadJobStatus.Failed;
+      mEndTimeMs = mClock.millis();
+    }
+
+    /**
+     * @param message the error message of a block which could not be loaded, or of the job
+     */
+    private synchronized void addErrorMessage(String message) {
+      if (mErrorMessages.size() < MAX_ERROR_MESSAGES) {
+        mErrorMessages.add(String.valueOf(message));
+      } else if (mErrorMessages.size() == MAX_ERROR_MESSAGES) {
+        mErrorMessages.add("...");
+      }
+    }
+
+    /**
+     * @return the status of the job
+     */
+    synchronized LoadJobStatus getStatus() {
+      return mStatus;
+    }
+
+    /**
+     * @return the time the job finished, or 0 if it is running
+     */
+    synchronized long getEndTimeMs() {
+      return mEndTimeMs;
+    }
+
+    /**
+     * @return the progress of the job
+     */
+    synchronized LoadJobInfo toInfo() {
+      return new LoadJobInfo().setId(mId).setPath(mPath.getPath()).setStatus(mStatus)
+          .setTotalBlocks(mTotalBlocks).setLoadedBlocks(mLoadedBlocks.get())
+          .setFailedBlocks(mFailedBlocks.get()).setTotalBytes(mTotalBytes)
+          .setLoadedBytes(mLoadedBytes.get()).setStartTimeMs(mStartTimeMs)
+          .setEndTimeMs(mEndTimeMs).setErrorMessage(Joiner.on('\n').join(mErrorMessages));
+    }
+  }
+
+  /**
+   * Class that contains metrics about LoadJobManager.
+   */
+  private static final class Metrics {
+    private static final Counter LOAD_JOBS_SUBMITTED =
+        MetricsSystem.masterCounter("LoadJobsSubmitted");
+    private static final Counter LOAD_JOB_BLOCKS_LOADED =
+        MetricsSystem.masterCounter("LoadJobBlocksLoaded");
+    private static final Counter LOAD_JOB_BLOCKS_FAILED =
+        MetricsSystem.masterCounter("LoadJobBlocksFailed");
+
+    private Metrics() {} // prevent instantiation
+  }
+}
@@ -0,0 +1,225 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.master.file;
+
+import alluxio.AlluxioURI;
+import alluxio.Constants;
+import alluxio.exception.AlluxioException;
+import alluxio.metrics.MetricsSystem;
+import alluxio.security.User;
+import alluxio.security.authentication.AuthenticatedClientUser;
+import alluxio.util.SecurityUtils;
+import alluxio.util.ThreadFactoryUtils;
+
+import com.codahale.metrics.Timer;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Loads the metadata of the descendants of a directory from the under file systems, listing many
+ * directories concurrently on a bounded pool of threads. The pool is shared by all the recursive
+ * loads of the master.
+ * <p>
+ * The descendants are loaded one level of the tree at a time. The directories of a level are
+ * loaded concurrently, in batches, and each of them is locked only while its direct children are
+ * loaded, so that the rest of the tree stays available to the other operations. The direct
+ * children of a directory are themselves loaded in batches, with one journal flush per batch.
+ * <p>
+ * The pool is created when it is first needed, and shut down by {@link #close()} when the master
+ * stops, so that a master which is started again creates a new pool.
+ */
+@ThreadSafe
+final class RecursiveMetadataLoader implements Closeable {
+  private static final Logger LOG = LoggerFactory.getLogger(Constants.LOGGER_TYPE);
+  private static final long KEEP_ALIVE_MS = 60 * Constants.SECOND_MS;
+
+  private final int mThreads;
+  private final int mBatchSize;
+  private final DirectoryLoader mDirectoryLoader;
+  @GuardedBy("this")
+  private ThreadPoolExecutor mExecutor;
+
+  /**
+   * Creates a new instance of {@link RecursiveMetadataLoader}.
+   *
+   * @param threads the maximum number of directories to load concurrently
+   * @param batchSize the maximum number of directories of a level submitted to the pool at once
+   * @param directoryLoader loads the direct children of a directory
+   */
+  RecursiveMetadataLoader(int threads, int batchSize, DirectoryLoader directoryLoader) {
+    Preconditions.checkArgument(threads > 0, "The number of threads should be positive");
+    Preconditions.checkArgument(batchSize > 0, "The batch size should be positive");
+    mThreads = threads;
+    mBatchSize = batchSize;
+    mDirectoryLoader = Preconditions.checkNotNull(directoryLoader);
+  }
+
+  /**
+   * Loads the metadata of the descendants of directories, on behalf of the client user of the
+   * calling thread. A directory which fails to load is skipped with its descendants, and the
+   * others are still loaded.
+   *
+   * @param directories the directories whose descendants to load
+   * @throws IOException if the metadata of any of the directories could not be loaded
+   */
+  void loadDescendants(List<AlluxioURI> directories) throws IOException {
+    final String user = getClientUser();
+    List<AlluxioURI> level = directories;
+    int failures = 0;
+    while (!level.isEmpty()) {
+      List<AlluxioURI> nextLevel = new ArrayList<>();
+      for (List<AlluxioURI> batch : Lists.partition(level, mBatchSize)) {
+        List<Callable<List<AlluxioURI>>> loads = new ArrayList<>(batch.size());
+        for (final AlluxioURI directory : batch) {
+          loads.add(new Callable<List<AlluxioURI>>() {
+            @Override
+            public List<AlluxioURI> call() throws AlluxioException, IOException {
+              return loadDirectory(directory, user);
+            }
+          });
+        }
+        List<Future<List<AlluxioURI>>> futures;
+        try {
+          futures = getExecutor().invokeAll(loads);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw new IOException(e);
+        }
+        for (int i = 0; i < futures.size(); i++) {
+          try {
+            nextLevel.addAll(futures.get(i).get());
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+          } catch (ExecutionException e) {
+            LOG.warn("Failed to load the metadata of {}: {}", batch.get(i),
+                e.getCause().getMessage());
+            failures++;
+          }
+        }
+      }
+      level = nextLevel;
+    }
+    if (failures > 0) {
+      throw new IOException(String.format("Failed to load the metadata of %d directories",
+          failures));
+    }
+  }
+
+  /**
+   * @return the number of directories waiting for a thread of the pool to load them
+   */
+  synchronized int getNumPending() {
+    return mExecutor == null ? 0 : mExecutor.getQueue().size();
+  }
+
+  /**
+   * Shuts the pool down, interrupting the loads in progress.
+   */
+  @Override
+  public synchronized void close() {
+    if (mExecutor != null) {
+      mExecutor.shutdownNow();
+      mExecutor = null;
+    }
+  }
+
+  /**
+   * Loads the direct children of a directory in a thread of the pool.
+   *
+   * @param directory the directory
+   * @param user the client user to load the directory for, or null if there is none
+   * @return the child directories
+   * @throws AlluxioException if an Alluxio error occurs
+   * @throws IOException if an error occurs accessing the under file system
+   */
+  private List<AlluxioURI> loadDirectory(AlluxioURI directory, String user)
+      throws AlluxioException, IOException {
+    if (user != null) {
+      AuthenticatedClientUser.set(user);
+    }
+    Timer.Context timer = Metrics.DIRECTORIES_LOADED.time();
+    try {
+      return mDirectoryLoader.loadDirectChildren(directory);
+    } finally {
+      timer.stop();
+      AuthenticatedClientUser.remove();
+    }
+  }
+
+  /**
+   * @return the name of the client user of the calling thread, or null if there is none
+   * @throws IOException if the client user cannot be accessed
+   */
+  private static String getClientUser() throws IOException {
+    if (!SecurityUtils.isAuthenticationEnabled()) {
+      return null;
+    }
+    User user = AuthenticatedClientUser.get();
+    return user == null ? null : user.getName();
+  }
+
+  /**
+   * @return the pool loading the directories concurrently, created if needed
+   */
+  private synchronized ThreadPoolExecutor getExecutor() {
+    if (mExecutor == null) {
+      mExecutor = new ThreadPoolExecutor(mThreads, mThreads, KEEP_ALIVE_MS,
+          TimeUnit.MILLISECONDS, new LinkedBlockingQueue<Runnable>(),
+          ThreadFactoryUtils.build("recursive-metadata-loader-%d", true));
+      mExecutor.allowCoreThreadTimeOut(true);
+    }
+    return mExecutor;
+  }
+
+  /**
+   * Loads the direct children of the directories for a {@link RecursiveMetadataLoader}.
+   */
+  interface DirectoryLoader {
+    /**
+     * Loads the direct children of a directory from the under file system, unless they were
+     * already loaded, locking only the directory and its ancestors.
+     *
+     * @param directory the directory
+     * @return the child directories, whose children to load next
+     * @throws AlluxioException if an Alluxio error occurs
+     * @throws IOException if an error occurs accessing the under file system
+     */
+    List<AlluxioURI> loadDirectChildren(AlluxioURI directory) throws AlluxioException, IOException;
+  }
+
+  /**
+   * Class that contains metrics about RecursiveMetadataLoader.
+   */
+  private static final class Metrics {
+    private static final Timer DIRECTORIES_LOADED =
+        MetricsSystem.masterTimer("MetadataDirectoriesLoaded");
+
+    private Metrics() {} // prevent instantiation
+  }
+}
@@ -0,0 +1,476 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.master.file;
+
+import alluxio.AlluxioURI;
+import alluxio.Constants;
+import alluxio.exception.FileDoesNotExistException;
+import alluxio.master.block.BlockMaster;
+import alluxio.master.file.meta.Inode;
+import alluxio.master.file.meta.InodeDirectory;
+import alluxio.master.file.meta.InodeFile;
+import alluxio.master.file.meta.InodeLockManager;
+import alluxio.master.file.meta.InodeTree;
+import alluxio.master.file.meta.LockedInodePath;
+import alluxio.master.file.meta.MountTable;
+import alluxio.master.file.meta.TtlTimingWheel;
+import alluxio.proto.journal.File.UfsDeleteEntry;
+import alluxio.underfs.UnderFileSystem;
+import alluxio.util.ThreadFactoryUtils;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Completes recursive deletes and frees of large subtrees in the background, so that the
+ * operations neither lock the whole subtree nor wait for the under file system.
+ * <p>
+ * A large directory is deleted by detaching it from its parent, and journaling the delete together
+ * with a pending delete of its under file system objects. The reclaimer then walks the detached
+ * subtree bottom up, in batches of inodes. For each batch, it removes the inodes from the
+ * {@link InodeTree} and the blocks of the files from the workers, and then deletes the persisted
+ * objects of the batch, the files concurrently and the directories after them. Once the objects of
+ * the subtree are deleted, the completion of the pending delete is journaled. A pending delete
+ * which a master did not complete before losing leadership is resumed by the next leader, see
+ * {@link #resumeUfsDelete(UfsDeleteEntry, UnderFileSystem)}.
+ * <p>
+ * A large directory is freed one directory at a time, so that each directory is only locked
+ * while the blocks of its files are freed.
+ * <p>
+ * The subtrees are reclaimed one at a time, in the order of the operations.
+ */
+@ThreadSafe
+final class SubtreeReclaimer {
+  private static final Logger LOG = LoggerFactory.getLogger(Constants.LOGGER_TYPE);
+  private static final long KEEP_ALIVE_MS = 60 * Constants.SECOND_MS;
+
+  private final InodeTree mInodeTree;
+  private final BlockMaster mBlockMaster;
+  private final TtlTimingWheel mTtlWheel;
+  private final int mBatchSize;
+  private final UfsDeleteJournal mUfsDeleteJournal;
+
+  /** Reclaims the subtrees one at a time. */
+  private final ThreadPoolExecutor mExecutor;
+  /** Deletes the under file system objects of a batch concurrently. */
+  private final ThreadPoolExecutor mUfsExecutor;
+
+  /** The reclamations which are not complete, in the order they were started. */
+  private final ConcurrentLinkedQueue<SubtreeReclamation> mReclamations =
+      new ConcurrentLinkedQueue<>();
+
+  /**
+   * Creates a new instance of {@link SubtreeReclaimer}.
+   *
+   * @param inodeTree the inode tree of the master
+   * @param blockMaster the block master
+   * @param ttlWheel the timing wheel of the files with a ttl
+   * @param batchSize the number of inodes deleted at once
+   * @param ufsThreads the maximum number of under file system objects deleted concurrently
+   * @param ufsDeleteJournal journals the completion of the pending under file system deletes
+   */
+  SubtreeReclaimer(InodeTree inodeTree, BlockMaster blockMaster, TtlTimingWheel ttlWheel,
+      int batchSize, int ufsThreads, UfsDeleteJournal ufsDeleteJournal) {
+    Preconditions.checkArgument(batchSize > 0, "The batch size should be positive");
+    Preconditions.checkArgument(ufsThreads > 0, "The number of threads should be positive");
+    mInodeTree = inodeTree;
+    mBlockMaster = blockMaster;
+    mTtlWheel = ttlWheel;
+    mBatchSize = batchSize;
+    mUfsDeleteJournal = Preconditions.checkNotNull(ufsDeleteJournal);
+    mExecutor = new ThreadPoolExecutor(1, 1, KEEP_ALIVE_MS, TimeUnit.MILLISECONDS,
+        new LinkedBlockingQueue<Runnable>(),
+        ThreadFactoryUtils.build("subtree-reclaimer-%d", true));
+    mExecutor.allowCoreThreadTimeOut(true);
+    mUfsExecutor = new ThreadPoolExecutor(ufsThreads, ufsThreads, KEEP_ALIVE_MS,
+        TimeUnit.MILLISECONDS, new LinkedBlockingQueue<Runnable>(),
+        ThreadFactoryUtils.build("subtree-reclaimer-ufs-%d", true));
+    mUfsExecutor.allowCoreThreadTimeOut(true);
+  }
+
+  /**
+   * Deletes a subtree which was detached from its parent.
+   *
+   * @param root the detached root of the subtree
+   * @param path the path of the root before it was detached
+   * @param ufsDelete the journaled pending delete of the under file system objects of the subtree,
+   *        or null if the root is not persisted
+   * @param resolution the resolution of the path of the root, or null if it is not persisted
+   * @return the progress of the delete
+   */
+  SubtreeReclamation delete(final InodeDirectory root, final AlluxioURI path,
+      @Nullable final UfsDeleteEntry ufsDelete, @Nullable final MountTable.Resolution resolution) {
+    final SubtreeReclamation reclamation =
+        new SubtreeReclamation(path, SubtreeReclamation.Type.DELETE, getNumInodes(root));
+    mReclamations.add(reclamation);
+    mExecutor.execute(new Runnable() {
+      @Override
+      public void run() {
+        try {
+          deleteSubtree(root, resolution, reclamation);
+          if (ufsDelete != null) {
+            completeUfsDelete(ufsDelete, resolution.getUfs());
+          }
+        } catch (RuntimeException e) {
+          LOG.error("Failed to delete {} in the background", path, e);
+        } finally {
+          mReclamations.remove(reclamation);
+        }
+      }
+    });
+    return reclamation;
+  }
+
+  /**
+   * Deletes the under file system objects of a subtree whose pending delete was journaled by a
+   * previous leader, which lost leadership before completing it. The inodes of the subtree were
+   * already removed when the delete of the subtree was replayed.
+   *
+   * @param ufsDelete the pending delete
+   * @param ufs the under file system of the objects
+   * @return the progress of the delete
+   */
+  SubtreeReclamation resumeUfsDelete(final UfsDeleteEntry ufsDelete, final UnderFileSystem ufs) {
+    final SubtreeReclamation reclamation = new SubtreeReclamation(
+        new AlluxioURI(ufsDelete.getPath()), SubtreeReclamation.Type.DELETE, 0);
+    mReclamations.add(reclamation);
+    mExecutor.execute(new Runnable() {
+      @Override
+      public void run() {
+        try {
+          deleteUfsObject(ufs, new AlluxioURI(ufsDelete.getUfsPath()), reclamation);
+          completeUfsDelete(ufsDelete, ufs);
+        } catch (RuntimeException e) {
+          LOG.error("Failed to delete {} in the background", ufsDelete.getPath(), e);
+        } finally {
+          mReclamations.remove(reclamation);
+        }
+      }
+    });
+    return reclamation;
+  }
+
+  /**
+   * Frees the blocks of the files of a subtree.
+   *
+   * @param root the root of the subtree
+   * @param path the path of the root
+   * @return the progress of the free
+   */
+  SubtreeReclamation free(InodeDirectory root, final AlluxioURI path) {
+    final long rootId = root.getId();
+    final SubtreeReclamation reclamation =
+        new SubtreeReclamation(path, SubtreeReclamation.Type.FREE, getNumInodes(root));
+    mReclamations.add(reclamation);
+    mExecutor.execute(new Runnable() {
+      @Override
+      public void run() {
+        try {
+          freeSubtree(rootId, reclamation);
+        } catch (RuntimeException e) {
+          LOG.error("Failed to free {} in the background", path, e);
+        } finally {
+          mReclamations.remove(reclamation);
+        }
+      }
+    });
+    return reclamation;
+  }
+
+  /**
+   * @return the reclamations which are not complete, in the order they were started
+   */
+  List<SubtreeReclamation> getReclamations() {
+    return ImmutableList.copyOf(mReclamations);
+  }
+
+  /**
+   * @return the number of inodes of the subtrees being deleted or freed
+   */
+  long getNumInodesTotal() {
+    long total = 0;
+    for (SubtreeReclamation reclamation : mReclamations) {
+      total += reclamation.getInodesTotal();
+    }
+    return total;
+  }
+
+  /**
+   * @return the number of inodes already deleted or freed from the subtrees being reclaimed
+   */
+  long getNumInodesReclaimed() {
+    long reclaimed = 0;
+    for (SubtreeReclamation reclamation : mReclamations) {
+      reclaimed += reclamation.getInodesReclaimed();
+    }
+    return reclaimed;
+  }
+
+  /**
+   * @return the number of inodes left to delete or free
+   */
+  long getNumInodesPending() {
+    long pending = 0;
+    for (SubtreeReclamation reclamation : mReclamations) {
+      pending += reclamation.getInodesPending();
+    }
+    return pending;
+  }
+
+  private static long getNumInodes(InodeDirectory root) {
+    return root.getSubtreeSummary().getFileCount() + root.getSubtreeSummary().getDirectoryCount();
+  }
+
+  /**
+   * Walks a detached subtree bottom up and deletes it in batches.
+   *
+   * @param root the detached root of the subtree
+   * @param resolution the resolution of the path of the root, or null if it is not persisted
+   * @param reclamation the progress of the delete
+   */
+  private void deleteSubtree(InodeDirectory root, @Nullable MountTable.Resolution resolution,
+      SubtreeReclamation reclamation) {
+    UnderFileSystem ufs = resolution == null ? null : resolution.getUfs();
+    Deque<DetachedInode> stack = new ArrayDeque<>();
+    stack.push(new DetachedInode(root, resolution == null ? null : resolution.getUri()));
+    List<DetachedInode> batch = new ArrayList<>(mBatchSize);
+    while (!stack.isEmpty()) {
+      DetachedInode top = stack.peek();
+      Inode<?> child = top.nextChild();
+      if (child != null) {
+        stack.push(new DetachedInode(child,
+            top.mUfsUri == null ? null : top.mUfsUri.join(child.getName())));
+        continue;
+      }
+      // All the descendants of the inode are in this batch or in an earlier one.
+      batch.add(stack.pop());
+      if (batch.size() >= mBatchSize || stack.isEmpty()) {
+        deleteBatch(batch, ufs, reclamation);
+        batch.clear();
+      }
+    }
+  }
+
+  /**
+   * Deletes a batch of detached inodes, which are ordered so that the descendants of an inode
+   * come before the inode.
+   *
+   * @param batch the inodes to delete
+   * @param ufs the under file system of the subtree, or null if the subtree is not persisted
+   * @param reclamation the progress of the delete
+   */
+  private void deleteBatch(List<DetachedInode> batch, @Nullable final UnderFileSystem ufs,
+      final SubtreeReclamation reclamation) {
+    InodeLockManager lockManager = mInodeTree.getLockManager();
+    List<Callable<Void>> fileDeletions = new ArrayList<>();
+    List<AlluxioURI> directoryDeletions = new ArrayList<>();
+    for (DetachedInode detached : batch) {
+      Inode<?> inode = detached.mInode;
+      boolean persisted;
+      // Operations which reached the inode before it was detached may still hold its lock.
+      lockManager.lockWrite(inode);
+      try {
+        if (inode.isFile()) {
+          mBlockMaster.removeBlocks(((InodeFile) inode).getBlockIds(), true /* delete */);
+          if (((InodeFile) inode).getTtl() != Constants.NO_TTL) {
+            mTtlWheel.remove(inode.getId());
+          }
+        }
+        persisted = inode.isPersisted();
+        mInodeTree.removeDetachedInode(inode);
+      } finally {
+        lockManager.unlockWrite(inode);
+      }
+      if (ufs == null || detached.mUfsUri == null || !persisted) {
+        continue;
+      }
+      final AlluxioURI ufsUri = detached.mUfsUri;
+      if (inode.isFile()) {
+        fileDeletions.add(new Callable<Void>() {
+          @Override
+          public Void call() {
+            deleteUfsObject(ufs, ufsUri, reclamation);
+            return null;
+          }
+        });
+      } else {
+        directoryDeletions.add(ufsUri);
+      }
+    }
+
+    try {
+      mUfsExecutor.invokeAll(fileDeletions);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return;
+    }
+    // The directories are deleted after the files, and after their subdirectories.
+    for (AlluxioURI ufsUri : directoryDeletions) {
+      deleteUfsObject(ufs, ufsUri, reclamation);
+    }
+    reclamation.addInodesReclaimed(batch.size());
+  }
+
+  /**
+   * Deletes an object from the under file system. A directory is deleted recursively, since it
+   * may contain objects which were never loaded into Alluxio.
+   *
+   * @param ufs the under file system
+   * @param ufsUri the path of the object in the under file system
+   * @param reclamation the progress of the delete
+   */
+  private void deleteUfsObject(UnderFileSystem ufs, AlluxioURI ufsUri,
+      SubtreeReclamation reclamation) {
+    String ufsPath = ufsUri.toString();
+    try {
+      if (!ufs.delete(ufsPath, true)) {
+        if (ufs.exists(ufsPath)) {
+          LOG.error("Failed to delete {} from the under file system", ufsPath);
+          reclamation.addUfsFailure();
+        } else {
+          LOG.warn("The file to delete does not exist in under file system: {}", ufsPath);
+        }
+      }
+    } catch (IOException e) {
+      LOG.error("Failed to delete {} from the under file system", ufsPath, e);
+      reclamation.addUfsFailure();
+    }
+  }
+
+  /**
+   * Journals the completion of a pending delete once the root of its objects is deleted from the
+   * under file system. Otherwise, the delete is left pending for the next leader.
+   *
+   * @param ufsDelete the pending delete
+   * @param ufs the under file system of the objects
+   */
+  private void completeUfsDelete(UfsDeleteEntry ufsDelete, UnderFileSystem ufs) {
+    try {
+      if (ufs.exists(ufsDelete.getUfsPath())) {
+        LOG.error("Failed to delete {} from the under file system, the delete is left pending",
+            ufsDelete.getUfsPath());
+        return;
+      }
+    } catch (IOException e) {
+      LOG.error("Failed to check the delete of {} from the under file system",
+          ufsDelete.getUfsPath(), e);
+      return;
+    }
+    mUfsDeleteJournal.journalCompleted(ufsDelete);
+  }
+
+  /**
+   * Frees the blocks of the files of a subtree, one directory at a time.
+   *
+   * @param rootId the id of the root of the subtree
+   * @param reclamation the progress of the free
+   */
+  private void freeSubtree(long rootId, SubtreeReclamation reclamation) {
+    InodeLockManager lockManager = mInodeTree.getLockManager();
+    Deque<Long> directoryIds = new ArrayDeque<>();
+    directoryIds.push(rootId);
+    while (!directoryIds.isEmpty()) {
+      long directoryId = directoryIds.pop();
+      int freed = 1;
+      try (LockedInodePath inodePath =
+          mInodeTree.lockFullInodePath(directoryId, InodeTree.LockMode.READ)) {
+        for (Inode<?> child : mInodeTree.getChildren((InodeDirectory) inodePath.getInode())) {
+          if (child.isDirectory()) {
+            directoryIds.push(child.getId());
+            continue;
+          }
+          List<Long> blockIds;
+          lockManager.lockRead(child);
+          try {
+            blockIds = ((InodeFile) child).getBlockIds();
+          } finally {
+            lockManager.unlockRead(child);
+          }
+          mBlockMaster.removeBlocks(blockIds, false /* delete */);
+          freed++;
+        }
+      } catch (FileDoesNotExistException e) {
+        // The directory was deleted after the free started.
+        LOG.debug("Directory {} to free does not exist anymore", directoryId);
+      }
+      reclamation.addInodesReclaimed(freed);
+    }
+  }
+
+  /**
+   * Journals the completion of the pending deletes of under file system objects.
+   */
+  interface UfsDeleteJournal {
+    /**
+     * Journals that the objects of a pending delete are deleted from the under file system.
+     *
+     * @param ufsDelete the pending delete
+     */
+    void journalCompleted(UfsDeleteEntry ufsDelete);
+  }
+
+  /**
+   * An inode of a detached subtree, which iterates over its children when it is a directory.
+   */
+  private final class DetachedInode {
+    private final Inode<?> mInode;
+    /** The path of the inode in the under file system, or null if the subtree is not persisted. */
+    private final AlluxioURI mUfsUri;
+    private Iterator<Inode<?>> mChildren;
+
+    /**
+     * @param inode the inode
+     * @param ufsUri the path of the inode in the under file system, or null
+     */
+    private DetachedInode(Inode<?> inode, @Nullable AlluxioURI ufsUri) {
+      mInode = inode;
+      mUfsUri = ufsUri;
+    }
+
+    /**
+     * @return the next child of the inode, or null if there are no more children
+     */
+    @Nullable
+    private Inode<?> nextChild() {
+      if (!mInode.isDirectory()) {
+        return null;
+      }
+      if (mChildren == null) {
+        InodeLockManager lockManager = mInodeTree.getLockManager();
+        lockManager.lockRead(mInode);
+        try {
+          mChildren = mInodeTree.getChildren((InodeDirectory) mInode).iterator();
+        } finally {
+          lockManager.unlockRead(mInode);
+        }
+      }
+      return mChildren.hasNext() ? mChildren.next() : null;
+    }
+  }
+}
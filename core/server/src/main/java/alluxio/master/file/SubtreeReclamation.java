@@ -0,0 +1,124 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.master.file;
+
+import alluxio.AlluxioURI;
+
+import com.google.common.base.Objects;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * The progress of a recursive delete or free of a large subtree, which the file system master
+ * completes in the background after the operation has returned.
+ */
+@ThreadSafe
+public final class SubtreeReclamation {
+  /** The operations which are completed in the background. */
+  public enum Type {
+    DELETE,
+    FREE,
+  }
+
+  private final AlluxioURI mPath;
+  private final Type mType;
+  private final long mInodesTotal;
+  private final long mStartTimeMs;
+  private final AtomicLong mInodesReclaimed = new AtomicLong();
+  private final AtomicLong mUfsFailures = new AtomicLong();
+
+  /**
+   * Creates a new instance of {@link SubtreeReclamation}.
+   *
+   * @param path the path of the root of the subtree
+   * @param type the operation on the subtree
+   * @param inodesTotal the number of inodes in the subtree when the operation started
+   */
+  SubtreeReclamation(AlluxioURI path, Type type, long inodesTotal) {
+    mPath = path;
+    mType = type;
+    mInodesTotal = inodesTotal;
+    mStartTimeMs = System.currentTimeMillis();
+  }
+
+  /**
+   * @return the path of the root of the subtree
+   */
+  public AlluxioURI getPath() {
+    return mPath;
+  }
+
+  /**
+   * @return the operation on the subtree
+   */
+  public Type getType() {
+    return mType;
+  }
+
+  /**
+   * @return the number of inodes in the subtree when the operation started
+   */
+  public long getInodesTotal() {
+    return mInodesTotal;
+  }
+
+  /**
+   * @return the number of inodes which were deleted or freed so far
+   */
+  public long getInodesReclaimed() {
+    return mInodesReclaimed.get();
+  }
+
+  /**
+   * @return the number of inodes which are left to delete or free
+   */
+  public long getInodesPending() {
+    return Math.max(0, mInodesTotal - mInodesReclaimed.get());
+  }
+
+  /**
+   * @return the number of under file system objects which could not be deleted
+   */
+  public long getUfsFailures() {
+    return mUfsFailures.get();
+  }
+
+  /**
+   * @return the time when the operation started
+   */
+  public long getStartTimeMs() {
+    return mStartTimeMs;
+  }
+
+  /**
+   * @param inodes the number of inodes which were just deleted or freed
+   */
+  void addInodesReclaimed(long inodes) {
+    mInodesReclaimed.addAndGet(inodes);
+  }
+
+  /**
+   * Records that an object could not be deleted from the under file system.
+   */
+  void addUfsFailure() {
+    mUfsFailures.incrementAndGet();
+  }
+
+  @Override
+  public String toString() {
+    return Objects.toStringHelper(this).add("path", mPath).add("type", mType)
+        .add("inodesTotal", mInodesTotal).add("inodesReclaimed", getInodesReclaimed())
+        .add("ufsFailures", getUfsFailures()).add("startTimeMs", mStartTimeMs).toString();
+  }
+}
@@ -0,0 +1,154 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.master.file;
+
+import alluxio.AlluxioURI;
+import alluxio.clock.Clock;
+import alluxio.metrics.MetricsSystem;
+import alluxio.util.io.PathUtils;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Gauge;
+import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import java.util.Iterator;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Remembers the under file system paths which were found not to exist. Applications probe many
+ * paths which exist neither in Alluxio nor in the under file system, and each probe would
+ * otherwise cost a round trip to the under file system, e.g. a HEAD request to an object store.
+ * <p>
+ * A path is absent when it, or any of its ancestors, was found not to exist less than the time to
+ * live of the entry ago. Paths created through Alluxio must be invalidated, while paths created
+ * directly in the under file system are only seen once their entries expire. The number of
+ * remembered paths is bounded, and the least recently used paths are evicted first.
+ */
+@ThreadSafe
+final class UfsAbsentPathCache {
+  /** Maps under file system paths to the times in milliseconds when their entries expire. */
+  private final Cache<String, Long> mCache;
+  private final Clock mClock;
+
+  /**
+   * Creates a new instance of {@link UfsAbsentPathCache}.
+   *
+   * @param capacity the maximum number of paths to remember
+   * @param clock the clock used to expire the entries
+   */
+  UfsAbsentPathCache(int capacity, Clock clock) {
+    Preconditions.checkArgument(capacity > 0, "The capacity should be positive");
+    mCache = CacheBuilder.newBuilder().maximumSize(capacity).build();
+    mClock = clock;
+    final Cache<String, Long> cache = mCache;
+    MetricsSystem.registerGaugeIfAbsent(
+        MetricsSystem.getMasterMetricName("UfsAbsentPathCacheSize"), new Gauge<Long>() {
+          @Override
+          public Long getValue() {
+            return cache.size();
+          }
+        });
+  }
+
+  /**
+   * Remembers that a path does not exist in the under file system.
+   *
+   * @param ufsUri the path in the under file system
+   * @param ttlMs the time in milliseconds during which the path is remembered, nothing is
+   *        remembered if it is not positive
+   */
+  void addAbsent(AlluxioURI ufsUri, long ttlMs) {
+    if (ttlMs > 0) {
+      mCache.put(ufsUri.toString(), mClock.millis() + ttlMs);
+    }
+  }
+
+  /**
+   * Checks whether a path is known not to exist in the under file system, because it or one of
+   * its ancestors was found not to exist.
+   *
+   * @param ufsUri the path in the under file system
+   * @return true if the path is known not to exist, false if the under file system must be asked
+   */
+  boolean isAbsent(AlluxioURI ufsUri) {
+    long now = mClock.millis();
+    for (AlluxioURI uri = ufsUri; uri != null; uri = uri.getParent()) {
+      String key = uri.toString();
+      Long expiryMs = mCache.getIfPresent(key);
+      if (expiryMs == null) {
+        continue;
+      }
+      if (expiryMs > now) {
+        Metrics.HITS.inc();
+        return true;
+      }
+      mCache.asMap().remove(key, expiryMs);
+    }
+    Metrics.MISSES.inc();
+    return false;
+  }
+
+  /**
+   * Forgets that a path and its ancestors do not exist, when the path is created.
+   *
+   * @param ufsUri the path in the under file system
+   */
+  void invalidate(AlluxioURI ufsUri) {
+    for (AlluxioURI uri = ufsUri; uri != null; uri = uri.getParent()) {
+      mCache.invalidate(uri.toString());
+    }
+  }
+
+  /**
+   * Forgets that a path, its ancestors and its descendants do not exist, when a directory is
+   * moved to the path. This iterates over all the remembered paths.
+   *
+   * @param ufsUri the path in the under file system
+   */
+  void invalidateTree(AlluxioURI ufsUri) {
+    invalidate(ufsUri);
+    String prefix = PathUtils.normalizePath(ufsUri.toString(), AlluxioURI.SEPARATOR);
+    Iterator<String> iterator = mCache.asMap().keySet().iterator();
+    while (iterator.hasNext()) {
+      if (iterator.next().startsWith(prefix)) {
+        iterator.remove();
+      }
+    }
+  }
+
+  /**
+   * @return true if no path is remembered
+   */
+  boolean isEmpty() {
+    return mCache.size() == 0;
+  }
+
+  /**
+   * Forgets all the paths, when the mount points change.
+   */
+  void invalidateAll() {
+    mCache.invalidateAll();
+  }
+
+  /**
+   * Class that contains metrics about UfsAbsentPathCache.
+   */
+  private static final class Metrics {
+    private static final Counter HITS = MetricsSystem.masterCounter("UfsAbsentPathCacheHits");
+    private static final Counter MISSES = MetricsSystem.masterCounter("UfsAbsentPathCacheMisses");
+
+    private Metrics() {} // prevent instantiation
+  }
+}
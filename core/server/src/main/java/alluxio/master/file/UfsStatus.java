@@ -0,0 +1,147 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.master.file;
+
+import com.google.common.base.Objects;
+import com.google.common.base.Preconditions;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * The metadata of a path in the under file system, as needed to load the path into Alluxio. The
+ * type of the path is always known, while its attributes (owner, group, mode and, for files, the
+ * length and block size) are only known if {@link #hasAttributes()} is true.
+ */
+@ThreadSafe
+final class UfsStatus {
+  /** The status of a path which does not exist in the under file system. */
+  static final UfsStatus NOT_FOUND = new UfsStatus(false, false);
+
+  private final boolean mExists;
+  private final boolean mIsFile;
+  private final boolean mHasAttributes;
+  private final long mLength;
+  private final long mBlockSizeBytes;
+  private final String mOwner;
+  private final String mGroup;
+  private final short mMode;
+
+  /**
+   * Creates a status with the type of a path only.
+   *
+   * @param exists whether the path exists
+   * @param isFile whether the path is a file
+   */
+  UfsStatus(boolean exists, boolean isFile) {
+    this(exists, isFile, false, 0, 0, null, null, (short) 0);
+  }
+
+  /**
+   * Creates a status with the type and the attributes of an existing path.
+   *
+   * @param isFile whether the path is a file
+   * @param length the length of the file, ignored for directories
+   * @param blockSizeBytes the block size of the file, ignored for directories
+   * @param owner the owner of the path
+   * @param group the group of the path
+   * @param mode the mode of the path
+   */
+  UfsStatus(boolean isFile, long length, long blockSizeBytes, String owner, String group,
+      short mode) {
+    this(true, isFile, true, length, blockSizeBytes, owner, group, mode);
+  }
+
+  private UfsStatus(boolean exists, boolean isFile, boolean hasAttributes, long length,
+      long blockSizeBytes, String owner, String group, short mode) {
+    mExists = exists;
+    mIsFile = isFile;
+    mHasAttributes = hasAttributes;
+    mLength = length;
+    mBlockSizeBytes = blockSizeBytes;
+    mOwner = owner;
+    mGroup = group;
+    mMode = mode;
+  }
+
+  /**
+   * @return whether the path exists
+   */
+  boolean exists() {
+    return mExists;
+  }
+
+  /**
+   * @return whether the path is a file
+   */
+  boolean isFile() {
+    return mIsFile;
+  }
+
+  /**
+   * @return whether the attributes of the path are known
+   */
+  boolean hasAttributes() {
+    return mHasAttributes;
+  }
+
+  /**
+   * @return the length of the file
+   */
+  long getLength() {
+    checkAttributes();
+    return mLength;
+  }
+
+  /**
+   * @return the block size of the file
+   */
+  long getBlockSizeBytes() {
+    checkAttributes();
+    return mBlockSizeBytes;
+  }
+
+  /**
+   * @return the owner of the path
+   */
+  String getOwner() {
+    checkAttributes();
+    return mOwner;
+  }
+
+  /**
+   * @return the group of the path
+   */
+  String getGroup() {
+    checkAttributes();
+    return mGroup;
+  }
+
+  /**
+   * @return the mode of the path
+   */
+  short getMode() {
+    checkAttributes();
+    return mMode;
+  }
+
+  private void checkAttributes() {
+    Preconditions.checkState(mHasAttributes, "The attributes of the path are not loaded");
+  }
+
+  @Override
+  public String toString() {
+    return Objects.toStringHelper(this).add("exists", mExists).add("isFile", mIsFile)
+        .add("hasAttributes", mHasAttributes).add("length", mLength)
+        .add("blockSizeBytes", mBlockSizeBytes).add("owner", mOwner).add("group", mGroup)
+        .add("mode", mMode).toString();
+  }
+}
@@ -0,0 +1,210 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.master.file;
+
+import alluxio.Constants;
+import alluxio.metrics.MetricsSystem;
+import alluxio.underfs.UnderFileSystem;
+import alluxio.util.ThreadFactoryUtils;
+
+import com.codahale.metrics.Timer;
+import com.google.common.base.Preconditions;
+import com.google.common.base.Throwables;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Fetches the {@link UfsStatus} of paths from the under file system. Loading the metadata of a
+ * path takes several round trips to the under file system, which dominate the time to load large
+ * directories from object stores. The statuses of many paths are therefore fetched concurrently
+ * on a pool of threads, which is shared by all the metadata loads of the master so that the load
+ * put on the under file systems stays bounded. Requests for a single path are run in the calling
+ * thread.
+ * <p>
+ * The pool is created when it is first needed, and shut down by {@link #close()} when the master
+ * stops, so that a master which is started again creates a new pool.
+ */
+@ThreadSafe
+final class UfsStatusFetcher implements Closeable {
+  private static final long KEEP_ALIVE_MS = 60 * Constants.SECOND_MS;
+
+  private final int mThreads;
+  @GuardedBy("this")
+  private ThreadPoolExecutor mExecutor;
+
+  /**
+   * Creates a new instance of {@link UfsStatusFetcher}.
+   *
+   * @param threads the maximum number of paths to fetch concurrently, 1 to fetch them sequentially
+   *        in the calling thread
+   */
+  UfsStatusFetcher(int threads) {
+    Preconditions.checkArgument(threads > 0, "The number of threads should be positive");
+    mThreads = threads;
+  }
+
+  /**
+   * Fetches whether a path exists and whether it is a file.
+   *
+   * @param ufs the under file system
+   * @param path the path in the under file system
+   * @return the status of the path, without attributes
+   * @throws IOException if an error occurs accessing the under file system
+   */
+  UfsStatus fetchType(UnderFileSystem ufs, String path) throws IOException {
+    if (!ufs.exists(path)) {
+      return UfsStatus.NOT_FOUND;
+    }
+    return new UfsStatus(true, ufs.isFile(path));
+  }
+
+  /**
+   * Fetches the attributes of an existing path whose type is known.
+   *
+   * @param ufs the under file system
+   * @param path the path in the under file system
+   * @param type the status of the path, as returned by {@link #fetchType}
+   * @return the status of the path, with attributes
+   * @throws IOException if an error occurs accessing the under file system
+   */
+  UfsStatus fetchAttributes(UnderFileSystem ufs, String path, UfsStatus type)
+      throws IOException {
+    Preconditions.checkArgument(type.exists(), "Path %s does not exist", path);
+    if (type.hasAttributes()) {
+      return type;
+    }
+    long length = 0;
+    long blockSizeBytes = 0;
+    if (type.isFile()) {
+      blockSizeBytes = ufs.getBlockSizeByte(path);
+      length = ufs.getFileSize(path);
+    }
+    return new UfsStatus(type.isFile(), length, blockSizeBytes, ufs.getOwner(path),
+        ufs.getGroup(path), ufs.getMode(path));
+  }
+
+  /**
+   * Fetches the type and the attributes of a path.
+   *
+   * @param ufs the under file system
+   * @param path the path in the under file system
+   * @return the status of the path, with attributes if the path exists
+   * @throws IOException if an error occurs accessing the under file system
+   */
+  UfsStatus fetch(UnderFileSystem ufs, String path) throws IOException {
+    Timer.Context timer = Metrics.STATUSES_FETCHED.time();
+    try {
+      UfsStatus type = fetchType(ufs, path);
+      return type.exists() ? fetchAttributes(ufs, path, type) : type;
+    } finally {
+      timer.stop();
+    }
+  }
+
+  /**
+   * Fetches the type and the attributes of paths concurrently.
+   *
+   * @param ufs the under file system
+   * @param paths the paths in the under file system
+   * @return the statuses of the paths, in the same order as the paths
+   * @throws IOException if an error occurs accessing the under file system for any of the paths
+   */
+  List<UfsStatus> fetchAll(final UnderFileSystem ufs, List<String> paths) throws IOException {
+    List<UfsStatus> statuses = new ArrayList<>(paths.size());
+    if (mThreads == 1 || paths.size() < 2) {
+      for (String path : paths) {
+        statuses.add(fetch(ufs, path));
+      }
+      return statuses;
+    }
+
+    ThreadPoolExecutor executor = getExecutor();
+    List<Future<UfsStatus>> futures = new ArrayList<>(paths.size());
+    try {
+      for (final String path : paths) {
+        futures.add(executor.submit(new Callable<UfsStatus>() {
+          @Override
+          public UfsStatus call() throws IOException {
+            return fetch(ufs, path);
+          }
+        }));
+      }
+      for (Future<UfsStatus> future : futures) {
+        statuses.add(future.get());
+      }
+      return statuses;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException(e);
+    } catch (ExecutionException e) {
+      Throwables.propagateIfPossible(e.getCause(), IOException.class);
+      throw new IOException(e.getCause());
+    } finally {
+      // Cancels the remaining fetches if any of the fetches failed.
+      for (Future<UfsStatus> future : futures) {
+        future.cancel(false);
+      }
+    }
+  }
+
+  /**
+   * @return the number of paths waiting for a thread of the pool to fetch their statuses
+   */
+  synchronized int getNumPending() {
+    return mExecutor == null ? 0 : mExecutor.getQueue().size();
+  }
+
+  /**
+   * Shuts the pool down, interrupting the fetches in progress.
+   */
+  @Override
+  public synchronized void close() {
+    if (mExecutor != null) {
+      mExecutor.shutdownNow();
+      mExecutor = null;
+    }
+  }
+
+  /**
+   * @return the pool fetching the statuses concurrently, created if needed
+   */
+  private synchronized ThreadPoolExecutor getExecutor() {
+    if (mExecutor == null) {
+      mExecutor = new ThreadPoolExecutor(mThreads, mThreads, KEEP_ALIVE_MS,
+          TimeUnit.MILLISECONDS, new LinkedBlockingQueue<Runnable>(),
+          ThreadFactoryUtils.build("ufs-status-fetcher-%d", true));
+      mExecutor.allowCoreThreadTimeOut(true);
+    }
+    return mExecutor;
+  }
+
+  /**
+   * Class that contains metrics about UfsStatusFetcher.
+   */
+  private static final class Metrics {
+    private static final Timer STATUSES_FETCHED = MetricsSystem.masterTimer("UfsStatusesFetched");
+
+    private Metrics() {} // prevent instantiation
+  }
+}
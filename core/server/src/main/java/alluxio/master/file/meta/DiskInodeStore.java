@@ -0,0 +1,548 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.master.file.meta;
+
+import alluxio.Configuration;
+import alluxio.Constants;
+import alluxio.PropertyKey;
+import alluxio.proto.journal.Journal.JournalEntry;
+
+import com.google.common.base.Preconditions;
+import com.google.common.base.Throwables;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * An {@link InodeStore} which keeps the inodes in a log-structured file on local disk, and only a
+ * bounded set of recently used inodes on heap.
+ *
+ * An inode is appended to the log when it is evicted from the cache after being modified, and an
+ * index on heap maps the id of each inode in the log to the offset of its latest record, using a
+ * few tens of bytes per inode. The log is compacted when most of its records are stale. The
+ * journal remains the source of truth of the file system metadata: the log is rebuilt from the
+ * journal when the master starts, and it is deleted when the master exits.
+ *
+ * The cache is evicted with the clock algorithm. As required by {@link InodeStore}, an inode is
+ * not evicted while it or its parent is locked, so the cache may exceed its size while many
+ * inodes are locked.
+ */
+@ThreadSafe
+public final class DiskInodeStore implements InodeStore {
+  /** The log is not compacted while it is smaller than this size. */
+  private static final long COMPACTION_BYTES_MIN = 64 * Constants.MB;
+  /** The number of stale ids the clock may hold before it is rebuilt. */
+  private static final int CLOCK_STALE_IDS_MAX = 1024;
+
+  private final File mDirectory;
+  private final int mCacheSize;
+  private final InodeLockManager mLockManager;
+  /** The cached inodes, which are looked up without synchronization. */
+  private final Map<Long, CacheEntry> mCache = new ConcurrentHashMap<>();
+  /** The ids of the cached inodes, starting at the clock hand. */
+  @GuardedBy("this")
+  private final Queue<Long> mClock = new ArrayDeque<>();
+  /** The offsets of the latest records of the inodes in the log. */
+  @GuardedBy("this")
+  private final OffsetIndex mIndex = new OffsetIndex();
+  @GuardedBy("this")
+  private File mLogFile;
+  @GuardedBy("this")
+  private FileChannel mLog;
+  /** The size of the log in bytes. */
+  @GuardedBy("this")
+  private long mLogBytes;
+  /** The size of the latest records of the inodes in bytes. */
+  @GuardedBy("this")
+  private long mLiveBytes;
+  /** The number of inodes, which are cached, in the log, or both. */
+  @GuardedBy("this")
+  private int mSize;
+
+  /**
+   * Creates a new instance of {@link DiskInodeStore}, with the directory and the cache size set in
+   * the configuration.
+   *
+   * @param lockManager the manager of the locks of the inodes
+   * @throws IOException if the log cannot be created
+   */
+  public DiskInodeStore(InodeLockManager lockManager) throws IOException {
+    this(new File(Configuration.get(PropertyKey.MASTER_INODE_STORE_DIR)),
+        Configuration.getInt(PropertyKey.MASTER_INODE_STORE_CACHE_SIZE), lockManager);
+  }
+
+  /**
+   * Creates a new instance of {@link DiskInodeStore}.
+   *
+   * @param directory the local directory of the log
+   * @param cacheSize the number of inodes to cache on heap
+   * @param lockManager the manager of the locks of the inodes
+   * @throws IOException if the log cannot be created
+   */
+  public DiskInodeStore(File directory, int cacheSize, InodeLockManager lockManager)
+      throws IOException {
+    Preconditions.checkArgument(cacheSize > 0, "The inode cache size should be positive");
+    mDirectory = directory;
+    mCacheSize = cacheSize;
+    mLockManager = lockManager;
+    openLog();
+  }
+
+  @Override
+  public Inode<?> get(long id) {
+    CacheEntry entry = mCache.get(id);
+    if (entry != null) {
+      return entry.use();
+    }
+    synchronized (this) {
+      entry = mCache.get(id);
+      if (entry != null) {
+        return entry.use();
+      }
+      long offset = mIndex.get(id);
+      if (offset == OffsetIndex.NOT_FOUND) {
+        return null;
+      }
+      try {
+        Inode<?> inode = readInode(offset);
+        cache(inode);
+        return inode;
+      } catch (IOException e) {
+        throw Throwables.propagate(e);
+      }
+    }
+  }
+
+  @Override
+  public synchronized void add(Inode<?> inode) {
+    if (!mCache.containsKey(inode.getId()) && mIndex.get(inode.getId()) == OffsetIndex.NOT_FOUND) {
+      mSize++;
+    }
+    inode.setDirty(true);
+    cache(inode);
+  }
+
+  @Override
+  public synchronized void remove(Inode<?> inode) {
+    long id = inode.getId();
+    boolean cached = mCache.remove(id) != null;
+    long offset = mIndex.remove(id);
+    try {
+      if (offset != OffsetIndex.NOT_FOUND) {
+        mLiveBytes -= getRecordBytes(mLog, offset);
+      }
+    } catch (IOException e) {
+      throw Throwables.propagate(e);
+    }
+    if (cached || offset != OffsetIndex.NOT_FOUND) {
+      mSize--;
+    }
+    if (mClock.size() > mCache.size() + CLOCK_STALE_IDS_MAX) {
+      mClock.clear();
+      mClock.addAll(mCache.keySet());
+    }
+  }
+
+  @Override
+  public synchronized void clear() {
+    mCache.clear();
+    mClock.clear();
+    mIndex.clear();
+    mSize = 0;
+    try {
+      mLog.truncate(0);
+    } catch (IOException e) {
+      throw Throwables.propagate(e);
+    }
+    mLogBytes = 0;
+    mLiveBytes = 0;
+  }
+
+  @Override
+  public synchronized int size() {
+    return mSize;
+  }
+
+  /**
+   * Caches an inode, and evicts other inodes if the cache is full.
+   *
+   * @param inode the inode to cache
+   */
+  @GuardedBy("this")
+  private void cache(Inode<?> inode) {
+    mCache.put(inode.getId(), new CacheEntry(inode));
+    mClock.add(inode.getId());
+    try {
+      evict(inode.getId());
+    } catch (IOException e) {
+      throw Throwables.propagate(e);
+    }
+  }
+
+  /**
+   * Evicts inodes until the cache is not full, or until no inode can be evicted.
+   *
+   * @param exceptId the id of an inode not to evict, because it is about to be returned
+   * @throws IOException if a modified inode cannot be written to the log
+   */
+  @GuardedBy("this")
+  private void evict(long exceptId) throws IOException {
+    // Each inode is passed at most twice by the clock hand: once to clear its reference bit, and
+    // once to evict it.
+    int remaining = 2 * mClock.size();
+    while (mCache.size() > mCacheSize && remaining-- > 0) {
+      long id = mClock.remove();
+      CacheEntry entry = mCache.get(id);
+      if (entry == null) {
+        // The inode has been removed.
+        continue;
+      }
+      if (id == exceptId || entry.mReferenced || !isEvictable(entry.mInode)) {
+        entry.mReferenced = false;
+        mClock.add(id);
+        continue;
+      }
+      mCache.remove(id);
+      // A thread which holds the lock of the parent may have looked up the inode before it was
+      // removed from the cache, so the locks are checked again.
+      if (!isEvictable(entry.mInode)) {
+        mCache.put(id, entry);
+        mClock.add(id);
+        continue;
+      }
+      if (entry.mInode.isDirty()) {
+        writeInode(entry.mInode);
+      }
+    }
+    if (mLogBytes >= COMPACTION_BYTES_MIN && 2 * mLiveBytes < mLogBytes) {
+      compact();
+    }
+  }
+
+  /**
+   * @param inode a cached inode
+   * @return whether the inode may be evicted, i.e. it is not the root, and neither the inode nor
+   *         its parent is locked
+   */
+  private boolean isEvictable(Inode<?> inode) {
+    return inode.getParentId() != InodeTree.NO_PARENT && !mLockManager.isLocked(inode.getId())
+        && !mLockManager.isLocked(inode.getParentId());
+  }
+
+  /**
+   * Appends an inode to the log.
+   *
+   * @param inode the inode to write
+   * @throws IOException if the inode cannot be written
+   */
+  @GuardedBy("this")
+  private void writeInode(Inode<?> inode) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    DataOutputStream out = new DataOutputStream(bytes);
+    // Reserve the length of the record.
+    out.writeInt(0);
+    byte[] entry = inode.toJournalEntry().toByteArray();
+    out.writeInt(entry.length);
+    out.write(entry);
+    // The fields which are not journaled are derived from the other inodes.
+    if (inode.isDirectory()) {
+      InodeDirectory directory = (InodeDirectory) inode;
+      SubtreeSummary summary = directory.getSubtreeSummary();
+      out.writeLong(summary.getFileCount());
+      out.writeLong(summary.getDirectoryCount());
+      out.writeLong(summary.getLength());
+      out.writeLong(summary.getInAlluxioLength());
+      out.writeLong(summary.getPinnedLength());
+      Map<InodeName, Long> children = directory.getChildIdsByName();
+      out.writeInt(children.size());
+      for (Map.Entry<InodeName, Long> child : children.entrySet()) {
+        byte[] name = child.getKey().getBytes();
+        out.writeInt(name.length);
+        out.write(name);
+        out.writeLong(child.getValue());
+      }
+    } else {
+      out.writeLong(((InodeFile) inode).getInAlluxioLength());
+    }
+    out.flush();
+    ByteBuffer record = ByteBuffer.wrap(bytes.toByteArray());
+    record.putInt(0, record.capacity() - 4);
+
+    long offset = mLogBytes;
+    writeFully(mLog, record, offset);
+    mLogBytes += record.capacity();
+    mLiveBytes += record.capacity();
+    long previousOffset = mIndex.put(inode.getId(), offset);
+    if (previousOffset != OffsetIndex.NOT_FOUND) {
+      mLiveBytes -= getRecordBytes(mLog, previousOffset);
+    }
+    inode.setDirty(false);
+  }
+
+  /**
+   * Reads an inode from the log.
+   *
+   * @param offset the offset of the record of the inode
+   * @return the inode
+   * @throws IOException if the inode cannot be read
+   */
+  @GuardedBy("this")
+  private Inode<?> readInode(long offset) throws IOException {
+    ByteBuffer record = ByteBuffer.allocate(getRecordBytes(mLog, offset) - 4);
+    readFully(mLog, record, offset + 4);
+    DataInputStream in = new DataInputStream(new ByteArrayInputStream(record.array()));
+    byte[] entryBytes = new byte[in.readInt()];
+    in.readFully(entryBytes);
+    JournalEntry entry = JournalEntry.parseFrom(entryBytes);
+    Inode<?> inode;
+    if (entry.hasInodeDirectory()) {
+      InodeDirectory directory = InodeDirectory.fromJournalEntry(entry.getInodeDirectory());
+      directory.setSubtreeSummary(new SubtreeSummary(in.readLong(), in.readLong(), in.readLong(),
+          in.readLong(), in.readLong()));
+      int numChildren = in.readInt();
+      for (int i = 0; i < numChildren; i++) {
+        byte[] name = new byte[in.readInt()];
+        in.readFully(name);
+        directory.addChild(new InodeName(name), in.readLong());
+      }
+      inode = directory;
+    } else {
+      InodeFile file = InodeFile.fromJournalEntry(entry.getInodeFile());
+      file.setInAlluxioLength(in.readLong());
+      inode = file;
+    }
+    inode.setDirty(false);
+    return inode;
+  }
+
+  /**
+   * Rewrites the log with the latest records of the inodes only.
+   *
+   * @throws IOException if the log cannot be rewritten
+   */
+  @GuardedBy("this")
+  private void compact() throws IOException {
+    File oldLogFile = mLogFile;
+    FileChannel oldLog = mLog;
+    openLog();
+    for (int i = 0; i < mIndex.mIds.length; i++) {
+      if (mIndex.mIds[i] == OffsetIndex.EMPTY) {
+        continue;
+      }
+      ByteBuffer record = ByteBuffer.allocate(getRecordBytes(oldLog, mIndex.mOffsets[i]));
+      readFully(oldLog, record, mIndex.mOffsets[i]);
+      record.flip();
+      writeFully(mLog, record, mLogBytes);
+      mIndex.mOffsets[i] = mLogBytes;
+      mLogBytes += record.capacity();
+    }
+    mLiveBytes = mLogBytes;
+    oldLog.close();
+    if (!oldLogFile.delete()) {
+      throw new IOException("Failed to delete the inode log " + oldLogFile);
+    }
+  }
+
+  /**
+   * Creates an empty log.
+   *
+   * @throws IOException if the log cannot be created
+   */
+  @GuardedBy("this")
+  private void openLog() throws IOException {
+    if (!mDirectory.isDirectory() && !mDirectory.mkdirs()) {
+      throw new IOException("Failed to create the inode store directory " + mDirectory);
+    }
+    mLogFile = File.createTempFile("inodes", ".log", mDirectory);
+    mLogFile.deleteOnExit();
+    mLog = new RandomAccessFile(mLogFile, "rw").getChannel();
+    mLogBytes = 0;
+    mLiveBytes = 0;
+  }
+
+  /**
+   * @param channel the log
+   * @param offset the offset of a record in the log
+   * @return the size of the record in bytes, including its length
+   * @throws IOException if the record cannot be read
+   */
+  private static int getRecordBytes(FileChannel channel, long offset) throws IOException {
+    ByteBuffer length = ByteBuffer.allocate(4);
+    readFully(channel, length, offset);
+    return length.getInt(0) + 4;
+  }
+
+  private static void readFully(FileChannel channel, ByteBuffer buffer, long offset)
+      throws IOException {
+    while (buffer.hasRemaining()) {
+      if (channel.read(buffer, offset + buffer.position()) < 0) {
+        throw new IOException("Unexpected end of the inode log at offset " + offset);
+      }
+    }
+  }
+
+  private static void writeFully(FileChannel channel, ByteBuffer buffer, long offset)
+      throws IOException {
+    while (buffer.hasRemaining()) {
+      channel.write(buffer, offset + buffer.position());
+    }
+  }
+
+  /**
+   * A cached inode.
+   */
+  private static final class CacheEntry {
+    private final Inode<?> mInode;
+    /** Whether the inode has been used since the clock hand last passed it. */
+    private volatile boolean mReferenced = true;
+
+    /**
+     * @param inode the inode to cache
+     */
+    CacheEntry(Inode<?> inode) {
+      mInode = inode;
+    }
+
+    /**
+     * @return the inode, after marking it as used
+     */
+    Inode<?> use() {
+      if (!mReferenced) {
+        mReferenced = true;
+      }
+      return mInode;
+    }
+  }
+
+  /**
+   * An open addressing hash map from inode ids to offsets, which takes at most 32 bytes per inode
+   * rather than the hundred bytes of a map of boxed longs.
+   */
+  private static final class OffsetIndex {
+    private static final long EMPTY = Long.MIN_VALUE;
+    private static final long NOT_FOUND = -1;
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private long[] mIds;
+    private long[] mOffsets;
+    private int mSize;
+
+    OffsetIndex() {
+      clear();
+    }
+
+    /**
+     * @param id an inode id
+     * @return the offset of the inode, or {@link #NOT_FOUND}
+     */
+    long get(long id) {
+      for (int i = getSlot(id); mIds[i] != EMPTY; i = (i + 1) & (mIds.length - 1)) {
+        if (mIds[i] == id) {
+          return mOffsets[i];
+        }
+      }
+      return NOT_FOUND;
+    }
+
+    /**
+     * @param id an inode id
+     * @param offset the offset of the inode
+     * @return the previous offset of the inode, or {@link #NOT_FOUND}
+     */
+    long put(long id, long offset) {
+      int i = getSlot(id);
+      for (; mIds[i] != EMPTY; i = (i + 1) & (mIds.length - 1)) {
+        if (mIds[i] == id) {
+          long previousOffset = mOffsets[i];
+          mOffsets[i] = offset;
+          return previousOffset;
+        }
+      }
+      mIds[i] = id;
+      mOffsets[i] = offset;
+      mSize++;
+      if (2 * mSize > mIds.length) {
+        resize(2 * mIds.length);
+      }
+      return NOT_FOUND;
+    }
+
+    /**
+     * @param id an inode id
+     * @return the offset of the removed inode, or {@link #NOT_FOUND}
+     */
+    long remove(long id) {
+      int mask = mIds.length - 1;
+      int hole = getSlot(id);
+      while (mIds[hole] != id) {
+        if (mIds[hole] == EMPTY) {
+          return NOT_FOUND;
+        }
+        hole = (hole + 1) & mask;
+      }
+      long offset = mOffsets[hole];
+      // Shift back the following ids which cannot be reached from their slot through the hole.
+      for (int i = (hole + 1) & mask; mIds[i] != EMPTY; i = (i + 1) & mask) {
+        int slot = getSlot(mIds[i]);
+        if (slot <= i ? (slot <= hole && hole < i) : (slot <= hole || hole < i)) {
+          mIds[hole] = mIds[i];
+          mOffsets[hole] = mOffsets[i];
+          hole = i;
+        }
+      }
+      mIds[hole] = EMPTY;
+      mSize--;
+      return offset;
+    }
+
+    void clear() {
+      mIds = new long[INITIAL_CAPACITY];
+      Arrays.fill(mIds, EMPTY);
+      mOffsets = new long[INITIAL_CAPACITY];
+      mSize = 0;
+    }
+
+    private void resize(int capacity) {
+      long[] ids = mIds;
+      long[] offsets = mOffsets;
+      mIds = new long[capacity];
+      Arrays.fill(mIds, EMPTY);
+      mOffsets = new long[capacity];
+      mSize = 0;
+      for (int i = 0; i < ids.length; i++) {
+        if (ids[i] != EMPTY) {
+          put(ids[i], offsets[i]);
+        }
+      }
+    }
+
+    private int getSlot(long id) {
+      long hash = id * 0x9E3779B97F4A7C15L;
+      return (int) (hash ^ (hash >>> 32)) & (mIds.length - 1);
+    }
+  }
+}
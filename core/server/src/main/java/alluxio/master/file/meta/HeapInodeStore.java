@@ -0,0 +1,67 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.master.file.meta;
+
+import alluxio.collections.FieldIndex;
+import alluxio.collections.IndexDefinition;
+import alluxio.collections.UniqueFieldIndex;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * An {@link InodeStore} which keeps all the inodes on heap.
+ */
+@ThreadSafe
+public final class HeapInodeStore implements InodeStore {
+  private static final IndexDefinition<Inode<?>> ID_INDEX = new IndexDefinition<Inode<?>>(true) {
+    @Override
+    public Object getFieldValue(Inode<?> o) {
+      return o.getId();
+    }
+  };
+
+  /** Use UniqueFieldIndex directly for id index rather than using IndexedSet. */
+  private final FieldIndex<Inode<?>> mInodes = new UniqueFieldIndex<>(ID_INDEX);
+
+  /**
+   * Creates a new instance of {@link HeapInodeStore}, which does not use the lock manager since
+   * it never releases the inodes.
+   *
+   * @param lockManager the manager of the locks of the inodes
+   */
+  public HeapInodeStore(InodeLockManager lockManager) {}
+
+  @Override
+  public Inode<?> get(long id) {
+    return mInodes.getFirst(id);
+  }
+
+  @Override
+  public void add(Inode<?> inode) {
+    mInodes.add(inode);
+  }
+
+  @Override
+  public void remove(Inode<?> inode) {
+    mInodes.remove(inode);
+  }
+
+  @Override
+  public void clear() {
+    mInodes.clear();
+  }
+
+  @Override
+  public int size() {
+    return mInodes.size();
+  }
+}
@@ -18,39 +18,51 @@ import alluxio.wire.FileInfo;
 
 import com.google.common.base.Objects;
 
-import java.util.concurrent.locks.ReentrantReadWriteLock;
-
 import javax.annotation.concurrent.NotThreadSafe;
 
 /**
  * {@link Inode} is an abstract class, with information shared by all types of Inodes. The inode
- * must be locked ({@link #lockRead()} or {@link #lockWrite()}) before methods are called.
+ * must be locked with the {@link InodeLockManager} of its tree before methods are called.
  *
  * @param <T> the concrete subclass of this object
  */
 @NotThreadSafe
 public abstract class Inode<T> implements JournalEntryRepresentable {
+  /** The ids of the owners and groups of all the inodes. */
+  private static final UserGroupIds USER_GROUP_IDS = new UserGroupIds();
+
+  /**
+   * The estimated bytes of the entries of an inode in the index of the inodes and in the children
+   * of its parent, each a map node and a boxed id.
+   */
+  private static final long INDEX_ENTRIES_BYTES = 2 * (32 + 16);
+
   protected long mCreationTimeMs;
   private boolean mDeleted;
   protected boolean mDirectory;
   protected long mId;
   private long mLastModificationTimeMs;
-  private String mName;
+  private InodeName mName;
   private long mParentId;
   private PersistenceState mPersistenceState;
   private boolean mPinned;
 
-  private String mOwner;
-  private String mGroup;
+  /** The interned ids of the owner and the group. */
+  private int mOwnerId;
+  private int mGroupId;
   private short mMode;
 
-  private final ReentrantReadWriteLock mLock;
+  /**
+   * Whether the inode may have been modified since it was last written to the {@link InodeStore}.
+   * Inodes are modified while write locked, or by the few updates allowed under a read lock.
+   */
+  private boolean mDirty;
 
   protected Inode(long id, boolean isDirectory) {
     mCreationTimeMs = System.currentTimeMillis();
     mDeleted = false;
     mDirectory = isDirectory;
-    mGroup = "";
+    mGroupId = USER_GROUP_IDS.getId("");
     mId = id;
     mLastModificationTimeMs = mCreationTimeMs;
     mName = null;
@@ -58,8 +70,8 @@ public abstract class Inode<T> implements JournalEntryRepresentable {
     mMode = Constants.INVALID_MODE;
     mPersistenceState = PersistenceState.NOT_PERSISTED;
     mPinned = false;
-    mOwner = "";
-    mLock = new ReentrantReadWriteLock();
+    mOwnerId = mGroupId;
+    mDirty = true;
   }
 
   /**
@@ -73,7 +85,7 @@ public abstract class Inode<T> implements JournalEntryRepresentable {
    * @return the group of the inode
    */
   public String getGroup() {
-    return mGroup;
+    return USER_GROUP_IDS.getName(mGroupId);
   }
 
   /**
@@ -94,6 +106,13 @@ public abstract class Inode<T> implements JournalEntryRepresentable {
    * @return the name of the inode
    */
   public String getName() {
+    return mName == null ? null : mName.toString();
+  }
+
+  /**
+   * @return the name of the inode, as shared with the children index of its parent
+   */
+  InodeName getInodeName() {
     return mName;
   }
 
@@ -122,7 +141,7 @@ public abstract class Inode<T> implements JournalEntryRepresentable {
    * @return the owner of the inode
    */
   public String getOwner() {
-    return mOwner;
+    return USER_GROUP_IDS.getName(mOwnerId);
   }
 
   /**
@@ -183,7 +202,7 @@ public abstract class Inode<T> implements JournalEntryRepresentable {
    * @return the updated object
    */
   public T setGroup(String group) {
-    mGroup = group;
+    mGroupId = USER_GROUP_IDS.getId(group);
     return getThis();
   }
 
@@ -201,7 +220,7 @@ public abstract class Inode<T> implements JournalEntryRepresentable {
    * @return the updated object
    */
   public T setName(String name) {
-    mName = name;
+    mName = name == null ? null : new InodeName(name);
     return getThis();
   }
 
@@ -219,6 +238,8 @@ public abstract class Inode<T> implements JournalEntryRepresentable {
    * @return the updated object
    */
   public T setPersistenceState(PersistenceState persistenceState) {
+    // The persistence state of the ancestors of a created path is updated under a read lock.
+    mDirty = true;
     mPersistenceState = persistenceState;
     return getThis();
   }
@@ -229,8 +250,8 @@ public abstract class Inode<T> implements JournalEntryRepresentable {
    */
   public T setPermission(Permission permission) {
     if (permission != null) {
-      mOwner = permission.getOwner();
-      mGroup = permission.getGroup();
+      mOwnerId = USER_GROUP_IDS.getId(permission.getOwner());
+      mGroupId = USER_GROUP_IDS.getId(permission.getGroup());
       mMode = permission.getMode().toShort();
     }
     return getThis();
@@ -259,7 +280,7 @@ public abstract class Inode<T> implements JournalEntryRepresentable {
    * @return the updated object
    */
   public T setOwner(String owner) {
-    mOwner = owner;
+    mOwnerId = USER_GROUP_IDS.getId(owner);
     return getThis();
   }
 
@@ -272,50 +293,42 @@ public abstract class Inode<T> implements JournalEntryRepresentable {
   public abstract FileInfo generateClientFileInfo(String path);
 
   /**
-   * @return {@code this} so that the abstract class can use the fluent builder pattern
-   */
-  protected abstract T getThis();
-
-  /**
-   * Acquires the read lock for this inode.
+   * @return the {@link SubtreeSummary} of the inode and all its descendants
    */
-  public void lockRead() {
-    mLock.readLock().lock();
-  }
+  public abstract SubtreeSummary getSubtreeSummary();
 
   /**
-   * Releases the read lock for this inode.
+   * @return {@code this} so that the abstract class can use the fluent builder pattern
    */
-  public void unlockRead() {
-    mLock.readLock().unlock();
-  }
+  protected abstract T getThis();
 
   /**
-   * Acquires the write lock for this inode.
+   * @return an estimate of the heap bytes used by the inode, including its name and its entries in
+   *         the inode indexes, assuming compressed object references
    */
-  public void lockWrite() {
-    mLock.writeLock().lock();
-  }
+  abstract long getEstimatedSizeBytes();
 
   /**
-   * Releases the write lock for this inode.
+   * @return an estimate of the heap bytes used by the name and the index entries of the inode
    */
-  public void unlockWrite() {
-    mLock.writeLock().unlock();
+  long getEstimatedNameAndIndexBytes() {
+    // The name object, and its byte array with a 16 byte header, aligned to 8 bytes.
+    int nameLength = mName == null ? 0 : mName.length();
+    return 16 + ((16 + nameLength + 7) & ~7) + INDEX_ENTRIES_BYTES;
   }
 
   /**
-   * @return returns true if the current thread holds a write lock on this inode, false otherwise
+   * @return true if the inode may have been modified since it was last written to the store
    */
-  public boolean isWriteLocked() {
-    return mLock.isWriteLockedByCurrentThread();
+  boolean isDirty() {
+    return mDirty;
   }
 
   /**
-   * @return returns true if the current thread holds a read lock on this inode, false otherwise
+   * @param dirty whether the inode may have been modified since it was last written to the store
    */
-  public boolean isReadLocked() {
-    return mLock.getReadHoldCount() > 0;
+  void setDirty(boolean dirty) {
+    mDirty = dirty;
   }
 
   @Override
@@ -336,10 +349,11 @@ public abstract class Inode<T> implements JournalEntryRepresentable {
   }
 
   protected Objects.ToStringHelper toStringHelper() {
-    return Objects.toStringHelper(this).add("id", mId).add("name", mName).add("parentId", mParentId)
-        .add("creationTimeMs", mCreationTimeMs).add("pinned", mPinned).add("deleted", mDeleted)
-        .add("directory", mDirectory).add("persistenceState", mPersistenceState)
-        .add("lastModificationTimeMs", mLastModificationTimeMs).add("owner", mOwner)
-        .add("group", mGroup).add("permission", mMode);
+    return Objects.toStringHelper(this).add("id", mId).add("name", getName())
+        .add("parentId", mParentId).add("creationTimeMs", mCreationTimeMs).add("pinned", mPinned)
+        .add("deleted", mDeleted).add("directory", mDirectory)
+        .add("persistenceState", mPersistenceState)
+        .add("lastModificationTimeMs", mLastModificationTimeMs).add("owner", getOwner())
+        .add("group", getGroup()).add("permission", mMode);
   }
 }
@@ -12,42 +12,46 @@
 package alluxio.master.file.meta;
 
 import alluxio.Constants;
-import alluxio.collections.FieldIndex;
-import alluxio.collections.IndexDefinition;
-import alluxio.collections.UniqueFieldIndex;
 import alluxio.master.file.options.CreateDirectoryOptions;
 import alluxio.proto.journal.File.InodeDirectoryEntry;
 import alluxio.proto.journal.Journal.JournalEntry;
 import alluxio.security.authorization.Permission;
 import alluxio.wire.FileInfo;
 
-import com.google.common.collect.ImmutableSet;
+import io.netty.util.internal.chmv8.ConcurrentHashMapV8;
 
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 
 import javax.annotation.concurrent.NotThreadSafe;
 
 /**
  * Alluxio file system's directory representation in the file system master. The inode must be
- * locked ({@link #lockRead()} or {@link #lockWrite()}) before methods are called.
+ * locked with the {@link InodeLockManager} of its tree before methods are called.
+ *
+ * A directory only refers to its children by id, so that the inodes can be loaded from the
+ * {@link InodeStore} when they are needed. The children are resolved by the {@link InodeTree}.
  */
 @NotThreadSafe
 public final class InodeDirectory extends Inode<InodeDirectory> {
-  private static final IndexDefinition<Inode<?>> NAME_INDEX = new IndexDefinition<Inode<?>>(true) {
-    @Override
-    public Object getFieldValue(Inode<?> o) {
-      return o.getName();
-    }
-  };
+  /**
+   * The estimated bytes of the object, of its subtree summary and of the empty index of its
+   * children, assuming compressed object references.
+   */
+  private static final long SIZE_BYTES = 80 + 56 + 64;
 
-  /** Use UniqueFieldIndex directly for name index rather than using IndexedSet. */
-  private FieldIndex<Inode<?>> mChildren = new UniqueFieldIndex<>(NAME_INDEX);
+  /** The ids of the children, indexed by name. */
+  private final Map<InodeName, Long> mChildren = new ConcurrentHashMapV8<>(8, 0.95f, 8);
 
   private boolean mMountPoint;
 
   private boolean mDirectChildrenLoaded;
 
+  /** The summary of the directory and all its descendants, updated as they change. */
+  private SubtreeSummary mSubtreeSummary = new SubtreeSummary(0, 1, 0, 0, 0);
+
   /**
    * Creates a new instance of {@link InodeDirectory}.
    *
@@ -71,33 +75,42 @@ public final class InodeDirectory extends Inode<InodeDirectory> {
    * @return true if inode was added successfully, false otherwise
    */
   public boolean addChild(Inode<?> child) {
-    return mChildren.add(child);
+    return addChild(child.getInodeName(), child.getId());
   }
 
   /**
+   * Adds a child to the set of children.
+   *
    * @param name the name of the child
-   * @return the inode with the given name, or null if there is no child with that name
+   * @param id the id of the child
+   * @return true if the child was added successfully, false otherwise
    */
-  public Inode<?> getChild(String name) {
-    return mChildren.getFirst(name);
+  boolean addChild(InodeName name, long id) {
+    setDirty(true);
+    Long previousId = mChildren.putIfAbsent(name, id);
+    return previousId == null || previousId == id;
   }
 
   /**
-   * @return an unmodifiable set of the children inodes
+   * @param name the name of the child
+   * @return the id of the child with the given name, or null if there is no child with that name
    */
-  public Set<Inode<?>> getChildren() {
-    return ImmutableSet.copyOf(mChildren.iterator());
+  public Long getChildId(String name) {
+    return mChildren.get(new InodeName(name));
   }
 
   /**
    * @return the ids of the children
    */
   public Set<Long> getChildrenIds() {
-    Set<Long> ret = new HashSet<>(mChildren.size());
-    for (Inode<?> child : mChildren) {
-      ret.add(child.getId());
-    }
-    return ret;
+    return new HashSet<>(mChildren.values());
+  }
+
+  /**
+   * @return an unmodifiable view of the ids of the children, indexed by name
+   */
+  Map<InodeName, Long> getChildIdsByName() {
+    return Collections.unmodifiableMap(mChildren);
   }
 
   /**
@@ -107,6 +120,35 @@ public final class InodeDirectory extends Inode<InodeDirectory> {
     return mChildren.size();
   }
 
+  @Override
+  long getEstimatedSizeBytes() {
+    return SIZE_BYTES + getEstimatedNameAndIndexBytes();
+  }
+
+  @Override
+  public synchronized SubtreeSummary getSubtreeSummary() {
+    return mSubtreeSummary.copy();
+  }
+
+  /**
+   * Adds a change of the summary of one of the descendants to the summary of the directory. The
+   * summaries of several descendants may change concurrently, so the directory only needs to be
+   * read locked.
+   *
+   * @param delta the change of the summary
+   */
+  public synchronized void updateSubtreeSummary(SubtreeSummary delta) {
+    setDirty(true);
+    mSubtreeSummary.add(delta);
+  }
+
+  /**
+   * @param summary the summary of the directory and all its descendants
+   */
+  synchronized void setSubtreeSummary(SubtreeSummary summary) {
+    mSubtreeSummary = summary.copy();
+  }
+
   /**
    * @return true if the inode is a mount point, false otherwise
    */
@@ -128,7 +170,8 @@ public final class InodeDirectory extends Inode<InodeDirectory> {
    * @return true if the inode was removed, false otherwise
    */
   public boolean removeChild(Inode<?> child) {
-    return mChildren.remove(child);
+    setDirty(true);
+    return mChildren.remove(child.getInodeName(), child.getId());
   }
 
   /**
@@ -138,8 +181,8 @@ public final class InodeDirectory extends Inode<InodeDirectory> {
    * @return true if the inode was removed, false otherwise
    */
   public boolean removeChild(String name) {
-    Inode<?> child = mChildren.getFirst(name);
-    return mChildren.remove(child);
+    setDirty(true);
+    return mChildren.remove(new InodeName(name)) != null;
   }
 
   /**
@@ -156,6 +199,7 @@ public final class InodeDirectory extends Inode<InodeDirectory> {
    * @return the updated object
    */
   public synchronized InodeDirectory setDirectChildrenLoaded(boolean directChildrenLoaded) {
+    setDirty(true);
     mDirectChildrenLoaded = directChildrenLoaded;
     return getThis();
   }
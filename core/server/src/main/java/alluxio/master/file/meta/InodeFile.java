@@ -31,17 +31,26 @@ import javax.annotation.concurrent.NotThreadSafe;
 
 /**
  * Alluxio file system's file representation in the file system master. The inode must be locked
- * ({@link #lockRead()} or {@link #lockWrite()}) before methods are called.
+ * with the {@link InodeLockManager} of its tree before methods are called.
  */
 @NotThreadSafe
 public final class InodeFile extends Inode<InodeFile> {
-  private List<Long> mBlocks;
+  /** The estimated bytes of the object, assuming compressed object references. */
+  private static final long SIZE_BYTES = 112;
+
+  /**
+   * The number of blocks of the file. The ids of the blocks are derived from the block container
+   * id, since the blocks are allocated with consecutive sequence numbers.
+   */
+  private int mNumBlocks;
   private long mBlockContainerId;
   private long mBlockSizeBytes;
   private boolean mCacheable;
   private boolean mCompleted;
   private long mLength;
   private long mTtl;
+  /** The number of bytes of the blocks which are stored in Alluxio, which is not journaled. */
+  private long mInAlluxioLength;
 
   /**
    * Creates a new instance of {@link InodeFile}.
@@ -50,13 +59,14 @@ public final class InodeFile extends Inode<InodeFile> {
    */
   private InodeFile(long blockContainerId) {
     super(BlockId.createBlockId(blockContainerId, BlockId.getMaxSequenceNumber()), false);
-    mBlocks = new ArrayList<>(1);
+    mNumBlocks = 0;
     mBlockContainerId = blockContainerId;
     mBlockSizeBytes = 0;
     mCacheable = false;
     mCompleted = false;
     mLength = 0;
     mTtl = Constants.NO_TTL;
+    mInAlluxioLength = 0;
   }
 
   @Override
@@ -91,21 +101,36 @@ public final class InodeFile extends Inode<InodeFile> {
     return ret;
   }
 
+  @Override
+  long getEstimatedSizeBytes() {
+    return SIZE_BYTES + getEstimatedNameAndIndexBytes();
+  }
+
+  @Override
+  public SubtreeSummary getSubtreeSummary() {
+    long length = Math.max(mLength, 0);
+    return new SubtreeSummary(1, 0, length, mInAlluxioLength, isPinned() ? length : 0);
+  }
+
   /**
    * Resets the file inode.
    */
   public void reset() {
-    mBlocks = new ArrayList<>();
+    mNumBlocks = 0;
     mLength = 0;
     mCompleted = false;
     mCacheable = false;
   }
 
   /**
-   * @return a duplication of all the block ids of the file
+   * @return a new list of all the block ids of the file
    */
   public List<Long> getBlockIds() {
-    return new ArrayList<>(mBlocks);
+    List<Long> blockIds = new ArrayList<>(mNumBlocks);
+    for (int i = 0; i < mNumBlocks; i++) {
+      blockIds.add(BlockId.createBlockId(mBlockContainerId, i));
+    }
+    return blockIds;
   }
 
   /**
@@ -122,16 +147,23 @@ public final class InodeFile extends Inode<InodeFile> {
     return mLength;
   }
 
+  /**
+   * @return the number of bytes of the blocks of the file which are stored in Alluxio
+   */
+  public long getInAlluxioLength() {
+    return mInAlluxioLength;
+  }
+
   /**
    * @return the id of a new block of the file
    */
   public long getNewBlockId() {
-    long blockId = BlockId.createBlockId(mBlockContainerId, mBlocks.size());
+    long blockId = BlockId.createBlockId(mBlockContainerId, mNumBlocks);
     // TODO(gene): Check for max block sequence number, and sanity check the sequence number.
     // TODO(gene): Check isComplete?
     // TODO(gene): This will not work with existing lineage implementation, since a new writer will
     // not be able to get the same block ids (to write the same block ids).
-    mBlocks.add(blockId);
+    mNumBlocks++;
     return blockId;
   }
 
@@ -143,11 +175,11 @@ public final class InodeFile extends Inode<InodeFile> {
    * @throws BlockInfoException if the index of the block is out of range
    */
   public long getBlockIdByIndex(int blockIndex) throws BlockInfoException {
-    if (blockIndex < 0 || blockIndex >= mBlocks.size()) {
+    if (blockIndex < 0 || blockIndex >= mNumBlocks) {
       throw new BlockInfoException(
-          "blockIndex " + blockIndex + " is out of range. File blocks: " + mBlocks.size());
+          "blockIndex " + blockIndex + " is out of range. File blocks: " + mNumBlocks);
     }
-    return mBlocks.get(blockIndex);
+    return BlockId.createBlockId(mBlockContainerId, blockIndex);
   }
 
   /**
@@ -175,11 +207,18 @@ public final class InodeFile extends Inode<InodeFile> {
   }
 
   /**
-   * @param blockIds the id's of the block
+   * @param blockIds the id's of the block, which must be the blocks of the block container of the
+   *        file in sequence
    * @return the updated object
    */
   public InodeFile setBlockIds(List<Long> blockIds) {
-    mBlocks = new ArrayList<>(Preconditions.checkNotNull(blockIds));
+    Preconditions.checkNotNull(blockIds);
+    for (int i = 0; i < blockIds.size(); i++) {
+      Preconditions.checkArgument(
+          blockIds.get(i) == BlockId.createBlockId(mBlockContainerId, i),
+          "Block %s is not block %s of the file %s", blockIds.get(i), i, getId());
+    }
+    mNumBlocks = blockIds.size();
     return getThis();
   }
 
@@ -211,6 +250,15 @@ public final class InodeFile extends Inode<InodeFile> {
     return getThis();
   }
 
+  /**
+   * @param inAlluxioLength the number of bytes of the blocks stored in Alluxio to use
+   * @return the updated object
+   */
+  public InodeFile setInAlluxioLength(long inAlluxioLength) {
+    mInAlluxioLength = inAlluxioLength;
+    return getThis();
+  }
+
   /**
    * @param ttl the TTL to use, in milliseconds
    * @return the updated object
@@ -240,7 +288,7 @@ public final class InodeFile extends Inode<InodeFile> {
     }
     mCompleted = true;
     mLength = length;
-    mBlocks.clear();
+    mNumBlocks = 0;
     if (length == Constants.UNKNOWN_SIZE) {
       // TODO(gpang): allow unknown files to be multiple blocks.
       // If the length of the file is unknown, only allow 1 block to the file.
@@ -255,7 +303,7 @@ public final class InodeFile extends Inode<InodeFile> {
 
   @Override
   public String toString() {
-    return toStringHelper().add("blocks", mBlocks).add("blockContainerId", mBlockContainerId)
+    return toStringHelper().add("blocks", getBlockIds()).add("blockContainerId", mBlockContainerId)
         .add("blockSizeBytes", mBlockSizeBytes).add("cacheable", mCacheable)
         .add("completed", mCompleted).add("length", mLength).add("ttl", mTtl).toString();
   }
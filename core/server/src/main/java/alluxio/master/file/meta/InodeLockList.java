@@ -21,10 +21,15 @@ import javax.annotation.concurrent.ThreadSafe;
  */
 @ThreadSafe
 public final class InodeLockList implements AutoCloseable {
+  private final InodeLockManager mLockManager;
   private final List<Inode<?>> mInodes;
   private final List<InodeTree.LockMode> mLockModes;
 
-  InodeLockList() {
+  /**
+   * @param lockManager the manager of the locks of the inodes
+   */
+  InodeLockList(InodeLockManager lockManager) {
+    mLockManager = lockManager;
     mInodes = new ArrayList<>();
     mLockModes = new ArrayList<>();
   }
@@ -35,7 +40,7 @@ public final class InodeLockList implements AutoCloseable {
    * @param inode the inode to lock
    */
   public synchronized void lockRead(Inode<?> inode) {
-    inode.lockRead();
+    mLockManager.lockRead(inode);
     mInodes.add(inode);
     mLockModes.add(InodeTree.LockMode.READ);
   }
@@ -50,9 +55,9 @@ public final class InodeLockList implements AutoCloseable {
     Inode<?> inode = mInodes.remove(mInodes.size() - 1);
     InodeTree.LockMode lockMode = mLockModes.remove(mLockModes.size() - 1);
     if (lockMode == InodeTree.LockMode.READ) {
-      inode.unlockRead();
+      mLockManager.unlockRead(inode);
     } else {
-      inode.unlockWrite();
+      mLockManager.unlockWrite(inode);
     }
   }
 
@@ -62,7 +67,7 @@ public final class InodeLockList implements AutoCloseable {
    * @param inode the inode to lock
    */
   public synchronized void lockWrite(Inode<?> inode) {
-    inode.lockWrite();
+    mLockManager.lockWrite(inode);
     mInodes.add(inode);
     mLockModes.add(InodeTree.LockMode.WRITE);
   }
@@ -80,9 +85,9 @@ public final class InodeLockList implements AutoCloseable {
       Inode<?> inode = mInodes.get(i);
       InodeTree.LockMode lockMode = mLockModes.get(i);
       if (lockMode == InodeTree.LockMode.READ) {
-        inode.unlockRead();
+        mLockManager.unlockRead(inode);
       } else {
-        inode.unlockWrite();
+        mLockManager.unlockWrite(inode);
       }
     }
     mInodes.clear();
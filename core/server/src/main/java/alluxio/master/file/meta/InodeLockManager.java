@@ -0,0 +1,192 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.master.file.meta;
+
+import io.netty.util.internal.chmv8.ConcurrentHashMapV8;
+
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Manages the locks of the inodes of an {@link InodeTree}.
+ *
+ * Rather than each inode holding a lock for its whole lifetime, a lock is allocated for an inode
+ * id when a thread locks the inode, shared by all the threads which lock the inode meanwhile, and
+ * released once they have all unlocked it. Only the few inodes which are being locked therefore
+ * hold a lock. The locks are reentrant read write locks, and a thread which holds the write lock
+ * of an inode may also acquire its read lock.
+ */
+@ThreadSafe
+public final class InodeLockManager {
+  /** The locks of the inodes which are locked, or being locked, indexed by inode id. */
+  private final ConcurrentMap<Long, InodeLock> mLocks = new ConcurrentHashMapV8<>(64, 0.95f, 64);
+
+  /**
+   * Creates a new instance of {@link InodeLockManager}.
+   */
+  public InodeLockManager() {}
+
+  /**
+   * Acquires the read lock of an inode.
+   *
+   * @param inode the inode to lock
+   */
+  public void lockRead(Inode<?> inode) {
+    InodeLock lock = acquireLock(inode.getId());
+    lock.mLock.readLock().lock();
+  }
+
+  /**
+   * Releases the read lock of an inode.
+   *
+   * @param inode the inode to unlock
+   */
+  public void unlockRead(Inode<?> inode) {
+    InodeLock lock = mLocks.get(inode.getId());
+    lock.mLock.readLock().unlock();
+    releaseLock(inode.getId(), lock);
+  }
+
+  /**
+   * Acquires the write lock of an inode. The inode is marked as modified, since it is only write
+   * locked in order to be modified.
+   *
+   * @param inode the inode to lock
+   */
+  public void lockWrite(Inode<?> inode) {
+    InodeLock lock = acquireLock(inode.getId());
+    lock.mLock.writeLock().lock();
+    inode.setDirty(true);
+  }
+
+  /**
+   * Releases the write lock of an inode.
+   *
+   * @param inode the inode to unlock
+   */
+  public void unlockWrite(Inode<?> inode) {
+    InodeLock lock = mLocks.get(inode.getId());
+    lock.mLock.writeLock().unlock();
+    releaseLock(inode.getId(), lock);
+  }
+
+  /**
+   * @param inode the inode
+   * @return true if the current thread holds the write lock of the inode, false otherwise
+   */
+  public boolean isWriteLocked(Inode<?> inode) {
+    InodeLock lock = mLocks.get(inode.getId());
+    return lock != null && lock.mLock.isWriteLockedByCurrentThread();
+  }
+
+  /**
+   * @param inode the inode
+   * @return true if the current thread holds a read lock of the inode, false otherwise
+   */
+  public boolean isReadLocked(Inode<?> inode) {
+    InodeLock lock = mLocks.get(inode.getId());
+    return lock != null && lock.mLock.getReadHoldCount() > 0;
+  }
+
+  /**
+   * @param id the id of an inode
+   * @return true if any thread holds or waits for a lock of the inode, false otherwise
+   */
+  public boolean isLocked(long id) {
+    return mLocks.containsKey(id);
+  }
+
+  /**
+   * @return the number of inodes which are locked, or being locked
+   */
+  public int getNumLockedInodes() {
+    return mLocks.size();
+  }
+
+  /**
+   * Gets the lock of an inode, allocating it if the inode is not locked, and adds a reference to
+   * it. Each reference is dropped by {@link #releaseLock(long, InodeLock)} once the lock is
+   * released.
+   *
+   * @param id the id of the inode
+   * @return the lock of the inode
+   */
+  private InodeLock acquireLock(long id) {
+    while (true) {
+      InodeLock lock = mLocks.get(id);
+      if (lock == null) {
+        InodeLock newLock = new InodeLock();
+        lock = mLocks.putIfAbsent(id, newLock);
+        if (lock == null) {
+          lock = newLock;
+        }
+      }
+      if (lock.addReference()) {
+        return lock;
+      }
+      // The lock is being removed, since all its references have been dropped. Wait for a new
+      // lock to be allocated.
+      Thread.yield();
+    }
+  }
+
+  /**
+   * Drops a reference to the lock of an inode, removing the lock once it is not used.
+   *
+   * @param id the id of the inode
+   * @param lock the lock of the inode
+   */
+  private void releaseLock(long id, InodeLock lock) {
+    if (lock.dropReference()) {
+      mLocks.remove(id, lock);
+    }
+  }
+
+  /**
+   * The reference counted lock of an inode.
+   */
+  private static final class InodeLock {
+    private final ReentrantReadWriteLock mLock = new ReentrantReadWriteLock();
+    /** The number of references, or -1 once the lock is not used anymore. */
+    private final AtomicInteger mReferenceCount = new AtomicInteger();
+
+    /**
+     * Creates a new instance of {@link InodeLock}, without any reference.
+     */
+    InodeLock() {}
+
+    /**
+     * @return false if the lock is not used anymore and cannot be referenced, true otherwise
+     */
+    boolean addReference() {
+      while (true) {
+        int count = mReferenceCount.get();
+        if (count < 0) {
+          return false;
+        }
+        if (mReferenceCount.compareAndSet(count, count + 1)) {
+          return true;
+        }
+      }
+    }
+
+    /**
+     * @return true if the dropped reference was the last one, and the lock is not used anymore
+     */
+    boolean dropReference() {
+      return mReferenceCount.decrementAndGet() == 0 && mReferenceCount.compareAndSet(0, -1);
+    }
+  }
+}
@@ -0,0 +1,84 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.master.file.meta;
+
+import com.google.common.base.Charsets;
+
+import java.util.Arrays;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * The name of an inode, stored as UTF-8 bytes rather than as a {@link String}, which takes two
+ * bytes per character. The same instance is shared by the inode and the index of the children of
+ * its parent directory.
+ */
+@ThreadSafe
+final class InodeName {
+  private final byte[] mBytes;
+  private final int mHashCode;
+
+  /**
+   * Creates a new instance of {@link InodeName}.
+   *
+   * @param name the name
+   */
+  InodeName(String name) {
+    this(name.getBytes(Charsets.UTF_8));
+  }
+
+  /**
+   * Creates a new instance of {@link InodeName}.
+   *
+   * @param bytes the UTF-8 bytes of the name, which must not be modified afterwards
+   */
+  InodeName(byte[] bytes) {
+    mBytes = bytes;
+    mHashCode = Arrays.hashCode(bytes);
+  }
+
+  /**
+   * @return the UTF-8 bytes of the name, which must not be modified
+   */
+  byte[] getBytes() {
+    return mBytes;
+  }
+
+  /**
+   * @return the number of UTF-8 bytes of the name
+   */
+  int length() {
+    return mBytes.length;
+  }
+
+  @Override
+  public int hashCode() {
+    return mHashCode;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof InodeName)) {
+      return false;
+    }
+    InodeName that = (InodeName) o;
+    return mHashCode == that.mHashCode && Arrays.equals(mBytes, that.mBytes);
+  }
+
+  @Override
+  public String toString() {
+    return new String(mBytes, Charsets.UTF_8);
+  }
+}
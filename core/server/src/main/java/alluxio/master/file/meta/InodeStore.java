@@ -0,0 +1,81 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.master.file.meta;
+
+import alluxio.Configuration;
+import alluxio.PropertyKey;
+import alluxio.util.CommonUtils;
+
+import com.google.common.base.Throwables;
+
+/**
+ * A store of the inodes of the {@link InodeTree}, indexed by id.
+ *
+ * An inode returned by the store may be modified while it is locked. A store which does not keep
+ * all the inodes on heap must not release an inode while the inode or its parent is locked by the
+ * {@link InodeLockManager}, so that the inodes reached by a locked path are the ones modified by
+ * the operations.
+ */
+public interface InodeStore {
+
+  /**
+   * Factory for {@link InodeStore}.
+   */
+  class Factory {
+
+    private Factory() {} // prevent instantiation
+
+    /**
+     * @param lockManager the manager of the locks of the inodes
+     * @return the generated {@link InodeStore}, of the class set in the configuration
+     */
+    public static InodeStore create(InodeLockManager lockManager) {
+      try {
+        return CommonUtils.createNewClassInstance(
+            Configuration.<InodeStore>getClass(PropertyKey.MASTER_INODE_STORE_CLASS),
+            new Class[] {InodeLockManager.class}, new Object[] {lockManager});
+      } catch (Exception e) {
+        throw Throwables.propagate(e);
+      }
+    }
+  }
+
+  /**
+   * @param id the id of the inode
+   * @return the inode with the given id, or null if there is no such inode
+   */
+  Inode<?> get(long id);
+
+  /**
+   * Adds an inode to the store.
+   *
+   * @param inode the inode to add
+   */
+  void add(Inode<?> inode);
+
+  /**
+   * Removes an inode from the store.
+   *
+   * @param inode the inode to remove
+   */
+  void remove(Inode<?> inode);
+
+  /**
+   * Removes all the inodes from the store.
+   */
+  void clear();
+
+  /**
+   * @return the number of inodes in the store
+   */
+  int size();
+}
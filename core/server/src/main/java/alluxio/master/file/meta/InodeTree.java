@@ -14,9 +14,6 @@ package alluxio.master.file.meta;
 import alluxio.AlluxioURI;
 import alluxio.Constants;
 import alluxio.collections.ConcurrentHashSet;
-import alluxio.collections.FieldIndex;
-import alluxio.collections.IndexDefinition;
-import alluxio.collections.UniqueFieldIndex;
 import alluxio.exception.AccessControlException;
 import alluxio.exception.BlockInfoException;
 import alluxio.exception.ExceptionMessage;
@@ -40,19 +37,26 @@ import alluxio.underfs.options.MkdirsOptions;
 import alluxio.util.SecurityUtils;
 import alluxio.util.io.PathUtils;
 
+import com.google.common.base.Function;
 import com.google.common.base.Objects;
 import com.google.common.base.Preconditions;
+import com.google.common.base.Predicates;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Iterables;
 import com.google.protobuf.Message;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.PriorityQueue;
 import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javax.annotation.concurrent.NotThreadSafe;
 
@@ -65,13 +69,6 @@ public final class InodeTree implements JournalCheckpointStreamable {
   /** Value to be used for an inode with no parent. */
   public static final long NO_PARENT = -1;
 
-  private static final IndexDefinition<Inode<?>> ID_INDEX = new IndexDefinition<Inode<?>>(true) {
-    @Override
-    public Object getFieldValue(Inode<?> o) {
-      return o.getId();
-    }
-  };
-
   /**
    * The type of lock to lock inode paths with.
    */
@@ -102,11 +99,14 @@ public final class InodeTree implements JournalCheckpointStreamable {
   /** Mount table manages the file system mount points. */
   private final MountTable mMountTable;
 
-  @SuppressWarnings("unchecked")
-  /** use UniqueFieldIndex directly for Id index rather than using IndexedSet */
-  private final FieldIndex<Inode<?>> mInodes = new UniqueFieldIndex<>(ID_INDEX);
+  /** The locks of the inodes. */
+  private final InodeLockManager mLockManager = new InodeLockManager();
+  /** The inodes, indexed by id. */
+  private final InodeStore mInodes;
   /** A set of inode ids representing pinned inode files. */
   private final Set<Long> mPinnedInodeFileIds = new ConcurrentHashSet<>(64, 0.90f, 64);
+  /** The sum of the estimated heap bytes of the inodes in the tree. */
+  private final AtomicLong mEstimatedBytes = new AtomicLong();
 
   /**
    * Inode id management. Inode ids are essentially block ids.
@@ -120,12 +120,6 @@ public final class InodeTree implements JournalCheckpointStreamable {
   private final ContainerIdGenerable mContainerIdGenerator;
   private final InodeDirectoryIdGenerator mDirectoryIdGenerator;
 
-  /**
-   * This is only used for adding inodes from the journal, to prevent repeated lookups of the same
-   * inode.
-   */
-  private InodeDirectory mCachedInode;
-
   /**
    * @param containerIdGenerator the container id generator to use to get new container ids
    * @param directoryIdGenerator the directory id generator to use to get new directory ids
@@ -136,6 +130,7 @@ public final class InodeTree implements JournalCheckpointStreamable {
     mContainerIdGenerator = containerIdGenerator;
     mDirectoryIdGenerator = directoryIdGenerator;
     mMountTable = mountTable;
+    mInodes = InodeStore.Factory.create(mLockManager);
   }
 
   /**
@@ -149,8 +144,7 @@ public final class InodeTree implements JournalCheckpointStreamable {
           .create(mDirectoryIdGenerator.getNewDirectoryId(), NO_PARENT, ROOT_INODE_NAME,
               CreateDirectoryOptions.defaults().setPermission(permission));
       mRoot.setPersistenceState(PersistenceState.PERSISTED);
-      mInodes.add(mRoot);
-      mCachedInode = mRoot;
+      addInode(mRoot);
     }
   }
 
@@ -178,12 +172,21 @@ public final class InodeTree implements JournalCheckpointStreamable {
     return mPinnedInodeFileIds.size();
   }
 
+  /**
+   * @return the estimated heap bytes used per inode, derived from the compact layout of the inodes
+   *         and the lengths of their names
+   */
+  public long getEstimatedBytesPerInode() {
+    int size = mInodes.size();
+    return size == 0 ? 0 : mEstimatedBytes.get() / size;
+  }
+
   /**
    * @param id the id to get the inode for
    * @return whether the inode exists
    */
   public boolean inodeIdExists(long id) {
-    return mInodes.containsField(id);
+    return mInodes.get(id) != null;
   }
 
   /**
@@ -349,7 +352,7 @@ public final class InodeTree implements JournalCheckpointStreamable {
       throws FileDoesNotExistException {
     int count = 0;
     while (true) {
-      Inode<?> inode = mInodes.getFirst(id);
+      Inode<?> inode = mInodes.get(id);
       if (inode == null) {
         throw new FileDoesNotExistException(ExceptionMessage.INODE_DOES_NOT_EXIST.getMessage(id));
       }
@@ -414,11 +417,11 @@ public final class InodeTree implements JournalCheckpointStreamable {
    */
   private void computePathForInode(Inode<?> inode, StringBuilder builder)
       throws FileDoesNotExistException {
-    inode.lockRead();
+    mLockManager.lockRead(inode);
     long id = inode.getId();
     long parentId = inode.getParentId();
     String name = inode.getName();
-    inode.unlockRead();
+    mLockManager.unlockRead(inode);
 
     if (isRootId(id)) {
       builder.append(AlluxioURI.SEPARATOR);
@@ -426,7 +429,7 @@ public final class InodeTree implements JournalCheckpointStreamable {
       builder.append(AlluxioURI.SEPARATOR);
       builder.append(name);
     } else {
-      Inode<?> parentInode = mInodes.getFirst(parentId);
+      Inode<?> parentInode = mInodes.get(parentId);
       if (parentInode == null) {
         throw new FileDoesNotExistException(
             ExceptionMessage.INODE_DOES_NOT_EXIST.getMessage(parentId));
@@ -447,12 +450,20 @@ public final class InodeTree implements JournalCheckpointStreamable {
    * @throws FileDoesNotExistException if the path does not exist
    */
   public AlluxioURI getPath(Inode<?> inode) throws FileDoesNotExistException {
-    Preconditions.checkState(inode.isWriteLocked() || inode.isReadLocked());
+    Preconditions.checkState(
+        mLockManager.isWriteLocked(inode) || mLockManager.isReadLocked(inode));
     StringBuilder builder = new StringBuilder();
     computePathForInode(inode, builder);
     return new AlluxioURI(builder.toString());
   }
 
+  /**
+   * @return the manager of the locks of the inodes
+   */
+  public InodeLockManager getLockManager() {
+    return mLockManager;
+  }
+
   /**
    * @return the root inode
    */
@@ -460,6 +471,93 @@ public final class InodeTree implements JournalCheckpointStreamable {
     return mRoot;
   }
 
+  /**
+   * @param directory the locked directory
+   * @param name the name of the child
+   * @return the child with the given name, or null if there is no child with that name
+   */
+  public Inode<?> getChild(InodeDirectory directory, String name) {
+    Long childId = directory.getChildId(name);
+    return childId == null ? null : mInodes.get(childId);
+  }
+
+  /**
+   * @param directory the locked directory
+   * @return an unmodifiable set of the children of the directory
+   */
+  public Set<Inode<?>> getChildren(InodeDirectory directory) {
+    ImmutableSet.Builder<Inode<?>> children = ImmutableSet.builder();
+    for (long childId : directory.getChildrenIds()) {
+      Inode<?> child = mInodes.get(childId);
+      if (child != null) {
+        children.add(child);
+      }
+    }
+    return children.build();
+  }
+
+  /**
+   * Returns the children of a directory, looked up in the inode store only as the iteration
+   * reaches them, so that the children of a large directory are not all loaded on heap at once.
+   *
+   * @param directory the locked directory
+   * @return the children of the directory
+   */
+  public Iterable<Inode<?>> iterateChildren(InodeDirectory directory) {
+    return lookUpLazily(directory.getChildrenIds());
+  }
+
+  /**
+   * Returns a page of the children of a directory sorted by name. The page is selected from the
+   * names indexed by the directory, without sorting all of them, so that only the children in the
+   * page are looked up in the inode store.
+   *
+   * @param directory the locked directory
+   * @param startAfter the name after which the page starts, or null to start at the first child
+   * @param offset the number of children to skip after {@code startAfter}
+   * @param limit the maximum number of children in the page, or 0 for no limit
+   * @return the children in the page, sorted by name
+   */
+  public Iterable<Inode<?>> iterateChildren(InodeDirectory directory, String startAfter,
+      int offset, int limit) {
+    long size = limit == 0 ? Long.MAX_VALUE : (long) offset + limit;
+    // The first names after the cursor, with the largest one at the head.
+    PriorityQueue<String> page = new PriorityQueue<>(11, Collections.<String>reverseOrder());
+    for (InodeName childName : directory.getChildIdsByName().keySet()) {
+      String name = childName.toString();
+      if (startAfter != null && name.compareTo(startAfter) <= 0) {
+        continue;
+      }
+      page.add(name);
+      if (page.size() > size) {
+        page.poll();
+      }
+    }
+    List<String> names = new ArrayList<>(page);
+    Collections.sort(names);
+    List<Long> childIds = new ArrayList<>();
+    for (String name : names.subList(Math.min(offset, names.size()), names.size())) {
+      Long childId = directory.getChildId(name);
+      if (childId != null) {
+        childIds.add(childId);
+      }
+    }
+    return lookUpLazily(childIds);
+  }
+
+  /**
+   * @param ids the ids of inodes
+   * @return the inodes with the given ids which exist, looked up as the iteration reaches them
+   */
+  private Iterable<Inode<?>> lookUpLazily(Iterable<Long> ids) {
+    return Iterables.filter(Iterables.transform(ids, new Function<Long, Inode<?>>() {
+      @Override
+      public Inode<?> apply(Long id) {
+        return mInodes.get(id);
+      }
+    }), Predicates.notNull());
+  }
+
   /**
    * Creates a file or directory at path.
    *
@@ -541,7 +639,7 @@ public final class InodeTree implements JournalCheckpointStreamable {
       toPersistDirectories.addAll(traversalResult.getNonPersisted());
       existingNonPersisted.addAll(traversalResult.getNonPersisted());
     }
-    if (pathIndex < (pathComponents.length - 1) || currentInodeDirectory.getChild(name) == null) {
+    if (pathIndex < (pathComponents.length - 1) || getChild(currentInodeDirectory, name) == null) {
       // (1) There are components in parent paths that need to be created. Or
       // (2) The last component of the path needs to be created.
       // In these two cases, the last traversed Inode will be modified.
@@ -570,7 +668,8 @@ public final class InodeTree implements JournalCheckpointStreamable {
         toPersistDirectories.add(dir);
       }
       createdInodes.add(dir);
-      mInodes.add(dir);
+      addInode(dir);
+      updateAncestorSummaries(currentInodeDirectory.getId(), dir.getSubtreeSummary());
       currentInodeDirectory = dir;
     }
 
@@ -578,7 +677,7 @@ public final class InodeTree implements JournalCheckpointStreamable {
     // here with that name. If there is an existing file that is a directory and we're creating a
     // directory, update persistence property of the directories if needed, otherwise, throw
     // FileAlreadyExistsException unless options.allowExists is true.
-    Inode<?> lastInode = currentInodeDirectory.getChild(name);
+    Inode<?> lastInode = getChild(currentInodeDirectory, name);
     if (lastInode != null) {
       // Lock the last inode before subsequent operations, and add it to the lock group.
       lockList.lockWrite(lastInode);
@@ -620,9 +719,10 @@ public final class InodeTree implements JournalCheckpointStreamable {
       lastInode.setPinned(currentInodeDirectory.isPinned());
 
       createdInodes.add(lastInode);
-      mInodes.add(lastInode);
+      addInode(lastInode);
       currentInodeDirectory.addChild(lastInode);
       currentInodeDirectory.setLastModificationTimeMs(options.getOperationTimeMs());
+      updateAncestorSummaries(currentInodeDirectory.getId(), lastInode.getSubtreeSummary());
     }
 
     if (toPersistDirectories.size() > 0) {
@@ -678,7 +778,7 @@ public final class InodeTree implements JournalCheckpointStreamable {
   public InodeLockList lockDescendants(LockedInodePath inodePath, LockMode lockMode)
       throws FileDoesNotExistException {
     Inode<?> inode = inodePath.getInode();
-    InodeLockList inodeGroup = new InodeLockList();
+    InodeLockList inodeGroup = new InodeLockList(mLockManager);
     if (!inode.isDirectory()) {
       return inodeGroup;
     }
@@ -687,7 +787,7 @@ public final class InodeTree implements JournalCheckpointStreamable {
 
   private InodeLockList lockDescendantsInternal(InodeDirectory inodeDirectory,
       LockMode lockMode, InodeLockList inodeGroup) {
-    for (Inode<?> child : inodeDirectory.getChildren()) {
+    for (Inode<?> child : getChildren(inodeDirectory)) {
       if (lockMode == LockMode.READ) {
         inodeGroup.lockRead(child);
       } else {
@@ -710,27 +810,68 @@ public final class InodeTree implements JournalCheckpointStreamable {
   public void deleteInode(LockedInodePath inodePath, long opTimeMs)
       throws FileDoesNotExistException {
     Inode<?> inode = inodePath.getInode();
-    InodeDirectory parent = (InodeDirectory) mInodes.getFirst(inode.getParentId());
+    detachInode(inodePath, opTimeMs);
+    removeDetachedInode(inode);
+  }
+
+  /**
+   * Deletes a single inode from the inode tree by removing it from the parent inode.
+   *
+   * @param inodePath The {@link LockedInodePath} to delete
+   * @throws FileDoesNotExistException if the Inode cannot be retrieved
+   */
+  public void deleteInode(LockedInodePath inodePath) throws FileDoesNotExistException {
+    deleteInode(inodePath, System.currentTimeMillis());
+  }
+
+  /**
+   * Detaches an inode from its parent inode, so that the inode and its descendants are no longer
+   * reachable by path. The detached inodes stay in the tree until they are removed with
+   * {@link #removeDetachedInode(Inode)}.
+   *
+   * @param inodePath the {@link LockedInodePath} to detach
+   * @param opTimeMs the operation time
+   * @throws FileDoesNotExistException if the Inode cannot be retrieved
+   */
+  public void detachInode(LockedInodePath inodePath, long opTimeMs)
+      throws FileDoesNotExistException {
+    Inode<?> inode = inodePath.getInode();
+    InodeDirectory parent = (InodeDirectory) mInodes.get(inode.getParentId());
     if (parent == null) {
       throw new FileDoesNotExistException(
           ExceptionMessage.INODE_DOES_NOT_EXIST.getMessage(inode.getParentId()));
     }
+    updateAncestorSummaries(parent.getId(),
+        new SubtreeSummary().subtract(inode.getSubtreeSummary()));
     parent.removeChild(inode);
     parent.setLastModificationTimeMs(opTimeMs);
+    inode.setDeleted(true);
+  }
 
+  /**
+   * Removes an inode which was detached, either directly or as a descendant of a detached inode,
+   * from the inode tree. The inode must be write locked.
+   *
+   * @param inode the inode to remove
+   */
+  public void removeDetachedInode(Inode<?> inode) {
+    mEstimatedBytes.addAndGet(-inode.getEstimatedSizeBytes());
     mInodes.remove(inode);
     mPinnedInodeFileIds.remove(inode.getId());
     inode.setDeleted(true);
   }
 
   /**
-   * Deletes a single inode from the inode tree by removing it from the parent inode.
+   * Renames an inode. The inode must be write locked, and must not be a child of its parent while
+   * it is renamed.
    *
-   * @param inodePath The {@link LockedInodePath} to delete
-   * @throws FileDoesNotExistException if the Inode cannot be retrieved
+   * @param inode the inode to rename
+   * @param name the new name of the inode
    */
-  public void deleteInode(LockedInodePath inodePath) throws FileDoesNotExistException {
-    deleteInode(inodePath, System.currentTimeMillis());
+  public void rename(Inode<?> inode, String name) {
+    long previousBytes = inode.getEstimatedSizeBytes();
+    inode.setName(name);
+    mEstimatedBytes.addAndGet(inode.getEstimatedSizeBytes() - previousBytes);
   }
 
   /**
@@ -745,6 +886,7 @@ public final class InodeTree implements JournalCheckpointStreamable {
   public void setPinned(LockedInodePath inodePath, boolean pinned, long opTimeMs)
       throws FileDoesNotExistException {
     Inode<?> inode = inodePath.getInode();
+    SubtreeSummary previousSummary = inode.isFile() ? inode.getSubtreeSummary() : null;
     inode.setPinned(pinned);
     inode.setLastModificationTimeMs(opTimeMs);
 
@@ -754,17 +896,19 @@ public final class InodeTree implements JournalCheckpointStreamable {
       } else {
         mPinnedInodeFileIds.remove(inode.getId());
       }
+      updateAncestorSummaries(inode.getParentId(),
+          inode.getSubtreeSummary().subtract(previousSummary));
     } else {
       assert inode instanceof InodeDirectory;
       // inode is a directory. Set the pinned state for all children.
       TempInodePathForDescendant tempInodePath = new TempInodePathForDescendant(inodePath);
-      for (Inode<?> child : ((InodeDirectory) inode).getChildren()) {
-        child.lockWrite();
+      for (Inode<?> child : getChildren((InodeDirectory) inode)) {
+        mLockManager.lockWrite(child);
         try {
           tempInodePath.setDescendant(child, getPath(child));
           setPinned(tempInodePath, pinned, opTimeMs);
         } finally {
-          child.unlockWrite();
+          mLockManager.unlockWrite(child);
         }
       }
     }
@@ -783,6 +927,29 @@ public final class InodeTree implements JournalCheckpointStreamable {
     setPinned(inodePath, pinned, System.currentTimeMillis());
   }
 
+  /**
+   * Adds a change of the summary of an inode to the summaries of all the directories containing
+   * it, up to the root. The caller must hold the locks of the path to the inode.
+   *
+   * @param parentId the id of the parent of the inode
+   * @param delta the change of the summary of the inode
+   */
+  public void updateAncestorSummaries(long parentId, SubtreeSummary delta) {
+    if (delta.isEmpty()) {
+      return;
+    }
+    long id = parentId;
+    while (id != NO_PARENT) {
+      Inode<?> directory = mInodes.get(id);
+      if (directory == null) {
+        // The directory has already been removed from the tree.
+        return;
+      }
+      ((InodeDirectory) directory).updateSubtreeSummary(delta);
+      id = directory.getParentId();
+    }
+  }
+
   /**
    * @return the set of file ids which are pinned
    */
@@ -803,13 +970,14 @@ public final class InodeTree implements JournalCheckpointStreamable {
   public void streamToJournalCheckpoint(JournalOutputStream outputStream) throws IOException {
     // Write tree via breadth-first traversal, so that during deserialization, it may be more
     // efficient than depth-first during deserialization due to parent directory's locality.
-    Queue<Inode<?>> inodes = new LinkedList<>();
-    inodes.add(mRoot);
-    while (!inodes.isEmpty()) {
-      Inode<?> inode = inodes.poll();
+    // Only the ids are queued, so that the inode store may evict the inodes meanwhile.
+    Queue<Long> inodeIds = new LinkedList<>();
+    inodeIds.add(mRoot.getId());
+    while (!inodeIds.isEmpty()) {
+      Inode<?> inode = mInodes.get(inodeIds.poll());
       outputStream.writeEntry(inode.toJournalEntry());
       if (inode.isDirectory()) {
-        inodes.addAll(((InodeDirectory) inode).getChildren());
+        inodeIds.addAll(((InodeDirectory) inode).getChildrenIds());
       }
     }
   }
@@ -841,6 +1009,7 @@ public final class InodeTree implements JournalCheckpointStreamable {
               ExceptionMessage.PERMISSION_DENIED.getMessage("Unauthorized user on root"));
         }
         mInodes.clear();
+        mEstimatedBytes.set(0);
         mPinnedInodeFileIds.clear();
         mRoot = directory;
         // If journal entry has no security enabled, change the replayed inode permission to be 0777
@@ -849,8 +1018,7 @@ public final class InodeTree implements JournalCheckpointStreamable {
             && mRoot.getGroup().isEmpty()) {
           mRoot.setPermission(Constants.DEFAULT_FILE_SYSTEM_MODE);
         }
-        mCachedInode = mRoot;
-        mInodes.add(mRoot);
+        addInode(mRoot);
       } else {
         addInodeFromJournalInternal(directory);
       }
@@ -859,6 +1027,16 @@ public final class InodeTree implements JournalCheckpointStreamable {
     }
   }
 
+  /**
+   * Adds an inode to the inode store, and to the estimate of the heap bytes of the inodes.
+   *
+   * @param inode the inode to add
+   */
+  private void addInode(Inode<?> inode) {
+    mEstimatedBytes.addAndGet(inode.getEstimatedSizeBytes());
+    mInodes.add(inode);
+  }
+
   /**
    * Adds a given inode into the inode tree, by adding the inode to its parent. Also updates the
    * appropriate inode indexes.
@@ -866,16 +1044,9 @@ public final class InodeTree implements JournalCheckpointStreamable {
    * @param inode the inode to add to the inode tree
    */
   private void addInodeFromJournalInternal(Inode<?> inode) {
-    InodeDirectory parentDirectory = mCachedInode;
-    if (inode.getParentId() != mCachedInode.getId()) {
-      parentDirectory = (InodeDirectory) mInodes.getFirst(inode.getParentId());
-      mCachedInode = parentDirectory;
-    }
-    parentDirectory.addChild(inode);
-    mInodes.add(inode);
     // If journal entry has no security enabled, change the replayed inode permission to be 0777
     // for backwards-compatibility.
-    if (SecurityUtils.isSecurityEnabled() && inode != null && inode.getOwner().isEmpty()
+    if (SecurityUtils.isSecurityEnabled() && inode.getOwner().isEmpty()
         && inode.getGroup().isEmpty()) {
       inode.setPermission(Constants.DEFAULT_FILE_SYSTEM_MODE);
     }
@@ -883,12 +1054,46 @@ public final class InodeTree implements JournalCheckpointStreamable {
     if (inode.isFile() && inode.isPinned()) {
       mPinnedInodeFileIds.add(inode.getId());
     }
+    // The paths are not locked while the journal is replayed, so the parent and the ancestors
+    // modified here are locked to pin them, and the inode under its parent, in the inode store.
+    SubtreeSummary summary = inode.getSubtreeSummary();
+    List<Inode<?>> ancestors = pinAncestors(inode.getParentId());
+    try {
+      addInode(inode);
+      ((InodeDirectory) ancestors.get(0)).addChild(inode);
+      updateAncestorSummaries(inode.getParentId(), summary);
+    } finally {
+      for (Inode<?> ancestor : ancestors) {
+        mLockManager.unlockRead(ancestor);
+      }
+    }
+  }
+
+  /**
+   * Read locks a directory and its ancestors, so that the inode store does not evict them while
+   * they are modified by a journal entry. The modifications of the directories mark them as
+   * modified, so they do not need the write locks, which a thread holding the read locks of the
+   * path could not acquire.
+   *
+   * @param directoryId the id of the directory
+   * @return the locked directory followed by its locked ancestors
+   */
+  private List<Inode<?>> pinAncestors(long directoryId) {
+    List<Inode<?>> ancestors = new ArrayList<>();
+    long id = directoryId;
+    while (id != NO_PARENT) {
+      Inode<?> ancestor = mInodes.get(id);
+      mLockManager.lockRead(ancestor);
+      ancestors.add(ancestor);
+      id = ancestor.getParentId();
+    }
+    return ancestors;
   }
 
   @Override
   public int hashCode() {
     return Objects.hashCode(mRoot, mInodes, mPinnedInodeFileIds, mContainerIdGenerator,
-        mDirectoryIdGenerator, mCachedInode);
+        mDirectoryIdGenerator);
   }
 
   @Override
@@ -904,8 +1109,7 @@ public final class InodeTree implements JournalCheckpointStreamable {
         && Objects.equal(mInodes, that.mInodes)
         && Objects.equal(mPinnedInodeFileIds, that.mPinnedInodeFileIds)
         && Objects.equal(mContainerIdGenerator, that.mContainerIdGenerator)
-        && Objects.equal(mDirectoryIdGenerator, that.mDirectoryIdGenerator)
-        && Objects.equal(mCachedInode, that.mCachedInode);
+        && Objects.equal(mDirectoryIdGenerator, that.mDirectoryIdGenerator);
   }
 
   /**
@@ -924,7 +1128,7 @@ public final class InodeTree implements JournalCheckpointStreamable {
       throws InvalidPathException {
     List<Inode<?>> nonPersistedInodes = new ArrayList<>();
     List<Inode<?>> inodes = new ArrayList<>();
-    InodeLockList lockList = new InodeLockList();
+    InodeLockList lockList = new InodeLockList(mLockManager);
 
     // This must be set to true before returning a valid value, otherwise all the inodes will be
     // unlocked.
@@ -1005,7 +1209,7 @@ public final class InodeTree implements JournalCheckpointStreamable {
       throws InvalidPathException {
     Inode<?> current = inodes.get(inodes.size() - 1);
     for (int i = inodes.size(); i < pathComponents.length; i++) {
-      Inode<?> next = ((InodeDirectory) current).getChild(pathComponents[i]);
+      Inode<?> next = getChild((InodeDirectory) current, pathComponents[i]);
       if (next == null) {
         // true if the lock is allowed to be upgraded.
         boolean upgradeAllowed = true;
@@ -1023,7 +1227,7 @@ public final class InodeTree implements JournalCheckpointStreamable {
           // looking for has not been created in the meantime.
           lockList.unlockLast();
           lockList.lockWrite(current);
-          Inode recheckNext = ((InodeDirectory) current).getChild(pathComponents[i]);
+          Inode recheckNext = getChild((InodeDirectory) current, pathComponents[i]);
           if (recheckNext != null) {
             // When releasing the lock and reacquiring the lock, another thread inserted the node we
             // are looking for. Use this existing next node.
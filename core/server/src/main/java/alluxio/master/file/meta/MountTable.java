@@ -12,7 +12,9 @@
 package alluxio.master.file.meta;
 
 import alluxio.AlluxioURI;
+import alluxio.Configuration;
 import alluxio.Constants;
+import alluxio.PropertyKey;
 import alluxio.exception.AccessControlException;
 import alluxio.exception.ExceptionMessage;
 import alluxio.exception.FileAlreadyExistsException;
@@ -240,12 +242,29 @@ public final class MountTable implements JournalCheckpointStreamable {
         UnderFileSystem ufs = UnderFileSystem.get(ufsUri.toString());
         ufs.setProperties(info.getOptions().getProperties());
         AlluxioURI resolvedUri = ufs.resolveUri(ufsUri, path.substring(mountPoint.length()));
-        return new Resolution(resolvedUri, ufs, info.getOptions().isShared());
+        return new Resolution(resolvedUri, ufs, info.getOptions().isShared(),
+            getAbsentPathCacheTtlMs(info.getOptions()));
       }
-      return new Resolution(uri, null, false);
+      return new Resolution(uri, null, false, 0);
     }
   }
 
+  /**
+   * Gets the time during which the under file system paths of a mount point are remembered not to
+   * exist. The value set in the properties of the mount overrides the configured value.
+   *
+   * @param options the options of the mount point
+   * @return the time in milliseconds, 0 if absent paths are not remembered
+   * @throws NumberFormatException if the value set in the properties of the mount is not a number
+   */
+  public static long getAbsentPathCacheTtlMs(MountOptions options) {
+    String ttl = options.getProperties().get(PropertyKey.Name.MASTER_UFS_ABSENT_PATH_CACHE_TTL_MS);
+    if (ttl == null) {
+      return Configuration.getLong(PropertyKey.MASTER_UFS_ABSENT_PATH_CACHE_TTL_MS);
+    }
+    return Long.parseLong(ttl.trim());
+  }
+
   /**
    * Checks to see if a write operation is allowed for the specified Alluxio path, by determining
    * if it is under a readonly mount point.
@@ -274,11 +293,14 @@ public final class MountTable implements JournalCheckpointStreamable {
     private final AlluxioURI mUri;
     private final UnderFileSystem mUfs;
     private final boolean mShared;
+    private final long mAbsentPathCacheTtlMs;
 
-    private Resolution(AlluxioURI uri, UnderFileSystem ufs, boolean shared) {
+    private Resolution(AlluxioURI uri, UnderFileSystem ufs, boolean shared,
+        long absentPathCacheTtlMs) {
       mUri = uri;
       mUfs = ufs;
       mShared = shared;
+      mAbsentPathCacheTtlMs = absentPathCacheTtlMs;
     }
 
     /**
@@ -301,5 +323,13 @@ public final class MountTable implements JournalCheckpointStreamable {
     public boolean getShared() {
       return mShared;
     }
+
+    /**
+     * @return the time in milliseconds during which the ufs path is remembered not to exist, 0 if
+     *         it is not remembered
+     */
+    public long getAbsentPathCacheTtlMs() {
+      return mAbsentPathCacheTtlMs;
+    }
   }
 }
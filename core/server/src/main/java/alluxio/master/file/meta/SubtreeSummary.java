@@ -0,0 +1,175 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.master.file.meta;
+
+import alluxio.wire.ContentSummary;
+
+import com.google.common.base.Objects;
+
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * The aggregated sizes and counts of an inode and all its descendants. The summary of a directory
+ * is maintained incrementally as its descendants change, so that it can be read without walking
+ * the subtree. It is also used to represent a change of such a summary.
+ */
+@NotThreadSafe
+public final class SubtreeSummary {
+  private long mFileCount;
+  private long mDirectoryCount;
+  private long mLength;
+  private long mInAlluxioLength;
+  private long mPinnedLength;
+
+  /**
+   * Creates a new instance of {@link SubtreeSummary} with all its counters set to 0.
+   */
+  public SubtreeSummary() {}
+
+  /**
+   * Creates a new instance of {@link SubtreeSummary}.
+   *
+   * @param fileCount the number of files
+   * @param directoryCount the number of directories
+   * @param length the total length of the files in bytes
+   * @param inAlluxioLength the number of bytes of the files which are stored in Alluxio
+   * @param pinnedLength the total length of the pinned files in bytes
+   */
+  public SubtreeSummary(long fileCount, long directoryCount, long length, long inAlluxioLength,
+      long pinnedLength) {
+    mFileCount = fileCount;
+    mDirectoryCount = directoryCount;
+    mLength = length;
+    mInAlluxioLength = inAlluxioLength;
+    mPinnedLength = pinnedLength;
+  }
+
+  /**
+   * @return the number of files
+   */
+  public long getFileCount() {
+    return mFileCount;
+  }
+
+  /**
+   * @return the number of directories
+   */
+  public long getDirectoryCount() {
+    return mDirectoryCount;
+  }
+
+  /**
+   * @return the total length of the files in bytes
+   */
+  public long getLength() {
+    return mLength;
+  }
+
+  /**
+   * @return the number of bytes of the files which are stored in Alluxio
+   */
+  public long getInAlluxioLength() {
+    return mInAlluxioLength;
+  }
+
+  /**
+   * @return the total length of the pinned files in bytes
+   */
+  public long getPinnedLength() {
+    return mPinnedLength;
+  }
+
+  /**
+   * Adds the counters of another summary to the counters of this summary.
+   *
+   * @param other the summary to add
+   * @return the updated object
+   */
+  public SubtreeSummary add(SubtreeSummary other) {
+    mFileCount += other.mFileCount;
+    mDirectoryCount += other.mDirectoryCount;
+    mLength += other.mLength;
+    mInAlluxioLength += other.mInAlluxioLength;
+    mPinnedLength += other.mPinnedLength;
+    return this;
+  }
+
+  /**
+   * Subtracts the counters of another summary from the counters of this summary.
+   *
+   * @param other the summary to subtract
+   * @return the updated object
+   */
+  public SubtreeSummary subtract(SubtreeSummary other) {
+    mFileCount -= other.mFileCount;
+    mDirectoryCount -= other.mDirectoryCount;
+    mLength -= other.mLength;
+    mInAlluxioLength -= other.mInAlluxioLength;
+    mPinnedLength -= other.mPinnedLength;
+    return this;
+  }
+
+  /**
+   * @return a copy of this summary
+   */
+  public SubtreeSummary copy() {
+    return new SubtreeSummary(mFileCount, mDirectoryCount, mLength, mInAlluxioLength,
+        mPinnedLength);
+  }
+
+  /**
+   * @return true if all the counters are 0, false otherwise
+   */
+  public boolean isEmpty() {
+    return mFileCount == 0 && mDirectoryCount == 0 && mLength == 0 && mInAlluxioLength == 0
+        && mPinnedLength == 0;
+  }
+
+  /**
+   * @return the {@link ContentSummary} representation of this summary
+   */
+  public ContentSummary toContentSummary() {
+    return new ContentSummary()
+        .setFileCount(mFileCount)
+        .setDirectoryCount(mDirectoryCount)
+        .setLength(mLength)
+        .setInAlluxioLength(mInAlluxioLength)
+        .setPinnedLength(mPinnedLength);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof SubtreeSummary)) {
+      return false;
+    }
+    SubtreeSummary that = (SubtreeSummary) o;
+    return mFileCount == that.mFileCount && mDirectoryCount == that.mDirectoryCount
+        && mLength == that.mLength && mInAlluxioLength == that.mInAlluxioLength
+        && mPinnedLength == that.mPinnedLength;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hashCode(mFileCount, mDirectoryCount, mLength, mInAlluxioLength,
+        mPinnedLength);
+  }
+
+  @Override
+  public String toString() {
+    return Objects.toStringHelper(this).add("fileCount", mFileCount)
+        .add("directoryCount", mDirectoryCount).add("length", mLength)
+        .add("inAlluxioLength", mInAlluxioLength).add("pinnedLength", mPinnedLength).toString();
+  }
+}
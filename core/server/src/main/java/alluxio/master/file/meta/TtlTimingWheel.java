@@ -0,0 +1,337 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.master.file.meta;
+
+import alluxio.Configuration;
+import alluxio.Constants;
+import alluxio.PropertyKey;
+
+import com.google.common.base.Preconditions;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * A hierarchical timing wheel indexing the files with a ttl by their expiration time.
+ *
+ * The wheel only stores inode ids and expiration times, never inodes. Time is divided in ticks of
+ * the ttl checking interval. The wheel has {@link #LEVELS} levels of {@link #WHEEL_SIZE} slots:
+ * a slot of level 0 holds the files expiring during one tick, a slot of level 1 holds the files
+ * expiring during {@link #WHEEL_SIZE} ticks, and so on. Files expiring after the last level are
+ * kept in an overflow map. When the wheel advances to a new tick, the slots of the higher levels
+ * starting at that tick are cascaded into the lower levels, so that inserting, removing and
+ * expiring a file all take constant time.
+ *
+ * A file is expired once the whole tick containing its expiration time has passed, which is the
+ * same as the file's expiration time being at least one checking interval in the past. Expired
+ * files are moved to a queue, from which they are polled in batches by the ttl checker.
+ *
+ * Removed files are only removed from the id index and the expired queue; their entries in the
+ * slots are dropped when the slots are reached.
+ */
+@ThreadSafe
+public final class TtlTimingWheel {
+  /** The number of bits of a tick indexing the slots of a level. */
+  private static final int LEVEL_BITS = 6;
+  /** The number of slots of each level of the wheel. */
+  private static final int WHEEL_SIZE = 1 << LEVEL_BITS;
+  /** The number of levels of the wheel. */
+  private static final int LEVELS = 4;
+
+  /** The ttl checking interval, which is the duration of a tick. */
+  private static long sTtlIntervalMs =
+      Configuration.getLong(PropertyKey.MASTER_TTL_CHECKER_INTERVAL_MS);
+
+  /** The ttl checking interval in milliseconds, 0 to expire files as soon as their ttl ends. */
+  private final long mIntervalMs;
+  /** The duration of a tick in milliseconds. */
+  private final long mTickMs;
+  /** The expiration times of the files in the wheel, keyed by inode id. */
+  private final Map<Long, Long> mExpirationTimes = new HashMap<>();
+  /** The slots of each level, holding inode ids. */
+  private final List<List<Set<Long>>> mLevels = new ArrayList<>(LEVELS);
+  /** The number of entries in the slots of each level, including entries of removed files. */
+  private final int[] mLevelSizes = new int[LEVELS];
+  /** The files expiring after the last level, keyed by tick >> (LEVEL_BITS * LEVELS). */
+  private final Map<Long, Set<Long>> mOverflow = new HashMap<>();
+  /** The expiration times of the expired files not polled yet, in expiration order. */
+  private final LinkedHashMap<Long, Long> mExpired = new LinkedHashMap<>();
+  /** The first tick which has not been expired yet. */
+  private long mCurrentTick;
+
+  /**
+   * Creates a new {@link TtlTimingWheel} starting at the current time with the configured ttl
+   * checking interval.
+   */
+  public TtlTimingWheel() {
+    this(sTtlIntervalMs, System.currentTimeMillis());
+  }
+
+  /**
+   * Creates a new {@link TtlTimingWheel}.
+   *
+   * @param intervalMs the ttl checking interval in milliseconds
+   * @param startTimeMs the time the wheel starts at, files expired at that time are expired
+   *        immediately when inserted
+   */
+  public TtlTimingWheel(long intervalMs, long startTimeMs) {
+    Preconditions.checkArgument(intervalMs >= 0,
+        "The ttl checking interval should not be negative");
+    mIntervalMs = intervalMs;
+    mTickMs = Math.max(1, intervalMs);
+    for (int i = 0; i < LEVELS; i++) {
+      List<Set<Long>> slots = new ArrayList<>(WHEEL_SIZE);
+      for (int j = 0; j < WHEEL_SIZE; j++) {
+        slots.add(new HashSet<Long>());
+      }
+      mLevels.add(slots);
+    }
+    mCurrentTick = getLastExpiredTick(startTimeMs) + 1;
+  }
+
+  /**
+   * @return the ttl checking interval in milliseconds used by new wheels
+   */
+  public static long getTtlIntervalMs() {
+    return sTtlIntervalMs;
+  }
+
+  /**
+   * Inserts a file in the wheel, replacing its previous expiration time if it is already in the
+   * wheel. If its ttl is {@link Constants#NO_TTL}, the file is removed from the wheel instead.
+   *
+   * @param file the file to insert
+   */
+  public void insert(InodeFile file) {
+    if (file.getTtl() == Constants.NO_TTL) {
+      remove(file.getId());
+    } else {
+      insert(file.getId(), file.getCreationTimeMs() + file.getTtl());
+    }
+  }
+
+  /**
+   * Inserts a file in the wheel, replacing its previous expiration time if it is already in the
+   * wheel.
+   *
+   * @param inodeId the inode id of the file
+   * @param expirationTimeMs the time the ttl of the file ends
+   */
+  public synchronized void insert(long inodeId, long expirationTimeMs) {
+    mExpired.remove(inodeId);
+    mExpirationTimes.put(inodeId, expirationTimeMs);
+    place(inodeId, getTick(expirationTimeMs));
+  }
+
+  /**
+   * Removes a file from the wheel, if it is in the wheel.
+   *
+   * @param inodeId the inode id of the file
+   */
+  public synchronized void remove(long inodeId) {
+    if (mExpirationTimes.remove(inodeId) == null) {
+      mExpired.remove(inodeId);
+    }
+  }
+
+  /**
+   * Advances the wheel to a given time, moving the files expired at that time to the queue of
+   * expired files.
+   *
+   * @param timeMs the time to advance to
+   */
+  public synchronized void advance(long timeMs) {
+    long lastTick = getLastExpiredTick(timeMs);
+    while (mCurrentTick <= lastTick) {
+      if (mLevelSizes[0] > 0) {
+        Set<Long> slot = mLevels.get(0).get(getSlot(mCurrentTick, 0));
+        mLevelSizes[0] -= slot.size();
+        for (long inodeId : slot) {
+          Long expirationTimeMs = mExpirationTimes.get(inodeId);
+          if (expirationTimeMs != null && getTick(expirationTimeMs) <= mCurrentTick) {
+            expire(inodeId, expirationTimeMs);
+          }
+        }
+        slot.clear();
+        mCurrentTick++;
+      } else {
+        // Nothing happens before the next slot of the lowest non-empty level.
+        int level = 1;
+        while (level < LEVELS && mLevelSizes[level] == 0) {
+          level++;
+        }
+        if (level == LEVELS && mOverflow.isEmpty()) {
+          mCurrentTick = lastTick + 1;
+          break;
+        }
+        long span = 1L << (LEVEL_BITS * level);
+        mCurrentTick = Math.min(lastTick + 1, (mCurrentTick / span + 1) * span);
+      }
+      cascade();
+    }
+  }
+
+  /**
+   * Polls expired files from the wheel, in the order of their expiration.
+   *
+   * @param maxFiles the maximum number of files to poll
+   * @return the inode ids of the expired files, empty if no file is expired
+   */
+  public synchronized List<Long> pollExpired(int maxFiles) {
+    List<Long> expired = new ArrayList<>(Math.min(maxFiles, mExpired.size()));
+    Iterator<Long> iterator = mExpired.keySet().iterator();
+    while (expired.size() < maxFiles && iterator.hasNext()) {
+      expired.add(iterator.next());
+      iterator.remove();
+    }
+    return expired;
+  }
+
+  /**
+   * @return the number of files in the wheel, including the expired files not polled yet
+   */
+  public synchronized int getNumFiles() {
+    return mExpirationTimes.size() + mExpired.size();
+  }
+
+  /**
+   * @return the number of expired files not polled yet
+   */
+  public synchronized int getNumExpired() {
+    return mExpired.size();
+  }
+
+  /**
+   * @param timeMs the current time
+   * @return the time elapsed since the expiration of the oldest expired file not polled yet, 0 if
+   *         all expired files are polled
+   */
+  public synchronized long getLagMs(long timeMs) {
+    if (mExpired.isEmpty()) {
+      return 0;
+    }
+    return Math.max(0, timeMs - mExpired.values().iterator().next());
+  }
+
+  /**
+   * Moves the files of the slots starting at the current tick to the lower levels, starting from
+   * the highest level.
+   */
+  private void cascade() {
+    int topShift = LEVEL_BITS * LEVELS;
+    if (mCurrentTick % (1L << topShift) == 0) {
+      Set<Long> overflow = mOverflow.remove(mCurrentTick >>> topShift);
+      if (overflow != null) {
+        replace(overflow, topShift);
+      }
+    }
+    for (int level = LEVELS - 1; level > 0; level--) {
+      int shift = LEVEL_BITS * level;
+      if (mCurrentTick % (1L << shift) == 0) {
+        Set<Long> slot = mLevels.get(level).get(getSlot(mCurrentTick, level));
+        mLevelSizes[level] -= slot.size();
+        replace(slot, shift);
+        slot.clear();
+      }
+    }
+  }
+
+  /**
+   * Places again the files of a cascaded slot, dropping the entries of removed files and the stale
+   * entries of files whose expiration time changed.
+   *
+   * @param inodeIds the inode ids of the slot
+   * @param shift the number of low bits of the ticks of the files in the slot
+   */
+  private void replace(Set<Long> inodeIds, int shift) {
+    for (long inodeId : inodeIds) {
+      Long expirationTimeMs = mExpirationTimes.get(inodeId);
+      if (expirationTimeMs != null
+          && getTick(expirationTimeMs) >>> shift == mCurrentTick >>> shift) {
+        place(inodeId, getTick(expirationTimeMs));
+      }
+    }
+  }
+
+  /**
+   * Places a file in the lowest level whose slots cover its expiration tick.
+   *
+   * @param inodeId the inode id of the file
+   * @param tick the tick the file expires at
+   */
+  private void place(long inodeId, long tick) {
+    if (tick < mCurrentTick) {
+      expire(inodeId, mExpirationTimes.get(inodeId));
+      return;
+    }
+    for (int level = 0; level < LEVELS; level++) {
+      int shift = LEVEL_BITS * (level + 1);
+      if (tick >>> shift == mCurrentTick >>> shift) {
+        if (mLevels.get(level).get(getSlot(tick, level)).add(inodeId)) {
+          mLevelSizes[level]++;
+        }
+        return;
+      }
+    }
+    long key = tick >>> (LEVEL_BITS * LEVELS);
+    Set<Long> overflow = mOverflow.get(key);
+    if (overflow == null) {
+      overflow = new HashSet<>();
+      mOverflow.put(key, overflow);
+    }
+    overflow.add(inodeId);
+  }
+
+  /**
+   * Moves a file from the wheel to the queue of expired files.
+   *
+   * @param inodeId the inode id of the file
+   * @param expirationTimeMs the time the ttl of the file ends
+   */
+  private void expire(long inodeId, long expirationTimeMs) {
+    mExpirationTimes.remove(inodeId);
+    mExpired.put(inodeId, expirationTimeMs);
+  }
+
+  /**
+   * @param timeMs a time
+   * @return the last tick which is expired at that time
+   */
+  private long getLastExpiredTick(long timeMs) {
+    return getTick(timeMs - mIntervalMs);
+  }
+
+  /**
+   * @param timeMs a time
+   * @return the tick containing the time
+   */
+  private long getTick(long timeMs) {
+    return Math.max(0, timeMs) / mTickMs;
+  }
+
+  /**
+   * @param tick a tick
+   * @param level a level of the wheel
+   * @return the index of the slot of the level containing the tick
+   */
+  private static int getSlot(long tick, int level) {
+    return (int) ((tick >>> (LEVEL_BITS * level)) & (WHEEL_SIZE - 1));
+  }
+}
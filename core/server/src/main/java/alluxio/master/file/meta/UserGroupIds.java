@@ -0,0 +1,79 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.master.file.meta;
+
+import com.google.common.base.Preconditions;
+import io.netty.util.internal.chmv8.ConcurrentHashMapV8;
+
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Interns the owners and groups of the inodes, so that each inode only stores their ids. Almost
+ * all the inodes share a handful of owners and groups, so the ids are never released.
+ */
+@ThreadSafe
+final class UserGroupIds {
+  private final ConcurrentMap<String, Integer> mIds = new ConcurrentHashMapV8<>();
+  /**
+   * The names indexed by id, replaced by a larger copy when it is full. A published array is only
+   * written through its atomic setters, so the readers of an older copy still see its names.
+   */
+  private volatile AtomicReferenceArray<String> mNames = new AtomicReferenceArray<>(16);
+  /** The number of ids, guarded by this object. */
+  private int mNumIds;
+
+  /**
+   * Creates a new instance of {@link UserGroupIds}.
+   */
+  UserGroupIds() {}
+
+  /**
+   * @param name the name of a user or a group
+   * @return the id of the name, allocated if the name did not have an id yet
+   */
+  int getId(String name) {
+    Integer id = mIds.get(Preconditions.checkNotNull(name));
+    if (id != null) {
+      return id;
+    }
+    synchronized (this) {
+      id = mIds.get(name);
+      if (id == null) {
+        id = mNumIds++;
+        AtomicReferenceArray<String> names = mNames;
+        if (id == names.length()) {
+          AtomicReferenceArray<String> grown = new AtomicReferenceArray<>(names.length() * 2);
+          for (int i = 0; i < id; i++) {
+            grown.set(i, names.get(i));
+          }
+          names = grown;
+        }
+        names.set(id, name);
+        mNames = names;
+        // The name is stored before the id is published.
+        mIds.put(name, id);
+      }
+      return id;
+    }
+  }
+
+  /**
+   * @param id an id returned by {@link #getId(String)}
+   * @return the name of the user or group with the id
+   */
+  String getName(int id) {
+    return mNames.get(id);
+  }
+}
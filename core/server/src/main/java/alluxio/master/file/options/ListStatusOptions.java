@@ -15,6 +15,7 @@ import alluxio.thrift.ListStatusTOptions;
 import alluxio.wire.LoadMetadataType;
 
 import com.google.common.base.Objects;
+import com.google.common.base.Preconditions;
 
 import javax.annotation.concurrent.NotThreadSafe;
 
@@ -24,6 +25,9 @@ import javax.annotation.concurrent.NotThreadSafe;
 @NotThreadSafe
 public final class ListStatusOptions {
   private LoadMetadataType mLoadMetadataType;
+  private String mStartAfter;
+  private int mOffset;
+  private int mLimit;
 
   /**
    * @return the default {@link ListStatusOptions}
@@ -69,6 +73,74 @@ public final class ListStatusOptions {
     return this;
   }
 
+  /**
+   * @return the name after which the children of a directory are listed, or null to list from the
+   *         first child
+   */
+  public String getStartAfter() {
+    return mStartAfter;
+  }
+
+  /**
+   * Sets the cursor of a paged listing. The children of a directory whose names come after the
+   * given name are listed, sorted by name.
+   *
+   * @param startAfter the name of the last child of the previous page, or null for the first page
+   * @return the updated options
+   */
+  public ListStatusOptions setStartAfter(String startAfter) {
+    mStartAfter = startAfter;
+    return this;
+  }
+
+  /**
+   * @return the number of children, sorted by name, to skip after the cursor
+   */
+  public int getOffset() {
+    return mOffset;
+  }
+
+  /**
+   * Sets the number of children to skip in a paged listing. The children of a directory are
+   * sorted by name and the given number of them are skipped.
+   *
+   * @param offset the number of children to skip
+   * @return the updated options
+   */
+  public ListStatusOptions setOffset(int offset) {
+    Preconditions.checkArgument(offset >= 0, "The offset should not be negative");
+    mOffset = offset;
+    return this;
+  }
+
+  /**
+   * @return the maximum number of children to list, 0 for no limit
+   */
+  public int getLimit() {
+    return mLimit;
+  }
+
+  /**
+   * Sets the size of the page of a paged listing. The children of a directory are sorted by name
+   * and at most the given number of them are listed.
+   *
+   * @param limit the maximum number of children to list, 0 for no limit
+   * @return the updated options
+   */
+  public ListStatusOptions setLimit(int limit) {
+    Preconditions.checkArgument(limit >= 0, "The limit should not be negative");
+    mLimit = limit;
+    return this;
+  }
+
+  /**
+   * @return true if a page of the children sorted by name is listed, false if all the children are
+   *         listed in no particular order
+   */
+  public boolean isPaged() {
+    return mStartAfter != null || mOffset > 0 || mLimit > 0;
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o) {
@@ -78,18 +150,24 @@ public final class ListStatusOptions {
       return false;
     }
     ListStatusOptions that = (ListStatusOptions) o;
-    return Objects.equal(mLoadMetadataType, that.mLoadMetadataType);
+    return Objects.equal(mLoadMetadataType, that.mLoadMetadataType)
+        && Objects.equal(mStartAfter, that.mStartAfter)
+        && mOffset == that.mOffset
+        && mLimit == that.mLimit;
   }
 
   @Override
   public int hashCode() {
-    return Objects.hashCode(mLoadMetadataType);
+    return Objects.hashCode(mLoadMetadataType, mStartAfter, mOffset, mLimit);
   }
 
   @Override
   public String toString() {
     return Objects.toStringHelper(this)
         .add("loadMetadataType", mLoadMetadataType.toString())
+        .add("startAfter", mStartAfter)
+        .add("offset", mOffset)
+        .add("limit", mLimit)
         .toString();
   }
 }
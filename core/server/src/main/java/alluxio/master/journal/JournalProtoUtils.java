@@ -79,6 +79,8 @@ public final class JournalProtoUtils {
         return entry.getRenameStore();
       case MERGE_STORE:
         return entry.getMergeStore();
+      case UFS_DELETE:
+        return entry.getUfsDelete();
       case ENTRY_NOT_SET:
         // This could mean that the field was never set, or it was set with a different version of
         // this message. Given the history of the JournalEntry protobuf message, the keys of the
@@ -19,6 +19,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.io.InputStream;
 
 import javax.annotation.concurrent.NotThreadSafe;
 
@@ -119,6 +120,30 @@ public class JournalReader {
     return jis;
   }
 
+  /**
+   * Opens the current log file, which may still be written to by the leader master. The last
+   * entry of the returned stream may therefore be incomplete.
+   *
+   * @return the input stream for the current log file. Will return null if the current log file
+   *         does not exist, or if the checkpoint file has been updated since it was read
+   * @throws IOException if an I/O error occurs, or when trying to get an input stream before a
+   *                     checkpoint was read
+   */
+  public InputStream getCurrentLogInputStream() throws IOException {
+    if (!mCheckpointRead) {
+      throw new IOException("Must read the checkpoint file before getting input stream.");
+    }
+    if (getCheckpointLastModifiedTimeMs() != mCheckpointOpenedTime) {
+      return null;
+    }
+    String currentLogPath = mJournal.getCurrentLogFilePath();
+    if (!mUfs.exists(currentLogPath)) {
+      LOG.debug("Journal log file: {} does not exist yet.", currentLogPath);
+      return null;
+    }
+    return mUfs.open(currentLogPath);
+  }
+
   /**
    * @return the last modified time of the checkpoint file in ms
    * @throws IOException if the checkpoint does not exist
@@ -16,10 +16,14 @@ import alluxio.master.Master;
 import alluxio.proto.journal.Journal.JournalEntry;
 
 import com.google.common.base.Preconditions;
+import com.google.common.io.ByteStreams;
+import com.google.common.io.CountingInputStream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.EOFException;
 import java.io.IOException;
+import java.io.InputStream;
 
 import javax.annotation.concurrent.NotThreadSafe;
 
@@ -39,6 +43,8 @@ public final class JournalTailer {
   private final JournalReader mReader;
   /** This keeps track of the latest sequence number seen in the journal entries. */
   private long mLatestSequenceNumber = 0;
+  /** The offset in bytes of the current log file up to which entries have been processed. */
+  private long mCurrentLogOffset = 0;
 
   /**
    * Creates a new instance of {@link JournalTailer}.
@@ -120,11 +126,17 @@ public final class JournalTailer {
         LOG.info("{}: Processing a completed log file.", mMaster.getName());
         JournalEntry entry;
         while ((entry = inputStream.getNextEntry()) != null) {
+          if (entry.getSequenceNumber() <= mLatestSequenceNumber) {
+            // This entry was already processed while this file was still the current log file.
+            continue;
+          }
           mMaster.processJournalEntry(entry);
           // update the latest sequence number seen.
           mLatestSequenceNumber = inputStream.getLatestSequenceNumber();
         }
         inputStream.close();
+        // The current log file, if any, is a new file now.
+        mCurrentLogOffset = 0;
         numFilesProcessed++;
         LOG.info("{}: Finished processing the log file.", mMaster.getName());
       } else {
@@ -135,4 +147,62 @@ public final class JournalTailer {
         mMaster.getName(), mJournal.getCheckpointFilePath());
     return numFilesProcessed;
   }
+
+  /**
+   * Processes the entries of the current log file which have been flushed by the leader master
+   * since the last call. Only entries directly following the latest processed entry are applied,
+   * so the entries of a log file which was completed in the meantime must be processed first with
+   * {@link #processNextJournalLogFiles()}.
+   *
+   * {@link #processJournalCheckpoint(boolean)} must have been called previously.
+   *
+   * @return the number of journal entries processed
+   * @throws IOException if an I/O error occurs
+   */
+  public int processCurrentLogFile() throws IOException {
+    InputStream inputStream = mReader.getCurrentLogInputStream();
+    if (inputStream == null) {
+      return 0;
+    }
+    int numEntriesProcessed = 0;
+    long startOffset = mCurrentLogOffset;
+    try {
+      try {
+        ByteStreams.skipFully(inputStream, startOffset);
+      } catch (EOFException e) {
+        // The current log file was rotated, and the new one is shorter than the old offset.
+        mCurrentLogOffset = 0;
+        return 0;
+      }
+      CountingInputStream countingStream = new CountingInputStream(inputStream);
+      JournalInputStream journalStream = mJournal.getJournalFormatter().deserialize(countingStream);
+      while (true) {
+        JournalEntry entry;
+        try {
+          entry = journalStream.getNextEntry();
+        } catch (IOException e) {
+          // The last entry is still being written, so it is read again by the next call.
+          break;
+        }
+        if (entry == null) {
+          break;
+        }
+        long sequenceNumber = entry.getSequenceNumber();
+        if (sequenceNumber > mLatestSequenceNumber + 1) {
+          // Some entries are in a completed log file which has not been processed yet.
+          mCurrentLogOffset = 0;
+          break;
+        }
+        if (sequenceNumber == mLatestSequenceNumber + 1) {
+          mMaster.processJournalEntry(entry);
+          mLatestSequenceNumber = sequenceNumber;
+          numEntriesProcessed++;
+        }
+        mCurrentLogOffset = startOffset + countingStream.getCount();
+      }
+    } finally {
+      inputStream.close();
+    }
+    return numEntriesProcessed;
+  }
 }
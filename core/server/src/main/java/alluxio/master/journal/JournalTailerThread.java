@@ -39,6 +39,8 @@ public final class JournalTailerThread extends Thread {
   private final Journal mJournal;
   private final int mShutdownQuietWaitTimeMs;
   private final int mJournalTailerSleepTimeMs;
+  /** True if the entries of the current log file are processed before the file is completed. */
+  private final boolean mTailCurrentLog;
   /** This becomes true when the master initiates the shutdown. */
   private volatile boolean mInitiateShutdown = false;
 
@@ -46,6 +48,10 @@ public final class JournalTailerThread extends Thread {
   private JournalTailer mJournalTailer = null;
   /** True if this thread is no longer running. */
   private boolean mStopped = false;
+  /** The sequence number of the latest journal entry processed by this thread. */
+  private volatile long mLatestSequenceNumber = 0;
+  /** True once this thread has processed all the journal entries available when it started. */
+  private volatile boolean mCaughtUp = false;
 
   /**
    * Creates a new instance of {@link JournalTailerThread}.
@@ -60,6 +66,7 @@ public final class JournalTailerThread extends Thread {
         Configuration.getInt(PropertyKey.MASTER_JOURNAL_TAILER_SHUTDOWN_QUIET_WAIT_TIME_MS);
     mJournalTailerSleepTimeMs =
         Configuration.getInt(PropertyKey.MASTER_JOURNAL_TAILER_SLEEP_TIME_MS);
+    mTailCurrentLog = Configuration.getBoolean(PropertyKey.MASTER_STANDBY_READS_ENABLED);
   }
 
   /**
@@ -96,6 +103,21 @@ public final class JournalTailerThread extends Thread {
     return null;
   }
 
+  /**
+   * @return the sequence number of the latest journal entry processed by this thread
+   */
+  public long getLatestSequenceNumber() {
+    return mLatestSequenceNumber;
+  }
+
+  /**
+   * @return true if this thread has processed all the journal entries which were available when
+   *         it started
+   */
+  public boolean isCaughtUp() {
+    return mCaughtUp;
+  }
+
   @Override
   public void run() {
     LOG.info("{}: Journal tailer started.", mMaster.getName());
@@ -121,12 +143,20 @@ public final class JournalTailerThread extends Thread {
         mJournalTailer.processJournalCheckpoint(true);
         LOG.info("{}: Checkpoint file has been loaded.", mMaster.getName());
 
-        // Continually process completed log files.
+        mLatestSequenceNumber = mJournalTailer.getLatestSequenceNumber();
+
+        // Continually process completed log files, and the current log file if enabled.
         while (mJournalTailer.isValid()) {
-          if (mJournalTailer.processNextJournalLogFiles() > 0) {
+          int numProcessed = mJournalTailer.processNextJournalLogFiles();
+          if (numProcessed == 0 && mTailCurrentLog) {
+            numProcessed = mJournalTailer.processCurrentLogFile();
+          }
+          mLatestSequenceNumber = mJournalTailer.getLatestSequenceNumber();
+          if (numProcessed > 0) {
             // Reset the shutdown timer.
             waitForShutdownStart = -1;
           } else {
+            mCaughtUp = true;
             if (mInitiateShutdown) {
               if (waitForShutdownStart == -1) {
                 waitForShutdownStart = CommonUtils.getCurrentMs();
@@ -27,6 +27,7 @@ import java.io.DataOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 
+import javax.annotation.concurrent.GuardedBy;
 import javax.annotation.concurrent.ThreadSafe;
 
 /**
@@ -65,7 +66,10 @@ public final class JournalWriter {
   private EntryOutputStream mEntryOutputStream = null;
 
   /** The sequence number for the next entry in the log. */
+  @GuardedBy("this")
   private long mNextEntrySequenceNumber = 1;
+  /** The sequence number of the latest entry flushed to the journal. */
+  private volatile long mFlushedSequenceNumber = 0;
 
   /**
    * Creates a new instance of {@link JournalWriter}.
@@ -99,6 +103,14 @@ public final class JournalWriter {
     completeCurrentLog();
   }
 
+  /**
+   * @return the sequence number of the latest entry flushed to the journal, and therefore visible
+   *         to the standby masters
+   */
+  public long getFlushedSequenceNumber() {
+    return mFlushedSequenceNumber;
+  }
+
   /**
    * Returns an output stream for the journal checkpoint. The returned output stream is a singleton
    * for this writer.
@@ -159,6 +171,20 @@ public final class JournalWriter {
     mUfs.close();
   }
 
+  /**
+   * @return the sequence number to assign to the next entry written
+   */
+  private synchronized long nextEntrySequenceNumber() {
+    return mNextEntrySequenceNumber++;
+  }
+
+  /**
+   * @return the sequence number of the latest entry written
+   */
+  private synchronized long getLatestEntrySequenceNumber() {
+    return mNextEntrySequenceNumber - 1;
+  }
+
   /**
    * Returns the current log file output stream.
    *
@@ -251,7 +277,7 @@ public final class JournalWriter {
         throw new IOException(ExceptionMessage.JOURNAL_WRITE_AFTER_CLOSE.getMessage());
       }
       mJournal.getJournalFormatter().serialize(
-          entry.toBuilder().setSequenceNumber(mNextEntrySequenceNumber++).build(), mOutputStream);
+          entry.toBuilder().setSequenceNumber(nextEntrySequenceNumber()).build(), mOutputStream);
     }
 
     /**
@@ -272,6 +298,7 @@ public final class JournalWriter {
       }
       mOutputStream.flush();
       mOutputStream.close();
+      mFlushedSequenceNumber = getLatestEntrySequenceNumber();
 
       LOG.info("Successfully created tmp checkpoint file: {}", mTempCheckpointPath);
       mUfs.delete(mJournal.getCheckpointFilePath(), false);
@@ -329,7 +356,7 @@ public final class JournalWriter {
         throw new IOException(ExceptionMessage.JOURNAL_WRITE_AFTER_CLOSE.getMessage());
       }
       mJournal.getJournalFormatter().serialize(
-          entry.toBuilder().setSequenceNumber(mNextEntrySequenceNumber++).build(),
+          entry.toBuilder().setSequenceNumber(nextEntrySequenceNumber()).build(),
           mDataOutputStream);
     }
 
@@ -376,6 +403,7 @@ public final class JournalWriter {
         mRawOutputStream = openCurrentLog();
         mDataOutputStream = new DataOutputStream(mRawOutputStream);
       }
+      mFlushedSequenceNumber = getLatestEntrySequenceNumber();
     }
   }
 }
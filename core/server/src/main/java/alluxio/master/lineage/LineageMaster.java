@@ -43,10 +43,12 @@ import alluxio.master.lineage.meta.LineageStore;
 import alluxio.master.lineage.meta.LineageStoreView;
 import alluxio.master.lineage.recompute.RecomputeExecutor;
 import alluxio.master.lineage.recompute.RecomputePlanner;
+import alluxio.metrics.MetricsSystem;
 import alluxio.proto.journal.Journal.JournalEntry;
 import alluxio.proto.journal.Lineage.DeleteLineageEntry;
 import alluxio.proto.journal.Lineage.LineageEntry;
 import alluxio.proto.journal.Lineage.LineageIdGeneratorEntry;
+import alluxio.resource.LockResource;
 import alluxio.thrift.LineageMasterClientService;
 import alluxio.util.IdUtils;
 import alluxio.util.executor.ExecutorServiceFactories;
@@ -55,6 +57,7 @@ import alluxio.util.io.PathUtils;
 import alluxio.wire.FileInfo;
 import alluxio.wire.LineageInfo;
 
+import com.codahale.metrics.Gauge;
 import com.google.common.base.Preconditions;
 import com.google.protobuf.Message;
 import org.apache.thrift.TProcessor;
@@ -66,20 +69,30 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
-import javax.annotation.concurrent.NotThreadSafe;
+import javax.annotation.concurrent.ThreadSafe;
 
 /**
  * The lineage master stores the lineage metadata in Alluxio, and it contains the components that
  * manage all lineage-related activities.
  */
-@NotThreadSafe
+@ThreadSafe
 public final class LineageMaster extends AbstractMaster {
   private static final Logger LOG = LoggerFactory.getLogger(Constants.LOGGER_TYPE);
 
   private final LineageStore mLineageStore;
+  /**
+   * Serializes the changes of the lineage store with writing their journal entries, so that the
+   * journal replays the changes in the order they were made.
+   */
+  private final Lock mJournalLock = new ReentrantLock();
   private final FileSystemMaster mFileSystemMaster;
   private final LineageIdGenerator mLineageIdGenerator;
+  private final RecomputePlanner mRecomputePlanner;
+  /** The executor of the recompute jobs, null if the master is not the leader. */
+  private volatile RecomputeExecutor mRecomputeExecutor;
 
   /**
    * @param baseDirectory the base journal directory
@@ -115,6 +128,9 @@ public final class LineageMaster extends AbstractMaster {
     mFileSystemMaster = Preconditions.checkNotNull(fileSystemMaster);
     mLineageIdGenerator = new LineageIdGenerator();
     mLineageStore = new LineageStore(mLineageIdGenerator);
+    mRecomputePlanner = new RecomputePlanner(mLineageStore, mFileSystemMaster);
+
+    Metrics.registerGauges(this);
   }
 
   @Override
@@ -151,22 +167,23 @@ public final class LineageMaster extends AbstractMaster {
       getExecutorService().submit(new HeartbeatThread(HeartbeatContext.MASTER_CHECKPOINT_SCHEDULING,
           new CheckpointSchedulingExecutor(this, mFileSystemMaster),
           Configuration.getInt(PropertyKey.MASTER_LINEAGE_CHECKPOINT_INTERVAL_MS)));
+      mRecomputeExecutor = new RecomputeExecutor(mRecomputePlanner, mFileSystemMaster);
       getExecutorService().submit(new HeartbeatThread(HeartbeatContext.MASTER_FILE_RECOMPUTATION,
-          new RecomputeExecutor(new RecomputePlanner(mLineageStore, mFileSystemMaster),
-              mFileSystemMaster),
+          mRecomputeExecutor,
           Configuration.getInt(PropertyKey.MASTER_LINEAGE_RECOMPUTE_INTERVAL_MS)));
     }
   }
 
   @Override
-  public synchronized void streamToJournalCheckpoint(JournalOutputStream outputStream)
-      throws IOException {
-    mLineageStore.streamToJournalCheckpoint(outputStream);
-    outputStream.writeEntry(mLineageIdGenerator.toJournalEntry());
+  public void streamToJournalCheckpoint(JournalOutputStream outputStream) throws IOException {
+    try (LockResource r = new LockResource(mJournalLock)) {
+      mLineageStore.streamToJournalCheckpoint(outputStream);
+      outputStream.writeEntry(mLineageIdGenerator.toJournalEntry());
+    }
   }
 
   /**
-   * @return a lineage store view wrapping the contained lineage store
+   * @return a lineage store view wrapping a snapshot of the contained lineage store
    */
   public LineageStoreView getLineageStoreView() {
     return new LineageStoreView(mLineageStore);
@@ -186,7 +203,7 @@ public final class LineageMaster extends AbstractMaster {
    * @throws AccessControlException if the permission check fails
    * @throws FileDoesNotExistException if any of the input files do not exist
    */
-  public synchronized long createLineage(List<AlluxioURI> inputFiles, List<AlluxioURI> outputFiles,
+  public long createLineage(List<AlluxioURI> inputFiles, List<AlluxioURI> outputFiles,
       Job job) throws InvalidPathException, FileAlreadyExistsException, BlockInfoException,
       IOException, AccessControlException, FileDoesNotExistException {
     List<Long> inputAlluxioFiles = new ArrayList<>();
@@ -213,10 +230,13 @@ public final class LineageMaster extends AbstractMaster {
 
     LOG.info("Create lineage of input:{}, output:{}, job:{}", inputAlluxioFiles, outputAlluxioFiles,
         job);
-    long lineageId = mLineageStore.createLineage(inputAlluxioFiles, outputAlluxioFiles, job);
+    long lineageId;
+    try (LockResource r = new LockResource(mJournalLock)) {
+      lineageId = mLineageStore.createLineage(inputAlluxioFiles, outputAlluxioFiles, job);
 
-    writeJournalEntry(mLineageIdGenerator.toJournalEntry());
-    writeJournalEntry(mLineageStore.getLineage(lineageId).toJournalEntry());
+      writeJournalEntry(mLineageIdGenerator.toJournalEntry());
+      writeJournalEntry(mLineageStore.getLineage(lineageId).toJournalEntry());
+    }
     flushJournal();
     return lineageId;
   }
@@ -230,14 +250,16 @@ public final class LineageMaster extends AbstractMaster {
    * @throws LineageDoesNotExistException the lineage does not exist
    * @throws LineageDeletionException the lineage deletion fails
    */
-  public synchronized boolean deleteLineage(long lineageId, boolean cascade)
+  public boolean deleteLineage(long lineageId, boolean cascade)
       throws LineageDoesNotExistException, LineageDeletionException {
-    deleteLineageInternal(lineageId, cascade);
-    DeleteLineageEntry deleteLineage = DeleteLineageEntry.newBuilder()
-        .setLineageId(lineageId)
-        .setCascade(cascade)
-        .build();
-    writeJournalEntry(JournalEntry.newBuilder().setDeleteLineage(deleteLineage).build());
+    try (LockResource r = new LockResource(mJournalLock)) {
+      deleteLineageInternal(lineageId, cascade);
+      DeleteLineageEntry deleteLineage = DeleteLineageEntry.newBuilder()
+          .setLineageId(lineageId)
+          .setCascade(cascade)
+          .build();
+      writeJournalEntry(JournalEntry.newBuilder().setDeleteLineage(deleteLineage).build());
+    }
     flushJournal();
     return true;
   }
@@ -279,7 +301,7 @@ public final class LineageMaster extends AbstractMaster {
    * @throws AccessControlException if permission checking fails
    * @throws FileDoesNotExistException if the path does not exist
    */
-  public synchronized long reinitializeFile(String path, long blockSizeBytes, long ttl)
+  public long reinitializeFile(String path, long blockSizeBytes, long ttl)
       throws InvalidPathException, LineageDoesNotExistException, AccessControlException,
       FileDoesNotExistException {
     long fileId = mFileSystemMaster.getFileId(new AlluxioURI(path));
@@ -302,19 +324,20 @@ public final class LineageMaster extends AbstractMaster {
    * @throws LineageDoesNotExistException if the lineage does not exist
    * @throws FileDoesNotExistException if any associated file does not exist
    */
-  public synchronized List<LineageInfo> getLineageInfoList()
+  public List<LineageInfo> getLineageInfoList()
       throws LineageDoesNotExistException, FileDoesNotExistException {
     List<LineageInfo> lineages = new ArrayList<>();
 
-    for (Lineage lineage : mLineageStore.getAllInTopologicalOrder()) {
+    LineageStoreView store = getLineageStoreView();
+    for (Lineage lineage : store.getAllLineagesInTopologicalOrder()) {
       LineageInfo info = new LineageInfo();
       List<Long> parents = new ArrayList<>();
-      for (Lineage parent : mLineageStore.getParents(lineage)) {
+      for (Lineage parent : store.getParents(lineage)) {
         parents.add(parent.getId());
       }
       info.setParents(parents);
       List<Long> children = new ArrayList<>();
-      for (Lineage child : mLineageStore.getChildren(lineage)) {
+      for (Lineage child : store.getChildren(lineage)) {
         children.add(child.getId());
       }
       info.setChildren(children);
@@ -342,9 +365,13 @@ public final class LineageMaster extends AbstractMaster {
    *
    * @param plan the plan for checkpointing
    */
-  public synchronized void scheduleCheckpoint(CheckpointPlan plan) {
+  public void scheduleCheckpoint(CheckpointPlan plan) {
     for (long lineageId : plan.getLineagesToCheckpoint()) {
       Lineage lineage = mLineageStore.getLineage(lineageId);
+      if (lineage == null) {
+        // The lineage was deleted after the plan was made.
+        continue;
+      }
       // schedule the lineage file for persistence
       for (long file : lineage.getOutputFiles()) {
         try {
@@ -357,16 +384,52 @@ public final class LineageMaster extends AbstractMaster {
   }
 
   /**
-   * Reports a file as lost.
+   * Reports a file as lost. Since a client is blocked on the file, it is recomputed first, and a
+   * recompute plan is made right away the first time the file is reported.
    *
    * @param path the path to the file
    * @throws FileDoesNotExistException if the file does not exist
    * @throws AccessControlException if permission checking fails
    * @throws InvalidPathException if the path is invalid
    */
-  public synchronized void reportLostFile(String path) throws FileDoesNotExistException,
+  public void reportLostFile(String path) throws FileDoesNotExistException,
       AccessControlException, InvalidPathException {
     long fileId = mFileSystemMaster.getFileId(new AlluxioURI(path));
     mFileSystemMaster.reportLostFile(fileId);
+    RecomputeExecutor executor = mRecomputeExecutor;
+    if (mRecomputePlanner.requestFile(fileId) && executor != null) {
+      executor.requestPlan();
+    }
+  }
+
+  /**
+   * Class that contains metrics for LineageMaster.
+   */
+  private static final class Metrics {
+    /**
+     * Registers the gauges of the recompute jobs.
+     *
+     * @param master the lineage master
+     */
+    private static void registerGauges(final LineageMaster master) {
+      MetricsSystem.registerGaugeIfAbsent(
+          MetricsSystem.getMasterMetricName("RecomputeJobsQueued"), new Gauge<Integer>() {
+            @Override
+            public Integer getValue() {
+              RecomputeExecutor executor = master.mRecomputeExecutor;
+              return executor == null ? 0 : executor.getNumQueuedJobs();
+            }
+          });
+      MetricsSystem.registerGaugeIfAbsent(
+          MetricsSystem.getMasterMetricName("RecomputeJobsRunning"), new Gauge<Integer>() {
+            @Override
+            public Integer getValue() {
+              RecomputeExecutor executor = master.mRecomputeExecutor;
+              return executor == null ? 0 : executor.getNumRunningJobs();
+            }
+          });
+    }
+
+    private Metrics() {} // prevent instantiation
   }
 }
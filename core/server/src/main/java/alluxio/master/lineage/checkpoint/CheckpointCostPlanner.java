@@ -0,0 +1,306 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.master.lineage.checkpoint;
+
+import alluxio.Configuration;
+import alluxio.Constants;
+import alluxio.PropertyKey;
+import alluxio.exception.FileDoesNotExistException;
+import alluxio.exception.LineageDoesNotExistException;
+import alluxio.master.file.meta.FileSystemMasterView;
+import alluxio.master.lineage.meta.Lineage;
+import alluxio.master.lineage.meta.LineageStateUtils;
+import alluxio.master.lineage.meta.LineageStoreView;
+import alluxio.metrics.MetricsSystem;
+import alluxio.wire.FileInfo;
+
+import com.codahale.metrics.Gauge;
+import com.google.common.base.Preconditions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * This class checkpoints the lineages which bound the worst-case time to recover from the loss of
+ * all the lineage outputs which are not persisted, within a budget of UFS bandwidth.
+ *
+ * The recompute cost of a lineage is estimated from the runtime of its job, which is the time
+ * between the creation of the lineage and the last modification of its outputs, plus the time to
+ * read its inputs from the UFS. The recovery time of a lineage which is not persisted is its
+ * recompute cost plus the largest recovery time of its parents, since parents are recomputed in
+ * parallel before their children. The recovery time of a persisted lineage, or of a lineage being
+ * checkpointed, is 0. The recovery bound is the largest recovery time of all lineages.
+ *
+ * While the recovery bound is above
+ * {@link PropertyKey#MASTER_LINEAGE_CHECKPOINT_RECOVERY_BOUND_MS}, the planner checkpoints the
+ * lineage of the longest recovery chain which lowers the bound the most, as long as its outputs
+ * can be written to the UFS within the budget of the round, i.e. the bytes written at
+ * {@link PropertyKey#MASTER_LINEAGE_CHECKPOINT_UFS_THROUGHPUT_MAX} during
+ * {@link PropertyKey#MASTER_LINEAGE_CHECKPOINT_INTERVAL_MS}.
+ */
+@ThreadSafe
+public final class CheckpointCostPlanner implements CheckpointPlanner {
+  private static final Logger LOG = LoggerFactory.getLogger(Constants.LOGGER_TYPE);
+
+  /** The recovery bound to reach in milliseconds. */
+  private final long mRecoveryBoundMs;
+  /** The UFS bandwidth available to checkpoints in bytes per second, 0 for unlimited. */
+  private final long mUfsThroughput;
+  /** The interval between two plans in milliseconds. */
+  private final long mIntervalMs;
+
+  /**
+   * Creates a new instance of {@link CheckpointCostPlanner}, which does not use the views but reads
+   * its bound and budget from the configuration.
+   *
+   * @param lineageStoreView a view of a lineage store
+   * @param fileSystemMasterView a view of the file system master
+   */
+  public CheckpointCostPlanner(LineageStoreView lineageStoreView,
+      FileSystemMasterView fileSystemMasterView) {
+    mRecoveryBoundMs =
+        Configuration.getLong(PropertyKey.MASTER_LINEAGE_CHECKPOINT_RECOVERY_BOUND_MS);
+    mUfsThroughput =
+        Configuration.getLong(PropertyKey.MASTER_LINEAGE_CHECKPOINT_UFS_THROUGHPUT_MAX);
+    mIntervalMs = Configuration.getLong(PropertyKey.MASTER_LINEAGE_CHECKPOINT_INTERVAL_MS);
+    Preconditions.checkArgument(mRecoveryBoundMs >= 0 && mUfsThroughput >= 0,
+        "The recovery bound and the UFS throughput should not be negative");
+  }
+
+  @Override
+  public CheckpointPlan generatePlan(LineageStoreView store,
+      FileSystemMasterView fileSystemMasterView) {
+    Map<Lineage, Node> nodes = buildNodes(store, fileSystemMasterView);
+    Set<Node> checkpointed = new HashSet<>();
+    for (Node node : nodes.values()) {
+      if (node.mPersisted) {
+        checkpointed.add(node);
+      }
+    }
+    long achievedBoundMs = computeRecoveryTimes(nodes.values(), checkpointed);
+    for (Node node : nodes.values()) {
+      if (node.mInCheckpointing) {
+        checkpointed.add(node);
+      }
+    }
+
+    List<Long> toCheckpoint = new ArrayList<>();
+    long budget = mUfsThroughput == 0 ? Long.MAX_VALUE : mUfsThroughput * mIntervalMs / 1000;
+    long boundMs = computeRecoveryTimes(nodes.values(), checkpointed);
+    while (boundMs > mRecoveryBoundMs) {
+      Node best = null;
+      long bestBoundMs = boundMs;
+      for (Node candidate : getCriticalChain(nodes.values())) {
+        if (!candidate.mReady || candidate.mOutputBytes > budget) {
+          continue;
+        }
+        checkpointed.add(candidate);
+        long candidateBoundMs = computeRecoveryTimes(nodes.values(), checkpointed);
+        checkpointed.remove(candidate);
+        if (candidateBoundMs < bestBoundMs || (candidateBoundMs == bestBoundMs && best != null
+            && candidate.mOutputBytes < best.mOutputBytes)) {
+          best = candidate;
+          bestBoundMs = candidateBoundMs;
+        }
+      }
+      if (best == null) {
+        // No checkpoint within the budget lowers the bound.
+        computeRecoveryTimes(nodes.values(), checkpointed);
+        break;
+      }
+      checkpointed.add(best);
+      toCheckpoint.add(best.mLineage.getId());
+      budget -= best.mOutputBytes;
+      boundMs = computeRecoveryTimes(nodes.values(), checkpointed);
+    }
+
+    Metrics.sAchievedRecoveryBoundMs = achievedBoundMs;
+    Metrics.sPlannedRecoveryBoundMs = boundMs;
+    if (!toCheckpoint.isEmpty()) {
+      LOG.info("Checkpointing lineages {} lowers the recovery bound from {} ms to {} ms",
+          toCheckpoint, achievedBoundMs, boundMs);
+    }
+    return new CheckpointPlan(toCheckpoint);
+  }
+
+  /**
+   * Builds the nodes of the lineages, in topological order.
+   *
+   * @param store a view of the lineage store
+   * @param fileSystemMasterView a view of the file system master
+   * @return the nodes of the lineages
+   */
+  private Map<Lineage, Node> buildNodes(LineageStoreView store,
+      FileSystemMasterView fileSystemMasterView) {
+    Map<Lineage, Node> nodes = new LinkedHashMap<>();
+    for (Lineage lineage : store.getAllLineagesInTopologicalOrder()) {
+      Node node = new Node(lineage);
+      try {
+        node.mPersisted = LineageStateUtils.isPersisted(lineage, fileSystemMasterView);
+        node.mInCheckpointing = LineageStateUtils.isInCheckpointing(lineage, fileSystemMasterView);
+        node.mReady = !node.mPersisted && !node.mInCheckpointing
+            && LineageStateUtils.isCompleted(lineage, fileSystemMasterView)
+            && !LineageStateUtils.needRecompute(lineage, fileSystemMasterView);
+        long lastModificationTimeMs = lineage.getCreationTime();
+        for (long fileId : lineage.getOutputFiles()) {
+          FileInfo fileInfo = fileSystemMasterView.getFileInfo(fileId);
+          node.mOutputBytes += fileInfo.getLength();
+          lastModificationTimeMs =
+              Math.max(lastModificationTimeMs, fileInfo.getLastModificationTimeMs());
+        }
+        node.mCostMs = lastModificationTimeMs - lineage.getCreationTime();
+        if (mUfsThroughput > 0) {
+          node.mCostMs += getInputBytes(lineage, fileSystemMasterView) * 1000 / mUfsThroughput;
+        }
+        for (Lineage parent : store.getParents(lineage)) {
+          Node parentNode = nodes.get(parent);
+          if (parentNode != null) {
+            node.mParents.add(parentNode);
+          }
+        }
+      } catch (FileDoesNotExistException | LineageDoesNotExistException e) {
+        LOG.error("The lineage {} cannot be planned", lineage.getId(), e);
+        continue;
+      }
+      nodes.put(lineage, node);
+    }
+    return nodes;
+  }
+
+  /**
+   * @param lineage the lineage
+   * @param fileSystemMasterView a view of the file system master
+   * @return the number of bytes of the input files of the lineage which still exist
+   */
+  private static long getInputBytes(Lineage lineage, FileSystemMasterView fileSystemMasterView) {
+    long inputBytes = 0;
+    for (long fileId : lineage.getInputFiles()) {
+      try {
+        inputBytes += fileSystemMasterView.getFileInfo(fileId).getLength();
+      } catch (FileDoesNotExistException e) {
+        // The input is not read again if it has been deleted.
+      }
+    }
+    return inputBytes;
+  }
+
+  /**
+   * Computes the recovery times of the lineages.
+   *
+   * @param nodes the nodes of the lineages, in topological order
+   * @param checkpointed the nodes whose outputs are persisted or being persisted
+   * @return the recovery bound, which is the largest recovery time
+   */
+  private static long computeRecoveryTimes(Collection<Node> nodes, Set<Node> checkpointed) {
+    long boundMs = 0;
+    for (Node node : nodes) {
+      node.mRecoveryTimeMs = 0;
+      node.mCriticalParent = null;
+      if (checkpointed.contains(node)) {
+        continue;
+      }
+      for (Node parent : node.mParents) {
+        if (node.mCriticalParent == null
+            || parent.mRecoveryTimeMs > node.mCriticalParent.mRecoveryTimeMs) {
+          node.mCriticalParent = parent;
+        }
+      }
+      node.mRecoveryTimeMs = node.mCostMs
+          + (node.mCriticalParent == null ? 0 : node.mCriticalParent.mRecoveryTimeMs);
+      boundMs = Math.max(boundMs, node.mRecoveryTimeMs);
+    }
+    return boundMs;
+  }
+
+  /**
+   * @param nodes the nodes of the lineages, with their recovery times computed
+   * @return the nodes of the chain with the largest recovery time
+   */
+  private static List<Node> getCriticalChain(Collection<Node> nodes) {
+    Node last = null;
+    for (Node node : nodes) {
+      if (last == null || node.mRecoveryTimeMs > last.mRecoveryTimeMs) {
+        last = node;
+      }
+    }
+    List<Node> chain = new ArrayList<>();
+    for (Node node = last; node != null && node.mRecoveryTimeMs > 0;
+        node = node.mCriticalParent) {
+      chain.add(node);
+    }
+    return chain;
+  }
+
+  /**
+   * The cost model of a lineage.
+   */
+  private static final class Node {
+    private final Lineage mLineage;
+    private final List<Node> mParents = new ArrayList<>();
+    private boolean mPersisted;
+    private boolean mInCheckpointing;
+    /** Whether the outputs of the lineage can be checkpointed. */
+    private boolean mReady;
+    private long mOutputBytes;
+    private long mCostMs;
+    private long mRecoveryTimeMs;
+    /** The parent with the largest recovery time. */
+    private Node mCriticalParent;
+
+    /**
+     * Creates a new instance of {@link Node}.
+     *
+     * @param lineage the lineage
+     */
+    Node(Lineage lineage) {
+      mLineage = lineage;
+    }
+  }
+
+  /**
+   * Class that contains metrics about the recovery bound.
+   */
+  private static final class Metrics {
+    /** The recovery bound with the persisted lineages. */
+    private static volatile long sAchievedRecoveryBoundMs;
+    /** The recovery bound once the lineages being checkpointed and planned are persisted. */
+    private static volatile long sPlannedRecoveryBoundMs;
+
+    static {
+      MetricsSystem.registerGaugeIfAbsent(
+          MetricsSystem.getMasterMetricName("LineageRecoveryBoundMs"), new Gauge<Long>() {
+            @Override
+            public Long getValue() {
+              return sAchievedRecoveryBoundMs;
+            }
+          });
+      MetricsSystem.registerGaugeIfAbsent(
+          MetricsSystem.getMasterMetricName("LineageRecoveryBoundPlannedMs"), new Gauge<Long>() {
+            @Override
+            public Long getValue() {
+              return sPlannedRecoveryBoundMs;
+            }
+          });
+    }
+
+    private Metrics() {} // prevent instantiation
+  }
+}
@@ -18,6 +18,7 @@ import alluxio.job.Job;
 import alluxio.master.journal.JournalCheckpointStreamable;
 import alluxio.master.journal.JournalOutputStream;
 import alluxio.proto.journal.Lineage.LineageEntry;
+import alluxio.resource.LockResource;
 
 import java.io.IOException;
 import java.util.ArrayList;
@@ -25,22 +26,31 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
+import javax.annotation.concurrent.GuardedBy;
 import javax.annotation.concurrent.ThreadSafe;
 
 /**
- * A store of lineages. This class is thread-safe.
- *
- * TODO(yupeng): relax locking
+ * A store of lineages. This class is thread-safe. Readers share a read lock, and only the changes
+ * of the store are exclusive.
  */
 @ThreadSafe
 public final class LineageStore implements JournalCheckpointStreamable {
   private final LineageIdGenerator mLineageIdGenerator;
+  @GuardedBy("mLock")
   private final DirectedAcyclicGraph<Lineage> mLineageDAG;
 
+  private final ReentrantReadWriteLock mLock;
+  private final Lock mReadLock;
+  private final Lock mWriteLock;
+
   // Indices for lineages
   /** Index of the output files of lineage to lineage. */
+  @GuardedBy("mLock")
   private Map<Long, Lineage> mOutputFileIndex;
+  @GuardedBy("mLock")
   private Map<Long, Lineage> mIdIndex;
 
   /**
@@ -53,6 +63,9 @@ public final class LineageStore implements JournalCheckpointStreamable {
     mLineageDAG = new DirectedAcyclicGraph<>();
     mOutputFileIndex = new HashMap<>();
     mIdIndex = new HashMap<>();
+    mLock = new ReentrantReadWriteLock();
+    mReadLock = mLock.readLock();
+    mWriteLock = mLock.writeLock();
   }
 
   /**
@@ -60,9 +73,11 @@ public final class LineageStore implements JournalCheckpointStreamable {
    *
    * @param entry the journal entry
    */
-  public synchronized void addLineageFromJournal(LineageEntry entry) {
+  public void addLineageFromJournal(LineageEntry entry) {
     Lineage lineage = Lineage.fromJournalEntry(entry);
-    createLineageInternal(lineage);
+    try (LockResource r = new LockResource(mWriteLock)) {
+      createLineageInternal(lineage);
+    }
   }
 
   /**
@@ -73,11 +88,12 @@ public final class LineageStore implements JournalCheckpointStreamable {
    * @param job the job
    * @return the id of the created lineage
    */
-  public synchronized long createLineage(List<Long> inputFiles,
-      List<Long> outputFiles, Job job) {
+  public long createLineage(List<Long> inputFiles, List<Long> outputFiles, Job job) {
     long lineageId = mLineageIdGenerator.generateId();
     Lineage lineage = new Lineage(lineageId, inputFiles, outputFiles, job);
-    createLineageInternal(lineage);
+    try (LockResource r = new LockResource(mWriteLock)) {
+      createLineageInternal(lineage);
+    }
     return lineageId;
   }
 
@@ -103,21 +119,23 @@ public final class LineageStore implements JournalCheckpointStreamable {
    * @param lineageId the lineage id
    * @throws LineageDoesNotExistException if the lineage does not exist
    */
-  public synchronized void deleteLineage(long lineageId) throws LineageDoesNotExistException {
-    LineageDoesNotExistException.check(mIdIndex.containsKey(lineageId),
-        ExceptionMessage.LINEAGE_DOES_NOT_EXIST, lineageId);
-
-    Lineage toDelete = mIdIndex.get(lineageId);
-    // delete children first
-    for (Lineage childLineage : mLineageDAG.getChildren(toDelete)) {
-      deleteLineage(childLineage.getId());
-    }
+  public void deleteLineage(long lineageId) throws LineageDoesNotExistException {
+    try (LockResource r = new LockResource(mWriteLock)) {
+      LineageDoesNotExistException.check(mIdIndex.containsKey(lineageId),
+          ExceptionMessage.LINEAGE_DOES_NOT_EXIST, lineageId);
 
-    // delete the given node
-    mLineageDAG.deleteLeaf(toDelete);
-    mIdIndex.remove(lineageId);
-    for (long outputFile : toDelete.getOutputFiles()) {
-      mOutputFileIndex.remove(outputFile);
+      Lineage toDelete = mIdIndex.get(lineageId);
+      // delete children first
+      for (Lineage childLineage : mLineageDAG.getChildren(toDelete)) {
+        deleteLineage(childLineage.getId());
+      }
+
+      // delete the given node
+      mLineageDAG.deleteLeaf(toDelete);
+      mIdIndex.remove(lineageId);
+      for (long outputFile : toDelete.getOutputFiles()) {
+        mOutputFileIndex.remove(outputFile);
+      }
     }
   }
 
@@ -127,8 +145,10 @@ public final class LineageStore implements JournalCheckpointStreamable {
    * @param lineageId the lineage id
    * @return the lineage
    */
-  public synchronized Lineage getLineage(long lineageId) {
-    return mIdIndex.get(lineageId);
+  public Lineage getLineage(long lineageId) {
+    try (LockResource r = new LockResource(mReadLock)) {
+      return mIdIndex.get(lineageId);
+    }
   }
 
   /**
@@ -138,12 +158,13 @@ public final class LineageStore implements JournalCheckpointStreamable {
    * @return the lineage's children
    * @throws LineageDoesNotExistException if the lineage does not exist
    */
-  public synchronized List<Lineage> getChildren(Lineage lineage)
-      throws LineageDoesNotExistException {
-    LineageDoesNotExistException.check(mIdIndex.containsKey(lineage.getId()),
-        ExceptionMessage.LINEAGE_DOES_NOT_EXIST, lineage.getId());
+  public List<Lineage> getChildren(Lineage lineage) throws LineageDoesNotExistException {
+    try (LockResource r = new LockResource(mReadLock)) {
+      LineageDoesNotExistException.check(mIdIndex.containsKey(lineage.getId()),
+          ExceptionMessage.LINEAGE_DOES_NOT_EXIST, lineage.getId());
 
-    return mLineageDAG.getChildren(lineage);
+      return mLineageDAG.getChildren(lineage);
+    }
   }
 
   /**
@@ -153,9 +174,11 @@ public final class LineageStore implements JournalCheckpointStreamable {
    * @return the lineage containing the output file
    * @throws LineageDoesNotExistException if the lineage does not exist
    */
-  public synchronized Lineage getLineageOfOutputFile(long fileId)
-      throws LineageDoesNotExistException {
-    Lineage lineage = mOutputFileIndex.get(fileId);
+  public Lineage getLineageOfOutputFile(long fileId) throws LineageDoesNotExistException {
+    Lineage lineage;
+    try (LockResource r = new LockResource(mReadLock)) {
+      lineage = mOutputFileIndex.get(fileId);
+    }
     LineageDoesNotExistException.check(lineage != null, ExceptionMessage.LINEAGE_DOES_NOT_EXIST,
         fileId);
     return lineage;
@@ -168,19 +191,22 @@ public final class LineageStore implements JournalCheckpointStreamable {
    * @return the lineage's parents
    * @throws LineageDoesNotExistException if the lineage does not exist
    */
-  public synchronized List<Lineage> getParents(Lineage lineage)
-      throws LineageDoesNotExistException {
-    LineageDoesNotExistException.check(mIdIndex.containsKey(lineage.getId()),
-        ExceptionMessage.LINEAGE_DOES_NOT_EXIST, lineage.getId());
+  public List<Lineage> getParents(Lineage lineage) throws LineageDoesNotExistException {
+    try (LockResource r = new LockResource(mReadLock)) {
+      LineageDoesNotExistException.check(mIdIndex.containsKey(lineage.getId()),
+          ExceptionMessage.LINEAGE_DOES_NOT_EXIST, lineage.getId());
 
-    return mLineageDAG.getParents(lineage);
+      return mLineageDAG.getParents(lineage);
+    }
   }
 
   /**
    * @return the list of all root lineages
    */
-  public synchronized List<Lineage> getRootLineages() {
-    return mLineageDAG.getRoots();
+  public List<Lineage> getRootLineages() {
+    try (LockResource r = new LockResource(mReadLock)) {
+      return mLineageDAG.getRoots();
+    }
   }
 
   /**
@@ -189,22 +215,39 @@ public final class LineageStore implements JournalCheckpointStreamable {
    * @param lineages lineages to sort
    * @return the lineages after sort
    */
-  public synchronized List<Lineage> sortLineageTopologically(Set<Lineage> lineages) {
-    return mLineageDAG.sortTopologically(lineages);
+  public List<Lineage> sortLineageTopologically(Set<Lineage> lineages) {
+    try (LockResource r = new LockResource(mReadLock)) {
+      return mLineageDAG.sortTopologically(lineages);
+    }
   }
 
   /**
    * @return all the lineages in topological order
    */
-  public synchronized List<Lineage> getAllInTopologicalOrder() {
-    return mLineageDAG.getAllInTopologicalOrder();
+  public List<Lineage> getAllInTopologicalOrder() {
+    try (LockResource r = new LockResource(mReadLock)) {
+      return mLineageDAG.getAllInTopologicalOrder();
+    }
+  }
+
+  /**
+   * Creates a copy of this store, which is not affected by the later changes of this store. The
+   * copy is built like a store replaying a checkpoint of this store.
+   *
+   * @return a copy of this store
+   */
+  public LineageStore snapshot() {
+    LineageStore snapshot = new LineageStore(mLineageIdGenerator);
+    for (Lineage lineage : getAllInTopologicalOrder()) {
+      snapshot.createLineageInternal(lineage);
+    }
+    return snapshot;
   }
 
   @Override
-  public synchronized void streamToJournalCheckpoint(JournalOutputStream outputStream)
-      throws IOException {
+  public void streamToJournalCheckpoint(JournalOutputStream outputStream) throws IOException {
     // write the lineages out in a topological order
-    for (Lineage lineage : mLineageDAG.getAllInTopologicalOrder()) {
+    for (Lineage lineage : getAllInTopologicalOrder()) {
       outputStream.writeEntry(lineage.toJournalEntry());
     }
   }
@@ -216,7 +259,9 @@ public final class LineageStore implements JournalCheckpointStreamable {
    * @return true if there's a lineage in the store that has the output file of the given id, false
    *         otherwise
    */
-  public synchronized boolean hasOutputFile(long fileId) {
-    return mOutputFileIndex.containsKey(fileId);
+  public boolean hasOutputFile(long fileId) {
+    try (LockResource r = new LockResource(mReadLock)) {
+      return mOutputFileIndex.containsKey(fileId);
+    }
   }
 }
@@ -16,18 +16,20 @@ import alluxio.exception.LineageDoesNotExistException;
 import com.google.common.base.Preconditions;
 
 import java.util.List;
+import java.util.Set;
 
 import javax.annotation.concurrent.ThreadSafe;
 
 /**
- * This class exposes a read-only view of {@link LineageStore} to checkpoint schedulers and
- * recompute planners.
+ * This class exposes a read-only snapshot of {@link LineageStore} to checkpoint schedulers and
+ * recompute planners. The snapshot is consistent, and planning on it does not block the changes
+ * of the store.
  *
  * TODO(yupeng): return a lineage view for protection
  */
 @ThreadSafe
 public final class LineageStoreView {
-  /** The LineageStore this view is derived from. */
+  /** The snapshot of the LineageStore this view is derived from. */
   private final LineageStore mLineageStore;
 
   /**
@@ -36,7 +38,7 @@ public final class LineageStoreView {
    * @param lineageStore the underlying lineage store to construct the view for
    */
   public LineageStoreView(LineageStore lineageStore) {
-    mLineageStore = Preconditions.checkNotNull(lineageStore);
+    mLineageStore = Preconditions.checkNotNull(lineageStore).snapshot();
   }
 
   /**
@@ -55,10 +57,45 @@ public final class LineageStoreView {
     return mLineageStore.getChildren(lineage);
   }
 
+  /**
+   * @param lineage the lineage to get the parents from
+   * @return the parent lineages of a given lineage in the store
+   * @throws LineageDoesNotExistException if the lineage does not exist
+   */
+  public List<Lineage> getParents(Lineage lineage) throws LineageDoesNotExistException {
+    return mLineageStore.getParents(lineage);
+  }
+
   /**
    * @return all the lineages in topological order
    */
   public List<Lineage> getAllLineagesInTopologicalOrder() {
     return mLineageStore.getAllInTopologicalOrder();
   }
+
+  /**
+   * @param fileId the file id
+   * @return true if there's a lineage in the store that has the output file of the given id, false
+   *         otherwise
+   */
+  public boolean hasOutputFile(long fileId) {
+    return mLineageStore.hasOutputFile(fileId);
+  }
+
+  /**
+   * @param fileId the file id
+   * @return the lineage containing the output file
+   * @throws LineageDoesNotExistException if the lineage does not exist
+   */
+  public Lineage getLineageOfOutputFile(long fileId) throws LineageDoesNotExistException {
+    return mLineageStore.getLineageOfOutputFile(fileId);
+  }
+
+  /**
+   * @param lineages lineages to sort
+   * @return the lineages after sort
+   */
+  public List<Lineage> sortLineageTopologically(Set<Lineage> lineages) {
+    return mLineageStore.sortLineageTopologically(lineages);
+  }
 }
@@ -11,7 +11,9 @@
 
 package alluxio.master.lineage.recompute;
 
+import alluxio.Configuration;
 import alluxio.Constants;
+import alluxio.PropertyKey;
 import alluxio.exception.AccessControlException;
 import alluxio.exception.FileDoesNotExistException;
 import alluxio.exception.InvalidPathException;
@@ -19,33 +21,84 @@ import alluxio.heartbeat.HeartbeatExecutor;
 import alluxio.master.file.FileSystemMaster;
 import alluxio.master.lineage.meta.Lineage;
 import alluxio.master.lineage.meta.LineageStateUtils;
+import alluxio.metrics.MetricsSystem;
 import alluxio.util.ThreadFactoryUtils;
 
+import com.codahale.metrics.Timer;
 import com.google.common.base.Preconditions;
 import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
+import javax.annotation.concurrent.GuardedBy;
 import javax.annotation.concurrent.ThreadSafe;
 
 /**
  * A periodical executor that detects lost files and launches recompute jobs.
+ *
+ * The jobs of a recompute plan are scheduled in the topological order of their lineages: a job
+ * waits for the jobs of its parent lineages to complete, while independent jobs run in parallel,
+ * up to {@link PropertyKey#MASTER_LINEAGE_RECOMPUTE_THREADS} at a time. Among the jobs ready to
+ * run, the urgent ones run first. A lineage is only recomputed once at a time: when a later plan
+ * contains a lineage which is still being recomputed, the lineage is not scheduled again, but it
+ * can become urgent.
+ *
+ * Besides the periodical heartbeats, a plan can be requested with {@link #requestPlan()} when a
+ * lost file is reported. Requested plans are computed on a planning thread of the executor rather
+ * than on the thread of the request. Plans are computed and scheduled one at a time, so that a
+ * plan computed before the job of a lineage completes never schedules the lineage again after it
+ * completes.
  */
 @ThreadSafe
 public final class RecomputeExecutor implements HeartbeatExecutor {
   private static final Logger LOG = LoggerFactory.getLogger(Constants.LOGGER_TYPE);
 
-  private static final int DEFAULT_RECOMPUTE_LAUNCHER_POOL_SIZE = 10;
   private final RecomputePlanner mPlanner;
   private final FileSystemMaster mFileSystemMaster;
+  /** The maximum number of jobs to run at the same time. */
+  private final int mMaxRunningJobs;
   /** The thread pool to launch recompute jobs. */
-  private final ExecutorService mRecomputeLauncherService =
-      Executors.newFixedThreadPool(DEFAULT_RECOMPUTE_LAUNCHER_POOL_SIZE,
-          ThreadFactoryUtils.build("recompute-launcher-%d", true));
+  private final ExecutorService mRecomputeLauncherService;
+  /** The thread computing the requested plans. */
+  private final ExecutorService mPlanRequestService;
+  /** Whether a plan was requested and has not started to be computed yet. */
+  private final AtomicBoolean mPlanRequested = new AtomicBoolean(false);
+
+  /** The jobs which are not completed yet, keyed by lineage id. */
+  @GuardedBy("this")
+  private final Map<Long, RecomputeJob> mScheduledJobs = new HashMap<>();
+  /** The jobs whose parents are completed, in the order they should run. */
+  @GuardedBy("this")
+  private final TreeSet<RecomputeJob> mReadyJobs = new TreeSet<>(new Comparator<RecomputeJob>() {
+    @Override
+    public int compare(RecomputeJob first, RecomputeJob second) {
+      if (first.mUrgent != second.mUrgent) {
+        return first.mUrgent ? -1 : 1;
+      }
+      return Long.compare(first.mSequenceNumber, second.mSequenceNumber);
+    }
+  });
+  /** The number of jobs running. */
+  @GuardedBy("this")
+  private int mNumRunningJobs;
+  /** The sequence number of the next job, to run jobs of the same priority in order. */
+  @GuardedBy("this")
+  private long mNextSequenceNumber;
 
   /**
    * Creates a new instance of {@link RecomputeExecutor}.
@@ -56,6 +109,13 @@ public final class RecomputeExecutor implements HeartbeatExecutor {
   public RecomputeExecutor(RecomputePlanner planner, FileSystemMaster fileSystemMaster) {
     mPlanner = Preconditions.checkNotNull(planner);
     mFileSystemMaster = Preconditions.checkNotNull(fileSystemMaster);
+    mMaxRunningJobs = Configuration.getInt(PropertyKey.MASTER_LINEAGE_RECOMPUTE_THREADS);
+    Preconditions.checkArgument(mMaxRunningJobs > 0,
+        "The number of recompute threads should be positive");
+    mRecomputeLauncherService = Executors.newFixedThreadPool(mMaxRunningJobs,
+        ThreadFactoryUtils.build("recompute-launcher-%d", true));
+    mPlanRequestService =
+        Executors.newSingleThreadExecutor(ThreadFactoryUtils.build("recompute-planner-%d", true));
   }
 
   @Override
@@ -65,65 +125,211 @@ public final class RecomputeExecutor implements HeartbeatExecutor {
 
   @Override
   public void close() {
+    mPlanRequestService.shutdownNow();
     mRecomputeLauncherService.shutdown();
   }
 
+  /**
+   * Requests a recompute plan to be computed and scheduled without waiting for the next heartbeat.
+   * The requests made while a plan is waiting to be computed are served by that plan. It returns
+   * without waiting for the plan.
+   */
+  public void requestPlan() {
+    if (!mPlanRequested.compareAndSet(false, true)) {
+      return;
+    }
+    try {
+      mPlanRequestService.execute(new Runnable() {
+        @Override
+        public void run() {
+          mPlanRequested.set(false);
+          try {
+            heartbeatWithFuture();
+          } catch (RuntimeException e) {
+            LOG.error("Failed to compute the requested recompute plan", e);
+          }
+        }
+      });
+    } catch (RejectedExecutionException e) {
+      // The executor is closed.
+      mPlanRequested.set(false);
+    }
+  }
+
+  /**
+   * @return the number of recompute jobs waiting for their parents or for a thread to run
+   */
+  public synchronized int getNumQueuedJobs() {
+    return mScheduledJobs.size() - mNumRunningJobs;
+  }
+
+  /**
+   * @return the number of recompute jobs running
+   */
+  public synchronized int getNumRunningJobs() {
+    return mNumRunningJobs;
+  }
+
   /**
    * A version of {@code heartbeat} which returns a {@link Future} representing completion of the
    * recompute plan. This is especially useful for tests.
    *
    * @return the {@code Future} representing completion of the recompute plan
    */
-  Future<?> heartbeatWithFuture() {
+  synchronized Future<?> heartbeatWithFuture() {
     RecomputePlan plan = mPlanner.plan();
     if (plan != null && !plan.isEmpty()) {
-      return mRecomputeLauncherService.submit(new RecomputeLauncher(plan));
+      return schedule(plan);
     }
     return Futures.<Void>immediateFuture(null);
   }
 
   /**
-   * Thread to launch the recompute jobs in a given plan.
+   * Schedules the jobs of a recompute plan.
+   *
+   * @param plan the recompute plan
+   * @return the {@code Future} representing completion of the jobs of the plan
+   */
+  private synchronized Future<?> schedule(RecomputePlan plan) {
+    List<ListenableFuture<Void>> futures = new ArrayList<>();
+    for (Lineage lineage : plan.getLineageToRecompute()) {
+      RecomputeJob job = mScheduledJobs.get(lineage.getId());
+      if (job != null) {
+        if (plan.isUrgent(lineage) && !job.mUrgent) {
+          // Reinsert the job to keep the ready jobs sorted.
+          boolean ready = mReadyJobs.remove(job);
+          job.mUrgent = true;
+          if (ready) {
+            mReadyJobs.add(job);
+          }
+        }
+      } else {
+        job = new RecomputeJob(lineage, plan.isUrgent(lineage), mNextSequenceNumber++);
+        for (Lineage parent : plan.getParents(lineage)) {
+          RecomputeJob parentJob = mScheduledJobs.get(parent.getId());
+          if (parentJob != null) {
+            parentJob.mChildren.add(job);
+            job.mNumWaitingParents++;
+          }
+        }
+        mScheduledJobs.put(lineage.getId(), job);
+        if (job.mNumWaitingParents == 0) {
+          mReadyJobs.add(job);
+        }
+      }
+      futures.add(job.mCompletion);
+    }
+    launchReadyJobs();
+    return Futures.allAsList(futures);
+  }
+
+  /**
+   * Launches the ready jobs while fewer than the maximum number of jobs are running.
    */
-  @ThreadSafe
-  final class RecomputeLauncher implements Runnable {
-    private final RecomputePlan mPlan;
+  @GuardedBy("this")
+  private void launchReadyJobs() {
+    while (mNumRunningJobs < mMaxRunningJobs && !mReadyJobs.isEmpty()
+        && !mRecomputeLauncherService.isShutdown()) {
+      mNumRunningJobs++;
+      mRecomputeLauncherService.execute(mReadyJobs.pollFirst());
+    }
+  }
+
+  /**
+   * Marks a job as completed, and launches the jobs which were waiting for it.
+   *
+   * @param job the completed job
+   */
+  private synchronized void complete(RecomputeJob job) {
+    mNumRunningJobs--;
+    mScheduledJobs.remove(job.mLineage.getId());
+    for (RecomputeJob child : job.mChildren) {
+      if (--child.mNumWaitingParents == 0) {
+        mReadyJobs.add(child);
+      }
+    }
+    launchReadyJobs();
+  }
+
+  /**
+   * The recompute job of a lineage.
+   */
+  final class RecomputeJob implements Runnable {
+    private final Lineage mLineage;
+    private final long mSequenceNumber;
+    private final long mScheduledTimeMs;
+    private final SettableFuture<Void> mCompletion = SettableFuture.create();
+    /** The jobs of the child lineages waiting for this job. */
+    @GuardedBy("RecomputeExecutor.this")
+    private final List<RecomputeJob> mChildren = new ArrayList<>();
+    @GuardedBy("RecomputeExecutor.this")
+    private int mNumWaitingParents;
+    @GuardedBy("RecomputeExecutor.this")
+    private boolean mUrgent;
 
     /**
-     * Creates a new instance of {@link RecomputeLauncher}.
+     * Creates a new instance of {@link RecomputeJob}.
      *
-     * @param plan the recompute plan
+     * @param lineage the lineage to recompute
+     * @param urgent whether the job should run before the jobs which are not urgent
+     * @param sequenceNumber the sequence number of the job
      */
-    RecomputeLauncher(RecomputePlan plan) {
-      mPlan = Preconditions.checkNotNull(plan);
+    RecomputeJob(Lineage lineage, boolean urgent, long sequenceNumber) {
+      mLineage = Preconditions.checkNotNull(lineage);
+      mUrgent = urgent;
+      mSequenceNumber = sequenceNumber;
+      mScheduledTimeMs = System.currentTimeMillis();
     }
 
     @Override
     public void run() {
-      for (Lineage lineage : mPlan.getLineageToRecompute()) {
-        // empty all the lost files
-        try {
-          for (Long fileId : LineageStateUtils.getLostFiles(lineage,
-              mFileSystemMaster.getFileSystemMasterView())) {
-            try {
-              mFileSystemMaster.resetFile(fileId);
-            } catch (FileDoesNotExistException e) {
-              LOG.error("the lost file {} does not exist", fileId, e);
-            } catch (InvalidPathException e) {
-              LOG.error("the lost file {} is invalid", fileId, e);
-            } catch (AccessControlException e) {
-              LOG.error("the lost file {} cannot be accessed", fileId, e);
-            }
+      try {
+        recompute();
+      } catch (RuntimeException e) {
+        LOG.error("Failed to recompute lineage {}", mLineage.getId(), e);
+      } finally {
+        Metrics.RECOMPUTE_LATENCY.update(System.currentTimeMillis() - mScheduledTimeMs,
+            TimeUnit.MILLISECONDS);
+        complete(this);
+        mCompletion.set(null);
+      }
+    }
+
+    /**
+     * Resets the lost output files of the lineage and runs its job.
+     */
+    private void recompute() {
+      // empty all the lost files
+      try {
+        for (Long fileId : LineageStateUtils.getLostFiles(mLineage,
+            mFileSystemMaster.getFileSystemMasterView())) {
+          try {
+            mFileSystemMaster.resetFile(fileId);
+          } catch (FileDoesNotExistException e) {
+            LOG.error("the lost file {} does not exist", fileId, e);
+          } catch (InvalidPathException e) {
+            LOG.error("the lost file {} is invalid", fileId, e);
+          } catch (AccessControlException e) {
+            LOG.error("the lost file {} cannot be accessed", fileId, e);
           }
-        } catch (FileDoesNotExistException e) {
-          LOG.error("an output file of lineage {} does not exist", lineage.getId(), e);
         }
+      } catch (FileDoesNotExistException e) {
+        LOG.error("an output file of lineage {} does not exist", mLineage.getId(), e);
+      }
 
-        boolean success = lineage.getJob().run();
-        if (!success) {
-          LOG.error("Failed to recompute job {}", lineage.getJob());
-        }
+      boolean success = mLineage.getJob().run();
+      if (!success) {
+        LOG.error("Failed to recompute job {}", mLineage.getJob());
       }
     }
   }
+
+  /**
+   * Class that contains metrics about the recompute jobs.
+   */
+  private static final class Metrics {
+    private static final Timer RECOMPUTE_LATENCY = MetricsSystem.masterTimer("RecomputeLatency");
+
+    private Metrics() {} // prevent instantiation
+  }
 }
@@ -16,7 +16,10 @@ import alluxio.master.lineage.meta.Lineage;
 import com.google.common.base.Objects;
 import com.google.common.base.Preconditions;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javax.annotation.concurrent.ThreadSafe;
 
@@ -24,21 +27,44 @@ import javax.annotation.concurrent.ThreadSafe;
  * A plan for recomputing the lost files. It essentially contains a batch of jobs from the
  * corresponding lineages to execute.
  *
- * TODO(yupeng): in this version it simply returns a list of jobs to execute in sequence. In the
- * future, we will explore the possibility of executing jobs in parallel.
+ * The lineages are in topological order. A lineage can only be recomputed after its parents in
+ * the plan, while lineages which do not depend on each other can be recomputed in parallel. Urgent
+ * lineages produce files that clients are blocked on, or are ancestors of such lineages, and
+ * should be recomputed first.
  */
 @ThreadSafe
 public class RecomputePlan {
   /** A list of lineages to recompute. */
   private final List<Lineage> mToRecompute;
+  /** The parents in the plan of the lineages to recompute. */
+  private final Map<Lineage, List<Lineage>> mParents;
+  /** The lineages to recompute first. */
+  private final Set<Lineage> mUrgent;
 
   /**
-   * Creates a new instance of {@link RecomputePlan}.
+   * Creates a new instance of {@link RecomputePlan} where the lineages do not depend on each other
+   * and none of them is urgent.
    *
    * @param toRecompute the lineages to recompute
    */
   public RecomputePlan(List<Lineage> toRecompute) {
+    this(toRecompute, Collections.<Lineage, List<Lineage>>emptyMap(),
+        Collections.<Lineage>emptySet());
+  }
+
+  /**
+   * Creates a new instance of {@link RecomputePlan}.
+   *
+   * @param toRecompute the lineages to recompute, in topological order
+   * @param parents the parents in the plan of the lineages to recompute, absent for lineages
+   *        without parents in the plan
+   * @param urgent the lineages to recompute first
+   */
+  public RecomputePlan(List<Lineage> toRecompute, Map<Lineage, List<Lineage>> parents,
+      Set<Lineage> urgent) {
     mToRecompute = Preconditions.checkNotNull(toRecompute);
+    mParents = Preconditions.checkNotNull(parents);
+    mUrgent = Preconditions.checkNotNull(urgent);
   }
 
   /**
@@ -48,6 +74,23 @@ public class RecomputePlan {
     return mToRecompute;
   }
 
+  /**
+   * @param lineage a lineage of the plan
+   * @return the parents of the lineage which are also recomputed by the plan
+   */
+  public List<Lineage> getParents(Lineage lineage) {
+    List<Lineage> parents = mParents.get(lineage);
+    return parents == null ? Collections.<Lineage>emptyList() : parents;
+  }
+
+  /**
+   * @param lineage a lineage of the plan
+   * @return true if the lineage should be recomputed first, false otherwise
+   */
+  public boolean isUrgent(Lineage lineage) {
+    return mUrgent.contains(lineage);
+  }
+
   /**
    * @return true if the plan is empty, false otherwise
    */
@@ -57,6 +100,7 @@ public class RecomputePlan {
 
   @Override
   public String toString() {
-    return Objects.toStringHelper(this).add("toRecompute", mToRecompute).toString();
+    return Objects.toStringHelper(this).add("toRecompute", mToRecompute).add("urgent", mUrgent)
+        .toString();
   }
 }
@@ -12,19 +12,24 @@
 package alluxio.master.lineage.recompute;
 
 import alluxio.Constants;
+import alluxio.collections.ConcurrentHashSet;
 import alluxio.exception.FileDoesNotExistException;
 import alluxio.exception.LineageDoesNotExistException;
 import alluxio.master.file.FileSystemMaster;
 import alluxio.master.lineage.meta.Lineage;
 import alluxio.master.lineage.meta.LineageStateUtils;
 import alluxio.master.lineage.meta.LineageStore;
+import alluxio.master.lineage.meta.LineageStoreView;
 
 import com.google.common.base.Preconditions;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import javax.annotation.concurrent.ThreadSafe;
@@ -39,6 +44,8 @@ public class RecomputePlanner {
 
   private final LineageStore mLineageStore;
   private final FileSystemMaster mFileSystemMaster;
+  /** The lost files which clients are blocked on. */
+  private final Set<Long> mRequestedFiles = new ConcurrentHashSet<>();
 
   /**
    * Creates a new instance of {@link RecomputePlanner}.
@@ -51,11 +58,25 @@ public class RecomputePlanner {
     mFileSystemMaster = Preconditions.checkNotNull(fileSystemMaster);
   }
 
+  /**
+   * Requests a lost file to be recomputed first, because a client is blocked on it. The request
+   * lasts until the file is not lost anymore.
+   *
+   * @param fileId the id of the lost file
+   * @return true if the file was not requested yet, false otherwise
+   */
+  public boolean requestFile(long fileId) {
+    return mRequestedFiles.add(fileId);
+  }
+
   /**
    * @return a {@link RecomputePlan} that identifies the lineages to recompute
    */
   public RecomputePlan plan() {
     List<Long> lostFiles = mFileSystemMaster.getLostFiles();
+    mRequestedFiles.retainAll(lostFiles);
+    // The plan is made on a snapshot, so that it does not block the lineage master.
+    LineageStoreView store = new LineageStoreView(mLineageStore);
 
     // lineage to recompute
     Set<Lineage> toRecompute = new HashSet<>();
@@ -63,13 +84,13 @@ public class RecomputePlanner {
       LOG.info("report lost files {}", lostFiles);
       // report lost files
       for (long lostFile : lostFiles) {
-        if (!mLineageStore.hasOutputFile(lostFile)) {
+        if (!store.hasOutputFile(lostFile)) {
           continue;
         }
 
         Lineage lineage;
         try {
-          lineage = mLineageStore.getLineageOfOutputFile(lostFile);
+          lineage = store.getLineageOfOutputFile(lostFile);
         } catch (LineageDoesNotExistException e) {
           throw new IllegalStateException(e); // should not happen
         }
@@ -84,7 +105,49 @@ public class RecomputePlanner {
       }
     }
 
-    List<Lineage> toRecomputeAfterSort = mLineageStore.sortLineageTopologically(toRecompute);
-    return new RecomputePlan(toRecomputeAfterSort);
+    List<Lineage> toRecomputeAfterSort = store.sortLineageTopologically(toRecompute);
+    Map<Lineage, List<Lineage>> parents = new HashMap<>();
+    for (Lineage lineage : toRecomputeAfterSort) {
+      List<Lineage> parentsToRecompute = new ArrayList<>();
+      try {
+        for (Lineage parent : store.getParents(lineage)) {
+          if (toRecompute.contains(parent)) {
+            parentsToRecompute.add(parent);
+          }
+        }
+      } catch (LineageDoesNotExistException e) {
+        throw new IllegalStateException(e); // should not happen
+      }
+      if (!parentsToRecompute.isEmpty()) {
+        parents.put(lineage, parentsToRecompute);
+      }
+    }
+
+    // The lineages producing the requested files are urgent, and so are their ancestors in the
+    // plan, since they must be recomputed first.
+    Set<Lineage> urgent = new HashSet<>();
+    for (int i = toRecomputeAfterSort.size() - 1; i >= 0; i--) {
+      Lineage lineage = toRecomputeAfterSort.get(i);
+      if (urgent.contains(lineage) || isRequested(lineage)) {
+        urgent.add(lineage);
+        if (parents.containsKey(lineage)) {
+          urgent.addAll(parents.get(lineage));
+        }
+      }
+    }
+    return new RecomputePlan(toRecomputeAfterSort, parents, urgent);
+  }
+
+  /**
+   * @param lineage a lineage
+   * @return true if one of the output files of the lineage is requested, false otherwise
+   */
+  private boolean isRequested(Lineage lineage) {
+    for (long fileId : lineage.getOutputFiles()) {
+      if (mRequestedFiles.contains(fileId)) {
+        return true;
+      }
+    }
+    return false;
   }
 }
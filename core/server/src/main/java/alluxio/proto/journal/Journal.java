@@ -332,13 +332,26 @@ public final class Journal {
      * <code>optional .alluxio.proto.journal.SetAttributeEntry set_attribute = 27;</code>
      */
     alluxio.proto.journal.File.SetAttributeEntryOrBuilder getSetAttributeOrBuilder();
+
+    /**
+     * <code>optional .alluxio.proto.journal.UfsDeleteEntry ufs_delete = 29;</code>
+     */
+    boolean hasUfsDelete();
+    /**
+     * <code>optional .alluxio.proto.journal.UfsDeleteEntry ufs_delete = 29;</code>
+     */
+    alluxio.proto.journal.File.UfsDeleteEntry getUfsDelete();
+    /**
+     * <code>optional .alluxio.proto.journal.UfsDeleteEntry ufs_delete = 29;</code>
+     */
+    alluxio.proto.journal.File.UfsDeleteEntryOrBuilder getUfsDeleteOrBuilder();
   }
   /**
    * Protobuf type {@code alluxio.proto.journal.JournalEntry}
    *
    * <pre>
    * Wraps around all types of Alluxio journal messages.
-   * next available id: 29
+   * next available id: 30
    * </pre>
    */
   public static final class JournalEntry extends
@@ -707,6 +720,19 @@ public final class Journal {
               entryCase_ = 28;
               break;
             }
+            case 234: {
+              alluxio.proto.journal.File.UfsDeleteEntry.Builder subBuilder = null;
+              if (entryCase_ == 29) {
+                subBuilder = ((alluxio.proto.journal.File.UfsDeleteEntry) entry_).toBuilder();
+              }
+              entry_ = input.readMessage(alluxio.proto.journal.File.UfsDeleteEntry.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom((alluxio.proto.journal.File.UfsDeleteEntry) entry_);
+                entry_ = subBuilder.buildPartial();
+              }
+              entryCase_ = 29;
+              break;
+            }
           }
         }
       } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -775,6 +801,7 @@ public final class Journal {
       RENAME(19),
       RENAME_STORE(28),
       SET_ATTRIBUTE(27),
+      UFS_DELETE(29),
       ENTRY_NOT_SET(0);
       private int value = 0;
       private EntryCase(int value) {
@@ -806,6 +833,7 @@ public final class Journal {
           case 19: return RENAME;
           case 28: return RENAME_STORE;
           case 27: return SET_ATTRIBUTE;
+          case 29: return UFS_DELETE;
           case 0: return ENTRY_NOT_SET;
           default: throw new java.lang.IllegalArgumentException(
             "Value is undefined for this oneof enum.");
@@ -1461,6 +1489,32 @@ public final class Journal {
       return alluxio.proto.journal.File.SetAttributeEntry.getDefaultInstance();
     }
 
+    public static final int UFS_DELETE_FIELD_NUMBER = 29;
+    /**
+     * <code>optional .alluxio.proto.journal.UfsDeleteEntry ufs_delete = 29;</code>
+     */
+    public boolean hasUfsDelete() {
+      return entryCase_ == 29;
+    }
+    /**
+     * <code>optional .alluxio.proto.journal.UfsDeleteEntry ufs_delete = 29;</code>
+     */
+    public alluxio.proto.journal.File.UfsDeleteEntry getUfsDelete() {
+      if (entryCase_ == 29) {
+         return (alluxio.proto.journal.File.UfsDeleteEntry) entry_;
+      }
+      return alluxio.proto.journal.File.UfsDeleteEntry.getDefaultInstance();
+    }
+    /**
+     * <code>optional .alluxio.proto.journal.UfsDeleteEntry ufs_delete = 29;</code>
+     */
+    public alluxio.proto.journal.File.UfsDeleteEntryOrBuilder getUfsDeleteOrBuilder() {
+      if (entryCase_ == 29) {
+         return (alluxio.proto.journal.File.UfsDeleteEntry) entry_;
+      }
+      return alluxio.proto.journal.File.UfsDeleteEntry.getDefaultInstance();
+    }
+
     private void initFields() {
       sequenceNumber_ = 0L;
     }
@@ -1552,6 +1606,9 @@ public final class Journal {
       if (entryCase_ == 28) {
         output.writeMessage(28, (alluxio.proto.journal.KeyValue.RenameStoreEntry) entry_);
       }
+      if (entryCase_ == 29) {
+        output.writeMessage(29, (alluxio.proto.journal.File.UfsDeleteEntry) entry_);
+      }
       getUnknownFields().writeTo(output);
     }
 
@@ -1661,6 +1718,10 @@ public final class Journal {
         size += com.google.protobuf.CodedOutputStream
           .computeMessageSize(28, (alluxio.proto.journal.KeyValue.RenameStoreEntry) entry_);
       }
+      if (entryCase_ == 29) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(29, (alluxio.proto.journal.File.UfsDeleteEntry) entry_);
+      }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
       return size;
@@ -1744,7 +1805,7 @@ public final class Journal {
      *
      * <pre>
      * Wraps around all types of Alluxio journal messages.
-     * next available id: 29
+     * next available id: 30
      * </pre>
      */
     public static final class Builder extends
@@ -1987,6 +2048,13 @@ public final class Journal {
             result.entry_ = setAttributeBuilder_.build();
           }
         }
+        if (entryCase_ == 29) {
+          if (ufsDeleteBuilder_ == null) {
+            result.entry_ = entry_;
+          } else {
+            result.entry_ = ufsDeleteBuilder_.build();
+          }
+        }
         result.bitField0_ = to_bitField0_;
         result.entryCase_ = entryCase_;
         onBuilt();
@@ -2104,6 +2172,10 @@ public final class Journal {
             mergeSetAttribute(other.getSetAttribute());
             break;
           }
+          case UFS_DELETE: {
+            mergeUfsDelete(other.getUfsDelete());
+            break;
+          }
           case ENTRY_NOT_SET: {
             break;
           }
@@ -5422,6 +5494,141 @@ public final class Journal {
         return setAttributeBuilder_;
       }
 
+      private com.google.protobuf.SingleFieldBuilder<
+          alluxio.proto.journal.File.UfsDeleteEntry, alluxio.proto.journal.File.UfsDeleteEntry.Builder, alluxio.proto.journal.File.UfsDeleteEntryOrBuilder> ufsDeleteBuilder_;
+      /**
+       * <code>optional .alluxio.proto.journal.UfsDeleteEntry ufs_delete = 29;</code>
+       */
+      public boolean hasUfsDelete() {
+        return entryCase_ == 29;
+      }
+      /**
+       * <code>optional .alluxio.proto.journal.UfsDeleteEntry ufs_delete = 29;</code>
+       */
+      public alluxio.proto.journal.File.UfsDeleteEntry getUfsDelete() {
+        if (ufsDeleteBuilder_ == null) {
+          if (entryCase_ == 29) {
+            return (alluxio.proto.journal.File.UfsDeleteEntry) entry_;
+          }
+          return alluxio.proto.journal.File.UfsDeleteEntry.getDefaultInstance();
+        } else {
+          if (entryCase_ == 29) {
+            return ufsDeleteBuilder_.getMessage();
+          }
+          return alluxio.proto.journal.File.UfsDeleteEntry.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>optional .alluxio.proto.journal.UfsDeleteEntry ufs_delete = 29;</code>
+       */
+      public Builder setUfsDelete(alluxio.proto.journal.File.UfsDeleteEntry value) {
+        if (ufsDeleteBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          entry_ = value;
+          onChanged();
+        } else {
+          ufsDeleteBuilder_.setMessage(value);
+        }
+        entryCase_ = 29;
+        return this;
+      }
+      /**
+       * <code>optional .alluxio.proto.journal.UfsDeleteEntry ufs_delete = 29;</code>
+       */
+      public Builder setUfsDelete(
+          alluxio.proto.journal.File.UfsDeleteEntry.Builder builderForValue) {
+        if (ufsDeleteBuilder_ == null) {
+          entry_ = builderForValue.build();
+          onChanged();
+        } else {
+          ufsDeleteBuilder_.setMessage(builderForValue.build());
+        }
+        entryCase_ = 29;
+        return this;
+      }
+      /**
+       * <code>optional .alluxio.proto.journal.UfsDeleteEntry ufs_delete = 29;</code>
+       */
+      public Builder mergeUfsDelete(alluxio.proto.journal.File.UfsDeleteEntry value) {
+        if (ufsDeleteBuilder_ == null) {
+          if (entryCase_ == 29 &&
+              entry_ != alluxio.proto.journal.File.UfsDeleteEntry.getDefaultInstance()) {
+            entry_ = alluxio.proto.journal.File.UfsDeleteEntry.newBuilder((alluxio.proto.journal.File.UfsDeleteEntry) entry_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            entry_ = value;
+          }
+          onChanged();
+        } else {
+          if (entryCase_ == 29) {
+            ufsDeleteBuilder_.mergeFrom(value);
+          }
+          ufsDeleteBuilder_.setMessage(value);
+        }
+        entryCase_ = 29;
+        return this;
+      }
+      /**
+       * <code>optional .alluxio.proto.journal.UfsDeleteEntry ufs_delete = 29;</code>
+       */
+      public Builder clearUfsDelete() {
+        if (ufsDeleteBuilder_ == null) {
+          if (entryCase_ == 29) {
+            entryCase_ = 0;
+            entry_ = null;
+            onChanged();
+          }
+        } else {
+          if (entryCase_ == 29) {
+            entryCase_ = 0;
+            entry_ = null;
+          }
+          ufsDeleteBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>optional .alluxio.proto.journal.UfsDeleteEntry ufs_delete = 29;</code>
+       */
+      public alluxio.proto.journal.File.UfsDeleteEntry.Builder getUfsDeleteBuilder() {
+        return getUfsDeleteFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .alluxio.proto.journal.UfsDeleteEntry ufs_delete = 29;</code>
+       */
+      public alluxio.proto.journal.File.UfsDeleteEntryOrBuilder getUfsDeleteOrBuilder() {
+        if ((entryCase_ == 29) && (ufsDeleteBuilder_ != null)) {
+          return ufsDeleteBuilder_.getMessageOrBuilder();
+        } else {
+          if (entryCase_ == 29) {
+            return (alluxio.proto.journal.File.UfsDeleteEntry) entry_;
+          }
+          return alluxio.proto.journal.File.UfsDeleteEntry.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>optional .alluxio.proto.journal.UfsDeleteEntry ufs_delete = 29;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          alluxio.proto.journal.File.UfsDeleteEntry, alluxio.proto.journal.File.UfsDeleteEntry.Builder, alluxio.proto.journal.File.UfsDeleteEntryOrBuilder> 
+          getUfsDeleteFieldBuilder() {
+        if (ufsDeleteBuilder_ == null) {
+          if (!(entryCase_ == 29)) {
+            entry_ = alluxio.proto.journal.File.UfsDeleteEntry.getDefaultInstance();
+          }
+          ufsDeleteBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              alluxio.proto.journal.File.UfsDeleteEntry, alluxio.proto.journal.File.UfsDeleteEntry.Builder, alluxio.proto.journal.File.UfsDeleteEntryOrBuilder>(
+                  (alluxio.proto.journal.File.UfsDeleteEntry) entry_,
+                  getParentForChildren(),
+                  isClean());
+          entry_ = null;
+        }
+        entryCase_ = 29;
+        return ufsDeleteBuilder_;
+      }
+
       // @@protoc_insertion_point(builder_scope:alluxio.proto.journal.JournalEntry)
     }
 
@@ -5449,7 +5656,7 @@ public final class Journal {
     java.lang.String[] descriptorData = {
       "\n\rjournal.proto\022\025alluxio.proto.journal\032\013" +
       "block.proto\032\nfile.proto\032\017key_value.proto" +
-      "\032\rlineage.proto\"\344\r\n\014JournalEntry\022\027\n\017sequ" +
+      "\032\rlineage.proto\"\241\016\n\014JournalEntry\022\027\n\017sequ" +
       "ence_number\030\001 \001(\003\022D\n\017add_mount_point\030\002 \001" +
       "(\0132).alluxio.proto.journal.AddMountPoint" +
       "EntryH\000\022]\n\034block_container_id_generator\030" +
@@ -5493,8 +5700,9 @@ public final class Journal {
       "\000\022?\n\014rename_store\030\034 \001(\0132\'.alluxio.proto." +
       "journal.RenameStoreEntryH\000\022A\n\rset_attrib" +
       "ute\030\033 \001(\0132(.alluxio.proto.journal.SetAtt" +
-      "ributeEntryH\000B\007\n\005entryB\027\n\025alluxio.proto." +
-      "journal"
+      "ributeEntryH\000\022;\n\nufs_delete\030\035 \001(\0132%.allu" +
+      "xio.proto.journal.UfsDeleteEntryH\000B\007\n\005en" +
+      "tryB\027\n\025alluxio.proto.journal"
     };
     com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
         new com.google.protobuf.Descriptors.FileDescriptor.    InternalDescriptorAssigner() {
@@ -5517,7 +5725,7 @@ public final class Journal {
     internal_static_alluxio_proto_journal_JournalEntry_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_alluxio_proto_journal_JournalEntry_descriptor,
-        new java.lang.String[] { "SequenceNumber", "AddMountPoint", "BlockContainerIdGenerator", "BlockInfo", "CompleteFile", "CompletePartition", "CompleteStore", "CreateStore", "DeleteFile", "DeleteLineage", "DeleteMountPoint", "DeleteStore", "InodeDirectory", "InodeDirectoryIdGenerator", "InodeFile", "InodeLastModificationTime", "Lineage", "LineageIdGenerator", "MergeStore", "PersistDirectory", "AsyncPersistRequest", "ReinitializeFile", "Rename", "RenameStore", "SetAttribute", "Entry", });
+        new java.lang.String[] { "SequenceNumber", "AddMountPoint", "BlockContainerIdGenerator", "BlockInfo", "CompleteFile", "CompletePartition", "CompleteStore", "CreateStore", "DeleteFile", "DeleteLineage", "DeleteMountPoint", "DeleteStore", "InodeDirectory", "InodeDirectoryIdGenerator", "InodeFile", "InodeLastModificationTime", "Lineage", "LineageIdGenerator", "MergeStore", "PersistDirectory", "AsyncPersistRequest", "ReinitializeFile", "Rename", "RenameStore", "SetAttribute", "UfsDelete", "Entry", });
     alluxio.proto.journal.Block.getDescriptor();
     alluxio.proto.journal.File.getDescriptor();
     alluxio.proto.journal.KeyValue.getDescriptor();
@@ -98,6 +98,8 @@ public final class UIFileInfo {
 
   private final Map<String, List<UIFileBlockInfo>> mBlocksOnTier = new HashMap<>();
   private final Map<String, Long> mSizeOnTier = new HashMap<>();
+  /** The total size of the files in a directory and its descendants, or -1 if unknown. */
+  private long mDirectorySize = -1;
 
   /**
    * Creates a new instance of {@link UIFileInfo}.
@@ -294,12 +296,19 @@ public final class UIFileInfo {
    */
   public String getSize() {
     if (mIsDirectory) {
-      return "";
+      return mDirectorySize < 0 ? "" : FormatUtils.getSizeFromBytes(mDirectorySize);
     } else {
       return FormatUtils.getSizeFromBytes(mSize);
     }
   }
 
+  /**
+   * @param directorySize the total size of the files in the directory and its descendants to use
+   */
+  public void setDirectorySize(long directorySize) {
+    mDirectorySize = directorySize;
+  }
+
   /**
    * @param fileLocations the file locations to use
    */
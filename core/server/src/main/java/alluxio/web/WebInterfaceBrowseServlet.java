@@ -38,7 +38,6 @@ import alluxio.wire.WorkerNetAddress;
 
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 
 import javax.annotation.concurrent.ThreadSafe;
@@ -148,6 +147,10 @@ public final class WebInterfaceBrowseServlet extends HttpServlet {
     AlluxioURI currentPath = new AlluxioURI(requestPath);
     request.setAttribute("currentPath", currentPath.toString());
     request.setAttribute("viewingOffset", 0);
+    // URL can not determine offset and limit, let javascript in jsp determine and redirect
+    boolean paged = request.getParameter("offset") != null || request.getParameter("limit") != null;
+    int pageOffset = 0;
+    int pageLimit = 0;
 
     try {
       long fileId = mMaster.getFileSystemMaster().getFileId(currentPath);
@@ -192,8 +195,28 @@ public final class WebInterfaceBrowseServlet extends HttpServlet {
         return;
       }
       setPathDirectories(currentPath, request);
+      if (paged) {
+        pageOffset = Integer.parseInt(request.getParameter("offset"));
+        pageLimit = Integer.parseInt(request.getParameter("limit"));
+      }
+      // Only the page to display is listed, sorted by name. At least one child is listed so that
+      // the metadata of the directory is loaded even when there is no page to display.
       filesInfo = mMaster.getFileSystemMaster().listStatus(currentPath,
-          ListStatusOptions.defaults().setLoadMetadataType(LoadMetadataType.Always));
+          ListStatusOptions.defaults().setLoadMetadataType(LoadMetadataType.Always)
+              .setStartAfter(request.getParameter("startAfter")).setOffset(pageOffset)
+              .setLimit(Math.max(pageLimit, 1)));
+      // The length of a directory is its number of children.
+      request.setAttribute("nTotalFile",
+          (int) mMaster.getFileSystemMaster().getFileInfo(fileId).getLength());
+    } catch (NumberFormatException e) {
+      request.setAttribute("fatalError",
+          "Error: offset or limit parse error, " + e.getLocalizedMessage());
+      getServletContext().getRequestDispatcher("/browse.jsp").forward(request, response);
+      return;
+    } catch (IllegalArgumentException e) {
+      request.setAttribute("fatalError", e.getLocalizedMessage());
+      getServletContext().getRequestDispatcher("/browse.jsp").forward(request, response);
+      return;
     } catch (FileDoesNotExistException e) {
       request.setAttribute("invalidPathError", "Error: Invalid Path " + e.getMessage());
       getServletContext().getRequestDispatcher("/browse.jsp").forward(request, response);
@@ -214,11 +237,21 @@ public final class WebInterfaceBrowseServlet extends HttpServlet {
       return;
     }
 
+    if (!paged) {
+      getServletContext().getRequestDispatcher("/browse.jsp").forward(request, response);
+      return;
+    }
+
+    filesInfo = filesInfo.subList(0, Math.min(pageLimit, filesInfo.size()));
     List<UIFileInfo> fileInfos = new ArrayList<>(filesInfo.size());
     for (FileInfo fileInfo : filesInfo) {
       UIFileInfo toAdd = new UIFileInfo(fileInfo);
       try {
-        if (!toAdd.getIsDirectory() && fileInfo.getLength() > 0) {
+        if (toAdd.getIsDirectory()) {
+          // The size of a directory is maintained by the master, so its subtree is not walked.
+          toAdd.setDirectorySize(mMaster.getFileSystemMaster()
+              .getContentSummary(new AlluxioURI(toAdd.getAbsolutePath())).getLength());
+        } else if (fileInfo.getLength() > 0) {
           FileBlockInfo blockInfo =
               mMaster.getFileSystemMaster()
                   .getFileBlockInfoList(new AlluxioURI(toAdd.getAbsolutePath())).get(0);
@@ -249,37 +282,7 @@ public final class WebInterfaceBrowseServlet extends HttpServlet {
       }
       fileInfos.add(toAdd);
     }
-    Collections.sort(fileInfos, UIFileInfo.PATH_STRING_COMPARE);
-
-    request.setAttribute("nTotalFile", fileInfos.size());
-
-    // URL can not determine offset and limit, let javascript in jsp determine and redirect
-    if (request.getParameter("offset") == null && request.getParameter("limit") == null) {
-      getServletContext().getRequestDispatcher("/browse.jsp").forward(request, response);
-      return;
-    }
-
-    try {
-      int offset = Integer.parseInt(request.getParameter("offset"));
-      int limit = Integer.parseInt(request.getParameter("limit"));
-      List<UIFileInfo> sub = fileInfos.subList(offset, offset + limit);
-      request.setAttribute("fileInfos", sub);
-    } catch (NumberFormatException e) {
-      request.setAttribute("fatalError",
-          "Error: offset or limit parse error, " + e.getLocalizedMessage());
-      getServletContext().getRequestDispatcher("/browse.jsp").forward(request, response);
-      return;
-    } catch (IndexOutOfBoundsException e) {
-      request.setAttribute("fatalError",
-          "Error: offset or offset + limit is out of bound, " + e.getLocalizedMessage());
-      getServletContext().getRequestDispatcher("/browse.jsp").forward(request, response);
-      return;
-    } catch (IllegalArgumentException e) {
-      request.setAttribute("fatalError", e.getLocalizedMessage());
-      getServletContext().getRequestDispatcher("/browse.jsp").forward(request, response);
-      return;
-    }
-
+    request.setAttribute("fileInfos", fileInfos);
     getServletContext().getRequestDispatcher("/browse.jsp").forward(request, response);
   }
 
@@ -73,28 +73,7 @@ public final class WebInterfaceMemoryServlet extends HttpServlet {
 
     List<AlluxioURI> inMemoryFiles = mMaster.getFileSystemMaster().getInMemoryFiles();
     Collections.sort(inMemoryFiles);
-
-    List<UIFileInfo> fileInfos = new ArrayList<>(inMemoryFiles.size());
-    for (AlluxioURI file : inMemoryFiles) {
-      try {
-        long fileId = mMaster.getFileSystemMaster().getFileId(file);
-        FileInfo fileInfo = mMaster.getFileSystemMaster().getFileInfo(fileId);
-        if (fileInfo != null && fileInfo.getInMemoryPercentage() == 100) {
-          fileInfos.add(new UIFileInfo(fileInfo));
-        }
-      } catch (FileDoesNotExistException e) {
-        request.setAttribute("fatalError",
-            "Error: File does not exist " + e.getLocalizedMessage());
-        getServletContext().getRequestDispatcher("/memory.jsp").forward(request, response);
-        return;
-      } catch (AccessControlException e) {
-        request.setAttribute("permissionError",
-            "Error: File " + file + " cannot be accessed " + e.getMessage());
-        getServletContext().getRequestDispatcher("/memory.jsp").forward(request, response);
-        return;
-      }
-    }
-    request.setAttribute("inMemoryFileNum", fileInfos.size());
+    request.setAttribute("inMemoryFileNum", inMemoryFiles.size());
 
     // URL is "./memory", can not determine offset and limit, let javascript in jsp determine
     // and redirect to "./memory?offset=xxx&limit=xxx"
@@ -103,11 +82,11 @@ public final class WebInterfaceMemoryServlet extends HttpServlet {
       return;
     }
 
+    List<AlluxioURI> sub;
     try {
       int offset = Integer.parseInt(request.getParameter("offset"));
       int limit = Integer.parseInt(request.getParameter("limit"));
-      List<UIFileInfo> sub = fileInfos.subList(offset, offset + limit);
-      request.setAttribute("fileInfos", sub);
+      sub = inMemoryFiles.subList(offset, offset + limit);
     } catch (NumberFormatException e) {
       request.setAttribute("fatalError",
           "Error: offset or limit parse error, " + e.getLocalizedMessage());
@@ -124,6 +103,29 @@ public final class WebInterfaceMemoryServlet extends HttpServlet {
       return;
     }
 
+    // Only the file information of the page to display is generated.
+    List<UIFileInfo> fileInfos = new ArrayList<>(sub.size());
+    for (AlluxioURI file : sub) {
+      try {
+        long fileId = mMaster.getFileSystemMaster().getFileId(file);
+        FileInfo fileInfo = mMaster.getFileSystemMaster().getFileInfo(fileId);
+        if (fileInfo != null) {
+          fileInfos.add(new UIFileInfo(fileInfo));
+        }
+      } catch (FileDoesNotExistException e) {
+        request.setAttribute("fatalError",
+            "Error: File does not exist " + e.getLocalizedMessage());
+        getServletContext().getRequestDispatcher("/memory.jsp").forward(request, response);
+        return;
+      } catch (AccessControlException e) {
+        request.setAttribute("permissionError",
+            "Error: File " + file + " cannot be accessed " + e.getMessage());
+        getServletContext().getRequestDispatcher("/memory.jsp").forward(request, response);
+        return;
+      }
+    }
+    request.setAttribute("fileInfos", fileInfos);
+
     getServletContext().getRequestDispatcher("/memory.jsp").forward(request, response);
   }
 }
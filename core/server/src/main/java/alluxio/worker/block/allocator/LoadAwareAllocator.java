@@ -0,0 +1,254 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.worker.block.allocator;
+
+import alluxio.Configuration;
+import alluxio.PropertyKey;
+import alluxio.PropertyKeyFormat;
+import alluxio.exception.BlockDoesNotExistException;
+import alluxio.util.CommonUtils;
+import alluxio.worker.block.AbstractBlockStoreEventListener;
+import alluxio.worker.block.BlockMetadataManagerView;
+import alluxio.worker.block.BlockStoreLocation;
+import alluxio.worker.block.meta.BlockMeta;
+import alluxio.worker.block.meta.StorageDirView;
+import alluxio.worker.block.meta.StorageTierView;
+
+import com.google.common.base.Preconditions;
+import io.netty.util.internal.chmv8.ConcurrentHashMapV8;
+
+import java.util.Map;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * An allocator that allocates a block in the least loaded storage dir which is able to store the
+ * block. It always allocates to the highest tier if the requested block store location is any
+ * tier.
+ *
+ * The load of a dir is estimated in bytes as the sum of:
+ * <ul>
+ *   <li>the bytes of temp blocks currently being written to the dir;</li>
+ *   <li>the bytes recently read from or committed to the dir, decayed exponentially with a time
+ *   constant of {@link PropertyKey#WORKER_ALLOCATOR_LOAD_DECAY_MS};</li>
+ *   <li>the bytes which are expected to be evicted from the dir by the space reserver if the block
+ *   is placed there, as these evictions amplify the writes on the device.</li>
+ * </ul>
+ * Ties are broken by choosing the dir with the most free space.
+ */
+@ThreadSafe
+public final class LoadAwareAllocator extends AbstractBlockStoreEventListener
+    implements Allocator {
+  private final long mDecayMs;
+  /** Recent bytes transferred for each dir, keyed by the location of the dir. */
+  private final Map<BlockStoreLocation, DecayingCounter> mRecentBytes =
+      new ConcurrentHashMapV8<>();
+
+  private BlockMetadataManagerView mManagerView;
+
+  /**
+   * Creates a new instance of {@link LoadAwareAllocator}.
+   *
+   * @param view {@link BlockMetadataManagerView} to pass to the allocator
+   */
+  public LoadAwareAllocator(BlockMetadataManagerView view) {
+    mManagerView = Preconditions.checkNotNull(view);
+    mDecayMs = Configuration.getLong(PropertyKey.WORKER_ALLOCATOR_LOAD_DECAY_MS);
+    Preconditions.checkArgument(mDecayMs > 0, "Load decay time should be positive");
+  }
+
+  @Override
+  public synchronized StorageDirView allocateBlockWithView(long sessionId, long blockSize,
+      BlockStoreLocation location, BlockMetadataManagerView view) {
+    mManagerView = Preconditions.checkNotNull(view);
+    return allocateBlock(sessionId, blockSize, location);
+  }
+
+  @Override
+  public void onAccessBlock(long sessionId, long blockId) {
+    BlockMeta blockMeta;
+    synchronized (this) {
+      try {
+        blockMeta = mManagerView.getBlockMeta(blockId);
+      } catch (BlockDoesNotExistException e) {
+        return;
+      }
+    }
+    recordBytes(blockMeta.getBlockLocation(), blockMeta.getBlockSize());
+  }
+
+  @Override
+  public void onCommitBlock(long sessionId, long blockId, BlockStoreLocation location) {
+    BlockMeta blockMeta;
+    synchronized (this) {
+      try {
+        blockMeta = mManagerView.getBlockMeta(blockId);
+      } catch (BlockDoesNotExistException e) {
+        return;
+      }
+    }
+    recordBytes(location, blockMeta.getBlockSize());
+  }
+
+  /**
+   * Allocates a block from the given block store location. The location can be a specific location,
+   * or {@link BlockStoreLocation#anyTier()} or {@link BlockStoreLocation#anyDirInTier(String)}.
+   *
+   * @param sessionId the id of session to apply for the block allocation
+   * @param blockSize the size of block in bytes
+   * @param location the location in block store
+   * @return a {@link StorageDirView} in which to create the temp block meta if success, null
+   *         otherwise
+   * @throws IllegalArgumentException if block location is invalid
+   */
+  private StorageDirView allocateBlock(long sessionId, long blockSize,
+      BlockStoreLocation location) {
+    Preconditions.checkNotNull(location);
+    StorageDirView candidateDirView = null;
+
+    if (location.equals(BlockStoreLocation.anyTier())) {
+      for (StorageTierView tierView : mManagerView.getTierViews()) {
+        candidateDirView = getCandidateDirInTier(tierView, blockSize);
+        if (candidateDirView != null) {
+          break;
+        }
+      }
+    } else if (location.equals(BlockStoreLocation.anyDirInTier(location.tierAlias()))) {
+      StorageTierView tierView = mManagerView.getTierView(location.tierAlias());
+      candidateDirView = getCandidateDirInTier(tierView, blockSize);
+    } else {
+      StorageTierView tierView = mManagerView.getTierView(location.tierAlias());
+      StorageDirView dirView = tierView.getDirView(location.dir());
+      if (dirView.getAvailableBytes() >= blockSize) {
+        candidateDirView = dirView;
+      }
+    }
+
+    return candidateDirView;
+  }
+
+  /**
+   * Finds a directory view in a tier view that has the least load and is able to store the block.
+   *
+   * @param tierView the storage tier view
+   * @param blockSize the size of block in bytes
+   * @return the storage directory view if found, null otherwise
+   */
+  private StorageDirView getCandidateDirInTier(StorageTierView tierView, long blockSize) {
+    double reservedRatio = getReservedRatio(tierView.getTierViewOrdinal());
+    long nowMs = CommonUtils.getCurrentMs();
+    StorageDirView candidateDirView = null;
+    double minLoad = Double.MAX_VALUE;
+    for (StorageDirView dirView : tierView.getDirViews()) {
+      long availableBytes = dirView.getAvailableBytes();
+      if (availableBytes < blockSize) {
+        continue;
+      }
+      double load = getLoad(dirView, blockSize, reservedRatio, nowMs);
+      int compare = Double.compare(load, minLoad);
+      if (candidateDirView == null || compare < 0
+          || (compare == 0 && availableBytes > candidateDirView.getAvailableBytes())) {
+        minLoad = load;
+        candidateDirView = dirView;
+      }
+    }
+    return candidateDirView;
+  }
+
+  /**
+   * Estimates the load in bytes of placing a block in a dir.
+   *
+   * @param dirView the storage dir view
+   * @param blockSize the size of block in bytes
+   * @param reservedRatio the ratio of the dir capacity which is kept free by the space reserver
+   * @param nowMs the current time in milliseconds
+   * @return the estimated load in bytes
+   */
+  private double getLoad(StorageDirView dirView, long blockSize, double reservedRatio,
+      long nowMs) {
+    double load = dirView.getTempBlockBytes();
+    DecayingCounter recentBytes = mRecentBytes.get(dirView.toBlockStoreLocation());
+    if (recentBytes != null) {
+      load += recentBytes.get(nowMs);
+    }
+    long reservedBytes = (long) (dirView.getCapacityBytes() * reservedRatio);
+    long bytesToEvict = reservedBytes - (dirView.getAvailableBytes() - blockSize);
+    if (bytesToEvict > 0) {
+      load += bytesToEvict;
+    }
+    return load;
+  }
+
+  /**
+   * Records bytes transferred to or from a dir.
+   *
+   * @param location the location of the dir
+   * @param bytes the number of bytes
+   */
+  private void recordBytes(BlockStoreLocation location, long bytes) {
+    DecayingCounter counter = mRecentBytes.get(location);
+    if (counter == null) {
+      mRecentBytes.putIfAbsent(location, new DecayingCounter(mDecayMs));
+      counter = mRecentBytes.get(location);
+    }
+    counter.add(bytes, CommonUtils.getCurrentMs());
+  }
+
+  /**
+   * @param ordinal the ordinal of the tier
+   * @return the reserved ratio of the tier, or 0 if it is not set
+   */
+  private static double getReservedRatio(int ordinal) {
+    PropertyKey key =
+        PropertyKeyFormat.WORKER_TIERED_STORE_LEVEL_RESERVED_RATIO_FORMAT.format(ordinal);
+    if (!Configuration.containsKey(key)) {
+      return 0;
+    }
+    return Configuration.getDouble(key);
+  }
+
+  /**
+   * A counter whose value decays exponentially over time.
+   */
+  @ThreadSafe
+  private static final class DecayingCounter {
+    private final double mDecayMs;
+    private double mValue;
+    private long mLastUpdateMs;
+
+    /**
+     * @param decayMs the time constant of the decay in milliseconds
+     */
+    DecayingCounter(long decayMs) {
+      mDecayMs = decayMs;
+      mLastUpdateMs = CommonUtils.getCurrentMs();
+    }
+
+    /**
+     * @param delta the value to add
+     * @param nowMs the current time in milliseconds
+     */
+    synchronized void add(long delta, long nowMs) {
+      mValue = get(nowMs) + delta;
+      mLastUpdateMs = Math.max(mLastUpdateMs, nowMs);
+    }
+
+    /**
+     * @param nowMs the current time in milliseconds
+     * @return the decayed value at the given time
+     */
+    synchronized double get(long nowMs) {
+      long elapsedMs = Math.max(0, nowMs - mLastUpdateMs);
+      return mValue * Math.exp(-elapsedMs / mDecayMs);
+    }
+  }
+}
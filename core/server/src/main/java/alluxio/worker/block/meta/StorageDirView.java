@@ -112,6 +112,15 @@ public final class StorageDirView {
     return mDir.getCommittedBytes();
   }
 
+  /**
+   * Gets bytes reserved by temp blocks in this dir, i.e., the bytes of blocks still being written.
+   *
+   * @return temp block bytes for this dir
+   */
+  public long getTempBlockBytes() {
+    return mDir.getCapacityBytes() - mDir.getAvailableBytes() - mDir.getCommittedBytes();
+  }
+
   /**
    * Gets evictable bytes for this dir, i.e., the total bytes of total evictable blocks.
    *
@@ -14,10 +14,15 @@ package alluxio.worker.netty;
 import alluxio.Configuration;
 import alluxio.Constants;
 import alluxio.PropertyKey;
+import alluxio.Sessions;
 import alluxio.StorageTierAssoc;
 import alluxio.WorkerStorageTierAssoc;
+import alluxio.exception.BlockAlreadyExistsException;
 import alluxio.exception.BlockDoesNotExistException;
+import alluxio.master.block.BlockId;
 import alluxio.metrics.MetricsSystem;
+import alluxio.network.protocol.RPCBlockLoadRequest;
+import alluxio.network.protocol.RPCBlockLoadResponse;
 import alluxio.network.protocol.RPCBlockReadRequest;
 import alluxio.network.protocol.RPCBlockReadResponse;
 import alluxio.network.protocol.RPCBlockWriteRequest;
@@ -26,43 +31,114 @@ import alluxio.network.protocol.RPCResponse;
 import alluxio.network.protocol.databuffer.DataBuffer;
 import alluxio.network.protocol.databuffer.DataByteBuffer;
 import alluxio.network.protocol.databuffer.DataFileChannel;
+import alluxio.underfs.UnderFileSystem;
+import alluxio.util.CommonUtils;
+import alluxio.util.IdUtils;
+import alluxio.wire.FileInfo;
 import alluxio.worker.block.BlockWorker;
 import alluxio.worker.block.io.BlockReader;
 import alluxio.worker.block.io.BlockWriter;
+import alluxio.worker.block.meta.BlockMeta;
 
 import com.codahale.metrics.Counter;
 import com.google.common.base.Preconditions;
+import com.google.common.io.ByteStreams;
+import com.google.common.util.concurrent.RateLimiter;
+import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.util.Attribute;
+import io.netty.util.AttributeKey;
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.ScheduledFuture;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
+import java.util.concurrent.TimeUnit;
 
-import javax.annotation.concurrent.NotThreadSafe;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
 
 /**
- * This class handles {@link RPCBlockReadRequest}s and {@link RPCBlockWriteRequest}s.
+ * This class handles {@link RPCBlockReadRequest}s, {@link RPCBlockWriteRequest}s and
+ * {@link RPCBlockLoadRequest}s.
+ *
+ * The {@link BlockReader} of a block read is kept open for the channel the request came from, so
+ * that the consecutive reads of a block by a client are served from the same open file. The reader
+ * is closed once the channel reads another block, is closed, or has not read the block for
+ * {@link PropertyKey#WORKER_NETWORK_NETTY_READER_IDLE_TIMEOUT_MS}, e.g. because the client unlocked
+ * the block and keeps the channel pooled.
  */
-@NotThreadSafe
+@ThreadSafe
 final class BlockDataServerHandler {
   private static final Logger LOG = LoggerFactory.getLogger(Constants.LOGGER_TYPE);
+  /** The channel attribute holding the block reader kept open for the channel. */
+  private static final AttributeKey<OpenBlockReader> OPEN_BLOCK_READER =
+      AttributeKey.valueOf("OpenBlockReader");
+  /** The size of the buffer used to copy a block loaded from the under file system. */
+  private static final int LOAD_BUFFER_BYTES = 4 * Constants.MB;
 
   /** The Block Worker which handles blocks stored in the Alluxio storage of the worker. */
   private final BlockWorker mWorker;
   /** The transfer type used by the data server. */
   private final FileTransferType mTransferType;
+  /** The request size from which {@link FileTransferType#AUTO} uses mapped transfers. */
+  private final long mAutoTransferThreshold;
   /** An object storing the mapping of tier aliases to ordinals. */
   private final StorageTierAssoc mStorageTierAssoc;
+  /** Limits the rate at which blocks are loaded from the under file system, null if unlimited. */
+  @Nullable
+  private final RateLimiter mLoadRateLimiter;
+  /** The time after which a block reader kept open for a channel is closed if it is not read. */
+  private final long mReaderIdleTimeoutMs;
 
   BlockDataServerHandler(BlockWorker worker) {
     mWorker = worker;
     mStorageTierAssoc = new WorkerStorageTierAssoc();
     mTransferType = Configuration
         .getEnum(PropertyKey.WORKER_NETWORK_NETTY_FILE_TRANSFER_TYPE, FileTransferType.class);
+    mAutoTransferThreshold =
+        Configuration.getBytes(PropertyKey.WORKER_NETWORK_NETTY_FILE_TRANSFER_AUTO_THRESHOLD);
+    long loadThroughput = Configuration.getBytes(PropertyKey.WORKER_BLOCK_LOAD_THROUGHPUT_MAX);
+    mLoadRateLimiter = loadThroughput > 0 ? RateLimiter.create(loadThroughput) : null;
+    mReaderIdleTimeoutMs =
+        Configuration.getLong(PropertyKey.WORKER_NETWORK_NETTY_READER_IDLE_TIMEOUT_MS);
+  }
+
+  /**
+   * Gets the device which serves a {@link RPCBlockReadRequest}, i.e. the alias of the tier the
+   * block is stored in. Falls back to the top tier if the block is not found, in which case the
+   * request fails without doing any I/O.
+   *
+   * @param req The {@link RPCBlockReadRequest}
+   * @return the device name
+   */
+  String getReadDevice(RPCBlockReadRequest req) {
+    try {
+      BlockMeta blockMeta = mWorker.getVolatileBlockMeta(req.getBlockId());
+      if (blockMeta != null) {
+        return blockMeta.getBlockLocation().tierAlias();
+      }
+    } catch (BlockDoesNotExistException e) {
+      // The request is served by the top tier.
+    }
+    return mStorageTierAssoc.getAlias(0);
+  }
+
+  /**
+   * Gets the device which serves a {@link RPCBlockWriteRequest}. Remote writes always create the
+   * block in the top tier.
+   *
+   * @param req The {@link RPCBlockWriteRequest}
+   * @return the device name
+   */
+  String getWriteDevice(RPCBlockWriteRequest req) {
+    return mStorageTierAssoc.getAlias(0);
   }
 
   /**
@@ -82,11 +158,15 @@ final class BlockDataServerHandler {
     final long lockId = req.getLockId();
     final long sessionId = req.getSessionId();
 
-    BlockReader reader = null;
+    OpenBlockReader openReader = getOpenBlockReader(ctx.channel());
     DataBuffer buffer;
     try {
       req.validate();
-      reader = mWorker.readBlockRemote(sessionId, blockId, lockId);
+      BlockReader reader = openReader.get(sessionId, blockId, lockId);
+      if (reader == null) {
+        reader = mWorker.readBlockRemote(sessionId, blockId, lockId);
+        openReader.set(sessionId, blockId, lockId, reader);
+      }
       final long fileLength = reader.getLength();
       validateBounds(req, fileLength);
       final long readLength = returnLength(offset, len, fileLength);
@@ -95,7 +175,7 @@ final class BlockDataServerHandler {
       RPCBlockReadResponse resp =
           new RPCBlockReadResponse(blockId, offset, readLength, buffer, RPCResponse.Status.SUCCESS);
       ChannelFuture future = ctx.writeAndFlush(resp);
-      future.addListener(new ClosableResourceChannelListener(reader));
+      openReader.setLastTransfer(future);
       future.addListener(new ReleasableResourceChannelListener(buffer));
       mWorker.accessBlock(sessionId, blockId);
       LOG.debug("Preparation for responding to remote block request for: {} done.", blockId);
@@ -109,9 +189,7 @@ final class BlockDataServerHandler {
       }
       ChannelFuture future = ctx.writeAndFlush(resp);
       future.addListener(ChannelFutureListener.CLOSE);
-      if (reader != null) {
-        reader.close();
-      }
+      openReader.close();
     }
   }
 
@@ -124,9 +202,6 @@ final class BlockDataServerHandler {
    * @param req The initiating {@link RPCBlockWriteRequest}
    * @throws IOException if an I/O exception occurs when writing the data
    */
-  // TODO(hy): This write request handler is very simple in order to be stateless. Therefore, the
-  // block file is opened and closed for every request. If this is too slow, then this handler
-  // should be optimized to keep state.
   void handleBlockWriteRequest(final ChannelHandlerContext ctx, final RPCBlockWriteRequest req)
       throws IOException {
     final long sessionId = req.getSessionId();
@@ -169,6 +244,119 @@ final class BlockDataServerHandler {
     }
   }
 
+  /**
+   * Handles a {@link RPCBlockLoadRequest} by reading the block directly from the under file system
+   * and writing it into a new block in the top tier. If the worker already stores the block, the
+   * block is moved to the top tier instead. The response is sent once the block is in the top
+   * tier.
+   * <p>
+   * The block is only read from the under file system if the request matches the metadata of the
+   * file of the block on the master, so that clients cannot read arbitrary under file system
+   * paths with the credentials of the worker, or write arbitrary data into a block.
+   *
+   * @param ctx The context of this request which handles the result of this operation
+   * @param req The initiating {@link RPCBlockLoadRequest}
+   */
+  void handleBlockLoadRequest(final ChannelHandlerContext ctx, final RPCBlockLoadRequest req) {
+    final long blockId = req.getBlockId();
+    final String topTierAlias = mStorageTierAssoc.getAlias(0);
+    if (mWorker.hasBlockMeta(blockId)) {
+      try {
+        BlockMeta blockMeta = mWorker.getVolatileBlockMeta(blockId);
+        if (!blockMeta.getBlockLocation().tierAlias().equals(topTierAlias)) {
+          mWorker.moveBlock(Sessions.MIGRATE_DATA_SESSION_ID, blockId, topTierAlias);
+        }
+        ctx.writeAndFlush(new RPCBlockLoadResponse(blockId, RPCResponse.Status.SUCCESS));
+      } catch (Exception e) {
+        LOG.error("Exception promoting block {}", blockId, e);
+        ctx.writeAndFlush(
+            RPCBlockLoadResponse.createErrorResponse(req, RPCResponse.Status.WRITE_ERROR));
+      }
+      return;
+    }
+    try {
+      req.validate();
+      if (!matchesFileMetadata(req)) {
+        LOG.warn("Rejecting {} which does not match the metadata of the file", req);
+        ctx.writeAndFlush(
+            RPCBlockLoadResponse.createErrorResponse(req, RPCResponse.Status.BLOCK_LOAD_REJECTED));
+        return;
+      }
+    } catch (Exception e) {
+      LOG.error("Exception checking the request to load block {}", blockId, e);
+      ctx.writeAndFlush(
+          RPCBlockLoadResponse.createErrorResponse(req, RPCResponse.Status.BLOCK_LOAD_REJECTED));
+      return;
+    }
+    final long sessionId = IdUtils.getRandomNonNegativeLong();
+    try {
+      mWorker.createBlockRemote(sessionId, blockId, topTierAlias, req.getLength());
+    } catch (BlockAlreadyExistsException e) {
+      // The block is being cached concurrently, e.g. by a client reading it.
+      LOG.debug("Block {} already exists: {}", blockId, e.getMessage());
+      ctx.writeAndFlush(new RPCBlockLoadResponse(blockId, RPCResponse.Status.SUCCESS));
+      return;
+    } catch (Exception e) {
+      LOG.error("Exception creating block {} to load", blockId, e);
+      ctx.writeAndFlush(
+          RPCBlockLoadResponse.createErrorResponse(req, RPCResponse.Status.WRITE_ERROR));
+      return;
+    }
+    try {
+      try (BlockWriter writer = mWorker.getTempBlockWriterRemote(sessionId, blockId);
+           InputStream in = UnderFileSystem.get(req.getUfsPath()).open(req.getUfsPath())) {
+        ByteStreams.skipFully(in, req.getOffset());
+        byte[] buf = new byte[(int) Math.min(LOAD_BUFFER_BYTES, req.getLength())];
+        long remaining = req.getLength();
+        while (remaining > 0) {
+          int n = in.read(buf, 0, (int) Math.min(buf.length, remaining));
+          if (n < 0) {
+            throw new IOException(String.format("Unexpected end of %s at offset %d",
+                req.getUfsPath(), req.getOffset() + req.getLength() - remaining));
+          }
+          if (mLoadRateLimiter != null) {
+            mLoadRateLimiter.acquire(n);
+          }
+          writer.append(ByteBuffer.wrap(buf, 0, n));
+          remaining -= n;
+        }
+      }
+      mWorker.commitBlock(sessionId, blockId);
+      Metrics.BYTES_LOADED_UFS.inc(req.getLength());
+      ctx.writeAndFlush(new RPCBlockLoadResponse(blockId, RPCResponse.Status.SUCCESS));
+    } catch (Exception e) {
+      LOG.error("Exception loading block {}", blockId, e);
+      try {
+        mWorker.abortBlock(sessionId, blockId);
+      } catch (Exception ae) {
+        LOG.warn("Failed to abort block {}: {}", blockId, ae.getMessage());
+      }
+      ctx.writeAndFlush(
+          RPCBlockLoadResponse.createErrorResponse(req, RPCResponse.Status.UFS_READ_FAILED));
+    }
+  }
+
+  /**
+   * Checks that the block of a {@link RPCBlockLoadRequest} belongs to a persisted file whose under
+   * file system path is the path of the request, and that the offset and the length of the
+   * request are the ones of the block in the file.
+   *
+   * @param req the {@link RPCBlockLoadRequest}
+   * @return true if the request matches the metadata of the file on the master
+   * @throws IOException if the metadata of the file cannot be fetched from the master
+   */
+  private boolean matchesFileMetadata(RPCBlockLoadRequest req) throws IOException {
+    long blockId = req.getBlockId();
+    FileInfo info = mWorker.getFileInfo(IdUtils.createFileId(BlockId.getContainerId(blockId)));
+    int index = info.getBlockIds().indexOf(blockId);
+    if (index < 0 || !info.isPersisted() || !req.getUfsPath().equals(info.getUfsPath())) {
+      return false;
+    }
+    long offset = index * info.getBlockSizeBytes();
+    long length = Math.min(info.getBlockSizeBytes(), info.getLength() - offset);
+    return req.getOffset() == offset && req.getLength() == length;
+  }
+
   /**
    * @return how much of a file to read. When {@code len} is {@code -1}, then
    * {@code fileLength - offset} is used.
@@ -205,7 +393,13 @@ final class BlockDataServerHandler {
    */
   private DataBuffer getDataBuffer(RPCBlockReadRequest req, BlockReader reader, long readLength)
       throws IOException, IllegalArgumentException {
-    switch (mTransferType) {
+    FileTransferType transferType = mTransferType;
+    if (transferType == FileTransferType.AUTO) {
+      boolean small = readLength < mAutoTransferThreshold;
+      transferType = small && reader.getChannel() instanceof FileChannel
+          ? FileTransferType.TRANSFER : FileTransferType.MAPPED;
+    }
+    switch (transferType) {
       case MAPPED:
         ByteBuffer data = reader.read(req.getOffset(), (int) readLength);
         return new DataByteBuffer(data, readLength);
@@ -215,11 +409,166 @@ final class BlockDataServerHandler {
           return new DataFileChannel((FileChannel) reader.getChannel(), req.getOffset(),
               readLength);
         }
-        reader.close();
         throw new IllegalArgumentException("Only FileChannel is supported!");
     }
   }
 
+  /**
+   * Gets the holder of the block reader kept open for a channel, creating it if needed. The reader
+   * is closed when the channel is closed.
+   *
+   * @param channel the channel
+   * @return the holder of the open block reader
+   */
+  private OpenBlockReader getOpenBlockReader(Channel channel) {
+    Attribute<OpenBlockReader> attribute = channel.attr(OPEN_BLOCK_READER);
+    OpenBlockReader openReader = attribute.get();
+    if (openReader == null) {
+      openReader = new OpenBlockReader(channel.eventLoop(), mReaderIdleTimeoutMs);
+      OpenBlockReader existing = attribute.setIfAbsent(openReader);
+      if (existing != null) {
+        return existing;
+      }
+      channel.closeFuture().addListener(openReader);
+    }
+    return openReader;
+  }
+
+  /**
+   * Holds the block reader kept open for a channel, along with the ids of the session, block and
+   * lock it was opened with. It is registered as a listener to the close future of the channel.
+   * The reader is also closed once it has not been read for the idle timeout, which is checked on
+   * the event loop of the channel.
+   */
+  @ThreadSafe
+  private static final class OpenBlockReader implements ChannelFutureListener {
+    private final EventExecutor mExecutor;
+    private final long mIdleTimeoutMs;
+    private long mSessionId;
+    private long mBlockId;
+    private long mLockId;
+    private BlockReader mReader;
+    /** The last transfer from the reader, which must complete before the reader is closed. */
+    private ChannelFuture mLastTransfer;
+    /** The time in milliseconds when the reader was last read. */
+    private long mLastAccessMs;
+    /** The next check for whether the reader is idle, null if there is no open reader. */
+    private ScheduledFuture<?> mIdleCheck;
+    private boolean mChannelClosed;
+
+    /**
+     * Creates a new instance of {@link OpenBlockReader} without any open reader.
+     *
+     * @param executor the executor running the idle checks
+     * @param idleTimeoutMs the time after which the reader is closed if it is not read
+     */
+    OpenBlockReader(EventExecutor executor, long idleTimeoutMs) {
+      mExecutor = executor;
+      mIdleTimeoutMs = idleTimeoutMs;
+    }
+
+    /**
+     * @param sessionId the session id of the read
+     * @param blockId the block id of the read
+     * @param lockId the lock id of the read
+     * @return the open reader if it was opened with the same ids, null otherwise
+     */
+    synchronized BlockReader get(long sessionId, long blockId, long lockId) {
+      if (mReader != null && mSessionId == sessionId && mBlockId == blockId
+          && mLockId == lockId) {
+        mLastAccessMs = CommonUtils.getCurrentMs();
+        return mReader;
+      }
+      return null;
+    }
+
+    /**
+     * Replaces the open reader, closing the previous one.
+     *
+     * @param sessionId the session id of the read
+     * @param blockId the block id of the read
+     * @param lockId the lock id of the read
+     * @param reader the new reader
+     */
+    synchronized void set(long sessionId, long blockId, long lockId, BlockReader reader) {
+      close();
+      mSessionId = sessionId;
+      mBlockId = blockId;
+      mLockId = lockId;
+      mReader = reader;
+      mLastAccessMs = CommonUtils.getCurrentMs();
+      if (mChannelClosed) {
+        close();
+      } else {
+        scheduleIdleCheck(mIdleTimeoutMs);
+      }
+    }
+
+    /**
+     * @param future the future of the last transfer from the open reader
+     */
+    synchronized void setLastTransfer(ChannelFuture future) {
+      mLastTransfer = future;
+    }
+
+    /**
+     * Closes the open reader once its last transfer completes.
+     */
+    synchronized void close() {
+      if (mReader == null) {
+        return;
+      }
+      mIdleCheck.cancel(false);
+      mIdleCheck = null;
+      if (mLastTransfer == null) {
+        try {
+          mReader.close();
+        } catch (IOException e) {
+          LOG.warn("Failed to close block reader for block {}", mBlockId, e);
+        }
+      } else {
+        mLastTransfer.addListener(new ClosableResourceChannelListener(mReader));
+      }
+      mReader = null;
+      mLastTransfer = null;
+    }
+
+    @Override
+    public synchronized void operationComplete(ChannelFuture future) {
+      mChannelClosed = true;
+      close();
+    }
+
+    /**
+     * @param delayMs the time to wait before checking whether the reader is idle
+     */
+    private void scheduleIdleCheck(long delayMs) {
+      mIdleCheck = mExecutor.schedule(new Runnable() {
+        @Override
+        public void run() {
+          closeIfIdle();
+        }
+      }, delayMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Closes the open reader if it has not been read for the idle timeout, and checks again later
+     * otherwise.
+     */
+    private synchronized void closeIfIdle() {
+      if (mReader == null) {
+        return;
+      }
+      long idleMs = CommonUtils.getCurrentMs() - mLastAccessMs;
+      if (idleMs >= mIdleTimeoutMs) {
+        LOG.debug("Closing the reader of block {} idle for {} ms", mBlockId, idleMs);
+        close();
+      } else {
+        scheduleIdleCheck(mIdleTimeoutMs - idleMs);
+      }
+    }
+  }
+
   /**
    * Class that contains metrics for BlockDataServerHandler.
    */
@@ -227,6 +576,7 @@ final class BlockDataServerHandler {
     private static final Counter BYTES_READ_REMOTE = MetricsSystem.workerCounter("BytesReadRemote");
     private static final Counter BYTES_WRITTEN_REMOTE =
         MetricsSystem.workerCounter("BytesWrittenRemote");
+    private static final Counter BYTES_LOADED_UFS = MetricsSystem.workerCounter("BytesLoadedUfs");
 
     private Metrics() {} // prevent instantiation
   }
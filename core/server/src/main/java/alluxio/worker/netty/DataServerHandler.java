@@ -12,6 +12,7 @@
 package alluxio.worker.netty;
 
 import alluxio.Constants;
+import alluxio.network.protocol.RPCBlockLoadRequest;
 import alluxio.network.protocol.RPCBlockReadRequest;
 import alluxio.network.protocol.RPCBlockWriteRequest;
 import alluxio.network.protocol.RPCErrorResponse;
@@ -32,30 +33,45 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 
 import javax.annotation.concurrent.NotThreadSafe;
 
 /**
  * This class processes {@link RPCRequest} messages and delegates them to the appropriate
  * handlers to return {@link RPCResponse} messages.
+ *
+ * Requests which read or write data are not handled on the Netty event loop, but are offloaded to
+ * the {@link IoExecutors} of the device serving the request, so that blocking disk or UFS I/O
+ * never stalls the other channels of the event loop. While a request of a channel is in flight,
+ * auto-read is disabled for the channel. This applies back-pressure to the client and keeps the
+ * requests of a channel in order, since clients wait for the response to a request before sending
+ * the next one.
  */
 @ChannelHandler.Sharable
 @NotThreadSafe
 final class DataServerHandler extends SimpleChannelInboundHandler<RPCMessage> {
   private static final Logger LOG = LoggerFactory.getLogger(Constants.LOGGER_TYPE);
+  /** The interval to wait before resubmitting a request rejected by a saturated executor. */
+  private static final long RETRY_INTERVAL_MS = 10;
 
   /** Handler for any block store requests. */
   private final BlockDataServerHandler mBlockHandler;
   /** Handler for any file system requests. */
   private final UnderFileSystemDataServerHandler mUnderFileSystemHandler;
+  /** Executors doing the blocking I/O of the requests. */
+  private final IoExecutors mIoExecutors;
 
   /**
    * Creates a new instance of {@link DataServerHandler}.
    *
    * @param worker the Alluxio worker handle
+   * @param ioExecutors the executors to run the blocking I/O of the requests
    */
-  public DataServerHandler(final AlluxioWorkerService worker) {
+  public DataServerHandler(final AlluxioWorkerService worker, final IoExecutors ioExecutors) {
     Preconditions.checkNotNull(worker);
+    mIoExecutors = Preconditions.checkNotNull(ioExecutors);
     mBlockHandler = new BlockDataServerHandler(worker.getBlockWorker());
     mUnderFileSystemHandler = new UnderFileSystemDataServerHandler(worker.getFileSystemWorker());
   }
@@ -66,19 +82,53 @@ final class DataServerHandler extends SimpleChannelInboundHandler<RPCMessage> {
     switch (msg.getType()) {
       case RPC_BLOCK_READ_REQUEST:
         assert msg instanceof RPCBlockReadRequest;
-        mBlockHandler.handleBlockReadRequest(ctx, (RPCBlockReadRequest) msg);
+        final RPCBlockReadRequest blockReadRequest = (RPCBlockReadRequest) msg;
+        submit(ctx, mBlockHandler.getReadDevice(blockReadRequest), new IoTask() {
+          @Override
+          public void run() throws IOException {
+            mBlockHandler.handleBlockReadRequest(ctx, blockReadRequest);
+          }
+        });
         break;
       case RPC_BLOCK_WRITE_REQUEST:
         assert msg instanceof RPCBlockWriteRequest;
-        mBlockHandler.handleBlockWriteRequest(ctx, (RPCBlockWriteRequest) msg);
+        final RPCBlockWriteRequest blockWriteRequest = (RPCBlockWriteRequest) msg;
+        submit(ctx, mBlockHandler.getWriteDevice(blockWriteRequest), new IoTask() {
+          @Override
+          public void run() throws IOException {
+            mBlockHandler.handleBlockWriteRequest(ctx, blockWriteRequest);
+          }
+        });
+        break;
+      case RPC_BLOCK_LOAD_REQUEST:
+        assert msg instanceof RPCBlockLoadRequest;
+        final RPCBlockLoadRequest blockLoadRequest = (RPCBlockLoadRequest) msg;
+        submit(ctx, IoExecutors.UFS_DEVICE, new IoTask() {
+          @Override
+          public void run() throws IOException {
+            mBlockHandler.handleBlockLoadRequest(ctx, blockLoadRequest);
+          }
+        });
         break;
       case RPC_FILE_READ_REQUEST:
         assert msg instanceof RPCFileReadRequest;
-        mUnderFileSystemHandler.handleFileReadRequest(ctx, (RPCFileReadRequest) msg);
+        final RPCFileReadRequest fileReadRequest = (RPCFileReadRequest) msg;
+        submit(ctx, IoExecutors.UFS_DEVICE, new IoTask() {
+          @Override
+          public void run() throws IOException {
+            mUnderFileSystemHandler.handleFileReadRequest(ctx, fileReadRequest);
+          }
+        });
         break;
       case RPC_FILE_WRITE_REQUEST:
         assert msg instanceof RPCFileWriteRequest;
-        mUnderFileSystemHandler.handleFileWriteRequest(ctx, (RPCFileWriteRequest) msg);
+        final RPCFileWriteRequest fileWriteRequest = (RPCFileWriteRequest) msg;
+        submit(ctx, IoExecutors.UFS_DEVICE, new IoTask() {
+          @Override
+          public void run() throws IOException {
+            mUnderFileSystemHandler.handleFileWriteRequest(ctx, fileWriteRequest);
+          }
+        });
         break;
       case RPC_ERROR_RESPONSE:
         // TODO(peis): Fix this, we should not assert here.
@@ -104,4 +154,57 @@ final class DataServerHandler extends SimpleChannelInboundHandler<RPCMessage> {
     // Close the channel because it is likely a network error.
     channelFuture.addListener(ChannelFutureListener.CLOSE);
   }
+
+  /**
+   * Pauses reading from the channel and submits a task to the executor of a device. Reading is
+   * resumed once the task is done.
+   *
+   * @param ctx the context of the channel
+   * @param device the device serving the request
+   * @param task the task doing the I/O of the request
+   */
+  private void submit(final ChannelHandlerContext ctx, final String device, final IoTask task) {
+    ctx.channel().config().setAutoRead(false);
+    execute(ctx, device, task);
+  }
+
+  private void execute(final ChannelHandlerContext ctx, final String device, final IoTask task) {
+    if (!ctx.channel().isActive() || mIoExecutors.isShutdown()) {
+      return;
+    }
+    try {
+      mIoExecutors.get(device).execute(new Runnable() {
+        @Override
+        public void run() {
+          try {
+            task.run();
+          } catch (Throwable t) {
+            ctx.pipeline().fireExceptionCaught(t);
+          } finally {
+            ctx.channel().config().setAutoRead(true);
+          }
+        }
+      });
+    } catch (RejectedExecutionException e) {
+      // The executor of the device is saturated, keep the channel paused and retry later.
+      ctx.executor().schedule(new Runnable() {
+        @Override
+        public void run() {
+          execute(ctx, device, task);
+        }
+      }, RETRY_INTERVAL_MS, TimeUnit.MILLISECONDS);
+    }
+  }
+
+  /**
+   * The I/O of a request, run by one of the {@link IoExecutors}.
+   */
+  private interface IoTask {
+    /**
+     * Handles the request.
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    void run() throws IOException;
+  }
 }
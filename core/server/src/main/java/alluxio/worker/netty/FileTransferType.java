@@ -15,8 +15,9 @@ import javax.annotation.concurrent.ThreadSafe;
 
 /**
  * How a read response will transfer block data over the network. There is a difference in speed and
- * memory consumption between the two. {@link #MAPPED} is the default since at larger sizes it
- * outperforms {@link #TRANSFER}.
+ * memory consumption between the two. {@link #MAPPED} outperforms {@link #TRANSFER} at larger
+ * sizes, while {@link #TRANSFER} avoids the cost of mapping the block for small reads.
+ * {@link #AUTO} is the default and picks one of the two by the size of each request.
  */
 @ThreadSafe
 enum FileTransferType {
@@ -28,5 +29,12 @@ enum FileTransferType {
   /**
    * Uses {@link java.nio.channels.FileChannel#transferTo} to transfer data over the network.
    */
-  TRANSFER
+  TRANSFER,
+
+  /**
+   * Uses {@link #TRANSFER} for requests smaller than
+   * {@link alluxio.PropertyKey#WORKER_NETWORK_NETTY_FILE_TRANSFER_AUTO_THRESHOLD} and
+   * {@link #MAPPED} otherwise.
+   */
+  AUTO
 }
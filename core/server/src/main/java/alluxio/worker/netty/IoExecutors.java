@@ -0,0 +1,128 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.worker.netty;
+
+import alluxio.Constants;
+import alluxio.metrics.MetricsSystem;
+import alluxio.util.ThreadFactoryUtils;
+
+import com.codahale.metrics.Gauge;
+import com.google.common.base.Preconditions;
+import io.netty.util.internal.chmv8.ConcurrentHashMapV8;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Bounded executors which run the blocking I/O of the data server off the Netty event loops. There
+ * is one executor per device, i.e. per storage tier alias and one for the under file system, so
+ * that a slow device only delays the requests which are served by that device.
+ *
+ * The number of tasks queued in each executor is bounded. When an executor is saturated, it
+ * rejects new tasks and the caller is expected to retry later.
+ */
+@ThreadSafe
+final class IoExecutors {
+  /** The device name of the under file system. */
+  public static final String UFS_DEVICE = "UFS";
+
+  private static final long KEEP_ALIVE_MS = 60 * Constants.SECOND_MS;
+
+  private final int mThreadsPerDevice;
+  private final int mQueueSize;
+  private final ConcurrentHashMapV8<String, ThreadPoolExecutor> mExecutors =
+      new ConcurrentHashMapV8<>();
+  private volatile boolean mShutdown = false;
+
+  /**
+   * Creates a new instance of {@link IoExecutors}.
+   *
+   * @param threadsPerDevice the maximum number of threads doing I/O on each device
+   * @param queueSize the maximum number of tasks queued for each device
+   */
+  IoExecutors(int threadsPerDevice, int queueSize) {
+    Preconditions.checkArgument(threadsPerDevice > 0,
+        "The number of I/O threads per device should be positive");
+    Preconditions.checkArgument(queueSize > 0, "The I/O queue size should be positive");
+    mThreadsPerDevice = threadsPerDevice;
+    mQueueSize = queueSize;
+  }
+
+  /**
+   * Gets the executor of a device, creating it if it does not exist yet.
+   *
+   * @param device the device name, e.g. a storage tier alias or {@link #UFS_DEVICE}
+   * @return the executor of the device
+   */
+  ExecutorService get(String device) {
+    ThreadPoolExecutor executor = mExecutors.get(device);
+    if (executor != null) {
+      return executor;
+    }
+    synchronized (mExecutors) {
+      executor = mExecutors.get(device);
+      if (executor == null) {
+        Preconditions.checkState(!mShutdown, "I/O executors are shut down");
+        executor = new ThreadPoolExecutor(mThreadsPerDevice, mThreadsPerDevice, KEEP_ALIVE_MS,
+            TimeUnit.MILLISECONDS, new LinkedBlockingQueue<Runnable>(mQueueSize),
+            ThreadFactoryUtils.build("data-server-io-" + device + "-%d", true));
+        executor.allowCoreThreadTimeOut(true);
+        registerGauge(device, executor);
+        mExecutors.put(device, executor);
+      }
+      return executor;
+    }
+  }
+
+  /**
+   * @param device the device name
+   * @return the number of tasks waiting for an I/O thread of the device
+   */
+  int getQueueDepth(String device) {
+    ThreadPoolExecutor executor = mExecutors.get(device);
+    return executor == null ? 0 : executor.getQueue().size();
+  }
+
+  /**
+   * Shuts down all the executors. Tasks which are already queued are still run.
+   */
+  void shutdown() {
+    synchronized (mExecutors) {
+      mShutdown = true;
+      for (ExecutorService executor : mExecutors.values()) {
+        executor.shutdown();
+      }
+    }
+  }
+
+  /**
+   * @return whether the executors are shut down
+   */
+  boolean isShutdown() {
+    return mShutdown;
+  }
+
+  private static void registerGauge(String device, final ThreadPoolExecutor executor) {
+    MetricsSystem.registerGaugeIfAbsent(
+        MetricsSystem.getWorkerMetricName("DataServerIoQueueDepth" + device),
+        new Gauge<Integer>() {
+          @Override
+          public Integer getValue() {
+            return executor.getQueue().size();
+          }
+        });
+  }
+}
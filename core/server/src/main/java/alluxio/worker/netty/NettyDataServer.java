@@ -14,19 +14,23 @@ package alluxio.worker.netty;
 import alluxio.Configuration;
 import alluxio.Constants;
 import alluxio.PropertyKey;
+import alluxio.metrics.MetricsSystem;
 import alluxio.network.ChannelType;
+import alluxio.util.network.NettyBufferPool;
 import alluxio.util.network.NettyUtils;
 import alluxio.worker.AlluxioWorkerService;
 import alluxio.worker.DataServer;
 
+import com.codahale.metrics.Gauge;
 import com.google.common.base.Preconditions;
 import com.google.common.base.Throwables;
 import io.netty.bootstrap.ServerBootstrap;
-import io.netty.buffer.PooledByteBufAllocator;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelOption;
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.ServerChannel;
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.SingleThreadEventExecutor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -47,6 +51,8 @@ public final class NettyDataServer implements DataServer {
   private final ChannelFuture mChannelFuture;
   // Use a shared handler for all pipelines.
   private final DataServerHandler mDataServerHandler;
+  /** Executors doing the blocking I/O, off the event loops. */
+  private final IoExecutors mIoExecutors;
 
   /**
    * Creates a new instance of {@link NettyDataServer}.
@@ -56,8 +62,13 @@ public final class NettyDataServer implements DataServer {
    *               operations
    */
   public NettyDataServer(final InetSocketAddress address, final AlluxioWorkerService worker) {
-    mDataServerHandler = new DataServerHandler(Preconditions.checkNotNull(worker));
+    mIoExecutors = new IoExecutors(
+        Configuration.getInt(PropertyKey.WORKER_NETWORK_NETTY_IO_THREADS),
+        Configuration.getInt(PropertyKey.WORKER_NETWORK_NETTY_IO_QUEUE_SIZE));
+    mDataServerHandler = new DataServerHandler(Preconditions.checkNotNull(worker), mIoExecutors);
     mBootstrap = createBootstrap().childHandler(new PipelineHandler(mDataServerHandler));
+    NettyBufferPool.registerGauges(MetricsSystem.WORKER_INSTANCE);
+    registerEventLoopGauges(mBootstrap.childGroup());
 
     try {
       mChannelFuture = mBootstrap.bind(address).sync();
@@ -77,10 +88,12 @@ public final class NettyDataServer implements DataServer {
     // 1) its channel needs to be closed
     // 2) its main EventLoopGroup needs to be shut down
     // 3) its child EventLoopGroup needs to be shut down
+    // 4) its I/O executors need to be shut down
     //
     // Each of the above steps can time out. If 1) times out, we simply give up on closing the
     // channel. If 2) or 3) times out, the respective EventLoopGroup failed to shut down
-    // gracefully and its shutdown is forced.
+    // gracefully and its shutdown is forced. The I/O executors do not accept new requests once
+    // shut down, and the requests in flight are left to complete in the background.
 
     boolean completed;
     completed =
@@ -100,6 +113,7 @@ public final class NettyDataServer implements DataServer {
     if (!completed) {
       LOG.warn("Forced child group shutdown because graceful shutdown timed out.");
     }
+    mIoExecutors.shutdown();
   }
 
   private ServerBootstrap createBootstrap() {
@@ -107,8 +121,8 @@ public final class NettyDataServer implements DataServer {
         Configuration.getEnum(PropertyKey.WORKER_NETWORK_NETTY_CHANNEL, ChannelType.class));
 
     // use pooled buffers
-    boot.option(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT);
-    boot.childOption(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT);
+    boot.option(ChannelOption.ALLOCATOR, NettyBufferPool.ALLOCATOR);
+    boot.childOption(ChannelOption.ALLOCATOR, NettyBufferPool.ALLOCATOR);
 
     // set write buffer
     // this is the default, but its recommended to set it in case of change in future netty.
@@ -156,6 +170,31 @@ public final class NettyDataServer implements DataServer {
     return mBootstrap.group().isShutdown();
   }
 
+  /**
+   * Registers a gauge for the number of tasks pending in each event loop of a group. As blocking
+   * I/O is done by the {@link IoExecutors}, these should stay close to zero.
+   *
+   * @param group the event loop group
+   */
+  private static void registerEventLoopGauges(EventLoopGroup group) {
+    int index = 0;
+    for (EventExecutor executor : group) {
+      if (!(executor instanceof SingleThreadEventExecutor)) {
+        continue;
+      }
+      final SingleThreadEventExecutor eventLoop = (SingleThreadEventExecutor) executor;
+      MetricsSystem.registerGaugeIfAbsent(
+          MetricsSystem.getWorkerMetricName("DataServerEventLoop" + index + "PendingTasks"),
+          new Gauge<Integer>() {
+            @Override
+            public Integer getValue() {
+              return eventLoop.pendingTasks();
+            }
+          });
+      index++;
+    }
+  }
+
   /**
    * Creates a default {@link io.netty.bootstrap.ServerBootstrap} where the channel and groups are
    * preset.
@@ -34,12 +34,12 @@ import java.nio.ByteBuffer;
 import java.nio.channels.Channels;
 import java.nio.channels.WritableByteChannel;
 
-import javax.annotation.concurrent.NotThreadSafe;
+import javax.annotation.concurrent.ThreadSafe;
 
 /**
  * This class handles filesystem data server requests.
  */
-@NotThreadSafe
+@ThreadSafe
 final class UnderFileSystemDataServerHandler {
   private static final Logger LOG = LoggerFactory.getLogger(Constants.LOGGER_TYPE);
 
@@ -78,8 +78,6 @@ final class UnderFileSystemDataServerHandler {
       int bytesRead = 0;
       if (in != null) { // if we have not reached the end of the file
         while (bytesRead < length) {
-          // TODO(peis): Fix this. It is not recommended to do heavy blocking IO operation
-          // in Netty's IO event group. We should do it in another threadpool.
           int read = in.read(data, bytesRead, (int) length - bytesRead);
           if (read == -1) {
             break;
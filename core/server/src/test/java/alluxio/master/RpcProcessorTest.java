@@ -0,0 +1,152 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.master;
+
+import alluxio.Constants;
+import alluxio.exception.ServerOverloadedException;
+import alluxio.metrics.MetricsSystem;
+import alluxio.thrift.AlluxioTException;
+import alluxio.thrift.FileInfo;
+import alluxio.thrift.FileSystemMasterClientService;
+
+import com.google.common.collect.ImmutableMap;
+import org.apache.thrift.TProcessor;
+import org.apache.thrift.protocol.TBinaryProtocol;
+import org.apache.thrift.protocol.TMultiplexedProtocol;
+import org.apache.thrift.protocol.TProtocol;
+import org.apache.thrift.transport.TMemoryBuffer;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Unit tests for {@link RpcProcessor} and {@link RpcExecutor}.
+ */
+public class RpcProcessorTest {
+  private static final String PATH = "/file";
+
+  private FileSystemMasterClientService.Iface mHandler;
+  private RpcProcessor mProcessor;
+  private RpcExecutor mExecutor;
+  private CountDownLatch mRelease;
+
+  /**
+   * Sets up a processor of a mocked service, and an executor with a single thread and a queue of
+   * a single request.
+   */
+  @Before
+  public void before() throws Exception {
+    mHandler = Mockito.mock(FileSystemMasterClientService.Iface.class);
+    Mockito.when(mHandler.getStatus(PATH)).thenReturn(new FileInfo().setPath(PATH));
+    mProcessor = new RpcProcessor(ImmutableMap.<String, TProcessor>of(
+        Constants.FILE_SYSTEM_MASTER_CLIENT_SERVICE_NAME,
+        new FileSystemMasterClientService.Processor<>(mHandler)));
+    mExecutor = new RpcExecutor(1, 1, 1);
+    mRelease = new CountDownLatch(1);
+  }
+
+  /**
+   * Releases the blocked requests and shuts down the executor.
+   */
+  @After
+  public void after() {
+    mRelease.countDown();
+    mExecutor.shutdownNow();
+  }
+
+  /**
+   * Tests that the requests queued by the executor are executed and timed.
+   */
+  @Test
+  public void executeQueuedRequest() throws Exception {
+    long count = MetricsSystem.masterTimer("Rpc.FileSystemMasterClient.getStatus").getCount();
+    Call call = new Call();
+    mExecutor.submit(call).get();
+    Assert.assertEquals(PATH, call.receive().getPath());
+    Assert.assertEquals(count + 1,
+        MetricsSystem.masterTimer("Rpc.FileSystemMasterClient.getStatus").getCount());
+  }
+
+  /**
+   * Tests that the requests rejected because the queue is full respond with a
+   * {@link ServerOverloadedException} without being executed.
+   */
+  @Test
+  public void rejectRequestWhenQueueIsFull() throws Exception {
+    final CountDownLatch started = new CountDownLatch(1);
+    mExecutor.execute(new Runnable() {
+      @Override
+      public void run() {
+        started.countDown();
+        try {
+          mRelease.await();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      }
+    });
+    Assert.assertTrue(started.await(Constants.MINUTE_MS, TimeUnit.MILLISECONDS));
+    // fills the queue
+    mExecutor.execute(new Call());
+
+    // the rejected request runs in this thread
+    Call rejected = new Call();
+    mExecutor.execute(rejected);
+    try {
+      rejected.receive();
+      Assert.fail("The rejected request should respond with an exception");
+    } catch (AlluxioTException e) {
+      Assert.assertEquals(ServerOverloadedException.class.getName(), e.getClassName());
+    }
+    Mockito.verify(mHandler, Mockito.never()).getStatus(PATH);
+  }
+
+  /**
+   * A getStatus call, which is processed when run.
+   */
+  private final class Call implements Runnable {
+    private final TMemoryBuffer mRequest = new TMemoryBuffer(64);
+    private final TMemoryBuffer mResponse = new TMemoryBuffer(64);
+    private final FileSystemMasterClientService.Client mClient;
+
+    /**
+     * Creates a new call, writing its request.
+     */
+    Call() throws Exception {
+      TProtocol out = new TMultiplexedProtocol(new TBinaryProtocol(mRequest),
+          Constants.FILE_SYSTEM_MASTER_CLIENT_SERVICE_NAME);
+      mClient = new FileSystemMasterClientService.Client(new TBinaryProtocol(mResponse), out);
+      mClient.send_getStatus(PATH);
+    }
+
+    @Override
+    public void run() {
+      try {
+        mProcessor.process(new TBinaryProtocol(mRequest), new TBinaryProtocol(mResponse));
+      } catch (Exception e) {
+        throw new RuntimeException(e);
+      }
+    }
+
+    /**
+     * @return the result of the call
+     */
+    FileInfo receive() throws Exception {
+      return mClient.recv_getStatus();
+    }
+  }
+}
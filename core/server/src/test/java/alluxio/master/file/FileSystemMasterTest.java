@@ -38,21 +38,27 @@ import alluxio.master.file.options.MountOptions;
 import alluxio.master.file.options.SetAttributeOptions;
 import alluxio.master.journal.Journal;
 import alluxio.master.journal.ReadWriteJournal;
+import alluxio.proto.journal.File.UfsDeleteEntry;
+import alluxio.proto.journal.Journal.JournalEntry;
 import alluxio.security.GroupMappingServiceTestUtils;
 import alluxio.security.LoginUserTestUtils;
 import alluxio.thrift.Command;
 import alluxio.thrift.CommandType;
 import alluxio.thrift.FileSystemCommand;
+import alluxio.util.CommonUtils;
 import alluxio.util.IdUtils;
 import alluxio.util.ThreadFactoryUtils;
 import alluxio.util.executor.ExecutorServiceFactories;
 import alluxio.util.io.FileUtils;
 import alluxio.util.io.PathUtils;
+import alluxio.wire.BatchResult;
+import alluxio.wire.ContentSummary;
 import alluxio.wire.FileBlockInfo;
 import alluxio.wire.FileInfo;
 import alluxio.wire.LoadMetadataType;
 import alluxio.wire.WorkerNetAddress;
 
+import com.google.common.base.Function;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
@@ -65,6 +71,7 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 import org.junit.rules.TemporaryFolder;
+import org.powermock.reflect.Whitebox;
 
 import java.io.File;
 import java.io.IOException;
@@ -75,6 +82,7 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -98,6 +106,8 @@ public final class FileSystemMasterTest {
   private long mWorkerId2;
 
   private String mUnderFS;
+  private String mBlockJournalFolder;
+  private String mFsJournalFolder;
 
   @Rule
   public TemporaryFolder mTestFolder = new TemporaryFolder();
@@ -138,8 +148,27 @@ public final class FileSystemMasterTest {
     // doesn't exist by default (helps loadRootTest).
     mUnderFS = PathUtils.concatPath(mTestFolder.newFolder().getAbsolutePath(), "underFs");
     Configuration.set(PropertyKey.UNDERFS_ADDRESS, mUnderFS);
-    Journal blockJournal = new ReadWriteJournal(mTestFolder.newFolder().getAbsolutePath());
-    Journal fsJournal = new ReadWriteJournal(mTestFolder.newFolder().getAbsolutePath());
+    mBlockJournalFolder = mTestFolder.newFolder().getAbsolutePath();
+    mFsJournalFolder = mTestFolder.newFolder().getAbsolutePath();
+    startServices();
+  }
+
+  /**
+   * Resets global state after each test run.
+   */
+  @After
+  public void after() throws Exception {
+    stopServices();
+    ConfigurationTestUtils.resetConfiguration();
+  }
+
+  /**
+   * Creates and starts the masters, which replay the journals of the previous masters, and
+   * registers the workers.
+   */
+  private void startServices() throws Exception {
+    Journal blockJournal = new ReadWriteJournal(mBlockJournalFolder);
+    Journal fsJournal = new ReadWriteJournal(mFsJournalFolder);
 
     mBlockMaster = new BlockMaster(blockJournal);
     mExecutorService =
@@ -166,13 +195,11 @@ public final class FileSystemMasterTest {
   }
 
   /**
-   * Resets global state after each test run.
+   * Stops the masters.
    */
-  @After
-  public void after() throws Exception {
+  private void stopServices() throws Exception {
     mFileSystemMaster.stop();
     mBlockMaster.stop();
-    ConfigurationTestUtils.resetConfiguration();
   }
 
   /**
@@ -241,6 +268,114 @@ public final class FileSystemMasterTest {
     Assert.assertEquals(-1, mFileSystemMaster.getFileId(NESTED_URI));
   }
 
+  /**
+   * Tests the batch methods of {@link FileSystemMaster} to create, complete and get the info of
+   * files, where each path of a batch fails on its own.
+   */
+  @Test
+  public void createAndCompleteFileBatch() throws Exception {
+    AlluxioURI otherFileUri = new AlluxioURI("/nested/test/other");
+    List<AlluxioURI> uris = Arrays.asList(NESTED_FILE_URI, otherFileUri, NESTED_FILE_URI);
+    List<BatchResult<FileInfo>> created = mFileSystemMaster.createFileBatch(uris,
+        Arrays.asList(sNestedFileOptions, sNestedFileOptions, sNestedFileOptions));
+    Assert.assertEquals(NESTED_FILE_URI.getPath(), created.get(0).get().getPath());
+    Assert.assertEquals(otherFileUri.getPath(), created.get(1).get().getPath());
+    Assert.assertTrue(created.get(2).getException() instanceof FileAlreadyExistsException);
+
+    CompleteFileOptions completeOptions = CompleteFileOptions.defaults().setUfsLength(0);
+    List<BatchResult<Void>> completed = mFileSystemMaster.completeFileBatch(uris,
+        Arrays.asList(completeOptions, completeOptions, completeOptions));
+    Assert.assertTrue(completed.get(0).isSuccess());
+    Assert.assertTrue(completed.get(1).isSuccess());
+    Assert.assertNotNull(completed.get(2).getException());
+
+    List<BatchResult<FileInfo>> infos = mFileSystemMaster
+        .getFileInfoBatch(Arrays.asList(NESTED_FILE_URI, otherFileUri, TEST_URI));
+    Assert.assertTrue(infos.get(0).get().isCompleted());
+    Assert.assertTrue(infos.get(1).get().isCompleted());
+    Assert.assertTrue(infos.get(2).getException() instanceof FileDoesNotExistException);
+  }
+
+  /**
+   * Tests the {@link FileSystemMaster#deleteBatch(List, boolean)} method, where each path of the
+   * batch fails on its own.
+   */
+  @Test
+  public void deleteBatch() throws Exception {
+    createFileWithSingleBlock(NESTED_FILE_URI);
+    createFileWithSingleBlock(ROOT_FILE_URI);
+    List<BatchResult<Void>> results =
+        mFileSystemMaster.deleteBatch(Arrays.asList(NESTED_URI, ROOT_FILE_URI, TEST_URI), false);
+    Assert.assertTrue(results.get(0).getException() instanceof DirectoryNotEmptyException);
+    Assert.assertTrue(results.get(1).isSuccess());
+    Assert.assertTrue(results.get(2).getException() instanceof FileDoesNotExistException);
+    Assert.assertNotEquals(IdUtils.INVALID_FILE_ID, mFileSystemMaster.getFileId(NESTED_FILE_URI));
+    Assert.assertEquals(IdUtils.INVALID_FILE_ID, mFileSystemMaster.getFileId(ROOT_FILE_URI));
+  }
+
+  /**
+   * Tests that a recursive delete of a large directory is completed in the background.
+   */
+  @Test
+  public void deleteLargeDirectoryInBackground() throws Exception {
+    stopServices();
+    Configuration.set(PropertyKey.MASTER_SUBTREE_RECLAIM_THRESHOLD, 3);
+    startServices();
+    AlluxioURI directory = NESTED_URI.getParent();
+    mFileSystemMaster.createDirectory(NESTED_URI,
+        CreateDirectoryOptions.defaults().setRecursive(true).setPersisted(true));
+    long blockId = createFileWithSingleBlock(NESTED_FILE_URI);
+    createFileWithSingleBlock(NESTED_URI.join("file2"));
+    // The reclaimer also deletes the objects which were never loaded from the under file system.
+    Files.createFile(Paths.get(mUnderFS, NESTED_URI.getPath(), "ufsFile"));
+
+    mFileSystemMaster.delete(directory, true);
+    Assert.assertEquals(IdUtils.INVALID_FILE_ID, mFileSystemMaster.getFileId(directory));
+    waitForSubtreeReclamations();
+
+    Assert.assertEquals(1, mFileSystemMaster.getNumberOfPaths());
+    Assert.assertFalse(Files.exists(Paths.get(mUnderFS, directory.getPath())));
+    // The path can be created again once the objects of the subtree are deleted.
+    mFileSystemMaster.createDirectory(directory,
+        CreateDirectoryOptions.defaults().setPersisted(true));
+    Assert.assertTrue(Files.exists(Paths.get(mUnderFS, directory.getPath())));
+    Assert.assertEquals(1, mFileSystemMaster.listStatus(ROOT_URI,
+        ListStatusOptions.defaults().setLoadMetadataType(LoadMetadataType.Always)).size());
+    mThrown.expect(BlockInfoException.class);
+    mBlockMaster.getBlockInfo(blockId);
+  }
+
+  /**
+   * Tests that the deletes of the objects of the directories deleted in the background which a
+   * previous leader journaled, but did not complete, are completed when the master becomes the
+   * leader.
+   */
+  @Test
+  public void resumeDeletesInBackground() throws Exception {
+    Files.createDirectories(Paths.get(mUnderFS, "deleted", "nested"));
+    Files.createFile(Paths.get(mUnderFS, "deleted", "nested", "file"));
+    UfsDeleteEntry ufsDelete = UfsDeleteEntry.newBuilder().setId(10).setPath("/deleted")
+        .setUfsPath(PathUtils.concatPath(mUnderFS, "deleted")).build();
+    long counter = Whitebox.invokeMethod(mFileSystemMaster, "appendJournalEntry",
+        JournalEntry.newBuilder().setUfsDelete(ufsDelete).build());
+    Whitebox.invokeMethod(mFileSystemMaster, "waitForJournalFlush", counter);
+
+    stopServices();
+    startServices();
+    waitForSubtreeReclamations();
+    Assert.assertFalse(Files.exists(Paths.get(mUnderFS, "deleted")));
+
+    // The completion of the delete was journaled, so the next leader does not delete the objects
+    // created there again.
+    Files.createDirectories(Paths.get(mUnderFS, "deleted"));
+    stopServices();
+    startServices();
+    waitForSubtreeReclamations();
+    Assert.assertTrue(Files.exists(Paths.get(mUnderFS, "deleted")));
+    Assert.assertNotEquals(IdUtils.INVALID_FILE_ID,
+        mFileSystemMaster.getFileId(new AlluxioURI("/deleted")));
+  }
+
   /**
    * Tests the {@link FileSystemMaster#getNewBlockIdForFile(AlluxioURI)} method.
    */
@@ -491,6 +626,27 @@ public final class FileSystemMasterTest {
     Assert.assertEquals(6, mFileSystemMaster.getNumberOfPaths());
   }
 
+  /**
+   * Tests that a paged listing returns the children sorted by name after the cursor and offset.
+   */
+  @Test
+  public void listStatusPaged() throws Exception {
+    for (String name : new String[] {"d", "b", "e", "a", "c"}) {
+      mFileSystemMaster.createFile(NESTED_URI.join(name), sNestedFileOptions);
+    }
+
+    Assert.assertEquals(Lists.newArrayList("a", "b"),
+        listNames(NESTED_URI, ListStatusOptions.defaults().setLimit(2)));
+    Assert.assertEquals(Lists.newArrayList("c", "d"),
+        listNames(NESTED_URI, ListStatusOptions.defaults().setStartAfter("b").setLimit(2)));
+    Assert.assertEquals(Lists.newArrayList("d", "e"),
+        listNames(NESTED_URI, ListStatusOptions.defaults().setStartAfter("a").setOffset(2)));
+    Assert.assertEquals(Lists.newArrayList("e"),
+        listNames(NESTED_URI, ListStatusOptions.defaults().setOffset(4).setLimit(2)));
+    Assert.assertTrue(
+        listNames(NESTED_URI, ListStatusOptions.defaults().setStartAfter("e")).isEmpty());
+  }
+
   /**
    * Tests listing status on a non-persisted directory.
    */
@@ -690,6 +846,57 @@ public final class FileSystemMasterTest {
     Assert.assertNotNull(mFileSystemMaster.getFileInfo(uri));
   }
 
+  /**
+   * Tests that a recursive load loads the metadata of all the descendants of a directory.
+   */
+  @Test
+  public void loadMetadataRecursive() throws Exception {
+    AlluxioURI ufsMount = new AlluxioURI(mTestFolder.newFolder().getAbsolutePath());
+    mFileSystemMaster.createDirectory(new AlluxioURI("/mnt/"), CreateDirectoryOptions.defaults());
+    for (int i = 0; i < 3; i++) {
+      Files.createDirectories(Paths.get(ufsMount.getPath(), "dir" + i, "nested"));
+      Files.createFile(Paths.get(ufsMount.getPath(), "dir" + i, "file"));
+      Files.createFile(Paths.get(ufsMount.getPath(), "dir" + i, "nested", "file"));
+    }
+    mFileSystemMaster.mount(new AlluxioURI("/mnt/local"), ufsMount, MountOptions.defaults());
+    int paths = mFileSystemMaster.getNumberOfPaths();
+
+    mFileSystemMaster.loadMetadata(new AlluxioURI("/mnt/local"), LoadMetadataOptions.defaults()
+        .setCreateAncestors(true).setLoadDirectChildren(true).setRecursive(true));
+    // Each of the 3 directories has a file, and a nested directory with a file.
+    Assert.assertEquals(paths + 12, mFileSystemMaster.getNumberOfPaths());
+    Assert.assertEquals(1, mFileSystemMaster.listStatus(new AlluxioURI("/mnt/local/dir2/nested"),
+        ListStatusOptions.defaults().setLoadMetadataType(LoadMetadataType.Never)).size());
+  }
+
+  /**
+   * Tests that the UFS paths which were found not to exist are not looked up again until they are
+   * created through Alluxio, when the mount point remembers absent paths.
+   */
+  @Test
+  public void loadMetadataOfAbsentPath() throws Exception {
+    AlluxioURI ufsMount = new AlluxioURI(mTestFolder.newFolder().getAbsolutePath());
+    mFileSystemMaster.createDirectory(new AlluxioURI("/mnt/"), CreateDirectoryOptions.defaults());
+    Map<String, String> properties = new HashMap<>();
+    properties.put(PropertyKey.Name.MASTER_UFS_ABSENT_PATH_CACHE_TTL_MS,
+        Long.toString(Constants.HOUR_MS));
+    mFileSystemMaster.mount(new AlluxioURI("/mnt/local"), ufsMount,
+        MountOptions.defaults().setProperties(properties));
+
+    AlluxioURI uri = new AlluxioURI("/mnt/local/dir/file");
+    Assert.assertEquals(IdUtils.INVALID_FILE_ID, mFileSystemMaster.getFileId(uri));
+
+    // The file created directly in the UFS is not seen while it is remembered to be absent.
+    Files.createDirectory(Paths.get(ufsMount.join("dir").getPath()));
+    Files.createFile(Paths.get(ufsMount.join("dir").join("file").getPath()));
+    Assert.assertEquals(IdUtils.INVALID_FILE_ID, mFileSystemMaster.getFileId(uri));
+
+    // Creating a path through Alluxio forgets that it and its ancestors are absent.
+    mFileSystemMaster.createFile(uri, CreateFileOptions.defaults().setRecursive(true));
+    mFileSystemMaster.delete(uri, false);
+    Assert.assertNotEquals(IdUtils.INVALID_FILE_ID, mFileSystemMaster.getFileId(uri));
+  }
+
   /**
    * Tests that an exception is in the
    * {@link FileSystemMaster#createFile(AlluxioURI, CreateFileOptions)} with a TTL set in the
@@ -817,6 +1024,26 @@ public final class FileSystemMasterTest {
     mFileSystemMaster.setAttribute(NESTED_URI, SetAttributeOptions.defaults().setTtl(1));
   }
 
+  /**
+   * Tests the {@link FileSystemMaster#setAttributeBatch(List, List)} method, where each path of
+   * the batch fails on its own.
+   */
+  @Test
+  public void setAttributeBatch() throws Exception {
+    mFileSystemMaster.createFile(NESTED_FILE_URI, sNestedFileOptions);
+    mFileSystemMaster.createFile(ROOT_FILE_URI, sNestedFileOptions);
+    List<BatchResult<Void>> results = mFileSystemMaster.setAttributeBatch(
+        Arrays.asList(NESTED_FILE_URI, TEST_URI, ROOT_FILE_URI),
+        Arrays.asList(SetAttributeOptions.defaults().setPinned(true),
+            SetAttributeOptions.defaults().setPinned(true),
+            SetAttributeOptions.defaults().setTtl(1)));
+    Assert.assertTrue(results.get(0).isSuccess());
+    Assert.assertTrue(results.get(1).getException() instanceof FileDoesNotExistException);
+    Assert.assertTrue(results.get(2).isSuccess());
+    Assert.assertTrue(mFileSystemMaster.getFileInfo(NESTED_FILE_URI).isPinned());
+    Assert.assertEquals(1, mFileSystemMaster.getFileInfo(ROOT_FILE_URI).getTtl());
+  }
+
   /**
    * Tests the permission bits are 0755 for directories and 0644 for files by default.
    */
@@ -849,6 +1076,52 @@ public final class FileSystemMasterTest {
     Assert.assertEquals(2, mFileSystemMaster.getInMemoryFiles().size());
     Assert.assertTrue(mFileSystemMaster.getInMemoryFiles().contains(ROOT_FILE_URI));
     Assert.assertTrue(mFileSystemMaster.getInMemoryFiles().contains(nestedMemUri));
+
+    // A deleted file is no longer in memory, and a file whose block is removed from the worker
+    // is no longer fully in memory.
+    mFileSystemMaster.delete(ROOT_FILE_URI, false);
+    blockId = mFileSystemMaster.getFileInfo(nestedMemUri).getBlockIds().get(0);
+    mBlockMaster.workerHeartbeat(mWorkerId1, ImmutableMap.of("MEM", 0L),
+        ImmutableList.of(blockId), ImmutableMap.<String, List<Long>>of());
+    Assert.assertTrue(mFileSystemMaster.getInMemoryFiles().isEmpty());
+  }
+
+  /**
+   * Tests that the {@link FileSystemMaster#getContentSummary(AlluxioURI)} method follows the
+   * changes of the inodes and of the block locations.
+   */
+  @Test
+  public void getContentSummary() throws Exception {
+    long blockId = createFileWithSingleBlock(NESTED_FILE_URI);
+    mFileSystemMaster.createFile(ROOT_FILE_URI, sNestedFileOptions);
+    // The block locations are only applied by the worker heartbeats.
+    checkContentSummary(ROOT_URI, 2, 3, Constants.KB, 0, 0);
+    mFileSystemMaster.workerHeartbeat(mWorkerId1, ImmutableList.<Long>of());
+    checkContentSummary(ROOT_URI, 2, 3, Constants.KB, Constants.KB, 0);
+    checkContentSummary(NESTED_URI, 1, 1, Constants.KB, Constants.KB, 0);
+    checkContentSummary(NESTED_FILE_URI, 1, 0, Constants.KB, Constants.KB, 0);
+
+    mFileSystemMaster.setAttribute(NESTED_URI, SetAttributeOptions.defaults().setPinned(true));
+    checkContentSummary(ROOT_URI, 2, 3, Constants.KB, Constants.KB, Constants.KB);
+
+    // The block is removed from the worker, then added back.
+    mBlockMaster.workerHeartbeat(mWorkerId1, ImmutableMap.of("MEM", 0L),
+        ImmutableList.of(blockId), ImmutableMap.<String, List<Long>>of());
+    mFileSystemMaster.workerHeartbeat(mWorkerId1, ImmutableList.<Long>of());
+    checkContentSummary(NESTED_URI, 1, 1, Constants.KB, 0, Constants.KB);
+    mBlockMaster.workerHeartbeat(mWorkerId1, ImmutableMap.of("MEM", (long) Constants.KB),
+        ImmutableList.<Long>of(), ImmutableMap.<String, List<Long>>of("MEM",
+            ImmutableList.of(blockId)));
+    mFileSystemMaster.workerHeartbeat(mWorkerId1, ImmutableList.<Long>of());
+    checkContentSummary(NESTED_URI, 1, 1, Constants.KB, Constants.KB, Constants.KB);
+
+    mFileSystemMaster.rename(NESTED_URI, TEST_URI);
+    checkContentSummary(new AlluxioURI("/nested"), 0, 1, 0, 0, 0);
+    checkContentSummary(TEST_URI, 1, 1, Constants.KB, Constants.KB, Constants.KB);
+    checkContentSummary(ROOT_URI, 2, 3, Constants.KB, Constants.KB, Constants.KB);
+
+    mFileSystemMaster.delete(TEST_URI, true);
+    checkContentSummary(ROOT_URI, 1, 2, 0, 0, 0);
   }
 
   /**
@@ -977,6 +1250,32 @@ public final class FileSystemMasterTest {
     Assert.assertEquals(0, mBlockMaster.getBlockInfo(blockId).getLocations().size());
   }
 
+  /**
+   * Tests that a recursive free of a large directory is completed in the background.
+   */
+  @Test
+  public void freeLargeDirectoryInBackground() throws Exception {
+    stopServices();
+    Configuration.set(PropertyKey.MASTER_SUBTREE_RECLAIM_THRESHOLD, 3);
+    startServices();
+    long blockId = createFileWithSingleBlock(NESTED_FILE_URI);
+
+    Assert.assertTrue(mFileSystemMaster.free(NESTED_URI.getParent(), true));
+    CommonUtils.waitFor("the directory to be freed in the background",
+        new Function<Void, Boolean>() {
+          @Override
+          public Boolean apply(Void input) {
+            return mFileSystemMaster.getSubtreeReclamations().isEmpty();
+          }
+        }, 10 * Constants.SECOND_MS);
+    Command heartbeat = mBlockMaster
+        .workerHeartbeat(mWorkerId1, ImmutableMap.of("MEM", Constants.KB * 1L),
+            ImmutableList.of(blockId), ImmutableMap.<String, List<Long>>of());
+    Assert.assertEquals(new Command(CommandType.Nothing, ImmutableList.<Long>of()), heartbeat);
+    Assert.assertEquals(0, mBlockMaster.getBlockInfo(blockId).getLocations().size());
+    Assert.assertNotEquals(IdUtils.INVALID_FILE_ID, mFileSystemMaster.getFileId(NESTED_FILE_URI));
+  }
+
   /**
    * Tests the {@link FileSystemMaster#mount(AlluxioURI, AlluxioURI, MountOptions)} method.
    */
@@ -1191,6 +1490,24 @@ public final class FileSystemMasterTest {
     mFileSystemMaster.loadMetadata(new AlluxioURI("alluxio:/"), LoadMetadataOptions.defaults());
   }
 
+  private List<String> listNames(AlluxioURI uri, ListStatusOptions options) throws Exception {
+    List<String> names = new ArrayList<>();
+    for (FileInfo fileInfo : mFileSystemMaster.listStatus(uri, options)) {
+      names.add(fileInfo.getName());
+    }
+    return names;
+  }
+
+  private void checkContentSummary(AlluxioURI uri, long fileCount, long directoryCount,
+      long length, long inAlluxioLength, long pinnedLength) throws Exception {
+    ContentSummary summary = mFileSystemMaster.getContentSummary(uri);
+    Assert.assertEquals(fileCount, summary.getFileCount());
+    Assert.assertEquals(directoryCount, summary.getDirectoryCount());
+    Assert.assertEquals(length, summary.getLength());
+    Assert.assertEquals(inAlluxioLength, summary.getInAlluxioLength());
+    Assert.assertEquals(pinnedLength, summary.getPinnedLength());
+  }
+
   private long createFileWithSingleBlock(AlluxioURI uri) throws Exception {
     mFileSystemMaster.createFile(uri, sNestedFileOptions);
     long blockId = mFileSystemMaster.getNewBlockIdForFile(uri);
@@ -1199,4 +1516,14 @@ public final class FileSystemMasterTest {
     mFileSystemMaster.completeFile(uri, options);
     return blockId;
   }
+
+  private void waitForSubtreeReclamations() {
+    CommonUtils.waitFor("the subtrees to be reclaimed in the background",
+        new Function<Void, Boolean>() {
+          @Override
+          public Boolean apply(Void input) {
+            return mFileSystemMaster.getSubtreeReclamations().isEmpty();
+          }
+        }, 10 * Constants.SECOND_MS);
+  }
 }
@@ -0,0 +1,317 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.master.file;
+
+import alluxio.AlluxioURI;
+import alluxio.Constants;
+import alluxio.client.block.BlockWorkerInfo;
+import alluxio.clock.ManualClock;
+import alluxio.exception.AlluxioException;
+import alluxio.exception.FileDoesNotExistException;
+import alluxio.exception.LoadJobDoesNotExistException;
+import alluxio.exception.NoWorkerException;
+import alluxio.exception.ServerOverloadedException;
+import alluxio.master.file.options.LoadJobOptions;
+import alluxio.util.CommonUtils;
+import alluxio.wire.BlockInfo;
+import alluxio.wire.FileBlockInfo;
+import alluxio.wire.LoadJobInfo;
+import alluxio.wire.LoadJobStatus;
+import alluxio.wire.WorkerNetAddress;
+
+import com.google.common.base.Function;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Unit tests for {@link LoadJobManager}.
+ */
+public final class LoadJobManagerTest {
+  private static final AlluxioURI PATH = new AlluxioURI("/dir");
+  private static final long RETENTION_MS = Constants.MINUTE_MS;
+
+  private ManualClock mClock;
+  private FakeBlockSource mBlockSource;
+  private FakeBlockLoader mBlockLoader;
+  private LoadJobManager mManager;
+
+  @Before
+  public void before() {
+    mClock = new ManualClock();
+    mBlockSource = new FakeBlockSource();
+    mBlockLoader = new FakeBlockLoader();
+    mManager = new LoadJobManager(2, 4, RETENTION_MS, mClock, mBlockSource, mBlockLoader);
+  }
+
+  @After
+  public void after() {
+    mBlockLoader.mRelease.countDown();
+    mManager.close();
+  }
+
+  /**
+   * Tests that a job has the workers load all the blocks and completes.
+   */
+  @Test
+  public void complete() throws Exception {
+    mBlockSource.addBlocks(3, 10);
+    mBlockLoader.mRelease.countDown();
+
+    LoadJobInfo info = waitForFinished(mManager.submit(PATH, LoadJobOptions.defaults()));
+    Assert.assertEquals(LoadJobStatus.Completed, info.getStatus());
+    Assert.assertEquals(PATH.getPath(), info.getPath());
+    Assert.assertEquals(3, info.getTotalBlocks());
+    Assert.assertEquals(3, info.getLoadedBlocks());
+    Assert.assertEquals(0, info.getFailedBlocks());
+    Assert.assertEquals(30, info.getTotalBytes());
+    Assert.assertEquals(30, info.getLoadedBytes());
+    Assert.assertEquals("", info.getErrorMessage());
+    Assert.assertEquals(3, mBlockLoader.mLoaded.size());
+  }
+
+  /**
+   * Tests that a job loads the other blocks when some of them fail, and then fails with their
+   * errors.
+   */
+  @Test
+  public void blockFailure() throws Exception {
+    mBlockSource.addBlocks(3, 10);
+    mBlockLoader.mFailedBlockIds.add(1L);
+    mBlockLoader.mRelease.countDown();
+
+    LoadJobInfo info = waitForFinished(mManager.submit(PATH, LoadJobOptions.defaults()));
+    Assert.assertEquals(LoadJobStatus.Failed, info.getStatus());
+    Assert.assertEquals(2, info.getLoadedBlocks());
+    Assert.assertEquals(1, info.getFailedBlocks());
+    Assert.assertEquals("Failed to load block 1", info.getErrorMessage());
+  }
+
+  /**
+   * Tests that a job fails when its blocks cannot be listed.
+   */
+  @Test
+  public void listFailure() throws Exception {
+    mBlockSource.mFailure = new FileDoesNotExistException("/dir does not exist");
+
+    LoadJobInfo info = waitForFinished(mManager.submit(PATH, LoadJobOptions.defaults()));
+    Assert.assertEquals(LoadJobStatus.Failed, info.getStatus());
+    Assert.assertEquals("/dir does not exist", info.getErrorMessage());
+  }
+
+  /**
+   * Tests that a canceled job does not load the blocks which are not being loaded yet.
+   */
+  @Test
+  public void cancel() throws Exception {
+    mBlockSource.addBlocks(10, 10);
+
+    long id = mManager.submit(PATH, LoadJobOptions.defaults().setConcurrency(1));
+    mBlockLoader.mStarted.await();
+    mManager.cancel(id);
+    Assert.assertEquals(LoadJobStatus.Canceled, mManager.getInfo(id).getStatus());
+    Assert.assertEquals(0, mManager.getNumRunning());
+    mBlockLoader.mRelease.countDown();
+    Assert.assertEquals(LoadJobStatus.Canceled, mManager.getInfo(id).getStatus());
+    Assert.assertTrue(mBlockLoader.mLoaded.size() < 10);
+  }
+
+  /**
+   * Tests that the number of blocks loaded at the same time is capped by the maximum concurrency.
+   */
+  @Test
+  public void concurrencyLimit() throws Exception {
+    mBlockSource.addBlocks(20, 10);
+    mBlockLoader.mRelease.countDown();
+    mBlockLoader.mSleepMs = 10;
+
+    LoadJobInfo info = waitForFinished(
+        mManager.submit(PATH, LoadJobOptions.defaults().setConcurrency(100)));
+    Assert.assertEquals(LoadJobStatus.Completed, info.getStatus());
+    Assert.assertTrue(mBlockLoader.mMaxConcurrent.get() <= 4);
+  }
+
+  /**
+   * Tests that no more jobs than the maximum are running at the same time.
+   */
+  @Test
+  public void jobsLimit() throws Exception {
+    mBlockSource.addBlocks(1, 10);
+    mManager.submit(PATH, LoadJobOptions.defaults());
+    long id = mManager.submit(PATH, LoadJobOptions.defaults());
+    try {
+      mManager.submit(PATH, LoadJobOptions.defaults());
+      Assert.fail("Submitting more jobs than the maximum should fail");
+    } catch (ServerOverloadedException e) {
+      // Expected
+    }
+    mManager.cancel(id);
+    mManager.submit(PATH, LoadJobOptions.defaults());
+  }
+
+  /**
+   * Tests that a job is not submitted when there is no worker.
+   */
+  @Test
+  public void noWorker() throws Exception {
+    mBlockSource.mWorkers.clear();
+    try {
+      mManager.submit(PATH, LoadJobOptions.defaults());
+      Assert.fail("Submitting a job without workers should fail");
+    } catch (NoWorkerException e) {
+      // Expected
+    }
+  }
+
+  /**
+   * Tests that a finished job is forgotten after the retention time.
+   */
+  @Test
+  public void retention() throws Exception {
+    mBlockLoader.mRelease.countDown();
+    long id = mManager.submit(PATH, LoadJobOptions.defaults());
+    waitForFinished(id);
+
+    mClock.addTimeMs(RETENTION_MS);
+    Assert.assertEquals(LoadJobStatus.Completed, mManager.getInfo(id).getStatus());
+    mClock.addTimeMs(1);
+    try {
+      mManager.getInfo(id);
+      Assert.fail("A job should be forgotten after the retention time");
+    } catch (LoadJobDoesNotExistException e) {
+      // Expected
+    }
+  }
+
+  /**
+   * Tests that the jobs are forgotten when the manager is closed, and that jobs run again after
+   * that, as when a master is stopped and started again.
+   */
+  @Test
+  public void submitAfterClose() throws Exception {
+    long id = mManager.submit(PATH, LoadJobOptions.defaults());
+    mManager.close();
+    try {
+      mManager.getInfo(id);
+      Assert.fail("The jobs should be forgotten when the manager is closed");
+    } catch (LoadJobDoesNotExistException e) {
+      // Expected
+    }
+    mBlockSource.addBlocks(1, 10);
+    mBlockLoader.mRelease.countDown();
+    LoadJobInfo info = waitForFinished(mManager.submit(PATH, LoadJobOptions.defaults()));
+    Assert.assertEquals(LoadJobStatus.Completed, info.getStatus());
+  }
+
+  private LoadJobInfo waitForFinished(final long id) throws Exception {
+    CommonUtils.waitFor("the load job to finish", new Function<Void, Boolean>() {
+      @Override
+      public Boolean apply(Void input) {
+        try {
+          return mManager.getInfo(id).getStatus().isFinished();
+        } catch (LoadJobDoesNotExistException e) {
+          throw new RuntimeException(e);
+        }
+      }
+    }, 10 * Constants.SECOND_MS);
+    return mManager.getInfo(id);
+  }
+
+  /**
+   * Lists the blocks added to it, and a single worker.
+   */
+  private static final class FakeBlockSource implements LoadJobManager.BlockSource {
+    private final List<LoadJobManager.BlockLoad> mLoads = new ArrayList<>();
+    private final List<BlockWorkerInfo> mWorkers = new ArrayList<>();
+    private AlluxioException mFailure;
+
+    FakeBlockSource() {
+      mWorkers.add(new BlockWorkerInfo(new WorkerNetAddress().setHost("worker"), 1000, 0));
+    }
+
+    void addBlocks(int numBlocks, long length) {
+      for (int i = 0; i < numBlocks; i++) {
+        FileBlockInfo block = new FileBlockInfo()
+            .setBlockInfo(new BlockInfo().setBlockId(i).setLength(length))
+            .setOffset(i * length);
+        mLoads.add(new LoadJobManager.BlockLoad(block, "/ufs/file"));
+      }
+    }
+
+    @Override
+    public List<LoadJobManager.BlockLoad> listBlocksToLoad(AlluxioURI path)
+        throws AlluxioException {
+      if (mFailure != null) {
+        throw mFailure;
+      }
+      return new ArrayList<>(mLoads);
+    }
+
+    @Override
+    public List<BlockWorkerInfo> getWorkers() {
+      return new ArrayList<>(mWorkers);
+    }
+  }
+
+  /**
+   * Records the blocks loaded, once released, and fails to load the given blocks.
+   */
+  private static final class FakeBlockLoader implements LoadJobManager.BlockLoader {
+    private final CountDownLatch mStarted = new CountDownLatch(1);
+    private final CountDownLatch mRelease = new CountDownLatch(1);
+    private final Set<Long> mLoaded =
+        Collections.newSetFromMap(new ConcurrentHashMap<Long, Boolean>());
+    private final Set<Long> mFailedBlockIds =
+        Collections.newSetFromMap(new ConcurrentHashMap<Long, Boolean>());
+    private final AtomicInteger mConcurrent = new AtomicInteger();
+    private final AtomicInteger mMaxConcurrent = new AtomicInteger();
+    private volatile long mSleepMs;
+
+    @Override
+    public void load(WorkerNetAddress worker, LoadJobManager.BlockLoad load) throws IOException {
+      long blockId = load.getBlock().getBlockInfo().getBlockId();
+      int concurrent = mConcurrent.incrementAndGet();
+      try {
+        while (true) {
+          int max = mMaxConcurrent.get();
+          if (concurrent <= max || mMaxConcurrent.compareAndSet(max, concurrent)) {
+            break;
+          }
+        }
+        mStarted.countDown();
+        mRelease.await();
+        if (mSleepMs > 0) {
+          Thread.sleep(mSleepMs);
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IOException("Interrupted while loading block " + blockId);
+      } finally {
+        mConcurrent.decrementAndGet();
+      }
+      if (mFailedBlockIds.contains(blockId)) {
+        throw new IOException("Failed to load block " + blockId);
+      }
+      mLoaded.add(blockId);
+    }
+  }
+}
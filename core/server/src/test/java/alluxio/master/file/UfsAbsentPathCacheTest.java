@@ -0,0 +1,123 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.master.file;
+
+import alluxio.AlluxioURI;
+import alluxio.clock.ManualClock;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link UfsAbsentPathCache}.
+ */
+public final class UfsAbsentPathCacheTest {
+  private static final long TTL_MS = 1000;
+
+  private ManualClock mClock;
+  private UfsAbsentPathCache mCache;
+
+  @Before
+  public void before() {
+    mClock = new ManualClock();
+    mCache = new UfsAbsentPathCache(100, mClock);
+  }
+
+  /**
+   * Tests that an absent path and the paths under it are absent.
+   */
+  @Test
+  public void addAbsent() {
+    mCache.addAbsent(new AlluxioURI("hdfs://host:9000/dir/sub"), TTL_MS);
+
+    Assert.assertTrue(mCache.isAbsent(new AlluxioURI("hdfs://host:9000/dir/sub")));
+    Assert.assertTrue(mCache.isAbsent(new AlluxioURI("hdfs://host:9000/dir/sub/file")));
+    Assert.assertFalse(mCache.isAbsent(new AlluxioURI("hdfs://host:9000/dir")));
+    Assert.assertFalse(mCache.isAbsent(new AlluxioURI("hdfs://host:9000/dir/sub2")));
+    Assert.assertFalse(mCache.isAbsent(new AlluxioURI("hdfs://other:9000/dir/sub")));
+  }
+
+  /**
+   * Tests that nothing is remembered when the time to live is not positive.
+   */
+  @Test
+  public void addAbsentWithoutTtl() {
+    mCache.addAbsent(new AlluxioURI("/dir"), 0);
+
+    Assert.assertFalse(mCache.isAbsent(new AlluxioURI("/dir")));
+    Assert.assertTrue(mCache.isEmpty());
+  }
+
+  /**
+   * Tests that absent paths expire after their time to live.
+   */
+  @Test
+  public void expire() {
+    mCache.addAbsent(new AlluxioURI("/dir"), TTL_MS);
+
+    mClock.addTimeMs(TTL_MS - 1);
+    Assert.assertTrue(mCache.isAbsent(new AlluxioURI("/dir/file")));
+    mClock.addTimeMs(1);
+    Assert.assertFalse(mCache.isAbsent(new AlluxioURI("/dir/file")));
+    Assert.assertTrue(mCache.isEmpty());
+  }
+
+  /**
+   * Tests that creating a path forgets that it and its ancestors are absent, but not its siblings.
+   */
+  @Test
+  public void invalidate() {
+    mCache.addAbsent(new AlluxioURI("/dir"), TTL_MS);
+    mCache.addAbsent(new AlluxioURI("/dir/sub/file"), TTL_MS);
+    mCache.addAbsent(new AlluxioURI("/other"), TTL_MS);
+
+    mCache.invalidate(new AlluxioURI("/dir/sub"));
+    Assert.assertFalse(mCache.isAbsent(new AlluxioURI("/dir")));
+    Assert.assertFalse(mCache.isAbsent(new AlluxioURI("/dir/sub")));
+    Assert.assertTrue(mCache.isAbsent(new AlluxioURI("/dir/sub/file")));
+    Assert.assertTrue(mCache.isAbsent(new AlluxioURI("/other")));
+  }
+
+  /**
+   * Tests that renaming a directory to a path forgets that the paths under it are absent.
+   */
+  @Test
+  public void invalidateTree() {
+    mCache.addAbsent(new AlluxioURI("/dir/file"), TTL_MS);
+    mCache.addAbsent(new AlluxioURI("/dir2/file"), TTL_MS);
+
+    mCache.invalidateTree(new AlluxioURI("/dir"));
+    Assert.assertFalse(mCache.isAbsent(new AlluxioURI("/dir/file")));
+    Assert.assertTrue(mCache.isAbsent(new AlluxioURI("/dir2/file")));
+
+    mCache.invalidateAll();
+    Assert.assertTrue(mCache.isEmpty());
+  }
+
+  /**
+   * Tests that the number of absent paths is bounded.
+   */
+  @Test
+  public void capacity() {
+    for (int i = 0; i < 1000; i++) {
+      mCache.addAbsent(new AlluxioURI("/file" + i), TTL_MS);
+    }
+    int absent = 0;
+    for (int i = 0; i < 1000; i++) {
+      if (mCache.isAbsent(new AlluxioURI("/file" + i))) {
+        absent++;
+      }
+    }
+    Assert.assertTrue(absent <= 100);
+  }
+}
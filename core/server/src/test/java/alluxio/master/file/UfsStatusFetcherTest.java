@@ -0,0 +1,150 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.master.file;
+
+import alluxio.underfs.UnderFileSystem;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Unit tests for {@link UfsStatusFetcher}.
+ */
+public final class UfsStatusFetcherTest {
+  private UnderFileSystem mUfs;
+
+  @Before
+  public void before() throws Exception {
+    mUfs = Mockito.mock(UnderFileSystem.class);
+    Mockito.when(mUfs.getOwner(Mockito.anyString())).thenReturn("owner");
+    Mockito.when(mUfs.getGroup(Mockito.anyString())).thenReturn("group");
+    Mockito.when(mUfs.getMode(Mockito.anyString())).thenReturn((short) 0755);
+  }
+
+  /**
+   * Tests that the statuses of files, directories and missing paths are fetched.
+   */
+  @Test
+  public void fetch() throws Exception {
+    mockFile("/file", 10);
+    mockDirectory("/dir");
+    UfsStatusFetcher fetcher = new UfsStatusFetcher(1);
+
+    UfsStatus file = fetcher.fetch(mUfs, "/file");
+    Assert.assertTrue(file.isFile());
+    Assert.assertEquals(10, file.getLength());
+    Assert.assertEquals(64, file.getBlockSizeBytes());
+    Assert.assertEquals("owner", file.getOwner());
+    Assert.assertEquals("group", file.getGroup());
+    Assert.assertEquals((short) 0755, file.getMode());
+
+    UfsStatus dir = fetcher.fetch(mUfs, "/dir");
+    Assert.assertTrue(dir.exists());
+    Assert.assertFalse(dir.isFile());
+    Assert.assertTrue(dir.hasAttributes());
+
+    Assert.assertFalse(fetcher.fetch(mUfs, "/missing").exists());
+  }
+
+  /**
+   * Tests that only the type of a path is fetched until its attributes are needed.
+   */
+  @Test
+  public void fetchTypeThenAttributes() throws Exception {
+    mockFile("/file", 10);
+    UfsStatusFetcher fetcher = new UfsStatusFetcher(1);
+
+    UfsStatus type = fetcher.fetchType(mUfs, "/file");
+    Assert.assertTrue(type.isFile());
+    Assert.assertFalse(type.hasAttributes());
+    Mockito.verify(mUfs, Mockito.never()).getOwner(Mockito.anyString());
+
+    UfsStatus status = fetcher.fetchAttributes(mUfs, "/file", type);
+    Assert.assertTrue(status.hasAttributes());
+    Assert.assertEquals(10, status.getLength());
+    Assert.assertSame(status, fetcher.fetchAttributes(mUfs, "/file", status));
+  }
+
+  /**
+   * Tests that the statuses fetched concurrently are returned in the order of the paths.
+   */
+  @Test
+  public void fetchAllKeepsOrder() throws Exception {
+    List<String> paths = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      String path = "/file" + i;
+      mockFile(path, i);
+      paths.add(path);
+    }
+    UfsStatusFetcher fetcher = new UfsStatusFetcher(8);
+
+    List<UfsStatus> statuses = fetcher.fetchAll(mUfs, paths);
+    Assert.assertEquals(paths.size(), statuses.size());
+    for (int i = 0; i < statuses.size(); i++) {
+      Assert.assertEquals(i, statuses.get(i).getLength());
+    }
+  }
+
+  /**
+   * Tests that a failure to fetch any of the paths fails the whole fetch.
+   */
+  @Test
+  public void fetchAllFailure() throws Exception {
+    mockFile("/file", 10);
+    Mockito.when(mUfs.exists("/broken")).thenThrow(new IOException("broken"));
+    UfsStatusFetcher fetcher = new UfsStatusFetcher(4);
+
+    try {
+      fetcher.fetchAll(mUfs, Arrays.asList("/file", "/broken"));
+      Assert.fail("Fetching a broken path should fail");
+    } catch (IOException e) {
+      Assert.assertEquals("broken", e.getMessage());
+    }
+  }
+
+  /**
+   * Tests that the statuses are fetched concurrently again after the fetcher is closed, as when a
+   * master is stopped and started again.
+   */
+  @Test
+  public void fetchAllAfterClose() throws Exception {
+    mockFile("/file1", 1);
+    mockFile("/file2", 2);
+    UfsStatusFetcher fetcher = new UfsStatusFetcher(4);
+
+    fetcher.fetchAll(mUfs, Arrays.asList("/file1", "/file2"));
+    fetcher.close();
+    Assert.assertEquals(0, fetcher.getNumPending());
+    List<UfsStatus> statuses = fetcher.fetchAll(mUfs, Arrays.asList("/file1", "/file2"));
+    Assert.assertEquals(2, statuses.get(1).getLength());
+    fetcher.close();
+  }
+
+  private void mockFile(String path, long length) throws IOException {
+    Mockito.when(mUfs.exists(path)).thenReturn(true);
+    Mockito.when(mUfs.isFile(path)).thenReturn(true);
+    Mockito.when(mUfs.getFileSize(path)).thenReturn(length);
+    Mockito.when(mUfs.getBlockSizeByte(path)).thenReturn(64L);
+  }
+
+  private void mockDirectory(String path) throws IOException {
+    Mockito.when(mUfs.exists(path)).thenReturn(true);
+    Mockito.when(mUfs.isFile(path)).thenReturn(false);
+  }
+}
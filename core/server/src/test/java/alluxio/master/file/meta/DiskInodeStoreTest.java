@@ -0,0 +1,141 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.master.file.meta;
+
+import alluxio.master.file.options.CreateDirectoryOptions;
+
+import com.google.common.collect.Sets;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Unit tests for {@link DiskInodeStore}.
+ */
+public final class DiskInodeStoreTest extends AbstractInodeTest {
+  @Rule
+  public TemporaryFolder mFolder = new TemporaryFolder();
+
+  private InodeLockManager mLockManager;
+  private InodeDirectory mRoot;
+  private InodeDirectory mDirectory;
+
+  @Before
+  public void before() {
+    mLockManager = new InodeLockManager();
+    mRoot = InodeDirectory.create(0, InodeTree.NO_PARENT, "",
+        CreateDirectoryOptions.defaults().setPermission(TEST_PERMISSION));
+    mDirectory = createInodeDirectory();
+    mRoot.addChild(mDirectory);
+  }
+
+  /**
+   * Tests that evicted inodes are read back from the log with their state.
+   */
+  @Test
+  public void evictAndGet() throws Exception {
+    List<InodeFile> files = new ArrayList<>();
+    for (int i = 1; i <= 10; i++) {
+      InodeFile file = createInodeFile(i).setInAlluxioLength(i);
+      mDirectory.addChild(file);
+      mDirectory.updateSubtreeSummary(file.getSubtreeSummary());
+      files.add(file);
+    }
+    // The inodes are only modified before they are added, since they are not locked.
+    DiskInodeStore store = new DiskInodeStore(mFolder.getRoot(), 2, mLockManager);
+    store.add(mRoot);
+    store.add(mDirectory);
+    for (InodeFile file : files) {
+      store.add(file);
+    }
+    Assert.assertEquals(12, store.size());
+    Assert.assertSame(mRoot, store.get(mRoot.getId()));
+
+    InodeDirectory directory = (InodeDirectory) store.get(mDirectory.getId());
+    Assert.assertNotSame(mDirectory, directory);
+    Assert.assertEquals(mDirectory.getName(), directory.getName());
+    Assert.assertEquals(mDirectory.getChildrenIds(), directory.getChildrenIds());
+    Assert.assertEquals(mDirectory.getSubtreeSummary(), directory.getSubtreeSummary());
+    for (int i = 1; i <= 10; i++) {
+      InodeFile file = (InodeFile) store.get(createInodeFileId(i));
+      Assert.assertEquals("testFile" + i, file.getName());
+      Assert.assertEquals(i, file.getInAlluxioLength());
+    }
+  }
+
+  /**
+   * Tests that the inodes which are locked, or whose parent is locked, are not evicted.
+   */
+  @Test
+  public void lockedNotEvicted() throws Exception {
+    DiskInodeStore store = new DiskInodeStore(mFolder.getRoot(), 1, mLockManager);
+    store.add(mRoot);
+    store.add(mDirectory);
+    mLockManager.lockRead(mDirectory);
+    try {
+      InodeFile file = createInodeFile(1);
+      mDirectory.addChild(file);
+      store.add(file);
+      store.add(createInodeFile(2));
+      Assert.assertSame(mDirectory, store.get(mDirectory.getId()));
+      Assert.assertSame(file, store.get(file.getId()));
+    } finally {
+      mLockManager.unlockRead(mDirectory);
+    }
+    store.add(createInodeFile(3));
+    Assert.assertNotSame(mDirectory, store.get(mDirectory.getId()));
+  }
+
+  /**
+   * Tests that removed inodes are removed from both the cache and the log.
+   */
+  @Test
+  public void remove() throws Exception {
+    DiskInodeStore store = new DiskInodeStore(mFolder.getRoot(), 1, mLockManager);
+    store.add(mRoot);
+    store.add(mDirectory);
+    InodeFile file = createInodeFile(1);
+    store.add(file);
+    store.remove(file);
+    store.remove(mDirectory);
+    Assert.assertNull(store.get(file.getId()));
+    Assert.assertNull(store.get(mDirectory.getId()));
+    Assert.assertEquals(1, store.size());
+    store.clear();
+    Assert.assertNull(store.get(mRoot.getId()));
+    Assert.assertEquals(0, store.size());
+  }
+
+  /**
+   * Tests that an inode is written again when it is modified after being read from the log.
+   */
+  @Test
+  public void writeModified() throws Exception {
+    DiskInodeStore store = new DiskInodeStore(mFolder.getRoot(), 1, mLockManager);
+    store.add(mRoot);
+    store.add(mDirectory);
+    store.add(createInodeFile(1));
+    InodeDirectory directory = (InodeDirectory) store.get(mDirectory.getId());
+    mLockManager.lockWrite(directory);
+    directory.setName("renamed");
+    mLockManager.unlockWrite(directory);
+    store.add(createInodeFile(2));
+    directory = (InodeDirectory) store.get(mDirectory.getId());
+    Assert.assertEquals("renamed", directory.getName());
+    Assert.assertEquals(Sets.newHashSet(mDirectory.getId()), mRoot.getChildrenIds());
+  }
+}
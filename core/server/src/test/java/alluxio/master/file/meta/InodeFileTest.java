@@ -144,6 +144,27 @@ public final class InodeFileTest extends AbstractInodeTest {
     }
   }
 
+  /**
+   * Tests that the block ids of a file are derived from its block container id.
+   */
+  @Test
+  public void setBlockIds() throws Exception {
+    InodeFile inodeFile = createInodeFile(1);
+    List<Long> blockIds = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      blockIds.add(inodeFile.getNewBlockId());
+    }
+    InodeFile copy = createInodeFile(1).setBlockIds(blockIds);
+    Assert.assertEquals(blockIds, copy.getBlockIds());
+    Assert.assertEquals((long) blockIds.get(2), copy.getBlockIdByIndex(2));
+    try {
+      createInodeFile(2).setBlockIds(blockIds);
+      Assert.fail("The blocks of another file should be rejected");
+    } catch (IllegalArgumentException e) {
+      // expected
+    }
+  }
+
   /**
    * Tests the {@link InodeFile#setCompleted(boolean)} method.
    */
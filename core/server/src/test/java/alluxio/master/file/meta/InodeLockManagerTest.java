@@ -0,0 +1,88 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.master.file.meta;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Unit tests for {@link InodeLockManager}.
+ */
+public final class InodeLockManagerTest extends AbstractInodeTest {
+  private InodeLockManager mLockManager;
+  private InodeDirectory mDirectory;
+
+  @Before
+  public void before() {
+    mLockManager = new InodeLockManager();
+    mDirectory = createInodeDirectory();
+  }
+
+  /**
+   * Tests that the lock of an inode is only held while the inode is locked.
+   */
+  @Test
+  public void lockReleased() {
+    Assert.assertFalse(mLockManager.isLocked(mDirectory.getId()));
+    mLockManager.lockRead(mDirectory);
+    Assert.assertTrue(mLockManager.isLocked(mDirectory.getId()));
+    Assert.assertTrue(mLockManager.isReadLocked(mDirectory));
+    Assert.assertFalse(mLockManager.isWriteLocked(mDirectory));
+    mLockManager.unlockRead(mDirectory);
+    Assert.assertFalse(mLockManager.isLocked(mDirectory.getId()));
+    Assert.assertEquals(0, mLockManager.getNumLockedInodes());
+  }
+
+  /**
+   * Tests that a thread holding the write lock of an inode may lock it again.
+   */
+  @Test
+  public void reentrant() {
+    mLockManager.lockWrite(mDirectory);
+    mLockManager.lockRead(mDirectory);
+    mLockManager.lockWrite(mDirectory);
+    Assert.assertTrue(mLockManager.isWriteLocked(mDirectory));
+    Assert.assertTrue(mLockManager.isReadLocked(mDirectory));
+    mLockManager.unlockWrite(mDirectory);
+    mLockManager.unlockRead(mDirectory);
+    Assert.assertTrue(mLockManager.isWriteLocked(mDirectory));
+    mLockManager.unlockWrite(mDirectory);
+    Assert.assertEquals(0, mLockManager.getNumLockedInodes());
+  }
+
+  /**
+   * Tests that the write lock of an inode excludes the other threads until it is released.
+   */
+  @Test
+  public void writeLockExclusive() throws Exception {
+    final CountDownLatch locked = new CountDownLatch(1);
+    mLockManager.lockWrite(mDirectory);
+    Thread thread = new Thread(new Runnable() {
+      @Override
+      public void run() {
+        mLockManager.lockRead(mDirectory);
+        locked.countDown();
+        mLockManager.unlockRead(mDirectory);
+      }
+    });
+    thread.start();
+    Assert.assertFalse(locked.await(100, TimeUnit.MILLISECONDS));
+    mLockManager.unlockWrite(mDirectory);
+    Assert.assertTrue(locked.await(10, TimeUnit.SECONDS));
+    thread.join();
+    Assert.assertEquals(0, mLockManager.getNumLockedInodes());
+  }
+}
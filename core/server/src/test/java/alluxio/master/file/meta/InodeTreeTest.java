@@ -44,6 +44,7 @@ import org.junit.rules.TemporaryFolder;
 import org.mockito.Mockito;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
@@ -76,18 +77,25 @@ public final class InodeTreeTest {
    */
   @Before
   public void before() throws Exception {
+    Configuration.set(PropertyKey.SECURITY_AUTHORIZATION_PERMISSION_ENABLED, "true");
+    Configuration.set(PropertyKey.SECURITY_AUTHORIZATION_PERMISSION_SUPERGROUP, "test-supergroup");
+    mTree = createTree();
+  }
+
+  /**
+   * @return a new tree with only the root, using the inode store set in the configuration
+   */
+  private InodeTree createTree() throws Exception {
     Journal blockJournal = new ReadWriteJournal(mTestFolder.newFolder().getAbsolutePath());
 
     BlockMaster blockMaster = new BlockMaster(blockJournal);
     InodeDirectoryIdGenerator directoryIdGenerator = new InodeDirectoryIdGenerator(blockMaster);
     MountTable mountTable = new MountTable();
-    mTree = new InodeTree(blockMaster, directoryIdGenerator, mountTable);
+    InodeTree tree = new InodeTree(blockMaster, directoryIdGenerator, mountTable);
 
     blockMaster.start(true);
-
-    Configuration.set(PropertyKey.SECURITY_AUTHORIZATION_PERMISSION_ENABLED, "true");
-    Configuration.set(PropertyKey.SECURITY_AUTHORIZATION_PERMISSION_SUPERGROUP, "test-supergroup");
-    mTree.initializeRoot(TEST_PERMISSION);
+    tree.initializeRoot(TEST_PERMISSION);
+    return tree;
   }
 
   @After
@@ -480,6 +488,30 @@ public final class InodeTreeTest {
         Assert.assertEquals(1, inodes.size());
       }
     }
+    // the deleted directory is removed from the summary of the root
+    Assert.assertEquals(new SubtreeSummary(0, 2, 0, 0, 0), mTree.getRoot().getSubtreeSummary());
+  }
+
+  /**
+   * Tests that the estimated bytes per inode follow the inodes added, renamed and deleted.
+   */
+  @Test
+  public void estimatedBytesPerInode() throws Exception {
+    long rootBytes = mTree.getEstimatedBytesPerInode();
+    Assert.assertTrue(rootBytes > 0);
+    createPath(mTree, NESTED_FILE_URI, sNestedFileOptions);
+    long bytes = mTree.getEstimatedBytesPerInode() * mTree.getSize();
+
+    Inode<?> file = getInodeByPath(mTree, NESTED_FILE_URI);
+    mTree.rename(file, "renamedFile");
+    Assert.assertTrue(mTree.getEstimatedBytesPerInode() * mTree.getSize() > bytes);
+    mTree.rename(file, "file");
+    Assert.assertEquals(bytes, mTree.getEstimatedBytesPerInode() * mTree.getSize());
+
+    deleteInodeByPath(mTree, NESTED_FILE_URI);
+    deleteInodeByPath(mTree, NESTED_URI);
+    deleteInodeByPath(mTree, new AlluxioURI("/nested"));
+    Assert.assertEquals(rootBytes, mTree.getEstimatedBytesPerInode());
   }
 
   /**
@@ -521,15 +553,15 @@ public final class InodeTreeTest {
 
     // test nested URI
     createPath(mTree, NESTED_FILE_URI, sNestedFileOptions);
-    InodeDirectory nested = (InodeDirectory) root.getChild("nested");
-    InodeDirectory test = (InodeDirectory) nested.getChild("test");
-    Inode<?> file = test.getChild("file");
+    InodeDirectory nested = (InodeDirectory) mTree.getChild(root, "nested");
+    InodeDirectory test = (InodeDirectory) mTree.getChild(nested, "test");
+    Inode<?> file = mTree.getChild(test, "file");
     verifyJournal(mTree, Arrays.asList(root, nested, test, file));
 
     // add a sibling of test and verify journaling is in correct order (breadth first)
     createPath(mTree, new AlluxioURI("/nested/test1/file1"), sNestedFileOptions);
-    InodeDirectory test1 = (InodeDirectory) nested.getChild("test1");
-    Inode<?> file1 = test1.getChild("file1");
+    InodeDirectory test1 = (InodeDirectory) mTree.getChild(nested, "test1");
+    Inode<?> file1 = mTree.getChild(test1, "file1");
     verifyJournal(mTree, Arrays.asList(root, nested, test, test1, file, file1));
   }
 
@@ -542,11 +574,11 @@ public final class InodeTreeTest {
     createPath(mTree, NESTED_FILE_URI, sNestedFileOptions);
     createPath(mTree, new AlluxioURI("/nested/test1/file1"), sNestedFileOptions);
     InodeDirectory root = mTree.getRoot();
-    InodeDirectory nested = (InodeDirectory) root.getChild("nested");
-    InodeDirectory test = (InodeDirectory) nested.getChild("test");
-    Inode<?> file = test.getChild("file");
-    InodeDirectory test1 = (InodeDirectory) nested.getChild("test1");
-    Inode<?> file1 = test1.getChild("file1");
+    InodeDirectory nested = (InodeDirectory) mTree.getChild(root, "nested");
+    InodeDirectory test = (InodeDirectory) mTree.getChild(nested, "test");
+    Inode<?> file = mTree.getChild(test, "file");
+    InodeDirectory test1 = (InodeDirectory) mTree.getChild(nested, "test1");
+    Inode<?> file1 = mTree.getChild(test1, "file1");
 
     // reset the tree
     mTree.addInodeFromJournal(root.toJournalEntry());
@@ -578,6 +610,58 @@ public final class InodeTreeTest {
       verifyChildrenNames(mTree, inodePath,
           Sets.newHashSet("nested", "test", "test1", "file", "file1"));
     }
+    // the summary of the root is rebuilt from the replayed inodes
+    Assert.assertEquals(new SubtreeSummary(2, 4, 0, 0, 0), mTree.getRoot().getSubtreeSummary());
+  }
+
+  /**
+   * Tests that the inodes modified by the journal entries are not evicted by an inode store which
+   * keeps few inodes on heap while the entries are applied.
+   */
+  @Test
+  public void addInodeFromJournalWithDiskInodeStore() throws Exception {
+    createPath(mTree, NESTED_FILE_URI, sNestedFileOptions);
+    createPath(mTree, new AlluxioURI("/nested/test1/file1"), sNestedFileOptions);
+    List<Inode<?>> inodes = new ArrayList<>();
+    for (String path : new String[] {"/", "/nested", "/nested/test", "/nested/test1",
+        "/nested/test/file", "/nested/test1/file1"}) {
+      inodes.add(getInodeByPath(mTree, new AlluxioURI(path)));
+    }
+
+    Configuration.set(PropertyKey.MASTER_INODE_STORE_CLASS, DiskInodeStore.class.getName());
+    Configuration.set(PropertyKey.MASTER_INODE_STORE_DIR, mTestFolder.newFolder().getPath());
+    Configuration.set(PropertyKey.MASTER_INODE_STORE_CACHE_SIZE, "1");
+    InodeTree tree = createTree();
+    for (Inode<?> inode : inodes) {
+      tree.addInodeFromJournal(inode.toJournalEntry());
+    }
+
+    Assert.assertEquals(0, tree.getLockManager().getNumLockedInodes());
+    Assert.assertEquals(new SubtreeSummary(2, 4, 0, 0, 0), tree.getRoot().getSubtreeSummary());
+    Assert.assertEquals(new SubtreeSummary(2, 3, 0, 0, 0),
+        getInodeByPath(tree, new AlluxioURI("/nested")).getSubtreeSummary());
+    Assert.assertEquals("file1",
+        getInodeByPath(tree, new AlluxioURI("/nested/test1/file1")).getName());
+  }
+
+  /**
+   * Tests that {@link InodeTree#iterateChildren(InodeDirectory, String, int, int)} returns the
+   * children in the page, sorted by name.
+   */
+  @Test
+  public void iterateChildrenPage() throws Exception {
+    for (String name : new String[] {"d", "b", "e", "a", "c"}) {
+      createPath(mTree, new AlluxioURI("/" + name), sDirectoryOptions);
+    }
+    InodeDirectory root = mTree.getRoot();
+    Assert.assertEquals(Lists.newArrayList("a", "b", "c", "d", "e"),
+        getNames(mTree.iterateChildren(root, null, 0, 0)));
+    Assert.assertEquals(Lists.newArrayList("c", "d"),
+        getNames(mTree.iterateChildren(root, "a", 1, 2)));
+    Assert.assertEquals(Lists.newArrayList("e"),
+        getNames(mTree.iterateChildren(root, "c", 1, 5)));
+    Assert.assertEquals(Lists.newArrayList(), getNames(mTree.iterateChildren(root, "e", 0, 0)));
+    Assert.assertEquals(5, Lists.newArrayList(mTree.iterateChildren(root)).size());
   }
 
   @Test
@@ -640,6 +724,15 @@ public final class InodeTreeTest {
     }
   }
 
+  // Helper to get the names of inodes, in order.
+  private static List<String> getNames(Iterable<Inode<?>> inodes) {
+    List<String> names = new ArrayList<>();
+    for (Inode<?> inode : inodes) {
+      names.add(inode.getName());
+    }
+    return names;
+  }
+
   // Helper to delete an inode by path.
   private static void deleteInodeByPath(InodeTree root, AlluxioURI path) throws Exception {
     try (LockedInodePath inodePath = root.lockFullInodePath(path, InodeTree.LockMode.WRITE)) {
@@ -34,12 +34,12 @@ public class TtlIntervalRule implements TestRule {
     return new Statement() {
       @Override
       public void evaluate() throws Throwable {
-        long previousValue = TtlBucket.getTtlIntervalMs();
-        Whitebox.setInternalState(TtlBucket.class, "sTtlIntervalMs", mIntervalMs);
+        long previousValue = TtlTimingWheel.getTtlIntervalMs();
+        Whitebox.setInternalState(TtlTimingWheel.class, "sTtlIntervalMs", mIntervalMs);
         try {
           statement.evaluate();
         } finally {
-          Whitebox.setInternalState(TtlBucket.class, "sTtlIntervalMs", previousValue);
+          Whitebox.setInternalState(TtlTimingWheel.class, "sTtlIntervalMs", previousValue);
         }
       }
     };
@@ -0,0 +1,183 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.master.file.meta;
+
+import alluxio.Constants;
+import alluxio.master.file.options.CreateFileOptions;
+
+import com.google.common.collect.Lists;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Unit tests for {@link TtlTimingWheel}.
+ */
+public class TtlTimingWheelTest {
+  private static final long INTERVAL = 10;
+  private static final long TICK1_START = 1000;
+  private static final long TICK1_END = TICK1_START + INTERVAL;
+  private static final long TICK2_START = TICK1_END;
+  private static final long TICK2_END = TICK2_START + INTERVAL;
+
+  private TtlTimingWheel mWheel;
+
+  /**
+   * Sets up a new {@link TtlTimingWheel} before a test runs.
+   */
+  @Before
+  public void before() {
+    mWheel = new TtlTimingWheel(INTERVAL, TICK1_START);
+  }
+
+  private List<Long> advance(long timeMs) {
+    mWheel.advance(timeMs);
+    List<Long> expired = mWheel.pollExpired(Integer.MAX_VALUE);
+    Collections.sort(expired);
+    return expired;
+  }
+
+  /**
+   * Tests that files expire once the whole interval containing their expiration time has passed.
+   */
+  @Test
+  public void insert() {
+    mWheel.insert(0, TICK1_START);
+    mWheel.insert(1, TICK1_END - 1);
+    mWheel.insert(2, TICK2_START);
+    Assert.assertTrue(advance(TICK1_END - 1).isEmpty());
+    Assert.assertEquals(Lists.newArrayList(0L, 1L), advance(TICK1_END));
+    Assert.assertTrue(advance(TICK2_END - 1).isEmpty());
+    Assert.assertEquals(Lists.newArrayList(2L), advance(TICK2_END));
+    Assert.assertEquals(0, mWheel.getNumFiles());
+  }
+
+  /**
+   * Tests inserting a file from its ttl.
+   */
+  @Test
+  public void insertFile() {
+    InodeFile file =
+        InodeFile.create(0, 0, "ignored", TICK1_START,
+            CreateFileOptions.defaults().setTtl(TICK2_START - TICK1_START));
+    mWheel.insert(file);
+    Assert.assertEquals(1, mWheel.getNumFiles());
+    Assert.assertEquals(Lists.newArrayList(file.getId()), advance(TICK2_END));
+    mWheel.insert(file.setTtl(Constants.NO_TTL));
+    Assert.assertEquals(0, mWheel.getNumFiles());
+  }
+
+  /**
+   * Tests that removed files do not expire, and that files inserted again expire at their new
+   * expiration time.
+   */
+  @Test
+  public void removeAndInsertAgain() {
+    mWheel.insert(0, TICK1_START);
+    mWheel.insert(1, TICK1_START);
+    mWheel.remove(0);
+    mWheel.insert(1, TICK2_START);
+    Assert.assertTrue(advance(TICK1_END).isEmpty());
+    Assert.assertEquals(Lists.newArrayList(1L), advance(TICK2_END));
+
+    // Files already expired can still be removed before they are polled.
+    mWheel.insert(2, TICK1_START);
+    mWheel.advance(TICK2_END);
+    Assert.assertEquals(1, mWheel.getNumExpired());
+    mWheel.remove(2);
+    Assert.assertEquals(0, mWheel.getNumExpired());
+  }
+
+  /**
+   * Tests that files already expired when they are inserted are expired immediately.
+   */
+  @Test
+  public void insertExpired() {
+    mWheel.advance(TICK2_END);
+    mWheel.insert(0, TICK1_START);
+    Assert.assertEquals(1, mWheel.getNumExpired());
+    Assert.assertEquals(TICK2_END + 5 - TICK1_START, mWheel.getLagMs(TICK2_END + 5));
+  }
+
+  /**
+   * Tests that expired files are polled in batches, in the order of their expiration.
+   */
+  @Test
+  public void pollExpired() {
+    for (long id = 0; id < 5; id++) {
+      mWheel.insert(id, TICK1_START + 4 * INTERVAL - id * INTERVAL);
+    }
+    mWheel.advance(TICK1_START + 10 * INTERVAL);
+    Assert.assertEquals(5, mWheel.getNumExpired());
+    Assert.assertEquals(Lists.newArrayList(4L, 3L), mWheel.pollExpired(2));
+    Assert.assertEquals(Lists.newArrayList(2L, 1L), mWheel.pollExpired(2));
+    Assert.assertEquals(Lists.newArrayList(0L), mWheel.pollExpired(2));
+    Assert.assertTrue(mWheel.pollExpired(2).isEmpty());
+    Assert.assertEquals(0, mWheel.getLagMs(TICK1_START + 10 * INTERVAL));
+  }
+
+  /**
+   * Tests that files expire as soon as their ttl ends when the interval is 0.
+   */
+  @Test
+  public void zeroInterval() {
+    mWheel = new TtlTimingWheel(0, 1000);
+    mWheel.insert(0, 1000);
+    mWheel.insert(1, 1001);
+    Assert.assertEquals(Lists.newArrayList(0L), advance(1000));
+    Assert.assertEquals(Lists.newArrayList(1L), advance(1001));
+  }
+
+  /**
+   * Tests that files far in the future are cascaded down the levels of the wheel and expire at
+   * the right time, compared to a plain map of expiration times.
+   */
+  @Test
+  public void randomExpirations() {
+    Random random = new Random(42);
+    Map<Long, Long> expirations = new HashMap<>();
+    for (long id = 0; id < 2000; id++) {
+      // Spread the expirations over up to 2^30 intervals, beyond the last level of the wheel.
+      long expirationTimeMs = TICK1_START
+          + (long) (Math.pow(2, random.nextInt(31)) * random.nextDouble() * INTERVAL);
+      mWheel.insert(id, expirationTimeMs);
+      expirations.put(id, expirationTimeMs);
+    }
+    for (long id = 0; id < 2000; id += 7) {
+      mWheel.remove(id);
+      expirations.remove(id);
+    }
+    long timeMs = TICK1_START;
+    while (!expirations.isEmpty()) {
+      timeMs = timeMs * 2 + random.nextInt(100);
+      List<Long> expected = new ArrayList<>();
+      for (Map.Entry<Long, Long> entry : expirations.entrySet()) {
+        if (entry.getValue() / INTERVAL <= (timeMs - INTERVAL) / INTERVAL) {
+          expected.add(entry.getKey());
+        }
+      }
+      for (long id : expected) {
+        expirations.remove(id);
+      }
+      Collections.sort(expected);
+      Assert.assertEquals(expected, advance(timeMs));
+    }
+    Assert.assertEquals(0, mWheel.getNumFiles());
+  }
+}
@@ -27,6 +27,10 @@ public class ListStatusOptionsTest {
   public void defaults() {
     ListStatusOptions options = ListStatusOptions.defaults();
     Assert.assertEquals(LoadMetadataType.Once, options.getLoadMetadataType());
+    Assert.assertNull(options.getStartAfter());
+    Assert.assertEquals(0, options.getOffset());
+    Assert.assertEquals(0, options.getLimit());
+    Assert.assertFalse(options.isPaged());
   }
 
   @Test
@@ -35,6 +39,11 @@ public class ListStatusOptionsTest {
     Assert.assertEquals(LoadMetadataType.Once, options.getLoadMetadataType());
     options.setLoadMetadataType(LoadMetadataType.Always);
     Assert.assertEquals(LoadMetadataType.Always, options.getLoadMetadataType());
+    options.setStartAfter("file").setOffset(1).setLimit(2);
+    Assert.assertEquals("file", options.getStartAfter());
+    Assert.assertEquals(1, options.getOffset());
+    Assert.assertEquals(2, options.getLimit());
+    Assert.assertTrue(options.isPaged());
   }
 
   @Test
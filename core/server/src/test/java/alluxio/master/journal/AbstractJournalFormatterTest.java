@@ -28,6 +28,7 @@ import alluxio.proto.journal.File.PersistDirectoryEntry;
 import alluxio.proto.journal.File.ReinitializeFileEntry;
 import alluxio.proto.journal.File.RenameEntry;
 import alluxio.proto.journal.File.SetAttributeEntry;
+import alluxio.proto.journal.File.UfsDeleteEntry;
 import alluxio.proto.journal.Journal.JournalEntry;
 import alluxio.proto.journal.KeyValue.CompletePartitionEntry;
 import alluxio.proto.journal.KeyValue.CompleteStoreEntry;
@@ -268,6 +269,14 @@ public abstract class AbstractJournalFormatterTest {
                   .setFromStoreId(TEST_FILE_ID)
                   .setToStoreId(TEST_FILE_ID + 1))
                 .build())
+        .add(
+            JournalEntry.newBuilder()
+                .setUfsDelete(UfsDeleteEntry.newBuilder()
+                    .setId(TEST_FILE_ID)
+                    .setPath(TEST_ALLUXIO_PATH.getPath())
+                    .setUfsPath(TEST_UFS_PATH.toString())
+                    .setCompleted(true))
+                .build())
         .build();
     // Add the test sequence number to every journal entry
     ENTRIES_LIST = Lists.transform(entries, new Function<JournalEntry, JournalEntry>() {
@@ -0,0 +1,137 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.master.journal;
+
+import alluxio.ConfigurationRule;
+import alluxio.PropertyKey;
+import alluxio.master.Master;
+import alluxio.proto.journal.File.InodeLastModificationTimeEntry;
+import alluxio.proto.journal.Journal.JournalEntry;
+
+import com.google.common.collect.ImmutableMap;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.Mockito;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+/**
+ * Unit tests for {@link JournalTailer}.
+ */
+public final class JournalTailerTest {
+  /** The size of an entry written by {@link #writeEntries(int, int)} to the log file. */
+  private static final int ENTRY_SIZE_BYTES = getEntrySizeBytes();
+
+  @Rule
+  public TemporaryFolder mTestFolder = new TemporaryFolder();
+
+  /** The log file is rotated when flushed with more than three entries. */
+  @Rule
+  public ConfigurationRule mConfigurationRule = new ConfigurationRule(ImmutableMap.of(
+      PropertyKey.MASTER_JOURNAL_LOG_SIZE_BYTES_MAX, Integer.toString(3 * ENTRY_SIZE_BYTES + 1)));
+
+  private Master mMaster;
+  private JournalWriter mWriter;
+  private JournalTailer mTailer;
+
+  /**
+   * Sets up a journal with an empty checkpoint, and a tailer which processed the checkpoint.
+   *
+   * @throws Exception if setting up the journal fails
+   */
+  @Before
+  public void before() throws Exception {
+    String directory = mTestFolder.newFolder("journal").getAbsolutePath();
+    mWriter = new ReadWriteJournal(directory).getNewWriter();
+    mWriter.getCheckpointOutputStream(0).close();
+    mMaster = Mockito.mock(Master.class);
+    mTailer = new JournalTailer(mMaster, new ReadOnlyJournal(directory));
+    mTailer.processJournalCheckpoint(true);
+  }
+
+  /**
+   * Tests that the flushed entries of the current log file are processed once.
+   */
+  @Test
+  public void processCurrentLogFile() throws Exception {
+    writeEntries(0, 2);
+    Assert.assertEquals(0, mTailer.processNextJournalLogFiles());
+    Assert.assertEquals(2, mTailer.processCurrentLogFile());
+    Assert.assertEquals(2, mTailer.getLatestSequenceNumber());
+    Assert.assertEquals(0, mTailer.processCurrentLogFile());
+
+    writeEntries(2, 3);
+    Assert.assertEquals(1, mTailer.processCurrentLogFile());
+    Assert.assertEquals(3, mTailer.getLatestSequenceNumber());
+    Mockito.verify(mMaster, Mockito.times(3)).processJournalEntry(Mockito.any(JournalEntry.class));
+  }
+
+  /**
+   * Tests that the entries of the current log file are not processed again once it is completed.
+   */
+  @Test
+  public void completeProcessedLogFile() throws Exception {
+    writeEntries(0, 2);
+    Assert.assertEquals(2, mTailer.processCurrentLogFile());
+    // Rotates the log file.
+    writeEntries(2, 4);
+    writeEntries(4, 5);
+
+    // The entries of the new current log file do not directly follow the processed entries.
+    Assert.assertEquals(0, mTailer.processCurrentLogFile());
+    Assert.assertEquals(1, mTailer.processNextJournalLogFiles());
+    Assert.assertEquals(4, mTailer.getLatestSequenceNumber());
+    Assert.assertEquals(1, mTailer.processCurrentLogFile());
+    Assert.assertEquals(5, mTailer.getLatestSequenceNumber());
+    Mockito.verify(mMaster, Mockito.times(5)).processJournalEntry(Mockito.any(JournalEntry.class));
+  }
+
+  /**
+   * Writes and flushes entries to the current log file.
+   *
+   * @param from the id of the first entry
+   * @param to the id after the last entry
+   */
+  private void writeEntries(int from, int to) throws IOException {
+    JournalOutputStream outputStream = mWriter.getEntryOutputStream();
+    for (int i = from; i < to; i++) {
+      outputStream.writeEntry(createEntry(i));
+    }
+    outputStream.flush();
+  }
+
+  /**
+   * @param id the id of the entry
+   * @return a journal entry without a sequence number
+   */
+  private static JournalEntry createEntry(int id) {
+    return JournalEntry.newBuilder().setInodeLastModificationTime(
+        InodeLastModificationTimeEntry.newBuilder().setId(id)).build();
+  }
+
+  /**
+   * @return the size of a small entry with a small sequence number in the log file
+   */
+  private static int getEntrySizeBytes() {
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    try {
+      createEntry(1).toBuilder().setSequenceNumber(1).build().writeDelimitedTo(outputStream);
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+    return outputStream.size();
+  }
+}
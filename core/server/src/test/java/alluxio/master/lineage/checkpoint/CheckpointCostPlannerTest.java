@@ -0,0 +1,146 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.master.lineage.checkpoint;
+
+import alluxio.Configuration;
+import alluxio.ConfigurationTestUtils;
+import alluxio.PropertyKey;
+import alluxio.job.CommandLineJob;
+import alluxio.job.Job;
+import alluxio.job.JobConf;
+import alluxio.master.file.FileSystemMaster;
+import alluxio.master.file.meta.FileSystemMasterView;
+import alluxio.master.file.meta.PersistenceState;
+import alluxio.master.lineage.meta.LineageIdGenerator;
+import alluxio.master.lineage.meta.LineageStore;
+import alluxio.master.lineage.meta.LineageStoreView;
+import alluxio.wire.FileInfo;
+
+import com.google.common.collect.Lists;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mockito;
+import org.powermock.core.classloader.annotations.PrepareForTest;
+import org.powermock.modules.junit4.PowerMockRunner;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Unit tests for {@link CheckpointCostPlanner}.
+ */
+@RunWith(PowerMockRunner.class)
+@PrepareForTest({FileSystemMaster.class})
+public final class CheckpointCostPlannerTest {
+  private static final long COST_MS = 100;
+
+  private LineageStore mLineageStore;
+  private FileSystemMaster mFileSystemMaster;
+  private Job mJob;
+
+  /**
+   * Sets up all dependencies before a test runs.
+   */
+  @Before
+  public void before() {
+    mLineageStore = new LineageStore(new LineageIdGenerator());
+    mJob = new CommandLineJob("test", new JobConf("output"));
+    mFileSystemMaster = Mockito.mock(FileSystemMaster.class);
+    Configuration.set(PropertyKey.MASTER_LINEAGE_CHECKPOINT_RECOVERY_BOUND_MS, "150");
+  }
+
+  /**
+   * Resets the configuration after a test runs.
+   */
+  @After
+  public void after() {
+    ConfigurationTestUtils.resetConfiguration();
+  }
+
+  /**
+   * Tests that the lineage which lowers the recovery bound the most is checkpointed.
+   */
+  @Test
+  public void checkpointMiddleOfChain() throws Exception {
+    List<Long> lineages = createChain(100, 100, 100);
+
+    Assert.assertEquals(Lists.newArrayList(lineages.get(1)), generatePlan());
+  }
+
+  /**
+   * Tests that lineages whose outputs do not fit in the UFS budget are not checkpointed.
+   */
+  @Test
+  public void checkpointWithinBudget() throws Exception {
+    Configuration.set(PropertyKey.MASTER_LINEAGE_CHECKPOINT_UFS_THROUGHPUT_MAX, "1000");
+    Configuration.set(PropertyKey.MASTER_LINEAGE_CHECKPOINT_INTERVAL_MS, "1000");
+    List<Long> lineages = createChain(100, 1000000, 100);
+
+    Assert.assertEquals(Lists.newArrayList(lineages.get(2), lineages.get(0)), generatePlan());
+  }
+
+  /**
+   * Tests that nothing is checkpointed when the persisted lineages and the lineages being
+   * checkpointed already meet the recovery bound.
+   */
+  @Test
+  public void boundAlreadyMet() throws Exception {
+    createChain(100, 100, 100);
+    // The output file of the lineage in the middle of the chain.
+    long fileId = 2L;
+    Mockito.when(mFileSystemMaster.getPersistenceState(fileId))
+        .thenReturn(PersistenceState.IN_PROGRESS);
+
+    Assert.assertTrue(generatePlan().isEmpty());
+
+    Mockito.when(mFileSystemMaster.getPersistenceState(fileId))
+        .thenReturn(PersistenceState.PERSISTED);
+    Assert.assertTrue(generatePlan().isEmpty());
+  }
+
+  /**
+   * Creates a chain of lineages, each with one completed output file of the given length, which
+   * is the input of the next lineage. The output files have the ids 1, 2, ... and each lineage
+   * takes {@link #COST_MS} to run.
+   *
+   * @param lengths the lengths of the output files
+   * @return the ids of the lineages
+   */
+  private List<Long> createChain(long... lengths) throws Exception {
+    List<Long> lineages = new ArrayList<>();
+    List<Long> inputFiles = new ArrayList<>();
+    for (int i = 0; i < lengths.length; i++) {
+      long fileId = i + 1;
+      long lineageId =
+          mLineageStore.createLineage(inputFiles, Lists.newArrayList(fileId), mJob);
+      long creationTimeMs = mLineageStore.getLineage(lineageId).getCreationTime();
+      FileInfo fileInfo = new FileInfo().setCompleted(true).setLength(lengths[i])
+          .setLastModificationTimeMs(creationTimeMs + COST_MS);
+      Mockito.when(mFileSystemMaster.getFileInfo(fileId)).thenReturn(fileInfo);
+      Mockito.when(mFileSystemMaster.getPersistenceState(fileId))
+          .thenReturn(PersistenceState.NOT_PERSISTED);
+      lineages.add(lineageId);
+      inputFiles = Lists.newArrayList(fileId);
+    }
+    return lineages;
+  }
+
+  private List<Long> generatePlan() {
+    CheckpointCostPlanner planner = new CheckpointCostPlanner(
+        new LineageStoreView(mLineageStore), new FileSystemMasterView(mFileSystemMaster));
+    return planner.generatePlan(new LineageStoreView(mLineageStore),
+        new FileSystemMasterView(mFileSystemMaster)).getLineagesToCheckpoint();
+  }
+}
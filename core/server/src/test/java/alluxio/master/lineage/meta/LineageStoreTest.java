@@ -91,6 +91,28 @@ public final class LineageStoreTest {
     mLineageStore.deleteLineage(id);
   }
 
+  /**
+   * Tests that the {@link LineageStore#snapshot()} method returns a copy which is not affected by
+   * the later changes of the store.
+   */
+  @Test
+  public void snapshot() throws Exception {
+    long l1 = mLineageStore.createLineage(new ArrayList<Long>(), Lists.newArrayList(1L), mJob);
+    long l2 = mLineageStore.createLineage(Lists.newArrayList(1L), Lists.newArrayList(2L), mJob);
+    LineageStore snapshot = mLineageStore.snapshot();
+
+    mLineageStore.deleteLineage(l1);
+    mLineageStore.createLineage(new ArrayList<Long>(), Lists.newArrayList(3L), mJob);
+
+    List<Lineage> lineages = snapshot.getAllInTopologicalOrder();
+    Assert.assertEquals(2, lineages.size());
+    Assert.assertEquals(l1, lineages.get(0).getId());
+    Assert.assertEquals(l2, lineages.get(1).getId());
+    Assert.assertEquals(l1, snapshot.getParents(snapshot.getLineage(l2)).get(0).getId());
+    Assert.assertEquals(l2, snapshot.getLineageOfOutputFile(2L).getId());
+    Assert.assertFalse(snapshot.hasOutputFile(3L));
+  }
+
   /**
    * Tests the {@link LineageStore#streamToJournalCheckpoint(JournalOutputStream)} method.
    */
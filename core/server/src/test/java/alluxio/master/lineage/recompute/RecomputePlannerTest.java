@@ -17,6 +17,7 @@ import alluxio.job.JobConf;
 import alluxio.master.file.FileSystemMaster;
 import alluxio.master.file.meta.FileSystemMasterView;
 import alluxio.master.file.meta.PersistenceState;
+import alluxio.master.lineage.meta.Lineage;
 import alluxio.master.lineage.meta.LineageIdGenerator;
 import alluxio.master.lineage.meta.LineageStore;
 
@@ -117,4 +118,41 @@ public final class RecomputePlannerTest {
     Assert.assertEquals(1, plan.getLineageToRecompute().size());
     Assert.assertEquals(l2, plan.getLineageToRecompute().get(0).getId());
   }
+
+  /**
+   * Tests that the plan contains the dependencies between the lineages to recompute, and that the
+   * lineages of requested files and their ancestors are urgent.
+   */
+  @Test
+  public void dependenciesAndRequestedFiles() throws Exception {
+    mLineageStore.createLineage(new ArrayList<Long>(), Lists.newArrayList(1L), mJob);
+    mLineageStore.createLineage(Lists.newArrayList(1L), Lists.newArrayList(2L), mJob);
+    mLineageStore.createLineage(new ArrayList<Long>(), Lists.newArrayList(3L), mJob);
+    for (long fileId = 1; fileId <= 3; fileId++) {
+      Mockito.when(mFileSystemMaster.getPersistenceState(fileId))
+          .thenReturn(PersistenceState.NOT_PERSISTED);
+    }
+    Mockito.when(mFileSystemMaster.getLostFiles()).thenReturn(Lists.newArrayList(1L, 2L, 3L));
+    Lineage l1 = mLineageStore.getLineageOfOutputFile(1L);
+    Lineage l2 = mLineageStore.getLineageOfOutputFile(2L);
+    Lineage l3 = mLineageStore.getLineageOfOutputFile(3L);
+
+    RecomputePlan plan = mPlanner.plan();
+    Assert.assertEquals(Lists.newArrayList(l1), plan.getParents(l2));
+    Assert.assertTrue(plan.getParents(l1).isEmpty());
+    Assert.assertTrue(plan.getParents(l3).isEmpty());
+    Assert.assertFalse(plan.isUrgent(l1) || plan.isUrgent(l2) || plan.isUrgent(l3));
+
+    Assert.assertTrue(mPlanner.requestFile(2L));
+    Assert.assertFalse(mPlanner.requestFile(2L));
+    plan = mPlanner.plan();
+    Assert.assertTrue(plan.isUrgent(l1));
+    Assert.assertTrue(plan.isUrgent(l2));
+    Assert.assertFalse(plan.isUrgent(l3));
+
+    // The request is dropped once the file is not lost anymore.
+    Mockito.when(mFileSystemMaster.getLostFiles()).thenReturn(Lists.newArrayList(1L, 3L));
+    mPlanner.plan();
+    Assert.assertTrue(mPlanner.requestFile(2L));
+  }
 }
@@ -11,19 +11,33 @@
 
 package alluxio.master.lineage.recompute;
 
+import alluxio.Configuration;
+import alluxio.ConfigurationTestUtils;
+import alluxio.PropertyKey;
 import alluxio.job.Job;
 import alluxio.master.file.FileSystemMaster;
 import alluxio.master.file.meta.FileSystemMasterView;
 import alluxio.master.lineage.meta.Lineage;
 
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mockito;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
 import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.modules.junit4.PowerMockRunner;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -32,6 +46,46 @@ import java.util.concurrent.TimeUnit;
 @RunWith(PowerMockRunner.class)
 @PrepareForTest(FileSystemMaster.class)
 public final class TestRecomputeExecutor {
+  private RecomputePlanner mPlanner;
+  private FileSystemMaster mFileSystemMaster;
+  /** The ids of the lineages whose jobs ran, in order. */
+  private List<Long> mRunJobs;
+
+  /**
+   * Sets up the dependencies before a test runs.
+   */
+  @Before
+  public void before() throws Exception {
+    mPlanner = Mockito.mock(RecomputePlanner.class);
+    mFileSystemMaster = Mockito.mock(FileSystemMaster.class);
+    Mockito.when(mFileSystemMaster.getFileSystemMasterView())
+        .thenReturn(new FileSystemMasterView(mFileSystemMaster));
+    mRunJobs = Collections.synchronizedList(new ArrayList<Long>());
+  }
+
+  /**
+   * Resets the configuration after a test runs.
+   */
+  @After
+  public void after() {
+    ConfigurationTestUtils.resetConfiguration();
+  }
+
+  private Lineage lineage(final long id, final CountDownLatch latch) {
+    Job job = Mockito.mock(Job.class);
+    Mockito.when(job.run()).then(new Answer<Boolean>() {
+      @Override
+      public Boolean answer(InvocationOnMock invocation) throws Exception {
+        if (latch != null) {
+          latch.countDown();
+          Assert.assertTrue(latch.await(5, TimeUnit.SECONDS));
+        }
+        mRunJobs.add(id);
+        return true;
+      }
+    });
+    return new Lineage(id, new ArrayList<Long>(), Lists.newArrayList(id), job);
+  }
 
   /**
    * Tests recompute executor creates a recompute plan and launches the recompute job at heartbeat.
@@ -61,4 +115,91 @@ public final class TestRecomputeExecutor {
     Mockito.verify(fileSystemMaster).resetFile(fileId);
     Mockito.verify(job).run();
   }
+
+  /**
+   * Tests that the jobs of independent lineages run in parallel.
+   */
+  @Test
+  public void independentLineagesInParallel() throws Exception {
+    // Each job waits for the other one to start.
+    CountDownLatch latch = new CountDownLatch(2);
+    Lineage lineage1 = lineage(1, latch);
+    Lineage lineage2 = lineage(2, latch);
+    Mockito.when(mPlanner.plan())
+        .thenReturn(new RecomputePlan(Lists.newArrayList(lineage1, lineage2)));
+
+    RecomputeExecutor executor = new RecomputeExecutor(mPlanner, mFileSystemMaster);
+    executor.heartbeatWithFuture().get(10, TimeUnit.SECONDS);
+    executor.close();
+    Assert.assertEquals(Sets.newHashSet(1L, 2L), Sets.newHashSet(mRunJobs));
+  }
+
+  /**
+   * Tests that the job of a lineage runs after the jobs of its parents, and that urgent jobs run
+   * first.
+   */
+  @Test
+  public void dependenciesAndUrgency() throws Exception {
+    Configuration.set(PropertyKey.MASTER_LINEAGE_RECOMPUTE_THREADS, "1");
+    Lineage parent = lineage(1, null);
+    Lineage child = lineage(2, null);
+    Lineage other = lineage(3, null);
+    Lineage urgent = lineage(4, null);
+    Mockito.when(mPlanner.plan()).thenReturn(new RecomputePlan(
+        Lists.newArrayList(parent, child, other, urgent),
+        ImmutableMap.<Lineage, List<Lineage>>of(child, Lists.newArrayList(parent)),
+        Sets.newHashSet(urgent)));
+
+    RecomputeExecutor executor = new RecomputeExecutor(mPlanner, mFileSystemMaster);
+    executor.heartbeatWithFuture().get(5, TimeUnit.SECONDS);
+    executor.close();
+    Assert.assertEquals(Lists.newArrayList(4L, 1L, 2L, 3L), mRunJobs);
+  }
+
+  /**
+   * Tests that a requested plan is computed and scheduled without waiting for the caller.
+   */
+  @Test
+  public void requestPlan() throws Exception {
+    final CountDownLatch planning = new CountDownLatch(1);
+    CountDownLatch ran = new CountDownLatch(1);
+    final Lineage lineage = lineage(1, ran);
+    Mockito.when(mPlanner.plan()).then(new Answer<RecomputePlan>() {
+      @Override
+      public RecomputePlan answer(InvocationOnMock invocation) throws Exception {
+        Assert.assertTrue(planning.await(5, TimeUnit.SECONDS));
+        return new RecomputePlan(Lists.newArrayList(lineage));
+      }
+    }).thenReturn(new RecomputePlan(new ArrayList<Lineage>()));
+
+    RecomputeExecutor executor = new RecomputeExecutor(mPlanner, mFileSystemMaster);
+    // The requests return while the plan is blocked on the planning thread.
+    executor.requestPlan();
+    executor.requestPlan();
+    planning.countDown();
+    Assert.assertTrue(ran.await(5, TimeUnit.SECONDS));
+    executor.close();
+    Assert.assertEquals(Lists.newArrayList(1L), mRunJobs);
+  }
+
+  /**
+   * Tests that a lineage which is still being recomputed is not scheduled again.
+   */
+  @Test
+  public void noDuplicateJobs() throws Exception {
+    CountDownLatch latch = new CountDownLatch(2);
+    Lineage lineage = lineage(1, latch);
+    Mockito.when(mPlanner.plan()).thenReturn(new RecomputePlan(Lists.newArrayList(lineage)));
+
+    RecomputeExecutor executor = new RecomputeExecutor(mPlanner, mFileSystemMaster);
+    Future<?> first = executor.heartbeatWithFuture();
+    Future<?> second = executor.heartbeatWithFuture();
+    Assert.assertEquals(1, executor.getNumQueuedJobs() + executor.getNumRunningJobs());
+    latch.countDown();
+    first.get(5, TimeUnit.SECONDS);
+    second.get(5, TimeUnit.SECONDS);
+    executor.close();
+    Assert.assertEquals(Lists.newArrayList(1L), mRunJobs);
+    Assert.assertEquals(0, executor.getNumQueuedJobs() + executor.getNumRunningJobs());
+  }
 }
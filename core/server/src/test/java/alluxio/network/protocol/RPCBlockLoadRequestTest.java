@@ -0,0 +1,101 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.network.protocol;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link RPCBlockLoadRequest}.
+ */
+public class RPCBlockLoadRequestTest {
+  private static final long BLOCK_ID = 11;
+  private static final String UFS_PATH = "hdfs://host:9000/dir/文件";
+  private static final long OFFSET = 22;
+  private static final long LENGTH = 33;
+
+  private ByteBuf mBuffer = null;
+
+  private void assertValid(long blockId, String ufsPath, long offset, long length,
+      RPCBlockLoadRequest req) {
+    Assert.assertEquals(RPCMessage.Type.RPC_BLOCK_LOAD_REQUEST, req.getType());
+    Assert.assertEquals(blockId, req.getBlockId());
+    Assert.assertEquals(ufsPath, req.getUfsPath());
+    Assert.assertEquals(offset, req.getOffset());
+    Assert.assertEquals(length, req.getLength());
+  }
+
+  private void assertValid(RPCBlockLoadRequest req) {
+    try {
+      req.validate();
+    } catch (Exception e) {
+      Assert.fail("request should be valid.");
+    }
+  }
+
+  private void assertInvalid(RPCBlockLoadRequest req) {
+    try {
+      req.validate();
+      Assert.fail("request should be invalid.");
+    } catch (Exception e) {
+      return;
+    }
+  }
+
+  /**
+   * Sets up the buffer before a test runs.
+   */
+  @Before
+  public final void before() {
+    mBuffer = Unpooled.buffer();
+  }
+
+  /**
+   * Tests the {@link RPCBlockLoadRequest#getEncodedLength()} method.
+   */
+  @Test
+  public void encodedLength() {
+    RPCBlockLoadRequest req = new RPCBlockLoadRequest(BLOCK_ID, UFS_PATH, OFFSET, LENGTH);
+    int encodedLength = req.getEncodedLength();
+    req.encode(mBuffer);
+    Assert.assertEquals(encodedLength, mBuffer.readableBytes());
+  }
+
+  /**
+   * Tests the {@link RPCBlockLoadRequest#encode(ByteBuf)} and
+   * {@link RPCBlockLoadRequest#decode(ByteBuf)} methods.
+   */
+  @Test
+  public void encodeDecode() {
+    RPCBlockLoadRequest req = new RPCBlockLoadRequest(BLOCK_ID, UFS_PATH, OFFSET, LENGTH);
+    req.encode(mBuffer);
+    RPCBlockLoadRequest req2 = RPCBlockLoadRequest.decode(mBuffer);
+    assertValid(BLOCK_ID, UFS_PATH, OFFSET, LENGTH, req);
+    assertValid(BLOCK_ID, UFS_PATH, OFFSET, LENGTH, req2);
+    Assert.assertEquals(0, mBuffer.readableBytes());
+  }
+
+  /**
+   * Tests the {@link RPCBlockLoadRequest#validate()} method.
+   */
+  @Test
+  public void validate() {
+    assertValid(new RPCBlockLoadRequest(BLOCK_ID, UFS_PATH, OFFSET, LENGTH));
+    assertValid(new RPCBlockLoadRequest(BLOCK_ID, UFS_PATH, 0, 0));
+    assertInvalid(new RPCBlockLoadRequest(BLOCK_ID, "", OFFSET, LENGTH));
+    assertInvalid(new RPCBlockLoadRequest(BLOCK_ID, UFS_PATH, -1, LENGTH));
+    assertInvalid(new RPCBlockLoadRequest(BLOCK_ID, UFS_PATH, OFFSET, -1));
+  }
+}
@@ -0,0 +1,93 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.network.protocol;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+/**
+ * Unit tests for {@link RPCBlockLoadResponse}.
+ */
+public class RPCBlockLoadResponseTest {
+  private static final long BLOCK_ID = 11;
+  private static final RPCResponse.Status STATUS = RPCResponse.Status.SUCCESS;
+
+  /** The exception expected to be thrown. */
+  @Rule
+  public ExpectedException mThrown = ExpectedException.none();
+
+  private ByteBuf mBuffer = null;
+
+  private void assertValid(long blockId, RPCResponse.Status status, RPCBlockLoadResponse resp) {
+    Assert.assertEquals(RPCMessage.Type.RPC_BLOCK_LOAD_RESPONSE, resp.getType());
+    Assert.assertEquals(blockId, resp.getBlockId());
+    Assert.assertEquals(status, resp.getStatus());
+  }
+
+  /**
+   * Sets up the buffer before a test runs.
+   */
+  @Before
+  public final void before() {
+    mBuffer = Unpooled.buffer();
+  }
+
+  /**
+   * Tests the {@link RPCBlockLoadResponse#getEncodedLength()} method.
+   */
+  @Test
+  public void encodedLength() {
+    RPCBlockLoadResponse resp = new RPCBlockLoadResponse(BLOCK_ID, STATUS);
+    int encodedLength = resp.getEncodedLength();
+    resp.encode(mBuffer);
+    Assert.assertEquals(encodedLength, mBuffer.readableBytes());
+  }
+
+  /**
+   * Tests the {@link RPCBlockLoadResponse#encode(ByteBuf)} and
+   * {@link RPCBlockLoadResponse#decode(ByteBuf)} methods.
+   */
+  @Test
+  public void encodeDecode() {
+    RPCBlockLoadResponse resp = new RPCBlockLoadResponse(BLOCK_ID, STATUS);
+    resp.encode(mBuffer);
+    RPCBlockLoadResponse resp2 = RPCBlockLoadResponse.decode(mBuffer);
+    assertValid(BLOCK_ID, STATUS, resp);
+    assertValid(BLOCK_ID, STATUS, resp2);
+  }
+
+  /**
+   * Tests the
+   * {@link RPCBlockLoadResponse#createErrorResponse(RPCBlockLoadRequest, RPCResponse.Status)}
+   * method.
+   */
+  @Test
+  public void createErrorResponse() {
+    RPCBlockLoadRequest req = new RPCBlockLoadRequest(BLOCK_ID, "/path", 0, 1);
+
+    for (RPCResponse.Status status : RPCResponse.Status.values()) {
+      if (status == RPCResponse.Status.SUCCESS) {
+        // cannot create an error response with a SUCCESS status.
+        mThrown.expect(IllegalArgumentException.class);
+        RPCBlockLoadResponse.createErrorResponse(req, status);
+      } else {
+        RPCBlockLoadResponse resp = RPCBlockLoadResponse.createErrorResponse(req, status);
+        assertValid(BLOCK_ID, status, resp);
+      }
+    }
+  }
+}
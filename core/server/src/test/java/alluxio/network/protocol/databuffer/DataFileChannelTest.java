@@ -15,6 +15,7 @@ import alluxio.util.io.BufferUtils;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.channel.FileRegion;
+import io.netty.util.ReferenceCountUtil;
 import org.junit.After;
 import org.junit.Assert;
 import org.junit.Before;
@@ -78,6 +79,17 @@ public class DataFileChannelTest {
     Assert.assertTrue(output instanceof ByteBuf || output instanceof FileRegion);
   }
 
+  /**
+   * Tests that releasing the output of {@link DataFileChannel#getNettyOutput()} does not close the
+   * file channel.
+   */
+  @Test
+  public void nettyOutputKeepsChannelOpen() {
+    DataFileChannel data = new DataFileChannel(mChannel, OFFSET, LENGTH);
+    ReferenceCountUtil.release(data.getNettyOutput());
+    Assert.assertTrue(mChannel.isOpen());
+  }
+
   /**
    * Tests the {@link DataFileChannel#getLength()} method.
    */
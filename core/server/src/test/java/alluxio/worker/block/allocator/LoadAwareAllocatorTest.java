@@ -0,0 +1,147 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.worker.block.allocator;
+
+import alluxio.Configuration;
+import alluxio.ConfigurationTestUtils;
+import alluxio.PropertyKey;
+import alluxio.worker.block.BlockStoreLocation;
+import alluxio.worker.block.meta.StorageDir;
+import alluxio.worker.block.meta.TempBlockMeta;
+
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link LoadAwareAllocator}.
+ */
+public class LoadAwareAllocatorTest extends AllocatorTestBase {
+
+  @After
+  public void after() {
+    ConfigurationTestUtils.resetConfiguration();
+  }
+
+  /**
+   * Tests that blocks are allocated in the storage directory with the least load.
+   */
+  @Test
+  public void allocateBlock() throws Exception {
+    Configuration.set(PropertyKey.WORKER_ALLOCATOR_CLASS, LoadAwareAllocator.class.getName());
+    mAllocator = Allocator.Factory.create(getManagerView());
+    LoadAwareAllocator allocator = (LoadAwareAllocator) mAllocator;
+    //
+    // idx | tier1 | tier2 | tier3
+    //  0    1000
+    //  0      ├───── 2000
+    //  1      └───── 2000
+    //  0               ├─── 3000
+    //  1               ├─── 3000
+    //  2               └─── 3000
+    //
+    assertTempBlockMeta(mAllocator, new BlockStoreLocation("HDD", 0), 100, true, "HDD", 0);
+    long hotBlockId = mTestBlockId;
+    for (int i = 0; i < 30; i++) {
+      allocator.onAccessBlock(SESSION_ID, hotBlockId);
+    }
+    addTempBlock("HDD", 1, 1000);
+    //
+    // idx | tier1 | tier2 | tier3
+    //  0    1000
+    //  0      ├───── 2000
+    //  1      └───── 2000
+    //  0               ├─── 2900 (3000 bytes read recently)
+    //  1               ├─── 2000 (1000 bytes being written)
+    //  2               └─── 3000
+    //
+    assertTempBlockMeta(mAllocator, mAnyDirInTierLoc3, 200, true, "HDD", 2);
+    long warmBlockId = mTestBlockId;
+    //
+    // idx | tier1 | tier2 | tier3
+    //  0    1000
+    //  0      ├───── 2000
+    //  1      └───── 2000
+    //  0               ├─── 2900 (3000 bytes read recently)
+    //  1               ├─── 2000 (1000 bytes being written)
+    //  2               └─── 2800   <--- alloc
+    //
+    assertTempBlockMeta(mAllocator, mAnyDirInTierLoc3, 200, true, "HDD", 2);
+    for (int i = 0; i < 10; i++) {
+      allocator.onAccessBlock(SESSION_ID, warmBlockId);
+    }
+    //
+    // idx | tier1 | tier2 | tier3
+    //  0    1000
+    //  0      ├───── 2000
+    //  1      └───── 2000
+    //  0               ├─── 2900 (3000 bytes read recently)
+    //  1               ├─── 2000 (1000 bytes being written)
+    //  2               └─── 2600   <--- alloc (2000 bytes read recently)
+    //
+    assertTempBlockMeta(mAllocator, mAnyDirInTierLoc3, 200, true, "HDD", 1);
+    //
+    // idx | tier1 | tier2 | tier3
+    //  0    1000
+    //  0      ├───── 2000
+    //  1      └───── 2000
+    //  0               ├─── 2900 (3000 bytes read recently)
+    //  1               ├─── 1800   <--- alloc (1000 bytes being written)
+    //  2               └─── 2600 (2000 bytes read recently)
+    //
+  }
+
+  /**
+   * Tests that dirs where the allocation would trigger evictions are avoided.
+   */
+  @Test
+  public void avoidEviction() throws Exception {
+    Configuration.set(PropertyKey.WORKER_TIERED_STORE_LEVEL1_RESERVED_RATIO, "0.5");
+    Configuration.set(PropertyKey.WORKER_ALLOCATOR_CLASS, LoadAwareAllocator.class.getName());
+    mAllocator = Allocator.Factory.create(getManagerView());
+    //
+    // idx | tier1 | tier2 | tier3
+    //  0    1000
+    //  0      ├───── 2000 (1000 reserved)
+    //  1      └───── 2000 (1000 reserved)
+    //  0               ├─── 3000
+    //  1               ├─── 3000
+    //  2               └─── 3000
+    //
+    assertTempBlockMeta(mAllocator, new BlockStoreLocation("SSD", 0), 1500, true, "SSD", 0);
+    addTempBlock("SSD", 1, 600);
+    //
+    // idx | tier1 | tier2 | tier3
+    //  0    1000
+    //  0      ├───── 500 (1000 reserved)
+    //  1      └───── 1400 (1000 reserved, 600 bytes being written)
+    //  0               ├─── 3000
+    //  1               ├─── 3000
+    //  2               └─── 3000
+    //
+    assertTempBlockMeta(mAllocator, mAnyDirInTierLoc2, 400, true, "SSD", 1);
+    //
+    // idx | tier1 | tier2 | tier3
+    //  0    1000
+    //  0      ├───── 500 (1000 reserved)
+    //  1      └───── 1000   <--- alloc (1000 reserved, 600 bytes being written)
+    //  0               ├─── 3000
+    //  1               ├─── 3000
+    //  2               └─── 3000
+    //
+  }
+
+  private void addTempBlock(String tierAlias, int dirIndex, long blockSize) throws Exception {
+    mTestBlockId++;
+    StorageDir dir = mManager.getTier(tierAlias).getDir(dirIndex);
+    dir.addTempBlockMeta(new TempBlockMeta(SESSION_ID, mTestBlockId, blockSize, dir));
+  }
+}
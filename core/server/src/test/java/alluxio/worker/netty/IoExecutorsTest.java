@@ -0,0 +1,108 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.worker.netty;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Unit tests for {@link IoExecutors}.
+ */
+public final class IoExecutorsTest {
+  private IoExecutors mIoExecutors;
+  private CountDownLatch mBlocked;
+
+  @Before
+  public void before() {
+    mIoExecutors = new IoExecutors(1, 1);
+    mBlocked = new CountDownLatch(1);
+  }
+
+  @After
+  public void after() {
+    mBlocked.countDown();
+    mIoExecutors.shutdown();
+  }
+
+  /**
+   * Tests that each device gets its own executor.
+   */
+  @Test
+  public void executorPerDevice() {
+    ExecutorService mem = mIoExecutors.get("MEM");
+    Assert.assertSame(mem, mIoExecutors.get("MEM"));
+    Assert.assertNotSame(mem, mIoExecutors.get(IoExecutors.UFS_DEVICE));
+  }
+
+  /**
+   * Tests that a saturated device rejects new tasks without affecting the other devices.
+   */
+  @Test
+  public void saturatedDevice() throws Exception {
+    ExecutorService hdd = mIoExecutors.get("HDD");
+    // One task is running and one is queued.
+    hdd.execute(new BlockingTask());
+    hdd.execute(new BlockingTask());
+    try {
+      hdd.execute(new BlockingTask());
+      Assert.fail("A saturated executor should reject new tasks");
+    } catch (RejectedExecutionException e) {
+      // expected
+    }
+    Assert.assertEquals(1, mIoExecutors.getQueueDepth("HDD"));
+
+    final CountDownLatch done = new CountDownLatch(1);
+    mIoExecutors.get("MEM").execute(new Runnable() {
+      @Override
+      public void run() {
+        done.countDown();
+      }
+    });
+    Assert.assertTrue(done.await(10, TimeUnit.SECONDS));
+    Assert.assertEquals(0, mIoExecutors.getQueueDepth("MEM"));
+  }
+
+  /**
+   * Tests that no executor is handed out after the executors are shut down.
+   */
+  @Test
+  public void shutdown() {
+    ExecutorService mem = mIoExecutors.get("MEM");
+    mIoExecutors.shutdown();
+    Assert.assertTrue(mIoExecutors.isShutdown());
+    Assert.assertTrue(mem.isShutdown());
+    try {
+      mIoExecutors.get("SSD");
+      Assert.fail("No executor should be created after shutdown");
+    } catch (IllegalStateException e) {
+      // expected
+    }
+  }
+
+  private final class BlockingTask implements Runnable {
+    @Override
+    public void run() {
+      try {
+        mBlocked.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+}
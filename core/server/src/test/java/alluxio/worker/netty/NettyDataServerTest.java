@@ -14,15 +14,24 @@ package alluxio.worker.netty;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Matchers.anyLong;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import alluxio.ConfigurationRule;
+import alluxio.Constants;
 import alluxio.PropertyKey;
 import alluxio.client.netty.ClientHandler;
 import alluxio.client.netty.NettyClient;
 import alluxio.client.netty.SingleResponseListener;
 import alluxio.exception.BlockDoesNotExistException;
+import alluxio.master.block.BlockId;
+import alluxio.network.protocol.RPCBlockLoadRequest;
 import alluxio.network.protocol.RPCBlockReadRequest;
 import alluxio.network.protocol.RPCBlockWriteRequest;
 import alluxio.network.protocol.RPCFileReadRequest;
@@ -30,8 +39,11 @@ import alluxio.network.protocol.RPCFileWriteRequest;
 import alluxio.network.protocol.RPCRequest;
 import alluxio.network.protocol.RPCResponse;
 import alluxio.network.protocol.databuffer.DataByteArrayChannel;
+import alluxio.util.IdUtils;
+import alluxio.wire.FileInfo;
 import alluxio.worker.AlluxioWorkerService;
 import alluxio.worker.block.BlockWorker;
+import alluxio.worker.block.io.BlockReader;
 import alluxio.worker.block.io.MockBlockReader;
 import alluxio.worker.block.io.MockBlockWriter;
 import alluxio.worker.file.FileSystemWorker;
@@ -45,11 +57,16 @@ import org.junit.After;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.mockito.Mockito;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.File;
 import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.util.Arrays;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -63,7 +80,11 @@ public final class NettyDataServerTest {
 
   @Rule
   public ConfigurationRule mRule = new ConfigurationRule(ImmutableMap.of(
-      PropertyKey.WORKER_NETWORK_NETTY_SHUTDOWN_QUIET_PERIOD, "0"));
+      PropertyKey.WORKER_NETWORK_NETTY_SHUTDOWN_QUIET_PERIOD, "0",
+      PropertyKey.WORKER_NETWORK_NETTY_READER_IDLE_TIMEOUT_MS, "500"));
+
+  @Rule
+  public TemporaryFolder mTestFolder = new TemporaryFolder();
 
   @Before
   public void before() {
@@ -108,6 +129,59 @@ public final class NettyDataServerTest {
         Charsets.UTF_8.decode(response.getPayloadDataBuffer().getReadOnlyByteBuffer()).toString());
   }
 
+  @Test
+  public void readBlockReusesReader() throws Exception {
+    long sessionId = 0;
+    long blockId = 1;
+    long lockId = 4;
+    when(mBlockWorker.readBlockRemote(anyLong(), anyLong(), anyLong())).thenReturn(
+        new MockBlockReader("abcdefg".getBytes(Charsets.UTF_8)));
+    Channel channel = connect();
+    try {
+      RPCResponse response =
+          request(channel, new RPCBlockReadRequest(blockId, 0, 3, lockId, sessionId));
+      assertEquals("abc",
+          Charsets.UTF_8.decode(response.getPayloadDataBuffer().getReadOnlyByteBuffer())
+              .toString());
+      response = request(channel, new RPCBlockReadRequest(blockId, 3, 3, lockId, sessionId));
+      assertEquals("def",
+          Charsets.UTF_8.decode(response.getPayloadDataBuffer().getReadOnlyByteBuffer())
+              .toString());
+      // Verify that the reader opened by the first request served the second one.
+      verify(mBlockWorker, times(1)).readBlockRemote(sessionId, blockId, lockId);
+
+      // Verify that a read with another lock opens a new reader.
+      request(channel, new RPCBlockReadRequest(blockId, 0, 3, lockId + 1, sessionId));
+      verify(mBlockWorker, times(1)).readBlockRemote(sessionId, blockId, lockId + 1);
+    } finally {
+      channel.close().sync();
+    }
+  }
+
+  @Test
+  public void readBlockClosesIdleReader() throws Exception {
+    long sessionId = 0;
+    long blockId = 1;
+    long lockId = 4;
+    BlockReader reader = mock(BlockReader.class);
+    when(reader.getLength()).thenReturn(7L);
+    when(reader.read(0, 3)).thenReturn(ByteBuffer.wrap("abc".getBytes(Charsets.UTF_8)));
+    when(mBlockWorker.readBlockRemote(sessionId, blockId, lockId)).thenReturn(reader);
+    Channel channel = connect();
+    try {
+      RPCResponse response =
+          request(channel, new RPCBlockReadRequest(blockId, 0, 3, lockId, sessionId));
+      assertEquals("abc",
+          Charsets.UTF_8.decode(response.getPayloadDataBuffer().getReadOnlyByteBuffer())
+              .toString());
+      // Verify that the reader is closed while the channel stays open, once it is idle.
+      verify(reader, timeout(10 * Constants.SECOND_MS)).close();
+      assertTrue(channel.isActive());
+    } finally {
+      channel.close().sync();
+    }
+  }
+
   @Test
   public void blockWorkerExceptionCausesReadFailedStatus() throws Exception {
     when(mBlockWorker.readBlockRemote(anyLong(), anyLong(), anyLong()))
@@ -138,6 +212,42 @@ public final class NettyDataServerTest {
     assertEquals(RPCResponse.Status.UFS_READ_FAILED, response.getStatus());
   }
 
+  @Test
+  public void loadBlock() throws Exception {
+    long blockId = BlockId.createBlockId(1, 1);
+    File file = mTestFolder.newFile();
+    Files.write(file.toPath(), "abcdefg".getBytes(Charsets.UTF_8));
+    when(mBlockWorker.getFileInfo(IdUtils.createFileId(1))).thenReturn(new FileInfo()
+        .setPersisted(true).setUfsPath(file.getPath()).setBlockSizeBytes(4).setLength(7)
+        .setBlockIds(Arrays.asList(BlockId.createBlockId(1, 0), blockId)));
+    MockBlockWriter blockWriter = new MockBlockWriter();
+    when(mBlockWorker.getTempBlockWriterRemote(anyLong(), eq(blockId))).thenReturn(blockWriter);
+    RPCResponse response = request(new RPCBlockLoadRequest(blockId, file.getPath(), 4, 3));
+
+    // Verify that the second block of the file was loaded from the under file system.
+    assertEquals(RPCResponse.Status.SUCCESS, response.getStatus());
+    verify(mBlockWorker).commitBlock(anyLong(), eq(blockId));
+    assertEquals("efg", new String(blockWriter.getBytes(), Charsets.UTF_8));
+  }
+
+  @Test
+  public void loadBlockNotMatchingFileIsRejected() throws Exception {
+    long blockId = BlockId.createBlockId(1, 0);
+    when(mBlockWorker.getFileInfo(IdUtils.createFileId(1))).thenReturn(new FileInfo()
+        .setPersisted(true).setUfsPath("/file").setBlockSizeBytes(4).setLength(7)
+        .setBlockIds(Arrays.asList(blockId, BlockId.createBlockId(1, 1))));
+
+    // Another path, another offset, another length, and a block of another file.
+    for (RPCBlockLoadRequest request : Arrays.asList(
+        new RPCBlockLoadRequest(blockId, "/etc/passwd", 0, 4),
+        new RPCBlockLoadRequest(blockId, "/file", 4, 4),
+        new RPCBlockLoadRequest(blockId, "/file", 0, 7),
+        new RPCBlockLoadRequest(BlockId.createBlockId(1, 2), "/file", 0, 4))) {
+      assertEquals(RPCResponse.Status.BLOCK_LOAD_REJECTED, request(request).getStatus());
+    }
+    verify(mBlockWorker, never()).createBlockRemote(anyLong(), anyLong(), anyString(), anyLong());
+  }
+
   @Test
   public void writeNewBlock() throws Exception {
     long sessionId = 0;
@@ -244,18 +354,31 @@ public final class NettyDataServerTest {
   }
 
   private RPCResponse request(RPCRequest rpcBlockWriteRequest) throws Exception {
-    InetSocketAddress address =
-        new InetSocketAddress(mNettyDataServer.getBindHost(), mNettyDataServer.getPort());
-    Bootstrap clientBootstrap = NettyClient.createClientBootstrap();
-    ChannelFuture f = clientBootstrap.connect(address).sync();
-    Channel channel = f.channel();
+    Channel channel = connect();
     try {
-      SingleResponseListener listener = new SingleResponseListener();
-      channel.pipeline().get(ClientHandler.class).addListener(listener);
-      channel.writeAndFlush(rpcBlockWriteRequest);
-      return listener.get(NettyClient.TIMEOUT_MS, TimeUnit.MILLISECONDS);
+      return request(channel, rpcBlockWriteRequest);
     } finally {
       channel.close().sync();
     }
   }
+
+  private RPCResponse request(Channel channel, RPCRequest request) throws Exception {
+    SingleResponseListener listener = new SingleResponseListener();
+    ClientHandler handler = channel.pipeline().get(ClientHandler.class);
+    handler.addListener(listener);
+    try {
+      channel.writeAndFlush(request);
+      return listener.get(NettyClient.TIMEOUT_MS, TimeUnit.MILLISECONDS);
+    } finally {
+      handler.removeListener(listener);
+    }
+  }
+
+  private Channel connect() throws Exception {
+    InetSocketAddress address =
+        new InetSocketAddress(mNettyDataServer.getBindHost(), mNettyDataServer.getPort());
+    Bootstrap clientBootstrap = NettyClient.createClientBootstrap();
+    ChannelFuture f = clientBootstrap.connect(address).sync();
+    return f.channel();
+  }
 }
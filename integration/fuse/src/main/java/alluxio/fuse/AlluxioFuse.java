@@ -61,10 +61,19 @@ public final class AlluxioFuse {
     final FileSystem tfs = FileSystem.Factory.get();
     final AlluxioFuseFileSystem fs = new AlluxioFuseFileSystem(tfs, opts);
     final List<String> fuseOpts = opts.getFuseOpts();
-    // Force direct_io in FUSE: writes and reads bypass the kernel page
-    // cache and go directly to alluxio. This avoids extra memory copies
-    // in the write path.
-    fuseOpts.add("-odirect_io");
+    if (Configuration.getBoolean(PropertyKey.FUSE_KERNEL_CACHE_ENABLED)) {
+      // Alluxio files are immutable once written, so the kernel can keep the
+      // pages of a file across opens without ever serving stale data.
+      fuseOpts.add("-okernel_cache");
+      // Without direct_io, writes are split into pages unless big writes are
+      // allowed, in which case max_write is honored.
+      fuseOpts.add("-obig_writes");
+    } else {
+      // Force direct_io in FUSE: writes and reads bypass the kernel page
+      // cache and go directly to alluxio. This avoids extra memory copies
+      // in the write path.
+      fuseOpts.add("-odirect_io");
+    }
 
     try {
       fs.mount(Paths.get(opts.getMountPoint()), true, opts.isDebug(),
@@ -129,6 +138,7 @@ public final class AlluxioFuse {
 
       List<String> fuseOpts = new ArrayList<>();
       boolean noUserMaxWrite = true;
+      boolean noUserTimeouts = true;
       if (cli.hasOption("o")) {
         String[] fopts = cli.getOptionValues("o");
         // keep the -o
@@ -137,6 +147,9 @@ public final class AlluxioFuse {
           if (noUserMaxWrite && fopt.startsWith("max_write")) {
             noUserMaxWrite = false;
           }
+          if (noUserTimeouts && fopt.contains("_timeout")) {
+            noUserTimeouts = false;
+          }
         }
       }
       // check if the user has specified his own max_write, otherwise get it
@@ -145,6 +158,15 @@ public final class AlluxioFuse {
         final long maxWrite = Configuration.getLong(PropertyKey.FUSE_MAXWRITE_BYTES);
         fuseOpts.add(String.format("-omax_write=%d", maxWrite));
       }
+      // let the kernel cache attributes and entries as long as alluxio-fuse
+      // does, unless the user has specified his own timeouts
+      if (noUserTimeouts) {
+        final long ttlMs = Configuration.getLong(PropertyKey.FUSE_ATTRIBUTE_CACHE_TTL_MS);
+        final long negativeTtlMs = Configuration.getLong(PropertyKey.FUSE_NEGATIVE_CACHE_TTL_MS);
+        fuseOpts.add("-oattr_timeout=" + toSeconds(ttlMs));
+        fuseOpts.add("-oentry_timeout=" + toSeconds(ttlMs));
+        fuseOpts.add("-onegative_timeout=" + toSeconds(negativeTtlMs));
+      }
 
       if (mntPointValue == null) {
         mntPointValue = Configuration.get(PropertyKey.FUSE_MOUNT_DEFAULT);
@@ -166,4 +188,12 @@ public final class AlluxioFuse {
       return null;
     }
   }
+
+  /**
+   * @param ms a duration in milliseconds
+   * @return the duration in seconds, as expected by the FUSE timeout options
+   */
+  private static String toSeconds(long ms) {
+    return String.valueOf(ms / 1000.0);
+  }
 }
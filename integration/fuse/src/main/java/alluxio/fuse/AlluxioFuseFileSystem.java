@@ -45,9 +45,10 @@ import ru.serce.jnrfuse.struct.FuseFileInfo;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javax.annotation.concurrent.ThreadSafe;
 
@@ -71,10 +72,14 @@ final class AlluxioFuseFileSystem extends FuseStubFS {
   private final String mAlluxioMaster;
   // Keeps a cache of the most recently translated paths from String to Alluxio URI
   private final LoadingCache<String, AlluxioURI> mPathResolverCache;
+  // Keeps a cache of the statuses and directory entries of the most recently accessed paths
+  private final FuseMetadataCache mMetadataCache;
 
   // Table of open files with corresponding InputStreams and OutputStreams
   private final Map<Long, OpenFileEntry> mOpenFiles;
-  private long mNextOpenFileId;
+  private final AtomicLong mNextOpenFileId;
+  // Number of bytes read ahead for sequential reads of each open file
+  private final int mReadAheadBytes;
 
   /**
    * Creates a new instance of {@link AlluxioFuseFileSystem}.
@@ -87,13 +92,18 @@ final class AlluxioFuseFileSystem extends FuseStubFS {
     mFileSystem = fs;
     mAlluxioMaster = Configuration.get(PropertyKey.MASTER_ADDRESS);
     mAlluxioRootPath = Paths.get(opts.getAlluxioRoot());
-    mNextOpenFileId = 0L;
-    mOpenFiles = new HashMap<>();
+    mNextOpenFileId = new AtomicLong(0L);
+    mOpenFiles = new ConcurrentHashMap<>();
+    mReadAheadBytes = (int) Configuration.getBytes(PropertyKey.FUSE_READAHEAD_BYTES);
 
     final int maxCachedPaths = Configuration.getInt(PropertyKey.FUSE_CACHED_PATHS_MAX);
     mPathResolverCache = CacheBuilder.newBuilder()
         .maximumSize(maxCachedPaths)
         .build(new PathCacheLoader());
+    mMetadataCache = new FuseMetadataCache(fs,
+        Configuration.getInt(PropertyKey.FUSE_CACHED_ATTRIBUTES_MAX),
+        Configuration.getLong(PropertyKey.FUSE_ATTRIBUTE_CACHE_TTL_MS),
+        Configuration.getLong(PropertyKey.FUSE_NEGATIVE_CACHE_TTL_MS));
 
     Preconditions.checkArgument(mAlluxioRootPath.isAbsolute(),
         "alluxio root path should be absolute");
@@ -124,21 +134,19 @@ final class AlluxioFuseFileSystem extends FuseStubFS {
     }
 
     try {
-      synchronized (mOpenFiles) {
-        if (mOpenFiles.size() >= MAX_OPEN_FILES) {
-          LOG.error("Cannot open {}: too many open files (MAX_OPEN_FILES: {})",
-              turi, MAX_OPEN_FILES);
-          return -ErrorCodes.EMFILE();
-        }
-
-        final OpenFileEntry ofe = new OpenFileEntry(null, mFileSystem.createFile(turi));
-        LOG.debug("Alluxio OutStream created for {}", path);
-        mOpenFiles.put(mNextOpenFileId, ofe);
-        fi.fh.set(mNextOpenFileId);
-
-        // Assuming I will never wrap around (2^64 open files are quite a lot anyway)
-        mNextOpenFileId += 1;
+      if (mOpenFiles.size() >= MAX_OPEN_FILES) {
+        LOG.error("Cannot open {}: too many open files (MAX_OPEN_FILES: {})",
+            turi, MAX_OPEN_FILES);
+        return -ErrorCodes.EMFILE();
       }
+
+      final OpenFileEntry ofe = new OpenFileEntry(null, mFileSystem.createFile(turi));
+      mMetadataCache.invalidate(turi);
+      LOG.debug("Alluxio OutStream created for {}", path);
+      // Assuming I will never wrap around (2^64 open files are quite a lot anyway)
+      final long fd = mNextOpenFileId.getAndIncrement();
+      mOpenFiles.put(fd, ofe);
+      fi.fh.set(fd);
       LOG.debug("{} created and opened in O_WRONLY mode", path);
 
     } catch (FileAlreadyExistsException e) {
@@ -171,17 +179,14 @@ final class AlluxioFuseFileSystem extends FuseStubFS {
   public int flush(String path, FuseFileInfo fi) {
     LOG.trace("flush({})", path);
     final long fd = fi.fh.get();
-    OpenFileEntry oe;
-    synchronized (mOpenFiles) {
-      oe = mOpenFiles.get(fd);
-    }
+    final OpenFileEntry oe = mOpenFiles.get(fd);
     if (oe == null) {
       LOG.error("Cannot find fd for {} in table", path);
       return -ErrorCodes.EBADFD();
     }
     if (oe.getOut() != null) {
       try {
-        oe.getOut().flush();
+        oe.flush();
       } catch (IOException e) {
         return -ErrorCodes.EIO();
       }
@@ -203,10 +208,10 @@ final class AlluxioFuseFileSystem extends FuseStubFS {
     final AlluxioURI turi = mPathResolverCache.getUnchecked(path);
     LOG.trace("getattr({}) [Alluxio: {}]", path, turi);
     try {
-      if (!mFileSystem.exists(turi)) {
+      final URIStatus status = mMetadataCache.getStatus(turi);
+      if (status == null) {
         return -ErrorCodes.ENOENT();
       }
-      final URIStatus status = mFileSystem.getStatus(turi);
       stat.st_size.set(status.getLength());
 
       final long ctime = status.getLastModificationTimeMs();
@@ -276,6 +281,7 @@ final class AlluxioFuseFileSystem extends FuseStubFS {
     LOG.trace("mkdir({}) [Alluxio: {}]", path, turi);
     try {
       mFileSystem.createDirectory(turi);
+      mMetadataCache.invalidate(turi);
     } catch (FileAlreadyExistsException e) {
       LOG.debug("Cannot make dir. {} already exists", path, e);
       return -ErrorCodes.EEXIST();
@@ -320,28 +326,26 @@ final class AlluxioFuseFileSystem extends FuseStubFS {
       return -ErrorCodes.EACCES();
     }
     try {
-      if (!mFileSystem.exists(turi)) {
+      final URIStatus status = mMetadataCache.getStatus(turi);
+      if (status == null) {
         LOG.error("File {} does not exist", turi);
         return -ErrorCodes.ENOENT();
       }
-      final URIStatus status = mFileSystem.getStatus(turi);
       if (status.isFolder()) {
         LOG.error("File {} is a directory", turi);
         return -ErrorCodes.EISDIR();
       }
 
-      synchronized (mOpenFiles) {
-        if (mOpenFiles.size() == MAX_OPEN_FILES) {
-          LOG.error("Cannot open {}: too many open files", turi);
-          return ErrorCodes.EMFILE();
-        }
-        final OpenFileEntry ofe = new OpenFileEntry(mFileSystem.openFile(turi), null);
-        mOpenFiles.put(mNextOpenFileId, ofe);
-        fi.fh.set(mNextOpenFileId);
-
-        // Assuming I will never wrap around (2^64 open files are quite a lot anyway)
-        mNextOpenFileId += 1;
+      if (mOpenFiles.size() >= MAX_OPEN_FILES) {
+        LOG.error("Cannot open {}: too many open files", turi);
+        return -ErrorCodes.EMFILE();
       }
+      final OpenFileEntry ofe =
+          new OpenFileEntry(mFileSystem.openFile(turi), null, mReadAheadBytes);
+      // Assuming I will never wrap around (2^64 open files are quite a lot anyway)
+      final long fd = mNextOpenFileId.getAndIncrement();
+      mOpenFiles.put(fd, ofe);
+      fi.fh.set(fd);
 
     } catch (FileDoesNotExistException e) {
       LOG.debug("File does not exist {}", path, e);
@@ -385,34 +389,21 @@ final class AlluxioFuseFileSystem extends FuseStubFS {
     LOG.trace("read({}, {}, {})", path, size, offset);
     final int sz = (int) size;
     final long fd = fi.fh.get();
-    OpenFileEntry oe;
-    synchronized (mOpenFiles) {
-      oe = mOpenFiles.get(fd);
-    }
+    final OpenFileEntry oe = mOpenFiles.get(fd);
     if (oe == null) {
       LOG.error("Cannot find fd for {} in table", path);
       return -ErrorCodes.EBADFD();
     }
 
-    int rd = 0;
     int nread = 0;
     if (oe.getIn() == null) {
       LOG.error("{} was not open for reading", path);
       return -ErrorCodes.EBADFD();
     }
     try {
-      oe.getIn().seek(offset);
       final byte[] dest = new byte[sz];
-      while (rd >= 0 && nread < size) {
-        rd = oe.getIn().read(dest, nread, sz - nread);
-        if (rd >= 0) {
-          nread += rd;
-        }
-      }
-
-      if (nread == -1) { // EOF
-        nread = 0;
-      } else if (nread > 0) {
+      nread = oe.read(offset, dest, sz);
+      if (nread > 0) {
         buf.put(0, dest, 0, nread);
       }
     } catch (IOException e) {
@@ -443,20 +434,20 @@ final class AlluxioFuseFileSystem extends FuseStubFS {
     LOG.trace("readdir({}) [Alluxio: {}]", path, turi);
 
     try {
-      if (!mFileSystem.exists(turi)) {
+      final URIStatus status = mMetadataCache.getStatus(turi);
+      if (status == null) {
         return -ErrorCodes.ENOENT();
       }
-      final URIStatus status = mFileSystem.getStatus(turi);
       if (!status.isFolder()) {
         return -ErrorCodes.ENOTDIR();
       }
-      final List<URIStatus> ls = mFileSystem.listStatus(turi);
+      final List<String> ls = mMetadataCache.listNames(turi);
       // standard . and .. entries
       filter.apply(buff, ".", null, 0);
       filter.apply(buff, "..", null, 0);
 
-      for (final URIStatus file : ls) {
-        filter.apply(buff, file.getName(), null, 0);
+      for (final String name : ls) {
+        filter.apply(buff, name, null, 0);
       }
 
     } catch (FileDoesNotExistException e) {
@@ -493,13 +484,10 @@ final class AlluxioFuseFileSystem extends FuseStubFS {
   public int release(String path, FuseFileInfo fi) {
     LOG.trace("release({})", path);
     final long fd = fi.fh.get();
-    OpenFileEntry oe;
-    synchronized (mOpenFiles) {
-      oe = mOpenFiles.remove(fd);
-      if (oe == null) {
-        LOG.error("Cannot find fd for {} in table", path);
-        return -ErrorCodes.EBADFD();
-      }
+    final OpenFileEntry oe = mOpenFiles.remove(fd);
+    if (oe == null) {
+      LOG.error("Cannot find fd for {} in table", path);
+      return -ErrorCodes.EBADFD();
     }
 
     try {
@@ -507,6 +495,10 @@ final class AlluxioFuseFileSystem extends FuseStubFS {
     } catch (IOException e) {
       LOG.error("Failed closing {} [in]", path, e);
     }
+    if (oe.getOut() != null) {
+      // The length of the file is only known once the file is closed.
+      mMetadataCache.invalidate(mPathResolverCache.getUnchecked(path));
+    }
 
     return 0;
   }
@@ -525,11 +517,21 @@ final class AlluxioFuseFileSystem extends FuseStubFS {
     LOG.trace("rename({}, {}) [Alluxio: {}, {}]", oldPath, newPath, oldUri, newUri);
 
     try {
-      if (!mFileSystem.exists(oldUri)) {
+      final URIStatus status = mMetadataCache.getStatus(oldUri);
+      if (status == null) {
         LOG.error("File {} does not exist", oldPath);
         return -ErrorCodes.ENOENT();
-      } else {
+      }
+      try {
         mFileSystem.rename(oldUri, newUri);
+      } finally {
+        if (status.isFolder()) {
+          // The paths of all the descendants of the directory change.
+          mMetadataCache.invalidateAll();
+        } else {
+          mMetadataCache.invalidate(oldUri);
+          mMetadataCache.invalidate(newUri);
+        }
       }
     } catch (FileDoesNotExistException e) {
       LOG.debug("File {} does not exist", oldPath);
@@ -593,10 +595,7 @@ final class AlluxioFuseFileSystem extends FuseStubFS {
     LOG.trace("write({}, {}, {})", path, size, offset);
     final int sz = (int) size;
     final long fd = fi.fh.get();
-    OpenFileEntry oe;
-    synchronized (mOpenFiles) {
-      oe = mOpenFiles.get(fd);
-    }
+    final OpenFileEntry oe = mOpenFiles.get(fd);
     if (oe == null) {
       LOG.error("Cannot find fd for {} in table", path);
       return -ErrorCodes.EBADFD();
@@ -610,7 +609,7 @@ final class AlluxioFuseFileSystem extends FuseStubFS {
     try {
       final byte[] dest = new byte[sz];
       buf.get(0, dest, 0, sz);
-      oe.getOut().write(dest);
+      oe.write(dest);
     } catch (IOException e) {
       LOG.error("IOException while writing to {}.", path, e);
       return -ErrorCodes.EIO();
@@ -631,17 +630,21 @@ final class AlluxioFuseFileSystem extends FuseStubFS {
     final AlluxioURI turi = mPathResolverCache.getUnchecked(path);
 
     try {
-      if (!mFileSystem.exists(turi)) {
+      final URIStatus status = mMetadataCache.getStatus(turi);
+      if (status == null) {
         LOG.error("File {} does not exist", turi);
         return -ErrorCodes.ENOENT();
       }
-      final URIStatus status = mFileSystem.getStatus(turi);
       if (mustBeFile && status.isFolder()) {
         LOG.error("File {} is a directory", turi);
         return -ErrorCodes.EISDIR();
       }
 
-      mFileSystem.delete(turi);
+      try {
+        mFileSystem.delete(turi);
+      } finally {
+        mMetadataCache.invalidate(turi);
+      }
     } catch (FileDoesNotExistException e) {
       LOG.debug("File does not exist {}", path, e);
       return -ErrorCodes.ENOENT();
@@ -0,0 +1,157 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.fuse;
+
+import alluxio.AlluxioURI;
+import alluxio.client.file.FileSystem;
+import alluxio.client.file.URIStatus;
+import alluxio.exception.AlluxioException;
+import alluxio.exception.FileDoesNotExistException;
+import alluxio.exception.InvalidPathException;
+
+import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Caches the metadata of Alluxio paths accessed through FUSE, so that the kernel requests for
+ * attributes and directory entries do not all reach the master.
+ *
+ * Three kinds of entries are cached, each for a bounded time:
+ * <ul>
+ *   <li>the status of existing paths;</li>
+ *   <li>negative entries for paths which do not exist;</li>
+ *   <li>the names of the children of directories.</li>
+ * </ul>
+ * Listing a directory also caches the statuses of its children. Entries must be invalidated by
+ * the caller when a path is modified through FUSE. Modifications made by other Alluxio clients are
+ * only seen once the entries expire.
+ */
+@ThreadSafe
+final class FuseMetadataCache {
+  private final FileSystem mFileSystem;
+  private final Cache<AlluxioURI, URIStatus> mStatuses;
+  private final Cache<AlluxioURI, Boolean> mMissing;
+  private final Cache<AlluxioURI, List<String>> mChildren;
+
+  /**
+   * Creates a new instance of {@link FuseMetadataCache}.
+   *
+   * @param fs the Alluxio file system
+   * @param maxEntries the maximum number of entries of each kind
+   * @param ttlMs the time to live of the statuses and directory entries, 0 to disable caching
+   * @param negativeTtlMs the time to live of the negative entries, 0 to disable negative caching
+   */
+  FuseMetadataCache(FileSystem fs, int maxEntries, long ttlMs, long negativeTtlMs) {
+    Preconditions.checkArgument(maxEntries >= 0, "The cache size should not be negative");
+    Preconditions.checkArgument(ttlMs >= 0 && negativeTtlMs >= 0,
+        "The cache time to live should not be negative");
+    mFileSystem = fs;
+    mStatuses = buildCache(maxEntries, ttlMs);
+    mMissing = buildCache(maxEntries, negativeTtlMs);
+    mChildren = buildCache(maxEntries, ttlMs);
+  }
+
+  /**
+   * Gets the status of a path.
+   *
+   * @param uri the Alluxio path
+   * @return the status of the path, or null if the path does not exist
+   * @throws IOException if a non-Alluxio error occurs
+   * @throws AlluxioException if an unexpected Alluxio error occurs
+   */
+  URIStatus getStatus(AlluxioURI uri) throws IOException, AlluxioException {
+    URIStatus status = mStatuses.getIfPresent(uri);
+    if (status != null) {
+      return status;
+    }
+    if (mMissing.getIfPresent(uri) != null) {
+      return null;
+    }
+    try {
+      status = mFileSystem.getStatus(uri);
+    } catch (FileDoesNotExistException | InvalidPathException e) {
+      mMissing.put(uri, Boolean.TRUE);
+      return null;
+    }
+    mStatuses.put(uri, status);
+    return status;
+  }
+
+  /**
+   * Lists the names of the children of a directory.
+   *
+   * @param uri the Alluxio path of the directory
+   * @return the names of the children
+   * @throws FileDoesNotExistException if the directory does not exist
+   * @throws IOException if a non-Alluxio error occurs
+   * @throws AlluxioException if an unexpected Alluxio error occurs
+   */
+  List<String> listNames(AlluxioURI uri) throws IOException, AlluxioException {
+    List<String> names = mChildren.getIfPresent(uri);
+    if (names != null) {
+      return names;
+    }
+    List<URIStatus> children = mFileSystem.listStatus(uri);
+    names = new ArrayList<>(children.size());
+    for (URIStatus child : children) {
+      names.add(child.getName());
+      AlluxioURI childUri = uri.join(child.getName());
+      mStatuses.put(childUri, child);
+      mMissing.invalidate(childUri);
+    }
+    names = Collections.unmodifiableList(names);
+    mChildren.put(uri, names);
+    return names;
+  }
+
+  /**
+   * Invalidates the entries of a path which is created, modified or deleted, as well as the
+   * directory entries of its parent.
+   *
+   * @param uri the Alluxio path
+   */
+  void invalidate(AlluxioURI uri) {
+    mStatuses.invalidate(uri);
+    mMissing.invalidate(uri);
+    mChildren.invalidate(uri);
+    AlluxioURI parent = uri.getParent();
+    if (parent != null) {
+      mChildren.invalidate(parent);
+    }
+  }
+
+  /**
+   * Invalidates all the entries, e.g. when a directory is renamed and the paths of all its
+   * descendants change.
+   */
+  void invalidateAll() {
+    mStatuses.invalidateAll();
+    mMissing.invalidateAll();
+    mChildren.invalidateAll();
+  }
+
+  private static <V> Cache<AlluxioURI, V> buildCache(int maxEntries, long ttlMs) {
+    return CacheBuilder.newBuilder()
+        .maximumSize(ttlMs == 0 ? 0 : maxEntries)
+        .expireAfterWrite(ttlMs, TimeUnit.MILLISECONDS)
+        .build();
+  }
+}
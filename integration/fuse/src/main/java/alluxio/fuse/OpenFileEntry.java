@@ -14,10 +14,13 @@ package alluxio.fuse;
 import alluxio.client.file.FileInStream;
 import alluxio.client.file.FileOutStream;
 
+import com.google.common.base.Preconditions;
+
 import java.io.Closeable;
 import java.io.IOException;
 
-import javax.annotation.concurrent.NotThreadSafe;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
 
 /**
  * Convenience class to encapsulate input/output streams of open alluxio files.
@@ -28,15 +31,56 @@ import javax.annotation.concurrent.NotThreadSafe;
  *
  * This mechanism is preferred over more complex sub-classing to avoid useless casts or type checks
  * for every read/write call, which happen quite often.
+ *
+ * Operations on an open file are serialized by the entry itself, so that operations on different
+ * open files can run concurrently. Reads are positioned: the input stream is only moved when a
+ * read does not continue from where the previous one stopped, and sequential reads are served
+ * from a read-ahead buffer. Reads which do not continue from where the previous read stopped only
+ * read the requested bytes, so that random reads do not pay for a read-ahead they do not use.
  */
-@NotThreadSafe
+@ThreadSafe
 final class OpenFileEntry implements Closeable {
   private final FileInStream mIn;
   private final FileOutStream mOut;
 
+  /** The read-ahead buffer, empty if read-ahead is disabled. */
+  @GuardedBy("this")
+  private final byte[] mBuffer;
+  /** The offset in the file of the first byte in the read-ahead buffer. */
+  @GuardedBy("this")
+  private long mBufferStart;
+  /** The number of valid bytes in the read-ahead buffer. */
+  @GuardedBy("this")
+  private int mBufferLength;
+  /** The offset in the file of the input stream. */
+  @GuardedBy("this")
+  private long mInPos;
+  /** The offset in the file where the previous read stopped. */
+  @GuardedBy("this")
+  private long mLastReadEnd;
+
+  /**
+   * Creates a new open file entry without read-ahead.
+   *
+   * @param in the input stream of a file open for reading, or null
+   * @param out the output stream of a file open for writing, or null
+   */
   public OpenFileEntry(FileInStream in, FileOutStream out) {
+    this(in, out, 0);
+  }
+
+  /**
+   * Creates a new open file entry.
+   *
+   * @param in the input stream of a file open for reading, or null
+   * @param out the output stream of a file open for writing, or null
+   * @param readAheadBytes the number of bytes to read ahead for sequential reads, 0 to disable
+   */
+  public OpenFileEntry(FileInStream in, FileOutStream out, int readAheadBytes) {
+    Preconditions.checkArgument(readAheadBytes >= 0, "Read-ahead size should not be negative");
     mIn = in;
     mOut = out;
+    mBuffer = new byte[in == null ? 0 : readAheadBytes];
   }
 
   /**
@@ -59,13 +103,78 @@ final class OpenFileEntry implements Closeable {
     return mOut;
   }
 
+  /**
+   * Reads data at a given offset of a file open for reading.
+   *
+   * @param offset the offset in the file to read from
+   * @param dest the destination buffer
+   * @param length the number of bytes to read
+   * @return the number of bytes read, which is less than length only at the end of the file
+   * @throws IOException if the data cannot be read
+   */
+  public synchronized int read(long offset, byte[] dest, int length) throws IOException {
+    Preconditions.checkState(mIn != null, "The file is not open for reading");
+    boolean sequential = offset == mLastReadEnd;
+    int nread = 0;
+    while (nread < length) {
+      long pos = offset + nread;
+      if (pos >= mBufferStart && pos < mBufferStart + mBufferLength) {
+        int bufferOffset = (int) (pos - mBufferStart);
+        int n = Math.min(length - nread, mBufferLength - bufferOffset);
+        System.arraycopy(mBuffer, bufferOffset, dest, nread, n);
+        nread += n;
+        continue;
+      }
+      int remaining = length - nread;
+      if (!sequential || remaining >= mBuffer.length) {
+        // The read is random, or the buffer would not save any call to the input stream.
+        int n = readFully(pos, dest, nread, remaining);
+        nread += n;
+        if (n < remaining) {
+          break;
+        }
+      } else {
+        mBufferStart = pos;
+        mBufferLength = readFully(pos, mBuffer, 0, mBuffer.length);
+        if (mBufferLength == 0) {
+          break;
+        }
+      }
+    }
+    mLastReadEnd = offset + nread;
+    return nread;
+  }
+
+  /**
+   * Writes data to a file open for writing.
+   *
+   * @param src the data to write
+   * @throws IOException if the data cannot be written
+   */
+  public synchronized void write(byte[] src) throws IOException {
+    Preconditions.checkState(mOut != null, "The file is not open for writing");
+    mOut.write(src);
+  }
+
+  /**
+   * Flushes the data written to a file open for writing. It is a no-op for files open for
+   * reading.
+   *
+   * @throws IOException if the data cannot be flushed
+   */
+  public synchronized void flush() throws IOException {
+    if (mOut != null) {
+      mOut.flush();
+    }
+  }
+
   /**
    * Closes the underlying open streams.
    *
    * @throws IOException if the {@link FileInStream} cannot be closed
    */
   @Override
-  public void close() throws IOException {
+  public synchronized void close() throws IOException {
     if (mIn != null) {
       mIn.close();
     }
@@ -74,4 +183,32 @@ final class OpenFileEntry implements Closeable {
       mOut.close();
     }
   }
+
+  /**
+   * Reads data from the input stream at a given offset, until the requested length is read or the
+   * end of the file is reached.
+   *
+   * @param pos the offset in the file to read from
+   * @param dest the destination buffer
+   * @param off the offset in the destination buffer
+   * @param len the number of bytes to read
+   * @return the number of bytes read
+   * @throws IOException if the data cannot be read
+   */
+  private int readFully(long pos, byte[] dest, int off, int len) throws IOException {
+    if (pos != mInPos) {
+      mIn.seek(pos);
+      mInPos = pos;
+    }
+    int nread = 0;
+    while (nread < len) {
+      int n = mIn.read(dest, off + nread, len - nread);
+      if (n < 0) {
+        break;
+      }
+      nread += n;
+    }
+    mInPos += nread;
+    return nread;
+  }
 }
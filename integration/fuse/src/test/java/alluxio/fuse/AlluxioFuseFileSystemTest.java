@@ -138,7 +138,7 @@ public class AlluxioFuseFileSystemTest {
 
     // actual test
     mFuseFs.open("/foo/bar", mFileInfo);
-    verify(mFileSystem).exists(expectedPath);
+    verify(mFileSystem).getStatus(expectedPath);
     verify(mFileSystem).openFile(expectedPath);
   }
 
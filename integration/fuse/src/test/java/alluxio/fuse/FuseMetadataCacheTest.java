@@ -0,0 +1,111 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.fuse;
+
+import alluxio.AlluxioURI;
+import alluxio.client.file.FileSystem;
+import alluxio.client.file.URIStatus;
+import alluxio.exception.FileDoesNotExistException;
+import alluxio.wire.FileInfo;
+
+import com.google.common.collect.Lists;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+/**
+ * Unit tests for {@link FuseMetadataCache}.
+ */
+public final class FuseMetadataCacheTest {
+  private static final AlluxioURI DIR = new AlluxioURI("alluxio://localhost:19998/dir");
+  private static final AlluxioURI FILE = DIR.join("file");
+  private static final AlluxioURI MISSING = DIR.join("missing");
+
+  private FileSystem mFileSystem;
+  private FuseMetadataCache mCache;
+
+  @Before
+  public void before() throws Exception {
+    mFileSystem = Mockito.mock(FileSystem.class);
+    Mockito.when(mFileSystem.getStatus(DIR)).thenReturn(status("dir", true));
+    Mockito.when(mFileSystem.getStatus(FILE)).thenReturn(status("file", false));
+    Mockito.when(mFileSystem.getStatus(MISSING)).thenThrow(new FileDoesNotExistException("/"));
+    Mockito.when(mFileSystem.listStatus(DIR))
+        .thenReturn(Lists.newArrayList(status("file", false)));
+    mCache = new FuseMetadataCache(mFileSystem, 100, 60000, 60000);
+  }
+
+  /**
+   * Tests that the status of a path is only fetched once.
+   */
+  @Test
+  public void cachedStatus() throws Exception {
+    Assert.assertFalse(mCache.getStatus(FILE).isFolder());
+    Assert.assertFalse(mCache.getStatus(FILE).isFolder());
+    Mockito.verify(mFileSystem).getStatus(FILE);
+  }
+
+  /**
+   * Tests that missing paths are cached as negative entries.
+   */
+  @Test
+  public void negativeEntry() throws Exception {
+    Assert.assertNull(mCache.getStatus(MISSING));
+    Assert.assertNull(mCache.getStatus(MISSING));
+    Mockito.verify(mFileSystem).getStatus(MISSING);
+  }
+
+  /**
+   * Tests that listing a directory caches its entries and the statuses of its children.
+   */
+  @Test
+  public void listNames() throws Exception {
+    Assert.assertEquals(Lists.newArrayList("file"), mCache.listNames(DIR));
+    Assert.assertEquals(Lists.newArrayList("file"), mCache.listNames(DIR));
+    Assert.assertFalse(mCache.getStatus(FILE).isFolder());
+    Mockito.verify(mFileSystem).listStatus(DIR);
+    Mockito.verify(mFileSystem, Mockito.never()).getStatus(FILE);
+  }
+
+  /**
+   * Tests that invalidating a path invalidates its entries and the entries of its parent.
+   */
+  @Test
+  public void invalidate() throws Exception {
+    mCache.listNames(DIR);
+    mCache.getStatus(MISSING);
+    mCache.invalidate(MISSING);
+    mCache.getStatus(MISSING);
+    mCache.listNames(DIR);
+    Mockito.verify(mFileSystem, Mockito.times(2)).getStatus(MISSING);
+    Mockito.verify(mFileSystem, Mockito.times(2)).listStatus(DIR);
+  }
+
+  /**
+   * Tests that nothing is cached when the time to live is 0.
+   */
+  @Test
+  public void disabled() throws Exception {
+    mCache = new FuseMetadataCache(mFileSystem, 100, 0, 0);
+    mCache.getStatus(FILE);
+    mCache.getStatus(FILE);
+    mCache.getStatus(MISSING);
+    mCache.getStatus(MISSING);
+    Mockito.verify(mFileSystem, Mockito.times(2)).getStatus(FILE);
+    Mockito.verify(mFileSystem, Mockito.times(2)).getStatus(MISSING);
+  }
+
+  private static URIStatus status(String name, boolean folder) {
+    return new URIStatus(new FileInfo().setName(name).setFolder(folder));
+  }
+}
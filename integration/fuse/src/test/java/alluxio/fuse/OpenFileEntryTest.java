@@ -0,0 +1,130 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.fuse;
+
+import alluxio.client.file.FileInStream;
+import alluxio.util.io.BufferUtils;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Matchers;
+import org.mockito.Mockito;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import java.util.Arrays;
+
+/**
+ * Unit tests for {@link OpenFileEntry}.
+ */
+public final class OpenFileEntryTest {
+  private static final int FILE_LENGTH = 100;
+
+  private byte[] mData;
+  private long[] mPos;
+  private FileInStream mIn;
+
+  @Before
+  public void before() throws Exception {
+    mData = BufferUtils.getIncreasingByteArray(FILE_LENGTH);
+    mPos = new long[1];
+    mIn = Mockito.mock(FileInStream.class);
+    Mockito.doAnswer(new Answer<Void>() {
+      @Override
+      public Void answer(InvocationOnMock invocation) {
+        mPos[0] = (Long) invocation.getArguments()[0];
+        return null;
+      }
+    }).when(mIn).seek(Matchers.anyLong());
+    Mockito.when(mIn.read(Matchers.any(byte[].class), Matchers.anyInt(), Matchers.anyInt()))
+        .then(new Answer<Integer>() {
+          @Override
+          public Integer answer(InvocationOnMock invocation) {
+            byte[] dest = (byte[]) invocation.getArguments()[0];
+            int off = (Integer) invocation.getArguments()[1];
+            int len = (Integer) invocation.getArguments()[2];
+            if (mPos[0] >= FILE_LENGTH) {
+              return -1;
+            }
+            int n = (int) Math.min(len, FILE_LENGTH - mPos[0]);
+            System.arraycopy(mData, (int) mPos[0], dest, off, n);
+            mPos[0] += n;
+            return n;
+          }
+        });
+  }
+
+  /**
+   * Tests that sequential reads are served from the read-ahead buffer without seeking.
+   */
+  @Test
+  public void sequentialReads() throws Exception {
+    OpenFileEntry entry = new OpenFileEntry(mIn, null, 40);
+    byte[] dest = new byte[10];
+    for (int offset = 0; offset < FILE_LENGTH; offset += dest.length) {
+      Assert.assertEquals(dest.length, entry.read(offset, dest, dest.length));
+      Assert.assertArrayEquals(Arrays.copyOfRange(mData, offset, offset + dest.length), dest);
+    }
+    Assert.assertEquals(0, entry.read(FILE_LENGTH, dest, dest.length));
+    Mockito.verify(mIn, Mockito.never()).seek(Matchers.anyLong());
+    // 3 reads fill the buffer with the file, the last 2 reads find the end of the file.
+    Mockito.verify(mIn, Mockito.times(5))
+        .read(Matchers.any(byte[].class), Matchers.anyInt(), Matchers.anyInt());
+  }
+
+  /**
+   * Tests that reads at arbitrary offsets return the data at these offsets.
+   */
+  @Test
+  public void positionedReads() throws Exception {
+    OpenFileEntry entry = new OpenFileEntry(mIn, null, 16);
+    byte[] dest = new byte[8];
+    for (int offset : new int[] {50, 4, 58, 96, 0}) {
+      int expected = Math.min(dest.length, FILE_LENGTH - offset);
+      Assert.assertEquals(expected, entry.read(offset, dest, dest.length));
+      Assert.assertArrayEquals(Arrays.copyOfRange(mData, offset, offset + expected),
+          Arrays.copyOf(dest, expected));
+    }
+  }
+
+  /**
+   * Tests that only reads continuing from where the previous read stopped fill the read-ahead
+   * buffer.
+   */
+  @Test
+  public void randomReadsDoNotReadAhead() throws Exception {
+    OpenFileEntry entry = new OpenFileEntry(mIn, null, 40);
+    byte[] dest = new byte[8];
+    Assert.assertEquals(dest.length, entry.read(50, dest, dest.length));
+    Assert.assertArrayEquals(Arrays.copyOfRange(mData, 50, 58), dest);
+    Mockito.verify(mIn).read(Matchers.any(byte[].class), Matchers.anyInt(), Matchers.eq(8));
+
+    // The next read continues from the previous one, so it fills the buffer.
+    Assert.assertEquals(dest.length, entry.read(58, dest, dest.length));
+    Assert.assertArrayEquals(Arrays.copyOfRange(mData, 58, 66), dest);
+    Mockito.verify(mIn).read(Matchers.any(byte[].class), Matchers.anyInt(), Matchers.eq(40));
+  }
+
+  /**
+   * Tests that reads larger than the read-ahead buffer go directly to the input stream.
+   */
+  @Test
+  public void largeReads() throws Exception {
+    OpenFileEntry entry = new OpenFileEntry(mIn, null, 16);
+    byte[] dest = new byte[FILE_LENGTH];
+    Assert.assertEquals(FILE_LENGTH - 20, entry.read(20, dest, dest.length));
+    Assert.assertArrayEquals(Arrays.copyOfRange(mData, 20, FILE_LENGTH),
+        Arrays.copyOf(dest, FILE_LENGTH - 20));
+    Mockito.verify(mIn).seek(20);
+  }
+}
@@ -100,6 +100,19 @@ public final class MultiMasterLocalAlluxioCluster extends AbstractLocalAlluxioCl
     return -1;
   }
 
+  /**
+   * @return the standby masters, in the order of master creation
+   */
+  public List<LocalAlluxioMaster> getStandbyMasters() {
+    List<LocalAlluxioMaster> standbys = new ArrayList<>();
+    for (LocalAlluxioMaster master : mMasters) {
+      if (!master.isServing()) {
+        standbys.add(master);
+      }
+    }
+    return standbys;
+  }
+
   /**
    * Iterates over the masters in the order of master creation, kill the first standby master.
    *
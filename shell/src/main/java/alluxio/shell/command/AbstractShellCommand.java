@@ -57,6 +57,12 @@ public abstract class AbstractShellCommand implements ShellCommand {
           .numberOfArgs(1)
           .desc("properties file name")
           .build();
+  protected static final Option THREADS_OPTION =
+      Option.builder("threads")
+          .required(false)
+          .numberOfArgs(1)
+          .desc("number of threads copying files")
+          .build();
   protected static final Option FORCE_OPTION =
       Option.builder("f")
           .required(false)
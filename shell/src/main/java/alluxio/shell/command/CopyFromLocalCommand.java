@@ -25,6 +25,7 @@ import alluxio.shell.AlluxioShellUtils;
 import com.google.common.base.Joiner;
 import com.google.common.io.Closer;
 import org.apache.commons.cli.CommandLine;
+import org.apache.commons.cli.Options;
 
 import java.io.File;
 import java.io.FileInputStream;
@@ -60,19 +61,32 @@ public final class CopyFromLocalCommand extends AbstractShellCommand {
     return 2;
   }
 
+  @Override
+  protected Options getOptions() {
+    return new Options().addOption(THREADS_OPTION);
+  }
+
   @Override
   public void run(CommandLine cl) throws AlluxioException, IOException {
     String[] args = cl.getArgs();
-    String srcPath = args[0];
-    AlluxioURI dstPath = new AlluxioURI(args[1]);
-    List<File> srcFiles = AlluxioShellUtils.getFiles(srcPath);
+    final String srcPath = args[0];
+    final AlluxioURI dstPath = new AlluxioURI(args[1]);
+    final List<File> srcFiles = AlluxioShellUtils.getFiles(srcPath);
     if (srcFiles.size() == 0) {
       throw new IOException("Local path " + srcPath + " does not exist.");
     }
-    if (srcPath.contains(AlluxioURI.WILDCARD)) {
-      copyFromLocalWildcard(srcFiles, dstPath);
-    } else {
-      copyFromLocal(new File(srcPath), dstPath);
+    CopyTaskRunner.run(cl, new CopyTaskRunner.CopyWalk() {
+      @Override
+      public void run(CopyTaskRunner runner) throws AlluxioException, IOException {
+        if (srcPath.contains(AlluxioURI.WILDCARD)) {
+          copyFromLocalWildcard(srcFiles, dstPath, runner);
+        } else {
+          copyFromLocal(new File(srcPath), dstPath, runner);
+        }
+      }
+    });
+    if (!srcPath.contains(AlluxioURI.WILDCARD)) {
+      System.out.println("Copied " + new File(srcPath).getPath() + " to " + dstPath);
     }
   }
 
@@ -82,10 +96,11 @@ public final class CopyFromLocalCommand extends AbstractShellCommand {
    *
    * @param srcDir the source directory in the local filesystem
    * @param dstPath the {@link AlluxioURI} of the destination
+   * @param runner the runner of the file copies
    * @throws AlluxioException when Alluxio exception occurs
    * @throws IOException when non-Alluxio exception occurs
    */
-  private void copyFromLocalDir(File srcDir, AlluxioURI dstPath)
+  private void copyFromLocalDir(File srcDir, AlluxioURI dstPath, CopyTaskRunner runner)
       throws AlluxioException, IOException {
     boolean dstExistedBefore = mFileSystem.exists(dstPath);
     createDstDir(dstPath);
@@ -100,7 +115,7 @@ public final class CopyFromLocalCommand extends AbstractShellCommand {
     for (File srcFile : fileList) {
       AlluxioURI newURI = new AlluxioURI(dstPath, new AlluxioURI(srcFile.getName()));
       try {
-        copyPath(srcFile, newURI);
+        copyPath(srcFile, newURI, runner);
       } catch (AlluxioException | IOException e) {
         errorMessages.add(e.getMessage());
         if (!mFileSystem.exists(newURI)) {
@@ -126,11 +141,12 @@ public final class CopyFromLocalCommand extends AbstractShellCommand {
    *
    * @param srcFiles a list of source file in the local filesystem
    * @param dstPath the {@link AlluxioURI} of the destination
+   * @param runner the runner of the file copies
    * @throws AlluxioException when Alluxio exception occurs
    * @throws IOException when non-Alluxio exception occurs
    */
-  private void copyFromLocalWildcard(List<File> srcFiles, AlluxioURI dstPath)
-      throws AlluxioException, IOException {
+  private void copyFromLocalWildcard(List<File> srcFiles, AlluxioURI dstPath,
+      CopyTaskRunner runner) throws AlluxioException, IOException {
     boolean dstExistedBefore = mFileSystem.exists(dstPath);
     createDstDir(dstPath);
     List<String> errorMessages = new ArrayList<>();
@@ -138,8 +154,10 @@ public final class CopyFromLocalCommand extends AbstractShellCommand {
     for (File srcFile : srcFiles) {
       AlluxioURI newURI = new AlluxioURI(dstPath, new AlluxioURI(srcFile.getName()));
       try {
-        copyPath(srcFile, newURI);
-        System.out.println("Copied " + srcFile.getPath() + " to " + dstPath);
+        copyPath(srcFile, newURI, runner);
+        if (!runner.isParallel()) {
+          System.out.println("Copied " + srcFile.getPath() + " to " + dstPath);
+        }
       } catch (AlluxioException | IOException e) {
         errorMessages.add(e.getMessage());
         if (!mFileSystem.exists(newURI)) {
@@ -185,17 +203,17 @@ public final class CopyFromLocalCommand extends AbstractShellCommand {
    *
    * @param srcFile the source file in the local filesystem
    * @param dstPath the {@link AlluxioURI} of the destination
+   * @param runner the runner of the file copies
    * @throws AlluxioException when Alluxio exception occurs
    * @throws IOException when non-Alluxio exception occurs
    */
-  private void copyFromLocal(File srcFile, AlluxioURI dstPath)
+  private void copyFromLocal(File srcFile, AlluxioURI dstPath, CopyTaskRunner runner)
       throws AlluxioException, IOException {
     if (srcFile.isDirectory()) {
-      copyFromLocalDir(srcFile, dstPath);
+      copyFromLocalDir(srcFile, dstPath, runner);
     } else {
-      copyPath(srcFile, dstPath);
+      copyPath(srcFile, dstPath, runner);
     }
-    System.out.println("Copied " + srcFile.getPath() + " to " + dstPath);
   }
 
   /**
@@ -204,38 +222,25 @@ public final class CopyFromLocalCommand extends AbstractShellCommand {
    *
    * @param src the source file in the local filesystem
    * @param dstPath the {@link AlluxioURI} of the destination
+   * @param runner the runner of the file copies
    * @throws AlluxioException when Alluxio exception occurs
    * @throws IOException when non-Alluxio exception occurs
    */
-  private void copyPath(File src, AlluxioURI dstPath) throws AlluxioException, IOException {
+  private void copyPath(final File src, AlluxioURI dstPath, CopyTaskRunner runner)
+      throws AlluxioException, IOException {
     if (!src.isDirectory()) {
       // If the dstPath is a directory, then it should be updated to be the path of the file where
       // src will be copied to.
       if (mFileSystem.exists(dstPath) && mFileSystem.getStatus(dstPath).isFolder()) {
         dstPath = dstPath.join(src.getName());
       }
-
-      FileOutStream os = null;
-      try (Closer closer = Closer.create()) {
-        os = closer.register(mFileSystem.createFile(dstPath));
-        FileInputStream in = closer.register(new FileInputStream(src));
-        FileChannel channel = closer.register(in.getChannel());
-        ByteBuffer buf = ByteBuffer.allocate(8 * Constants.MB);
-        while (channel.read(buf) != -1) {
-          buf.flip();
-          os.write(buf.array(), 0, buf.limit());
-        }
-      } catch (Exception e) {
-        // Close the out stream and delete the file, so we don't have an incomplete file lying
-        // around.
-        if (os != null) {
-          os.cancel();
-          if (mFileSystem.exists(dstPath)) {
-            mFileSystem.delete(dstPath);
-          }
+      final AlluxioURI dstFilePath = dstPath;
+      runner.submit(src.length(), new CopyTaskRunner.CopyTask() {
+        @Override
+        public void run() throws AlluxioException, IOException {
+          copyFile(src, dstFilePath);
         }
-        throw e;
-      }
+      });
     } else {
       mFileSystem.createDirectory(dstPath);
       List<String> errorMessages = new ArrayList<>();
@@ -249,7 +254,7 @@ public final class CopyFromLocalCommand extends AbstractShellCommand {
       for (File srcFile : fileList) {
         AlluxioURI newURI = new AlluxioURI(dstPath, new AlluxioURI(srcFile.getName()));
         try {
-          copyPath(srcFile, newURI);
+          copyPath(srcFile, newURI, runner);
         } catch (IOException e) {
           errorMessages.add(e.getMessage());
           if (!mFileSystem.exists(newURI)) {
@@ -269,13 +274,47 @@ public final class CopyFromLocalCommand extends AbstractShellCommand {
     }
   }
 
+  /**
+   * Copies a file from the local filesystem to a file in the Alluxio filesystem space. The
+   * destination file is deleted if the copy fails.
+   *
+   * @param src the source file in the local filesystem
+   * @param dstPath the {@link AlluxioURI} of the destination file
+   * @throws AlluxioException when Alluxio exception occurs
+   * @throws IOException when non-Alluxio exception occurs
+   */
+  private void copyFile(File src, AlluxioURI dstPath) throws AlluxioException, IOException {
+    FileOutStream os = null;
+    try (Closer closer = Closer.create()) {
+      os = closer.register(mFileSystem.createFile(dstPath));
+      FileInputStream in = closer.register(new FileInputStream(src));
+      FileChannel channel = closer.register(in.getChannel());
+      ByteBuffer buf = ByteBuffer.allocate(8 * Constants.MB);
+      while (channel.read(buf) != -1) {
+        buf.flip();
+        os.write(buf.array(), 0, buf.limit());
+      }
+    } catch (Exception e) {
+      // Close the out stream and delete the file, so we don't have an incomplete file lying
+      // around.
+      if (os != null) {
+        os.cancel();
+        if (mFileSystem.exists(dstPath)) {
+          mFileSystem.delete(dstPath);
+        }
+      }
+      throw e;
+    }
+  }
+
   @Override
   public String getUsage() {
-    return "copyFromLocal <src> <remoteDst>";
+    return "copyFromLocal [-threads <n>] <src> <remoteDst>";
   }
 
   @Override
   public String getDescription() {
-    return "Copies a file or a directory from local filesystem to Alluxio filesystem.";
+    return "Copies a file or a directory from local filesystem to Alluxio filesystem. With "
+        + "-threads, the files are copied by that many threads in parallel.";
   }
 }
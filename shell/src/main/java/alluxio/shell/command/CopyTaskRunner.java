@@ -0,0 +1,217 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.shell.command;
+
+import alluxio.Constants;
+import alluxio.exception.AlluxioException;
+import alluxio.util.CommonUtils;
+import alluxio.util.FormatUtils;
+import alluxio.util.ThreadFactoryUtils;
+
+import com.google.common.base.Joiner;
+import com.google.common.base.Preconditions;
+import org.apache.commons.cli.CommandLine;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Runs the copies of the shell copy commands.
+ *
+ * With a single thread, each copy runs in the calling thread as soon as it is submitted, and its
+ * errors are thrown to the caller. With more threads, the copies run concurrently on a thread
+ * pool, while the caller keeps walking the source tree and creating the destination directories.
+ * The progress and throughput of the copies are then printed periodically until they complete.
+ */
+@NotThreadSafe
+final class CopyTaskRunner implements Closeable {
+  /** The interval between two progress reports of parallel copies. */
+  private static final long PROGRESS_INTERVAL_MS = 5 * Constants.SECOND_MS;
+
+  /**
+   * A copy of a file, or of a part of a file.
+   */
+  interface CopyTask {
+    /**
+     * Copies the data.
+     *
+     * @throws AlluxioException when Alluxio exception occurs
+     * @throws IOException when non-Alluxio exception occurs
+     */
+    void run() throws AlluxioException, IOException;
+  }
+
+  /**
+   * The walk of a copy command over the source tree, which submits the copies to a runner.
+   */
+  interface CopyWalk {
+    /**
+     * Walks the source tree and submits the copies.
+     *
+     * @param runner the runner to submit the copies to
+     * @throws AlluxioException when Alluxio exception occurs
+     * @throws IOException when non-Alluxio exception occurs
+     */
+    void run(CopyTaskRunner runner) throws AlluxioException, IOException;
+  }
+
+  /** The thread pool running the copies, null if the copies run in the calling thread. */
+  private final ExecutorService mExecutor;
+  private final CompletionService<Long> mCompletionService;
+  private final long mStartTimeMs;
+  private int mSubmittedTasks;
+  private int mCompletedTasks;
+  private long mCopiedBytes;
+
+  /**
+   * Creates a new instance of {@link CopyTaskRunner}.
+   *
+   * @param threads the number of threads running the copies
+   */
+  CopyTaskRunner(int threads) {
+    Preconditions.checkArgument(threads > 0, "The number of threads should be positive");
+    if (threads == 1) {
+      mExecutor = null;
+      mCompletionService = null;
+    } else {
+      mExecutor =
+          Executors.newFixedThreadPool(threads, ThreadFactoryUtils.build("copy-%d", true));
+      mCompletionService = new ExecutorCompletionService<>(mExecutor);
+    }
+    mStartTimeMs = CommonUtils.getCurrentMs();
+  }
+
+  /**
+   * Runs a copy command with the number of threads given by its command line, and waits for all
+   * its copies to complete. With more than one thread, the errors of the walk and of the copies
+   * are reported together once all the copies are complete.
+   *
+   * @param cl the command line of the copy command
+   * @param walk the walk of the copy command
+   * @throws AlluxioException when Alluxio exception occurs
+   * @throws IOException when non-Alluxio exception occurs
+   */
+  static void run(CommandLine cl, CopyWalk walk) throws AlluxioException, IOException {
+    int threads = 1;
+    if (cl.hasOption("threads")) {
+      threads = Integer.parseInt(cl.getOptionValue("threads"));
+      if (threads <= 0) {
+        throw new IOException("The number of threads should be positive: " + threads);
+      }
+    }
+    try (CopyTaskRunner runner = new CopyTaskRunner(threads)) {
+      List<String> errorMessages = new ArrayList<>();
+      try {
+        walk.run(runner);
+      } catch (AlluxioException | IOException e) {
+        if (!runner.isParallel()) {
+          throw e;
+        }
+        errorMessages.add(e.getMessage());
+      }
+      errorMessages.addAll(runner.waitForAll());
+      if (!errorMessages.isEmpty()) {
+        throw new IOException(Joiner.on('\n').join(errorMessages));
+      }
+    }
+  }
+
+  /**
+   * @return whether the copies run concurrently, rather than in the calling thread
+   */
+  boolean isParallel() {
+    return mExecutor != null;
+  }
+
+  /**
+   * Submits a copy.
+   *
+   * @param bytes the number of bytes copied
+   * @param task the copy
+   * @throws AlluxioException when the copy runs in the calling thread and fails in Alluxio
+   * @throws IOException when the copy runs in the calling thread and fails
+   */
+  void submit(final long bytes, final CopyTask task) throws AlluxioException, IOException {
+    if (!isParallel()) {
+      task.run();
+      return;
+    }
+    mCompletionService.submit(new Callable<Long>() {
+      @Override
+      public Long call() throws Exception {
+        task.run();
+        return bytes;
+      }
+    });
+    mSubmittedTasks++;
+  }
+
+  /**
+   * Waits for the submitted copies to complete, and prints their progress meanwhile.
+   *
+   * @return the error messages of the copies which failed
+   * @throws IOException if interrupted while waiting
+   */
+  List<String> waitForAll() throws IOException {
+    List<String> errorMessages = new ArrayList<>();
+    if (!isParallel()) {
+      return errorMessages;
+    }
+    try {
+      while (mCompletedTasks < mSubmittedTasks) {
+        Future<Long> future =
+            mCompletionService.poll(PROGRESS_INTERVAL_MS, TimeUnit.MILLISECONDS);
+        if (future == null) {
+          printProgress();
+          continue;
+        }
+        mCompletedTasks++;
+        try {
+          mCopiedBytes += future.get();
+        } catch (ExecutionException e) {
+          errorMessages.add(e.getCause().getMessage());
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted while waiting for the copies to complete", e);
+    }
+    printProgress();
+    return errorMessages;
+  }
+
+  private void printProgress() {
+    long elapsedMs = Math.max(1, CommonUtils.getCurrentMs() - mStartTimeMs);
+    System.out.println(String.format("Completed %d of %d copies: %s in %d ms (%s/s)",
+        mCompletedTasks, mSubmittedTasks, FormatUtils.getSizeFromBytes(mCopiedBytes), elapsedMs,
+        FormatUtils.getSizeFromBytes(mCopiedBytes * Constants.SECOND_MS / elapsedMs)));
+  }
+
+  @Override
+  public void close() {
+    if (isParallel()) {
+      mExecutor.shutdownNow();
+    }
+  }
+}
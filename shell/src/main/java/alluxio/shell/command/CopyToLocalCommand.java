@@ -26,18 +26,26 @@ import alluxio.shell.AlluxioShellUtils;
 import com.google.common.base.Joiner;
 import com.google.common.io.Closer;
 import org.apache.commons.cli.CommandLine;
+import org.apache.commons.cli.Options;
 import org.apache.commons.lang.RandomStringUtils;
 
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.util.ArrayList;
 import java.util.List;
 
+import javax.annotation.concurrent.GuardedBy;
 import javax.annotation.concurrent.ThreadSafe;
 
 /**
  * Copies a file or a directory from the Alluxio filesystem to the local filesystem.
+ *
+ * When the files are copied by several threads, a file larger than a block is split into
+ * block-aligned ranges, which are read from Alluxio and written to the local file in parallel.
  */
 @ThreadSafe
 public final class CopyToLocalCommand extends AbstractShellCommand {
@@ -59,21 +67,31 @@ public final class CopyToLocalCommand extends AbstractShellCommand {
     return 2;
   }
 
+  @Override
+  protected Options getOptions() {
+    return new Options().addOption(THREADS_OPTION);
+  }
+
   @Override
   public void run(CommandLine cl) throws AlluxioException, IOException {
     String[] args = cl.getArgs();
-    AlluxioURI srcPath = new AlluxioURI(args[0]);
-    File dstFile = new File(args[1]);
-    List<AlluxioURI> srcPaths = AlluxioShellUtils.getAlluxioURIs(mFileSystem, srcPath);
+    final AlluxioURI srcPath = new AlluxioURI(args[0]);
+    final File dstFile = new File(args[1]);
+    final List<AlluxioURI> srcPaths = AlluxioShellUtils.getAlluxioURIs(mFileSystem, srcPath);
     if (srcPaths.size() == 0) {
       throw new IOException(srcPath.getPath() + " does not exist.");
     }
 
-    if (srcPath.containsWildcard()) {
-      copyWildcardToLocal(srcPaths, dstFile);
-    } else {
-      copyToLocal(srcPath, dstFile);
-    }
+    CopyTaskRunner.run(cl, new CopyTaskRunner.CopyWalk() {
+      @Override
+      public void run(CopyTaskRunner runner) throws AlluxioException, IOException {
+        if (srcPath.containsWildcard()) {
+          copyWildcardToLocal(srcPaths, dstFile, runner);
+        } else {
+          copyToLocal(srcPath, dstFile, runner);
+        }
+      }
+    });
   }
 
   /**
@@ -82,11 +100,12 @@ public final class CopyToLocalCommand extends AbstractShellCommand {
    *
    * @param srcPaths the list of files in the Alluxio filesystem
    * @param dstFile the destination directory in the local filesystem
+   * @param runner the runner of the file copies
    * @throws AlluxioException when Alluxio exception occurs
    * @throws IOException when non-Alluxio exception occurs
    */
-  private void copyWildcardToLocal(List<AlluxioURI> srcPaths, File dstFile)
-      throws AlluxioException, IOException {
+  private void copyWildcardToLocal(List<AlluxioURI> srcPaths, File dstFile,
+      CopyTaskRunner runner) throws AlluxioException, IOException {
     if (dstFile.exists() && !dstFile.isDirectory()) {
       throw new InvalidPathException(ExceptionMessage.DESTINATION_CANNOT_BE_FILE.getMessage());
     }
@@ -100,7 +119,7 @@ public final class CopyToLocalCommand extends AbstractShellCommand {
     List<String> errorMessages = new ArrayList<>();
     for (AlluxioURI srcPath : srcPaths) {
       try {
-        copyToLocal(srcPath, new File(dstFile.getAbsoluteFile(), srcPath.getName()));
+        copyToLocal(srcPath, new File(dstFile.getAbsoluteFile(), srcPath.getName()), runner);
       } catch (IOException e) {
         errorMessages.add(e.getMessage());
       }
@@ -115,10 +134,12 @@ public final class CopyToLocalCommand extends AbstractShellCommand {
    *
    * @param srcPath the source {@link AlluxioURI} (could be a file or a directory)
    * @param dstFile the destination file in the local filesystem
+   * @param runner the runner of the file copies
    * @throws AlluxioException when Alluxio exception occurs
    * @throws IOException when non-Alluxio exception occurs
    */
-  private void copyToLocal(AlluxioURI srcPath, File dstFile) throws AlluxioException, IOException {
+  private void copyToLocal(AlluxioURI srcPath, File dstFile, CopyTaskRunner runner)
+      throws AlluxioException, IOException {
     URIStatus srcStatus = mFileSystem.getStatus(srcPath);
 
     if (srcStatus.isFolder()) {
@@ -143,7 +164,7 @@ public final class CopyToLocalCommand extends AbstractShellCommand {
         try {
           copyToLocal(
               new AlluxioURI(srcPath.getScheme(), srcPath.getAuthority(), status.getPath()),
-              new File(dstFile.getAbsolutePath(), status.getName()));
+              new File(dstFile.getAbsolutePath(), status.getName()), runner);
         } catch (IOException e) {
           errorMessages.add(e.getMessage());
         }
@@ -153,7 +174,85 @@ public final class CopyToLocalCommand extends AbstractShellCommand {
         throw new IOException(Joiner.on('\n').join(errorMessages));
       }
     } else {
-      copyFileToLocal(srcPath, dstFile);
+      submitFileToLocal(srcPath, dstFile, srcStatus, runner);
+    }
+  }
+
+  /**
+   * Submits the copy of a file from the Alluxio filesystem to the local filesystem. With several
+   * threads, a file larger than a block is copied by ranges of one block in parallel.
+   *
+   * @param srcPath the source {@link AlluxioURI} (has to be a file)
+   * @param dstFile the destination file in the local filesystem
+   * @param srcStatus the status of the source file
+   * @param runner the runner of the file copies
+   * @throws AlluxioException when Alluxio exception occurs
+   * @throws IOException when non-Alluxio exception occurs
+   */
+  private void submitFileToLocal(final AlluxioURI srcPath, final File dstFile, URIStatus srcStatus,
+      CopyTaskRunner runner) throws AlluxioException, IOException {
+    long length = srcStatus.getLength();
+    long blockSize = srcStatus.getBlockSizeBytes();
+    if (!runner.isParallel() || blockSize <= 0 || length <= blockSize) {
+      runner.submit(length, new CopyTaskRunner.CopyTask() {
+        @Override
+        public void run() throws AlluxioException, IOException {
+          copyFileToLocal(srcPath, dstFile);
+        }
+      });
+      return;
+    }
+    final RangedCopy copy = new RangedCopy(srcPath, dstFile, (int) ((length - 1) / blockSize + 1));
+    try (RandomAccessFile file = new RandomAccessFile(copy.mTmpDst, "rw")) {
+      file.setLength(length);
+    }
+    for (long offset = 0; offset < length; offset += blockSize) {
+      final long rangeOffset = offset;
+      final long rangeLength = Math.min(blockSize, length - offset);
+      runner.submit(rangeLength, new CopyTaskRunner.CopyTask() {
+        @Override
+        public void run() throws AlluxioException, IOException {
+          try {
+            copyRangeToLocal(srcPath, copy.mTmpDst, rangeOffset, rangeLength);
+          } catch (AlluxioException | IOException e) {
+            copy.rangeFailed();
+            throw e;
+          }
+          copy.rangeCompleted();
+        }
+      });
+    }
+  }
+
+  /**
+   * Copies a range of a file from the Alluxio filesystem to the same range of a local file.
+   *
+   * @param srcPath the source {@link AlluxioURI} (has to be a file)
+   * @param dstFile the destination file in the local filesystem
+   * @param offset the offset of the range
+   * @param length the length of the range
+   * @throws AlluxioException when Alluxio exception occurs
+   * @throws IOException when non-Alluxio exception occurs
+   */
+  private void copyRangeToLocal(AlluxioURI srcPath, File dstFile, long offset, long length)
+      throws AlluxioException, IOException {
+    try (Closer closer = Closer.create()) {
+      OpenFileOptions options = OpenFileOptions.defaults().setReadType(ReadType.NO_CACHE);
+      FileInStream is = closer.register(mFileSystem.openFile(srcPath, options));
+      is.seek(offset);
+      FileChannel out = closer.register(new RandomAccessFile(dstFile, "rw")).getChannel();
+      byte[] buf = new byte[(int) Math.min(8 * Constants.MB, length)];
+      long pos = offset;
+      while (pos < offset + length) {
+        int t = is.read(buf, 0, (int) Math.min(buf.length, offset + length - pos));
+        if (t == -1) {
+          throw new IOException("Unexpected end of " + srcPath + " at offset " + pos);
+        }
+        ByteBuffer data = ByteBuffer.wrap(buf, 0, t);
+        while (data.hasRemaining()) {
+          pos += out.write(data, pos);
+        }
+      }
     }
   }
 
@@ -194,11 +293,72 @@ public final class CopyToLocalCommand extends AbstractShellCommand {
 
   @Override
   public String getUsage() {
-    return "copyToLocal <src> <localDst>";
+    return "copyToLocal [-threads <n>] <src> <localDst>";
   }
 
   @Override
   public String getDescription() {
-    return "Copies a file or a directory from the Alluxio filesystem to the local filesystem.";
+    return "Copies a file or a directory from the Alluxio filesystem to the local filesystem. "
+        + "With -threads, the files, and the blocks of large files, are copied by that many "
+        + "threads in parallel.";
+  }
+
+  /**
+   * A file copied by ranges. The ranges are written to a temporary file, which is renamed to the
+   * destination once all the ranges are copied, or deleted if any range failed.
+   */
+  @ThreadSafe
+  private static final class RangedCopy {
+    private final AlluxioURI mSrcPath;
+    private final File mDstFile;
+    private final File mTmpDst;
+    @GuardedBy("this")
+    private int mRemainingRanges;
+    @GuardedBy("this")
+    private boolean mFailed;
+
+    /**
+     * @param srcPath the source {@link AlluxioURI}
+     * @param dstFile the destination file in the local filesystem
+     * @param ranges the number of ranges of the file
+     */
+    RangedCopy(AlluxioURI srcPath, File dstFile, int ranges) {
+      mSrcPath = srcPath;
+      mDstFile = dstFile;
+      mTmpDst = new File(dstFile.getAbsolutePath() + String.format(".%s_copyToLocal_",
+          RandomStringUtils.randomAlphanumeric(8)));
+      mRemainingRanges = ranges;
+    }
+
+    /**
+     * Records that a range is copied, and completes the copy if it was the last range.
+     *
+     * @throws IOException if the temporary file cannot be renamed to the destination
+     */
+    synchronized void rangeCompleted() throws IOException {
+      if (--mRemainingRanges > 0) {
+        return;
+      }
+      if (mFailed) {
+        mTmpDst.delete();
+        return;
+      }
+      if (!mTmpDst.renameTo(mDstFile)) {
+        mTmpDst.delete();
+        throw new IOException(
+            "Failed to rename " + mTmpDst.getPath() + " to destination " + mDstFile.getPath());
+      }
+      System.out.println("Copied " + mSrcPath + " to " + mDstFile.getPath());
+    }
+
+    /**
+     * Records that a range failed, and deletes the temporary file if it was the last range.
+     */
+    synchronized void rangeFailed() {
+      mFailed = true;
+      if (--mRemainingRanges == 0) {
+        mTmpDst.delete();
+      }
+    }
   }
 }
@@ -13,13 +13,12 @@ package alluxio.shell.command;
 
 import alluxio.AlluxioURI;
 import alluxio.client.file.FileSystem;
-import alluxio.client.file.URIStatus;
 import alluxio.exception.AlluxioException;
+import alluxio.wire.ContentSummary;
 
 import org.apache.commons.cli.CommandLine;
 
 import java.io.IOException;
-import java.util.List;
 
 import javax.annotation.concurrent.ThreadSafe;
 
@@ -51,34 +50,11 @@ public final class CountCommand extends AbstractShellCommand {
     String[] args = cl.getArgs();
     AlluxioURI inputPath = new AlluxioURI(args[0]);
 
-    long[] values = countHelper(inputPath);
+    ContentSummary summary = mFileSystem.getContentSummary(inputPath);
     String format = "%-25s%-25s%-15s%n";
     System.out.format(format, "File Count", "Folder Count", "Total Bytes");
-    System.out.format(format, values[0], values[1], values[2]);
-  }
-
-  private long[] countHelper(AlluxioURI path) throws AlluxioException, IOException {
-    URIStatus status = mFileSystem.getStatus(path);
-
-    if (!status.isFolder()) {
-      return new long[] { 1L, 0L, status.getLength() };
-    }
-
-    long[] rtn = new long[] { 0L, 1L, 0L };
-
-    List<URIStatus> statuses;
-    try {
-      statuses = mFileSystem.listStatus(path);
-    } catch (AlluxioException e) {
-      throw new IOException(e.getMessage());
-    }
-    for (URIStatus uriStatus : statuses) {
-      long[] toAdd = countHelper(new AlluxioURI(uriStatus.getPath()));
-      rtn[0] += toAdd[0];
-      rtn[1] += toAdd[1];
-      rtn[2] += toAdd[2];
-    }
-    return rtn;
+    System.out.format(format, summary.getFileCount(), summary.getDirectoryCount(),
+        summary.getLength());
   }
 
   @Override
@@ -63,25 +63,31 @@ public final class CpCommand extends AbstractShellCommand {
 
   @Override
   protected Options getOptions() {
-    return new Options().addOption(RECURSIVE_OPTION);
+    return new Options().addOption(RECURSIVE_OPTION).addOption(THREADS_OPTION);
   }
 
   @Override
   public void run(CommandLine cl) throws AlluxioException, IOException {
     String[] args = cl.getArgs();
-    AlluxioURI srcPath = new AlluxioURI(args[0]);
-    AlluxioURI dstPath = new AlluxioURI(args[1]);
-    List<AlluxioURI> srcPaths = AlluxioShellUtils.getAlluxioURIs(mFileSystem, srcPath);
+    final AlluxioURI srcPath = new AlluxioURI(args[0]);
+    final AlluxioURI dstPath = new AlluxioURI(args[1]);
+    final List<AlluxioURI> srcPaths = AlluxioShellUtils.getAlluxioURIs(mFileSystem, srcPath);
     if (srcPaths.size() == 0) {
       throw new FileDoesNotExistException(
           ExceptionMessage.PATH_DOES_NOT_EXIST.getMessage(srcPath.getPath()));
     }
 
-    if (srcPath.containsWildcard()) {
-      copyWildcard(srcPaths, dstPath, cl.hasOption("R"));
-    } else {
-      copy(srcPath, dstPath, cl.hasOption("R"));
-    }
+    final boolean recursive = cl.hasOption("R");
+    CopyTaskRunner.run(cl, new CopyTaskRunner.CopyWalk() {
+      @Override
+      public void run(CopyTaskRunner runner) throws AlluxioException, IOException {
+        if (srcPath.containsWildcard()) {
+          copyWildcard(srcPaths, dstPath, recursive, runner);
+        } else {
+          copy(srcPath, dstPath, recursive, runner);
+        }
+      }
+    });
   }
 
   /**
@@ -91,11 +97,12 @@ public final class CpCommand extends AbstractShellCommand {
    * @param srcPaths a list of files or directories in the Alluxio filesystem
    * @param dstPath the destination in the Alluxio filesystem
    * @param recursive indicates whether directories should be copied recursively
+   * @param runner the runner of the file copies
    * @throws AlluxioException when Alluxio exception occurs
    * @throws IOException when non-Alluxio exception occurs
    */
-  private void copyWildcard(List<AlluxioURI> srcPaths, AlluxioURI dstPath, boolean recursive)
-      throws AlluxioException, IOException {
+  private void copyWildcard(List<AlluxioURI> srcPaths, AlluxioURI dstPath, boolean recursive,
+      CopyTaskRunner runner) throws AlluxioException, IOException {
     URIStatus dstStatus = null;
     try {
       dstStatus = mFileSystem.getStatus(dstPath);
@@ -114,7 +121,7 @@ public final class CpCommand extends AbstractShellCommand {
     for (AlluxioURI srcPath : srcPaths) {
       try {
         copy(srcPath, new AlluxioURI(dstPath.getScheme(), dstPath.getAuthority(),
-            PathUtils.concatPath(dstPath.getPath(), srcPath.getName())), recursive);
+            PathUtils.concatPath(dstPath.getPath(), srcPath.getName())), recursive, runner);
       } catch (AlluxioException | IOException e) {
         errorMessages.add(e.getMessage());
       }
@@ -130,11 +137,12 @@ public final class CpCommand extends AbstractShellCommand {
    * @param srcPath the source {@link AlluxioURI} (could be a file or a directory)
    * @param dstPath the destination path in the Alluxio filesystem
    * @param recursive indicates whether directories should be copied recursively
+   * @param runner the runner of the file copies
    * @throws AlluxioException when Alluxio exception occurs
    * @throws IOException when non-Alluxio exception occurs
    */
-  private void copy(AlluxioURI srcPath, AlluxioURI dstPath, boolean recursive)
-      throws AlluxioException, IOException {
+  private void copy(AlluxioURI srcPath, AlluxioURI dstPath, boolean recursive,
+      CopyTaskRunner runner) throws AlluxioException, IOException {
     URIStatus srcStatus = mFileSystem.getStatus(srcPath);
 
     URIStatus dstStatus = null;
@@ -148,7 +156,7 @@ public final class CpCommand extends AbstractShellCommand {
       if (dstStatus != null && dstStatus.isFolder()) {
         dstPath = new AlluxioURI(PathUtils.concatPath(dstPath.getPath(), srcPath.getName()));
       }
-      copyFile(srcPath, dstPath);
+      copyFile(srcPath, dstPath, srcStatus.getLength(), runner);
     } else {
       if (!recursive) {
         throw new IOException(
@@ -181,7 +189,7 @@ public final class CpCommand extends AbstractShellCommand {
         try {
           copy(new AlluxioURI(srcPath.getScheme(), srcPath.getAuthority(), status.getPath()),
               new AlluxioURI(dstPath.getScheme(), dstPath.getAuthority(),
-                  PathUtils.concatPath(dstPath.getPath(), status.getName())), recursive);
+                  PathUtils.concatPath(dstPath.getPath(), status.getName())), recursive, runner);
         } catch (IOException e) {
           errorMessages.add(e.getMessage());
         }
@@ -198,29 +206,38 @@ public final class CpCommand extends AbstractShellCommand {
    *
    * @param srcPath the source {@link AlluxioURI} (has to be a file)
    * @param dstPath the destination path in the Alluxio filesystem
+   * @param length the length of the source file
+   * @param runner the runner of the file copies
    * @throws AlluxioException when Alluxio exception occurs
    * @throws IOException when non-Alluxio exception occurs
    */
-  private void copyFile(AlluxioURI srcPath, AlluxioURI dstPath)
-      throws AlluxioException, IOException {
-    try (Closer closer = Closer.create()) {
-      OpenFileOptions openFileOptions = OpenFileOptions.defaults().setReadType(ReadType.NO_CACHE);
-      FileInStream is = closer.register(mFileSystem.openFile(srcPath, openFileOptions));
-      CreateFileOptions createFileOptions = CreateFileOptions.defaults();
-      FileOutStream os = closer.register(mFileSystem.createFile(dstPath, createFileOptions));
-      IOUtils.copy(is, os);
-      System.out.println("Copied " + srcPath + " to " + dstPath.getPath());
-    }
+  private void copyFile(final AlluxioURI srcPath, final AlluxioURI dstPath, long length,
+      CopyTaskRunner runner) throws AlluxioException, IOException {
+    runner.submit(length, new CopyTaskRunner.CopyTask() {
+      @Override
+      public void run() throws AlluxioException, IOException {
+        try (Closer closer = Closer.create()) {
+          OpenFileOptions openFileOptions =
+              OpenFileOptions.defaults().setReadType(ReadType.NO_CACHE);
+          FileInStream is = closer.register(mFileSystem.openFile(srcPath, openFileOptions));
+          CreateFileOptions createFileOptions = CreateFileOptions.defaults();
+          FileOutStream os = closer.register(mFileSystem.createFile(dstPath, createFileOptions));
+          IOUtils.copy(is, os);
+          System.out.println("Copied " + srcPath + " to " + dstPath.getPath());
+        }
+      }
+    });
   }
 
   @Override
   public String getUsage() {
-    return "cp [-R] <src> <dst>";
+    return "cp [-R] [-threads <n>] <src> <dst>";
   }
 
   @Override
   public String getDescription() {
     return "Copies a file or a directory in the Alluxio filesystem. "
-        + "The -R flag is needed to copy directories.";
+        + "The -R flag is needed to copy directories. With -threads, the files are copied by "
+        + "that many threads in parallel.";
   }
 }
@@ -13,13 +13,11 @@ package alluxio.shell.command;
 
 import alluxio.AlluxioURI;
 import alluxio.client.file.FileSystem;
-import alluxio.client.file.URIStatus;
 import alluxio.exception.AlluxioException;
 
 import org.apache.commons.cli.CommandLine;
 
 import java.io.IOException;
-import java.util.List;
 
 import javax.annotation.concurrent.ThreadSafe;
 
@@ -43,34 +41,10 @@ public final class DuCommand extends WithWildCardPathCommand {
 
   @Override
   void runCommand(AlluxioURI path, CommandLine cl) throws AlluxioException, IOException {
-    long sizeInBytes = getFileOrFolderSize(mFileSystem, path);
+    long sizeInBytes = mFileSystem.getContentSummary(path).getLength();
     System.out.println(path + " is " + sizeInBytes + " bytes");
   }
 
-  /**
-   * Calculates the size of a path (file or folder) specified by a {@link AlluxioURI}.
-   *
-   * @param fs a {@link FileSystem}
-   * @param path a {@link AlluxioURI} denoting the path
-   * @return total size of the specified path in byte
-   * @throws AlluxioException when Alluxio exception occurs
-   * @throws IOException when non-Alluxio exception occurs
-   */
-  private long getFileOrFolderSize(FileSystem fs, AlluxioURI path)
-      throws AlluxioException, IOException {
-    long sizeInBytes = 0;
-    List<URIStatus> statuses = fs.listStatus(path);
-    for (URIStatus status : statuses) {
-      if (status.isFolder()) {
-        AlluxioURI subFolder = new AlluxioURI(status.getPath());
-        sizeInBytes += getFileOrFolderSize(fs, subFolder);
-      } else {
-        sizeInBytes += status.getLength();
-      }
-    }
-    return sizeInBytes;
-  }
-
   @Override
   public String getUsage() {
     return "du <path>";
@@ -16,12 +16,20 @@ import alluxio.Constants;
 import alluxio.client.ReadType;
 import alluxio.client.file.FileInStream;
 import alluxio.client.file.FileSystem;
+import alluxio.client.file.FileSystemContext;
+import alluxio.client.file.FileSystemMasterClient;
 import alluxio.client.file.URIStatus;
+import alluxio.client.file.options.LoadJobOptions;
 import alluxio.client.file.options.OpenFileOptions;
 import alluxio.exception.AlluxioException;
+import alluxio.util.FormatUtils;
+import alluxio.wire.LoadJobInfo;
+import alluxio.wire.LoadJobStatus;
 
 import com.google.common.io.Closer;
 import org.apache.commons.cli.CommandLine;
+import org.apache.commons.cli.Option;
+import org.apache.commons.cli.Options;
 
 import java.io.IOException;
 import java.util.List;
@@ -30,9 +38,40 @@ import javax.annotation.concurrent.ThreadSafe;
 
 /**
  * Loads a file or directory in Alluxio space, makes it resident in memory.
+ *
+ * By default, a load job is submitted to the master, which assigns the blocks to load to the
+ * workers, and the workers read them directly from the under file system in parallel, so that the
+ * data does not go through the shell host. The command polls the job until it finishes, and
+ * cancels it when interrupted. With the {@code -local} option, the files are read through the
+ * shell host instead.
  */
 @ThreadSafe
 public final class LoadCommand extends WithWildCardPathCommand {
+  private static final Option LOCAL_OPTION =
+      Option.builder("local")
+          .required(false)
+          .hasArg(false)
+          .desc("load the data through this client instead of the workers")
+          .build();
+  private static final Option CONCURRENCY_OPTION =
+      Option.builder("concurrency")
+          .required(false)
+          .numberOfArgs(1)
+          .desc("the maximum number of blocks loaded at the same time")
+          .build();
+  private static final Option THROUGHPUT_OPTION =
+      Option.builder("throughput")
+          .required(false)
+          .numberOfArgs(1)
+          .desc("the maximum number of bytes loaded per second, e.g. 100MB")
+          .build();
+
+  /** The default number of blocks loaded at the same time. */
+  private static final int DEFAULT_CONCURRENCY = 16;
+  /** The interval between two polls of a load job. */
+  private static final long POLL_INTERVAL_MS = Constants.SECOND_MS;
+  /** The interval between two progress reports of a load. */
+  private static final long PROGRESS_INTERVAL_MS = 10 * Constants.SECOND_MS;
 
   /**
    * Constructs a new instance to load a file or directory in Alluxio space.
@@ -48,9 +87,31 @@ public final class LoadCommand extends WithWildCardPathCommand {
     return "load";
   }
 
+  @Override
+  protected Options getOptions() {
+    return new Options().addOption(LOCAL_OPTION).addOption(CONCURRENCY_OPTION)
+        .addOption(THROUGHPUT_OPTION);
+  }
+
   @Override
   void runCommand(AlluxioURI path, CommandLine cl) throws AlluxioException, IOException {
-    load(path);
+    if (cl.hasOption("local")) {
+      load(path);
+      return;
+    }
+    int concurrency = DEFAULT_CONCURRENCY;
+    if (cl.hasOption("concurrency")) {
+      concurrency = Integer.parseInt(cl.getOptionValue("concurrency"));
+    }
+    long throughput = 0;
+    if (cl.hasOption("throughput")) {
+      throughput = FormatUtils.parseSpaceSize(cl.getOptionValue("throughput"));
+    }
+    if (concurrency <= 0 || throughput < 0) {
+      throw new IOException("The concurrency should be positive and the throughput should not be "
+          + "negative");
+    }
+    loadDistributed(path, concurrency, throughput);
   }
 
   /**
@@ -89,13 +150,65 @@ public final class LoadCommand extends WithWildCardPathCommand {
     System.out.println(filePath + " loaded");
   }
 
+  /**
+   * Loads a file or directory in Alluxio space by submitting a load job to the master, and polls
+   * the job until all the blocks are loaded. The job is canceled if the command is interrupted.
+   *
+   * @param path the {@link AlluxioURI} path to load into Alluxio memory
+   * @param concurrency the maximum number of blocks loaded at the same time
+   * @param throughput the maximum number of bytes loaded per second, 0 for unlimited
+   * @throws AlluxioException when Alluxio exception occurs
+   * @throws IOException when non-Alluxio exception occurs
+   */
+  private void loadDistributed(AlluxioURI path, int concurrency, long throughput)
+      throws AlluxioException, IOException {
+    FileSystemMasterClient client = FileSystemContext.INSTANCE.acquireMasterClient();
+    try {
+      long id = client.submitLoadJob(path,
+          LoadJobOptions.defaults().setConcurrency(concurrency).setThroughput(throughput));
+      LoadJobInfo info = client.getLoadJobInfo(id);
+      long lastProgressMs = System.currentTimeMillis();
+      while (!info.getStatus().isFinished()) {
+        try {
+          Thread.sleep(POLL_INTERVAL_MS);
+        } catch (InterruptedException e) {
+          client.cancelLoadJob(id);
+          Thread.currentThread().interrupt();
+          throw new IOException("Interrupted while loading " + path, e);
+        }
+        info = client.getLoadJobInfo(id);
+        if (!info.getStatus().isFinished()
+            && System.currentTimeMillis() - lastProgressMs >= PROGRESS_INTERVAL_MS) {
+          System.out.println(String.format("%s: loaded %d of %d blocks (%s of %s)", path,
+              info.getLoadedBlocks(), info.getTotalBlocks(),
+              FormatUtils.getSizeFromBytes(info.getLoadedBytes()),
+              FormatUtils.getSizeFromBytes(info.getTotalBytes())));
+          lastProgressMs = System.currentTimeMillis();
+        }
+      }
+      if (info.getStatus() == LoadJobStatus.Canceled) {
+        throw new IOException("The load of " + path + " was canceled");
+      }
+      if (info.getStatus() == LoadJobStatus.Failed) {
+        throw new IOException(info.getErrorMessage());
+      }
+    } finally {
+      FileSystemContext.INSTANCE.releaseMasterClient(client);
+    }
+    System.out.println(path + " loaded");
+  }
+
   @Override
   public String getUsage() {
-    return "load <path>";
+    return "load [-local] [-concurrency <n>] [-throughput <size>] <path>";
   }
 
   @Override
   public String getDescription() {
-    return "Loads a file or directory in Alluxio space, makes it resident in memory.";
+    return "Loads a file or directory in Alluxio space, makes it resident in memory. The master "
+        + "runs a load job having the workers load the data from the under storage in parallel, "
+        + "unless -local is specified to load it through this client. -concurrency limits the "
+        + "number of blocks loaded at the same time and -throughput the number of bytes loaded "
+        + "per second.";
   }
 }
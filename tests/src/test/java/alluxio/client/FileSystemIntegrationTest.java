@@ -15,10 +15,13 @@ import alluxio.AlluxioURI;
 import alluxio.Configuration;
 import alluxio.LocalAlluxioClusterResource;
 import alluxio.PropertyKey;
+import alluxio.client.file.FileOutStream;
 import alluxio.client.file.FileSystem;
 import alluxio.client.file.URIStatus;
 import alluxio.client.file.options.CreateDirectoryOptions;
 import alluxio.client.file.options.CreateFileOptions;
+import alluxio.client.file.options.DeleteOptions;
+import alluxio.client.file.options.SetAttributeOptions;
 import alluxio.exception.AlluxioException;
 import alluxio.exception.ExceptionMessage;
 import alluxio.exception.FileAlreadyExistsException;
@@ -27,6 +30,7 @@ import alluxio.exception.InvalidPathException;
 import alluxio.master.LocalAlluxioCluster;
 import alluxio.util.UnderFileSystemUtils;
 import alluxio.util.io.PathUtils;
+import alluxio.wire.BatchResult;
 
 import org.junit.Assert;
 import org.junit.Before;
@@ -35,6 +39,8 @@ import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
 
 /**
  * Integration tests on Alluxio Client (reuse the {@link LocalAlluxioCluster}).
@@ -112,6 +118,43 @@ public final class FileSystemIntegrationTest {
     }
   }
 
+  /**
+   * Tests that the batch methods create, update, get and delete each path of a batch on its own.
+   */
+  @Test
+  public void batch() throws Exception {
+    String uniqPath = PathUtils.uniqPath();
+    AlluxioURI file1 = new AlluxioURI(uniqPath + 1);
+    AlluxioURI file2 = new AlluxioURI(uniqPath + 2);
+    AlluxioURI missing = new AlluxioURI(uniqPath + 3);
+    mFileSystem.createFile(file2, mWriteBoth).close();
+
+    List<BatchResult<FileOutStream>> created =
+        mFileSystem.createFileBatch(Arrays.asList(file1, file2), mWriteBoth);
+    created.get(0).get().close();
+    Assert.assertTrue(created.get(1).getException() instanceof FileAlreadyExistsException);
+
+    List<BatchResult<Void>> pinned = mFileSystem.setAttributeBatch(
+        Arrays.asList(file1, missing), SetAttributeOptions.defaults().setPinned(true));
+    Assert.assertTrue(pinned.get(0).isSuccess());
+    Assert.assertTrue(pinned.get(1).getException() instanceof FileDoesNotExistException);
+
+    List<BatchResult<URIStatus>> statuses =
+        mFileSystem.getStatusBatch(Arrays.asList(file1, file2, missing));
+    Assert.assertTrue(statuses.get(0).get().isPinned());
+    Assert.assertTrue(statuses.get(0).get().isCompleted());
+    Assert.assertEquals(file2.getPath(), statuses.get(1).get().getPath());
+    Assert.assertTrue(statuses.get(2).getException() instanceof FileDoesNotExistException);
+
+    List<BatchResult<Void>> deleted =
+        mFileSystem.deleteBatch(Arrays.asList(file1, file2, missing), DeleteOptions.defaults());
+    Assert.assertTrue(deleted.get(0).isSuccess());
+    Assert.assertTrue(deleted.get(1).isSuccess());
+    Assert.assertTrue(deleted.get(2).getException() instanceof FileDoesNotExistException);
+    Assert.assertFalse(mFileSystem.exists(file1));
+    Assert.assertFalse(mFileSystem.exists(file2));
+  }
+
   @Test
   public void getFileStatus() throws Exception {
     String uniqPath = PathUtils.uniqPath();
@@ -0,0 +1,108 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.client.file;
+
+import alluxio.AlluxioURI;
+import alluxio.Configuration;
+import alluxio.Constants;
+import alluxio.PropertyKey;
+import alluxio.client.file.options.ListStatusOptions;
+import alluxio.master.LocalAlluxioMaster;
+import alluxio.master.MultiMasterLocalAlluxioCluster;
+import alluxio.util.CommonUtils;
+import alluxio.wire.LoadMetadataType;
+
+import com.google.common.base.Function;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+
+/**
+ * Integration tests for serving file system metadata reads from standby masters.
+ */
+public class StandbyMasterReadsIntegrationTest {
+  private static final int MASTERS = 2;
+
+  private MultiMasterLocalAlluxioCluster mMultiMasterLocalAlluxioCluster = null;
+  private FileSystem mFileSystem = null;
+
+  @After
+  public final void after() throws Exception {
+    mMultiMasterLocalAlluxioCluster.stop();
+  }
+
+  @Before
+  public final void before() throws Exception {
+    mMultiMasterLocalAlluxioCluster = new MultiMasterLocalAlluxioCluster(MASTERS);
+    mMultiMasterLocalAlluxioCluster.initConfiguration();
+    Configuration.set(PropertyKey.MASTER_STANDBY_READS_ENABLED, "true");
+    Configuration.set(PropertyKey.USER_FILE_MASTER_STANDBY_READS_ENABLED, "true");
+    mMultiMasterLocalAlluxioCluster.start();
+    mFileSystem = mMultiMasterLocalAlluxioCluster.getClient();
+  }
+
+  @Test
+  public void getStatusFromStandby() throws Exception {
+    AlluxioURI dir = new AlluxioURI("/dir");
+    AlluxioURI file = new AlluxioURI("/dir/file");
+    mFileSystem.createDirectory(dir);
+    mFileSystem.createFile(file).close();
+
+    FileSystemMasterClient leaderClient = new FileSystemMasterClient(
+        mMultiMasterLocalAlluxioCluster.getMaster().getAddress());
+    final long leaderSequenceNumber = leaderClient.getJournalSequenceNumber();
+    leaderClient.close();
+
+    List<LocalAlluxioMaster> standbys = mMultiMasterLocalAlluxioCluster.getStandbyMasters();
+    Assert.assertEquals(MASTERS - 1, standbys.size());
+    final FileSystemMasterClient standbyClient =
+        FileSystemMasterClient.createForStandby(standbys.get(0).getAddress());
+    try {
+      CommonUtils.waitFor("standby to replay the journal", new Function<Void, Boolean>() {
+        @Override
+        public Boolean apply(Void input) {
+          try {
+            return standbyClient.getJournalSequenceNumber() >= leaderSequenceNumber;
+          } catch (Exception e) {
+            return false;
+          }
+        }
+      }, 30 * Constants.SECOND_MS);
+
+      Assert.assertEquals(mFileSystem.getStatus(file), standbyClient.getStatus(file));
+      // Whether the children of a directory were loaded is not journaled, so a standby only lists
+      // directories without loading metadata.
+      List<URIStatus> statuses = standbyClient.listStatus(dir,
+          ListStatusOptions.defaults().setLoadMetadataType(LoadMetadataType.Never));
+      Assert.assertEquals(1, statuses.size());
+      Assert.assertEquals(file.getPath(), statuses.get(0).getPath());
+    } finally {
+      standbyClient.close();
+    }
+  }
+
+  @Test
+  public void readOwnWrites() throws Exception {
+    AlluxioURI dir = new AlluxioURI("/dir");
+    mFileSystem.createDirectory(dir);
+    for (int i = 0; i < 10; i++) {
+      AlluxioURI file = new AlluxioURI("/dir/file" + i);
+      mFileSystem.createFile(file).close();
+      Assert.assertTrue(mFileSystem.exists(file));
+      Assert.assertEquals(file.getPath(), mFileSystem.getStatus(file).getPath());
+      Assert.assertEquals(i + 1, mFileSystem.listStatus(dir).size());
+    }
+  }
+}
@@ -16,6 +16,7 @@ import alluxio.client.FileSystemTestUtils;
 import alluxio.client.WriteType;
 
 import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.BlockLocation;
 import org.apache.hadoop.fs.FileStatus;
 import org.apache.hadoop.fs.Path;
 import org.junit.Assert;
@@ -103,4 +104,23 @@ public class FileSystemBlockLocationIntegrationTest {
     Assert.assertEquals(0, sTFS.getFileBlockLocations(fStatus, start, len).length);
   }
 
+  /**
+   * Tests that the block locations of a listed file are the same as the block locations of the
+   * file status.
+   */
+  @Test
+  public void listedBlockLocation() throws Exception {
+    FileStatus[] statuses = sTFS.listStatus(new Path("/"));
+    Assert.assertEquals(1, statuses.length);
+    BlockLocation[] listed = sTFS.getFileBlockLocations(statuses[0], 0, FILE_LEN);
+    BlockLocation[] expected =
+        sTFS.getFileBlockLocations(sTFS.getFileStatus(new Path("/testFile1")), 0, FILE_LEN);
+    Assert.assertEquals(3, listed.length);
+    for (int i = 0; i < listed.length; i++) {
+      Assert.assertEquals(expected[i].getOffset(), listed[i].getOffset());
+      Assert.assertEquals(expected[i].getLength(), listed[i].getLength());
+      Assert.assertArrayEquals(expected[i].getHosts(), listed[i].getHosts());
+    }
+  }
+
 }
@@ -170,6 +170,22 @@ public final class CopyFromLocalCommandTest extends AbstractAlluxioShellTest {
     Assert.assertNotNull(mFileSystem.getStatus(dstURI3));
   }
 
+  @Test
+  public void copyFromLocalDirParallel() throws IOException, AlluxioException {
+    File srcOuterDir = new File(mLocalAlluxioCluster.getAlluxioHome() + "/outerDir");
+    File srcInnerDir = new File(mLocalAlluxioCluster.getAlluxioHome() + "/outerDir/innerDir");
+    srcOuterDir.mkdir();
+    srcInnerDir.mkdir();
+    generateFileContent("/outerDir/srcFile1", BufferUtils.getIncreasingByteArray(10));
+    generateFileContent("/outerDir/innerDir/srcFile2", BufferUtils.getIncreasingByteArray(20));
+    int ret =
+        mFsShell.run("copyFromLocal", "-threads", "4", srcOuterDir.getPath() + "/", "/dstDir");
+    Assert.assertEquals(0, ret);
+    Assert.assertEquals(10, mFileSystem.getStatus(new AlluxioURI("/dstDir/srcFile1")).getLength());
+    Assert.assertEquals(20,
+        mFileSystem.getStatus(new AlluxioURI("/dstDir/innerDir/srcFile2")).getLength());
+  }
+
   @Test
   public void copyFromLocalDirNotReadable() throws IOException, AlluxioException {
     // Copy a directory from local to Alluxio filesystem, which the destination uri was not created
@@ -11,6 +11,8 @@
 
 package alluxio.shell.command;
 
+import alluxio.client.FileSystemTestUtils;
+import alluxio.client.WriteType;
 import alluxio.exception.AlluxioException;
 import alluxio.shell.AbstractAlluxioShellTest;
 import alluxio.shell.AlluxioShellUtilsTest;
@@ -37,6 +39,33 @@ public final class CopyToLocalCommandTest extends AbstractAlluxioShellTest {
     fileReadTest("/testDir/foobar4", 40);
   }
 
+  @Test
+  public void copyToLocalDirParallel() throws IOException, AlluxioException {
+    String testDir = AlluxioShellUtilsTest.resetFileHierarchy(mFileSystem);
+    int ret = mFsShell.run("copyToLocal", "-threads", "4", testDir,
+        mLocalAlluxioCluster.getAlluxioHome() + "/testDir");
+    Assert.assertEquals(0, ret);
+    fileReadTest("/testDir/foo/foobar1", 10);
+    fileReadTest("/testDir/foo/foobar2", 20);
+    fileReadTest("/testDir/bar/foobar3", 30);
+    fileReadTest("/testDir/foobar4", 40);
+  }
+
+  @Test
+  public void copyToLocalRangesParallel() throws IOException {
+    // The file has 7 blocks, which are copied in parallel.
+    FileSystemTestUtils.createByteFile(mFileSystem, "/testFile", WriteType.MUST_CACHE, 100, 16);
+    int ret = mFsShell.run("copyToLocal", "-threads", "4", "/testFile",
+        mLocalAlluxioCluster.getAlluxioHome() + "/testFile");
+    Assert.assertEquals(0, ret);
+    Assert.assertTrue(mOutput.toString().contains(
+        "Copied /testFile to " + mLocalAlluxioCluster.getAlluxioHome() + "/testFile\n"));
+    fileReadTest("/testFile", 100);
+    for (String name : new File(mLocalAlluxioCluster.getAlluxioHome()).list()) {
+      Assert.assertFalse(name.contains("_copyToLocal_"));
+    }
+  }
+
   @Test
   public void copyToLocalLarge() throws IOException {
     copyToLocalWithBytes(SIZE_BYTES);
@@ -81,6 +81,24 @@ public final class CpCommandTest extends AbstractAlluxioShellTest {
         equals(new AlluxioURI("/copy/foobar4"), new AlluxioURI(testDir + "/foobar4")));
   }
 
+  /**
+   * Tests recursively copying a directory to a new location with several threads.
+   */
+  @Test
+  public void copyDirNewParallel() throws Exception {
+    String testDir = AlluxioShellUtilsTest.resetFileHierarchy(mFileSystem);
+    int ret = mFsShell.run("cp", "-R", "-threads", "4", testDir, "/copy");
+    Assert.assertEquals(0, ret);
+    Assert.assertTrue(
+        equals(new AlluxioURI("/copy/bar/foobar3"), new AlluxioURI(testDir + "/bar/foobar3")));
+    Assert.assertTrue(
+        equals(new AlluxioURI("/copy/foo/foobar1"), new AlluxioURI(testDir + "/foo/foobar1")));
+    Assert.assertTrue(
+        equals(new AlluxioURI("/copy/foo/foobar2"), new AlluxioURI(testDir + "/foo/foobar2")));
+    Assert.assertTrue(
+        equals(new AlluxioURI("/copy/foobar4"), new AlluxioURI(testDir + "/foobar4")));
+  }
+
   /**
    * Tests recursively copying a directory to an existing directory.
    */
@@ -58,4 +58,26 @@ public final class LoadCommandTest extends AbstractAlluxioShellTest {
     status = mFileSystem.getStatus(uri);
     Assert.assertTrue(status.getInMemoryPercentage() == 100);
   }
+
+  @Test
+  public void loadFileLocal() throws IOException, AlluxioException {
+    FileSystemTestUtils.createByteFile(mFileSystem, "/testFile", WriteType.THROUGH, 10);
+    AlluxioURI uri = new AlluxioURI("/testFile");
+    URIStatus status = mFileSystem.getStatus(uri);
+    Assert.assertFalse(status.getInMemoryPercentage() == 100);
+    // Testing loading of a single file through the client
+    mFsShell.run("load", "-local", "/testFile");
+    status = mFileSystem.getStatus(uri);
+    Assert.assertTrue(status.getInMemoryPercentage() == 100);
+  }
+
+  @Test
+  public void loadFileWithLimits() throws IOException, AlluxioException {
+    FileSystemTestUtils.createByteFile(mFileSystem, "/testFile", WriteType.THROUGH, 10);
+    AlluxioURI uri = new AlluxioURI("/testFile");
+    Assert.assertEquals(0,
+        mFsShell.run("load", "-concurrency", "2", "-throughput", "1MB", "/testFile"));
+    URIStatus status = mFileSystem.getStatus(uri);
+    Assert.assertTrue(status.getInMemoryPercentage() == 100);
+  }
 }